@@ -0,0 +1,71 @@
+package psp.benchmarks;
+
+import java.io.IOException;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import psp.mappings.GenericMapper;
+import psp.sel.RenderingContext;
+import psp.sel.patterns.Pattern;
+
+/**
+ * Measures the garbage produced by a single mapping. Run it with the GC profiler, e.g.
+ * {@code java -jar target/benchmarks.jar AllocationBenchmark -prof gc}, and compare the
+ * {@code gc.alloc.rate.norm} metric, the number of bytes allocated per mapping. {@code appendMapping} renders
+ * into a reused {@code StringBuilder}, so it only measures the mapping itself.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 2, time = 1)
+@Measurement(iterations = 3, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class AllocationBenchmark {
+
+    @Param({"LTLMapper", "MTLMapper", "PrismMapper"})
+    public String mapper;
+
+    @Param({"BetweenQandR"})
+    public String scope;
+
+    @Param({"Universality", "Response", "ResponseChain1N"})
+    public String pattern;
+
+    @Param({"false", "true"})
+    public boolean constrained;
+
+    private GenericMapper patternMapper;
+    private psp.sel.scopes.Scope mappedScope;
+    private Pattern mappedPattern;
+    private final StringBuilder target = new StringBuilder();
+
+    @Setup
+    public void setup() {
+        patternMapper = (GenericMapper) Specifications.mapper(mapper);
+        mappedScope = Specifications.scope(scope);
+        mappedPattern = Specifications.pattern(pattern, constrained);
+    }
+
+    @Benchmark
+    public String getMapping() {
+        return patternMapper.getMapping(mappedScope, mappedPattern);
+    }
+
+    @Benchmark
+    public int appendMapping() throws IOException {
+        target.setLength(0);
+        patternMapper.appendMapping(mappedScope, mappedPattern, RenderingContext.NAME, target);
+        return target.length();
+    }
+}
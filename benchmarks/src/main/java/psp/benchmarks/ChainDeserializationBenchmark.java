@@ -0,0 +1,62 @@
+package psp.benchmarks;
+
+import java.nio.charset.StandardCharsets;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectReader;
+
+import restapi.psp_mapping.json_processing.data_objects.PSPMappingRequest;
+
+/**
+ * Measures the REST deserializers on chain pattern requests with a growing number of chained events,
+ * each carrying a constraint event and a time bound.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class ChainDeserializationBenchmark {
+    private static final ObjectReader requestReader = new ObjectMapper().readerFor(PSPMappingRequest.class);
+
+    @Param({"1", "16", "128", "1024"})
+    public int chainLength;
+
+    private byte[] requestBody;
+
+    @Setup
+    public void setup() {
+        StringBuilder chain = new StringBuilder();
+        for (int i = 0; i < chainLength; i++) {
+            if (i > 0) {
+                chain.append(',');
+            }
+            chain.append("{\"event\": {\"name\": \"t").append(i).append("\", \"specification\": null},")
+                    .append(" \"constrain_event\": {\"name\": \"c").append(i).append("\", \"specification\": null},")
+                    .append(" \"time_bound\": {\"type\": \"Interval\", \"time_unit\": \"sec\", \"lower_limit\": ")
+                    .append(i).append(", \"upper_limit\": ").append(i + 3).append("}}");
+        }
+        String request = Requests.load("response_chain_1n_after_q_until_r.json")
+                .replaceFirst("(?s)\"chained_events\": \\[.*?\\n    \\]", "\"chained_events\": [" + chain + "]");
+        requestBody = request.getBytes(StandardCharsets.UTF_8);
+    }
+
+    @Benchmark
+    public PSPMappingRequest readRequest() throws Exception {
+        return requestReader.readValue(requestBody);
+    }
+}
@@ -0,0 +1,60 @@
+package psp.benchmarks;
+
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import psp.mappings.PatternMapper;
+import psp.sel.patterns.Pattern;
+
+/**
+ * Measures how the mapping of the chain patterns scales with the number of chained events.
+ * All chained events carry a constraint event and a time bound.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 2, time = 1)
+@Measurement(iterations = 3, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class ChainMappingBenchmark {
+
+    @Param({"SELMapper", "LTLMapper", "MTLMapper", "PrismMapper", "QuantitativePrismMapper", "TimedTBVMapper",
+            "UntimedTBVMapper"})
+    public String mapper;
+
+    @Param({"BetweenQandR"})
+    public String scope;
+
+    @Param({"PrecedenceChain1N", "PrecedenceChainN1", "ResponseChain1N", "ResponseChainN1"})
+    public String pattern;
+
+    @Param({"1", "2", "4", "8", "16", "32"})
+    public int chainLength;
+
+    private PatternMapper patternMapper;
+    private psp.sel.scopes.Scope mappedScope;
+    private Pattern mappedPattern;
+
+    @Setup
+    public void setup() {
+        patternMapper = Specifications.mapper(mapper);
+        mappedScope = Specifications.scope(scope);
+        mappedPattern = Specifications.pattern(pattern, true, chainLength);
+    }
+
+    @Benchmark
+    public String getMapping() {
+        return patternMapper.getMapping(mappedScope, mappedPattern);
+    }
+}
@@ -0,0 +1,84 @@
+package psp.benchmarks;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectReader;
+
+import restapi.psp_mapping.json_processing.data_objects.PSPCorrectMappingResponse;
+import restapi.psp_mapping.json_processing.data_objects.PSPMappingRequest;
+
+/**
+ * Measures the REST deserializers, i.e. binding a mapping request, with its scope, pattern and target logic,
+ * from the raw request body and from an already parsed tree, as well as serializing a mapping response into a
+ * {@code String} and directly into a stream.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class DeserializationBenchmark {
+    private static final ObjectMapper mapper = new ObjectMapper();
+
+    private static final ObjectReader requestReader = mapper.readerFor(PSPMappingRequest.class);
+
+    @Param({"universality_globally.json", "response_between_q_and_r.json",
+            "response_chain_1n_after_q_until_r.json"})
+    public String request;
+
+    private byte[] requestBody;
+    private JsonNode requestTree;
+    private PSPCorrectMappingResponse response;
+    private final ByteArrayOutputStream responseBuffer = new ByteArrayOutputStream();
+
+    @Setup
+    public void setup() throws Exception {
+        requestBody = Requests.load(request).getBytes(StandardCharsets.UTF_8);
+        requestTree = mapper.readTree(requestBody);
+        PSPMappingRequest mappingRequest = requestReader.readValue(requestBody);
+        response = new PSPCorrectMappingResponse(
+                mappingRequest.getScope().getSpecificationAsSEL() + mappingRequest.getPattern().getSpecificationAsSEL(),
+                mappingRequest.getMapper().getMapping(mappingRequest.getScope(), mappingRequest.getPattern()));
+    }
+
+    @Benchmark
+    public PSPMappingRequest readRequestFromBytes() throws Exception {
+        return requestReader.readValue(requestBody);
+    }
+
+    @Benchmark
+    public PSPMappingRequest readRequestFromTree() throws Exception {
+        return requestReader.readValue(requestTree);
+    }
+
+    @Benchmark
+    public String writeResponse() throws JsonProcessingException {
+        return response.toJSON();
+    }
+
+    @Benchmark
+    public int writeResponseToStream() throws IOException {
+        responseBuffer.reset();
+        response.writeJSON(responseBuffer);
+        return responseBuffer.size();
+    }
+}
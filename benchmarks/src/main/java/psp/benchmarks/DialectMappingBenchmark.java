@@ -0,0 +1,77 @@
+package psp.benchmarks;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import psp.mappings.DialectMappingEngine;
+import psp.mappings.GenericMapper;
+import psp.mappings.MappingResult;
+import psp.sel.RenderingContext;
+import psp.sel.patterns.Pattern;
+
+/**
+ * Compares mapping to each of the mappers of a logic family on its own with mapping to all of them at once
+ * through the {@link DialectMappingEngine}, which maps only once per family.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 2, time = 1)
+@Measurement(iterations = 3, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class DialectMappingBenchmark {
+    private static final List<RenderingContext> RENDERINGS = List.of(RenderingContext.NAME);
+
+    @Param({"LTLMapper,UntimedTBVMapper", "MTLMapper,TimedTBVMapper"})
+    public String family;
+
+    @Param({"BetweenQandR"})
+    public String scope;
+
+    @Param({"Response", "ResponseChain1N"})
+    public String pattern;
+
+    @Param({"false", "true"})
+    public boolean constrained;
+
+    private final List<GenericMapper> mappers = new ArrayList<>();
+    private psp.sel.scopes.Scope mappedScope;
+    private Pattern mappedPattern;
+    private final DialectMappingEngine engine = new DialectMappingEngine();
+
+    @Setup
+    public void setup() {
+        for (final String mapper : family.split(",")) {
+            mappers.add((GenericMapper) Specifications.mapper(mapper));
+        }
+        mappedScope = Specifications.scope(scope);
+        mappedPattern = Specifications.pattern(pattern, constrained);
+    }
+
+    @Benchmark
+    public List<List<MappingResult>> mappers() {
+        final List<List<MappingResult>> results = new ArrayList<>(mappers.size());
+        for (final GenericMapper mapper : mappers) {
+            results.add(mapper.map(mappedScope, mappedPattern, RENDERINGS));
+        }
+        return results;
+    }
+
+    @Benchmark
+    public Object family() {
+        return engine.map(mappers, mappedScope, mappedPattern, RENDERINGS);
+    }
+}
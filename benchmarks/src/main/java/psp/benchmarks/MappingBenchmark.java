@@ -0,0 +1,63 @@
+package psp.benchmarks;
+
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import psp.mappings.PatternMapper;
+import psp.sel.patterns.Pattern;
+
+/**
+ * Measures {@link PatternMapper#getMapping} for every mapper, scope and pattern, once without any constraints
+ * and once with time bounds, probability bounds and constraint events. The full cross product takes a while,
+ * restrict it with e.g. {@code -p mapper=MTLMapper -p scope=Globally}.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 2, time = 1)
+@Measurement(iterations = 3, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class MappingBenchmark {
+
+    @Param({"SELMapper", "LTLMapper", "MTLMapper", "PrismMapper", "QuantitativePrismMapper", "TimedTBVMapper",
+            "UntimedTBVMapper"})
+    public String mapper;
+
+    @Param({"Globally", "BeforeR", "AfterQ", "BetweenQandR", "AfterQuntilR"})
+    public String scope;
+
+    @Param({"Universality", "Absence", "Existence", "BoundedExistence", "TransientState", "SteadyState",
+            "MinimumDuration", "MaximumDuration", "Recurrence", "Precedence", "PrecedenceChain1N",
+            "PrecedenceChainN1", "Until", "Response", "ResponseChain1N", "ResponseChainN1", "ResponseInvariance"})
+    public String pattern;
+
+    @Param({"false", "true"})
+    public boolean constrained;
+
+    private PatternMapper patternMapper;
+    private psp.sel.scopes.Scope mappedScope;
+    private Pattern mappedPattern;
+
+    @Setup
+    public void setup() {
+        patternMapper = Specifications.mapper(mapper);
+        mappedScope = Specifications.scope(scope);
+        mappedPattern = Specifications.pattern(pattern, constrained);
+    }
+
+    @Benchmark
+    public String getMapping() {
+        return patternMapper.getMapping(mappedScope, mappedPattern);
+    }
+}
@@ -0,0 +1,60 @@
+package psp.benchmarks;
+
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import psp.monitor.MonitorCompiler;
+import psp.monitor.ParametricMonitor;
+import psp.sel.EventImpl;
+import psp.sel.patterns.order.Response;
+import psp.sel.scopes.Globally;
+
+/**
+ * Measures how reading a parameterized event scales with the number of bindings of a {@link ParametricMonitor}:
+ * every object has an open resource, and each operation closes and opens again that of the next one.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 2, time = 1)
+@Measurement(iterations = 3, time = 1)
+@Fork(value = 1, jvmArgsAppend = "-Xmx2g")
+@State(Scope.Benchmark)
+public class ParametricMonitorBenchmark {
+    @Param({"1000", "1000000"})
+    public int objects;
+
+    private ParametricMonitor monitor;
+    private Long[] ids;
+    private int next;
+
+    @Setup
+    public void setup() {
+        monitor = new MonitorCompiler().compile(new Globally(), new Response(new EventImpl("open(f)"),
+            new EventImpl("close(f)"), null, null, null)).newParametricMonitor((binding, verdict) -> { });
+        ids = new Long[objects];
+        for (int i = 0; i < objects; i++) {
+            ids[i] = (long) i;
+            monitor.step("open", ids[i]);
+        }
+    }
+
+    @Benchmark
+    public int step() {
+        final Long id = ids[next];
+        next = next + 1 == objects ? 0 : next + 1;
+        monitor.step("close", id);
+        monitor.step("open", id);
+        return monitor.getSliceCount();
+    }
+}
@@ -0,0 +1,69 @@
+package psp.benchmarks;
+
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import psp.monitor.PastTimeCompiler;
+import psp.monitor.PastTimeMonitor;
+import psp.monitor.PastTimeProperty;
+import psp.sel.EventImpl;
+
+/**
+ * Measures reading an event with many {@link PastTimeMonitor}s of the TBV mapping of a property, one per
+ * concurrently monitored trace, each of which reads the event.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 2, time = 1)
+@Measurement(iterations = 3, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class PastTimeMonitorBenchmark {
+    private static final EventImpl[] TRACE = {new EventImpl("q"), new EventImpl("p"), new EventImpl("x"),
+        new EventImpl("s"), new EventImpl("r"), new EventImpl("p")};
+
+    @Param({"BetweenQandR", "AfterQuntilR"})
+    public String scope;
+
+    @Param({"Response", "ResponseChain1N"})
+    public String pattern;
+
+    @Param({"10000"})
+    public int monitors;
+
+    private PastTimeMonitor[] pastTimeMonitors;
+    private long time;
+
+    @Setup
+    public void setup() {
+        final PastTimeProperty property = new PastTimeCompiler().compile(Specifications.scope(scope),
+            Specifications.pattern(pattern, false));
+        pastTimeMonitors = new PastTimeMonitor[monitors];
+        for (int i = 0; i < monitors; i++) {
+            pastTimeMonitors[i] = property.newMonitor();
+        }
+    }
+
+    @Benchmark
+    public int step() {
+        final EventImpl event = TRACE[(int) (time % TRACE.length)];
+        int holding = 0;
+        for (final PastTimeMonitor monitor : pastTimeMonitors) {
+            monitor.step(event, time);
+            holding += monitor.getVerdict().ordinal();
+        }
+        time++;
+        return holding;
+    }
+}
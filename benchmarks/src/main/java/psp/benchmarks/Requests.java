@@ -0,0 +1,26 @@
+package psp.benchmarks;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+
+/**
+ * Access to the sample mapping requests bundled with the benchmarks.
+ */
+final class Requests {
+
+    private Requests() {
+    }
+
+    static String load(String name) {
+        try (InputStream in = Requests.class.getResourceAsStream("/requests/" + name)) {
+            if (in == null) {
+                throw new IllegalArgumentException("Unknown sample request: " + name);
+            }
+            return new String(in.readAllBytes(), StandardCharsets.UTF_8);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+}
@@ -0,0 +1,67 @@
+package psp.benchmarks;
+
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.nio.charset.StandardCharsets;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.github.fge.jackson.JsonLoader;
+import com.github.fge.jsonschema.core.report.ProcessingReport;
+import com.github.fge.jsonschema.main.JsonSchema;
+import com.github.fge.jsonschema.main.JsonSchemaFactory;
+import org.springframework.core.io.ClassPathResource;
+
+import restapi.psp_mapping.json_processing.schema_validation.JSONRequestSchemaValidator;
+
+/**
+ * Compares the per-request latency of validating a mapping request when the JSON schema is loaded and
+ * compiled for every request against validating it with the precompiled, shared
+ * {@link JSONRequestSchemaValidator}.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+@State(Scope.Benchmark)
+public class SchemaValidationBenchmark {
+    private final ObjectMapper mapper = new ObjectMapper();
+
+    private JSONRequestSchemaValidator validator;
+    private String request;
+
+    @Setup
+    public void setup() throws Exception {
+        validator = new JSONRequestSchemaValidator();
+        request = Requests.load("response_between_q_and_r.json");
+    }
+
+    @Benchmark
+    public ProcessingReport compileSchemaPerRequest() throws Exception {
+        JsonNode json_request = mapper.readTree(request);
+        try (InputStream schema_stream = new ClassPathResource("request_schema.json").getInputStream()) {
+            final JsonNode fstabSchema = JsonLoader.fromReader(new InputStreamReader(schema_stream, StandardCharsets.UTF_8));
+            final JsonSchemaFactory factory = JsonSchemaFactory.byDefault();
+            final JsonSchema schema = factory.getJsonSchema(fstabSchema);
+            return schema.validate(json_request);
+        }
+    }
+
+    @Benchmark
+    public ProcessingReport precompiledSchema() throws Exception {
+        return validator.validateSchema(request);
+    }
+}
@@ -0,0 +1,162 @@
+package psp.benchmarks;
+
+import java.util.ArrayList;
+
+import psp.constraints.EventConstraint;
+import psp.constraints.GreaterThanEqualProbability;
+import psp.constraints.Interval;
+import psp.constraints.ProbabilityBound;
+import psp.constraints.TimeBound;
+import psp.mappings.LTLMapper;
+import psp.mappings.MTLMapper;
+import psp.mappings.PatternMapper;
+import psp.mappings.PrismMapper;
+import psp.mappings.QuantitativePrismMapper;
+import psp.mappings.SELMapper;
+import psp.mappings.TimedTBVMapper;
+import psp.mappings.UntimedTBVMapper;
+import psp.sel.EventImpl;
+import psp.sel.patterns.Pattern;
+import psp.sel.patterns.occurrence.Absence;
+import psp.sel.patterns.occurrence.BoundedExistence;
+import psp.sel.patterns.occurrence.Existence;
+import psp.sel.patterns.occurrence.MaximumDuration;
+import psp.sel.patterns.occurrence.MinimumDuration;
+import psp.sel.patterns.occurrence.Recurrence;
+import psp.sel.patterns.occurrence.SteadyState;
+import psp.sel.patterns.occurrence.TransientState;
+import psp.sel.patterns.occurrence.Universality;
+import psp.sel.patterns.order.ChainEvent;
+import psp.sel.patterns.order.ChainEvents;
+import psp.sel.patterns.order.Precedence;
+import psp.sel.patterns.order.PrecedenceChain1N;
+import psp.sel.patterns.order.PrecedenceChainN1;
+import psp.sel.patterns.order.Response;
+import psp.sel.patterns.order.ResponseChain1N;
+import psp.sel.patterns.order.ResponseChainN1;
+import psp.sel.patterns.order.ResponseInvariance;
+import psp.sel.patterns.order.Until;
+import psp.sel.scopes.AfterQ;
+import psp.sel.scopes.AfterQuntilR;
+import psp.sel.scopes.BeforeR;
+import psp.sel.scopes.BetweenQandR;
+import psp.sel.scopes.Globally;
+import psp.sel.scopes.Scope;
+
+/**
+ * Builds the mappers, scopes and patterns the benchmarks are parameterized with, by their simple class names.
+ * Constrained patterns carry an interval time bound, a probability bound and, where supported, a constraint
+ * event, so every mapper exercises its most elaborate mapping of the pattern.
+ */
+final class Specifications {
+
+    private static final EventImpl P = new EventImpl("p", "pSpec");
+    private static final EventImpl S = new EventImpl("s", "sSpec");
+    private static final EventImpl Q = new EventImpl("q", "qSpec");
+    private static final EventImpl R = new EventImpl("r", "rSpec");
+    private static final EventImpl Z = new EventImpl("z", "zSpec");
+
+    private Specifications() {
+    }
+
+    static PatternMapper mapper(String name) {
+        switch (name) {
+            case "SELMapper":
+                return new SELMapper();
+            case "LTLMapper":
+                return new LTLMapper();
+            case "MTLMapper":
+                return new MTLMapper();
+            case "PrismMapper":
+                return new PrismMapper();
+            case "QuantitativePrismMapper":
+                return new QuantitativePrismMapper();
+            case "TimedTBVMapper":
+                return new TimedTBVMapper();
+            case "UntimedTBVMapper":
+                return new UntimedTBVMapper();
+            default:
+                throw new IllegalArgumentException("Unknown mapper: " + name);
+        }
+    }
+
+    static Scope scope(String name) {
+        switch (name) {
+            case "Globally":
+                return new Globally();
+            case "BeforeR":
+                return new BeforeR(R);
+            case "AfterQ":
+                return new AfterQ(Q);
+            case "BetweenQandR":
+                return new BetweenQandR(Q, R);
+            case "AfterQuntilR":
+                return new AfterQuntilR(Q, R);
+            default:
+                throw new IllegalArgumentException("Unknown scope: " + name);
+        }
+    }
+
+    static Pattern pattern(String name, boolean constrained) {
+        return pattern(name, constrained, 3);
+    }
+
+    /**
+     * @param chainLength the number of chained events of chain patterns, ignored by all other patterns
+     */
+    static Pattern pattern(String name, boolean constrained, int chainLength) {
+        ProbabilityBound pb = constrained ? new GreaterThanEqualProbability(0.9) : null;
+        TimeBound pTb = constrained ? new Interval(P, 2, 7, "s") : null;
+        TimeBound sTb = constrained ? new Interval(S, 2, 7, "s") : null;
+        EventConstraint ec = constrained ? new EventConstraint(Z) : null;
+        switch (name) {
+            case "Universality":
+                return new Universality(P, pTb, pb);
+            case "Absence":
+                return new Absence(P, pTb, pb);
+            case "Existence":
+                return new Existence(P, pTb, pb);
+            case "BoundedExistence":
+                return new BoundedExistence(P, 3, pTb, pb);
+            case "TransientState":
+                return new TransientState(P, 4, "s", pb);
+            case "SteadyState":
+                return new SteadyState(P, pb);
+            case "MinimumDuration":
+                return new MinimumDuration(P, 4, "s", pb);
+            case "MaximumDuration":
+                return new MaximumDuration(P, 4, "s", pb);
+            case "Recurrence":
+                return new Recurrence(P, 4, "s", pb);
+            case "Precedence":
+                return new Precedence(P, S, sTb, pb);
+            case "PrecedenceChain1N":
+                return new PrecedenceChain1N(P, S, chain(chainLength, constrained), sTb, ec, pb);
+            case "PrecedenceChainN1":
+                return new PrecedenceChainN1(P, S, chain(chainLength, constrained), sTb, ec, pb);
+            case "Until":
+                return new Until(P, S, sTb, pb);
+            case "Response":
+                return new Response(P, S, sTb, constrained ? Z : null, pb);
+            case "ResponseChain1N":
+                return new ResponseChain1N(P, S, chain(chainLength, constrained), sTb, ec, pb);
+            case "ResponseChainN1":
+                return new ResponseChainN1(P, S, chain(chainLength, constrained), sTb, ec, pb);
+            case "ResponseInvariance":
+                return new ResponseInvariance(P, S, sTb, pb);
+            default:
+                throw new IllegalArgumentException("Unknown pattern: " + name);
+        }
+    }
+
+    static ChainEvents chain(int length, boolean constrained) {
+        ArrayList<ChainEvent> events = new ArrayList<>(length);
+        for (int i = 0; i < length; i++) {
+            EventImpl event = new EventImpl("t" + i, "t" + i + "Spec");
+            EventImpl constraint = constrained ? new EventImpl("c" + i, "c" + i + "Spec") : null;
+            TimeBound timeBound = constrained ? new Interval(event, i, i + 3, "s") : null;
+            events.add(new ChainEvent(event, constraint, timeBound));
+        }
+        return new ChainEvents(events);
+    }
+}
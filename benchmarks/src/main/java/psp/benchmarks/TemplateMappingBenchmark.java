@@ -0,0 +1,67 @@
+package psp.benchmarks;
+
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import psp.mappings.GenericMapper;
+import psp.mappings.TemplateMappingEngine;
+import psp.sel.RenderingContext;
+import psp.sel.patterns.Pattern;
+
+/**
+ * Compares running a mapper with rendering its precompiled template through the {@link TemplateMappingEngine}.
+ * The template is compiled during the warmup, the measurement only fills it in.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 2, time = 1)
+@Measurement(iterations = 3, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class TemplateMappingBenchmark {
+
+    @Param({"LTLMapper", "MTLMapper", "PrismMapper"})
+    public String mapper;
+
+    @Param({"BetweenQandR"})
+    public String scope;
+
+    @Param({"Universality", "Response", "ResponseChain1N"})
+    public String pattern;
+
+    @Param({"false", "true"})
+    public boolean constrained;
+
+    private GenericMapper patternMapper;
+    private psp.sel.scopes.Scope mappedScope;
+    private Pattern mappedPattern;
+    private final TemplateMappingEngine engine = new TemplateMappingEngine(16);
+
+    @Setup
+    public void setup() {
+        patternMapper = (GenericMapper) Specifications.mapper(mapper);
+        mappedScope = Specifications.scope(scope);
+        mappedPattern = Specifications.pattern(pattern, constrained);
+    }
+
+    @Benchmark
+    public String mapper() {
+        return patternMapper.getMapping(mappedScope, mappedPattern);
+    }
+
+    @Benchmark
+    public String template() {
+        return engine.map(patternMapper, mappedScope, mappedPattern, RenderingContext.NAME).getMapping();
+    }
+}
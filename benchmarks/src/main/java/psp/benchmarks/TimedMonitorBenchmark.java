@@ -0,0 +1,65 @@
+package psp.benchmarks;
+
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import psp.constraints.UpperTimeBound;
+import psp.monitor.TimedMonitor;
+import psp.monitor.TimedMonitorEngine;
+import psp.sel.EventImpl;
+import psp.sel.patterns.order.Response;
+import psp.sel.scopes.Globally;
+
+/**
+ * Measures how reading an event scales with the number of pending deadlines of a {@link TimedMonitorEngine}:
+ * every monitor has a pending response, and each operation answers the oldest one just in time, which cancels its
+ * deadline, makes a new one, which schedules another, and moves the time forward.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 2, time = 1)
+@Measurement(iterations = 3, time = 1)
+@Fork(value = 1, jvmArgsAppend = "-Xmx2g")
+@State(Scope.Benchmark)
+public class TimedMonitorBenchmark {
+    private static final EventImpl P = new EventImpl("p");
+    private static final EventImpl S = new EventImpl("s");
+
+    @Param({"1000", "1000000"})
+    public int pending;
+
+    private TimedMonitorEngine engine;
+    private TimedMonitor[] monitors;
+    private long time;
+
+    @Setup
+    public void setup() {
+        engine = new TimedMonitorEngine();
+        monitors = new TimedMonitor[pending];
+        final Response response = new Response(P, S, new UpperTimeBound(S, pending, null), null, null);
+        for (int i = 0; i < pending; i++) {
+            monitors[i] = engine.newMonitor(new Globally(), response);
+            monitors[i].step(P, 0);
+        }
+    }
+
+    @Benchmark
+    public int step() {
+        final TimedMonitor monitor = monitors[(int) (time % pending)];
+        monitor.step(S, time);
+        monitor.step(P, time);
+        time++;
+        return engine.getDeadlineCount();
+    }
+}
@@ -0,0 +1,82 @@
+package psp.benchmarks;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import psp.mappings.GenericMapper;
+import psp.mappings.LanguageDefinitions;
+import psp.mappings.MappingContext;
+import psp.mappings.elements.Element;
+import psp.mappings.elements.RoundBracketCloseElement;
+import psp.mappings.elements.RoundBracketOpenElement;
+import psp.mappings.elements.SpaceElement;
+import psp.mappings.elements.TimeBoundElement;
+import psp.mappings.postprocessing.WeakUntilSubstituter;
+import psp.sel.EventImpl;
+
+/**
+ * Measures how {@link WeakUntilSubstituter#process} scales with the length of the formula: on the timed TBV
+ * mappings of the chain patterns after q until r, with a growing number of chained events, and on a conjunction
+ * of a growing number of weak until formulas, {@code (p0 W[0,3] q0) and (p1 W[0,3] q1) and ...}.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 2, time = 1)
+@Measurement(iterations = 3, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class WeakUntilScalingBenchmark {
+    private static final String CONJUNCTION = "Conjunction";
+
+    @Param({"ResponseChain1N", "ResponseChainN1", CONJUNCTION})
+    public String formula;
+
+    @Param({"1", "4", "16", "64", "256"})
+    public int size;
+
+    private WeakUntilSubstituter substituter;
+    private List<Element> elements;
+
+    @Setup
+    public void setup() {
+        GenericMapper tbvMapper = (GenericMapper) Specifications.mapper("TimedTBVMapper");
+        LanguageDefinitions definitions = tbvMapper.getLanguageDefinitions();
+        substituter = new WeakUntilSubstituter(definitions);
+        if (CONJUNCTION.equals(formula)) {
+            elements = new ArrayList<>();
+            for (int i = 0; i < size; i++) {
+                if (i > 0) {
+                    elements.add(definitions.getAnd());
+                }
+                elements.add(RoundBracketOpenElement.INSTANCE);
+                elements.add(new EventImpl("p" + i));
+                elements.add(definitions.getWeakUntil());
+                elements.add(TimeBoundElement.of("[0,3]"));
+                elements.add(SpaceElement.INSTANCE);
+                elements.add(new EventImpl("q" + i));
+                elements.add(RoundBracketCloseElement.INSTANCE);
+            }
+        } else {
+            elements = tbvMapper.mapToElements(Specifications.scope("AfterQuntilR"),
+                    Specifications.pattern(formula, true, size), new MappingContext());
+        }
+    }
+
+    @Benchmark
+    public List<Element> process() {
+        return substituter.process(elements);
+    }
+}
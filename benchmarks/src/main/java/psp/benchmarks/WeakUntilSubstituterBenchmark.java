@@ -0,0 +1,62 @@
+package psp.benchmarks;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import psp.mappings.GenericMapper;
+import psp.mappings.MappingContext;
+import psp.mappings.elements.Element;
+import psp.mappings.postprocessing.WeakUntilSubstituter;
+
+/**
+ * Measures {@link WeakUntilSubstituter#process} in isolation, on the unprocessed elements the TBV mappers
+ * produce for the patterns that rely on weak until. The chain length only applies to the chain patterns.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 2, time = 1)
+@Measurement(iterations = 3, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class WeakUntilSubstituterBenchmark {
+
+    @Param({"TimedTBVMapper", "UntimedTBVMapper"})
+    public String mapper;
+
+    @Param({"Globally", "BeforeR", "AfterQ", "BetweenQandR", "AfterQuntilR"})
+    public String scope;
+
+    @Param({"Absence", "Existence", "Precedence", "Until", "PrecedenceChain1N", "ResponseChainN1"})
+    public String pattern;
+
+    @Param({"3"})
+    public int chainLength;
+
+    private WeakUntilSubstituter substituter;
+    private List<Element> elements;
+
+    @Setup
+    public void setup() {
+        GenericMapper tbvMapper = (GenericMapper) Specifications.mapper(mapper);
+        substituter = new WeakUntilSubstituter(tbvMapper.getLanguageDefinitions());
+        elements = tbvMapper.mapToElements(Specifications.scope(scope),
+                Specifications.pattern(pattern, mapper.startsWith("Timed"), chainLength), new MappingContext());
+    }
+
+    @Benchmark
+    public List<Element> process() {
+        return substituter.process(elements);
+    }
+}
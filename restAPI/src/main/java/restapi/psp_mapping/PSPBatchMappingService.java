@@ -0,0 +1,122 @@
+package restapi.psp_mapping;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.DeserializationFeature;
+import com.fasterxml.jackson.databind.JsonMappingException;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectReader;
+import com.github.fge.jsonschema.core.exceptions.ProcessingException;
+import com.github.fge.jsonschema.core.report.ProcessingReport;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Service;
+import restapi.psp_mapping.json_processing.data_objects.PSPInvalidMappingResponse;
+import restapi.psp_mapping.json_processing.data_objects.PSPMappingResponse;
+import restapi.psp_mapping.json_processing.schema_validation.JSONRequestSchemaValidator;
+
+import java.io.*;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+
+
+/**
+ * A service that maps a batch of PSPs, each formatted as a json object, to their logic formulas.
+ * The requests of a batch are validated and mapped independently and in parallel, the single mappings are
+ * delegated to the {@link PSPMappingService}. A request that cannot be processed yields a
+ * {@link PSPInvalidMappingResponse} and does not affect the other requests of the batch.
+ * Large request catalogs can be streamed through {@link #mapPSPRequestStream(InputStream, OutputStream)},
+ * which maps one request at a time and never holds more than a single request in memory.
+ */
+@Service
+public class PSPBatchMappingService {
+
+    /**
+     * Reader parsing the single records of a request stream. A record must consist of exactly one JSON value.
+     */
+    private static final ObjectReader RECORD_READER = new ObjectMapper().readerFor(JsonNode.class)
+            .with(DeserializationFeature.FAIL_ON_TRAILING_TOKENS);
+
+    private final PSPMappingService pspMappingService;
+
+    private final JSONRequestSchemaValidator schemaValidator;
+
+    Logger logger = LoggerFactory.getLogger(PSPBatchMappingService.class);
+
+    @Autowired
+    public PSPBatchMappingService(PSPMappingService pspMappingService, JSONRequestSchemaValidator schemaValidator) {
+        this.pspMappingService = pspMappingService;
+        this.schemaValidator = schemaValidator;
+    }
+
+    /**
+     * Maps a batch of parsed PSP mapping requests to mapping responses.
+     *
+     * @param jsonMappingRequests The parsed JSON representations of the PSP mapping requests.
+     * @return The mapping responses, in the order of the given requests.
+     */
+    public List<PSPMappingResponse> mapPSPRequestsToTargetLogic(List<JsonNode> jsonMappingRequests) {
+        return jsonMappingRequests.parallelStream()
+                .map(this::mapPSPRequestToTargetLogic)
+                .toList();
+    }
+
+    /**
+     * Maps a stream of newline-delimited PSP mapping requests to a stream of newline-delimited mapping responses.
+     * Requests are read, mapped and written one by one, every response is flushed as soon as it is ready.
+     * As the next request is only read after the previous response has been written, a slow consumer of the
+     * responses throttles the consumption of the requests. A malformed record yields a
+     * {@link PSPInvalidMappingResponse} and the stream continues with the next record, blank lines are skipped.
+     *
+     * @param requests The UTF-8 encoded stream of JSON mapping requests, one request per line.
+     * @param responses The stream the JSON mapping responses are written to, one response per line.
+     * @throws IOException If reading the requests or writing the responses fails.
+     */
+    public void mapPSPRequestStream(InputStream requests, OutputStream responses) throws IOException {
+        BufferedReader reader = new BufferedReader(new InputStreamReader(requests, StandardCharsets.UTF_8));
+        OutputStream output = new BufferedOutputStream(responses);
+        String line;
+        while ((line = reader.readLine()) != null) {
+            if (line.isBlank()) {
+                continue;
+            }
+            PSPMappingResponse response;
+            try {
+                response = mapPSPRequestToTargetLogic(RECORD_READER.<JsonNode>readValue(line));
+            } catch (JsonProcessingException e) {
+                logger.error(e.getMessage());
+                response = new PSPInvalidMappingResponse("Malformed JSON record: " + e.getOriginalMessage());
+            }
+            response.writeJSON(output);
+            output.write('\n');
+            output.flush();
+        }
+    }
+
+    /**
+     * Validates and maps a single request of a batch.
+     *
+     * @param jsonMappingRequest The parsed JSON representation of the PSP mapping request.
+     * @return PSPMappingResponse object that represents the mapping result, or the reason the request is invalid.
+     */
+    PSPMappingResponse mapPSPRequestToTargetLogic(JsonNode jsonMappingRequest) {
+        try {
+            ProcessingReport report = schemaValidator.validate(jsonMappingRequest);
+            if (!report.isSuccess()) {
+                logger.error(report.toString());
+                return new PSPInvalidMappingResponse("Bad request format. Please refer to the JSON schema definition.");
+            }
+            return pspMappingService.mapPSPRequestToTargetLogic(jsonMappingRequest);
+        } catch (JsonMappingException e) {
+            logger.error(e.getMessage());
+            return new PSPInvalidMappingResponse(e.getMessage());
+        } catch (IOException | ProcessingException e) {
+            logger.error(e.getMessage());
+            return new PSPInvalidMappingResponse("Unexpected JSON serialization error.");
+        } catch (RuntimeException e) {
+            logger.error(e.getMessage());
+            return new PSPInvalidMappingResponse("Unexpected mapping error.");
+        }
+    }
+}
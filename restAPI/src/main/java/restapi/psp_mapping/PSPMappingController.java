@@ -1,58 +1,136 @@
 package restapi.psp_mapping;
 
+import com.fasterxml.jackson.core.type.TypeReference;
 import com.fasterxml.jackson.databind.JsonMappingException;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectReader;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import com.fasterxml.jackson.databind.node.ObjectNode;
 import com.github.fge.jsonschema.core.report.ProcessingReport;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.task.TaskExecutionAutoConfiguration;
+import org.springframework.core.task.AsyncTaskExecutor;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.CrossOrigin;
+import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestHeader;
 import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.servlet.mvc.method.annotation.ResponseBodyEmitter;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
+import psp.mappings.MappingCache;
+import restapi.psp_mapping.PSPResponseCache.CachedResponse;
 import restapi.psp_mapping.json_processing.data_objects.PSPMappingResponse;
 import restapi.psp_mapping.json_processing.schema_validation.JSONRequestSchemaValidator;
 
+import java.io.ByteArrayOutputStream;
 import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
 
 @CrossOrigin
 @RestController
 public class PSPMappingController {
 
+    /**
+     * Timeout of streamed mappings by default, see {@code psp.mapping.stream.timeout}.
+     */
+    public static final long DEFAULT_STREAM_TIMEOUT = -1;
+
+    private static final ObjectMapper mapper = new ObjectMapper();
+
+    private static final ObjectReader nodeReader = mapper.readerFor(JsonNode.class);
+
+    private static final ObjectWriter responseListWriter = PSPMappingResponse.JSON_WRITER
+            .forType(new TypeReference<List<PSPMappingResponse>>() { });
+
     private final PSPMappingService pspMappingService;
 
+    private final PSPBatchMappingService pspBatchMappingService;
+
+    private final JSONRequestSchemaValidator schemaValidator;
+
+    private final PSPResponseCache responseCache;
+
+    private final AsyncTaskExecutor streamExecutor;
+
+    private final long streamTimeout;
+
     Logger logger = LoggerFactory.getLogger(PSPMappingController.class);
 
+    /**
+     * @param streamExecutor The executor streamed mappings are run on.
+     * @param streamTimeout The timeout in milliseconds of streamed mappings, configured by
+     *                      {@code psp.mapping.stream.timeout}. A timeout of zero or less disables it.
+     */
     @Autowired
-    public PSPMappingController(PSPMappingService pspMappingService) {
+    public PSPMappingController(PSPMappingService pspMappingService, PSPBatchMappingService pspBatchMappingService,
+                                JSONRequestSchemaValidator schemaValidator, PSPResponseCache responseCache,
+                                @Qualifier(TaskExecutionAutoConfiguration.APPLICATION_TASK_EXECUTOR_BEAN_NAME)
+                                AsyncTaskExecutor streamExecutor,
+                                @Value("${psp.mapping.stream.timeout:" + DEFAULT_STREAM_TIMEOUT + "}")
+                                long streamTimeout) {
         this.pspMappingService = pspMappingService;
+        this.pspBatchMappingService = pspBatchMappingService;
+        this.schemaValidator = schemaValidator;
+        this.responseCache = responseCache;
+        this.streamExecutor = streamExecutor;
+        this.streamTimeout = streamTimeout;
     }
 
     @PostMapping("/transformPattern")
-    public ResponseEntity<String> handleDashboardRequest(@RequestBody String request){
+    public ResponseEntity<byte[]> handleDashboardRequest(@RequestBody byte[] request,
+            @RequestHeader(value = HttpHeaders.IF_NONE_MATCH, required = false) String ifNoneMatch){
         if (request == null){
             return new ResponseEntity<>(HttpStatus.BAD_REQUEST);
         }
+        // byte-identical repetitions are answered without parsing, validating and mapping the request
+        String bodyKey = PSPResponseCache.bodyKey(request);
+        CachedResponse cached = responseCache.get(bodyKey);
+        if (cached != null) {
+            return cachedResponse(cached, ifNoneMatch);
+        }
         try {
-            ProcessingReport report= JSONRequestSchemaValidator.validateSchema(request);
+            // the request is parsed exactly once, validation and deserialization work on the same tree
+            JsonNode requestTree = mapper.readTree(request);
+            String eTag = PSPResponseCache.eTag(requestTree);
+            cached = responseCache.get(eTag);
+            if (cached != null) {
+                responseCache.put(bodyKey, cached);
+                return cachedResponse(cached, ifNoneMatch);
+            }
+            ProcessingReport report= schemaValidator.validate(requestTree);
             if (report.isSuccess()) {
-                PSPMappingResponse response = pspMappingService.mapPSPRequestToTargetLogic(request);
-                return new ResponseEntity<>(response.toJSON(), HttpStatus.OK);
+                PSPMappingResponse response = pspMappingService.mapPSPRequestToTargetLogic(requestTree);
+                cached = new CachedResponse(eTag, response.toJSONBytes());
+                responseCache.put(eTag, cached);
+                responseCache.put(bodyKey, cached);
+                return cachedResponse(cached, ifNoneMatch);
             }
             else {
                 logger.error(report.toString());
-                return new ResponseEntity<>("Bad request format. Please refer to the JSON schema definition."
-                         ,HttpStatus.BAD_REQUEST);
+                return badRequest("Bad request format. Please refer to the JSON schema definition.");
             }
 
         } catch (Exception e) {
             if (e instanceof JsonMappingException) {
                 logger.error(e.getMessage());
-                return new ResponseEntity<>(e.getMessage(), HttpStatus.BAD_REQUEST);
+                return badRequest(e.getMessage());
             } else if (e instanceof IOException)  {
                 logger.error(e.getMessage());
-                return new ResponseEntity<>("Unexpected JSON serialization error.", HttpStatus.BAD_REQUEST);
+                return badRequest("Unexpected JSON serialization error.");
             }
             else {
                 logger.error(e.getMessage());
@@ -60,4 +138,130 @@ public class PSPMappingController {
             }
         }
     }
+
+    @PostMapping(value = "/transformPatterns", consumes = MediaType.APPLICATION_JSON_VALUE,
+            produces = MediaType.APPLICATION_JSON_VALUE)
+    public ResponseEntity<StreamingResponseBody> handleBatchRequest(@RequestBody byte[] request) {
+        if (request == null) {
+            return new ResponseEntity<>(HttpStatus.BAD_REQUEST);
+        }
+        try {
+            JsonNode requestTree = mapper.readTree(request);
+            if (!requestTree.isArray()) {
+                return badStreamingRequest("Bad request format. A batch must be a JSON array of mapping requests.");
+            }
+            List<JsonNode> requests = new ArrayList<>(requestTree.size());
+            requestTree.forEach(requests::add);
+            List<PSPMappingResponse> responses = pspBatchMappingService.mapPSPRequestsToTargetLogic(requests);
+            StreamingResponseBody body = output -> responseListWriter.writeValue(output, responses);
+            return ResponseEntity.ok().contentType(MediaType.APPLICATION_JSON).body(body);
+        } catch (IOException e) {
+            logger.error(e.getMessage());
+            return badStreamingRequest("Unexpected JSON serialization error.");
+        }
+    }
+
+    @PostMapping(value = "/transformPatterns", consumes = MediaType.APPLICATION_NDJSON_VALUE,
+            produces = MediaType.APPLICATION_NDJSON_VALUE)
+    public ResponseEntity<StreamingResponseBody> handleNdjsonBatchRequest(@RequestBody byte[] request) {
+        if (request == null) {
+            return new ResponseEntity<>(HttpStatus.BAD_REQUEST);
+        }
+        try {
+            List<JsonNode> requests = nodeReader.<JsonNode>readValues(request).readAll();
+            List<PSPMappingResponse> responses = pspBatchMappingService.mapPSPRequestsToTargetLogic(requests);
+            StreamingResponseBody body = output -> {
+                for (PSPMappingResponse response : responses) {
+                    response.writeJSON(output);
+                    output.write('\n');
+                }
+            };
+            return ResponseEntity.ok().contentType(MediaType.APPLICATION_NDJSON).body(body);
+        } catch (IOException e) {
+            logger.error(e.getMessage());
+            return badStreamingRequest("Unexpected JSON serialization error.");
+        }
+    }
+
+    @PostMapping(value = "/transformPatterns/stream", consumes = MediaType.APPLICATION_NDJSON_VALUE,
+            produces = MediaType.APPLICATION_NDJSON_VALUE)
+    public ResponseEntity<ResponseBodyEmitter> handleStreamingRequest(InputStream request) {
+        // the body is consumed incrementally while the responses are written, which may take longer than the
+        // default timeout of asynchronous requests, so the emitter has a timeout of its own
+        ResponseBodyEmitter responses = new ResponseBodyEmitter(streamTimeout);
+        streamExecutor.execute(() -> {
+            try {
+                pspBatchMappingService.mapPSPRequestStream(request, new EmitterOutputStream(responses));
+                responses.complete();
+            } catch (IOException | RuntimeException e) {
+                logger.error(e.getMessage());
+                responses.completeWithError(e);
+            }
+        });
+        return ResponseEntity.ok().contentType(MediaType.APPLICATION_NDJSON).body(responses);
+    }
+
+    @GetMapping(value = "/mappingCacheStatistics", produces = MediaType.APPLICATION_JSON_VALUE)
+    public ResponseEntity<String> handleCacheStatisticsRequest() {
+        MappingCache cache = pspMappingService.getMappingCache();
+        ObjectNode statistics = mapper.createObjectNode()
+                .put("hits", cache.getHitCount())
+                .put("misses", cache.getMissCount())
+                .put("evictions", cache.getEvictionCount())
+                .put("size", cache.size())
+                .put("maximum_size", cache.getMaximumSize());
+        return new ResponseEntity<>(statistics.toString(), HttpStatus.OK);
+    }
+
+    /**
+     * Answers a mapping request with a cached response, or with 304 (Not Modified) if the client already holds it.
+     */
+    private static ResponseEntity<byte[]> cachedResponse(CachedResponse cached, String ifNoneMatch) {
+        if (PSPResponseCache.matches(ifNoneMatch, cached.eTag())) {
+            return ResponseEntity.status(HttpStatus.NOT_MODIFIED).eTag(cached.eTag()).build();
+        }
+        return ResponseEntity.ok().eTag(cached.eTag()).contentType(MediaType.APPLICATION_JSON).body(cached.body());
+    }
+
+    private static ResponseEntity<StreamingResponseBody> badStreamingRequest(String message) {
+        StreamingResponseBody body = output -> output.write(message.getBytes(StandardCharsets.UTF_8));
+        return ResponseEntity.badRequest().contentType(MediaType.TEXT_PLAIN).body(body);
+    }
+
+    /**
+     * Sends what has been written to an emitter on every flush.
+     */
+    private static final class EmitterOutputStream extends OutputStream {
+
+        private final ResponseBodyEmitter emitter;
+
+        private final ByteArrayOutputStream buffer = new ByteArrayOutputStream();
+
+        EmitterOutputStream(ResponseBodyEmitter emitter) {
+            this.emitter = emitter;
+        }
+
+        @Override
+        public void write(int b) {
+            buffer.write(b);
+        }
+
+        @Override
+        public void write(byte[] b, int off, int len) {
+            buffer.write(b, off, len);
+        }
+
+        @Override
+        public void flush() throws IOException {
+            if (buffer.size() > 0) {
+                emitter.send(buffer.toByteArray(), MediaType.APPLICATION_NDJSON);
+                buffer.reset();
+            }
+        }
+    }
+
+    private static ResponseEntity<byte[]> badRequest(String message) {
+        return ResponseEntity.badRequest().contentType(MediaType.TEXT_PLAIN)
+                .body(message.getBytes(StandardCharsets.UTF_8));
+    }
 }
@@ -1,14 +1,26 @@
 package restapi.psp_mapping;
 
+import com.fasterxml.jackson.databind.JsonNode;
 import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectReader;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Service;
+import psp.mappings.MappingCache;
+import psp.mappings.MappingOptions;
+import psp.mappings.MappingResult;
 import psp.mappings.PatternMapper;
 import psp.mappings.SELMapper;
+import psp.sel.RenderingContext;
 import psp.sel.patterns.Pattern;
 import psp.sel.scopes.Scope;
 import restapi.psp_mapping.json_processing.data_objects.*;
 
 import java.io.IOException;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
 
 
 /**
@@ -22,46 +34,156 @@ import java.io.IOException;
 @Service
 public class PSPMappingService {
 
+    /**
+     * Reader binding mapping requests. Readers are immutable and thread-safe, hence shared by all requests.
+     */
+    private static final ObjectReader REQUEST_READER = new ObjectMapper().readerFor(PSPMappingRequest.class);
+
+    /**
+     * Mapper producing the SEG representation. Mappers are stateless, hence shared by all requests.
+     */
+    private static final PatternMapper SEL_MAPPER = new SELMapper();
+
+    /**
+     * Number of mappings kept by default, see {@code psp.mapping.cache.size}.
+     */
+    static final int DEFAULT_CACHE_SIZE = 10000;
+
+    /**
+     * Cache of the SEG representations and target logic mappings of recently requested PSPs.
+     */
+    private final MappingCache mappingCache;
+
+    /**
+     * Constructs a service caching the default number of mappings.
+     */
+    public PSPMappingService() {
+        this(DEFAULT_CACHE_SIZE);
+    }
+
+    /**
+     * Constructs a service caching up to the given number of mappings.
+     *
+     * @param cacheSize The maximum number of cached mappings, configured by {@code psp.mapping.cache.size}.
+     *                  A size of zero disables the cache.
+     */
+    @Autowired
+    public PSPMappingService(@Value("${psp.mapping.cache.size:" + DEFAULT_CACHE_SIZE + "}") int cacheSize) {
+        this.mappingCache = new MappingCache(cacheSize);
+    }
+
+    /**
+     * @return The cache the mappings of this service are looked up in, e.g. to report its hit and miss counts.
+     */
+    public MappingCache getMappingCache() {
+        return mappingCache;
+    }
+
     /**
      * Maps a PSP to a mapping response.
      *
-     * @param jsonMappingRequest The JSON representation of the PSP mapping request.
+     * @param jsonMappingRequest The UTF-8 encoded JSON representation of the PSP mapping request.
      * @return PSPMappingResponse object that represents the mapping result.
      * @throws IOException If an error occurs during JSON processing, such as issues with deserialization.
      */
-    public PSPMappingResponse mapPSPRequestToTargetLogic(String jsonMappingRequest) throws IOException {
+    public PSPMappingResponse mapPSPRequestToTargetLogic(byte[] jsonMappingRequest) throws IOException {
+        return mapPSPRequestToTargetLogic(REQUEST_READER.<PSPMappingRequest>readValue(jsonMappingRequest));
+    }
 
-        PSPMappingRequest request = mapJsonToPSPRequest(jsonMappingRequest);
+    /**
+     * Maps a PSP, that has already been parsed (e.g. for schema validation), to a mapping response.
+     * The request is bound directly from the given tree, the JSON text is not parsed again.
+     *
+     * @param jsonMappingRequest The parsed JSON representation of the PSP mapping request.
+     * @return PSPMappingResponse object that represents the mapping result.
+     * @throws IOException If an error occurs during JSON processing, such as issues with deserialization.
+     */
+    public PSPMappingResponse mapPSPRequestToTargetLogic(JsonNode jsonMappingRequest) throws IOException {
+        return mapPSPRequestToTargetLogic(REQUEST_READER.<PSPMappingRequest>readValue(jsonMappingRequest));
+    }
+
+    /**
+     * Maps a deserialized PSP mapping request to a mapping response. A request for several target logics is
+     * mapped to all of them from the same scope and pattern and with the same SEG representation. Target logics
+     * of the same family are mapped once and rendered in each of their syntaxes, unless the mappings are rewritten.
+     * Either way, the target logics, or their families, are mapped in parallel.
+     *
+     * @param request The PSP mapping request.
+     * @return PSPMappingResponse object that represents the mapping result.
+     */
+    private PSPMappingResponse mapPSPRequestToTargetLogic(PSPMappingRequest request) {
         Scope scope = request.getScope();
         Pattern pattern = request.getPattern();
-        PatternMapper requestedPSPMapper = request.getMapper();
-        PatternMapper selMapper = new SELMapper();
+        List<RenderingContext> renderings = request.getEventRendering().getRenderings();
+        MappingOptions options = new MappingOptions(request.isSimplify(), request.isDefineSubformulas());
 
-        String seg =  selMapper.getMapping(scope, pattern);
-        String mapping = requestedPSPMapper.getMapping(scope, pattern);
+        // every rendering is produced from a single mapping
+        List<MappingResult> segs = mappingCache.map(SEL_MAPPER, scope, pattern, renderings);
+        TargetLogics targetLogics = request.getTargetLogics();
+        if (!targetLogics.multiple()) {
+            return mapToTargetLogic(targetLogics.getFirstMapper(), scope, pattern, renderings, options, segs);
+        }
 
-        if (mapping.isEmpty()){
-            String errorMessage = requestedPSPMapper.getNotSupportedMessage();
-            return new PSPUnsupportedMappingResponse(errorMessage, seg);
+        List<Map.Entry<String, PatternMapper>> targets = List.copyOf(targetLogics.mappers().entrySet());
+        List<PSPMappingResponse> responses;
+        if (options.isNone()) {
+            // target logics of the same family, like LTL and untimed TBV, share a single mapping
+            Map<PatternMapper, List<MappingResult>> mappings = mappingCache.mapToAll(
+                    List.copyOf(targetLogics.mappers().values()), scope, pattern, renderings);
+            responses = targets.stream()
+                    .map(target -> toResponse(target.getValue(), mappings.get(target.getValue()), renderings, segs))
+                    .toList();
+        } else {
+            responses = targets.parallelStream()
+                    .map(target -> mapToTargetLogic(target.getValue(), scope, pattern, renderings, options, segs))
+                    .toList();
         }
-        else {
-            return new PSPCorrectMappingResponse(seg, mapping);
+        Map<String, PSPMappingResponse> responsesByTarget = new LinkedHashMap<>();
+        for (int i = 0; i < targets.size(); i++) {
+            responsesByTarget.put(targets.get(i).getKey(), responses.get(i));
         }
+        return new PSPMultiTargetMappingResponse(Collections.unmodifiableMap(responsesByTarget));
+    }
 
+    /**
+     * Maps a scope and a pattern to a single target logic.
+     *
+     * @param segs The SEG representations of the scope and the pattern, one for each rendering.
+     * @return PSPMappingResponse object that represents the mapping result.
+     */
+    private PSPMappingResponse mapToTargetLogic(PatternMapper requestedPSPMapper, Scope scope, Pattern pattern,
+                                                List<RenderingContext> renderings, MappingOptions options,
+                                                List<MappingResult> segs) {
+        List<MappingResult> mappings = mappingCache.map(requestedPSPMapper, scope, pattern, renderings, options);
+        return toResponse(requestedPSPMapper, mappings, renderings, segs);
     }
 
     /**
-     * Maps a JSON string representing a PSPMappingRequest to a PSPMappingRequest object.
+     * Builds the response for the mappings of a scope and a pattern to a single target logic.
      *
-     * @param jsonStr The JSON string representing a PSPMappingRequest.
-     * @return PSPMappingRequest object.
-     * @throws IOException If an error occurs during JSON processing, such as issues with deserialization.
+     * @param mappings The mappings to the target logic, one for each rendering.
+     * @param segs The SEG representations of the scope and the pattern, one for each rendering.
+     * @return PSPMappingResponse object that represents the mapping result.
      */
-    private PSPMappingRequest mapJsonToPSPRequest(String jsonStr) throws IOException {
-        ObjectMapper mapper = new ObjectMapper();
-        PSPMappingRequest psp;
+    private PSPMappingResponse toResponse(PatternMapper requestedPSPMapper, List<MappingResult> mappings,
+                                          List<RenderingContext> renderings, List<MappingResult> segs) {
+        String seg = segs.get(0).getMapping();
+        MappingResult mapping = mappings.get(0);
+
+        if (!mapping.isSupported()){
+            String errorMessage = requestedPSPMapper.getNotSupportedMessage();
+            return new PSPUnsupportedMappingResponse(errorMessage, seg);
+        }
+        FormulaSizes formulaSizes = mapping.isSimplified()
+                ? new FormulaSizes(mapping.getOriginalSize(), mapping.getSimplifiedSize())
+                : null;
+        if (renderings.size() > 1) {
+            return new PSPCorrectMappingResponse(seg, mapping.getMapping(),
+                    segs.get(1).getMapping(), mappings.get(1).getMapping(), formulaSizes);
+        }
+        else {
+            return new PSPCorrectMappingResponse(seg, mapping.getMapping(), null, null, formulaSizes);
+        }
 
-        psp = mapper.readValue(jsonStr, PSPMappingRequest.class);
-        return psp;
     }
 }
@@ -0,0 +1,161 @@
+package restapi.psp_mapping;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.HexFormat;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+
+/**
+ * A bounded, least recently used cache of serialized mapping responses, used to answer repeated
+ * {@code /transformPattern} requests without validating, deserializing and mapping them again.
+ * Responses are found by the SHA-256 digest of the raw request body, so byte-identical requests are answered
+ * without even being parsed, and by their ETag, the digest of the normalized request, so requests that only
+ * differ in formatting or in the order of their properties share one entry.
+ * The cache has to be cleared whenever the responses to previous requests may change, e.g. when the
+ * request schema has been reloaded.
+ */
+@Component
+public class PSPResponseCache {
+
+    /**
+     * A serialized mapping response together with the ETag of the request it answers.
+     */
+    public record CachedResponse(String eTag, byte[] body) {
+    }
+
+    /**
+     * Number of responses kept by default, see {@code psp.response.cache.size}.
+     */
+    static final int DEFAULT_CACHE_SIZE = 1000;
+
+    /**
+     * Writer producing the normalized form of a request, i.e. compact JSON with properties ordered by name.
+     */
+    private static final ObjectWriter CANONICAL_WRITER = new ObjectMapper()
+            .writer(SerializationFeature.ORDER_MAP_ENTRIES_BY_KEYS);
+
+    private static final ObjectMapper mapper = new ObjectMapper();
+
+    private final int maximumSize;
+
+    private final Map<String, CachedResponse> entries;
+
+    /**
+     * Constructs a cache holding the default number of responses.
+     */
+    public PSPResponseCache() {
+        this(DEFAULT_CACHE_SIZE);
+    }
+
+    /**
+     * Constructs a cache holding up to the given number of entries.
+     *
+     * @param maximumSize The maximum number of entries, configured by {@code psp.response.cache.size}.
+     *                    A size of zero disables the cache.
+     */
+    @Autowired
+    public PSPResponseCache(@Value("${psp.response.cache.size:" + DEFAULT_CACHE_SIZE + "}") int maximumSize) {
+        this.maximumSize = maximumSize;
+        this.entries = new LinkedHashMap<>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<String, CachedResponse> eldest) {
+                return size() > PSPResponseCache.this.maximumSize;
+            }
+        };
+    }
+
+    /**
+     * Computes the key under which the response to the given raw request body is cached.
+     *
+     * @param request The raw request body.
+     * @return The cache key of the request body.
+     */
+    public static String bodyKey(byte[] request) {
+        return "body:" + digest(request);
+    }
+
+    /**
+     * Computes the ETag of a request, a strong validator derived from the normalized request.
+     * Requests that only differ in whitespace or in the order of their properties have the same ETag.
+     *
+     * @param request The parsed request.
+     * @return The quoted ETag of the request.
+     * @throws JsonProcessingException If the request cannot be normalized.
+     */
+    public static String eTag(JsonNode request) throws JsonProcessingException {
+        // properties of tree nodes keep their document order, only maps are sorted by the writer
+        Object normalized = mapper.treeToValue(request, Object.class);
+        return "\"" + digest(CANONICAL_WRITER.writeValueAsBytes(normalized)) + "\"";
+    }
+
+    /**
+     * Checks whether an {@code If-None-Match} header matches the given ETag.
+     *
+     * @param ifNoneMatch The value of the {@code If-None-Match} header, may be {@code null}.
+     * @param eTag The quoted ETag of the current response.
+     * @return {@code true} if the client already holds the current response.
+     */
+    public static boolean matches(String ifNoneMatch, String eTag) {
+        if (ifNoneMatch == null) {
+            return false;
+        }
+        for (String candidate : ifNoneMatch.split(",")) {
+            String tag = candidate.trim();
+            // If-None-Match uses the weak comparison, see RFC 9110, section 13.1.2
+            if (tag.startsWith("W/")) {
+                tag = tag.substring(2);
+            }
+            if (tag.equals("*") || tag.equals(eTag)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    public CachedResponse get(String key) {
+        synchronized (entries) {
+            return entries.get(key);
+        }
+    }
+
+    public void put(String key, CachedResponse response) {
+        if (maximumSize <= 0) {
+            return;
+        }
+        synchronized (entries) {
+            entries.put(key, response);
+        }
+    }
+
+    public void clear() {
+        synchronized (entries) {
+            entries.clear();
+        }
+    }
+
+    public int size() {
+        synchronized (entries) {
+            return entries.size();
+        }
+    }
+
+    private static String digest(byte[] bytes) {
+        try {
+            return HexFormat.of().formatHex(MessageDigest.getInstance("SHA-256").digest(bytes));
+        } catch (NoSuchAlgorithmException e) {
+            // every Java platform is required to support SHA-256
+            throw new IllegalStateException(e);
+        }
+    }
+}
@@ -1,39 +1,54 @@
 package restapi.psp_mapping.json_processing;
 
 import java.util.Collections;
-import java.util.HashMap;
+import java.util.LinkedHashMap;
 import java.util.Map;
-import java.util.function.Supplier;
 
 import com.fasterxml.jackson.core.JsonParser;
 import com.fasterxml.jackson.databind.JsonMappingException;
 import psp.mappings.*;
 
+/**
+ * Supplies the mapper for a target logic. Mappers are stateless, hence a single instance per target logic
+ * is shared by all requests.
+ */
 public class MapperSupplier {
 
-  private static final Map<String, Supplier<PatternMapper>> MAPPER_SUPPLIER;
+  /**
+   * Requests all target logics at once.
+   */
+  public static final String ALL = "all";
+
+  private static final Map<String, PatternMapper> MAPPER_SUPPLIER;
 
   static {
-      final Map<String, Supplier<PatternMapper>>
-      mappers = new HashMap<>();
-      mappers.put("SEL", SELMapper::new);
-      mappers.put("LTL", LTLMapper::new);
-      mappers.put("MTL", MTLMapper::new);
-      mappers.put("Prism", PrismMapper::new);
-      mappers.put("Quantitative Prism", QuantitativePrismMapper::new);
-      mappers.put("TBV (timed)", TimedTBVMapper::new);
-      mappers.put("TBV (untimed)", UntimedTBVMapper::new);
+      final Map<String, PatternMapper>
+      mappers = new LinkedHashMap<>();
+      mappers.put("SEL", new SELMapper());
+      mappers.put("LTL", new LTLMapper());
+      mappers.put("MTL", new MTLMapper());
+      mappers.put("Prism", new PrismMapper());
+      mappers.put("Quantitative Prism", new QuantitativePrismMapper());
+      mappers.put("TBV (timed)", new TimedTBVMapper());
+      mappers.put("TBV (untimed)", new UntimedTBVMapper());
 
       MAPPER_SUPPLIER = Collections.unmodifiableMap(mappers);
    }
 
 
    public PatternMapper supplyMapper(JsonParser p, String mapperType) throws JsonMappingException {
-      Supplier<PatternMapper> mapper = MAPPER_SUPPLIER.get(mapperType);
+      PatternMapper mapper = MAPPER_SUPPLIER.get(mapperType);
       if (mapper == null) {
          throw JsonMappingException.from(p, String.format("Unsupported target logic: %s",mapperType));
       }
-      return mapper.get();
+      return mapper;
+   }
+
+   /**
+    * @return The mappers of all target logics by their names, in a fixed order.
+    */
+   public Map<String, PatternMapper> supplyAllMappers() {
+      return MAPPER_SUPPLIER;
    }
 
 }
\ No newline at end of file
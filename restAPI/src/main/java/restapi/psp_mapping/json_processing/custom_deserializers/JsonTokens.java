@@ -0,0 +1,130 @@
+package restapi.psp_mapping.json_processing.custom_deserializers;
+
+import java.io.IOException;
+
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+import com.fasterxml.jackson.core.io.NumberInput;
+import com.fasterxml.jackson.databind.JsonMappingException;
+
+import psp.sel.EventImpl;
+
+/**
+ * Helpers of the token-streaming deserializers. Scalar values are converted like {@code JsonNode.asText()},
+ * {@code asLong()}, {@code asInt()} and {@code asDouble()} convert them, so a request is read the same way
+ * as when it is walked as a tree. Containers found where a scalar is expected are skipped.
+ */
+final class JsonTokens {
+
+  private JsonTokens() {
+  }
+
+  /**
+   * Reads the current value as text. {@code null} is read as {@code "null"}, containers as an empty text.
+   */
+  static String readText(JsonParser parser) throws IOException {
+    switch (parser.currentToken()) {
+      case VALUE_STRING:
+      case VALUE_NUMBER_INT:
+        return parser.getText();
+      case VALUE_NUMBER_FLOAT:
+        return String.valueOf(parser.getDoubleValue());
+      case VALUE_TRUE:
+        return "true";
+      case VALUE_FALSE:
+        return "false";
+      case VALUE_NULL:
+        return "null";
+      default:
+        parser.skipChildren();
+        return "";
+    }
+  }
+
+  /**
+   * Reads the current value as a long. Texts are parsed, anything that is not a number is read as 0.
+   */
+  static long readLong(JsonParser parser) throws IOException {
+    switch (parser.currentToken()) {
+      case VALUE_NUMBER_INT:
+        return parser.getLongValue();
+      case VALUE_NUMBER_FLOAT:
+        return (long) parser.getDoubleValue();
+      case VALUE_STRING:
+        return NumberInput.parseAsLong(parser.getText(), 0L);
+      case VALUE_TRUE:
+        return 1L;
+      default:
+        parser.skipChildren();
+        return 0L;
+    }
+  }
+
+  static int readInt(JsonParser parser) throws IOException {
+    return (int) readLong(parser);
+  }
+
+  /**
+   * Reads the current value as a double. Texts are parsed, anything that is not a number is read as 0.
+   */
+  static double readDouble(JsonParser parser) throws IOException {
+    switch (parser.currentToken()) {
+      case VALUE_NUMBER_INT:
+      case VALUE_NUMBER_FLOAT:
+        return parser.getDoubleValue();
+      case VALUE_STRING:
+        return NumberInput.parseAsDouble(parser.getText(), 0.0, false);
+      case VALUE_TRUE:
+        return 1.0;
+      default:
+        parser.skipChildren();
+        return 0.0;
+    }
+  }
+
+  /**
+   * Advances to the value of the next property of the current object.
+   *
+   * @return The name of the property, or {@code null} if the end of the object has been reached.
+   */
+  static String nextProperty(JsonParser parser) throws IOException {
+    if (parser.nextToken() != JsonToken.FIELD_NAME) {
+      return null;
+    }
+    String name = parser.currentName();
+    parser.nextToken();
+    return name;
+  }
+
+  static void expectObject(JsonParser parser, String what) throws JsonMappingException {
+    if (parser.currentToken() != JsonToken.START_OBJECT) {
+      throw JsonMappingException.from(parser, String.format("%s needs to be specified as an object.", what));
+    }
+  }
+
+  /**
+   * Reads an event object, i.e. its {@code name} and {@code specification}.
+   */
+  static EventImpl readEvent(JsonParser parser) throws IOException {
+    expectObject(parser, "An event");
+    String name = null;
+    String specification = null;
+    String property;
+    while ((property = nextProperty(parser)) != null) {
+      switch (property) {
+        case "name":
+          name = readText(parser);
+          break;
+        case "specification":
+          specification = readText(parser);
+          break;
+        default:
+          parser.skipChildren();
+      }
+    }
+    if (name == null || specification == null) {
+      throw JsonMappingException.from(parser, "An event needs a name and a specification.");
+    }
+    return new EventImpl(name, specification);
+  }
+}
@@ -1,13 +1,13 @@
 package restapi.psp_mapping.json_processing.custom_deserializers;
 
 import java.io.IOException;
-import java.util.*;
+import java.util.ArrayList;
 
 import com.fasterxml.jackson.core.JacksonException;
 import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
 import com.fasterxml.jackson.databind.DeserializationContext;
 import com.fasterxml.jackson.databind.JsonMappingException;
-import com.fasterxml.jackson.databind.JsonNode;
 import com.fasterxml.jackson.databind.deser.std.StdDeserializer;
 
 import psp.sel.EventImpl;
@@ -33,121 +33,194 @@ public class PatternDeserializer extends StdDeserializer<Pattern> {
 
   @Override
   public Pattern deserialize(JsonParser parser, DeserializationContext ctx) throws IOException, JacksonException {
-
-    JsonNode node = parser.getCodec().readTree(parser);
-    String type = node.get("type").asText();
-    EventImpl pEvent = new EventImpl(node.get("p_event").get("name").asText(),
-            node.get("p_event").get("specification").asText());
+    JsonTokens.expectObject(parser, "A pattern");
+    String type = null;
+    EventImpl pEvent = null;
     EventImpl sEvent = EventImpl.getDefault();
     ChainEvents chainEvents = new ChainEvents();
     ProbabilityBound probabilityBound = null;
-    TimeBound timeBound = null;
+    TimeBoundDefinition timeBound = null;
     EventConstraint constrainEvent = null;
     int upperLimit = 0;
     int frequency = 1;
     String timeUnit = "time units";
 
-    if(node.has("s_event")) {
-      String name = node.get("s_event").get("name").asText();
-      String specification = node.get("s_event").get("specification").asText();
-      sEvent = new EventImpl(name,specification);
+    String property;
+    while ((property = JsonTokens.nextProperty(parser)) != null) {
+      switch (property) {
+        case "type":
+          type = JsonTokens.readText(parser);
+          break;
+        case "p_event":
+          pEvent = JsonTokens.readEvent(parser);
+          break;
+        case "s_event":
+          sEvent = JsonTokens.readEvent(parser);
+          break;
+        case "chained_events":
+          chainEvents = readChainEvents(parser);
+          break;
+        case "pattern_specifications":
+          JsonTokens.expectObject(parser, "The pattern specifications");
+          String specificationsTimeUnit = null;
+          Integer specificationsUpperLimit = null;
+          Integer specificationsFrequency = null;
+          String specificationsProperty;
+          while ((specificationsProperty = JsonTokens.nextProperty(parser)) != null) {
+            switch (specificationsProperty) {
+              case "time_unit":
+                specificationsTimeUnit = JsonTokens.readText(parser);
+                break;
+              case "upper_limit":
+                specificationsUpperLimit = JsonTokens.readInt(parser);
+                break;
+              case "frequency":
+                specificationsFrequency = JsonTokens.readInt(parser);
+                break;
+              default:
+                parser.skipChildren();
+            }
+          }
+          if (specificationsTimeUnit == null || specificationsUpperLimit == null || specificationsFrequency == null) {
+            throw JsonMappingException.from(parser,
+                    "The pattern specifications need a time unit, an upper limit and a frequency.");
+          }
+          timeUnit = specificationsTimeUnit;
+          upperLimit = specificationsUpperLimit;
+          frequency = specificationsFrequency;
+          break;
+        case "pattern_constrains":
+          JsonTokens.expectObject(parser, "The pattern constrains");
+          String constrainsProperty;
+          while ((constrainsProperty = JsonTokens.nextProperty(parser)) != null) {
+            switch (constrainsProperty) {
+              case "time_bound":
+                timeBound = TimeBoundDefinition.read(parser);
+                break;
+              case "probability_bound":
+                probabilityBound = readProbabilityBound(parser);
+                break;
+              case "constrain_event":
+                constrainEvent = new EventConstraint(JsonTokens.readEvent(parser));
+                break;
+              default:
+                parser.skipChildren();
+            }
+          }
+          break;
+        default:
+          parser.skipChildren();
+      }
     }
 
-    if (node.has("chained_events")) {
-      JsonNode chainedEventsNode = node.get("chained_events");
-      chainEvents = buildChainEvents(parser, chainedEventsNode);
+    if (type == null || pEvent == null) {
+      throw JsonMappingException.from(parser, "A pattern needs a type and a p_event.");
     }
+    // The time bound refers to the p event, which may follow it in the request.
+    TimeBound patternTimeBound = timeBound == null ? null : timeBound.build(parser, pEvent);
 
+    return PatternFactory.getPattern(parser, type, pEvent, sEvent, chainEvents, probabilityBound,
+            patternTimeBound,constrainEvent, upperLimit, frequency, timeUnit);
+  }
 
-    if(node.has("pattern_specifications")) {
-      JsonNode specificationsNode = node.get("pattern_specifications");
-
-      timeUnit = specificationsNode.get("time_unit").asText();
-      upperLimit = specificationsNode.get("upper_limit").asInt();
-      frequency = specificationsNode.get("frequency").asInt();
+  private static ProbabilityBound readProbabilityBound(JsonParser parser) throws IOException {
+    JsonTokens.expectObject(parser, "A probability bound");
+    String type = null;
+    Double probability = null;
+    String property;
+    while ((property = JsonTokens.nextProperty(parser)) != null) {
+      switch (property) {
+        case "type":
+          type = JsonTokens.readText(parser);
+          break;
+        case "probability":
+          probability = JsonTokens.readDouble(parser);
+          break;
+        default:
+          parser.skipChildren();
+      }
     }
+    if (type == null || probability == null) {
+      throw JsonMappingException.from(parser, "A probability bound needs a type and a probability.");
+    }
+    return ProbabilityBoundFactory.getProbabilityBound(parser, type, probability);
+  }
 
-    if(node.has("pattern_constrains")) {
-      JsonNode constrainsNode = node.get("pattern_constrains");
-
-      if(constrainsNode.has("time_bound")) {
-        JsonNode timeBoundNode = constrainsNode.get("time_bound");
-        Long lowerTimeLimit = null;
-        Long upperTimeLimit = null;
-
-        if (timeBoundNode.has("lower_limit")) {
-          lowerTimeLimit = timeBoundNode.get("lower_limit").asLong();
-        }
-
-        if (timeBoundNode.has("upper_limit")) {
-          upperTimeLimit = timeBoundNode.get("upper_limit").asLong();
+  private static ChainEvents readChainEvents(JsonParser parser) throws IOException {
+    if (parser.currentToken() != JsonToken.START_ARRAY) {
+      throw JsonMappingException.from(parser, "The chained events need to be specified as an array.");
+    }
+    ArrayList<ChainEvent> listChainEvents = new ArrayList<>();
+    while (parser.nextToken() != JsonToken.END_ARRAY) {
+      JsonTokens.expectObject(parser, "A chained event");
+      EventImpl event = null;
+      EventImpl chainConstrainEvent = null;
+      TimeBoundDefinition chainTimeBound = null;
+      String property;
+      while ((property = JsonTokens.nextProperty(parser)) != null) {
+        switch (property) {
+          case "event":
+            event = JsonTokens.readEvent(parser);
+            break;
+          case "constrain_event":
+            chainConstrainEvent = JsonTokens.readEvent(parser);
+            break;
+          case "time_bound":
+            chainTimeBound = TimeBoundDefinition.read(parser);
+            break;
+          default:
+            parser.skipChildren();
         }
-
-        timeBound = TimeBoundFactory.getTimeBound(parser,timeBoundNode.get("type").asText(),
-                pEvent,
-                lowerTimeLimit,
-                upperTimeLimit,
-                timeBoundNode.get("time_unit").asText());
       }
-
-      if(constrainsNode.has("probability_bound")) {
-        JsonNode probabilityBoundNode = constrainsNode.get("probability_bound");
-
-        probabilityBound = ProbabilityBoundFactory.getProbabilityBound(parser, probabilityBoundNode.get("type").asText(),
-                probabilityBoundNode.get("probability").asDouble());
-
-      }
-
-      if(constrainsNode.has("constrain_event")) {
-        JsonNode eventConstrainNode = constrainsNode.get("constrain_event");
-        String name = eventConstrainNode.get("name").asText();
-        String specification = eventConstrainNode.get("specification").asText();
-
-        constrainEvent = new EventConstraint(new EventImpl(name,specification));
+      if (event == null) {
+        throw JsonMappingException.from(parser, "A chained event needs an event.");
       }
-
+      listChainEvents.add(new ChainEvent(event, chainConstrainEvent,
+              chainTimeBound == null ? null : chainTimeBound.build(parser, event)));
     }
-
-    return PatternFactory.getPattern(parser, type, pEvent, sEvent, chainEvents, probabilityBound,
-            timeBound,constrainEvent, upperLimit, frequency, timeUnit);
+    return new ChainEvents(listChainEvents);
   }
 
-  private ChainEvents buildChainEvents(JsonParser parser, JsonNode chainedEventsNode) throws JsonMappingException {
-    ArrayList<ChainEvent> listChainEvents = new ArrayList<>();
-      for (JsonNode jsonNode : chainedEventsNode) {
-          String name = jsonNode.get("event").get("name").asText();
-          String specification = jsonNode.get("event").get("specification").asText();
-          EventImpl event = new EventImpl(name, specification);
-          EventImpl chainConstrainEvent = null;
-          TimeBound chainTimeBound = null;
-
-          if (jsonNode.has("constrain_event")) {
-              chainConstrainEvent = new EventImpl(jsonNode.get("constrain_event").get("name").asText(),
-                      jsonNode.get("constrain_event").get("specification").asText());
-          }
-
-          if (jsonNode.has("time_bound")) {
-            Long lowerTimeLimit = null;
-            Long upperTimeLimit = null;
-
-            if (jsonNode.get("time_bound").has("lower_limit")) {
-              lowerTimeLimit = jsonNode.get("time_bound").get("lower_limit").asLong();
-            }
-
-            if (jsonNode.get("time_bound").has("upper_limit")) {
-              upperTimeLimit = jsonNode.get("time_bound").get("upper_limit").asLong();
-            }
-
-              chainTimeBound = TimeBoundFactory.getTimeBound(parser,jsonNode.get("time_bound").get("type").asText(),
-                      event,
-                      lowerTimeLimit,
-                      upperTimeLimit,
-                      jsonNode.get("time_bound").get("time_unit").asText());
-          }
-          ChainEvent chainEvent = new ChainEvent(event, chainConstrainEvent, chainTimeBound);
-          listChainEvents.add(chainEvent);
+  /**
+   * The raw values of a time bound. The bound is only built once the event it refers to is known.
+   */
+  private static final class TimeBoundDefinition {
+    private String type;
+    private String timeUnit;
+    private Long lowerTimeLimit;
+    private Long upperTimeLimit;
+
+    static TimeBoundDefinition read(JsonParser parser) throws IOException {
+      JsonTokens.expectObject(parser, "A time bound");
+      TimeBoundDefinition definition = new TimeBoundDefinition();
+      String property;
+      while ((property = JsonTokens.nextProperty(parser)) != null) {
+        switch (property) {
+          case "type":
+            definition.type = JsonTokens.readText(parser);
+            break;
+          case "time_unit":
+            definition.timeUnit = JsonTokens.readText(parser);
+            break;
+          case "lower_limit":
+            definition.lowerTimeLimit = JsonTokens.readLong(parser);
+            break;
+          case "upper_limit":
+            definition.upperTimeLimit = JsonTokens.readLong(parser);
+            break;
+          default:
+            parser.skipChildren();
+        }
+      }
+      if (definition.type == null || definition.timeUnit == null) {
+        throw JsonMappingException.from(parser, "A time bound needs a type and a time unit.");
       }
-      return new ChainEvents(listChainEvents);
+      return definition;
+    }
+
+    TimeBound build(JsonParser parser, EventImpl event) throws JsonMappingException {
+      return TimeBoundFactory.getTimeBound(parser, type, event, lowerTimeLimit, upperTimeLimit, timeUnit);
+    }
   }
 
 }
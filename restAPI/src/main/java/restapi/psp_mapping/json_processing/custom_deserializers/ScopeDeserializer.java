@@ -5,7 +5,7 @@ import java.io.IOException;
 import com.fasterxml.jackson.core.JacksonException;
 import com.fasterxml.jackson.core.JsonParser;
 import com.fasterxml.jackson.databind.DeserializationContext;
-import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.JsonMappingException;
 import com.fasterxml.jackson.databind.deser.std.StdDeserializer;
 
 import psp.sel.EventImpl;
@@ -25,24 +25,31 @@ public class ScopeDeserializer extends StdDeserializer<Scope> {
 
   @Override
   public Scope deserialize(JsonParser parser, DeserializationContext ctx) throws IOException, JacksonException {
-
-    JsonNode node = parser.getCodec().readTree(parser);
-    String type = node.get("type").asText();
+    JsonTokens.expectObject(parser, "A scope");
+    String type = null;
     EventImpl qEvent = null;
     EventImpl rEvent = null;
 
-    if(node.has("q_event")) {
-      String name = node.get("q_event").get("name").asText();
-      String specification = node.get("q_event").get("specification").asText();
-      qEvent = new EventImpl(name,specification);
+    String property;
+    while ((property = JsonTokens.nextProperty(parser)) != null) {
+      switch (property) {
+        case "type":
+          type = JsonTokens.readText(parser);
+          break;
+        case "q_event":
+          qEvent = JsonTokens.readEvent(parser);
+          break;
+        case "r_event":
+          rEvent = JsonTokens.readEvent(parser);
+          break;
+        default:
+          parser.skipChildren();
+      }
     }
 
-    if (node.has("r_event")) {
-      String name = node.get("r_event").get("name").asText();
-      String specification = node.get("r_event").get("specification").asText();
-      rEvent = new EventImpl(name,specification);
+    if (type == null) {
+      throw JsonMappingException.from(parser, "A scope needs a type.");
     }
-
     return ScopeFactory.getScope(parser,type,qEvent,rEvent);
   }
 
@@ -0,0 +1,56 @@
+package restapi.psp_mapping.json_processing.custom_deserializers;
+
+import java.io.IOException;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+import com.fasterxml.jackson.core.JacksonException;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+import com.fasterxml.jackson.databind.DeserializationContext;
+import com.fasterxml.jackson.databind.JsonMappingException;
+import com.fasterxml.jackson.databind.deser.std.StdDeserializer;
+
+import psp.mappings.PatternMapper;
+import restapi.psp_mapping.json_processing.MapperSupplier;
+import restapi.psp_mapping.json_processing.data_objects.TargetLogics;
+
+/**
+ * Reads the {@code target_logic} of a request: the name of a target logic, an array of names, or
+ * {@link MapperSupplier#ALL}. Names requested twice are mapped once.
+ */
+public class TargetLogicsDeserializer extends StdDeserializer<TargetLogics> {
+
+  private static final MapperSupplier supplier = new MapperSupplier();
+
+  public TargetLogicsDeserializer() {
+    this(null);
+  }
+
+  public TargetLogicsDeserializer(Class<?> vc) {
+    super(vc);
+  }
+
+  @Override
+  public TargetLogics deserialize(JsonParser parser, DeserializationContext ctx) throws IOException, JacksonException {
+    if (parser.currentToken() != JsonToken.START_ARRAY) {
+      String targetLogic = JsonTokens.readText(parser);
+      if (MapperSupplier.ALL.equals(targetLogic)) {
+        return new TargetLogics(supplier.supplyAllMappers(), true);
+      }
+      return new TargetLogics(Map.of(targetLogic, supplier.supplyMapper(parser, targetLogic)), false);
+    }
+
+    Map<String, PatternMapper> mappers = new LinkedHashMap<>();
+    while (parser.nextToken() != JsonToken.END_ARRAY) {
+      String targetLogic = JsonTokens.readText(parser);
+      mappers.put(targetLogic, supplier.supplyMapper(parser, targetLogic));
+    }
+    if (mappers.isEmpty()) {
+      throw JsonMappingException.from(parser, "No target logic requested");
+    }
+    return new TargetLogics(Collections.unmodifiableMap(mappers), true);
+  }
+
+}
@@ -0,0 +1,39 @@
+package restapi.psp_mapping.json_processing.custom_serializers;
+
+import java.io.IOException;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.SerializerProvider;
+import com.fasterxml.jackson.databind.ser.std.StdSerializer;
+
+import restapi.psp_mapping.json_processing.data_objects.PSPMappingResponse;
+
+
+/**
+ * Writes a mapping response as {@code {"payload": {...}, "type": "..."}}. The payload fields are written by the
+ * response itself, in a fixed order and without any intermediate map.
+ */
+public class PSPMappingResponseSerializer extends StdSerializer<PSPMappingResponse> {
+
+  public PSPMappingResponseSerializer() {
+    super(PSPMappingResponse.class);
+  }
+
+  @Override
+  public void serialize(PSPMappingResponse response, JsonGenerator generator, SerializerProvider provider)
+          throws IOException {
+    writeResponse(response, generator);
+  }
+
+  /**
+   * Writes a response as a JSON object, e.g. as the value of a field of an enclosing response.
+   */
+  public static void writeResponse(PSPMappingResponse response, JsonGenerator generator) throws IOException {
+    generator.writeStartObject();
+    generator.writeObjectFieldStart("payload");
+    response.writePayload(generator);
+    generator.writeEndObject();
+    generator.writeStringField("type", response.type());
+    generator.writeEndObject();
+  }
+}
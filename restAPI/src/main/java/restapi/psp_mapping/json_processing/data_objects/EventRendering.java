@@ -0,0 +1,35 @@
+package restapi.psp_mapping.json_processing.data_objects;
+
+import com.fasterxml.jackson.annotation.JsonProperty;
+import psp.sel.RenderingContext;
+
+import java.util.List;
+
+/**
+ * The {@code EventRendering} enum represents the {@code event_rendering} option of a mapping request.
+ * It determines the rendering contexts the mapping and the SEG are rendered for. All renderings of a request
+ * are produced from a single mapping.
+ */
+public enum EventRendering {
+    @JsonProperty("name")
+    NAME(List.of(RenderingContext.NAME)),
+    @JsonProperty("specification")
+    SPECIFICATION(List.of(RenderingContext.SPECIFICATION)),
+    @JsonProperty("name_and_specification")
+    NAME_AND_SPECIFICATION(List.of(RenderingContext.NAME_AND_SPECIFICATION)),
+    /**
+     * Renders events by name and, additionally, by specification.
+     */
+    @JsonProperty("both")
+    BOTH(List.of(RenderingContext.NAME, RenderingContext.SPECIFICATION));
+
+    private final List<RenderingContext> renderings;
+
+    EventRendering(List<RenderingContext> renderings) {
+        this.renderings = renderings;
+    }
+
+    public List<RenderingContext> getRenderings() {
+        return renderings;
+    }
+}
@@ -0,0 +1,27 @@
+package restapi.psp_mapping.json_processing.data_objects;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+
+import java.io.IOException;
+
+/**
+ * The {@code FormulaSizes} record reports how much the simplification of a mapping shrank the formula.
+ *
+ * @param original   The number of nodes of the formula before simplification.
+ * @param simplified The number of nodes of the simplified formula.
+ */
+public record FormulaSizes(int original, int simplified) {
+
+  /**
+   * Writes the sizes as a {@code formula_size} object field.
+   *
+   * @param generator The generator the payload of a response is written to.
+   * @throws IOException If writing fails.
+   */
+  public void writeField(JsonGenerator generator) throws IOException {
+    generator.writeObjectFieldStart("formula_size");
+    generator.writeNumberField("original", original);
+    generator.writeNumberField("simplified", simplified);
+    generator.writeEndObject();
+  }
+}
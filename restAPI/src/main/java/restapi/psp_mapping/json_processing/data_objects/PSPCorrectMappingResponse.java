@@ -1,31 +1,32 @@
 package restapi.psp_mapping.json_processing.data_objects;
 
-import com.fasterxml.jackson.core.JsonProcessingException;
-import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.core.JsonGenerator;
 
-import java.util.HashMap;
-import java.util.Map;
+import java.io.IOException;
 
 /**
- * The {@code PSPCorrectMappingResponse} class represents a correct response from a PSP mapping operation.
- * It implements the {@link PSPMappingResponse} interface and provides methods to retrieve the response type,
- * payload details, and convert the response to its JSON representation.
+ * The {@code PSPCorrectMappingResponse} record represents a correct response from a PSP mapping operation.
+ * Its payload contains the mapping and the SEG representation and, if events have also been rendered by
+ * their specifications, the mapping and the SEG representation of that rendering. If the mapping has been
+ * simplified, the payload reports the size of the formula before and after.
+ *
+ * @param seg                  The SEG (Structured English Grammar) representation.
+ * @param mapping              The mapped PSP (Pattern Specificity Pattern).
+ * @param segSpecification     The SEG representation, events rendered by their specifications, or {@code null}.
+ * @param mappingSpecification The mapped PSP, events rendered by their specifications, or {@code null}.
+ * @param formulaSizes         The size of the formula before and after simplification, or {@code null}.
  *
  * @author Aref El-Maarawi
  *
  */
-public class PSPCorrectMappingResponse implements PSPMappingResponse {
+public record PSPCorrectMappingResponse(String seg, String mapping, String segSpecification,
+                                        String mappingSpecification, FormulaSizes formulaSizes)
+        implements PSPMappingResponse {
 
   /**
    * The response type indicating a correct mapping response.
    */
-  private final String TYPE = "correct_response";
-
-  /**
-   * The payload containing mapping details and SEG representation.
-   */
-  private final Map<String, String> payload;
-
+  public static final String TYPE = "correct_response";
 
   /**
    * Constructs a new PSPCorrectMappingResponse with the provided SEG and mapped PSP details.
@@ -34,31 +35,37 @@ public class PSPCorrectMappingResponse implements PSPMappingResponse {
    * @param mappedPSP The mapped PSP (Pattern Specificity Pattern) details.
    */
   public PSPCorrectMappingResponse(String seg, String mappedPSP){
-    this.payload = new HashMap<>();
-    payload.put("mapping", mappedPSP);
-    payload.put("seg", seg);
-  }
-
-  public Map<String, String> getPayload() {
-    return payload;
+    this(seg, mappedPSP, null, null);
   }
 
-  public String getType() {
-    return TYPE;
+  /**
+   * Constructs a new PSPCorrectMappingResponse of a mapping that has not been simplified.
+   *
+   * @param seg                  The SEG (Structured English Grammar) representation.
+   * @param mapping              The mapped PSP (Pattern Specificity Pattern).
+   * @param segSpecification     The SEG representation, events rendered by their specifications, or {@code null}.
+   * @param mappingSpecification The mapped PSP, events rendered by their specifications, or {@code null}.
+   */
+  public PSPCorrectMappingResponse(String seg, String mapping, String segSpecification,
+                                   String mappingSpecification) {
+    this(seg, mapping, segSpecification, mappingSpecification, null);
   }
 
   @Override
-  public boolean equals(Object o) {
-    if (o == this)
-      return true;
-    if (!(o instanceof PSPCorrectMappingResponse))
-      return false;
-    PSPCorrectMappingResponse other = (PSPCorrectMappingResponse)o;
-    return this.payload.equals(other.getPayload());
+  public String type() {
+    return TYPE;
   }
 
   @Override
-  public String toJSON() throws JsonProcessingException {
-    return new ObjectMapper().writeValueAsString(this);
+  public void writePayload(JsonGenerator generator) throws IOException {
+    generator.writeStringField("mapping", mapping);
+    generator.writeStringField("seg", seg);
+    if (segSpecification != null || mappingSpecification != null) {
+      generator.writeStringField("mapping_specification", mappingSpecification);
+      generator.writeStringField("seg_specification", segSpecification);
+    }
+    if (formulaSizes != null) {
+      formulaSizes.writeField(generator);
+    }
   }
 }
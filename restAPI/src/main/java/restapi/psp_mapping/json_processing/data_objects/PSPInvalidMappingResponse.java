@@ -0,0 +1,32 @@
+package restapi.psp_mapping.json_processing.data_objects;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+
+import java.io.IOException;
+
+/**
+ *
+ * The {@code PSPInvalidMappingResponse} record represents the response to a PSP (Pattern Specificity Pattern)
+ * mapping request that could not be processed, e.g. because it does not conform to the JSON schema.
+ * It is used for the items of a batch mapping, where a single invalid request must not fail the whole batch.
+ * Its payload contains the error message.
+ *
+ * @param error The error message describing why the request could not be processed.
+ */
+public record PSPInvalidMappingResponse(String error) implements PSPMappingResponse {
+
+    /**
+     * The response type indicating an invalid mapping request.
+     */
+    public static final String TYPE = "invalid_request";
+
+    @Override
+    public String type() {
+        return TYPE;
+    }
+
+    @Override
+    public void writePayload(JsonGenerator generator) throws IOException {
+        generator.writeStringField("error", error);
+    }
+}
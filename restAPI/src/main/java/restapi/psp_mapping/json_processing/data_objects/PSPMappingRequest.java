@@ -7,13 +7,14 @@ import com.fasterxml.jackson.databind.annotation.JsonDeserialize;
 import psp.mappings.PatternMapper;
 import psp.sel.scopes.Scope;
 import psp.sel.patterns.Pattern;
-import restapi.psp_mapping.json_processing.custom_deserializers.MapperDeserializer;
 import restapi.psp_mapping.json_processing.custom_deserializers.PatternDeserializer;
 import restapi.psp_mapping.json_processing.custom_deserializers.ScopeDeserializer;
+import restapi.psp_mapping.json_processing.custom_deserializers.TargetLogicsDeserializer;
 
 /**
  * The {@code PSPMappingRequest} class represents a request for PSP (Pattern Specificity Pattern) mapping.
- * It contains information such as the scope, pattern, and target logic mapper for the mapping operation.
+ * It contains information such as the scope, pattern, and the target logic mappers for the mapping operation,
+ * and optionally how events are to be rendered and whether the mapping is to be simplified.
  *
  * @author Aref El-Maarawi
  *
@@ -24,8 +25,14 @@ public class PSPMappingRequest {
     private Scope scope;
     @JsonProperty("pattern") @JsonDeserialize(using = PatternDeserializer.class)
     private Pattern pattern;
-    @JsonProperty("target_logic") @JsonDeserialize(using = MapperDeserializer.class)
-    private PatternMapper mapper;
+    @JsonProperty("target_logic") @JsonDeserialize(using = TargetLogicsDeserializer.class)
+    private TargetLogics targetLogics;
+    @JsonProperty("event_rendering")
+    private EventRendering eventRendering = EventRendering.NAME;
+    @JsonProperty("simplify")
+    private boolean simplify;
+    @JsonProperty("define_subformulas")
+    private boolean defineSubformulas;
 
     public Scope getScope() {
         return scope;
@@ -35,8 +42,33 @@ public class PSPMappingRequest {
         return pattern;
     }
 
+    /**
+     * @return The mapper of the requested target logic, the first one if several have been requested.
+     */
     public PatternMapper getMapper() {
-        return mapper;
+        return targetLogics.getFirstMapper();
+    }
+
+    public TargetLogics getTargetLogics() {
+        return targetLogics;
+    }
+
+    public EventRendering getEventRendering() {
+        return eventRendering;
+    }
+
+    /**
+     * @return true if the mapping is to be simplified, the response then reports the formula size before and after
+     */
+    public boolean isSimplify() {
+        return simplify;
+    }
+
+    /**
+     * @return true if repeated subformulas of the mapping are to be factored out into named definitions
+     */
+    public boolean isDefineSubformulas() {
+        return defineSubformulas;
     }
 }
 
@@ -1,25 +1,77 @@
 package restapi.psp_mapping.json_processing.data_objects;
 
+import com.fasterxml.jackson.core.JsonGenerator;
 import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import com.fasterxml.jackson.databind.annotation.JsonSerialize;
+import restapi.psp_mapping.json_processing.custom_serializers.PSPMappingResponseSerializer;
+
+import java.io.IOException;
+import java.io.OutputStream;
 
 
 /**
  * The {@code PSPMappingResponse} interface represents the response from a mapping operation,
  * which maps a PSP request to some logical formalities, and a SEG (structured English grammar)
  * representation of the provided pattern.
- * Implementations of this interface should provide a method to convert the
- * response to a JSON representation.
+ * Responses are immutable. They are serialized by the {@link PSPMappingResponseSerializer}, either into a
+ * {@code String} or, as UTF-8, directly into an output stream.
  *
  * @author Aref El-Maarawi
  *
  */
+@JsonSerialize(using = PSPMappingResponseSerializer.class)
 public interface PSPMappingResponse {
 
+    /**
+     * Writer shared by all responses. It leaves the streams it writes to open, so that further responses
+     * can follow.
+     */
+    ObjectWriter JSON_WRITER = new ObjectMapper().disable(JsonGenerator.Feature.AUTO_CLOSE_TARGET)
+            .writerFor(PSPMappingResponse.class);
+
+    /**
+     * @return The type of the response, e.g. {@code correct_response}.
+     */
+    String type();
+
+    /**
+     * Writes the fields of the response payload, in a fixed order.
+     *
+     * @param generator The generator the payload object has been started on.
+     * @throws IOException If writing the fields fails.
+     */
+    void writePayload(JsonGenerator generator) throws IOException;
+
     /**
      * Converts the PSP mapping response to its JSON representation.
      *
      * @return A {@code String} containing the JSON representation of the PSP mapping response.
      * @throws JsonProcessingException If an error occurs during the JSON processing.
      */
-    String toJSON() throws JsonProcessingException;
+    default String toJSON() throws JsonProcessingException {
+        return JSON_WRITER.writeValueAsString(this);
+    }
+
+    /**
+     * Converts the PSP mapping response to its UTF-8 encoded JSON representation.
+     *
+     * @return The UTF-8 encoded JSON representation of the PSP mapping response.
+     * @throws JsonProcessingException If an error occurs during the JSON processing.
+     */
+    default byte[] toJSONBytes() throws JsonProcessingException {
+        return JSON_WRITER.writeValueAsBytes(this);
+    }
+
+    /**
+     * Writes the UTF-8 encoded JSON representation of the PSP mapping response to a stream.
+     * The stream is neither flushed nor closed.
+     *
+     * @param output The stream to write to.
+     * @throws IOException If writing to the stream fails.
+     */
+    default void writeJSON(OutputStream output) throws IOException {
+        JSON_WRITER.writeValue(output, this);
+    }
 }
@@ -0,0 +1,36 @@
+package restapi.psp_mapping.json_processing.data_objects;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import restapi.psp_mapping.json_processing.custom_serializers.PSPMappingResponseSerializer;
+
+import java.io.IOException;
+import java.util.Map;
+
+/**
+ * The {@code PSPMultiTargetMappingResponse} record represents the response to a request for several target
+ * logics. Its payload contains the response for each target logic, by the name of the target logic, in the
+ * requested order. All of them share the same SEG representation.
+ *
+ * @param responses The responses by the names of their target logics.
+ */
+public record PSPMultiTargetMappingResponse(Map<String, PSPMappingResponse> responses)
+        implements PSPMappingResponse {
+
+  /**
+   * The response type indicating the responses for several target logics.
+   */
+  public static final String TYPE = "multi_target_response";
+
+  @Override
+  public String type() {
+    return TYPE;
+  }
+
+  @Override
+  public void writePayload(JsonGenerator generator) throws IOException {
+    for (Map.Entry<String, PSPMappingResponse> response : responses.entrySet()) {
+      generator.writeFieldName(response.getKey());
+      PSPMappingResponseSerializer.writeResponse(response.getValue(), generator);
+    }
+  }
+}
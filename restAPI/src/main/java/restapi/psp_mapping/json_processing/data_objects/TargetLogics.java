@@ -0,0 +1,23 @@
+package restapi.psp_mapping.json_processing.data_objects;
+
+import psp.mappings.PatternMapper;
+
+import java.util.Map;
+
+/**
+ * The {@code TargetLogics} record represents the {@code target_logic} of a mapping request: either a single
+ * target logic or several, requested as an array or as {@code "all"}. Several target logics are answered with a
+ * {@link PSPMultiTargetMappingResponse}, even if the array only names one.
+ *
+ * @param mappers  The mappers of the requested target logics by their names, in the requested order.
+ * @param multiple Whether several target logics may have been requested.
+ */
+public record TargetLogics(Map<String, PatternMapper> mappers, boolean multiple) {
+
+  /**
+   * @return The mapper of the first requested target logic.
+   */
+  public PatternMapper getFirstMapper() {
+    return mappers.values().iterator().next();
+  }
+}
@@ -8,7 +8,13 @@ import com.github.fge.jsonschema.main.JsonSchema;
 import com.github.fge.jsonschema.core.report.ProcessingReport;
 import com.github.fge.jackson.JsonLoader;
 import com.github.fge.jsonschema.main.JsonSchemaFactory;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.core.io.ClassPathResource;
+import org.springframework.core.io.Resource;
+import org.springframework.stereotype.Component;
 
 import java.io.*;
 import java.nio.charset.StandardCharsets;
@@ -16,30 +22,122 @@ import java.nio.charset.StandardCharsets;
 /**
  * The {@code JSONRequestSchemaValidator} class is responsible for validating the JSON mapping request
  * against the predefined schema.
+ * The schema is loaded and compiled once and the compiled {@link JsonSchema} is shared by all request threads.
+ * It can be recompiled at runtime via {@link #reloadIfModified()}, see {@link JSONSchemaReloader}.
  *
  * @author Aref El-Maarawi
  */
-
+@Component
 public class JSONRequestSchemaValidator {
     private static final ObjectMapper mapper = new ObjectMapper();
 
+    private final Logger logger = LoggerFactory.getLogger(JSONRequestSchemaValidator.class);
+
+    /**
+     * The resource the schema is read from.
+     */
+    private final Resource schemaResource;
+
+    /**
+     * The compiled schema. Compiled schemas are immutable and thread-safe, a reload simply replaces the reference.
+     */
+    private volatile JsonSchema schema;
+
+    /**
+     * The modification timestamp of the schema resource at the time it was last compiled.
+     */
+    private volatile long schemaLastModified;
+
+    /**
+     * Constructs a validator for the schema bundled with the application.
+     *
+     * @throws IOException If the schema cannot be read.
+     * @throws ProcessingException If the schema cannot be compiled.
+     */
+    public JSONRequestSchemaValidator() throws IOException, ProcessingException {
+        this(new ClassPathResource("request_schema.json"));
+    }
+
+    /**
+     * Constructs a validator for the given schema resource.
+     *
+     * @param schemaResource The resource containing the JSON schema, configured by {@code psp.schema.location}.
+     * @throws IOException If the schema cannot be read.
+     * @throws ProcessingException If the schema cannot be compiled.
+     */
+    @Autowired
+    public JSONRequestSchemaValidator(@Value("${psp.schema.location:classpath:request_schema.json}")
+                                      Resource schemaResource) throws IOException, ProcessingException {
+        this.schemaResource = schemaResource;
+        this.schemaLastModified = lastModified();
+        this.schema = compileSchema();
+    }
 
     /**
      * Validates the given JSON input against a predefined schema.
      *
      * @param input The JSON input to be validated.
      * @return A {@code ProcessingReport} indicating the result of the validation.
-     * @throws IOException If an I/O error occurs while reading the JSON input or schema.
+     * @throws IOException If an I/O error occurs while reading the JSON input.
      * @throws ProcessingException If an error occurs during JSON schema processing.
      */
-    public static ProcessingReport validateSchema(String input) throws IOException, ProcessingException {
-        JsonNode json_request = mapper.readTree(input);
-        InputStream schema_stream = new ClassPathResource("request_schema.json").getInputStream();
-        final JsonNode fstabSchema = JsonLoader.fromReader(new InputStreamReader( schema_stream, StandardCharsets.UTF_8));
-        final JsonSchemaFactory factory = JsonSchemaFactory.byDefault();
-        final JsonSchema schema = factory.getJsonSchema(fstabSchema);
-        return schema.validate(json_request);
+    public ProcessingReport validateSchema(String input) throws IOException, ProcessingException {
+        return validate(mapper.readTree(input));
     }
 
+    /**
+     * Validates the given, already parsed, JSON request against a predefined schema.
+     *
+     * @param request The JSON request to be validated.
+     * @return A {@code ProcessingReport} indicating the result of the validation.
+     * @throws ProcessingException If an error occurs during JSON schema processing.
+     */
+    public ProcessingReport validate(JsonNode request) throws ProcessingException {
+        return schema.validate(request);
+    }
 
+    /**
+     * Recompiles the schema if its resource has been modified since it was last compiled.
+     * If the modified schema cannot be compiled, the previous schema stays in use.
+     *
+     * @return {@code true} if a modified schema has been compiled and is in use now.
+     */
+    public synchronized boolean reloadIfModified() {
+        long lastModified;
+        try {
+            lastModified = lastModified();
+        } catch (IOException e) {
+            logger.error("Unable to access the JSON schema: {}", e.getMessage());
+            return false;
+        }
+        if (lastModified == schemaLastModified) {
+            return false;
+        }
+        try {
+            schema = compileSchema();
+            schemaLastModified = lastModified;
+            logger.info("Reloaded the JSON schema from {}", schemaResource.getDescription());
+            return true;
+        } catch (IOException | ProcessingException e) {
+            logger.error("Unable to reload the JSON schema, keeping the previous one: {}", e.getMessage());
+            return false;
+        }
+    }
+
+    private JsonSchema compileSchema() throws IOException, ProcessingException {
+        try (InputStream schema_stream = schemaResource.getInputStream()) {
+            final JsonNode fstabSchema = JsonLoader.fromReader(new InputStreamReader(schema_stream, StandardCharsets.UTF_8));
+            final JsonSchemaFactory factory = JsonSchemaFactory.byDefault();
+            return factory.getJsonSchema(fstabSchema);
+        }
+    }
+
+    private long lastModified() throws IOException {
+        try {
+            return schemaResource.lastModified();
+        } catch (FileNotFoundException e) {
+            // resources packaged inside a jar do not expose a modification time and never change
+            return 0L;
+        }
+    }
 }
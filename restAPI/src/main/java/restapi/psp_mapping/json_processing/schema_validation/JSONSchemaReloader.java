@@ -0,0 +1,37 @@
+package restapi.psp_mapping.json_processing.schema_validation;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import restapi.psp_mapping.PSPResponseCache;
+
+/**
+ * The {@code JSONSchemaReloader} periodically checks whether the JSON schema used by the
+ * {@link JSONRequestSchemaValidator} has been modified and, if so, lets the validator recompile it.
+ * It is only active if {@code psp.schema.reload.enabled} is set to {@code true}; the check interval
+ * in milliseconds is configured by {@code psp.schema.reload.interval}.
+ * As a reloaded schema may reject requests that have been accepted before, the {@link PSPResponseCache}
+ * is cleared after every reload.
+ */
+@Component
+@ConditionalOnProperty(name = "psp.schema.reload.enabled", havingValue = "true")
+public class JSONSchemaReloader {
+
+    private final JSONRequestSchemaValidator validator;
+
+    private final PSPResponseCache responseCache;
+
+    @Autowired
+    public JSONSchemaReloader(JSONRequestSchemaValidator validator, PSPResponseCache responseCache) {
+        this.validator = validator;
+        this.responseCache = responseCache;
+    }
+
+    @Scheduled(fixedDelayString = "${psp.schema.reload.interval:5000}")
+    public void reloadSchema() {
+        if (validator.reloadIfModified()) {
+            responseCache.clear();
+        }
+    }
+}
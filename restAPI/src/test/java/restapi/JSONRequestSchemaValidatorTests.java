@@ -0,0 +1,83 @@
+package restapi;
+
+import com.github.fge.jsonschema.core.exceptions.ProcessingException;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.core.io.FileSystemResource;
+import restapi.psp_mapping.json_processing.schema_validation.JSONRequestSchemaValidator;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.attribute.FileTime;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class JSONRequestSchemaValidatorTests {
+
+    private static final String REQUEST = """
+            {
+                "scope": {
+                    "type": "Globally"
+                },
+                "pattern": {
+                    "type": "Universality",
+                    "p_event": {
+                        "name": "pEvent(p)",
+                        "specification": null
+                    }
+                },
+                "target_logic": "LTL"
+            }
+            """;
+
+    @Test
+    void validRequestShouldPassValidation() throws IOException, ProcessingException {
+        JSONRequestSchemaValidator validator = new JSONRequestSchemaValidator();
+        assertTrue(validator.validateSchema(REQUEST).isSuccess());
+    }
+
+    @Test
+    void requestWithUnknownTargetLogicShouldFailValidation() throws IOException, ProcessingException {
+        JSONRequestSchemaValidator validator = new JSONRequestSchemaValidator();
+        assertFalse(validator.validateSchema(REQUEST.replace("\"LTL\"", "\"CTL\"")).isSuccess());
+    }
+
+    @Test
+    void requestForSeveralTargetLogicsShouldPassValidation() throws IOException, ProcessingException {
+        JSONRequestSchemaValidator validator = new JSONRequestSchemaValidator();
+        assertTrue(validator.validateSchema(REQUEST.replace("\"LTL\"", "[\"LTL\", \"MTL\"]")).isSuccess());
+        assertTrue(validator.validateSchema(REQUEST.replace("\"LTL\"", "\"all\"")).isSuccess());
+        assertFalse(validator.validateSchema(REQUEST.replace("\"LTL\"", "[]")).isSuccess());
+        assertFalse(validator.validateSchema(REQUEST.replace("\"LTL\"", "[\"LTL\", \"CTL\"]")).isSuccess());
+    }
+
+    @Test
+    void modifiedSchemaShouldBeReloaded(@TempDir Path directory) throws IOException, ProcessingException {
+        Path schemaFile = directory.resolve("schema.json");
+        Files.writeString(schemaFile, "{\"type\": \"object\", \"required\": [\"scope\"]}");
+        JSONRequestSchemaValidator validator = new JSONRequestSchemaValidator(new FileSystemResource(schemaFile));
+
+        assertTrue(validator.validateSchema(REQUEST).isSuccess());
+        assertFalse(validator.reloadIfModified());
+
+        Files.writeString(schemaFile, "{\"type\": \"object\", \"required\": [\"unknown\"]}");
+        Files.setLastModifiedTime(schemaFile, FileTime.fromMillis(Files.getLastModifiedTime(schemaFile).toMillis() + 1000));
+
+        assertTrue(validator.reloadIfModified());
+        assertFalse(validator.validateSchema(REQUEST).isSuccess());
+    }
+
+    @Test
+    void invalidSchemaShouldNotReplaceCurrentSchema(@TempDir Path directory) throws IOException, ProcessingException {
+        Path schemaFile = directory.resolve("schema.json");
+        Files.writeString(schemaFile, "{\"type\": \"object\"}");
+        JSONRequestSchemaValidator validator = new JSONRequestSchemaValidator(new FileSystemResource(schemaFile));
+
+        Files.writeString(schemaFile, "{\"type\": ");
+        Files.setLastModifiedTime(schemaFile, FileTime.fromMillis(Files.getLastModifiedTime(schemaFile).toMillis() + 1000));
+
+        assertFalse(validator.reloadIfModified());
+        assertTrue(validator.validateSchema(REQUEST).isSuccess());
+    }
+}
@@ -0,0 +1,89 @@
+package restapi;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.github.fge.jsonschema.core.exceptions.ProcessingException;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import restapi.psp_mapping.PSPBatchMappingService;
+import restapi.psp_mapping.PSPMappingService;
+import restapi.psp_mapping.json_processing.data_objects.PSPCorrectMappingResponse;
+import restapi.psp_mapping.json_processing.data_objects.PSPInvalidMappingResponse;
+import restapi.psp_mapping.json_processing.data_objects.PSPMappingResponse;
+import restapi.psp_mapping.json_processing.data_objects.PSPUnsupportedMappingResponse;
+import restapi.psp_mapping.json_processing.schema_validation.JSONRequestSchemaValidator;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class PSPBatchMappingServiceTests {
+
+    private static final String REQUEST = """
+            {
+                "scope": {
+                    "type": "Globally"
+                },
+                "pattern": {
+                    "type": "Universality",
+                    "p_event": {
+                        "name": "pEvent(p)",
+                        "specification": null
+                    }
+                },
+                "target_logic": "%s"
+            }
+            """;
+
+    private final ObjectMapper mapper = new ObjectMapper();
+
+    private PSPBatchMappingService testedService;
+
+    @BeforeEach
+    void setup() throws IOException, ProcessingException {
+        testedService = new PSPBatchMappingService(new PSPMappingService(), new JSONRequestSchemaValidator());
+    }
+
+    @Test
+    void batchResponsesShouldKeepRequestOrder() throws IOException {
+        List<JsonNode> requests = new ArrayList<>();
+        requests.add(mapper.readTree(REQUEST.formatted("LTL")));
+        requests.add(mapper.readTree(REQUEST.formatted("Prism").replace("Universality", "BoundedExistence")));
+        requests.add(mapper.readTree(REQUEST.formatted("CTL")));
+        requests.add(mapper.readTree(REQUEST.formatted("LTL").replace("Universality", "Unknown")));
+
+        List<PSPMappingResponse> responses = testedService.mapPSPRequestsToTargetLogic(requests);
+
+        String expectedSeg = "Globally, it is always the case that {pEvent(p)} [holds].";
+        assertEquals(4, responses.size());
+        assertEquals(new PSPCorrectMappingResponse(expectedSeg, "☐ (pEvent(p))"), responses.get(0));
+        assertInstanceOf(PSPUnsupportedMappingResponse.class, responses.get(1));
+        assertEquals(new PSPInvalidMappingResponse("Bad request format. Please refer to the JSON schema definition."),
+                responses.get(2));
+        assertInstanceOf(PSPInvalidMappingResponse.class, responses.get(3));
+    }
+
+    @Test
+    void malformedRecordShouldNotAbortStream() throws IOException {
+        String records = mapper.readTree(REQUEST.formatted("LTL")).toString() + "\n"
+                + "{\"scope\": \n"
+                + "\n"
+                + mapper.readTree(REQUEST.formatted("LTL")).toString() + "\n";
+        ByteArrayOutputStream output = new ByteArrayOutputStream();
+
+        testedService.mapPSPRequestStream(new ByteArrayInputStream(records.getBytes(StandardCharsets.UTF_8)), output);
+
+        String[] responses = output.toString(StandardCharsets.UTF_8).split("\n");
+        String expected = new PSPCorrectMappingResponse(
+                "Globally, it is always the case that {pEvent(p)} [holds].", "☐ (pEvent(p))").toJSON();
+        assertEquals(3, responses.length);
+        assertEquals(expected, responses[0]);
+        assertEquals("invalid_request", mapper.readTree(responses[1]).get("type").asText());
+        assertEquals(expected, responses[2]);
+    }
+}
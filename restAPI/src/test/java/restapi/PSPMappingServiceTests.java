@@ -1,13 +1,22 @@
 package restapi;
 
 import com.fasterxml.jackson.databind.JsonMappingException;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import restapi.psp_mapping.PSPMappingService;
+import restapi.psp_mapping.json_processing.data_objects.FormulaSizes;
 import restapi.psp_mapping.json_processing.data_objects.PSPCorrectMappingResponse;
+import restapi.psp_mapping.json_processing.data_objects.PSPMappingResponse;
+import restapi.psp_mapping.json_processing.data_objects.PSPMultiTargetMappingResponse;
 import restapi.psp_mapping.json_processing.data_objects.PSPUnsupportedMappingResponse;
 
+import java.io.ByteArrayOutputStream;
 import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.Map;
 import static org.junit.jupiter.api.Assertions.*;
 
 public class PSPMappingServiceTests {
@@ -40,7 +49,7 @@ public class PSPMappingServiceTests {
         String expectedSeg = "Globally, it is always the case that {pEvent(p)} [holds].";
         String expectedMapping = "☐ (pEvent(p))";
         PSPCorrectMappingResponse expected = new PSPCorrectMappingResponse(expectedSeg, expectedMapping);
-        assertEquals(expected, testedService.mapPSPRequestToTargetLogic(request));
+        assertEquals(expected, testedService.mapPSPRequestToTargetLogic(request.getBytes(StandardCharsets.UTF_8)));
     }
 
     @Test()
@@ -63,7 +72,208 @@ public class PSPMappingServiceTests {
         String expectedSeg = "Globally, it is always the case that {pEvent(p)} [holds].";
         String expectedMapping = "☐ (pEvent(p))";
         PSPCorrectMappingResponse expected = new PSPCorrectMappingResponse(expectedSeg, expectedMapping);
-        assertEquals(expected, testedService.mapPSPRequestToTargetLogic(request));
+        assertEquals(expected, testedService.mapPSPRequestToTargetLogic(request.getBytes(StandardCharsets.UTF_8)));
+    }
+
+    @Test
+    void parsedRequestShouldBeMappedLikeSerializedRequest() throws IOException {
+        String request = """
+                {
+                    "scope": {
+                        "type": "BeforeR",
+                        "r_event": {
+                            "name": "rEvent",
+                            "specification": "rEventSpec"
+                        }
+                    },
+                    "pattern": {
+                        "type": "Absence",
+                        "p_event": {
+                            "name": "pEvent(p)",
+                            "specification": "pEventSpec"
+                        }
+                    },
+                    "target_logic": "MTL"
+                }
+                """;
+        JsonNode parsedRequest = new ObjectMapper().readTree(request);
+        assertEquals(testedService.mapPSPRequestToTargetLogic(request.getBytes(StandardCharsets.UTF_8)),
+                testedService.mapPSPRequestToTargetLogic(parsedRequest));
+    }
+
+    @Test
+    void bothEventRenderingsShouldBeDelivered() throws IOException {
+        String request = """
+                {
+                    "scope": {
+                        "type": "Globally"
+                    },
+                    "pattern": {
+                        "type": "Universality",
+                        "p_event": {
+                            "name": "pEvent(p)",
+                            "specification": "pEventSpec"
+                        }
+                    },
+                    "target_logic": "LTL",
+                    "event_rendering": "both"
+                }
+                """;
+        PSPCorrectMappingResponse expected = new PSPCorrectMappingResponse(
+                "Globally, it is always the case that {pEvent(p)} [holds].", "☐ (pEvent(p))",
+                "Globally, it is always the case that {pEventSpec} [holds].", "☐ (pEventSpec)");
+        assertEquals(expected, testedService.mapPSPRequestToTargetLogic(request.getBytes(StandardCharsets.UTF_8)));
+    }
+
+    @Test
+    void repeatedRequestShouldBeServedFromCache() throws IOException {
+        String request = """
+                {
+                    "scope": {
+                        "type": "Globally"
+                    },
+                    "pattern": {
+                        "type": "Universality",
+                        "p_event": {
+                            "name": "pEvent(p)",
+                            "specification": "%s"
+                        }
+                    },
+                    "target_logic": "LTL",
+                    "event_rendering": "specification"
+                }
+                """;
+        testedService.mapPSPRequestToTargetLogic(request.formatted("pEventSpec").getBytes(StandardCharsets.UTF_8));
+        PSPMappingResponse repeated = testedService.mapPSPRequestToTargetLogic(
+                request.formatted("pEventSpec").getBytes(StandardCharsets.UTF_8));
+        PSPMappingResponse changed = testedService.mapPSPRequestToTargetLogic(
+                request.formatted("otherSpec").getBytes(StandardCharsets.UTF_8));
+
+        assertEquals(new PSPCorrectMappingResponse("Globally, it is always the case that {pEventSpec} [holds].",
+                "☐ (pEventSpec)"), repeated);
+        assertEquals(new PSPCorrectMappingResponse("Globally, it is always the case that {otherSpec} [holds].",
+                "☐ (otherSpec)"), changed);
+        assertEquals(2, testedService.getMappingCache().getHitCount());
+        assertEquals(4, testedService.getMappingCache().getMissCount());
+    }
+
+    @Test
+    void simplifiedMappingShouldReportFormulaSize() throws IOException {
+        String request = """
+                {
+                    "scope": {
+                        "type": "Globally"
+                    },
+                    "pattern": {
+                        "type": "ResponseChain1N",
+                        "p_event": {"name": "p", "specification": null},
+                        "s_event": {"name": "s", "specification": null},
+                        "chained_events": [
+                            {"event": {"name": "t", "specification": null}}
+                        ],
+                        "pattern_constrains": {
+                            "constrain_event": {"name": "z", "specification": null}
+                        }
+                    },
+                    "target_logic": "Prism"%s
+                }
+                """;
+        PSPMappingResponse original = testedService.mapPSPRequestToTargetLogic(
+                request.formatted("").getBytes(StandardCharsets.UTF_8));
+        PSPMappingResponse simplified = testedService.mapPSPRequestToTargetLogic(
+                request.formatted(", \"simplify\": true").getBytes(StandardCharsets.UTF_8));
+
+        assertEquals("[ G((p) => (!(z) U ((s) & X(F ((t)))))) ]",
+                ((PSPCorrectMappingResponse) original).mapping());
+        assertNull(((PSPCorrectMappingResponse) original).formulaSizes());
+        assertEquals(new PSPCorrectMappingResponse(((PSPCorrectMappingResponse) original).seg(),
+                "[ G((p) => (!(z) U ((s) & X(F (t))))) ]", null, null, new FormulaSizes(18, 17)), simplified);
+        assertTrue(simplified.toJSON().contains("\"formula_size\":{\"original\":18,\"simplified\":17}"));
+    }
+
+    @Test
+    void severalTargetLogicsShouldBeMappedInOneRequest() throws IOException {
+        String request = """
+                {
+                    "scope": {
+                        "type": "Globally"
+                    },
+                    "pattern": {
+                        "type": "BoundedExistence",
+                        "p_event": {
+                            "name": "p",
+                            "specification": "pSpec"
+                        }
+                    },
+                    "target_logic": %s
+                }
+                """;
+        PSPMappingResponse response = testedService.mapPSPRequestToTargetLogic(
+                request.formatted("[\"Prism\", \"LTL\"]").getBytes(StandardCharsets.UTF_8));
+
+        Map<String, PSPMappingResponse> responses = ((PSPMultiTargetMappingResponse) response).responses();
+        assertEquals(List.of("Prism", "LTL"), List.copyOf(responses.keySet()));
+        assertEquals(testedService.mapPSPRequestToTargetLogic(
+                request.formatted("\"LTL\"").getBytes(StandardCharsets.UTF_8)), responses.get("LTL"));
+        assertInstanceOf(PSPUnsupportedMappingResponse.class, responses.get("Prism"));
+        assertTrue(response.toJSON().startsWith("{\"payload\":{\"Prism\":{\"payload\":{\"error\":"));
+
+        PSPMappingResponse all = testedService.mapPSPRequestToTargetLogic(
+                request.formatted("\"all\"").getBytes(StandardCharsets.UTF_8));
+        assertEquals(7, ((PSPMultiTargetMappingResponse) all).responses().size());
+        assertEquals(responses.get("LTL"), ((PSPMultiTargetMappingResponse) all).responses().get("LTL"));
+    }
+
+    @Test
+    void targetLogicsOfOneFamilyShouldBeMappedLikeSingleTargetLogics() throws IOException {
+        String request = """
+                {
+                    "scope": {
+                        "type": "AfterQ",
+                        "q_event": {
+                            "name": "q",
+                            "specification": "qSpec"
+                        }
+                    },
+                    "pattern": {
+                        "type": "Response",
+                        "p_event": {
+                            "name": "p",
+                            "specification": "pSpec"
+                        },
+                        "s_event": {
+                            "name": "s",
+                            "specification": "sSpec"
+                        },
+                        "pattern_constrains": {
+                            "time_bound": {"type": "Lower", "time_unit": "s", "lower_limit": 3}
+                        }
+                    },
+                    "target_logic": %s
+                }
+                """;
+        PSPMultiTargetMappingResponse response = (PSPMultiTargetMappingResponse) testedService
+                .mapPSPRequestToTargetLogic(request.formatted("\"all\"").getBytes(StandardCharsets.UTF_8));
+
+        PSPMappingService uncachedService = new PSPMappingService(0);
+        for (Map.Entry<String, PSPMappingResponse> target : response.responses().entrySet()) {
+            assertEquals(uncachedService.mapPSPRequestToTargetLogic(request.formatted("\"" + target.getKey() + "\"")
+                    .getBytes(StandardCharsets.UTF_8)), target.getValue(), target.getKey());
+        }
+    }
+
+    @Test
+    void responsesShouldBeSerializedInFixedFieldOrder() throws IOException {
+        PSPCorrectMappingResponse response = new PSPCorrectMappingResponse("seg", "mapping", "segSpec", "mappingSpec");
+        String expected = "{\"payload\":{\"mapping\":\"mapping\",\"seg\":\"seg\",\"mapping_specification\":"
+                + "\"mappingSpec\",\"seg_specification\":\"segSpec\"},\"type\":\"correct_response\"}";
+        ByteArrayOutputStream output = new ByteArrayOutputStream();
+        response.writeJSON(output);
+
+        assertEquals(expected, response.toJSON());
+        assertEquals(expected, output.toString(StandardCharsets.UTF_8));
+        assertEquals("{\"payload\":{\"error\":\"error\",\"seg\":\"seg\"},\"type\":\"unsupported_mapping\"}",
+                new PSPUnsupportedMappingResponse("error", "seg").toJSON());
     }
 
     @Test
@@ -86,14 +296,88 @@ public class PSPMappingServiceTests {
         String expectedSeg = "Globally, {pEvent(p)} [holds] at most 1 times.";
         String expectedErrorMessage = "Mapping not supported for Prism Property Specification.";
         PSPUnsupportedMappingResponse expected = new PSPUnsupportedMappingResponse(expectedErrorMessage,expectedSeg);
-        assertEquals(expected, testedService.mapPSPRequestToTargetLogic(request));
+        assertEquals(expected, testedService.mapPSPRequestToTargetLogic(request.getBytes(StandardCharsets.UTF_8)));
+    }
+
+    @Test
+    void durationsShouldNotBeSupportedByUntimedTargetLogics() throws IOException {
+        String request = """
+                {
+                    "scope": {
+                        "type": "Globally"
+                    },
+                    "pattern": {
+                        "type": "%s",
+                        "p_event": {
+                            "name": "p",
+                            "specification": "pSpec"
+                        },
+                        "pattern_specifications": {
+                            "time_unit": "s",
+                            "upper_limit": 4,
+                            "frequency": 1
+                        }
+                    },
+                    "target_logic": ["LTL", "TBV (untimed)", "MTL"]
+                }
+                """;
+        for (String type : List.of("MinimumDuration", "MaximumDuration")) {
+            Map<String, PSPMappingResponse> responses = ((PSPMultiTargetMappingResponse) testedService
+                    .mapPSPRequestToTargetLogic(request.formatted(type).getBytes(StandardCharsets.UTF_8))).responses();
+
+            assertEquals("Mapping not supported in Linear Temporal Logic.",
+                    assertInstanceOf(PSPUnsupportedMappingResponse.class, responses.get("LTL"), type).error());
+            assertEquals("Mapping not supported in Linear Temporal Logic.",
+                    assertInstanceOf(PSPUnsupportedMappingResponse.class, responses.get("TBV (untimed)"), type)
+                            .error());
+            assertInstanceOf(PSPCorrectMappingResponse.class, responses.get("MTL"), type);
+        }
+    }
+
+    @Test
+    void responseInvarianceAfterQUntilRShouldBeAlwaysTheCaseOnce() throws IOException {
+        String request = """
+                {
+                    "scope": {
+                        "type": "AfterQuntilR",
+                        "q_event": {
+                            "name": "q",
+                            "specification": "qSpec"
+                        },
+                        "r_event": {
+                            "name": "r",
+                            "specification": "rSpec"
+                        }
+                    },
+                    "pattern": {
+                        "type": "ResponseInvariance",
+                        "p_event": {
+                            "name": "p",
+                            "specification": "pSpec"
+                        },
+                        "s_event": {
+                            "name": "s",
+                            "specification": "sSpec"
+                        }
+                    },
+                    "target_logic": ["MTL", "TBV (timed)"]
+                }
+                """;
+        Map<String, PSPMappingResponse> responses = ((PSPMultiTargetMappingResponse) testedService
+                .mapPSPRequestToTargetLogic(request.getBytes(StandardCharsets.UTF_8))).responses();
+
+        assertEquals("☐(((q) ∧ ¬(r)) → (((p) → (☐ ((s) ∧ ¬(r)))) W (r)))",
+                ((PSPCorrectMappingResponse) responses.get("MTL")).mapping());
+        assertEquals("always(((q) and not (r)) -> ((((p) -> (always ((s) and not (r)))) since (r)) or "
+                + "always ((p) -> (always ((s) and not (r))))))",
+                ((PSPCorrectMappingResponse) responses.get("TBV (timed)")).mapping());
     }
 
 
     @Test
     void exceptionIsThrownOnEmptyInput() {
         String request = "";
-        assertThrows(IOException.class, () -> testedService.mapPSPRequestToTargetLogic(request));
+        assertThrows(IOException.class, () -> testedService.mapPSPRequestToTargetLogic(request.getBytes(StandardCharsets.UTF_8)));
     }
 
     @Test
@@ -113,7 +397,7 @@ public class PSPMappingServiceTests {
                     "target_logic": "Prism"
                 }
                 """;
-        assertThrows(JsonMappingException.class, () -> testedService.mapPSPRequestToTargetLogic(request));
+        assertThrows(JsonMappingException.class, () -> testedService.mapPSPRequestToTargetLogic(request.getBytes(StandardCharsets.UTF_8)));
     }
 
 }
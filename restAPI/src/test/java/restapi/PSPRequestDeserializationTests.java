@@ -0,0 +1,129 @@
+package restapi;
+
+import com.fasterxml.jackson.databind.JsonMappingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectReader;
+import org.junit.jupiter.api.Test;
+import psp.constraints.EventConstraint;
+import psp.constraints.GreaterThanEqualProbability;
+import psp.constraints.Interval;
+import psp.constraints.UpperTimeBound;
+import psp.sel.EventImpl;
+import psp.sel.patterns.order.ChainEvent;
+import psp.sel.patterns.order.ChainEvents;
+import psp.sel.patterns.order.ResponseChain1N;
+import psp.sel.scopes.AfterQuntilR;
+import restapi.psp_mapping.json_processing.data_objects.PSPMappingRequest;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class PSPRequestDeserializationTests {
+
+    private static final String REQUEST = """
+            {
+                "scope": {
+                    "type": "AfterQuntilR",
+                    "q_event": {"name": "q", "specification": "q holds"},
+                    "r_event": {"name": "r", "specification": null}
+                },
+                "pattern": {
+                    "type": "ResponseChain1N",
+                    "p_event": {"name": "p", "specification": null},
+                    "s_event": {"name": "s", "specification": null},
+                    "chained_events": [
+                        {"event": {"name": "t1", "specification": null}},
+                        {
+                            "event": {"name": "t2", "specification": null},
+                            "constrain_event": {"name": "c2", "specification": null},
+                            "time_bound": {"type": "Upper", "time_unit": "sec", "upper_limit": 4}
+                        }
+                    ],
+                    "pattern_specifications": {"time_unit": "sec", "upper_limit": 10, "frequency": 2},
+                    "pattern_constrains": {
+                        "time_bound": {"type": "Interval", "time_unit": "sec", "lower_limit": 2, "upper_limit": 7},
+                        "probability_bound": {"type": "GreaterEqual", "probability": 0.9},
+                        "constrain_event": {"name": "z", "specification": null}
+                    }
+                },
+                "target_logic": "LTL"
+            }
+            """;
+
+    // The same request with every object's properties in reverse order, so that the time bounds are read
+    // before the events they refer to, and with properties the deserializers do not know.
+    private static final String REORDERED_REQUEST = """
+            {
+                "target_logic": "LTL",
+                "pattern": {
+                    "pattern_constrains": {
+                        "constrain_event": {"specification": null, "name": "z"},
+                        "probability_bound": {"probability": 0.9, "type": "GreaterEqual"},
+                        "time_bound": {"upper_limit": 7, "lower_limit": 2, "time_unit": "sec", "type": "Interval"}
+                    },
+                    "pattern_specifications": {"frequency": 2, "upper_limit": 10, "time_unit": "sec"},
+                    "chained_events": [
+                        {"event": {"specification": null, "name": "t1"}, "comment": ["ignored", {"x": 1}]},
+                        {
+                            "time_bound": {"upper_limit": 4, "time_unit": "sec", "type": "Upper"},
+                            "constrain_event": {"specification": null, "name": "c2"},
+                            "event": {"specification": null, "name": "t2"}
+                        }
+                    ],
+                    "s_event": {"specification": null, "name": "s"},
+                    "p_event": {"specification": null, "name": "p"},
+                    "comment": {"nested": [1, 2, 3]},
+                    "type": "ResponseChain1N"
+                },
+                "scope": {
+                    "r_event": {"specification": null, "name": "r"},
+                    "q_event": {"specification": "q holds", "name": "q"},
+                    "type": "AfterQuntilR"
+                }
+            }
+            """;
+
+    private final ObjectReader requestReader = new ObjectMapper().readerFor(PSPMappingRequest.class);
+
+    @Test
+    void requestShouldBeDeserializedIntoTheSpecifiedScopeAndPattern() throws Exception {
+        PSPMappingRequest request = requestReader.readValue(REQUEST);
+
+        EventImpl p = new EventImpl("p", "null");
+        EventImpl t2 = new EventImpl("t2", "null");
+        ChainEvents chain = new ChainEvents(new ArrayList<>(List.of(
+                new ChainEvent(new EventImpl("t1", "null"), null, null),
+                new ChainEvent(t2, new EventImpl("c2", "null"), new UpperTimeBound(t2, 4, "sec")))));
+
+        assertEquals(new AfterQuntilR(new EventImpl("q", "q holds"), new EventImpl("r", "null")), request.getScope());
+        assertEquals(new ResponseChain1N(p, new EventImpl("s", "null"), chain, new Interval(p, 2, 7, "sec"),
+                new EventConstraint(new EventImpl("z", "null")), new GreaterThanEqualProbability(0.9)),
+                request.getPattern());
+    }
+
+    @Test
+    void propertyOrderShouldNotMatter() throws Exception {
+        PSPMappingRequest request = requestReader.readValue(REQUEST);
+        PSPMappingRequest reordered = requestReader.readValue(REORDERED_REQUEST);
+
+        assertEquals(request.getScope(), reordered.getScope());
+        assertEquals(request.getPattern(), reordered.getPattern());
+        assertEquals(request.getPattern().getSpecificationAsSEL(), reordered.getPattern().getSpecificationAsSEL());
+    }
+
+    @Test
+    void missingRequiredPropertiesShouldBeReported() {
+        String withoutPEvent = REQUEST.replace("\"p_event\": {\"name\": \"p\", \"specification\": null},", "");
+        String withoutTimeUnit = REQUEST.replace("\"type\": \"Upper\", \"time_unit\": \"sec\",", "\"type\": \"Upper\",");
+        String chainAsObject = """
+                {"scope": {"type": "Globally"}, "pattern": {"type": "ResponseChain1N",
+                 "p_event": {"name": "p", "specification": null}, "chained_events": {}}, "target_logic": "LTL"}
+                """;
+
+        assertThrows(JsonMappingException.class, () -> requestReader.readValue(withoutPEvent));
+        assertThrows(JsonMappingException.class, () -> requestReader.readValue(withoutTimeUnit));
+        assertThrows(JsonMappingException.class, () -> requestReader.readValue(chainAsObject));
+    }
+}
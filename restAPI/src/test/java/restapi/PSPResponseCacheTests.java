@@ -0,0 +1,118 @@
+package restapi;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.github.fge.jsonschema.core.exceptions.ProcessingException;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.core.task.support.TaskExecutorAdapter;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import restapi.psp_mapping.PSPBatchMappingService;
+import restapi.psp_mapping.PSPMappingController;
+import restapi.psp_mapping.PSPMappingService;
+import restapi.psp_mapping.PSPResponseCache;
+import restapi.psp_mapping.json_processing.schema_validation.JSONRequestSchemaValidator;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class PSPResponseCacheTests {
+
+    private static final String REQUEST = """
+            {
+                "scope": {
+                    "type": "Globally"
+                },
+                "pattern": {
+                    "type": "Universality",
+                    "p_event": {
+                        "name": "pEvent(p)",
+                        "specification": null
+                    }
+                },
+                "target_logic": "LTL"
+            }
+            """;
+
+    private static final String REORDERED_REQUEST = """
+            {"target_logic": "LTL", "pattern": {"p_event": {"specification": null, "name": "pEvent(p)"},
+             "type": "Universality"}, "scope": {"type": "Globally"}}
+            """;
+
+    private final ObjectMapper mapper = new ObjectMapper();
+
+    private PSPMappingService mappingService;
+
+    private PSPResponseCache responseCache;
+
+    private PSPMappingController testedController;
+
+    @BeforeEach
+    void setup() throws IOException, ProcessingException {
+        JSONRequestSchemaValidator validator = new JSONRequestSchemaValidator();
+        mappingService = new PSPMappingService();
+        responseCache = new PSPResponseCache();
+        testedController = new PSPMappingController(mappingService,
+                new PSPBatchMappingService(mappingService, validator), validator, responseCache,
+                new TaskExecutorAdapter(Runnable::run), PSPMappingController.DEFAULT_STREAM_TIMEOUT);
+    }
+
+    @Test
+    void normalizedRequestsShouldShareETag() throws IOException {
+        assertEquals(PSPResponseCache.eTag(mapper.readTree(REQUEST)),
+                PSPResponseCache.eTag(mapper.readTree(REORDERED_REQUEST)));
+        assertNotEquals(PSPResponseCache.eTag(mapper.readTree(REQUEST)),
+                PSPResponseCache.eTag(mapper.readTree(REQUEST.replace("LTL", "MTL"))));
+    }
+
+    @Test
+    void ifNoneMatchShouldAcceptListsAndWeakTags() {
+        assertTrue(PSPResponseCache.matches("\"a\", W/\"b\"", "\"b\""));
+        assertTrue(PSPResponseCache.matches("*", "\"b\""));
+        assertFalse(PSPResponseCache.matches("\"a\"", "\"b\""));
+        assertFalse(PSPResponseCache.matches(null, "\"b\""));
+    }
+
+    @Test
+    void repeatedRequestShouldBeAnsweredFromResponseCache() {
+        ResponseEntity<byte[]> first = testedController.handleDashboardRequest(bytes(REQUEST), null);
+        ResponseEntity<byte[]> repeated = testedController.handleDashboardRequest(bytes(REQUEST), null);
+        ResponseEntity<byte[]> reordered = testedController.handleDashboardRequest(bytes(REORDERED_REQUEST), null);
+
+        assertEquals(HttpStatus.OK, first.getStatusCode());
+        assertNotNull(first.getHeaders().getETag());
+        assertSame(first.getBody(), repeated.getBody());
+        assertSame(first.getBody(), reordered.getBody());
+        assertEquals(first.getHeaders().getETag(), reordered.getHeaders().getETag());
+        // the mapping service has only been asked once, for the SEG and the LTL mapping
+        assertEquals(2, mappingService.getMappingCache().getMissCount());
+        assertEquals(0, mappingService.getMappingCache().getHitCount());
+    }
+
+    @Test
+    void matchingETagShouldYieldNotModified() {
+        String eTag = testedController.handleDashboardRequest(bytes(REQUEST), null).getHeaders().getETag();
+
+        ResponseEntity<byte[]> notModified = testedController.handleDashboardRequest(bytes(REQUEST), eTag);
+        ResponseEntity<byte[]> modified = testedController.handleDashboardRequest(bytes(REQUEST), "\"outdated\"");
+
+        assertEquals(HttpStatus.NOT_MODIFIED, notModified.getStatusCode());
+        assertEquals(eTag, notModified.getHeaders().getETag());
+        assertNull(notModified.getBody());
+        assertEquals(HttpStatus.OK, modified.getStatusCode());
+    }
+
+    @Test
+    void invalidRequestShouldNotBeCached() {
+        String invalid = REQUEST.replace("LTL", "CTL");
+
+        assertEquals(HttpStatus.BAD_REQUEST, testedController.handleDashboardRequest(bytes(invalid), null).getStatusCode());
+        assertEquals(0, responseCache.size());
+    }
+
+    private static byte[] bytes(String request) {
+        return request.getBytes(StandardCharsets.UTF_8);
+    }
+}
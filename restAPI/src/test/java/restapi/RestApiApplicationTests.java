@@ -1,13 +1,47 @@
 package restapi;
 
 import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
 import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.MediaType;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.asyncDispatch;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.request;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
 
 @SpringBootTest
+@AutoConfigureMockMvc
 class RestApiApplicationTests {
 
+    private static final String RECORD = "{\"scope\": {\"type\": \"Globally\"}, \"pattern\": {\"type\": \"Universality\", "
+            + "\"p_event\": {\"name\": \"p\", \"specification\": null}}, \"target_logic\": \"LTL\"}";
+
+    @Autowired
+    private MockMvc mockMvc;
+
     @Test
     void contextLoads() {
     }
 
+    @Test
+    void streamedMappingsShouldHaveNoTimeout() throws Exception {
+        MvcResult result = mockMvc.perform(post("/transformPatterns/stream")
+                        .contentType(MediaType.APPLICATION_NDJSON)
+                        .content(RECORD + "\n" + RECORD + "\n"))
+                .andExpect(request().asyncStarted())
+                .andReturn();
+        // the emitter disables the timeout of the streaming endpoint only
+        assertEquals(-1L, result.getRequest().getAsyncContext().getTimeout());
+
+        String responses = mockMvc.perform(asyncDispatch(result))
+                .andExpect(status().isOk())
+                .andReturn().getResponse().getContentAsString();
+        assertEquals(2, responses.lines().count());
+        assertTrue(responses.lines().allMatch(line -> line.contains("\"mapping\"")), responses);
+    }
 }
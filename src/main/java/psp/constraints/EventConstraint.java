@@ -38,8 +38,10 @@
 
 package psp.constraints;
 
+import java.util.Objects;
 import psp.engine.PSPConstants;
 import psp.sel.EventImpl;
+import psp.sel.RenderingContext;
 
 public class EventConstraint extends PSPConstraint
 {
@@ -84,15 +86,35 @@ public class EventConstraint extends PSPConstraint
     }
 
     public String getSpecificationAsSEL()
+    {
+        return getSpecificationAsSEL( RenderingContext.NAME );
+    }
+
+    public String getSpecificationAsSEL( RenderingContext aContext )
     {
         StringBuilder sb = new StringBuilder();
         
         sb.append( "without " );
-        sb.append( fEvent.getAsSELEvent() );
+        sb.append( fEvent.getAsSELEvent( aContext ) );
         
         sb.append( " [holding]" );
         sb.append( " in between" );
         
         return sb.toString();
     }
+
+    public boolean equals( Object aOther )
+    {
+        if ( !super.equals( aOther ) )
+            return false;
+
+        EventConstraint lOther = (EventConstraint)aOther;
+
+        return EventImpl.equalValues( fEvent, lOther.fEvent );
+    }
+
+    public int hashCode()
+    {
+        return Objects.hash( super.hashCode(), EventImpl.valueHashCode( fEvent ) );
+    }
 }
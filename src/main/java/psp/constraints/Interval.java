@@ -38,6 +38,7 @@
 
 package psp.constraints;
 
+import java.util.Objects;
 import psp.engine.PSPConstants;
 import psp.sel.EventImpl;
 
@@ -85,4 +86,19 @@ public class Interval extends TimeBound
         
         return sb.toString();
     }
+
+    public boolean equals( Object aOther )
+    {
+        if ( !super.equals( aOther ) )
+            return false;
+
+        Interval lOther = (Interval)aOther;
+
+        return fLowerLimit == lOther.fLowerLimit && fUpperLimit == lOther.fUpperLimit;
+    }
+
+    public int hashCode()
+    {
+        return Objects.hash( super.hashCode(), fLowerLimit, fUpperLimit );
+    }
 }
@@ -38,6 +38,7 @@
 
 package psp.constraints;
 
+import java.util.Objects;
 import psp.engine.PSPConstants;
 import psp.sel.EventImpl;
 
@@ -73,4 +74,19 @@ public class LowerTimeBound extends TimeBound
         
         return sb.toString();
     }
+
+    public boolean equals( Object aOther )
+    {
+        if ( !super.equals( aOther ) )
+            return false;
+
+        LowerTimeBound lOther = (LowerTimeBound)aOther;
+
+        return fLowerLimit == lOther.fLowerLimit;
+    }
+
+    public int hashCode()
+    {
+        return Objects.hash( super.hashCode(), fLowerLimit );
+    }
 }
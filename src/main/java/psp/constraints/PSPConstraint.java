@@ -38,6 +38,8 @@
 
 package psp.constraints;
 
+import psp.sel.RenderingContext;
+
 public abstract class PSPConstraint 
 {
     public abstract int getConstraintCategory();
@@ -45,9 +47,30 @@ public abstract class PSPConstraint
     public abstract int getType();
 
     public abstract String getSpecificationAsSEL();
+
+    // only constraints referring to events depend on the rendering context
+    public String getSpecificationAsSEL( RenderingContext aContext )
+    {
+        return getSpecificationAsSEL();
+    }
         
     public String toString()
     {
         return getSpecificationAsSEL();
     }    
+
+    public boolean equals( Object aOther )
+    {
+        if ( this == aOther )
+            return true;
+        if ( aOther == null || getClass() != aOther.getClass() )
+            return false;
+
+        return true;
+    }
+
+    public int hashCode()
+    {
+        return getType();
+    }
 }
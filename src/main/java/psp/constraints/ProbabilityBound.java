@@ -38,6 +38,7 @@
 
 package psp.constraints;
 
+import java.util.Objects;
 import psp.engine.PSPConstants;
 
 public abstract class ProbabilityBound extends PSPConstraint
@@ -68,4 +69,19 @@ public abstract class ProbabilityBound extends PSPConstraint
     {
         return "with";
     }
+
+    public boolean equals( Object aOther )
+    {
+        if ( !super.equals( aOther ) )
+            return false;
+
+        ProbabilityBound lOther = (ProbabilityBound)aOther;
+
+        return Double.compare( fProbability, lOther.fProbability ) == 0;
+    }
+
+    public int hashCode()
+    {
+        return Objects.hash( super.hashCode(), fProbability );
+    }
 }
@@ -38,6 +38,7 @@
 
 package psp.constraints;
 
+import java.util.Objects;
 import psp.engine.PSPConstants;
 import psp.sel.EventImpl;
 
@@ -80,4 +81,20 @@ public abstract class TimeBound extends PSPConstraint
     {
         return PSPConstants.C_Time;
     }
+
+    public boolean equals( Object aOther )
+    {
+        if ( !super.equals( aOther ) )
+            return false;
+
+        TimeBound lOther = (TimeBound)aOther;
+
+        return EventImpl.equalValues( fTimedEvent, lOther.fTimedEvent )
+            && Objects.equals( fTimeUnit, lOther.fTimeUnit );
+    }
+
+    public int hashCode()
+    {
+        return Objects.hash( super.hashCode(), EventImpl.valueHashCode( fTimedEvent ), fTimeUnit );
+    }
 }
@@ -38,6 +38,7 @@
 
 package psp.constraints;
 
+import java.util.Objects;
 import psp.engine.PSPConstants;
 import psp.sel.EventImpl;
 
@@ -76,4 +77,19 @@ public class UpperTimeBound extends TimeBound
         
         return sb.toString();
     }
+
+    public boolean equals( Object aOther )
+    {
+        if ( !super.equals( aOther ) )
+            return false;
+
+        UpperTimeBound lOther = (UpperTimeBound)aOther;
+
+        return fUpperLimit == lOther.fUpperLimit;
+    }
+
+    public int hashCode()
+    {
+        return Objects.hash( super.hashCode(), fUpperLimit );
+    }
 }
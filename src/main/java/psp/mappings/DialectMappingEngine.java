@@ -0,0 +1,115 @@
+package psp.mappings;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+
+import psp.mappings.elements.Element;
+import psp.sel.RenderingContext;
+import psp.sel.patterns.Pattern;
+import psp.sel.scopes.Scope;
+
+/**
+ * Maps a scope and a pattern to several mappers at once, mapping only once per logic family. The mappers of a
+ * family, see {@link GenericMapper#getFamilyMapper()}, only differ in their tokens and in how they rewrite and
+ * format the mapping, e.g. the {@link UntimedTBVMapper} and the {@link LTLMapper}. The elements of the family
+ * mapper are rendered for each member by swapping the tokens, before the postprocessors and formatters of the
+ * member are applied. The results are the same as those of {@link GenericMapper#map(Scope, Pattern, List)},
+ * which remains the reference.
+ * <p>
+ * The families are mapped in parallel, in the common fork-join pool. The engine keeps the tokens of the members
+ * it rendered, comparing mappers by identity like the {@link MappingCache}, and is safe for concurrent use.
+ */
+public final class DialectMappingEngine {
+    /**
+     * Number of pairs of family mappers and members whose tokens are kept. Once it is reached, the tokens of
+     * further pairs are looked up for every mapping.
+     */
+    private static final int MAXIMUM_CACHED_DIALECTS = 64;
+
+    private record Dialect(GenericMapper familyMapper, GenericMapper member) {
+    }
+
+    private final Map<Dialect, DialectTokens> dialects = new ConcurrentHashMap<>();
+    private final LongAdder familyMappings = new LongAdder();
+
+    /**
+     * @return the results of each of the mappers, in the order of the mappers, one for each rendering
+     */
+    public Map<GenericMapper, List<MappingResult>> map(final List<? extends GenericMapper> mappers,
+        final Scope scope, final Pattern pattern, final List<RenderingContext> renderings) {
+        // family mappers of the same class map alike, a requested one is preferred as its mapping needs no swap
+        final Map<Class<?>, GenericMapper> familyMappers = new LinkedHashMap<>();
+        final Map<Class<?>, List<GenericMapper>> families = new LinkedHashMap<>();
+        for (final GenericMapper mapper : mappers) {
+            final GenericMapper familyMapper = mapper.getFamilyMapper();
+            if (familyMapper == mapper || !familyMappers.containsKey(familyMapper.getClass())) {
+                familyMappers.put(familyMapper.getClass(), familyMapper);
+            }
+            families.computeIfAbsent(familyMapper.getClass(), family -> new ArrayList<>()).add(mapper);
+        }
+
+        final Map<GenericMapper, List<MappingResult>> results = new LinkedHashMap<>();
+        for (final GenericMapper mapper : mappers) {
+            results.put(mapper, null);
+        }
+        // the families share nothing but the tokens, so they are mapped in parallel
+        final List<Map<GenericMapper, List<MappingResult>>> mapped = List.copyOf(families.entrySet()).parallelStream()
+            .map(family -> map(familyMappers.get(family.getKey()), family.getValue(), scope, pattern, renderings))
+            .toList();
+        for (final Map<GenericMapper, List<MappingResult>> family : mapped) {
+            results.putAll(family);
+        }
+        return results;
+    }
+
+    /**
+     * Maps the scope and the pattern once with the family mapper and renders the mapping for each member.
+     */
+    private Map<GenericMapper, List<MappingResult>> map(final GenericMapper familyMapper,
+        final List<GenericMapper> members, final Scope scope, final Pattern pattern,
+        final List<RenderingContext> renderings) {
+        familyMappings.increment();
+        final MappingContext context = new MappingContext();
+        final List<Element> elements = familyMapper.mapToElements(scope, pattern, context);
+        final Map<GenericMapper, List<MappingResult>> results = new LinkedHashMap<>();
+        for (final GenericMapper member : members) {
+            final List<Element> memberElements = member == familyMapper ? elements
+                : tokens(familyMapper, member).translate(elements);
+            results.put(member, render(member, member.process(memberElements), renderings,
+                context.hasMappingErrorOccurred()));
+        }
+        return results;
+    }
+
+    private DialectTokens tokens(final GenericMapper familyMapper, final GenericMapper member) {
+        final Dialect dialect = new Dialect(familyMapper, member);
+        DialectTokens tokens = dialects.get(dialect);
+        if (tokens == null) {
+            tokens = DialectTokens.of(familyMapper, member);
+            if (dialects.size() < MAXIMUM_CACHED_DIALECTS) {
+                dialects.put(dialect, tokens);
+            }
+        }
+        return tokens;
+    }
+
+    private static List<MappingResult> render(final GenericMapper mapper, final List<Element> elements,
+        final List<RenderingContext> renderings, final boolean mappingError) {
+        final List<MappingResult> results = new ArrayList<>(renderings.size());
+        for (final RenderingContext rendering : renderings) {
+            results.add(new MappingResult(mapper.format(mapper.mapToString(elements, rendering)), mappingError));
+        }
+        return results;
+    }
+
+    /**
+     * @return the number of times a family mapper mapped a scope and a pattern
+     */
+    public long getFamilyMappingCount() {
+        return familyMappings.sum();
+    }
+}
@@ -0,0 +1,147 @@
+package psp.mappings;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+import psp.mappings.elements.AlwaysElement;
+import psp.mappings.elements.AndElement;
+import psp.mappings.elements.Element;
+import psp.mappings.elements.EventuallyElement;
+import psp.mappings.elements.ImplicationElement;
+import psp.mappings.elements.NegatedEventElement;
+import psp.mappings.elements.NextElement;
+import psp.mappings.elements.NotElement;
+import psp.mappings.elements.OrElement;
+import psp.mappings.elements.TimeBoundElement;
+import psp.mappings.elements.UntilElement;
+import psp.mappings.elements.WeakUntilElement;
+
+/**
+ * Swaps the tokens of the family mapper of a logic family for those of one of its members: the operators of its
+ * {@link LanguageDefinitions}, and the brackets of its {@link TimeLanguageDefinitions} together with the
+ * infinity of time bounds. Every other element is shared by all members of the family.
+ * <p>
+ * Time bounds are translated once and remembered, as a family maps the same time bounds over and over again.
+ */
+final class DialectTokens {
+    /**
+     * Number of translated time bounds that are remembered, see {@link TimeBoundElement}.
+     */
+    private static final int MAXIMUM_CACHED_TIME_BOUNDS = 4096;
+
+    private final LanguageDefinitions from;
+    private final LanguageDefinitions to;
+    private final TimeLanguageDefinitions fromTime;
+    private final TimeLanguageDefinitions toTime;
+    private final Map<TimeBoundElement, TimeBoundElement> timeBounds = new ConcurrentHashMap<>();
+
+    private DialectTokens(final LanguageDefinitions from, final LanguageDefinitions to,
+        final TimeLanguageDefinitions fromTime, final TimeLanguageDefinitions toTime) {
+        this.from = from;
+        this.to = to;
+        this.fromTime = fromTime;
+        this.toTime = toTime;
+    }
+
+    /**
+     * @throws IllegalArgumentException if the time bounds of the family mapper cannot be told apart, or only one
+     *         of the mappers renders time bounds
+     */
+    static DialectTokens of(final GenericMapper family, final GenericMapper dialect) {
+        if (!(family instanceof MTLSupport) && !(dialect instanceof MTLSupport)) {
+            return new DialectTokens(family.getLanguageDefinitions(), dialect.getLanguageDefinitions(), null, null);
+        }
+        if (!(family instanceof MTLSupport) || !(dialect instanceof MTLSupport)) {
+            throw new IllegalArgumentException(dialect + " and " + family + " do not share their time bounds.");
+        }
+        final TimeLanguageDefinitions fromTime = ((MTLSupport) family).getTimeLanguageDefinitions();
+        if (fromTime.getDefaultEndTimeBoundBracket().equals(fromTime.getInfinityEndTimeBoundBracket())) {
+            throw new IllegalArgumentException(family + " does not tell bounded from unbounded time bounds.");
+        }
+        return new DialectTokens(family.getLanguageDefinitions(), dialect.getLanguageDefinitions(), fromTime,
+            ((MTLSupport) dialect).getTimeLanguageDefinitions());
+    }
+
+    List<Element> translate(final List<Element> elements) {
+        final List<Element> translated = new ArrayList<>(elements.size());
+        for (final Element element : elements) {
+            translated.add(translate(element));
+        }
+        return translated;
+    }
+
+    private Element translate(final Element element) {
+        if (element instanceof AlwaysElement) {
+            return to.getAlways();
+        } else if (element instanceof EventuallyElement) {
+            return to.getEventually();
+        } else if (element instanceof NextElement) {
+            return to.getNext();
+        } else if (element instanceof ImplicationElement) {
+            return to.getImplication();
+        } else if (element instanceof NotElement) {
+            return to.getNot();
+        } else if (element instanceof AndElement) {
+            return to.getAnd();
+        } else if (element instanceof OrElement) {
+            return to.getOr();
+        } else if (element instanceof UntilElement) {
+            return to.getUntil();
+        } else if (element instanceof WeakUntilElement) {
+            return to.getWeakUntil();
+        } else if (element instanceof NegatedEventElement) {
+            return new NegatedEventElement(to.getNot(), ((NegatedEventElement) element).getEvent());
+        } else if ((element instanceof TimeBoundElement) && fromTime != null) {
+            return timeBound((TimeBoundElement) element);
+        }
+        return element;
+    }
+
+    private TimeBoundElement timeBound(final TimeBoundElement bound) {
+        TimeBoundElement translated = timeBounds.get(bound);
+        if (translated == null) {
+            translated = TimeBoundElement.of(timeBound(bound.getContent()));
+            if (timeBounds.size() < MAXIMUM_CACHED_TIME_BOUNDS) {
+                timeBounds.put(bound, translated);
+            }
+        }
+        return translated;
+    }
+
+    /**
+     * Time bounds are rendered as {@code [lower,upper]}, where the closing bracket tells whether the upper limit
+     * is infinite, and either limit may be the infinity of the language.
+     */
+    private String timeBound(final String bound) {
+        if (bound.isEmpty()) {
+            return bound;
+        }
+        final String start = fromTime.getDefaultStartTimeBoundBracket();
+        final String end;
+        final String translatedEnd;
+        if (bound.endsWith(fromTime.getDefaultEndTimeBoundBracket())) {
+            end = fromTime.getDefaultEndTimeBoundBracket();
+            translatedEnd = toTime.getDefaultEndTimeBoundBracket();
+        } else if (bound.endsWith(fromTime.getInfinityEndTimeBoundBracket())) {
+            end = fromTime.getInfinityEndTimeBoundBracket();
+            translatedEnd = toTime.getInfinityEndTimeBoundBracket();
+        } else {
+            throw new IllegalStateException(String.format("Found unexpected time bound %s.", bound));
+        }
+        if (!bound.startsWith(start) || bound.length() < start.length() + end.length()) {
+            throw new IllegalStateException(String.format("Found unexpected time bound %s.", bound));
+        }
+
+        final StringBuilder sb = new StringBuilder(toTime.getDefaultStartTimeBoundBracket());
+        final String[] limits = bound.substring(start.length(), bound.length() - end.length()).split(",", -1);
+        for (int i = 0; i < limits.length; i++) {
+            if (i > 0) {
+                sb.append(',');
+            }
+            sb.append(limits[i].equals(from.getInf()) ? to.getInf() : limits[i]);
+        }
+        return sb.append(translatedEnd).toString();
+    }
+}
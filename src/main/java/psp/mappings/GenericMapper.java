@@ -38,6 +38,7 @@
 
 package psp.mappings;
 
+import java.io.IOException;
 import java.util.ArrayList;
 import java.util.List;
 import java.util.Objects;
@@ -46,34 +47,62 @@ import psp.constraints.Interval;
 import psp.constraints.ProbabilityBound;
 import psp.constraints.TimeBound;
 import psp.mappings.elements.Element;
+import psp.mappings.elements.ElementSink;
+import psp.mappings.elements.ErrorElement;
+import psp.mappings.elements.MiscElement;
+import psp.mappings.formula.Formula;
+import psp.mappings.formula.FormulaFactory;
+import psp.mappings.formula.FormulaPrinter;
+import psp.mappings.formula.FormulaReader;
+import psp.mappings.formula.Group;
+import psp.mappings.formula.Simplifier;
+import psp.mappings.formula.SubformulaDefinitions;
+import psp.mappings.formula.SubformulaDefinitions.Definition;
 import psp.mappings.postprocessing.MappingPostprocessor;
 import psp.mappings.postprocessing.PatternFormatter;
 import psp.sel.EventImpl;
+import psp.sel.RenderingContext;
 import psp.sel.patterns.Pattern;
 import psp.sel.patterns.order.ChainEvents;
 import psp.sel.scopes.Scope;
 
+/**
+ * Base class of all mappers. Mappers are immutable once constructed and keep no state between calls,
+ * so a single instance can be shared by any number of threads; the state of a single mapping lives in
+ * a {@link MappingContext}.
+ */
 public abstract class GenericMapper implements PatternMapper {
-    protected LanguageDefinitions languageDefinitions;
-    private final List<MappingPostprocessor> processors = new ArrayList<>();
-    private final List<PatternFormatter> formatters = new ArrayList<>();
+    protected final LanguageDefinitions languageDefinitions;
+    private final List<MappingPostprocessor> processors;
+    private final List<PatternFormatter> formatters;
+    private final FormulaPrinter formulaPrinter;
 
     public LanguageDefinitions getLanguageDefinitions() {
         return languageDefinitions;
     }
 
+    /**
+     * @return the printer rendering formulas in the syntax of this mapper
+     */
+    public FormulaPrinter getFormulaPrinter() {
+        return formulaPrinter;
+    }
+
     public GenericMapper(final LanguageDefinitions languageDefintiions) {
-        super();
-        setLanguageDefinitions(languageDefintiions);
+        this(languageDefintiions, List.of(), List.of());
     }
 
-    public void setLanguageDefinitions(final LanguageDefinitions languageDefinitions) {
-        Objects.nonNull(languageDefinitions);
-        this.languageDefinitions = languageDefinitions;
-    };
+    public GenericMapper(final LanguageDefinitions languageDefinitions, final List<MappingPostprocessor> processors,
+        final List<PatternFormatter> formatters) {
+        super();
+        this.languageDefinitions = Objects.requireNonNull(languageDefinitions);
+        this.processors = List.copyOf(processors);
+        this.formatters = List.copyOf(formatters);
+        this.formulaPrinter = new FormulaPrinter(languageDefinitions);
+    }
 
-    public String cnt(EventImpl aZP) {
-        return "";
+    public Element cnt(EventImpl aZP) {
+        return new MiscElement("");
     }
 
     public String time(TimeBound aPTimeBound) {
@@ -88,15 +117,15 @@ public abstract class GenericMapper implements PatternMapper {
         return "";
     }
 
-    public String utb(TimeBound aPTimeBound) {
+    public String utb(TimeBound aPTimeBound, MappingContext aContext) {
         return "";
     }
 
-    public String trigger(Interval aPTimeBound) {
+    public String trigger(Interval aPTimeBound, MappingContext aContext) {
         return "";
     }
 
-    public String gap(Interval aPTimeBound) {
+    public String gap(Interval aPTimeBound, MappingContext aContext) {
         return "";
     }
 
@@ -104,7 +133,7 @@ public abstract class GenericMapper implements PatternMapper {
         return "";
     }
 
-    public String maxgap(Interval aPTimeBound) {
+    public String maxgap(Interval aPTimeBound, MappingContext aContext) {
         return "";
     }
 
@@ -112,7 +141,7 @@ public abstract class GenericMapper implements PatternMapper {
         return "";
     }
 
-    public String gapPN(int n, ChainEvents Tis, Interval aPTimeBound) {
+    public String gapPN(int n, ChainEvents Tis, Interval aPTimeBound, MappingContext aContext) {
         return "";
     }
 
@@ -128,51 +157,226 @@ public abstract class GenericMapper implements PatternMapper {
         return "";
     }
 
-    private boolean fMappingError;
+    /**
+     * Emits the elements of the mapping of the scope and the pattern into the sink, in order. Nothing is emitted
+     * if the combination is not supported.
+     */
+    protected abstract void emitElements(Scope aScope, Pattern aPattern, MappingContext aContext,
+        ElementSink elements);
+
+    public List<Element> mapToElements(Scope aScope, Pattern aPattern, MappingContext aContext) {
+        final List<Element> elements = new ArrayList<>();
+        try // if something goes wrong
+        {
+            emitElements(aScope, aPattern, aContext, elements::add);
+        } catch (Exception e) {
+            aContext.markError();
+            return List.of(new ErrorElement(e));
+        }
+        return elements;
+    }
+
+    List<Element> mapToProcessedElements(Scope aScope, Pattern aPattern, MappingContext aContext) {
+        return process(mapToElements(aScope, aPattern, aContext));
+    }
+
+    List<Element> process(List<Element> elements) {
+        for (final MappingPostprocessor processor : processors) {
+            elements = processor.process(elements);
+        }
+        return elements;
+    }
+
+    /**
+     * The mapper of the logic family of this mapper. The mappers of a family map every scope and pattern to the
+     * same elements up to their tokens, so the {@link DialectMappingEngine} maps once with the family mapper and
+     * renders its elements with the tokens of each member. Family mappers of the same class must map alike. By
+     * default, a mapper forms a family of its own.
+     */
+    protected GenericMapper getFamilyMapper() {
+        return this;
+    }
+
+    /**
+     * Maps the scope and the pattern to a formula, after the postprocessors have rewritten the elements. Printing
+     * the formula with {@link #getFormulaPrinter()} yields the mapping, before formatting.
+     */
+    public Formula mapToFormula(Scope aScope, Pattern aPattern, MappingContext aContext, FormulaFactory aFactory) {
+        return FormulaReader.read(mapToProcessedElements(aScope, aPattern, aContext), getGrammar(), aFactory);
+    }
+
+    /**
+     * The grammar the target logic reads the mappings by, which determines the formula they are read into.
+     */
+    protected FormulaReader.Grammar getGrammar() {
+        return FormulaReader.Grammar.LTL;
+    }
+
+    public MappingResult map(Scope aScope, Pattern aPattern) {
+        return map(aScope, aPattern, RenderingContext.NAME);
+    }
+
+    public MappingResult map(Scope aScope, Pattern aPattern, RenderingContext aRendering) {
+        return map(aScope, aPattern, List.of(aRendering)).get(0);
+    }
+
+    /**
+     * Maps the scope and the pattern once and renders the mapping for each of the given contexts.
+     */
+    public List<MappingResult> map(Scope aScope, Pattern aPattern, List<RenderingContext> aRenderings) {
+        if (processors.isEmpty() && aRenderings.size() == 1) {
+            final StringBuilder sb = new StringBuilder();
+            final boolean mappingError = emitMapping(aScope, aPattern, aRenderings.get(0), sb);
+            return List.of(new MappingResult(format(sb.toString()), mappingError));
+        }
+        final MappingContext context = new MappingContext();
+        final List<Element> elements = mapToProcessedElements(aScope, aPattern, context);
+        final List<MappingResult> results = new ArrayList<>(aRenderings.size());
+        for (final RenderingContext rendering : aRenderings) {
+            results.add(new MappingResult(format(mapToString(elements, rendering)), context.hasMappingErrorOccurred()));
+        }
+        return results;
+    }
+
+    /**
+     * Maps the scope and the pattern once and renders the mapping for each of the given contexts, rewritten as
+     * requested by the options. A simplified mapping reports the size of its formula before and after. With
+     * subformula definitions, every definition is rendered on a line of its own, see {@link #renderDefinition},
+     * followed by the formula.
+     */
+    public List<MappingResult> map(Scope aScope, Pattern aPattern, List<RenderingContext> aRenderings,
+        MappingOptions aOptions) {
+        if (aOptions.isNone()) {
+            return map(aScope, aPattern, aRenderings);
+        }
+        final MappingContext context = new MappingContext();
+        final FormulaFactory factory = new FormulaFactory();
+        Formula formula = FormulaReader.read(mapToProcessedElements(aScope, aPattern, context), getGrammar(),
+            factory);
+        final int originalSize = formula.size();
+        if (aOptions.simplify()) {
+            formula = new Simplifier(factory).simplify(formula);
+        }
+        final int simplifiedSize = formula.size();
+        final List<Definition> definitions;
+        if (aOptions.defineSubformulas()) {
+            final SubformulaDefinitions extracted = SubformulaDefinitions.extract(formula, factory, this::isDefinable);
+            definitions = extracted.getDefinitions();
+            formula = extracted.getFormula();
+        } else {
+            definitions = List.of();
+        }
 
-    protected void clearError() {
-        fMappingError = false;
+        final List<MappingResult> results = new ArrayList<>(aRenderings.size());
+        for (final RenderingContext rendering : aRenderings) {
+            final StringBuilder sb = new StringBuilder();
+            for (final Definition definition : definitions) {
+                sb.append(format(renderDefinition(definition.name(),
+                    formulaPrinter.toString(definition.body(), rendering)))).append('\n');
+            }
+            sb.append(format(formulaPrinter.toString(formula, rendering)));
+            results.add(aOptions.simplify()
+                ? new MappingResult(sb.toString(), context.hasMappingErrorOccurred(), originalSize, simplifiedSize)
+                : new MappingResult(sb.toString(), context.hasMappingErrorOccurred()));
+        }
+        return results;
     }
 
-    protected void markError() {
-        fMappingError = true;
+    /**
+     * Whether the target logic can define the content of the group by a name, see {@link SubformulaDefinitions}.
+     */
+    protected boolean isDefinable(Group aGroup) {
+        return true;
     }
 
-    public boolean hasMappingErrorOccurred() {
-        return fMappingError;
+    /**
+     * Renders the definition of a subformula, see {@link SubformulaDefinitions}.
+     */
+    protected String renderDefinition(String aName, String aBody) {
+        return aName + " := " + aBody;
     }
 
-    public abstract List<Element> mapToElements(Scope aScope, Pattern aPattern);
+    /**
+     * Appends the mapping of the scope and the pattern to the target. Unless the mapper rewrites its elements
+     * with postprocessors or formats the mapping, the elements are rendered into a {@code StringBuilder} target
+     * as they are emitted, without collecting them first.
+     *
+     * @return true if a mapping error occurred
+     */
+    public boolean appendMapping(Scope aScope, Pattern aPattern, RenderingContext aRendering, Appendable aTarget)
+        throws IOException {
+        if (processors.isEmpty() && formatters.isEmpty() && aTarget instanceof StringBuilder) {
+            return emitMapping(aScope, aPattern, aRendering, (StringBuilder) aTarget);
+        }
+        final MappingResult result = map(aScope, aPattern, aRendering);
+        aTarget.append(result.getMapping());
+        return result.hasMappingErrorOccurred();
+    }
 
     public String getMapping(Scope aScope, Pattern aPattern) {
-        List<Element> elements = mapToElements(aScope, aPattern);
-        for (final MappingPostprocessor processor : processors) {
-            elements = processor.process(elements);
+        return map(aScope, aPattern).getMapping();
+    }
+
+    /**
+     * Renders the elements into the target as they are emitted. If the mapping fails, whatever has been rendered
+     * is replaced by the error, just like the collected elements are.
+     */
+    private boolean emitMapping(Scope aScope, Pattern aPattern, RenderingContext aRendering, StringBuilder aTarget) {
+        final MappingContext context = new MappingContext();
+        final int start = aTarget.length();
+        try // if something goes wrong
+        {
+            emitElements(aScope, aPattern, context, new RenderingSink(aTarget, aRendering));
+        } catch (Exception e) {
+            context.markError();
+            aTarget.setLength(start);
+            aTarget.append(new ErrorElement(e).getContent(aRendering));
         }
-        String pattern = mapToString(elements);
-        for(final PatternFormatter formatter : formatters) {
+        return context.hasMappingErrorOccurred();
+    }
+
+    boolean hasFormatters() {
+        return !formatters.isEmpty();
+    }
+
+    String format(String pattern) {
+        for (final PatternFormatter formatter : formatters) {
             pattern = formatter.format(pattern);
         }
         return pattern;
     }
 
-    public String mapToString(final List<Element> elements) {
+    public String mapToString(final List<Element> elements, final RenderingContext aRendering) {
         StringBuilder sb = new StringBuilder();
         for (final Element element : elements) {
             if (element == null) {
                 break;
             }
-            sb.append(element.getContent());
+            sb.append(element.getContent(aRendering));
 
         }
         return sb.toString();
     }
 
-    public void register(final MappingPostprocessor processor) {
-        processors.add(processor);
-    }
+    /**
+     * Renders elements right away. Like {@link #mapToString}, it stops at the first {@code null} element.
+     */
+    private static final class RenderingSink implements ElementSink {
+        private final StringBuilder target;
+        private final RenderingContext rendering;
+        private boolean ended;
+
+        RenderingSink(final StringBuilder target, final RenderingContext rendering) {
+            this.target = target;
+            this.rendering = rendering;
+        }
 
-    public void register(final PatternFormatter formatter) {
-        formatters.add(formatter);
+        public void add(final Element element) {
+            if (element == null) {
+                ended = true;
+            } else if (!ended) {
+                target.append(element.getContent(rendering));
+            }
+        }
     }
 }
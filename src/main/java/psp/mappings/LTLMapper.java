@@ -38,8 +38,6 @@
 
 package psp.mappings;
 
-import java.util.ArrayList;
-import java.util.Collections;
 import java.util.List;
 
 import psp.constraints.EventConstraint;
@@ -47,10 +45,11 @@ import psp.engine.PSPConstants;
 import psp.mappings.elements.AlwaysElement;
 import psp.mappings.elements.AndElement;
 import psp.mappings.elements.Element;
-import psp.mappings.elements.ErrorElement;
+import psp.mappings.elements.ElementSink;
 import psp.mappings.elements.EventuallyElement;
 import psp.mappings.elements.ImplicationElement;
 import psp.mappings.elements.MiscElement;
+import psp.mappings.elements.NegatedEventElement;
 import psp.mappings.elements.NextElement;
 import psp.mappings.elements.NotElement;
 import psp.mappings.elements.OrElement;
@@ -59,6 +58,8 @@ import psp.mappings.elements.RoundBracketOpenElement;
 import psp.mappings.elements.SpaceElement;
 import psp.mappings.elements.UntilElement;
 import psp.mappings.elements.WeakUntilElement;
+import psp.mappings.postprocessing.MappingPostprocessor;
+import psp.mappings.postprocessing.PatternFormatter;
 import psp.sel.EventImpl;
 import psp.sel.patterns.Pattern;
 import psp.sel.patterns.occurrence.*;
@@ -84,6 +85,11 @@ public class LTLMapper extends GenericMapper {
         super(DEFAULT_LANGUAGE_DEFINITION);
     }
 
+    protected LTLMapper(final LanguageDefinitions languageDefinitions, final List<MappingPostprocessor> processors,
+        final List<PatternFormatter> formatters) {
+        super(languageDefinitions, processors, formatters);
+    }
+
     public boolean isScopeSupported(Scope aScope) {
         return true;
     }
@@ -93,6 +99,8 @@ public class LTLMapper extends GenericMapper {
             case PSPConstants.P_BoundedExistence:
             case PSPConstants.P_TransientState:
             case PSPConstants.P_SteadyState:
+            case PSPConstants.P_MinimumDuration:
+            case PSPConstants.P_MaximumDuration:
                 return false;
             default:
         }
@@ -106,674 +114,669 @@ public class LTLMapper extends GenericMapper {
 
     // pattern mapping
 
-    public List<Element> mapToElements(Scope aScope, Pattern aPattern) {
-        clearError();
-
-        try // if something goes wrong
-        {
-            switch (aPattern.getType()) {
-                case PSPConstants.P_Universality:
-                    return mapUniversality(aScope, (Universality) aPattern);
-                case PSPConstants.P_Absence:
-                    return mapAbsence(aScope, (Absence) aPattern);
-                case PSPConstants.P_Existence:
-                    return mapExistence(aScope, (Existence) aPattern);
-                case PSPConstants.P_BoundedExistence:
-                case PSPConstants.P_TransientState:
-                case PSPConstants.P_SteadyState:
-                case PSPConstants.P_MinimumDuration:
-                case PSPConstants.P_MaximumDuration:
-                    return Collections.emptyList(); // not supported indicator
-                case PSPConstants.P_Recurrence:
-                    return mapRecurrence(aScope, (Recurrence) aPattern);
-                case PSPConstants.P_Precedence:
-                    return mapPrecedence(aScope, (Precedence) aPattern);
-                case PSPConstants.P_PrecedenceChain1N:
-                    return mapPrecedenceChain1N(aScope, (PrecedenceChain1N) aPattern);
-                case PSPConstants.P_PrecedenceChainN1:
-                    return mapPrecedenceChainN1(aScope, (PrecedenceChainN1) aPattern);
-                case PSPConstants.P_Until:
-                    return mapUntil(aScope, (psp.sel.patterns.order.Until) aPattern);
-                case PSPConstants.P_Response:
-                    return mapResponse(aScope, (Response) aPattern);
-                case PSPConstants.P_ResponseChain1N:
-                    return mapResponseChain1N(aScope, (ResponseChain1N) aPattern);
-                case PSPConstants.P_ResponseChainN1:
-                    return mapResponseChainN1(aScope, (ResponseChainN1) aPattern);
-                case PSPConstants.P_ResponseInvariance:
-                    return mapResponseInvariance(aScope, (ResponseInvariance) aPattern);
-            }
-        } catch (Exception e) {
-            markError();
-            return List.of(new ErrorElement(e));
+    protected void emitElements(Scope aScope, Pattern aPattern, MappingContext aContext, ElementSink elements) {
+        switch (aPattern.getType()) {
+            case PSPConstants.P_Universality:
+                mapUniversality(aScope, (Universality) aPattern, elements);
+                break;
+            case PSPConstants.P_Absence:
+                mapAbsence(aScope, (Absence) aPattern, elements);
+                break;
+            case PSPConstants.P_Existence:
+                mapExistence(aScope, (Existence) aPattern, elements);
+                break;
+            case PSPConstants.P_BoundedExistence:
+            case PSPConstants.P_TransientState:
+            case PSPConstants.P_SteadyState:
+            case PSPConstants.P_MinimumDuration:
+            case PSPConstants.P_MaximumDuration:
+                break; // not supported indicator
+            case PSPConstants.P_Recurrence:
+                mapRecurrence(aScope, (Recurrence) aPattern, elements);
+                break;
+            case PSPConstants.P_Precedence:
+                mapPrecedence(aScope, (Precedence) aPattern, elements);
+                break;
+            case PSPConstants.P_PrecedenceChain1N:
+                mapPrecedenceChain1N(aScope, (PrecedenceChain1N) aPattern, elements);
+                break;
+            case PSPConstants.P_PrecedenceChainN1:
+                mapPrecedenceChainN1(aScope, (PrecedenceChainN1) aPattern, elements);
+                break;
+            case PSPConstants.P_Until:
+                mapUntil(aScope, (psp.sel.patterns.order.Until) aPattern, elements);
+                break;
+            case PSPConstants.P_Response:
+                mapResponse(aScope, (Response) aPattern, elements);
+                break;
+            case PSPConstants.P_ResponseChain1N:
+                mapResponseChain1N(aScope, (ResponseChain1N) aPattern, elements);
+                break;
+            case PSPConstants.P_ResponseChainN1:
+                mapResponseChainN1(aScope, (ResponseChainN1) aPattern, elements);
+                break;
+            case PSPConstants.P_ResponseInvariance:
+                mapResponseInvariance(aScope, (ResponseInvariance) aPattern, elements);
+                break;
         }
-
-        return Collections.emptyList();
     }
 
-    private List<Element> mapUniversality(Scope aScope, Universality aPattern) {
-        List<Element> elements = new ArrayList<>();
+    private void mapUniversality(Scope aScope, Universality aPattern, ElementSink elements) {
         switch (aScope.getType()) {
             case PSPConstants.S_Globally:
                 elements.add(languageDefinitions.getAlways());
-                elements.add(new SpaceElement());
+                elements.add(SpaceElement.INSTANCE);
                 elements.add(aPattern.getP());
                 break;
             case PSPConstants.S_BeforeR:
-                elements.add(new RoundBracketOpenElement());
+                elements.add(RoundBracketOpenElement.INSTANCE);
                 elements.add(languageDefinitions.getEventually());
-                elements.add(new SpaceElement());
+                elements.add(SpaceElement.INSTANCE);
                 elements.add(aScope.getR());
-                elements.add(new RoundBracketCloseElement());
+                elements.add(RoundBracketCloseElement.INSTANCE);
                 elements.add(languageDefinitions.getImplication());
-                elements.add(new RoundBracketOpenElement());
+                elements.add(RoundBracketOpenElement.INSTANCE);
                 elements.add(aPattern.getP());
                 elements.add(languageDefinitions.getUntil());
-                elements.add(new SpaceElement());
+                elements.add(SpaceElement.INSTANCE);
                 elements.add(aScope.getR());
-                elements.add(new RoundBracketCloseElement());
+                elements.add(RoundBracketCloseElement.INSTANCE);
                 break;
             case PSPConstants.S_AfterQ:
                 elements.add(languageDefinitions.getAlways());
-                elements.add(new RoundBracketOpenElement());
+                elements.add(RoundBracketOpenElement.INSTANCE);
                 elements.add(aScope.getQ());
                 elements.add(languageDefinitions.getImplication());
-                elements.add(new RoundBracketOpenElement());
+                elements.add(RoundBracketOpenElement.INSTANCE);
                 elements.add(languageDefinitions.getAlways());
-                elements.add(new SpaceElement());
+                elements.add(SpaceElement.INSTANCE);
                 elements.add(aPattern.getP());
-                elements.add(new RoundBracketCloseElement());
-                elements.add(new RoundBracketCloseElement());
+                elements.add(RoundBracketCloseElement.INSTANCE);
+                elements.add(RoundBracketCloseElement.INSTANCE);
                 break;
             case PSPConstants.S_BetweenQandR:
                 elements.add(languageDefinitions.getAlways());
-                elements.add(new RoundBracketOpenElement());
-                elements.add(new RoundBracketOpenElement());
+                elements.add(RoundBracketOpenElement.INSTANCE);
+                elements.add(RoundBracketOpenElement.INSTANCE);
+                elements.add(RoundBracketOpenElement.INSTANCE);
                 elements.add(aScope.getQ());
                 elements.add(languageDefinitions.getAnd());
-                elements.add(new SpaceElement());
+                elements.add(SpaceElement.INSTANCE);
                 elements.add(languageDefinitions.getNot());
                 elements.add(aScope.getR());
-                elements.add(new RoundBracketCloseElement());
+                elements.add(RoundBracketCloseElement.INSTANCE);
                 elements.add(languageDefinitions.getAnd());
-                elements.add(new RoundBracketOpenElement());
+                elements.add(RoundBracketOpenElement.INSTANCE);
                 elements.add(languageDefinitions.getEventually());
-                elements.add(new SpaceElement());
+                elements.add(SpaceElement.INSTANCE);
                 elements.add(aScope.getR());
-                elements.add(new RoundBracketCloseElement());
-                elements.add(new RoundBracketCloseElement());
+                elements.add(RoundBracketCloseElement.INSTANCE);
+                elements.add(RoundBracketCloseElement.INSTANCE);
                 elements.add(languageDefinitions.getImplication());
-                elements.add(new RoundBracketOpenElement());
+                elements.add(RoundBracketOpenElement.INSTANCE);
                 elements.add(aPattern.getP());
                 elements.add(languageDefinitions.getUntil());
-                elements.add(new SpaceElement());
+                elements.add(SpaceElement.INSTANCE);
                 elements.add(aScope.getR());
-                elements.add(new RoundBracketCloseElement());
+                elements.add(RoundBracketCloseElement.INSTANCE);
+                elements.add(RoundBracketCloseElement.INSTANCE);
                 break;
             case PSPConstants.S_AfterQuntilR:
                 elements.add(languageDefinitions.getAlways());
-                elements.add(new RoundBracketOpenElement());
-                elements.add(new RoundBracketOpenElement());
+                elements.add(RoundBracketOpenElement.INSTANCE);
+                elements.add(RoundBracketOpenElement.INSTANCE);
                 elements.add(aScope.getQ());
                 elements.add(languageDefinitions.getAnd());
-                elements.add(languageDefinitions.getAlways());
-                elements.add(new SpaceElement());
                 elements.add(languageDefinitions.getNot());
                 elements.add(aScope.getR());
-                elements.add(new RoundBracketCloseElement());
+                elements.add(RoundBracketCloseElement.INSTANCE);
                 elements.add(languageDefinitions.getImplication());
-                elements.add(new RoundBracketOpenElement());
+                elements.add(RoundBracketOpenElement.INSTANCE);
                 elements.add(aPattern.getP());
                 elements.add(languageDefinitions.getWeakUntil());
-                elements.add(new SpaceElement());
+                elements.add(SpaceElement.INSTANCE);
                 elements.add(aScope.getR());
-                elements.add(new RoundBracketCloseElement());
-                elements.add(new RoundBracketCloseElement());
+                elements.add(RoundBracketCloseElement.INSTANCE);
+                elements.add(RoundBracketCloseElement.INSTANCE);
                 break;
         }
 
-        return elements;
     }
 
-    private List<Element> mapAbsence(Scope aScope, Absence aPattern) {
-        List<Element> elements = new ArrayList<>();
+    private void mapAbsence(Scope aScope, Absence aPattern, ElementSink elements) {
         switch (aScope.getType()) {
             case PSPConstants.S_Globally:
                 elements.add(languageDefinitions.getAlways());
-                elements.add(new SpaceElement());
+                elements.add(SpaceElement.INSTANCE);
                 elements.add(languageDefinitions.getNot());
                 elements.add(aPattern.getP());
                 break;
             case PSPConstants.S_BeforeR:
-                elements.add(new RoundBracketOpenElement());
+                elements.add(RoundBracketOpenElement.INSTANCE);
                 elements.add(languageDefinitions.getEventually());
-                elements.add(new SpaceElement());
+                elements.add(SpaceElement.INSTANCE);
                 elements.add(aScope.getR());
-                elements.add(new RoundBracketCloseElement());
+                elements.add(RoundBracketCloseElement.INSTANCE);
                 elements.add(languageDefinitions.getImplication());
-                elements.add(new RoundBracketOpenElement());
+                elements.add(RoundBracketOpenElement.INSTANCE);
+                elements.add(RoundBracketOpenElement.INSTANCE);
                 elements.add(languageDefinitions.getNot());
                 elements.add(aPattern.getP());
                 elements.add(languageDefinitions.getUntil());
-                elements.add(new SpaceElement());
+                elements.add(SpaceElement.INSTANCE);
                 elements.add(aScope.getR());
-                elements.add(languageDefinitions.getNot());
+                elements.add(RoundBracketCloseElement.INSTANCE);
+                elements.add(languageDefinitions.getOr());
                 elements.add(languageDefinitions.getAlways());
-                elements.add(new SpaceElement());
+                elements.add(SpaceElement.INSTANCE);
                 elements.add(languageDefinitions.getNot());
                 elements.add(aPattern.getP());
-                elements.add(new RoundBracketCloseElement());
+                elements.add(RoundBracketCloseElement.INSTANCE);
                 break;
             case PSPConstants.S_AfterQ:
                 elements.add(languageDefinitions.getAlways());
-                elements.add(new RoundBracketOpenElement());
+                elements.add(RoundBracketOpenElement.INSTANCE);
                 elements.add(aScope.getQ());
                 elements.add(languageDefinitions.getImplication());
                 elements.add(languageDefinitions.getAlways());
-                elements.add(new SpaceElement());
-                elements.add(new RoundBracketOpenElement());
+                elements.add(SpaceElement.INSTANCE);
+                elements.add(RoundBracketOpenElement.INSTANCE);
                 elements.add(languageDefinitions.getNot());
                 elements.add(aPattern.getP());
-                elements.add(new RoundBracketCloseElement());
-                elements.add(new RoundBracketCloseElement());
+                elements.add(RoundBracketCloseElement.INSTANCE);
+                elements.add(RoundBracketCloseElement.INSTANCE);
                 break;
             case PSPConstants.S_BetweenQandR:
                 elements.add(languageDefinitions.getAlways());
-                elements.add(new RoundBracketOpenElement());
-                elements.add(new RoundBracketOpenElement());
+                elements.add(RoundBracketOpenElement.INSTANCE);
+                elements.add(RoundBracketOpenElement.INSTANCE);
+                elements.add(RoundBracketOpenElement.INSTANCE);
                 elements.add(aScope.getQ());
                 elements.add(languageDefinitions.getAnd());
                 elements.add(languageDefinitions.getNot());
                 elements.add(aScope.getR());
-                elements.add(new RoundBracketCloseElement());
+                elements.add(RoundBracketCloseElement.INSTANCE);
                 elements.add(languageDefinitions.getAnd());
-                elements.add(new RoundBracketOpenElement());
+                elements.add(RoundBracketOpenElement.INSTANCE);
                 elements.add(languageDefinitions.getEventually());
-                elements.add(new SpaceElement());
+                elements.add(SpaceElement.INSTANCE);
                 elements.add(aScope.getR());
-                elements.add(new RoundBracketCloseElement());
-                elements.add(new RoundBracketCloseElement());
+                elements.add(RoundBracketCloseElement.INSTANCE);
+                elements.add(RoundBracketCloseElement.INSTANCE);
                 elements.add(languageDefinitions.getImplication());
-                elements.add(new RoundBracketOpenElement());
+                elements.add(RoundBracketOpenElement.INSTANCE);
                 elements.add(languageDefinitions.getNot());
                 elements.add(aPattern.getP());
                 elements.add(languageDefinitions.getUntil());
-                elements.add(new SpaceElement());
+                elements.add(SpaceElement.INSTANCE);
                 elements.add(aScope.getR());
-                elements.add(new RoundBracketCloseElement());
+                elements.add(RoundBracketCloseElement.INSTANCE);
+                elements.add(RoundBracketCloseElement.INSTANCE);
                 break;
             case PSPConstants.S_AfterQuntilR:
                 elements.add(languageDefinitions.getAlways());
-                elements.add(new RoundBracketOpenElement());
-                elements.add(new RoundBracketOpenElement());
+                elements.add(RoundBracketOpenElement.INSTANCE);
+                elements.add(RoundBracketOpenElement.INSTANCE);
                 elements.add(aScope.getQ());
                 elements.add(languageDefinitions.getAnd());
                 elements.add(languageDefinitions.getNot());
                 elements.add(aScope.getR());
-                elements.add(new RoundBracketCloseElement());
+                elements.add(RoundBracketCloseElement.INSTANCE);
                 elements.add(languageDefinitions.getImplication());
-                elements.add(new RoundBracketOpenElement());
+                elements.add(RoundBracketOpenElement.INSTANCE);
                 elements.add(languageDefinitions.getNot());
                 elements.add(aPattern.getP());
                 elements.add(languageDefinitions.getWeakUntil());
-                elements.add(new SpaceElement());
+                elements.add(SpaceElement.INSTANCE);
                 elements.add(aScope.getR());
-                elements.add(new RoundBracketCloseElement());
-                elements.add(new RoundBracketCloseElement());
+                elements.add(RoundBracketCloseElement.INSTANCE);
+                elements.add(RoundBracketCloseElement.INSTANCE);
                 break;
         }
 
-        return elements;
     }
 
-    private List<Element> mapExistence(Scope aScope, Existence aPattern) {
-        List<Element> elements = new ArrayList<>();
+    private void mapExistence(Scope aScope, Existence aPattern, ElementSink elements) {
         switch (aScope.getType()) {
             case PSPConstants.S_Globally:
                 elements.add(languageDefinitions.getEventually());
-                elements.add(new SpaceElement());
+                elements.add(SpaceElement.INSTANCE);
                 elements.add(aPattern.getP());
                 break;
             case PSPConstants.S_BeforeR:
                 elements.add(languageDefinitions.getNot());
                 elements.add(aScope.getR());
                 elements.add(languageDefinitions.getWeakUntil());
-                elements.add(new SpaceElement());
-                elements.add(new RoundBracketOpenElement());
+                elements.add(SpaceElement.INSTANCE);
+                elements.add(RoundBracketOpenElement.INSTANCE);
                 elements.add(aPattern.getP());
                 elements.add(languageDefinitions.getAnd());
                 elements.add(languageDefinitions.getNot());
                 elements.add(aScope.getR());
-                elements.add(new RoundBracketCloseElement());
+                elements.add(RoundBracketCloseElement.INSTANCE);
                 break;
             case PSPConstants.S_AfterQ:
-                elements.add(new RoundBracketOpenElement());
+                elements.add(RoundBracketOpenElement.INSTANCE);
                 elements.add(languageDefinitions.getAlways());
                 elements.add(languageDefinitions.getNot());
                 elements.add(aScope.getQ());
-                elements.add(new RoundBracketCloseElement());
+                elements.add(RoundBracketCloseElement.INSTANCE);
                 elements.add(languageDefinitions.getOr());
-                elements.add(new RoundBracketOpenElement());
+                elements.add(RoundBracketOpenElement.INSTANCE);
                 elements.add(languageDefinitions.getEventually());
-                elements.add(new RoundBracketOpenElement());
+                elements.add(RoundBracketOpenElement.INSTANCE);
                 elements.add(aScope.getQ());
                 elements.add(languageDefinitions.getAnd());
                 elements.add(languageDefinitions.getEventually());
-                elements.add(new SpaceElement());
+                elements.add(SpaceElement.INSTANCE);
                 elements.add(aPattern.getP());
-                elements.add(new RoundBracketCloseElement());
-                elements.add(new RoundBracketCloseElement());
+                elements.add(RoundBracketCloseElement.INSTANCE);
+                elements.add(RoundBracketCloseElement.INSTANCE);
                 break;
             case PSPConstants.S_BetweenQandR:
                 elements.add(languageDefinitions.getAlways());
-                elements.add(new RoundBracketOpenElement());
-                elements.add(new RoundBracketOpenElement());
+                elements.add(RoundBracketOpenElement.INSTANCE);
+                elements.add(RoundBracketOpenElement.INSTANCE);
                 elements.add(aScope.getQ());
                 elements.add(languageDefinitions.getAnd());
                 elements.add(languageDefinitions.getNot());
                 elements.add(aScope.getR());
                 elements.add(languageDefinitions.getAnd());
                 elements.add(languageDefinitions.getEventually());
-                elements.add(new SpaceElement());
+                elements.add(SpaceElement.INSTANCE);
                 elements.add(aScope.getR());
-                elements.add(new RoundBracketCloseElement());
+                elements.add(RoundBracketCloseElement.INSTANCE);
                 elements.add(languageDefinitions.getImplication());
-                elements.add(new RoundBracketOpenElement());
+                elements.add(RoundBracketOpenElement.INSTANCE);
                 elements.add(languageDefinitions.getNot());
                 elements.add(aScope.getR());
                 elements.add(languageDefinitions.getWeakUntil());
-                elements.add(new SpaceElement());
-                elements.add(new RoundBracketOpenElement());
+                elements.add(SpaceElement.INSTANCE);
+                elements.add(RoundBracketOpenElement.INSTANCE);
                 elements.add(aPattern.getP());
                 elements.add(languageDefinitions.getAnd());
                 elements.add(languageDefinitions.getNot());
                 elements.add(aScope.getR());
-                elements.add(new RoundBracketCloseElement());
-                elements.add(new RoundBracketCloseElement());
-                elements.add(new RoundBracketCloseElement());
+                elements.add(RoundBracketCloseElement.INSTANCE);
+                elements.add(RoundBracketCloseElement.INSTANCE);
+                elements.add(RoundBracketCloseElement.INSTANCE);
                 break;
             case PSPConstants.S_AfterQuntilR:
                 elements.add(languageDefinitions.getAlways());
-                elements.add(new RoundBracketOpenElement());
-                elements.add(new RoundBracketOpenElement());
+                elements.add(RoundBracketOpenElement.INSTANCE);
+                elements.add(RoundBracketOpenElement.INSTANCE);
                 elements.add(aScope.getQ());
                 elements.add(languageDefinitions.getAnd());
-                elements.add(new SpaceElement());
+                elements.add(SpaceElement.INSTANCE);
                 elements.add(languageDefinitions.getNot());
                 elements.add(aScope.getR());
-                elements.add(new RoundBracketCloseElement());
+                elements.add(RoundBracketCloseElement.INSTANCE);
                 elements.add(languageDefinitions.getImplication());
-                elements.add(new RoundBracketOpenElement());
+                elements.add(RoundBracketOpenElement.INSTANCE);
                 elements.add(languageDefinitions.getNot());
                 elements.add(aScope.getR());
                 elements.add(languageDefinitions.getUntil());
-                elements.add(new SpaceElement());
-                elements.add(new RoundBracketOpenElement());
+                elements.add(SpaceElement.INSTANCE);
+                elements.add(RoundBracketOpenElement.INSTANCE);
                 elements.add(aPattern.getP());
                 elements.add(languageDefinitions.getAnd());
                 elements.add(languageDefinitions.getNot());
                 elements.add(aScope.getR());
-                elements.add(new RoundBracketCloseElement());
-                elements.add(new RoundBracketCloseElement());
-                elements.add(new RoundBracketCloseElement());
+                elements.add(RoundBracketCloseElement.INSTANCE);
+                elements.add(RoundBracketCloseElement.INSTANCE);
+                elements.add(RoundBracketCloseElement.INSTANCE);
                 break;
         }
-        return elements;
     }
 
-    private List<Element> mapRecurrence(Scope aScope, Recurrence aPattern) {
-        List<Element> elements = new ArrayList<>();
+    private void mapRecurrence(Scope aScope, Recurrence aPattern, ElementSink elements) {
         switch (aScope.getType()) {
             case PSPConstants.S_Globally:
                 elements.add(languageDefinitions.getAlways());
-                elements.add(new RoundBracketOpenElement());
+                elements.add(RoundBracketOpenElement.INSTANCE);
                 elements.add(languageDefinitions.getEventually());
-                elements.add(new SpaceElement());
+                elements.add(SpaceElement.INSTANCE);
                 elements.add(aPattern.getP());
-                elements.add(new RoundBracketCloseElement());
+                elements.add(RoundBracketCloseElement.INSTANCE);
                 break;
             case PSPConstants.S_BeforeR:
-                elements.add(new RoundBracketOpenElement());
+                elements.add(RoundBracketOpenElement.INSTANCE);
                 elements.add(languageDefinitions.getEventually());
                 elements.add(aScope.getR());
-                elements.add(new RoundBracketCloseElement());
+                elements.add(RoundBracketCloseElement.INSTANCE);
                 elements.add(languageDefinitions.getImplication());
-                elements.add(new RoundBracketOpenElement());
-                elements.add(new RoundBracketOpenElement());
+                elements.add(RoundBracketOpenElement.INSTANCE);
+                elements.add(RoundBracketOpenElement.INSTANCE);
                 elements.add(languageDefinitions.getEventually());
-                elements.add(new SpaceElement());
-                elements.add(new RoundBracketOpenElement());
+                elements.add(SpaceElement.INSTANCE);
+                elements.add(RoundBracketOpenElement.INSTANCE);
                 elements.add(aPattern.getP());
                 elements.add(languageDefinitions.getOr());
                 elements.add(aScope.getR());
-                elements.add(new RoundBracketCloseElement());
-                elements.add(new RoundBracketCloseElement());
+                elements.add(RoundBracketCloseElement.INSTANCE);
+                elements.add(RoundBracketCloseElement.INSTANCE);
                 elements.add(languageDefinitions.getUntil());
-                elements.add(new SpaceElement());
+                elements.add(SpaceElement.INSTANCE);
                 elements.add(aScope.getR());
-                elements.add(new RoundBracketCloseElement());
+                elements.add(RoundBracketCloseElement.INSTANCE);
                 break;
             case PSPConstants.S_AfterQ:
                 elements.add(languageDefinitions.getAlways());
-                elements.add(new RoundBracketOpenElement());
+                elements.add(RoundBracketOpenElement.INSTANCE);
                 elements.add(aScope.getQ());
                 elements.add(languageDefinitions.getImplication());
-                elements.add(new RoundBracketOpenElement());
+                elements.add(RoundBracketOpenElement.INSTANCE);
                 elements.add(languageDefinitions.getAlways());
-                elements.add(new RoundBracketOpenElement());
+                elements.add(RoundBracketOpenElement.INSTANCE);
                 elements.add(languageDefinitions.getEventually());
-                elements.add(new SpaceElement());
+                elements.add(SpaceElement.INSTANCE);
                 elements.add(aPattern.getP());
-                elements.add(new RoundBracketCloseElement());
-                elements.add(new RoundBracketCloseElement());
-                elements.add(new RoundBracketCloseElement());
+                elements.add(RoundBracketCloseElement.INSTANCE);
+                elements.add(RoundBracketCloseElement.INSTANCE);
+                elements.add(RoundBracketCloseElement.INSTANCE);
                 break;
             case PSPConstants.S_BetweenQandR:
                 elements.add(languageDefinitions.getAlways());
-                elements.add(new RoundBracketOpenElement());
-                elements.add(new RoundBracketOpenElement());
+                elements.add(RoundBracketOpenElement.INSTANCE);
+                elements.add(RoundBracketOpenElement.INSTANCE);
                 elements.add(aScope.getQ());
                 elements.add(languageDefinitions.getAnd());
                 elements.add(languageDefinitions.getNot());
                 elements.add(aScope.getR());
                 elements.add(languageDefinitions.getAnd());
-                elements.add(new RoundBracketOpenElement());
+                elements.add(RoundBracketOpenElement.INSTANCE);
                 elements.add(languageDefinitions.getEventually());
                 elements.add(aScope.getR());
-                elements.add(new RoundBracketCloseElement());
-                elements.add(new RoundBracketCloseElement());
+                elements.add(RoundBracketCloseElement.INSTANCE);
+                elements.add(RoundBracketCloseElement.INSTANCE);
                 elements.add(languageDefinitions.getImplication());
-                elements.add(new RoundBracketOpenElement());
-                elements.add(new RoundBracketOpenElement());
+                elements.add(RoundBracketOpenElement.INSTANCE);
+                elements.add(RoundBracketOpenElement.INSTANCE);
                 elements.add(languageDefinitions.getEventually());
-                elements.add(new SpaceElement());
-                elements.add(new RoundBracketOpenElement());
+                elements.add(SpaceElement.INSTANCE);
+                elements.add(RoundBracketOpenElement.INSTANCE);
                 elements.add(aPattern.getP());
                 elements.add(languageDefinitions.getOr());
                 elements.add(aScope.getR());
-                elements.add(new RoundBracketCloseElement());
-                elements.add(new RoundBracketCloseElement());
+                elements.add(RoundBracketCloseElement.INSTANCE);
+                elements.add(RoundBracketCloseElement.INSTANCE);
                 elements.add(languageDefinitions.getUntil());
                 elements.add(aScope.getR());
-                elements.add(new RoundBracketCloseElement());
-                elements.add(new RoundBracketCloseElement());
+                elements.add(RoundBracketCloseElement.INSTANCE);
+                elements.add(RoundBracketCloseElement.INSTANCE);
                 break;
             case PSPConstants.S_AfterQuntilR:
                 elements.add(languageDefinitions.getAlways());
-                elements.add(new RoundBracketOpenElement());
-                elements.add(new RoundBracketOpenElement());
+                elements.add(RoundBracketOpenElement.INSTANCE);
+                elements.add(RoundBracketOpenElement.INSTANCE);
                 elements.add(aScope.getQ());
                 elements.add(languageDefinitions.getAnd());
                 elements.add(languageDefinitions.getNot());
                 elements.add(aScope.getR());
-                elements.add(new RoundBracketCloseElement());
+                elements.add(RoundBracketCloseElement.INSTANCE);
                 elements.add(languageDefinitions.getImplication());
-                elements.add(new RoundBracketOpenElement());
-                elements.add(new RoundBracketOpenElement());
+                elements.add(RoundBracketOpenElement.INSTANCE);
+                elements.add(RoundBracketOpenElement.INSTANCE);
                 elements.add(languageDefinitions.getEventually());
-                elements.add(new SpaceElement());
-                elements.add(new RoundBracketOpenElement());
+                elements.add(SpaceElement.INSTANCE);
+                elements.add(RoundBracketOpenElement.INSTANCE);
                 elements.add(aPattern.getP());
                 elements.add(languageDefinitions.getOr());
                 elements.add(aScope.getR());
-                elements.add(new RoundBracketCloseElement());
-                elements.add(new RoundBracketCloseElement());
+                elements.add(RoundBracketCloseElement.INSTANCE);
+                elements.add(RoundBracketCloseElement.INSTANCE);
                 elements.add(languageDefinitions.getWeakUntil());
                 elements.add(aScope.getR());
-                elements.add(new RoundBracketCloseElement());
-                elements.add(new RoundBracketCloseElement());
+                elements.add(RoundBracketCloseElement.INSTANCE);
+                elements.add(RoundBracketCloseElement.INSTANCE);
                 break;
         }
 
-        return elements;
     }
 
-    private List<Element> mapPrecedence(Scope aScope, Precedence aPattern) {
-        List<Element> elements = new ArrayList<>();
+    private void mapPrecedence(Scope aScope, Precedence aPattern, ElementSink elements) {
         switch (aScope.getType()) {
             case PSPConstants.S_Globally:
                 elements.add(languageDefinitions.getNot());
                 elements.add(aPattern.getP());
                 elements.add(languageDefinitions.getWeakUntil());
-                elements.add(new SpaceElement());
+                elements.add(SpaceElement.INSTANCE);
                 elements.add(aPattern.getS());
                 break;
             case PSPConstants.S_BeforeR:
-                elements.add(new RoundBracketOpenElement());
+                elements.add(RoundBracketOpenElement.INSTANCE);
                 elements.add(languageDefinitions.getEventually());
                 elements.add(aScope.getR());
-                elements.add(new RoundBracketCloseElement());
+                elements.add(RoundBracketCloseElement.INSTANCE);
                 elements.add(languageDefinitions.getImplication());
-                elements.add(new RoundBracketOpenElement());
+                elements.add(RoundBracketOpenElement.INSTANCE);
                 elements.add(languageDefinitions.getNot());
                 elements.add(aPattern.getP());
                 elements.add(languageDefinitions.getUntil());
-                elements.add(new RoundBracketOpenElement());
+                elements.add(RoundBracketOpenElement.INSTANCE);
                 elements.add(aPattern.getS());
                 elements.add(languageDefinitions.getOr());
                 elements.add(aScope.getR());
-                elements.add(new RoundBracketCloseElement());
-                elements.add(new RoundBracketCloseElement());
+                elements.add(RoundBracketCloseElement.INSTANCE);
+                elements.add(RoundBracketCloseElement.INSTANCE);
                 break;
             case PSPConstants.S_AfterQ:
-                elements.add(new RoundBracketOpenElement());
+                elements.add(RoundBracketOpenElement.INSTANCE);
                 elements.add(languageDefinitions.getAlways());
                 elements.add(languageDefinitions.getNot());
                 elements.add(aScope.getQ());
-                elements.add(new RoundBracketCloseElement());
+                elements.add(RoundBracketCloseElement.INSTANCE);
                 elements.add(languageDefinitions.getOr());
-                elements.add(new RoundBracketOpenElement());
-                elements.add(languageDefinitions.getEventually());
-                elements.add(new RoundBracketOpenElement());
+                elements.add(RoundBracketOpenElement.INSTANCE);
+                elements.add(languageDefinitions.getNot());
+                elements.add(aScope.getQ());
+                elements.add(languageDefinitions.getUntil());
+                elements.add(SpaceElement.INSTANCE);
+                elements.add(RoundBracketOpenElement.INSTANCE);
                 elements.add(aScope.getQ());
                 elements.add(languageDefinitions.getAnd());
-                elements.add(new RoundBracketOpenElement());
+                elements.add(RoundBracketOpenElement.INSTANCE);
                 elements.add(languageDefinitions.getNot());
                 elements.add(aPattern.getP());
                 elements.add(languageDefinitions.getWeakUntil());
                 elements.add(aPattern.getS());
-                elements.add(new RoundBracketCloseElement());
-                elements.add(new RoundBracketCloseElement());
-                elements.add(new RoundBracketCloseElement());
+                elements.add(RoundBracketCloseElement.INSTANCE);
+                elements.add(RoundBracketCloseElement.INSTANCE);
+                elements.add(RoundBracketCloseElement.INSTANCE);
                 break;
             case PSPConstants.S_BetweenQandR:
                 elements.add(languageDefinitions.getAlways());
-                elements.add(new RoundBracketOpenElement());
-                elements.add(new RoundBracketOpenElement());
+                elements.add(RoundBracketOpenElement.INSTANCE);
+                elements.add(RoundBracketOpenElement.INSTANCE);
                 elements.add(aScope.getQ());
                 elements.add(languageDefinitions.getAnd());
                 elements.add(languageDefinitions.getNot());
                 elements.add(aScope.getR());
                 elements.add(languageDefinitions.getAnd());
-                elements.add(new RoundBracketOpenElement());
+                elements.add(RoundBracketOpenElement.INSTANCE);
                 elements.add(languageDefinitions.getEventually());
                 elements.add(aScope.getR());
-                elements.add(new RoundBracketCloseElement());
-                elements.add(new RoundBracketCloseElement());
+                elements.add(RoundBracketCloseElement.INSTANCE);
+                elements.add(RoundBracketCloseElement.INSTANCE);
                 elements.add(languageDefinitions.getImplication());
-                elements.add(new RoundBracketOpenElement());
+                elements.add(RoundBracketOpenElement.INSTANCE);
                 elements.add(languageDefinitions.getNot());
                 elements.add(aPattern.getP());
                 elements.add(languageDefinitions.getUntil());
-                elements.add(new RoundBracketOpenElement());
+                elements.add(RoundBracketOpenElement.INSTANCE);
                 elements.add(aPattern.getS());
                 elements.add(languageDefinitions.getOr());
                 elements.add(aScope.getR());
-                elements.add(new RoundBracketCloseElement());
-                elements.add(new RoundBracketCloseElement());
-                elements.add(new RoundBracketCloseElement());
+                elements.add(RoundBracketCloseElement.INSTANCE);
+                elements.add(RoundBracketCloseElement.INSTANCE);
+                elements.add(RoundBracketCloseElement.INSTANCE);
                 break;
             case PSPConstants.S_AfterQuntilR:
                 elements.add(languageDefinitions.getAlways());
-                elements.add(new RoundBracketOpenElement());
-                elements.add(new RoundBracketOpenElement());
+                elements.add(RoundBracketOpenElement.INSTANCE);
+                elements.add(RoundBracketOpenElement.INSTANCE);
                 elements.add(aScope.getQ());
                 elements.add(languageDefinitions.getAnd());
                 elements.add(languageDefinitions.getNot());
                 elements.add(aScope.getR());
-                elements.add(new RoundBracketCloseElement());
+                elements.add(RoundBracketCloseElement.INSTANCE);
                 elements.add(languageDefinitions.getImplication());
-                elements.add(new RoundBracketOpenElement());
+                elements.add(RoundBracketOpenElement.INSTANCE);
                 elements.add(languageDefinitions.getNot());
                 elements.add(aPattern.getP());
                 elements.add(languageDefinitions.getWeakUntil());
-                elements.add(new RoundBracketOpenElement());
+                elements.add(RoundBracketOpenElement.INSTANCE);
                 elements.add(aPattern.getS());
                 elements.add(languageDefinitions.getOr());
                 elements.add(aScope.getR());
-                elements.add(new RoundBracketCloseElement());
-                elements.add(new RoundBracketCloseElement());
-                elements.add(new RoundBracketCloseElement());
+                elements.add(RoundBracketCloseElement.INSTANCE);
+                elements.add(RoundBracketCloseElement.INSTANCE);
+                elements.add(RoundBracketCloseElement.INSTANCE);
                 break;
         }
 
-        return elements;
     }
 
     // Tis addressed from 0 to n-1.
 
-    private void PC1N_Ch(List<Element> elements, ChainEvents Tis, int i) {
+    private void PC1N_Ch(ElementSink elements, ChainEvents Tis, int i) {
         if (i < Tis.size()) {
             ChainEvent Ti = Tis.getTi(i);
 
             EventConstraint lZi = Ti.getConstraint();
-            String lcntZi = lZi != null ? cnt(lZi.getEvent()) : "true";
+            Element lcntZi = lZi != null ? cnt(lZi.getEvent()) : new MiscElement("true");
 
             // unconstrained
-            if (lcntZi.equals("true")) {
+            if (lZi == null) {
                 // no Zi
                 elements.add(languageDefinitions.getAnd());
-                elements.add(new RoundBracketOpenElement());
+                elements.add(RoundBracketOpenElement.INSTANCE);
                 elements.add(languageDefinitions.getNext());
-                elements.add(new RoundBracketOpenElement());
+                elements.add(RoundBracketOpenElement.INSTANCE);
                 elements.add(languageDefinitions.getEventually());
-                elements.add(new SpaceElement());
-                elements.add(new RoundBracketOpenElement());
+                elements.add(SpaceElement.INSTANCE);
+                elements.add(RoundBracketOpenElement.INSTANCE);
                 elements.add(Ti.getEvent());
                 PC1N_Ch(elements, Tis, i + 1);
-                elements.add(new RoundBracketCloseElement());
-                elements.add(new RoundBracketCloseElement());
-                elements.add(new RoundBracketCloseElement());
+                elements.add(RoundBracketCloseElement.INSTANCE);
+                elements.add(RoundBracketCloseElement.INSTANCE);
+                elements.add(RoundBracketCloseElement.INSTANCE);
             } else {
                 // with Zi
                 elements.add(languageDefinitions.getAnd());
-                elements.add(new RoundBracketOpenElement());
+                elements.add(RoundBracketOpenElement.INSTANCE);
                 elements.add(languageDefinitions.getNext());
-                elements.add(new RoundBracketOpenElement());
-                elements.add(new MiscElement(lcntZi));
+                elements.add(RoundBracketOpenElement.INSTANCE);
+                elements.add(lcntZi);
                 elements.add(languageDefinitions.getUntil());
-                elements.add(new SpaceElement());
-                elements.add(new RoundBracketOpenElement());
-                elements.add(languageDefinitions.getAnd());
+                elements.add(SpaceElement.INSTANCE);
+                elements.add(RoundBracketOpenElement.INSTANCE);
                 elements.add(Ti.getEvent());
-                elements.add(new MiscElement(lcntZi));
+                elements.add(languageDefinitions.getAnd());
+                elements.add(lcntZi);
                 PC1N_Ch(elements, Tis, i + 1);
-                elements.add(new RoundBracketCloseElement());
-                elements.add(new RoundBracketCloseElement());
-                elements.add(new RoundBracketCloseElement());
+                elements.add(RoundBracketCloseElement.INSTANCE);
+                elements.add(RoundBracketCloseElement.INSTANCE);
+                elements.add(RoundBracketCloseElement.INSTANCE);
             }
         }
     }
 
-    private void PC1N_Ch2(List<Element> elements, ChainEvents Tis, int i, Scope scope) {
+    private void PC1N_Ch2(ElementSink elements, ChainEvents Tis, int i, Scope scope) {
         if (i < Tis.size()) {
             ChainEvent Ti = Tis.getTi(i);
 
             EventConstraint lZi = Ti.getConstraint();
-            String lcntZi = lZi != null ? cnt(lZi.getEvent()) : "true";
+            Element lcntZi = lZi != null ? cnt(lZi.getEvent()) : new MiscElement("true");
 
             // unconstrained
-            if (lcntZi.equals("true")) {
+            if (lZi == null) {
                 // no Zi
                 elements.add(languageDefinitions.getAnd());
-                elements.add(new RoundBracketOpenElement());
+                elements.add(RoundBracketOpenElement.INSTANCE);
                 elements.add(languageDefinitions.getNext());
-                elements.add(new RoundBracketOpenElement());
+                elements.add(RoundBracketOpenElement.INSTANCE);
                 elements.add(languageDefinitions.getNot());
                 elements.add(scope.getR());
                 elements.add(languageDefinitions.getUntil());
-                elements.add(new SpaceElement());
-                elements.add(new RoundBracketOpenElement());
+                elements.add(SpaceElement.INSTANCE);
+                elements.add(RoundBracketOpenElement.INSTANCE);
                 elements.add(Ti.getEvent());
                 elements.add(languageDefinitions.getAnd());
                 elements.add(languageDefinitions.getNot());
                 elements.add(scope.getR());
                 PC1N_Ch2(elements, Tis, i + 1, scope);
-                elements.add(new RoundBracketCloseElement());
-                elements.add(new RoundBracketCloseElement());
-                elements.add(new RoundBracketCloseElement());
+                elements.add(RoundBracketCloseElement.INSTANCE);
+                elements.add(RoundBracketCloseElement.INSTANCE);
+                elements.add(RoundBracketCloseElement.INSTANCE);
             } else {
                 // with Zi
                 elements.add(languageDefinitions.getAnd());
-                elements.add(new RoundBracketOpenElement());
+                elements.add(RoundBracketOpenElement.INSTANCE);
                 elements.add(languageDefinitions.getNext());
-                elements.add(new RoundBracketOpenElement());
+                elements.add(RoundBracketOpenElement.INSTANCE);
                 elements.add(languageDefinitions.getNot());
                 elements.add(scope.getR());
                 elements.add(languageDefinitions.getAnd());
-                elements.add(new RoundBracketOpenElement());
-                elements.add(new MiscElement(lcntZi));
+                elements.add(RoundBracketOpenElement.INSTANCE);
+                elements.add(lcntZi);
                 elements.add(languageDefinitions.getUntil());
-                elements.add(new RoundBracketOpenElement());
+                elements.add(RoundBracketOpenElement.INSTANCE);
                 elements.add(Ti.getEvent());
                 elements.add(languageDefinitions.getAnd());
-                elements.add(new MiscElement(lcntZi));
+                elements.add(lcntZi);
                 PC1N_Ch2(elements, Tis, i + 1, scope);
-                elements.add(new RoundBracketCloseElement());
-                elements.add(new RoundBracketCloseElement());
-                elements.add(new RoundBracketCloseElement());
-                elements.add(new RoundBracketCloseElement());
+                elements.add(RoundBracketCloseElement.INSTANCE);
+                elements.add(RoundBracketCloseElement.INSTANCE);
+                elements.add(RoundBracketCloseElement.INSTANCE);
+                elements.add(RoundBracketCloseElement.INSTANCE);
             }
         }
     }
 
-    private List<Element> mapPrecedenceChain1N(Scope aScope, PrecedenceChain1N aPattern) {
-        List<Element> elements = new ArrayList<>();
+    private void mapPrecedenceChain1N(Scope aScope, PrecedenceChain1N aPattern, ElementSink elements) {
         EventConstraint lZS = aPattern.getSConstraint();
-        String lcntZS = lZS != null ? cnt(lZS.getEvent()) : "true";
-        boolean lHasConstraint = !lcntZS.equals("true");
+        Element lcntZS = lZS != null ? cnt(lZS.getEvent()) : new MiscElement("true");
+        boolean lHasConstraint = lZS != null;
         ChainEvents Tis = aPattern.getTis();
 
         switch (aScope.getType()) {
             case PSPConstants.S_Globally:
-                elements.add(languageDefinitions.getAlways());
-                elements.add(new RoundBracketOpenElement());
                 elements.add(languageDefinitions.getEventually());
-                elements.add(new RoundBracketOpenElement());
+                elements.add(RoundBracketOpenElement.INSTANCE);
                 elements.add(aPattern.getS());
                 if (lHasConstraint) {
                     // has ZS
                     elements.add(languageDefinitions.getAnd());
-                    elements.add(new MiscElement(lcntZS));
+                    elements.add(lcntZS);
                 }
                 PC1N_Ch(elements, Tis, 0);
-                elements.add(new RoundBracketCloseElement());
+                elements.add(RoundBracketCloseElement.INSTANCE);
                 elements.add(languageDefinitions.getImplication());
-                elements.add(new RoundBracketOpenElement());
-                elements.add(new RoundBracketOpenElement());
+                elements.add(RoundBracketOpenElement.INSTANCE);
+                elements.add(RoundBracketOpenElement.INSTANCE);
                 elements.add(languageDefinitions.getNot());
                 elements.add(aPattern.getS());
                 if (lHasConstraint) {
                     // has ZS
                     elements.add(languageDefinitions.getAnd());
-                    elements.add(new MiscElement(lcntZS));
+                    elements.add(lcntZS);
                 }
-                elements.add(new RoundBracketCloseElement());
+                elements.add(RoundBracketCloseElement.INSTANCE);
                 elements.add(languageDefinitions.getUntil());
                 elements.add(aPattern.getP());
-                elements.add(new RoundBracketCloseElement());
-                elements.add(new RoundBracketCloseElement());
+                elements.add(RoundBracketCloseElement.INSTANCE);
                 break;
             case PSPConstants.S_BeforeR:
-                elements.add(new RoundBracketOpenElement());
+                elements.add(RoundBracketOpenElement.INSTANCE);
                 elements.add(languageDefinitions.getEventually());
                 elements.add(aScope.getR());
-                elements.add(new RoundBracketCloseElement());
+                elements.add(RoundBracketCloseElement.INSTANCE);
                 elements.add(languageDefinitions.getImplication());
-                elements.add(new RoundBracketOpenElement());
-                elements.add(new RoundBracketOpenElement());
+                elements.add(RoundBracketOpenElement.INSTANCE);
+                elements.add(RoundBracketOpenElement.INSTANCE);
                 elements.add(languageDefinitions.getNot());
-                elements.add(new RoundBracketOpenElement());
+                elements.add(RoundBracketOpenElement.INSTANCE);
                 elements.add(aPattern.getS());
                 elements.add(languageDefinitions.getAnd());
                 elements.add(languageDefinitions.getNot());
@@ -781,628 +784,619 @@ public class LTLMapper extends GenericMapper {
                 if (lHasConstraint) {
                     // has ZS
                     elements.add(languageDefinitions.getAnd());
-                    elements.add(new MiscElement(lcntZS));
+                    elements.add(lcntZS);
                 }
                 PC1N_Ch2(elements, Tis, 0, aScope);
-                elements.add(new RoundBracketCloseElement());
-                elements.add(new RoundBracketCloseElement());
+                elements.add(RoundBracketCloseElement.INSTANCE);
+                elements.add(RoundBracketCloseElement.INSTANCE);
                 elements.add(languageDefinitions.getUntil());
-                elements.add(new RoundBracketOpenElement());
+                elements.add(RoundBracketOpenElement.INSTANCE);
                 elements.add(aScope.getR());
                 elements.add(languageDefinitions.getOr());
                 elements.add(aPattern.getP());
-                elements.add(new RoundBracketCloseElement());
-                elements.add(new RoundBracketCloseElement());
+                elements.add(RoundBracketCloseElement.INSTANCE);
+                elements.add(RoundBracketCloseElement.INSTANCE);
                 break;
             case PSPConstants.S_AfterQ:
-                elements.add(new RoundBracketOpenElement());
+                elements.add(RoundBracketOpenElement.INSTANCE);
                 elements.add(languageDefinitions.getAlways());
                 elements.add(languageDefinitions.getNot());
                 elements.add(aScope.getQ());
-                elements.add(new RoundBracketCloseElement());
+                elements.add(RoundBracketCloseElement.INSTANCE);
                 elements.add(languageDefinitions.getOr());
-                elements.add(new RoundBracketOpenElement());
+                elements.add(RoundBracketOpenElement.INSTANCE);
                 elements.add(languageDefinitions.getNot());
                 elements.add(aScope.getQ());
                 elements.add(languageDefinitions.getUntil());
-                elements.add(new RoundBracketOpenElement());
+                elements.add(RoundBracketOpenElement.INSTANCE);
                 elements.add(aScope.getQ());
                 elements.add(languageDefinitions.getAnd());
-                elements.add(new RoundBracketOpenElement());
-                elements.add(new RoundBracketOpenElement());
+                elements.add(RoundBracketOpenElement.INSTANCE);
+                elements.add(RoundBracketOpenElement.INSTANCE);
                 elements.add(languageDefinitions.getEventually());
-                elements.add(new RoundBracketOpenElement());
+                elements.add(RoundBracketOpenElement.INSTANCE);
                 elements.add(aPattern.getS());
                 if (lHasConstraint) {
                     // has ZS
                     elements.add(languageDefinitions.getAnd());
-                    elements.add(new MiscElement(lcntZS));
+                    elements.add(lcntZS);
                 }
                 PC1N_Ch(elements, Tis, 0);
-                elements.add(new RoundBracketCloseElement());
-                elements.add(new RoundBracketCloseElement());
+                elements.add(RoundBracketCloseElement.INSTANCE);
+                elements.add(RoundBracketCloseElement.INSTANCE);
                 elements.add(languageDefinitions.getImplication());
-                elements.add(new RoundBracketOpenElement());
-                elements.add(new RoundBracketOpenElement());
+                elements.add(RoundBracketOpenElement.INSTANCE);
+                elements.add(RoundBracketOpenElement.INSTANCE);
                 elements.add(languageDefinitions.getNot());
                 elements.add(aPattern.getS());
                 if (lHasConstraint) {
                     // has ZS
                     elements.add(languageDefinitions.getAnd());
-                    elements.add(new MiscElement(lcntZS));
+                    elements.add(lcntZS);
                 }
-                elements.add(new RoundBracketCloseElement());
+                elements.add(RoundBracketCloseElement.INSTANCE);
                 elements.add(languageDefinitions.getUntil());
                 elements.add(aPattern.getP());
-                elements.add(new RoundBracketCloseElement());
-                elements.add(new RoundBracketCloseElement());
-                elements.add(new RoundBracketCloseElement());
-                elements.add(new RoundBracketCloseElement());
+                elements.add(RoundBracketCloseElement.INSTANCE);
+                elements.add(RoundBracketCloseElement.INSTANCE);
+                elements.add(RoundBracketCloseElement.INSTANCE);
+                elements.add(RoundBracketCloseElement.INSTANCE);
                 break;
             case PSPConstants.S_BetweenQandR:
                 elements.add(languageDefinitions.getAlways());
-                elements.add(new RoundBracketOpenElement());
-                elements.add(new RoundBracketOpenElement());
+                elements.add(RoundBracketOpenElement.INSTANCE);
+                elements.add(RoundBracketOpenElement.INSTANCE);
                 elements.add(aScope.getQ());
                 elements.add(languageDefinitions.getAnd());
                 elements.add(languageDefinitions.getEventually());
                 elements.add(aScope.getR());
-                elements.add(new RoundBracketCloseElement());
+                elements.add(RoundBracketCloseElement.INSTANCE);
                 elements.add(languageDefinitions.getImplication());
-                elements.add(new RoundBracketOpenElement());
-                elements.add(new RoundBracketOpenElement());
+                elements.add(RoundBracketOpenElement.INSTANCE);
+                elements.add(RoundBracketOpenElement.INSTANCE);
                 elements.add(languageDefinitions.getNot());
-                elements.add(new RoundBracketOpenElement());
+                elements.add(RoundBracketOpenElement.INSTANCE);
                 elements.add(aPattern.getS());
                 elements.add(languageDefinitions.getAnd());
                 elements.add(languageDefinitions.getNot());
                 elements.add(aScope.getR());
                 if (lHasConstraint) {
                     elements.add(languageDefinitions.getAnd());
-                    elements.add(new MiscElement(lcntZS));
+                    elements.add(lcntZS);
                 }
                 PC1N_Ch2(elements, Tis, 0, aScope);
-                elements.add(new RoundBracketCloseElement());
-                elements.add(new RoundBracketCloseElement());
+                elements.add(RoundBracketCloseElement.INSTANCE);
+                elements.add(RoundBracketCloseElement.INSTANCE);
                 elements.add(languageDefinitions.getUntil());
-                elements.add(new RoundBracketOpenElement());
+                elements.add(RoundBracketOpenElement.INSTANCE);
                 elements.add(aScope.getR());
                 elements.add(languageDefinitions.getOr());
                 elements.add(aPattern.getP());
-                elements.add(new RoundBracketCloseElement());
-                elements.add(new RoundBracketCloseElement());
-                elements.add(new RoundBracketCloseElement());
+                elements.add(RoundBracketCloseElement.INSTANCE);
+                elements.add(RoundBracketCloseElement.INSTANCE);
+                elements.add(RoundBracketCloseElement.INSTANCE);
                 break;
             case PSPConstants.S_AfterQuntilR:
                 elements.add(languageDefinitions.getAlways());
-                elements.add(new RoundBracketOpenElement());
+                elements.add(RoundBracketOpenElement.INSTANCE);
                 elements.add(aScope.getQ());
                 elements.add(languageDefinitions.getImplication());
-                elements.add(new RoundBracketOpenElement());
-                elements.add(new RoundBracketOpenElement());
+                elements.add(RoundBracketOpenElement.INSTANCE);
+                elements.add(RoundBracketOpenElement.INSTANCE);
                 elements.add(languageDefinitions.getNot());
-                elements.add(new RoundBracketOpenElement());
+                elements.add(RoundBracketOpenElement.INSTANCE);
                 elements.add(aPattern.getS());
                 elements.add(languageDefinitions.getAnd());
                 elements.add(languageDefinitions.getNot());
                 elements.add(aScope.getR());
                 if (lHasConstraint) {
                     elements.add(languageDefinitions.getAnd());
-                    elements.add(new MiscElement(lcntZS));
+                    elements.add(lcntZS);
                 }
                 PC1N_Ch2(elements, Tis, 0, aScope);
-                elements.add(new RoundBracketCloseElement());
-                elements.add(new RoundBracketCloseElement());
+                elements.add(RoundBracketCloseElement.INSTANCE);
+                elements.add(RoundBracketCloseElement.INSTANCE);
                 elements.add(languageDefinitions.getUntil());
-                elements.add(new RoundBracketOpenElement());
-                elements.add(new RoundBracketOpenElement());
+                elements.add(RoundBracketOpenElement.INSTANCE);
+                elements.add(RoundBracketOpenElement.INSTANCE);
                 elements.add(aScope.getR());
                 elements.add(languageDefinitions.getOr());
                 elements.add(aPattern.getP());
-                elements.add(new RoundBracketCloseElement());
+                elements.add(RoundBracketCloseElement.INSTANCE);
                 elements.add(languageDefinitions.getOr());
-                elements.add(new RoundBracketOpenElement());
+                elements.add(RoundBracketOpenElement.INSTANCE);
                 elements.add(languageDefinitions.getAlways());
-                elements.add(new RoundBracketOpenElement());
+                elements.add(RoundBracketOpenElement.INSTANCE);
                 elements.add(languageDefinitions.getNot());
-                elements.add(new RoundBracketOpenElement());
+                elements.add(RoundBracketOpenElement.INSTANCE);
                 elements.add(aPattern.getS());
-                elements.add(languageDefinitions.getAnd());
                 PC1N_Ch(elements, Tis, 0);
-                elements.add(new RoundBracketCloseElement());
-                elements.add(new RoundBracketCloseElement());
-                elements.add(new RoundBracketCloseElement());
-                elements.add(new RoundBracketCloseElement());
-                elements.add(new RoundBracketCloseElement());
-                elements.add(new RoundBracketCloseElement());
+                elements.add(RoundBracketCloseElement.INSTANCE);
+                elements.add(RoundBracketCloseElement.INSTANCE);
+                elements.add(RoundBracketCloseElement.INSTANCE);
+                elements.add(RoundBracketCloseElement.INSTANCE);
+                elements.add(RoundBracketCloseElement.INSTANCE);
+                elements.add(RoundBracketCloseElement.INSTANCE);
                 break;
         }
 
-        return elements;
     }
 
     // Tis addressed from 0 to n-1.
 
-    private void PCN1_Ch(List<Element> elements, PrecedenceChainN1 aPattern, int i) {
+    private void PCN1_Ch(ElementSink elements, PrecedenceChainN1 aPattern, int i) {
         ChainEvents Tis = aPattern.getTis();
 
         if (i < Tis.size()) {
             ChainEvent Ti = Tis.getTi(i);
 
             EventConstraint lZi = Ti.getConstraint();
-            String lcntZi = lZi != null ? cnt(lZi.getEvent()) : "true";
+            Element lcntZi = lZi != null ? cnt(lZi.getEvent()) : new MiscElement("true");
 
             // unconstrained
-            if (lcntZi.equals("true")) {
+            if (lZi == null) {
                 // no Zi
                 elements.add(languageDefinitions.getAnd());
-                elements.add(new RoundBracketOpenElement());
+                elements.add(RoundBracketOpenElement.INSTANCE);
                 elements.add(languageDefinitions.getNext());
-                elements.add(new RoundBracketOpenElement());
+                elements.add(RoundBracketOpenElement.INSTANCE);
                 elements.add(languageDefinitions.getNot());
                 elements.add(aPattern.getP());
                 elements.add(languageDefinitions.getUntil());
-                elements.add(new RoundBracketOpenElement());
+                elements.add(RoundBracketOpenElement.INSTANCE);
                 elements.add(Ti.getEvent());
                 elements.add(languageDefinitions.getAnd());
                 elements.add(languageDefinitions.getNot());
                 elements.add(aPattern.getP());
                 PCN1_Ch(elements, aPattern, i + 1);
-                elements.add(new RoundBracketCloseElement());
-                elements.add(new RoundBracketCloseElement());
-                elements.add(new RoundBracketCloseElement());
+                elements.add(RoundBracketCloseElement.INSTANCE);
+                elements.add(RoundBracketCloseElement.INSTANCE);
+                elements.add(RoundBracketCloseElement.INSTANCE);
             } else {
                 // with Zi
                 elements.add(languageDefinitions.getAnd());
-                elements.add(new RoundBracketOpenElement());
+                elements.add(RoundBracketOpenElement.INSTANCE);
                 elements.add(languageDefinitions.getNext());
-                elements.add(new RoundBracketOpenElement());
-                elements.add(new RoundBracketOpenElement());
+                elements.add(RoundBracketOpenElement.INSTANCE);
+                elements.add(RoundBracketOpenElement.INSTANCE);
                 elements.add(languageDefinitions.getNot());
                 elements.add(aPattern.getP());
                 elements.add(languageDefinitions.getAnd());
-                elements.add(new MiscElement(lcntZi));
-                elements.add(new RoundBracketCloseElement());
+                elements.add(lcntZi);
+                elements.add(RoundBracketCloseElement.INSTANCE);
                 elements.add(languageDefinitions.getUntil());
-                elements.add(new RoundBracketOpenElement());
+                elements.add(RoundBracketOpenElement.INSTANCE);
                 elements.add(Ti.getEvent());
                 elements.add(languageDefinitions.getAnd());
                 elements.add(languageDefinitions.getNot());
                 elements.add(aPattern.getP());
                 elements.add(languageDefinitions.getAnd());
-                elements.add(new MiscElement(lcntZi));
+                elements.add(lcntZi);
                 PCN1_Ch(elements, aPattern, i + 1);
-                elements.add(new RoundBracketCloseElement());
-                elements.add(new RoundBracketCloseElement());
-                elements.add(new RoundBracketCloseElement());
+                elements.add(RoundBracketCloseElement.INSTANCE);
+                elements.add(RoundBracketCloseElement.INSTANCE);
+                elements.add(RoundBracketCloseElement.INSTANCE);
             }
         }
     }
 
-    private List<Element> mapPrecedenceChainN1(Scope aScope, PrecedenceChainN1 aPattern) {
-        List<Element> elements = new ArrayList<>();
+    private void mapPrecedenceChainN1(Scope aScope, PrecedenceChainN1 aPattern, ElementSink elements) {
         EventConstraint lZP = aPattern.getPConstraint();
-        String lcntZP = lZP != null ? cnt(lZP.getEvent()) : "true";
-        boolean lHasConstraint = !lcntZP.equals("true");
+        Element lcntZP = lZP != null ? cnt(lZP.getEvent()) : new MiscElement("true");
+        boolean lHasConstraint = lZP != null;
         ChainEvents Tis = aPattern.getTis();
 
         switch (aScope.getType()) {
             case PSPConstants.S_Globally:
-                elements.add(new RoundBracketOpenElement());
+                elements.add(RoundBracketOpenElement.INSTANCE);
                 elements.add(languageDefinitions.getEventually());
                 elements.add(aPattern.getP());
-                elements.add(new RoundBracketCloseElement());
+                elements.add(RoundBracketCloseElement.INSTANCE);
                 elements.add(languageDefinitions.getImplication());
-                elements.add(new RoundBracketOpenElement());
-                elements.add(new RoundBracketOpenElement());
+                elements.add(RoundBracketOpenElement.INSTANCE);
+                elements.add(RoundBracketOpenElement.INSTANCE);
                 elements.add(languageDefinitions.getNot());
                 elements.add(aPattern.getP());
                 if (lHasConstraint) {
                     elements.add(languageDefinitions.getAnd());
-                    elements.add(new MiscElement(lcntZP));
+                    elements.add(lcntZP);
                 }
-                elements.add(new RoundBracketCloseElement());
+                elements.add(RoundBracketCloseElement.INSTANCE);
                 elements.add(languageDefinitions.getUntil());
-                elements.add(new RoundBracketOpenElement());
+                elements.add(RoundBracketOpenElement.INSTANCE);
                 elements.add(aPattern.getS());
                 elements.add(languageDefinitions.getAnd());
                 elements.add(languageDefinitions.getNot());
                 elements.add(aPattern.getP());
                 if (lHasConstraint) {
                     elements.add(languageDefinitions.getAnd());
-                    elements.add(new MiscElement(lcntZP));
+                    elements.add(lcntZP);
                 }
                 PCN1_Ch(elements, aPattern, 0);
-                elements.add(new RoundBracketCloseElement());
-                elements.add(new RoundBracketCloseElement());
+                elements.add(RoundBracketCloseElement.INSTANCE);
+                elements.add(RoundBracketCloseElement.INSTANCE);
                 break;
             case PSPConstants.S_BeforeR:
-                elements.add(new RoundBracketOpenElement());
+                elements.add(RoundBracketOpenElement.INSTANCE);
                 elements.add(languageDefinitions.getEventually());
                 elements.add(aScope.getR());
-                elements.add(new RoundBracketCloseElement());
+                elements.add(RoundBracketCloseElement.INSTANCE);
                 elements.add(languageDefinitions.getImplication());
-                elements.add(new RoundBracketOpenElement());
-                elements.add(new RoundBracketOpenElement());
+                elements.add(RoundBracketOpenElement.INSTANCE);
+                elements.add(RoundBracketOpenElement.INSTANCE);
                 elements.add(languageDefinitions.getNot());
                 elements.add(aPattern.getP());
                 if (lHasConstraint) {
                     elements.add(languageDefinitions.getAnd());
-                    elements.add(new MiscElement(lcntZP));
+                    elements.add(lcntZP);
                 }
-                elements.add(new RoundBracketCloseElement());
+                elements.add(RoundBracketCloseElement.INSTANCE);
                 elements.add(languageDefinitions.getUntil());
-                elements.add(new RoundBracketOpenElement());
+                elements.add(RoundBracketOpenElement.INSTANCE);
                 elements.add(aScope.getR());
                 elements.add(languageDefinitions.getOr());
-                elements.add(new RoundBracketOpenElement());
-                elements.add(new RoundBracketOpenElement());
+                elements.add(RoundBracketOpenElement.INSTANCE);
+                elements.add(RoundBracketOpenElement.INSTANCE);
                 elements.add(aPattern.getS());
                 elements.add(languageDefinitions.getAnd());
                 elements.add(languageDefinitions.getNot());
                 elements.add(aPattern.getP());
                 if (lHasConstraint) {
                     elements.add(languageDefinitions.getAnd());
-                    elements.add(new MiscElement(lcntZP));
+                    elements.add(lcntZP);
                 }
                 PCN1_Ch(elements, aPattern, 0);
-                elements.add(new RoundBracketCloseElement());
-                elements.add(new RoundBracketCloseElement());
-                elements.add(new RoundBracketCloseElement());
-                elements.add(new RoundBracketCloseElement());
+                elements.add(RoundBracketCloseElement.INSTANCE);
+                elements.add(RoundBracketCloseElement.INSTANCE);
+                elements.add(RoundBracketCloseElement.INSTANCE);
+                elements.add(RoundBracketCloseElement.INSTANCE);
                 break;
             case PSPConstants.S_AfterQ:
-                elements.add(new RoundBracketOpenElement());
+                elements.add(RoundBracketOpenElement.INSTANCE);
                 elements.add(languageDefinitions.getAlways());
                 elements.add(languageDefinitions.getNot());
                 elements.add(aScope.getQ());
-                elements.add(new RoundBracketCloseElement());
+                elements.add(RoundBracketCloseElement.INSTANCE);
                 elements.add(languageDefinitions.getOr());
-                elements.add(new RoundBracketOpenElement());
+                elements.add(RoundBracketOpenElement.INSTANCE);
                 elements.add(languageDefinitions.getNot());
                 elements.add(aScope.getQ());
                 elements.add(languageDefinitions.getUntil());
-                elements.add(new RoundBracketOpenElement());
-                elements.add(new RoundBracketOpenElement());
+                elements.add(RoundBracketOpenElement.INSTANCE);
                 elements.add(aScope.getQ());
                 elements.add(languageDefinitions.getAnd());
-                elements.add(new RoundBracketOpenElement());
+                elements.add(RoundBracketOpenElement.INSTANCE);
+                elements.add(RoundBracketOpenElement.INSTANCE);
                 elements.add(languageDefinitions.getEventually());
                 elements.add(aPattern.getP());
-                elements.add(new RoundBracketCloseElement());
-                elements.add(new RoundBracketCloseElement());
+                elements.add(RoundBracketCloseElement.INSTANCE);
                 elements.add(languageDefinitions.getImplication());
-                elements.add(new RoundBracketOpenElement());
-                elements.add(new RoundBracketOpenElement());
+                elements.add(RoundBracketOpenElement.INSTANCE);
+                elements.add(RoundBracketOpenElement.INSTANCE);
                 elements.add(languageDefinitions.getNot());
                 elements.add(aPattern.getP());
                 if (lHasConstraint) {
                     elements.add(languageDefinitions.getAnd());
-                    elements.add(new MiscElement(lcntZP));
+                    elements.add(lcntZP);
                 }
-                elements.add(new RoundBracketCloseElement());
+                elements.add(RoundBracketCloseElement.INSTANCE);
                 elements.add(languageDefinitions.getUntil());
-                elements.add(new RoundBracketOpenElement());
+                elements.add(RoundBracketOpenElement.INSTANCE);
                 elements.add(aPattern.getS());
                 elements.add(languageDefinitions.getAnd());
                 elements.add(languageDefinitions.getNot());
                 elements.add(aPattern.getP());
                 if (lHasConstraint) {
                     elements.add(languageDefinitions.getAnd());
-                    elements.add(new MiscElement(lcntZP));
+                    elements.add(lcntZP);
                 }
                 PCN1_Ch(elements, aPattern, 0);
-                elements.add(new RoundBracketCloseElement());
-                elements.add(new RoundBracketCloseElement());
-                elements.add(new RoundBracketCloseElement());
-                elements.add(new RoundBracketCloseElement());
+                elements.add(RoundBracketCloseElement.INSTANCE);
+                elements.add(RoundBracketCloseElement.INSTANCE);
+                elements.add(RoundBracketCloseElement.INSTANCE);
+                elements.add(RoundBracketCloseElement.INSTANCE);
+                elements.add(RoundBracketCloseElement.INSTANCE);
                 break;
             case PSPConstants.S_BetweenQandR:
                 elements.add(languageDefinitions.getAlways());
-                elements.add(new RoundBracketOpenElement());
-                elements.add(new RoundBracketOpenElement());
+                elements.add(RoundBracketOpenElement.INSTANCE);
+                elements.add(RoundBracketOpenElement.INSTANCE);
                 elements.add(aScope.getQ());
                 elements.add(languageDefinitions.getAnd());
-                elements.add(new RoundBracketOpenElement());
+                elements.add(RoundBracketOpenElement.INSTANCE);
                 elements.add(languageDefinitions.getEventually());
                 elements.add(aScope.getR());
-                elements.add(new RoundBracketCloseElement());
-                elements.add(new RoundBracketCloseElement());
+                elements.add(RoundBracketCloseElement.INSTANCE);
+                elements.add(RoundBracketCloseElement.INSTANCE);
                 elements.add(languageDefinitions.getImplication());
-                elements.add(new RoundBracketOpenElement());
-                elements.add(new RoundBracketOpenElement());
+                elements.add(RoundBracketOpenElement.INSTANCE);
+                elements.add(RoundBracketOpenElement.INSTANCE);
                 elements.add(languageDefinitions.getNot());
                 elements.add(aPattern.getP());
                 if (lHasConstraint) {
                     elements.add(languageDefinitions.getAnd());
-                    elements.add(new MiscElement(lcntZP));
+                    elements.add(lcntZP);
                 }
-                elements.add(new RoundBracketCloseElement());
+                elements.add(RoundBracketCloseElement.INSTANCE);
                 elements.add(languageDefinitions.getUntil());
-                elements.add(new RoundBracketOpenElement());
+                elements.add(RoundBracketOpenElement.INSTANCE);
                 elements.add(aScope.getR());
                 elements.add(languageDefinitions.getOr());
-                elements.add(new RoundBracketOpenElement());
-                elements.add(new RoundBracketOpenElement());
+                elements.add(RoundBracketOpenElement.INSTANCE);
+                elements.add(RoundBracketOpenElement.INSTANCE);
                 elements.add(aPattern.getS());
                 elements.add(languageDefinitions.getAnd());
                 elements.add(languageDefinitions.getNot());
                 elements.add(aPattern.getP());
                 if (lHasConstraint) {
                     elements.add(languageDefinitions.getAnd());
-                    elements.add(new MiscElement(lcntZP));
+                    elements.add(lcntZP);
                 }
                 PCN1_Ch(elements, aPattern, 0);
-                elements.add(new RoundBracketCloseElement());
-                elements.add(new RoundBracketCloseElement());
-                elements.add(new RoundBracketCloseElement());
-                elements.add(new RoundBracketCloseElement());
-                elements.add(new RoundBracketCloseElement());
+                elements.add(RoundBracketCloseElement.INSTANCE);
+                elements.add(RoundBracketCloseElement.INSTANCE);
+                elements.add(RoundBracketCloseElement.INSTANCE);
+                elements.add(RoundBracketCloseElement.INSTANCE);
+                elements.add(RoundBracketCloseElement.INSTANCE);
                 break;
             case PSPConstants.S_AfterQuntilR:
                 elements.add(languageDefinitions.getAlways());
-                elements.add(new RoundBracketOpenElement());
+                elements.add(RoundBracketOpenElement.INSTANCE);
                 elements.add(aScope.getQ());
                 elements.add(languageDefinitions.getImplication());
-                elements.add(new RoundBracketOpenElement());
-                elements.add(new RoundBracketOpenElement());
-                elements.add(languageDefinitions.getEventually());
-                elements.add(aScope.getR());
-                elements.add(new RoundBracketCloseElement());
-                elements.add(languageDefinitions.getImplication());
-                elements.add(new RoundBracketOpenElement());
-                elements.add(new RoundBracketOpenElement());
+                elements.add(RoundBracketOpenElement.INSTANCE);
+                elements.add(RoundBracketOpenElement.INSTANCE);
                 elements.add(languageDefinitions.getNot());
                 elements.add(aPattern.getP());
                 if (lHasConstraint) {
                     elements.add(languageDefinitions.getAnd());
-                    elements.add(new MiscElement(lcntZP));
+                    elements.add(lcntZP);
                 }
-                elements.add(new RoundBracketCloseElement());
-                elements.add(languageDefinitions.getUntil());
+                elements.add(RoundBracketCloseElement.INSTANCE);
+                elements.add(languageDefinitions.getWeakUntil());
+                elements.add(RoundBracketOpenElement.INSTANCE);
                 elements.add(aScope.getR());
                 elements.add(languageDefinitions.getOr());
-                elements.add(new RoundBracketOpenElement());
-                elements.add(new RoundBracketOpenElement());
+                elements.add(RoundBracketOpenElement.INSTANCE);
+                elements.add(RoundBracketOpenElement.INSTANCE);
                 elements.add(aPattern.getS());
                 elements.add(languageDefinitions.getAnd());
                 elements.add(languageDefinitions.getNot());
                 elements.add(aPattern.getP());
                 if (lHasConstraint) {
                     elements.add(languageDefinitions.getAnd());
-                    elements.add(new MiscElement(lcntZP));
+                    elements.add(lcntZP);
                 }
                 PCN1_Ch(elements, aPattern, 0);
-                elements.add(new RoundBracketCloseElement());
-                elements.add(new RoundBracketCloseElement());
-                elements.add(new RoundBracketCloseElement());
-                elements.add(new RoundBracketCloseElement());
-                elements.add(new RoundBracketCloseElement());
+                elements.add(RoundBracketCloseElement.INSTANCE);
+                elements.add(RoundBracketCloseElement.INSTANCE);
+                elements.add(RoundBracketCloseElement.INSTANCE);
+                elements.add(RoundBracketCloseElement.INSTANCE);
+                elements.add(RoundBracketCloseElement.INSTANCE);
                 break;
         }
 
-        return elements;
     }
 
-    private List<Element> mapUntil(Scope aScope, psp.sel.patterns.order.Until aPattern) {
-        List<Element> elements = new ArrayList<>();
+    private void mapUntil(Scope aScope, psp.sel.patterns.order.Until aPattern, ElementSink elements) {
         switch (aScope.getType()) {
             case PSPConstants.S_Globally:
                 elements.add(aPattern.getP());
                 elements.add(languageDefinitions.getUntil());
-                elements.add(new SpaceElement());
+                elements.add(SpaceElement.INSTANCE);
                 elements.add(aPattern.getS());
                 break;
             case PSPConstants.S_BeforeR:
-                elements.add(new RoundBracketOpenElement());
+                elements.add(RoundBracketOpenElement.INSTANCE);
                 elements.add(languageDefinitions.getEventually());
                 elements.add(aScope.getR());
-                elements.add(new RoundBracketCloseElement());
+                elements.add(RoundBracketCloseElement.INSTANCE);
                 elements.add(languageDefinitions.getImplication());
-                elements.add(new RoundBracketOpenElement());
-                elements.add(new RoundBracketOpenElement());
+                elements.add(RoundBracketOpenElement.INSTANCE);
+                elements.add(RoundBracketOpenElement.INSTANCE);
                 elements.add(aPattern.getP());
                 elements.add(languageDefinitions.getAnd());
                 elements.add(languageDefinitions.getNot());
                 elements.add(aScope.getR());
-                elements.add(new RoundBracketCloseElement());
+                elements.add(RoundBracketCloseElement.INSTANCE);
                 elements.add(languageDefinitions.getUntil());
-                elements.add(new SpaceElement());
-                elements.add(new RoundBracketOpenElement());
+                elements.add(SpaceElement.INSTANCE);
+                elements.add(RoundBracketOpenElement.INSTANCE);
                 elements.add(aPattern.getS());
-                elements.add(languageDefinitions.getOr());
+                elements.add(languageDefinitions.getAnd());
+                elements.add(languageDefinitions.getNot());
                 elements.add(aScope.getR());
-                elements.add(new RoundBracketCloseElement());
-                elements.add(new RoundBracketCloseElement());
+                elements.add(RoundBracketCloseElement.INSTANCE);
+                elements.add(RoundBracketCloseElement.INSTANCE);
                 break;
             case PSPConstants.S_AfterQ:
                 elements.add(languageDefinitions.getAlways());
-                elements.add(new RoundBracketOpenElement());
+                elements.add(RoundBracketOpenElement.INSTANCE);
                 elements.add(aScope.getQ());
                 elements.add(languageDefinitions.getImplication());
-                elements.add(new RoundBracketOpenElement());
+                elements.add(RoundBracketOpenElement.INSTANCE);
                 elements.add(aPattern.getP());
                 elements.add(languageDefinitions.getUntil());
-                elements.add(new SpaceElement());
+                elements.add(SpaceElement.INSTANCE);
                 elements.add(aPattern.getS());
-                elements.add(new RoundBracketCloseElement());
-                elements.add(new RoundBracketCloseElement());
+                elements.add(RoundBracketCloseElement.INSTANCE);
+                elements.add(RoundBracketCloseElement.INSTANCE);
                 break;
             case PSPConstants.S_BetweenQandR:
                 elements.add(languageDefinitions.getAlways());
-                elements.add(new RoundBracketOpenElement());
-                elements.add(new RoundBracketOpenElement());
+                elements.add(RoundBracketOpenElement.INSTANCE);
+                elements.add(RoundBracketOpenElement.INSTANCE);
                 elements.add(aScope.getQ());
                 elements.add(languageDefinitions.getAnd());
                 elements.add(languageDefinitions.getNot());
                 elements.add(aScope.getR());
                 elements.add(languageDefinitions.getAnd());
-                elements.add(new RoundBracketOpenElement());
+                elements.add(RoundBracketOpenElement.INSTANCE);
                 elements.add(languageDefinitions.getEventually());
-                elements.add(new SpaceElement());
+                elements.add(SpaceElement.INSTANCE);
                 elements.add(aScope.getR());
-                elements.add(new RoundBracketCloseElement());
-                elements.add(new RoundBracketCloseElement());
+                elements.add(RoundBracketCloseElement.INSTANCE);
+                elements.add(RoundBracketCloseElement.INSTANCE);
                 elements.add(languageDefinitions.getImplication());
-                elements.add(new RoundBracketOpenElement());
-                elements.add(new RoundBracketOpenElement());
+                elements.add(RoundBracketOpenElement.INSTANCE);
+                elements.add(RoundBracketOpenElement.INSTANCE);
                 elements.add(aPattern.getP());
                 elements.add(languageDefinitions.getAnd());
                 elements.add(languageDefinitions.getNot());
                 elements.add(aScope.getR());
-                elements.add(new RoundBracketCloseElement());
+                elements.add(RoundBracketCloseElement.INSTANCE);
                 elements.add(languageDefinitions.getUntil());
-                elements.add(new SpaceElement());
-                elements.add(new RoundBracketOpenElement());
+                elements.add(SpaceElement.INSTANCE);
+                elements.add(RoundBracketOpenElement.INSTANCE);
                 elements.add(aPattern.getS());
                 elements.add(languageDefinitions.getAnd());
                 elements.add(languageDefinitions.getNot());
                 elements.add(aScope.getR());
-                elements.add(new RoundBracketCloseElement());
-                elements.add(new RoundBracketCloseElement());
-                elements.add(new RoundBracketCloseElement());
+                elements.add(RoundBracketCloseElement.INSTANCE);
+                elements.add(RoundBracketCloseElement.INSTANCE);
+                elements.add(RoundBracketCloseElement.INSTANCE);
                 break;
             case PSPConstants.S_AfterQuntilR:
                 elements.add(languageDefinitions.getAlways());
-                elements.add(new RoundBracketOpenElement());
-                elements.add(new RoundBracketOpenElement());
+                elements.add(RoundBracketOpenElement.INSTANCE);
+                elements.add(RoundBracketOpenElement.INSTANCE);
                 elements.add(aScope.getQ());
                 elements.add(languageDefinitions.getAnd());
-                elements.add(new SpaceElement());
+                elements.add(SpaceElement.INSTANCE);
                 elements.add(languageDefinitions.getNot());
                 elements.add(aScope.getR());
-                elements.add(new RoundBracketCloseElement());
+                elements.add(RoundBracketCloseElement.INSTANCE);
                 elements.add(languageDefinitions.getImplication());
-                elements.add(new RoundBracketOpenElement());
-                elements.add(new RoundBracketOpenElement());
+                elements.add(RoundBracketOpenElement.INSTANCE);
+                elements.add(RoundBracketOpenElement.INSTANCE);
                 elements.add(aPattern.getP());
                 elements.add(languageDefinitions.getUntil());
-                elements.add(new SpaceElement());
+                elements.add(SpaceElement.INSTANCE);
                 elements.add(aPattern.getS());
-                elements.add(new RoundBracketCloseElement());
+                elements.add(RoundBracketCloseElement.INSTANCE);
                 elements.add(languageDefinitions.getWeakUntil());
-                elements.add(new SpaceElement());
+                elements.add(SpaceElement.INSTANCE);
                 elements.add(aScope.getR());
-                elements.add(new RoundBracketCloseElement());
-                elements.add(new RoundBracketCloseElement());
+                elements.add(RoundBracketCloseElement.INSTANCE);
+                elements.add(RoundBracketCloseElement.INSTANCE);
                 break;
         }
 
-        return elements;
     }
 
-    private List<Element> mapResponse(Scope aScope, Response aPattern) {
-        List<Element> elements = new ArrayList<>();
+    private void mapResponse(Scope aScope, Response aPattern, ElementSink elements) {
         EventConstraint lZS = aPattern.getSConstraint();
-        String lcntZS = lZS != null ? cnt(lZS.getEvent()) : "true";
-        boolean lHasConstraint = !lcntZS.equals("true");
+        Element lcntZS = lZS != null ? cnt(lZS.getEvent()) : new MiscElement("true");
+        boolean lHasConstraint = lZS != null;
 
         switch (aScope.getType()) {
             case PSPConstants.S_Globally:
                 elements.add(languageDefinitions.getAlways());
-                elements.add(new RoundBracketOpenElement());
+                elements.add(RoundBracketOpenElement.INSTANCE);
                 elements.add(aPattern.getP());
                 elements.add(languageDefinitions.getImplication());
-                elements.add(new RoundBracketOpenElement());
+                elements.add(RoundBracketOpenElement.INSTANCE);
                 if (lHasConstraint) {
-                    elements.add(new MiscElement(lcntZS));
+                    elements.add(lcntZS);
                     elements.add(languageDefinitions.getUntil());
                 } else {
                     elements.add(languageDefinitions.getEventually());
                 }
-                elements.add(new SpaceElement());
+                elements.add(SpaceElement.INSTANCE);
                 elements.add(aPattern.getS());
-                elements.add(new RoundBracketCloseElement());
-                elements.add(new RoundBracketCloseElement());
+                elements.add(RoundBracketCloseElement.INSTANCE);
+                elements.add(RoundBracketCloseElement.INSTANCE);
                 break;
             case PSPConstants.S_BeforeR:
-                elements.add(new RoundBracketOpenElement());
+                elements.add(RoundBracketOpenElement.INSTANCE);
                 elements.add(languageDefinitions.getEventually());
-                elements.add(new SpaceElement());
+                elements.add(SpaceElement.INSTANCE);
                 elements.add(aScope.getR());
-                elements.add(new RoundBracketCloseElement());
+                elements.add(RoundBracketCloseElement.INSTANCE);
                 elements.add(languageDefinitions.getImplication());
-                elements.add(new RoundBracketOpenElement());
+                elements.add(RoundBracketOpenElement.INSTANCE);
+                elements.add(RoundBracketOpenElement.INSTANCE);
                 elements.add(aPattern.getP());
                 elements.add(languageDefinitions.getImplication());
-                elements.add(new RoundBracketOpenElement());
-                elements.add(new RoundBracketOpenElement());
+                elements.add(RoundBracketOpenElement.INSTANCE);
+                elements.add(RoundBracketOpenElement.INSTANCE);
                 if (lHasConstraint) {
-                    elements.add(new RoundBracketOpenElement());
+                    elements.add(RoundBracketOpenElement.INSTANCE);
                     elements.add(languageDefinitions.getNot());
                     elements.add(aScope.getR());
                     elements.add(languageDefinitions.getAnd());
-                    elements.add(new MiscElement(lcntZS));
-                    elements.add(new RoundBracketCloseElement());
+                    elements.add(lcntZS);
+                    elements.add(RoundBracketCloseElement.INSTANCE);
                 } else {
                     elements.add(languageDefinitions.getNot());
                     elements.add(aScope.getR());
                 }
                 elements.add(languageDefinitions.getUntil());
-                elements.add(new SpaceElement());
-                elements.add(new RoundBracketOpenElement());
+                elements.add(SpaceElement.INSTANCE);
+                elements.add(RoundBracketOpenElement.INSTANCE);
                 elements.add(aPattern.getS());
                 elements.add(languageDefinitions.getAnd());
                 elements.add(languageDefinitions.getNot());
                 elements.add(aScope.getR());
-                elements.add(new RoundBracketCloseElement());
-                elements.add(new RoundBracketCloseElement());
-                elements.add(new RoundBracketCloseElement());
+                elements.add(RoundBracketCloseElement.INSTANCE);
+                elements.add(RoundBracketCloseElement.INSTANCE);
+                elements.add(RoundBracketCloseElement.INSTANCE);
+                elements.add(RoundBracketCloseElement.INSTANCE);
                 elements.add(languageDefinitions.getUntil());
-                elements.add(new SpaceElement());
+                elements.add(SpaceElement.INSTANCE);
                 elements.add(aScope.getR());
-                elements.add(new RoundBracketCloseElement());
+                elements.add(RoundBracketCloseElement.INSTANCE);
                 break;
             case PSPConstants.S_AfterQ:
                 elements.add(languageDefinitions.getAlways());
-                elements.add(new RoundBracketOpenElement());
+                elements.add(RoundBracketOpenElement.INSTANCE);
                 elements.add(aScope.getQ());
                 elements.add(languageDefinitions.getImplication());
                 elements.add(languageDefinitions.getAlways());
-                elements.add(new RoundBracketOpenElement());
+                elements.add(RoundBracketOpenElement.INSTANCE);
                 elements.add(aPattern.getP());
                 elements.add(languageDefinitions.getImplication());
-                elements.add(new RoundBracketOpenElement());
+                elements.add(RoundBracketOpenElement.INSTANCE);
                 if (lHasConstraint) {
-                    elements.add(new MiscElement(lcntZS));
+                    elements.add(lcntZS);
                     elements.add(languageDefinitions.getUntil());
                 } else {
                     elements.add(languageDefinitions.getEventually());
                 }
-                elements.add(new SpaceElement());
+                elements.add(SpaceElement.INSTANCE);
                 elements.add(aPattern.getS());
-                elements.add(new RoundBracketCloseElement());
-                elements.add(new RoundBracketCloseElement());
-                elements.add(new RoundBracketCloseElement());
+                elements.add(RoundBracketCloseElement.INSTANCE);
+                elements.add(RoundBracketCloseElement.INSTANCE);
+                elements.add(RoundBracketCloseElement.INSTANCE);
                 break;
             case PSPConstants.S_BetweenQandR:
                 elements.add(languageDefinitions.getAlways());
-                elements.add(new RoundBracketOpenElement());
-                elements.add(new RoundBracketOpenElement());
+                elements.add(RoundBracketOpenElement.INSTANCE);
+                elements.add(RoundBracketOpenElement.INSTANCE);
                 elements.add(aScope.getQ());
                 elements.add(languageDefinitions.getAnd());
                 elements.add(languageDefinitions.getNot());
                 elements.add(aScope.getR());
                 elements.add(languageDefinitions.getAnd());
-                elements.add(new RoundBracketOpenElement());
+                elements.add(RoundBracketOpenElement.INSTANCE);
                 elements.add(languageDefinitions.getEventually());
-                elements.add(new SpaceElement());
+                elements.add(SpaceElement.INSTANCE);
                 elements.add(aScope.getR());
-                elements.add(new RoundBracketCloseElement());
-                elements.add(new RoundBracketCloseElement());
+                elements.add(RoundBracketCloseElement.INSTANCE);
+                elements.add(RoundBracketCloseElement.INSTANCE);
                 elements.add(languageDefinitions.getImplication());
-                elements.add(new RoundBracketOpenElement());
-                elements.add(new RoundBracketOpenElement());
+                elements.add(RoundBracketOpenElement.INSTANCE);
+                elements.add(RoundBracketOpenElement.INSTANCE);
                 elements.add(aPattern.getP());
                 elements.add(languageDefinitions.getImplication());
-                elements.add(new RoundBracketOpenElement());
+                elements.add(RoundBracketOpenElement.INSTANCE);
                 if (lHasConstraint) {
-                    elements.add(new RoundBracketOpenElement());
+                    elements.add(RoundBracketOpenElement.INSTANCE);
                     elements.add(languageDefinitions.getNot());
                     elements.add(aScope.getR());
                     elements.add(languageDefinitions.getAnd());
-                    elements.add(new MiscElement(lcntZS));
-                    elements.add(new RoundBracketCloseElement());
+                    elements.add(lcntZS);
+                    elements.add(RoundBracketCloseElement.INSTANCE);
                 } else {
                     elements.add(languageDefinitions.getNot());
                     elements.add(aScope.getR());
@@ -1410,120 +1404,119 @@ public class LTLMapper extends GenericMapper {
                     // sb.deleteCharAt(sb.length() - 1);
                 }
                 elements.add(languageDefinitions.getUntil());
-                elements.add(new SpaceElement());
-                elements.add(new RoundBracketOpenElement());
+                elements.add(SpaceElement.INSTANCE);
+                elements.add(RoundBracketOpenElement.INSTANCE);
                 elements.add(aPattern.getS());
                 elements.add(languageDefinitions.getAnd());
                 elements.add(languageDefinitions.getNot());
                 elements.add(aScope.getR());
-                elements.add(new RoundBracketCloseElement());
-                elements.add(new RoundBracketCloseElement());
-                elements.add(new RoundBracketCloseElement());
+                elements.add(RoundBracketCloseElement.INSTANCE);
+                elements.add(RoundBracketCloseElement.INSTANCE);
+                elements.add(RoundBracketCloseElement.INSTANCE);
                 elements.add(languageDefinitions.getUntil());
-                elements.add(new SpaceElement());
+                elements.add(SpaceElement.INSTANCE);
                 elements.add(aScope.getR());
-                elements.add(new RoundBracketCloseElement());
-                elements.add(new RoundBracketCloseElement());
+                elements.add(RoundBracketCloseElement.INSTANCE);
+                elements.add(RoundBracketCloseElement.INSTANCE);
                 break;
             case PSPConstants.S_AfterQuntilR:
                 elements.add(languageDefinitions.getAlways());
-                elements.add(new RoundBracketOpenElement());
-                elements.add(new RoundBracketOpenElement());
+                elements.add(RoundBracketOpenElement.INSTANCE);
+                elements.add(RoundBracketOpenElement.INSTANCE);
                 elements.add(aScope.getQ());
                 elements.add(languageDefinitions.getAnd());
                 elements.add(languageDefinitions.getNot());
                 elements.add(aScope.getR());
-                elements.add(new RoundBracketCloseElement());
+                elements.add(RoundBracketCloseElement.INSTANCE);
                 elements.add(languageDefinitions.getImplication());
-                elements.add(new RoundBracketOpenElement());
-                elements.add(new RoundBracketOpenElement());
+                elements.add(RoundBracketOpenElement.INSTANCE);
+                elements.add(RoundBracketOpenElement.INSTANCE);
                 elements.add(aPattern.getP());
                 elements.add(languageDefinitions.getImplication());
-                elements.add(new RoundBracketOpenElement());
+                elements.add(RoundBracketOpenElement.INSTANCE);
                 if (lHasConstraint) {
-                    elements.add(new RoundBracketOpenElement());
+                    elements.add(RoundBracketOpenElement.INSTANCE);
                     elements.add(languageDefinitions.getNot());
                     elements.add(aScope.getR());
                     elements.add(languageDefinitions.getAnd());
-                    elements.add(new MiscElement(lcntZS));
-                    elements.add(new RoundBracketCloseElement());
+                    elements.add(lcntZS);
+                    elements.add(RoundBracketCloseElement.INSTANCE);
                 } else {
                     elements.add(languageDefinitions.getNot());
                     elements.add(aScope.getR());
                 }
                 elements.add(languageDefinitions.getUntil());
-                elements.add(new SpaceElement());
-                elements.add(new RoundBracketOpenElement());
+                elements.add(SpaceElement.INSTANCE);
+                elements.add(RoundBracketOpenElement.INSTANCE);
                 elements.add(aPattern.getS());
                 elements.add(languageDefinitions.getAnd());
                 elements.add(languageDefinitions.getNot());
                 elements.add(aScope.getR());
-                elements.add(new RoundBracketCloseElement());
-                elements.add(new RoundBracketCloseElement());
-                elements.add(new RoundBracketCloseElement());
+                elements.add(RoundBracketCloseElement.INSTANCE);
+                elements.add(RoundBracketCloseElement.INSTANCE);
+                elements.add(RoundBracketCloseElement.INSTANCE);
                 elements.add(languageDefinitions.getWeakUntil());
-                elements.add(new SpaceElement());
+                elements.add(SpaceElement.INSTANCE);
                 elements.add(aScope.getR());
-                elements.add(new RoundBracketCloseElement());
-                elements.add(new RoundBracketCloseElement());
+                elements.add(RoundBracketCloseElement.INSTANCE);
+                elements.add(RoundBracketCloseElement.INSTANCE);
                 break;
         }
 
-        return elements;
     }
 
     // Tis addressed from 0 to n-1.
 
-    private void RC1N_Ch(List<Element> elements, ChainEvents Tis, int i) {
+    private void RC1N_Ch(ElementSink elements, ChainEvents Tis, int i) {
         if (i < Tis.size()) {
             ChainEvent Ti = Tis.getTi(i);
 
             EventConstraint lZi = Ti.getConstraint();
-            String lcntZi = lZi != null ? cnt(lZi.getEvent()) : "true";
-            boolean lHasConstraint = !lcntZi.equals("true");
+            Element lcntZi = lZi != null ? cnt(lZi.getEvent()) : new MiscElement("true");
+            boolean lHasConstraint = lZi != null;
 
             if (lHasConstraint) {
                 // with Zi
                 elements.add(languageDefinitions.getAnd());
-                elements.add(new MiscElement(lcntZi));
+                elements.add(lcntZi);
                 elements.add(languageDefinitions.getAnd());
-                elements.add(new RoundBracketOpenElement());
+                elements.add(RoundBracketOpenElement.INSTANCE);
                 elements.add(languageDefinitions.getNext());
-                elements.add(new RoundBracketOpenElement());
-                elements.add(new MiscElement(lcntZi));
+                elements.add(RoundBracketOpenElement.INSTANCE);
+                elements.add(lcntZi);
                 elements.add(languageDefinitions.getUntil());
-                elements.add(new SpaceElement());
-                elements.add(new RoundBracketOpenElement());
+                elements.add(SpaceElement.INSTANCE);
+                elements.add(RoundBracketOpenElement.INSTANCE);
                 elements.add(Ti.getEvent());
                 RC1N_Ch(elements, Tis, i + 1);
-                elements.add(new RoundBracketCloseElement());
-                elements.add(new RoundBracketCloseElement());
+                elements.add(RoundBracketCloseElement.INSTANCE);
+                elements.add(RoundBracketCloseElement.INSTANCE);
+                elements.add(RoundBracketCloseElement.INSTANCE);
             } else {
                 // no Zi
                 elements.add(languageDefinitions.getAnd());
-                elements.add(new RoundBracketOpenElement());
+                elements.add(RoundBracketOpenElement.INSTANCE);
                 elements.add(languageDefinitions.getNext());
-                elements.add(new RoundBracketOpenElement());
+                elements.add(RoundBracketOpenElement.INSTANCE);
                 elements.add(languageDefinitions.getEventually());
-                elements.add(new SpaceElement());
-                elements.add(new RoundBracketOpenElement());
+                elements.add(SpaceElement.INSTANCE);
+                elements.add(RoundBracketOpenElement.INSTANCE);
                 elements.add(Ti.getEvent());
                 RC1N_Ch(elements, Tis, i + 1);
-                elements.add(new RoundBracketCloseElement());
-                elements.add(new RoundBracketCloseElement());
-                elements.add(new RoundBracketCloseElement());
-                elements.add(new RoundBracketCloseElement());
+                elements.add(RoundBracketCloseElement.INSTANCE);
+                elements.add(RoundBracketCloseElement.INSTANCE);
+                elements.add(RoundBracketCloseElement.INSTANCE);
             }
         }
     }
 
-    private void RC1N_ChR(List<Element> elements, ChainEvents Tis, EventImpl R, int i) {
+    private void RC1N_ChR(ElementSink elements, ChainEvents Tis, EventImpl R, int i) {
         if (i < Tis.size()) {
             ChainEvent Ti = Tis.getTi(i);
 
             EventConstraint lZi = Ti.getConstraint();
-            String lcntZi = lZi != null ? cnt(lZi.getEvent()) : "true";
-            boolean lHasConstraint = !lcntZi.equals("true");
+            Element lcntZi = lZi != null ? cnt(lZi.getEvent()) : new MiscElement("true");
+            boolean lHasConstraint = lZi != null;
 
             if (lHasConstraint) {
                 // with Zi
@@ -1531,570 +1524,593 @@ public class LTLMapper extends GenericMapper {
                 elements.add(languageDefinitions.getNot());
                 elements.add(R);
                 elements.add(languageDefinitions.getAnd());
-                elements.add(new MiscElement(lcntZi));
+                elements.add(lcntZi);
                 elements.add(languageDefinitions.getAnd());
-                elements.add(new RoundBracketOpenElement());
+                elements.add(RoundBracketOpenElement.INSTANCE);
                 elements.add(languageDefinitions.getNext());
-                elements.add(new RoundBracketOpenElement());
-                elements.add(new MiscElement(lcntZi));
+                elements.add(RoundBracketOpenElement.INSTANCE);
+                elements.add(RoundBracketOpenElement.INSTANCE);
+                elements.add(languageDefinitions.getNot());
+                elements.add(R);
+                elements.add(languageDefinitions.getAnd());
+                elements.add(lcntZi);
+                elements.add(RoundBracketCloseElement.INSTANCE);
                 elements.add(languageDefinitions.getUntil());
-                elements.add(new SpaceElement());
-                elements.add(new RoundBracketOpenElement());
+                elements.add(SpaceElement.INSTANCE);
+                elements.add(RoundBracketOpenElement.INSTANCE);
                 elements.add(Ti.getEvent());
                 RC1N_ChR(elements, Tis, R, i + 1);
-                elements.add(new RoundBracketCloseElement());
-                elements.add(new RoundBracketCloseElement());
-                elements.add(new RoundBracketCloseElement());
+                elements.add(RoundBracketCloseElement.INSTANCE);
+                elements.add(RoundBracketCloseElement.INSTANCE);
+                elements.add(RoundBracketCloseElement.INSTANCE);
             } else {
                 // no Zi
                 elements.add(languageDefinitions.getAnd());
                 elements.add(languageDefinitions.getNot());
                 elements.add(R);
                 elements.add(languageDefinitions.getAnd());
-                elements.add(new RoundBracketOpenElement());
+                elements.add(RoundBracketOpenElement.INSTANCE);
                 elements.add(languageDefinitions.getNext());
-                elements.add(new RoundBracketOpenElement());
-                elements.add(languageDefinitions.getEventually());
-                elements.add(new SpaceElement());
-                elements.add(new RoundBracketOpenElement());
+                elements.add(RoundBracketOpenElement.INSTANCE);
+                elements.add(languageDefinitions.getNot());
+                elements.add(R);
+                elements.add(languageDefinitions.getUntil());
+                elements.add(SpaceElement.INSTANCE);
+                elements.add(RoundBracketOpenElement.INSTANCE);
                 elements.add(Ti.getEvent());
                 RC1N_ChR(elements, Tis, R, i + 1);
-                elements.add(new RoundBracketCloseElement());
-                elements.add(new RoundBracketCloseElement());
-                elements.add(new RoundBracketCloseElement());
+                elements.add(RoundBracketCloseElement.INSTANCE);
+                elements.add(RoundBracketCloseElement.INSTANCE);
+                elements.add(RoundBracketCloseElement.INSTANCE);
             }
         }
     }
 
-    private List<Element> mapResponseChain1N(Scope aScope, ResponseChain1N aPattern) {
-        List<Element> elements = new ArrayList<>();
+    private void mapResponseChain1N(Scope aScope, ResponseChain1N aPattern, ElementSink elements) {
         EventConstraint lZS = aPattern.getSConstraint();
-        String lcntZS = lZS != null ? cnt(lZS.getEvent()) : "true";
-        boolean lHasConstraint = !lcntZS.equals("true");
+        Element lcntZS = lZS != null ? cnt(lZS.getEvent()) : new MiscElement("true");
+        boolean lHasConstraint = lZS != null;
 
         switch (aScope.getType()) {
             case PSPConstants.S_Globally:
                 elements.add(languageDefinitions.getAlways());
-                elements.add(new RoundBracketOpenElement());
+                elements.add(RoundBracketOpenElement.INSTANCE);
                 elements.add(aPattern.getP());
                 elements.add(languageDefinitions.getImplication());
-                elements.add(new RoundBracketOpenElement());
+                elements.add(RoundBracketOpenElement.INSTANCE);
                 if (lHasConstraint) {
-                    elements.add(new MiscElement(lcntZS));
+                    elements.add(lcntZS);
                     elements.add(languageDefinitions.getUntil());
                 } else {
                     elements.add(languageDefinitions.getEventually());
                 }
-                elements.add(new SpaceElement());
-                elements.add(new RoundBracketOpenElement());
+                elements.add(SpaceElement.INSTANCE);
+                elements.add(RoundBracketOpenElement.INSTANCE);
                 elements.add(aPattern.getS());
                 RC1N_Ch(elements, aPattern.getTis(), 0);
-                elements.add(new RoundBracketCloseElement());
-                elements.add(new RoundBracketCloseElement());
-                elements.add(new RoundBracketCloseElement());
+                elements.add(RoundBracketCloseElement.INSTANCE);
+                elements.add(RoundBracketCloseElement.INSTANCE);
+                elements.add(RoundBracketCloseElement.INSTANCE);
                 break;
             case PSPConstants.S_BeforeR:
-                elements.add(new RoundBracketOpenElement());
+                elements.add(RoundBracketOpenElement.INSTANCE);
                 elements.add(languageDefinitions.getEventually());
                 elements.add(aScope.getR());
-                elements.add(new RoundBracketCloseElement());
+                elements.add(RoundBracketCloseElement.INSTANCE);
                 elements.add(languageDefinitions.getImplication());
-                elements.add(new RoundBracketOpenElement());
-                elements.add(new RoundBracketOpenElement());
+                elements.add(RoundBracketOpenElement.INSTANCE);
+                elements.add(RoundBracketOpenElement.INSTANCE);
                 elements.add(aPattern.getP());
                 elements.add(languageDefinitions.getImplication());
-                elements.add(new RoundBracketOpenElement());
+                elements.add(RoundBracketOpenElement.INSTANCE);
                 if (lHasConstraint) {
-                    elements.add(new RoundBracketOpenElement());
+                    elements.add(RoundBracketOpenElement.INSTANCE);
                     elements.add(languageDefinitions.getNot());
                     elements.add(aScope.getR());
                     elements.add(languageDefinitions.getAnd());
-                    elements.add(new MiscElement(lcntZS));
-                    elements.add(new RoundBracketCloseElement());
+                    elements.add(lcntZS);
+                    elements.add(RoundBracketCloseElement.INSTANCE);
                 } else {
                     elements.add(languageDefinitions.getNot());
                     elements.add(aScope.getR());
                 }
                 elements.add(languageDefinitions.getUntil());
-                elements.add(new SpaceElement());
-                elements.add(new RoundBracketOpenElement());
+                elements.add(SpaceElement.INSTANCE);
+                elements.add(RoundBracketOpenElement.INSTANCE);
                 elements.add(aPattern.getS());
                 RC1N_ChR(elements, aPattern.getTis(), aScope.getR(), 0);
-                elements.add(new RoundBracketCloseElement());
-                elements.add(new RoundBracketCloseElement());
-                elements.add(new RoundBracketCloseElement());
+                elements.add(RoundBracketCloseElement.INSTANCE);
+                elements.add(RoundBracketCloseElement.INSTANCE);
+                elements.add(RoundBracketCloseElement.INSTANCE);
                 elements.add(languageDefinitions.getUntil());
-                elements.add(new SpaceElement());
+                elements.add(SpaceElement.INSTANCE);
                 elements.add(aScope.getR());
-                elements.add(new RoundBracketCloseElement());
+                elements.add(RoundBracketCloseElement.INSTANCE);
                 break;
             case PSPConstants.S_AfterQ:
                 elements.add(languageDefinitions.getAlways());
-                elements.add(new RoundBracketOpenElement());
+                elements.add(RoundBracketOpenElement.INSTANCE);
                 elements.add(aScope.getQ());
                 elements.add(languageDefinitions.getImplication());
-                elements.add(new RoundBracketOpenElement());
+                elements.add(RoundBracketOpenElement.INSTANCE);
                 elements.add(languageDefinitions.getAlways());
-                elements.add(new RoundBracketOpenElement());
+                elements.add(RoundBracketOpenElement.INSTANCE);
                 elements.add(aPattern.getP());
                 elements.add(languageDefinitions.getImplication());
-                elements.add(new RoundBracketOpenElement());
+                elements.add(RoundBracketOpenElement.INSTANCE);
                 if (lHasConstraint) {
-                    elements.add(new MiscElement(lcntZS));
+                    elements.add(lcntZS);
                     elements.add(languageDefinitions.getUntil());
                 } else {
                     elements.add(languageDefinitions.getEventually());
                 }
-                elements.add(new SpaceElement());
-                elements.add(new RoundBracketOpenElement());
+                elements.add(SpaceElement.INSTANCE);
+                elements.add(RoundBracketOpenElement.INSTANCE);
                 elements.add(aPattern.getS());
                 RC1N_Ch(elements, aPattern.getTis(), 0);
-                elements.add(new RoundBracketCloseElement());
-                elements.add(new RoundBracketCloseElement());
-                elements.add(new RoundBracketCloseElement());
-                elements.add(new RoundBracketCloseElement());
-                elements.add(new RoundBracketCloseElement());
+                elements.add(RoundBracketCloseElement.INSTANCE);
+                elements.add(RoundBracketCloseElement.INSTANCE);
+                elements.add(RoundBracketCloseElement.INSTANCE);
+                elements.add(RoundBracketCloseElement.INSTANCE);
+                elements.add(RoundBracketCloseElement.INSTANCE);
                 break;
             case PSPConstants.S_BetweenQandR:
                 elements.add(languageDefinitions.getAlways());
-                elements.add(new RoundBracketOpenElement());
-                elements.add(new RoundBracketOpenElement());
+                elements.add(RoundBracketOpenElement.INSTANCE);
+                elements.add(RoundBracketOpenElement.INSTANCE);
                 elements.add(aScope.getQ());
                 elements.add(languageDefinitions.getAnd());
-                elements.add(new RoundBracketOpenElement());
+                elements.add(RoundBracketOpenElement.INSTANCE);
                 elements.add(languageDefinitions.getEventually());
                 elements.add(aScope.getR());
-                elements.add(new RoundBracketCloseElement());
-                elements.add(new RoundBracketCloseElement());
+                elements.add(RoundBracketCloseElement.INSTANCE);
+                elements.add(RoundBracketCloseElement.INSTANCE);
                 elements.add(languageDefinitions.getImplication());
-                elements.add(new RoundBracketOpenElement());
-                elements.add(new RoundBracketOpenElement());
+                elements.add(RoundBracketOpenElement.INSTANCE);
+                elements.add(RoundBracketOpenElement.INSTANCE);
                 elements.add(aPattern.getP());
                 elements.add(languageDefinitions.getImplication());
-                elements.add(new RoundBracketOpenElement());
+                elements.add(RoundBracketOpenElement.INSTANCE);
                 if (lHasConstraint) {
-                    elements.add(new RoundBracketOpenElement());
+                    elements.add(RoundBracketOpenElement.INSTANCE);
                     elements.add(languageDefinitions.getNot());
                     elements.add(aScope.getR());
                     elements.add(languageDefinitions.getAnd());
-                    elements.add(new MiscElement(lcntZS));
-                    elements.add(new RoundBracketCloseElement());
+                    elements.add(lcntZS);
+                    elements.add(RoundBracketCloseElement.INSTANCE);
                 } else {
                     elements.add(languageDefinitions.getNot());
                     elements.add(aScope.getR());
                 }
                 elements.add(languageDefinitions.getUntil());
-                elements.add(new SpaceElement());
-                elements.add(new RoundBracketOpenElement());
+                elements.add(SpaceElement.INSTANCE);
+                elements.add(RoundBracketOpenElement.INSTANCE);
                 elements.add(aPattern.getS());
                 RC1N_ChR(elements, aPattern.getTis(), aScope.getR(), 0);
-                elements.add(new RoundBracketCloseElement());
-                elements.add(new RoundBracketCloseElement());
-                elements.add(new RoundBracketCloseElement());
+                elements.add(RoundBracketCloseElement.INSTANCE);
+                elements.add(RoundBracketCloseElement.INSTANCE);
+                elements.add(RoundBracketCloseElement.INSTANCE);
                 elements.add(languageDefinitions.getUntil());
-                elements.add(new SpaceElement());
+                elements.add(SpaceElement.INSTANCE);
                 elements.add(aScope.getR());
-                elements.add(new RoundBracketCloseElement());
-                elements.add(new RoundBracketCloseElement());
+                elements.add(RoundBracketCloseElement.INSTANCE);
+                elements.add(RoundBracketCloseElement.INSTANCE);
                 break;
             case PSPConstants.S_AfterQuntilR:
                 elements.add(languageDefinitions.getAlways());
-                elements.add(new RoundBracketOpenElement());
+                elements.add(RoundBracketOpenElement.INSTANCE);
                 elements.add(aScope.getQ());
                 elements.add(languageDefinitions.getImplication());
-                elements.add(new RoundBracketOpenElement());
-                elements.add(new RoundBracketOpenElement());
+                elements.add(RoundBracketOpenElement.INSTANCE);
+                elements.add(RoundBracketOpenElement.INSTANCE);
                 elements.add(aPattern.getP());
                 elements.add(languageDefinitions.getImplication());
-                elements.add(new RoundBracketOpenElement());
+                elements.add(RoundBracketOpenElement.INSTANCE);
                 if (lHasConstraint) {
-                    elements.add(new RoundBracketOpenElement());
+                    elements.add(RoundBracketOpenElement.INSTANCE);
                     elements.add(languageDefinitions.getNot());
                     elements.add(aScope.getR());
                     elements.add(languageDefinitions.getAnd());
-                    elements.add(new MiscElement(lcntZS));
-                    elements.add(new RoundBracketCloseElement());
+                    elements.add(lcntZS);
+                    elements.add(RoundBracketCloseElement.INSTANCE);
                 } else {
                     elements.add(languageDefinitions.getNot());
                     elements.add(aScope.getR());
                 }
                 elements.add(languageDefinitions.getUntil());
-                elements.add(new SpaceElement());
-                elements.add(new RoundBracketOpenElement());
+                elements.add(SpaceElement.INSTANCE);
+                elements.add(RoundBracketOpenElement.INSTANCE);
                 elements.add(aPattern.getS());
                 RC1N_ChR(elements, aPattern.getTis(), aScope.getR(), 0);
-                elements.add(new RoundBracketCloseElement());
-                elements.add(new RoundBracketCloseElement());
-                elements.add(new RoundBracketCloseElement());
+                elements.add(RoundBracketCloseElement.INSTANCE);
+                elements.add(RoundBracketCloseElement.INSTANCE);
+                elements.add(RoundBracketCloseElement.INSTANCE);
                 elements.add(languageDefinitions.getWeakUntil());
-                elements.add(new SpaceElement());
+                elements.add(SpaceElement.INSTANCE);
                 elements.add(aScope.getR());
-                elements.add(new RoundBracketCloseElement());
-                elements.add(new RoundBracketCloseElement());
+                elements.add(RoundBracketCloseElement.INSTANCE);
+                elements.add(RoundBracketCloseElement.INSTANCE);
                 break;
         }
 
-        return elements;
     }
 
     // Tis addressed from 0 to n-1.
 
-    private void RCN1_Ch(List<Element> elements, ResponseChainN1 aPattern, int i) {
+    private void RCN1_Ch(ElementSink elements, ResponseChainN1 aPattern, int i, boolean aWithP) {
         ChainEvents Tis = aPattern.getTis();
 
         if (i < Tis.size()) {
             ChainEvent Ti = Tis.getTi(i);
 
             EventConstraint lZi = Ti.getConstraint();
-            String lcntZi = lZi != null ? cnt(lZi.getEvent()) : "true";
+            Element lcntZi = lZi != null ? cnt(lZi.getEvent()) : new MiscElement("true");
 
-            if (lcntZi.equals("true")) {
+            if (lZi == null) {
                 // no Zi
                 elements.add(languageDefinitions.getAnd());
-                elements.add(new RoundBracketOpenElement());
+                elements.add(RoundBracketOpenElement.INSTANCE);
                 elements.add(languageDefinitions.getNext());
-                elements.add(new RoundBracketOpenElement());
+                elements.add(RoundBracketOpenElement.INSTANCE);
                 elements.add(languageDefinitions.getEventually());
-                elements.add(new SpaceElement());
-                elements.add(new RoundBracketOpenElement());
+                elements.add(SpaceElement.INSTANCE);
+                elements.add(RoundBracketOpenElement.INSTANCE);
                 elements.add(Ti.getEvent());
-                RCN1_Ch(elements, aPattern, i + 1);
-                elements.add(new RoundBracketCloseElement());
-                elements.add(new RoundBracketCloseElement());
-                elements.add(new RoundBracketCloseElement());
+                RCN1_Ch(elements, aPattern, i + 1, aWithP);
+                elements.add(RoundBracketCloseElement.INSTANCE);
+                elements.add(RoundBracketCloseElement.INSTANCE);
+                elements.add(RoundBracketCloseElement.INSTANCE);
             } else {
                 // with Zi
                 elements.add(languageDefinitions.getAnd());
-                elements.add(new RoundBracketOpenElement());
+                elements.add(RoundBracketOpenElement.INSTANCE);
                 elements.add(languageDefinitions.getNext());
-                elements.add(new RoundBracketOpenElement());
-                elements.add(new MiscElement(lcntZi));
+                elements.add(RoundBracketOpenElement.INSTANCE);
+                elements.add(lcntZi);
                 elements.add(languageDefinitions.getUntil());
-                elements.add(new SpaceElement());
-                elements.add(new RoundBracketOpenElement());
+                elements.add(SpaceElement.INSTANCE);
+                elements.add(RoundBracketOpenElement.INSTANCE);
                 elements.add(Ti.getEvent());
-                RCN1_Ch(elements, aPattern, i + 1);
-                elements.add(new RoundBracketCloseElement());
-                elements.add(new RoundBracketCloseElement());
-                elements.add(new RoundBracketCloseElement());
+                RCN1_Ch(elements, aPattern, i + 1, aWithP);
+                elements.add(RoundBracketCloseElement.INSTANCE);
+                elements.add(RoundBracketCloseElement.INSTANCE);
+                elements.add(RoundBracketCloseElement.INSTANCE);
             }
-        } else {
+        } else if (aWithP) {
             EventConstraint lZP = aPattern.getPConstraint();
-            String lcntZP = lZP != null ? cnt(lZP.getEvent()) : "true";
+            Element lcntZP = lZP != null ? cnt(lZP.getEvent()) : new MiscElement("true");
 
-            elements.add(languageDefinitions.getImplication());
-            elements.add(new RoundBracketOpenElement());
-            if (lcntZP.equals("true")) {
+            elements.add(languageDefinitions.getAnd());
+            elements.add(RoundBracketOpenElement.INSTANCE);
+            if (lZP == null) {
                 // no Zi
                 elements.add(languageDefinitions.getEventually());
             } else {
                 // with Zi
-                elements.add(new MiscElement(lcntZP));
+                elements.add(lcntZP);
                 elements.add(languageDefinitions.getUntil());
             }
-            elements.add(new SpaceElement());
+            elements.add(SpaceElement.INSTANCE);
             elements.add(aPattern.getP());
-            elements.add(new RoundBracketCloseElement());
+            elements.add(RoundBracketCloseElement.INSTANCE);
         }
     }
 
-    private void RCN1_ChR(List<Element> elements, ResponseChainN1 aPattern, EventImpl R, int i) {
+    private void RCN1_ChR(ElementSink elements, ResponseChainN1 aPattern, EventImpl R, int i, boolean aWithP) {
         ChainEvents Tis = aPattern.getTis();
 
         if (i < Tis.size()) {
             ChainEvent Ti = Tis.getTi(i);
 
             EventConstraint lZi = Ti.getConstraint();
-            String lcntZi = lZi != null ? cnt(lZi.getEvent()) : "true";
+            Element lcntZi = lZi != null ? cnt(lZi.getEvent()) : new MiscElement("true");
 
-            if (lcntZi.equals("true")) {
+            if (lZi == null) {
                 // no Zi
                 elements.add(languageDefinitions.getAnd());
-                elements.add(new RoundBracketOpenElement());
+                elements.add(RoundBracketOpenElement.INSTANCE);
                 elements.add(languageDefinitions.getNext());
-                elements.add(new RoundBracketOpenElement());
+                elements.add(RoundBracketOpenElement.INSTANCE);
                 elements.add(languageDefinitions.getNot());
                 elements.add(R);
                 elements.add(languageDefinitions.getUntil());
-                elements.add(new SpaceElement());
-                elements.add(new RoundBracketOpenElement());
+                elements.add(SpaceElement.INSTANCE);
+                elements.add(RoundBracketOpenElement.INSTANCE);
                 elements.add(Ti.getEvent());
-                RCN1_ChR(elements, aPattern, R, i + 1);
-                elements.add(new RoundBracketCloseElement());
-                elements.add(new RoundBracketCloseElement());
-                elements.add(new RoundBracketCloseElement());
+                RCN1_ChR(elements, aPattern, R, i + 1, aWithP);
+                elements.add(RoundBracketCloseElement.INSTANCE);
+                elements.add(RoundBracketCloseElement.INSTANCE);
+                elements.add(RoundBracketCloseElement.INSTANCE);
             } else {
                 // with Zi
                 elements.add(languageDefinitions.getAnd());
-                elements.add(new RoundBracketOpenElement());
+                elements.add(RoundBracketOpenElement.INSTANCE);
                 elements.add(languageDefinitions.getNext());
-                elements.add(new RoundBracketOpenElement());
-                elements.add(new RoundBracketOpenElement());
+                elements.add(RoundBracketOpenElement.INSTANCE);
+                elements.add(RoundBracketOpenElement.INSTANCE);
                 elements.add(languageDefinitions.getNot());
                 elements.add(R);
                 elements.add(languageDefinitions.getAnd());
-                elements.add(new MiscElement(lcntZi));
-                elements.add(new RoundBracketCloseElement());
+                elements.add(lcntZi);
+                elements.add(RoundBracketCloseElement.INSTANCE);
                 elements.add(languageDefinitions.getUntil());
-                elements.add(new SpaceElement());
-                elements.add(new RoundBracketOpenElement());
+                elements.add(SpaceElement.INSTANCE);
+                elements.add(RoundBracketOpenElement.INSTANCE);
                 elements.add(Ti.getEvent());
-                RCN1_ChR(elements, aPattern, R, i + 1);
-                elements.add(new RoundBracketCloseElement());
-                elements.add(new RoundBracketCloseElement());
-                elements.add(new RoundBracketCloseElement());
+                RCN1_ChR(elements, aPattern, R, i + 1, aWithP);
+                elements.add(RoundBracketCloseElement.INSTANCE);
+                elements.add(RoundBracketCloseElement.INSTANCE);
+                elements.add(RoundBracketCloseElement.INSTANCE);
             }
-        } else {
+        } else if (aWithP) {
             EventConstraint lZP = aPattern.getPConstraint();
-            String lcntZP = lZP != null ? cnt(lZP.getEvent()) : "true";
+            Element lcntZP = lZP != null ? cnt(lZP.getEvent()) : new MiscElement("true");
 
-            elements.add(languageDefinitions.getImplication());
-            elements.add(new RoundBracketOpenElement());
-            if (lcntZP.equals("true")) {
+            elements.add(languageDefinitions.getAnd());
+            elements.add(RoundBracketOpenElement.INSTANCE);
+            if (lZP == null) {
                 // no Zi
-                elements.add(languageDefinitions.getEventually());
+                elements.add(languageDefinitions.getNot());
+                elements.add(R);
             } else {
                 // with Zi
-                elements.add(new MiscElement(lcntZP));
-                elements.add(languageDefinitions.getUntil());
+                elements.add(RoundBracketOpenElement.INSTANCE);
+                elements.add(languageDefinitions.getNot());
+                elements.add(R);
+                elements.add(languageDefinitions.getAnd());
+                elements.add(lcntZP);
+                elements.add(RoundBracketCloseElement.INSTANCE);
             }
-            elements.add(new SpaceElement());
+            elements.add(languageDefinitions.getUntil());
+            elements.add(SpaceElement.INSTANCE);
             elements.add(aPattern.getP());
-            elements.add(new RoundBracketCloseElement());
+            elements.add(RoundBracketCloseElement.INSTANCE);
+        }
+    }
+
+    // S followed by the chain, before R if there is one, is followed by P after the chain.
+
+    private void RCN1(ElementSink elements, ResponseChainN1 aPattern, EventImpl R) {
+        elements.add(RoundBracketOpenElement.INSTANCE);
+        elements.add(aPattern.getS());
+        if (R == null) {
+            RCN1_Ch(elements, aPattern, 0, false);
+        } else {
+            RCN1_ChR(elements, aPattern, R, 0, false);
+        }
+        elements.add(RoundBracketCloseElement.INSTANCE);
+        elements.add(languageDefinitions.getImplication());
+        elements.add(RoundBracketOpenElement.INSTANCE);
+        elements.add(aPattern.getS());
+        if (R == null) {
+            RCN1_Ch(elements, aPattern, 0, true);
+        } else {
+            RCN1_ChR(elements, aPattern, R, 0, true);
         }
+        elements.add(RoundBracketCloseElement.INSTANCE);
     }
 
-    private List<Element> mapResponseChainN1(Scope aScope, ResponseChainN1 aPattern) {
-        List<Element> elements = new ArrayList<>();
+    private void mapResponseChainN1(Scope aScope, ResponseChainN1 aPattern, ElementSink elements) {
         switch (aScope.getType()) {
             case PSPConstants.S_Globally:
                 elements.add(languageDefinitions.getAlways());
-                elements.add(new RoundBracketOpenElement());
-                elements.add(aPattern.getS());
-                RCN1_Ch(elements, aPattern, 0);
-                elements.add(new RoundBracketCloseElement());
+                elements.add(RoundBracketOpenElement.INSTANCE);
+                RCN1(elements, aPattern, null);
+                elements.add(RoundBracketCloseElement.INSTANCE);
                 break;
             case PSPConstants.S_BeforeR:
-                elements.add(new RoundBracketOpenElement());
+                elements.add(RoundBracketOpenElement.INSTANCE);
                 elements.add(languageDefinitions.getEventually());
                 elements.add(aScope.getR());
-                elements.add(new RoundBracketCloseElement());
+                elements.add(RoundBracketCloseElement.INSTANCE);
                 elements.add(languageDefinitions.getImplication());
-                elements.add(new RoundBracketOpenElement());
-                elements.add(new RoundBracketOpenElement());
-                elements.add(aPattern.getS());
-                RCN1_ChR(elements, aPattern, aScope.getR(), 0);
-                elements.add(new RoundBracketCloseElement());
+                elements.add(RoundBracketOpenElement.INSTANCE);
+                elements.add(RoundBracketOpenElement.INSTANCE);
+                RCN1(elements, aPattern, aScope.getR());
+                elements.add(RoundBracketCloseElement.INSTANCE);
                 elements.add(languageDefinitions.getUntil());
-                elements.add(new SpaceElement());
+                elements.add(SpaceElement.INSTANCE);
                 elements.add(aScope.getR());
-                elements.add(new RoundBracketCloseElement());
+                elements.add(RoundBracketCloseElement.INSTANCE);
                 break;
             case PSPConstants.S_AfterQ:
                 elements.add(languageDefinitions.getAlways());
-                elements.add(new RoundBracketOpenElement());
+                elements.add(RoundBracketOpenElement.INSTANCE);
                 elements.add(aScope.getQ());
                 elements.add(languageDefinitions.getImplication());
-                elements.add(new RoundBracketOpenElement());
+                elements.add(RoundBracketOpenElement.INSTANCE);
                 elements.add(languageDefinitions.getAlways());
-                elements.add(new RoundBracketOpenElement());
-                elements.add(aPattern.getS());
-                RCN1_Ch(elements, aPattern, 0);
-                elements.add(new RoundBracketCloseElement());
-                elements.add(new RoundBracketCloseElement());
-                elements.add(new RoundBracketCloseElement());
+                elements.add(RoundBracketOpenElement.INSTANCE);
+                RCN1(elements, aPattern, null);
+                elements.add(RoundBracketCloseElement.INSTANCE);
+                elements.add(RoundBracketCloseElement.INSTANCE);
+                elements.add(RoundBracketCloseElement.INSTANCE);
                 break;
             case PSPConstants.S_BetweenQandR:
                 elements.add(languageDefinitions.getAlways());
-                elements.add(new RoundBracketOpenElement());
-                elements.add(new RoundBracketOpenElement());
+                elements.add(RoundBracketOpenElement.INSTANCE);
+                elements.add(RoundBracketOpenElement.INSTANCE);
                 elements.add(aScope.getQ());
                 elements.add(languageDefinitions.getAnd());
                 elements.add(languageDefinitions.getNot());
                 elements.add(aScope.getR());
                 elements.add(languageDefinitions.getAnd());
-                elements.add(new RoundBracketOpenElement());
+                elements.add(RoundBracketOpenElement.INSTANCE);
                 elements.add(languageDefinitions.getEventually());
                 elements.add(aScope.getR());
-                elements.add(new RoundBracketCloseElement());
-                elements.add(new RoundBracketCloseElement());
+                elements.add(RoundBracketCloseElement.INSTANCE);
+                elements.add(RoundBracketCloseElement.INSTANCE);
                 elements.add(languageDefinitions.getImplication());
-                elements.add(new RoundBracketOpenElement());
-                elements.add(new RoundBracketOpenElement());
-                elements.add(aPattern.getS());
-                RCN1_ChR(elements, aPattern, aScope.getR(), 0);
-                elements.add(new RoundBracketCloseElement());
+                elements.add(RoundBracketOpenElement.INSTANCE);
+                elements.add(RoundBracketOpenElement.INSTANCE);
+                RCN1(elements, aPattern, aScope.getR());
+                elements.add(RoundBracketCloseElement.INSTANCE);
                 elements.add(languageDefinitions.getUntil());
-                elements.add(new SpaceElement());
+                elements.add(SpaceElement.INSTANCE);
                 elements.add(aScope.getR());
-                elements.add(new RoundBracketCloseElement());
-                elements.add(new RoundBracketCloseElement());
+                elements.add(RoundBracketCloseElement.INSTANCE);
+                elements.add(RoundBracketCloseElement.INSTANCE);
                 break;
             case PSPConstants.S_AfterQuntilR:
                 elements.add(languageDefinitions.getAlways());
-                elements.add(new RoundBracketOpenElement());
-                elements.add(new RoundBracketOpenElement());
+                elements.add(RoundBracketOpenElement.INSTANCE);
+                elements.add(RoundBracketOpenElement.INSTANCE);
                 elements.add(aScope.getQ());
                 elements.add(languageDefinitions.getAnd());
                 elements.add(languageDefinitions.getNot());
                 elements.add(aScope.getR());
-                elements.add(new RoundBracketCloseElement());
+                elements.add(RoundBracketCloseElement.INSTANCE);
                 elements.add(languageDefinitions.getImplication());
-                elements.add(new RoundBracketOpenElement());
-                elements.add(new RoundBracketOpenElement());
-                elements.add(aPattern.getS());
-                RCN1_ChR(elements, aPattern, aScope.getR(), 0);
-                elements.add(new RoundBracketCloseElement());
+                elements.add(RoundBracketOpenElement.INSTANCE);
+                elements.add(RoundBracketOpenElement.INSTANCE);
+                RCN1(elements, aPattern, aScope.getR());
+                elements.add(RoundBracketCloseElement.INSTANCE);
                 elements.add(languageDefinitions.getWeakUntil());
-                elements.add(new SpaceElement());
+                elements.add(SpaceElement.INSTANCE);
                 elements.add(aScope.getR());
-                elements.add(new RoundBracketCloseElement());
-                elements.add(new RoundBracketCloseElement());
+                elements.add(RoundBracketCloseElement.INSTANCE);
+                elements.add(RoundBracketCloseElement.INSTANCE);
                 break;
         }
 
-        return elements;
     }
 
-    private List<Element> mapResponseInvariance(Scope aScope, ResponseInvariance aPattern) {
-        List<Element> elements = new ArrayList<>();
+    private void mapResponseInvariance(Scope aScope, ResponseInvariance aPattern, ElementSink elements) {
         switch (aScope.getType()) {
             case PSPConstants.S_Globally:
                 elements.add(languageDefinitions.getAlways());
-                elements.add(new RoundBracketOpenElement());
+                elements.add(RoundBracketOpenElement.INSTANCE);
                 elements.add(aPattern.getP());
                 elements.add(languageDefinitions.getImplication());
-                elements.add(new RoundBracketOpenElement());
+                elements.add(RoundBracketOpenElement.INSTANCE);
                 elements.add(languageDefinitions.getAlways());
-                elements.add(new SpaceElement());
+                elements.add(SpaceElement.INSTANCE);
                 elements.add(aPattern.getS());
-                elements.add(new RoundBracketCloseElement());
-                elements.add(new RoundBracketCloseElement());
+                elements.add(RoundBracketCloseElement.INSTANCE);
+                elements.add(RoundBracketCloseElement.INSTANCE);
                 break;
             case PSPConstants.S_BeforeR:
-                elements.add(new RoundBracketOpenElement());
+                elements.add(RoundBracketOpenElement.INSTANCE);
                 elements.add(languageDefinitions.getEventually());
                 elements.add(aScope.getR());
-                elements.add(new RoundBracketCloseElement());
+                elements.add(RoundBracketCloseElement.INSTANCE);
                 elements.add(languageDefinitions.getImplication());
-                elements.add(new RoundBracketOpenElement());
-                elements.add(new RoundBracketOpenElement());
+                elements.add(RoundBracketOpenElement.INSTANCE);
+                elements.add(RoundBracketOpenElement.INSTANCE);
                 elements.add(aPattern.getP());
                 elements.add(languageDefinitions.getImplication());
-                elements.add(new RoundBracketOpenElement());
+                elements.add(RoundBracketOpenElement.INSTANCE);
                 elements.add(languageDefinitions.getAlways());
-                elements.add(new SpaceElement());
-                elements.add(new RoundBracketOpenElement());
+                elements.add(SpaceElement.INSTANCE);
+                elements.add(RoundBracketOpenElement.INSTANCE);
                 elements.add(aPattern.getS());
                 elements.add(languageDefinitions.getAnd());
                 elements.add(languageDefinitions.getNot());
                 elements.add(aScope.getR());
-                elements.add(new RoundBracketCloseElement());
-                elements.add(new RoundBracketCloseElement());
-                elements.add(new RoundBracketCloseElement());
+                elements.add(RoundBracketCloseElement.INSTANCE);
+                elements.add(RoundBracketCloseElement.INSTANCE);
+                elements.add(RoundBracketCloseElement.INSTANCE);
                 elements.add(languageDefinitions.getUntil());
-                elements.add(new SpaceElement());
+                elements.add(SpaceElement.INSTANCE);
                 elements.add(aScope.getR());
-                elements.add(new RoundBracketCloseElement());
+                elements.add(RoundBracketCloseElement.INSTANCE);
                 break;
             case PSPConstants.S_AfterQ:
                 elements.add(languageDefinitions.getAlways());
-                elements.add(new RoundBracketOpenElement());
+                elements.add(RoundBracketOpenElement.INSTANCE);
                 elements.add(aScope.getQ());
                 elements.add(languageDefinitions.getImplication());
-                elements.add(new RoundBracketOpenElement());
+                elements.add(RoundBracketOpenElement.INSTANCE);
                 elements.add(languageDefinitions.getAlways());
-                elements.add(new RoundBracketOpenElement());
+                elements.add(RoundBracketOpenElement.INSTANCE);
                 elements.add(aPattern.getP());
                 elements.add(languageDefinitions.getImplication());
-                elements.add(new RoundBracketOpenElement());
+                elements.add(RoundBracketOpenElement.INSTANCE);
                 elements.add(languageDefinitions.getAlways());
-                elements.add(new SpaceElement());
+                elements.add(SpaceElement.INSTANCE);
                 elements.add(aPattern.getS());
-                elements.add(new RoundBracketCloseElement());
-                elements.add(new RoundBracketCloseElement());
-                elements.add(new RoundBracketCloseElement());
-                elements.add(new RoundBracketCloseElement());
+                elements.add(RoundBracketCloseElement.INSTANCE);
+                elements.add(RoundBracketCloseElement.INSTANCE);
+                elements.add(RoundBracketCloseElement.INSTANCE);
+                elements.add(RoundBracketCloseElement.INSTANCE);
                 break;
             case PSPConstants.S_BetweenQandR:
                 elements.add(languageDefinitions.getAlways());
-                elements.add(new RoundBracketOpenElement());
-                elements.add(new RoundBracketOpenElement());
+                elements.add(RoundBracketOpenElement.INSTANCE);
+                elements.add(RoundBracketOpenElement.INSTANCE);
                 elements.add(aScope.getQ());
                 elements.add(languageDefinitions.getAnd());
                 elements.add(languageDefinitions.getNot());
                 elements.add(aScope.getR());
                 elements.add(languageDefinitions.getAnd());
-                elements.add(new RoundBracketOpenElement());
+                elements.add(RoundBracketOpenElement.INSTANCE);
                 elements.add(languageDefinitions.getEventually());
-                elements.add(new SpaceElement());
+                elements.add(SpaceElement.INSTANCE);
                 elements.add(aScope.getR());
-                elements.add(new RoundBracketCloseElement());
-                elements.add(new RoundBracketCloseElement());
+                elements.add(RoundBracketCloseElement.INSTANCE);
+                elements.add(RoundBracketCloseElement.INSTANCE);
                 elements.add(languageDefinitions.getImplication());
-                elements.add(new RoundBracketOpenElement());
-                elements.add(new RoundBracketOpenElement());
+                elements.add(RoundBracketOpenElement.INSTANCE);
+                elements.add(RoundBracketOpenElement.INSTANCE);
                 elements.add(aPattern.getP());
                 elements.add(languageDefinitions.getImplication());
-                elements.add(new RoundBracketOpenElement());
+                elements.add(RoundBracketOpenElement.INSTANCE);
                 elements.add(languageDefinitions.getAlways());
-                elements.add(new SpaceElement());
-                elements.add(new RoundBracketOpenElement());
+                elements.add(SpaceElement.INSTANCE);
+                elements.add(RoundBracketOpenElement.INSTANCE);
                 elements.add(aPattern.getS());
                 elements.add(languageDefinitions.getAnd());
                 elements.add(languageDefinitions.getNot());
                 elements.add(aScope.getR());
-                elements.add(new RoundBracketCloseElement());
-                elements.add(new RoundBracketCloseElement());
-                elements.add(new RoundBracketCloseElement());
+                elements.add(RoundBracketCloseElement.INSTANCE);
+                elements.add(RoundBracketCloseElement.INSTANCE);
+                elements.add(RoundBracketCloseElement.INSTANCE);
                 elements.add(languageDefinitions.getUntil());
-                elements.add(new SpaceElement());
+                elements.add(SpaceElement.INSTANCE);
                 elements.add(aScope.getR());
-                elements.add(new RoundBracketCloseElement());
-                elements.add(new RoundBracketCloseElement());
+                elements.add(RoundBracketCloseElement.INSTANCE);
+                elements.add(RoundBracketCloseElement.INSTANCE);
                 break;
             case PSPConstants.S_AfterQuntilR:
                 elements.add(languageDefinitions.getAlways());
-                elements.add(new RoundBracketOpenElement());
-                elements.add(new RoundBracketOpenElement());
+                elements.add(RoundBracketOpenElement.INSTANCE);
+                elements.add(RoundBracketOpenElement.INSTANCE);
                 elements.add(aScope.getQ());
                 elements.add(languageDefinitions.getAnd());
                 elements.add(languageDefinitions.getNot());
                 elements.add(aScope.getR());
-                elements.add(new RoundBracketCloseElement());
+                elements.add(RoundBracketCloseElement.INSTANCE);
                 elements.add(languageDefinitions.getImplication());
-                elements.add(new RoundBracketOpenElement());
-                elements.add(new RoundBracketOpenElement());
+                elements.add(RoundBracketOpenElement.INSTANCE);
+                elements.add(RoundBracketOpenElement.INSTANCE);
                 elements.add(aPattern.getP());
                 elements.add(languageDefinitions.getImplication());
-                elements.add(new RoundBracketOpenElement());
+                elements.add(RoundBracketOpenElement.INSTANCE);
                 elements.add(languageDefinitions.getAlways());
-                elements.add(new SpaceElement());
-                elements.add(new RoundBracketOpenElement());
+                elements.add(SpaceElement.INSTANCE);
+                elements.add(RoundBracketOpenElement.INSTANCE);
                 elements.add(aPattern.getS());
                 elements.add(languageDefinitions.getAnd());
                 elements.add(languageDefinitions.getNot());
                 elements.add(aScope.getR());
-                elements.add(new RoundBracketCloseElement());
-                elements.add(new RoundBracketCloseElement());
-                elements.add(new RoundBracketCloseElement());
-                elements.add(new RoundBracketCloseElement());
+                elements.add(RoundBracketCloseElement.INSTANCE);
+                elements.add(RoundBracketCloseElement.INSTANCE);
+                elements.add(RoundBracketCloseElement.INSTANCE);
                 elements.add(languageDefinitions.getWeakUntil());
-                elements.add(new SpaceElement());
+                elements.add(SpaceElement.INSTANCE);
                 elements.add(aScope.getR());
-                elements.add(new RoundBracketCloseElement());
-                elements.add(new RoundBracketCloseElement());
+                elements.add(RoundBracketCloseElement.INSTANCE);
+                elements.add(RoundBracketCloseElement.INSTANCE);
                 break;
         }
 
-        return elements;
     }
 
-    public String cnt(EventImpl aZP) {
+    public Element cnt(EventImpl aZP) {
         if (aZP != null)
-            return languageDefinitions.getNot().getContent() + aZP.getAsEvent();
+            return new NegatedEventElement(languageDefinitions.getNot(), aZP);
         else
-            return "true";
+            return new MiscElement("true");
     }
 
     public String getNotSupportedMessage() {
@@ -38,30 +38,42 @@
 
 package psp.mappings;
 
+import java.util.List;
+
 import psp.constraints.Interval;
 import psp.constraints.LowerTimeBound;
 import psp.constraints.ProbabilityBound;
 import psp.constraints.TimeBound;
 import psp.constraints.UpperTimeBound;
 import psp.engine.PSPConstants;
+import psp.mappings.elements.Element;
+import psp.mappings.elements.MiscElement;
+import psp.mappings.elements.NegatedEventElement;
+import psp.mappings.postprocessing.MappingPostprocessor;
+import psp.mappings.postprocessing.PatternFormatter;
 import psp.sel.EventImpl;
 import psp.sel.patterns.order.ChainEvent;
 import psp.sel.patterns.order.ChainEvents;
 
 public abstract class MTLSupport extends GenericMapper {
-    private TimeLanguageDefinitions timeLanguageDefinitions;
+    private final TimeLanguageDefinitions timeLanguageDefinitions;
 
     public MTLSupport(final LanguageDefinitions languageDefinitions,
-        final TimeLanguageDefinitions timeLanguageDefinitions) {
-        super(languageDefinitions);
+        final TimeLanguageDefinitions timeLanguageDefinitions, final List<MappingPostprocessor> processors,
+        final List<PatternFormatter> formatters) {
+        super(languageDefinitions, processors, formatters);
         this.timeLanguageDefinitions = timeLanguageDefinitions;
     }
 
-    public String cnt(EventImpl aZP) {
+    public TimeLanguageDefinitions getTimeLanguageDefinitions() {
+        return timeLanguageDefinitions;
+    }
+
+    public Element cnt(EventImpl aZP) {
         if (aZP != null)
-            return languageDefinitions.getNot().getContent() + aZP.getAsEvent();
+            return new NegatedEventElement(languageDefinitions.getNot(), aZP);
         else
-            return "true";
+            return new MiscElement("true");
     }
 
     public String time(TimeBound aPTimeBound) {
@@ -112,13 +124,13 @@ public abstract class MTLSupport extends GenericMapper {
         return sb.toString();
     }
 
-    public String utb(TimeBound aPTimeBound) {
+    public String utb(TimeBound aPTimeBound, MappingContext aContext) {
         StringBuilder sb = new StringBuilder();
 
         if (aPTimeBound != null) {
             String lUTP = tU(aPTimeBound);
             if (lUTP.equals(languageDefinitions.getInf()))
-                markError(); // inf makes no sense
+                aContext.markError(); // inf makes no sense
 
             sb.append(timeLanguageDefinitions.getDefaultStartTimeBoundBracket());
             sb.append("0");
@@ -130,14 +142,14 @@ public abstract class MTLSupport extends GenericMapper {
         return sb.toString();
     }
 
-    public String trigger(Interval aPTimeBound) {
+    public String trigger(Interval aPTimeBound, MappingContext aContext) {
         String Result = "";
 
         if (aPTimeBound != null) {
             long lUP = aPTimeBound.getUpperLimit();
 
             if (lUP == Long.MAX_VALUE) {
-                markError(); // inf? makes no sense
+                aContext.markError(); // inf? makes no sense
                 Result = String.format(
                     timeLanguageDefinitions.getDefaultStartTimeBoundBracket() + "%s,%s"
                         + timeLanguageDefinitions.getDefaultEndTimeBoundBracket(),
@@ -150,7 +162,7 @@ public abstract class MTLSupport extends GenericMapper {
         return Result;
     }
 
-    public String gap(Interval aPTimeBound) {
+    public String gap(Interval aPTimeBound, MappingContext aContext) {
         String Result = "";
 
         if (aPTimeBound != null) {
@@ -166,7 +178,7 @@ public abstract class MTLSupport extends GenericMapper {
                 long lDelta = lUP - lLP;
 
                 if (lDelta < 0)
-                    markError(); // negative gap
+                    aContext.markError(); // negative gap
 
                 Result = String.format(timeLanguageDefinitions.getDefaultStartTimeBoundBracket() + "0,%d"
                     + timeLanguageDefinitions.getInfinityEndTimeBoundBracket(), lDelta);
@@ -193,7 +205,7 @@ public abstract class MTLSupport extends GenericMapper {
         return Result;
     }
 
-    public String maxgap(Interval aPTimeBound) {
+    public String maxgap(Interval aPTimeBound, MappingContext aContext) {
         String Result = "";
 
         if (aPTimeBound != null) {
@@ -201,7 +213,7 @@ public abstract class MTLSupport extends GenericMapper {
             long lLP = ((Interval) aPTimeBound).getLowerLimit();
 
             if (lUP == Long.MAX_VALUE) {
-                markError();
+                aContext.markError();
                 Result = String.format(timeLanguageDefinitions.getDefaultStartTimeBoundBracket() + "0,%s"
                     + timeLanguageDefinitions.getDefaultEndTimeBoundBracket(), languageDefinitions.getInf()); // inf - x
                                                                                                               // = inf
@@ -209,7 +221,7 @@ public abstract class MTLSupport extends GenericMapper {
                 long lDelta = lUP - lLP;
 
                 if (lDelta < 0)
-                    markError(); // negative gap?
+                    aContext.markError(); // negative gap?
 
                 Result = String.format(timeLanguageDefinitions.getDefaultStartTimeBoundBracket() + "0,%d"
                     + timeLanguageDefinitions.getDefaultEndTimeBoundBracket(), lDelta);
@@ -286,7 +298,7 @@ public abstract class MTLSupport extends GenericMapper {
         return Result; // "" if some time component is missing
     }
 
-    public String gapPN(int n, ChainEvents Tis, Interval aPTimeBound) {
+    public String gapPN(int n, ChainEvents Tis, Interval aPTimeBound, MappingContext aContext) {
         String Result = "";
 
         long lTUTis = sumTis(Tis, n);
@@ -295,16 +307,16 @@ public abstract class MTLSupport extends GenericMapper {
             long lTUP = aPTimeBound.getUpperLimit() - aPTimeBound.getLowerLimit();
 
             if (lTUP < 0)
-                markError();
+                aContext.markError();
 
             if (lTUP != 0) {
                 if (lTUTis == Long.MAX_VALUE)
-                    markError();
+                    aContext.markError();
                 else {
                     lTUP -= lTUTis; // could lead to overflow
 
                     if (lTUP < 0)
-                        markError();
+                        aContext.markError();
                 }
             }
 
@@ -385,8 +397,4 @@ public abstract class MTLSupport extends GenericMapper {
     public String toString() {
         return "MTL";
     }
-
-    public void setTimeLanguageDefinitions(final TimeLanguageDefinitions timeLanguageDefinitions) {
-        this.timeLanguageDefinitions = timeLanguageDefinitions;
-    }
 }
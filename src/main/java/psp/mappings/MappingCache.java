@@ -0,0 +1,178 @@
+package psp.mappings;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.LongAdder;
+
+import psp.sel.RenderingContext;
+import psp.sel.patterns.Pattern;
+import psp.sel.scopes.Scope;
+
+/**
+ * A bounded, least recently used cache of mapping results. Scopes, patterns and their constraints compare
+ * by value, so equal requests share one entry no matter which instances describe them. As mappers are
+ * stateless, a cached result is valid for as long as the scope and pattern it was computed for are left
+ * unchanged; callers must therefore not modify a scope or pattern once it has been mapped through the cache.
+ * The cache is safe for concurrent use; a mapping is computed outside of the lock, so two threads missing
+ * the same key at the same time both compute it and the later result wins. Mappers are compared by identity,
+ * hence the cache is meant to be used with shared mapper instances.
+ * <p>
+ * Generic mappers that miss the cache without options render a precompiled template of the mapping's shape, see
+ * {@link TemplateMappingEngine}, such that requests differing only in their events run the mapper once.
+ */
+public final class MappingCache {
+    private record Key(PatternMapper mapper, Scope scope, Pattern pattern, List<RenderingContext> renderings,
+        MappingOptions options) {
+    }
+
+    private final int maximumSize;
+    private final Map<Key, List<MappingResult>> entries;
+    private final LongAdder hits = new LongAdder();
+    private final LongAdder misses = new LongAdder();
+    private final LongAdder evictions = new LongAdder();
+    private final DialectMappingEngine dialectEngine = new DialectMappingEngine();
+    private final TemplateMappingEngine templateEngine;
+
+    /**
+     * @param maximumSize the maximum number of cached mappings, a size of zero or less disables caching
+     */
+    public MappingCache(final int maximumSize) {
+        this.maximumSize = maximumSize;
+        this.templateEngine = new TemplateMappingEngine(Math.max(maximumSize, 0));
+        this.entries = new LinkedHashMap<>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(final Map.Entry<Key, List<MappingResult>> eldest) {
+                if (size() > MappingCache.this.maximumSize) {
+                    evictions.increment();
+                    return true;
+                }
+                return false;
+            }
+        };
+    }
+
+    public MappingResult map(final PatternMapper mapper, final Scope scope, final Pattern pattern) {
+        return map(mapper, scope, pattern, List.of(RenderingContext.NAME)).get(0);
+    }
+
+    public List<MappingResult> map(final PatternMapper mapper, final Scope scope, final Pattern pattern,
+        final List<RenderingContext> renderings) {
+        return map(mapper, scope, pattern, renderings, MappingOptions.NONE);
+    }
+
+    /**
+     * Mappings rewritten with different options are cached separately.
+     */
+    public List<MappingResult> map(final PatternMapper mapper, final Scope scope, final Pattern pattern,
+        final List<RenderingContext> renderings, final MappingOptions options) {
+        if (maximumSize <= 0) {
+            misses.increment();
+            return mapper.map(scope, pattern, renderings, options);
+        }
+
+        Key key = new Key(mapper, scope, pattern, List.copyOf(renderings), options);
+        List<MappingResult> results;
+        synchronized (entries) {
+            results = entries.get(key);
+        }
+        if (results != null) {
+            hits.increment();
+            return results;
+        }
+
+        misses.increment();
+        if (mapper instanceof GenericMapper && options.isNone()) {
+            results = List.copyOf(templateEngine.map((GenericMapper) mapper, scope, pattern, renderings));
+        } else {
+            results = List.copyOf(mapper.map(scope, pattern, renderings, options));
+        }
+        synchronized (entries) {
+            entries.put(key, results);
+        }
+        return results;
+    }
+
+    /**
+     * Maps the scope and the pattern to each of the mappers. Mappers of the same logic family that miss the cache
+     * share a single mapping, and the families are mapped in parallel, see {@link DialectMappingEngine}.
+     *
+     * @return the results of each of the mappers, in the order of the mappers
+     */
+    public Map<PatternMapper, List<MappingResult>> mapToAll(final List<? extends PatternMapper> mappers,
+        final Scope scope, final Pattern pattern, final List<RenderingContext> renderings) {
+        final List<RenderingContext> keyRenderings = List.copyOf(renderings);
+        final Map<PatternMapper, List<MappingResult>> results = new LinkedHashMap<>();
+        final List<GenericMapper> missed = new ArrayList<>();
+        for (final PatternMapper mapper : mappers) {
+            List<MappingResult> cached = null;
+            if (maximumSize > 0) {
+                synchronized (entries) {
+                    cached = entries.get(new Key(mapper, scope, pattern, keyRenderings, MappingOptions.NONE));
+                }
+            }
+            if (cached != null) {
+                hits.increment();
+                results.put(mapper, cached);
+            } else if (mapper instanceof GenericMapper) {
+                results.put(mapper, null);
+                missed.add((GenericMapper) mapper);
+            } else {
+                results.put(mapper, map(mapper, scope, pattern, renderings));
+            }
+        }
+        if (missed.isEmpty()) {
+            return results;
+        }
+
+        for (final Map.Entry<GenericMapper, List<MappingResult>> mapped : dialectEngine
+            .map(missed, scope, pattern, renderings).entrySet()) {
+            misses.increment();
+            final List<MappingResult> mappedResults = List.copyOf(mapped.getValue());
+            results.put(mapped.getKey(), mappedResults);
+            if (maximumSize > 0) {
+                synchronized (entries) {
+                    entries.put(new Key(mapped.getKey(), scope, pattern, keyRenderings, MappingOptions.NONE),
+                        mappedResults);
+                }
+            }
+        }
+        return results;
+    }
+
+    public void clear() {
+        synchronized (entries) {
+            entries.clear();
+        }
+    }
+
+    public int size() {
+        synchronized (entries) {
+            return entries.size();
+        }
+    }
+
+    public int getMaximumSize() {
+        return maximumSize;
+    }
+
+    public long getHitCount() {
+        return hits.sum();
+    }
+
+    public long getMissCount() {
+        return misses.sum();
+    }
+
+    public long getEvictionCount() {
+        return evictions.sum();
+    }
+
+    /**
+     * @return the number of mapping templates compiled on misses
+     */
+    public long getTemplateCompilationCount() {
+        return templateEngine.getCompilationCount();
+    }
+}
@@ -0,0 +1,17 @@
+package psp.mappings;
+
+/**
+ * Per-call state of a single mapping. Mappers are stateless and shared, everything a mapping has to
+ * remember while it is being constructed is kept here instead.
+ */
+public class MappingContext {
+    private boolean fMappingError;
+
+    public void markError() {
+        fMappingError = true;
+    }
+
+    public boolean hasMappingErrorOccurred() {
+        return fMappingError;
+    }
+}
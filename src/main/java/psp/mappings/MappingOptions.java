@@ -0,0 +1,21 @@
+package psp.mappings;
+
+/**
+ * Optional rewritings of a mapping. Both work on the formula of the mapping, after the postprocessors of the
+ * mapper, and are applied in order.
+ *
+ * @param simplify          whether the formula is replaced by an equivalent, smaller one, see
+ *                          {@link psp.mappings.formula.Simplifier}
+ * @param defineSubformulas whether repeated subformulas are factored out into named definitions, see
+ *                          {@link psp.mappings.formula.SubformulaDefinitions}
+ */
+public record MappingOptions(boolean simplify, boolean defineSubformulas) {
+    /**
+     * The mapping as it is.
+     */
+    public static final MappingOptions NONE = new MappingOptions(false, false);
+
+    public boolean isNone() {
+        return !simplify && !defineSubformulas;
+    }
+}
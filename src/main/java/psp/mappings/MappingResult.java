@@ -0,0 +1,68 @@
+package psp.mappings;
+
+/**
+ * The outcome of mapping a scope and a pattern to a target logic.
+ */
+public final class MappingResult {
+    private static final int NOT_SIMPLIFIED = -1;
+
+    private final String mapping;
+    private final boolean mappingError;
+    private final int originalSize;
+    private final int simplifiedSize;
+
+    public MappingResult(final String mapping, final boolean mappingError) {
+        this(mapping, mappingError, NOT_SIMPLIFIED, NOT_SIMPLIFIED);
+    }
+
+    /**
+     * @param originalSize   the size of the formula, in nodes, before it has been simplified
+     * @param simplifiedSize the size of the simplified formula, in nodes
+     */
+    public MappingResult(final String mapping, final boolean mappingError, final int originalSize,
+        final int simplifiedSize) {
+        this.mapping = mapping;
+        this.mappingError = mappingError;
+        this.originalSize = originalSize;
+        this.simplifiedSize = simplifiedSize;
+    }
+
+    /**
+     * @return the mapped formula, empty if the combination is not supported by the target logic
+     */
+    public String getMapping() {
+        return mapping;
+    }
+
+    public boolean isSupported() {
+        return !mapping.isEmpty();
+    }
+
+    /**
+     * @return true if the mapping has been produced, but some constraint does not make sense in the target logic
+     */
+    public boolean hasMappingErrorOccurred() {
+        return mappingError;
+    }
+
+    /**
+     * @return true if the mapping has been simplified, only then the sizes of the formula are known
+     */
+    public boolean isSimplified() {
+        return originalSize != NOT_SIMPLIFIED;
+    }
+
+    /**
+     * @return the size of the formula, in nodes, before it has been simplified
+     */
+    public int getOriginalSize() {
+        return originalSize;
+    }
+
+    /**
+     * @return the size of the simplified formula, in nodes
+     */
+    public int getSimplifiedSize() {
+        return simplifiedSize;
+    }
+}
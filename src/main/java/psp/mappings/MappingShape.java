@@ -0,0 +1,189 @@
+package psp.mappings;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import psp.constraints.EventConstraint;
+import psp.constraints.Interval;
+import psp.constraints.LowerTimeBound;
+import psp.constraints.ProbabilityBound;
+import psp.constraints.TimeBound;
+import psp.constraints.UpperTimeBound;
+import psp.sel.EventImpl;
+import psp.sel.patterns.Occurrence;
+import psp.sel.patterns.Order;
+import psp.sel.patterns.Pattern;
+import psp.sel.patterns.occurrence.BoundedExistence;
+import psp.sel.patterns.occurrence.MaximumDuration;
+import psp.sel.patterns.occurrence.MinimumDuration;
+import psp.sel.patterns.occurrence.Recurrence;
+import psp.sel.patterns.occurrence.TransientState;
+import psp.sel.patterns.order.ChainEvent;
+import psp.sel.patterns.order.Precedence;
+import psp.sel.patterns.order.PrecedenceChain1N;
+import psp.sel.patterns.order.PrecedenceChainN1;
+import psp.sel.patterns.order.Response;
+import psp.sel.patterns.order.ResponseChain1N;
+import psp.sel.patterns.order.ResponseChainN1;
+import psp.sel.patterns.order.ResponseInvariance;
+import psp.sel.patterns.order.Until;
+import psp.sel.scopes.Scope;
+
+/**
+ * Everything about a scope and a pattern a mapping depends on, except for the events themselves: the types, the
+ * bounds with their values, and which events are present and which share a name. Mappers only pass events on to
+ * the mapping, hence scopes and patterns of the same shape map to the same formula up to their events.
+ * <p>
+ * The events are kept in slots, in the order they are visited, and are not part of the equality of shapes.
+ */
+final class MappingShape {
+    private final List<Object> features = new ArrayList<>();
+    private final List<EventImpl> events = new ArrayList<>();
+
+    private MappingShape() {
+    }
+
+    /**
+     * @return the shape of the scope and the pattern, or null if the pattern is of a type the shape does not know
+     */
+    static MappingShape of(final Scope scope, final Pattern pattern) {
+        final MappingShape shape = new MappingShape();
+        shape.features.add(scope.getClass());
+        shape.event(scope.getQ());
+        shape.event(scope.getR());
+        shape.features.add(pattern.getClass());
+        if (pattern instanceof Occurrence) {
+            return shape.occurrence((Occurrence) pattern) ? shape : null;
+        }
+        if (pattern instanceof Order) {
+            return shape.order((Order) pattern) ? shape : null;
+        }
+        return null;
+    }
+
+    List<EventImpl> getEvents() {
+        return events;
+    }
+
+    private boolean occurrence(final Occurrence pattern) {
+        event(pattern.getP());
+        timeBound(pattern.getPTimeBound());
+        probabilityBound(pattern.getProbabilityBound());
+        if (pattern instanceof BoundedExistence) {
+            features.add(((BoundedExistence) pattern).getFrequency());
+        } else if (pattern instanceof TransientState) {
+            features.add(((TransientState) pattern).getUpperLimit());
+            features.add(((TransientState) pattern).getTimeUnit());
+        } else if (pattern instanceof MinimumDuration) {
+            features.add(((MinimumDuration) pattern).getUpperLimit());
+            features.add(((MinimumDuration) pattern).getTimeUnit());
+        } else if (pattern instanceof MaximumDuration) {
+            features.add(((MaximumDuration) pattern).getUpperLimit());
+            features.add(((MaximumDuration) pattern).getTimeUnit());
+        } else if (pattern instanceof Recurrence) {
+            features.add(((Recurrence) pattern).getUpperLimit());
+            features.add(((Recurrence) pattern).getTimeUnit());
+        }
+        return true;
+    }
+
+    private boolean order(final Order pattern) {
+        event(pattern.getP());
+        event(pattern.getS());
+        probabilityBound(pattern.getProbabilityBound());
+        if (pattern.getTis() == null) {
+            features.add(null);
+        } else {
+            final List<ChainEvent> chain = pattern.getTis().getTis();
+            features.add(chain.size());
+            for (final ChainEvent chainEvent : chain) {
+                event(chainEvent.getEvent());
+                constraint(chainEvent.getConstraint());
+                timeBound(chainEvent.getTimeBound());
+            }
+        }
+
+        if (pattern instanceof Precedence) {
+            timeBound(((Precedence) pattern).getPTimeBound());
+        } else if (pattern instanceof Until) {
+            timeBound(((Until) pattern).getPTimeBound());
+        } else if (pattern instanceof Response) {
+            timeBound(((Response) pattern).getSTimeBound());
+            constraint(((Response) pattern).getSConstraint());
+        } else if (pattern instanceof ResponseInvariance) {
+            timeBound(((ResponseInvariance) pattern).getSTimeBound());
+        } else if (pattern instanceof PrecedenceChain1N) {
+            timeBound(((PrecedenceChain1N) pattern).getSTimeBound());
+            constraint(((PrecedenceChain1N) pattern).getSConstraint());
+        } else if (pattern instanceof ResponseChain1N) {
+            timeBound(((ResponseChain1N) pattern).getSTimeBound());
+            constraint(((ResponseChain1N) pattern).getSConstraint());
+        } else if (pattern instanceof PrecedenceChainN1) {
+            timeBound(((PrecedenceChainN1) pattern).getPTimeBound());
+            constraint(((PrecedenceChainN1) pattern).getPConstraint());
+        } else if (pattern instanceof ResponseChainN1) {
+            timeBound(((ResponseChainN1) pattern).getPTimeBound());
+            constraint(((ResponseChainN1) pattern).getPConstraint());
+        } else {
+            return false;
+        }
+        return true;
+    }
+
+    /**
+     * Adds the event to the slots. The shape records whether it is present and the first slot with the same
+     * name, as {@link EventImpl#equals} identifies events by their name.
+     */
+    private void event(final EventImpl event) {
+        if (event == null) {
+            features.add(-1);
+        } else {
+            int alias = events.indexOf(event);
+            features.add(alias < 0 ? events.size() : alias);
+        }
+        events.add(event);
+    }
+
+    private void constraint(final EventConstraint constraint) {
+        features.add(constraint != null);
+        if (constraint != null) {
+            event(constraint.getEvent());
+        }
+    }
+
+    private void timeBound(final TimeBound bound) {
+        if (bound == null) {
+            features.add(null);
+            return;
+        }
+        features.add(bound.getClass());
+        features.add(bound.getTimeUnit());
+        if (bound instanceof Interval) {
+            features.add(((Interval) bound).getLowerLimit());
+            features.add(((Interval) bound).getUpperLimit());
+        } else if (bound instanceof LowerTimeBound) {
+            features.add(((LowerTimeBound) bound).getLowerLimit());
+        } else if (bound instanceof UpperTimeBound) {
+            features.add(((UpperTimeBound) bound).getUpperLimit());
+        }
+    }
+
+    private void probabilityBound(final ProbabilityBound bound) {
+        if (bound == null) {
+            features.add(null);
+        } else {
+            features.add(bound.getClass());
+            features.add(bound.getProbability());
+        }
+    }
+
+    @Override
+    public boolean equals(final Object obj) {
+        return obj instanceof MappingShape && features.equals(((MappingShape) obj).features);
+    }
+
+    @Override
+    public int hashCode() {
+        return features.hashCode();
+    }
+}
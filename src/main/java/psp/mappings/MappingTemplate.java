@@ -0,0 +1,123 @@
+package psp.mappings;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import psp.mappings.elements.Element;
+import psp.mappings.elements.ErrorElement;
+import psp.mappings.elements.Event;
+import psp.mappings.elements.NegatedEventElement;
+import psp.sel.EventImpl;
+import psp.sel.RenderingContext;
+
+/**
+ * A mapping compiled for a {@link MappingShape}: literal segments with holes for the events in between. Rendering
+ * a template fills each hole with the event in its slot, so a template serves every scope and pattern of its
+ * shape.
+ */
+final class MappingTemplate {
+    /**
+     * Stands in for the template of a shape that cannot be compiled, e.g. as its mapping failed.
+     */
+    static final MappingTemplate UNCOMPILABLE = new MappingTemplate(new String[] {""}, new int[0], false);
+
+    /**
+     * A rough guess of the length of a rendered event, used to size the buffer.
+     */
+    private static final int EVENT_LENGTH = 8;
+
+    private final String[] literals;
+    private final int[] holes;
+    private final int literalLength;
+    private final boolean mappingError;
+
+    private MappingTemplate(final String[] literals, final int[] holes, final boolean mappingError) {
+        this.literals = literals;
+        this.holes = holes;
+        this.mappingError = mappingError;
+        int length = 0;
+        for (final String literal : literals) {
+            length += literal.length();
+        }
+        this.literalLength = length;
+    }
+
+    /**
+     * Compiles the elements of a mapping, which refer to the events in the given slots.
+     *
+     * @return the template, or {@link #UNCOMPILABLE} if an element cannot be compiled
+     */
+    static MappingTemplate compile(final List<Element> elements, final List<EventImpl> events,
+        final boolean mappingError) {
+        final List<String> literals = new ArrayList<>();
+        final List<Integer> holes = new ArrayList<>();
+        StringBuilder literal = new StringBuilder();
+        for (final Element element : elements) {
+            if (element == null) {
+                break;
+            }
+            if (element instanceof ErrorElement) {
+                return UNCOMPILABLE;
+            }
+            final Element part;
+            if (element instanceof NegatedEventElement) {
+                literal.append(((NegatedEventElement) element).getNot().getContent());
+                part = ((NegatedEventElement) element).getEvent();
+            } else {
+                part = element;
+            }
+            if (part instanceof Event) {
+                final int slot = slotOf(part, events);
+                if (slot < 0) {
+                    return UNCOMPILABLE;
+                }
+                literals.add(literal.toString());
+                holes.add(slot);
+                literal = new StringBuilder();
+            } else if (isLiteral(part)) {
+                literal.append(part.getContent());
+            } else {
+                return UNCOMPILABLE;
+            }
+        }
+        literals.add(literal.toString());
+
+        final int[] holeArray = new int[holes.size()];
+        for (int i = 0; i < holeArray.length; i++) {
+            holeArray[i] = holes.get(i);
+        }
+        return new MappingTemplate(literals.toArray(new String[0]), holeArray, mappingError);
+    }
+
+    /**
+     * Of the elements in the element library, only events depend on the rendering context. Elements defined
+     * elsewhere, like those of the {@link SELMapper}, may render events as part of their text.
+     */
+    private static boolean isLiteral(final Element element) {
+        return element.getClass().getPackageName().equals(Element.class.getPackageName());
+    }
+
+    /**
+     * Events are found by identity, events with the same name may still be rendered differently.
+     */
+    private static int slotOf(final Element event, final List<EventImpl> events) {
+        for (int i = 0; i < events.size(); i++) {
+            if (events.get(i) == event) {
+                return i;
+            }
+        }
+        return -1;
+    }
+
+    String render(final List<EventImpl> events, final RenderingContext rendering) {
+        final StringBuilder sb = new StringBuilder(literalLength + holes.length * EVENT_LENGTH);
+        for (int i = 0; i < holes.length; i++) {
+            sb.append(literals[i]).append(events.get(holes[i]).getContent(rendering));
+        }
+        return sb.append(literals[holes.length]).toString();
+    }
+
+    boolean hasMappingErrorOccurred() {
+        return mappingError;
+    }
+}
@@ -41,25 +41,26 @@ package psp.mappings;
 import psp.constraints.Interval;
 import psp.constraints.ProbabilityBound;
 import psp.constraints.TimeBound;
+import psp.mappings.elements.Element;
 import psp.sel.EventImpl;
 import psp.sel.patterns.order.ChainEvents;
 
 public interface PSPFrameworkSupport 
 {
-    public String cnt( EventImpl aZP );
+    public Element cnt( EventImpl aZP );
 
     public String time( TimeBound aPTimeBound );
     public String lmintime( TimeBound aPTimeBound );
     public String umintime( TimeBound aPTimeBound );
-    public String utb( TimeBound aPTimeBound );
+    public String utb( TimeBound aPTimeBound, MappingContext aContext );
     
     // precedence support (interval only)
-    public String trigger( Interval aPTimeBound );
-    public String gap( Interval aPTimeBound );
+    public String trigger( Interval aPTimeBound, MappingContext aContext );
+    public String gap( Interval aPTimeBound, MappingContext aContext );
     public String elapsed( Interval aPTimeBound );
-    public String maxgap( Interval aPTimeBound );
+    public String maxgap( Interval aPTimeBound, MappingContext aContext );
     public String gapNP( int n, ChainEvents Tis, Interval aPTimeBound );
-    public String gapPN( int n, ChainEvents Tis, Interval aPTimeBound );
+    public String gapPN( int n, ChainEvents Tis, Interval aPTimeBound, MappingContext aContext );
     
     public String tL( TimeBound aPTimeBound );
     public String tU( TimeBound aPTimeBound );
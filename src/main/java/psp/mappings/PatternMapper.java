@@ -38,8 +38,9 @@
 
 package psp.mappings;
 
-import psp.mappings.postprocessing.MappingPostprocessor;
-import psp.mappings.postprocessing.PatternFormatter;
+import java.util.List;
+
+import psp.sel.RenderingContext;
 import psp.sel.patterns.Pattern;
 import psp.sel.scopes.Scope;
 
@@ -50,19 +51,20 @@ public interface PatternMapper extends PSPFrameworkSupport {
 
     public boolean isCombinationSupported(Scope aScope, Pattern aPattern);
 
-    public String getMapping(Scope aScope, Pattern aPattern);
+    public MappingResult map(Scope aScope, Pattern aPattern);
 
-    public boolean hasMappingErrorOccurred();
+    public MappingResult map(Scope aScope, Pattern aPattern, RenderingContext aRendering);
 
-    public String getNotSupportedMessage();
+    public List<MappingResult> map(Scope aScope, Pattern aPattern, List<RenderingContext> aRenderings);
 
-    public String toString();
+    public List<MappingResult> map(Scope aScope, Pattern aPattern, List<RenderingContext> aRenderings,
+        MappingOptions aOptions);
 
-    public LanguageDefinitions getLanguageDefinitions();
+    public String getMapping(Scope aScope, Pattern aPattern);
 
-    public void setLanguageDefinitions(final LanguageDefinitions languageDefinitions);
+    public String getNotSupportedMessage();
 
-    public void register(final MappingPostprocessor processor);
+    public String toString();
 
-    public void register(final PatternFormatter formatter);
+    public LanguageDefinitions getLanguageDefinitions();
 }
@@ -38,17 +38,15 @@
 
 package psp.mappings;
 
-import java.util.ArrayList;
-import java.util.Collections;
-import java.util.List;
 
 import psp.constraints.EventConstraint;
 import psp.constraints.Interval;
+import psp.constraints.TimeBound;
 import psp.engine.PSPConstants;
 import psp.mappings.elements.AlwaysElement;
 import psp.mappings.elements.AndElement;
 import psp.mappings.elements.Element;
-import psp.mappings.elements.ErrorElement;
+import psp.mappings.elements.ElementSink;
 import psp.mappings.elements.EventuallyElement;
 import psp.mappings.elements.ImplicationElement;
 import psp.mappings.elements.MiscElement;
@@ -59,7 +57,8 @@ import psp.mappings.elements.RoundBracketCloseElement;
 import psp.mappings.elements.RoundBracketOpenElement;
 import psp.mappings.elements.ProbabilityBoundElement;
 import psp.mappings.elements.SpaceElement;
-import psp.mappings.elements.Structure;
+import psp.mappings.elements.SquareBracketCloseElement;
+import psp.mappings.elements.SquareBracketOpenElement;
 import psp.mappings.elements.TimeBoundElement;
 import psp.mappings.elements.UntilElement;
 import psp.mappings.elements.WeakUntilElement;
@@ -70,8 +69,8 @@ import psp.sel.patterns.occurrence.*;
 import psp.sel.scopes.Scope;
 
 public class PrismMapper extends PrismSupport {
-    private static final SquareBracketsOpenElement defaultSquareBracketOpen = new SquareBracketsOpenElement();
-    private static final SquareBracketsCloseElement defaultSquareBracketClose = new SquareBracketsCloseElement();
+    private static final SquareBracketOpenElement defaultSquareBracketOpen = SquareBracketOpenElement.INSTANCE;
+    private static final SquareBracketCloseElement defaultSquareBracketClose = SquareBracketCloseElement.INSTANCE;
 
     private static final AlwaysElement defaultAlways = new AlwaysElement("G");
     private static final EventuallyElement defaultEventually = new EventuallyElement("F");
@@ -115,55 +114,75 @@ public class PrismMapper extends PrismSupport {
     }
 
     // pattern mapping
-    public List<Element> mapToElements(Scope aScope, Pattern aPattern) {
-        clearError();
-
-        try // if something goes wrong
-        {
-            switch (aPattern.getType()) {
-                case PSPConstants.P_Universality:
-                    return mapUniversality(aScope, (Universality) aPattern);
-                case PSPConstants.P_Absence:
-                    return mapAbsence(aScope, (Absence) aPattern);
-                case PSPConstants.P_Existence:
-                    return mapExistence(aScope, (Existence) aPattern);
-                case PSPConstants.P_BoundedExistence:
-                case PSPConstants.P_TransientState:
-                case PSPConstants.P_SteadyState:
-                    return Collections.emptyList();
-                case PSPConstants.P_MinimumDuration:
-                    return mapMinimumDuration(aScope, (MinimumDuration) aPattern);
-                case PSPConstants.P_MaximumDuration:
-                    return mapMaximumDuration(aScope, (MaximumDuration) aPattern);
-                case PSPConstants.P_Recurrence:
-                    return mapRecurrence(aScope, (Recurrence) aPattern);
-                case PSPConstants.P_Precedence:
-                    return mapPrecedence(aScope, (Precedence) aPattern);
-                case PSPConstants.P_PrecedenceChain1N:
-                    return mapPrecedenceChain1N(aScope, (PrecedenceChain1N) aPattern);
-                case PSPConstants.P_PrecedenceChainN1:
-                    return mapPrecedenceChainN1(aScope, (PrecedenceChainN1) aPattern);
-                case PSPConstants.P_Until:
-                    return mapUntil(aScope, (Until) aPattern);
-                case PSPConstants.P_Response:
-                    return mapResponse(aScope, (Response) aPattern);
-                case PSPConstants.P_ResponseChain1N:
-                    return mapResponseChain1N(aScope, (ResponseChain1N) aPattern);
-                case PSPConstants.P_ResponseChainN1:
-                    return mapResponseChainN1(aScope, (ResponseChainN1) aPattern);
-                case PSPConstants.P_ResponseInvariance:
-                    return mapResponseInvariance(aScope, (ResponseInvariance) aPattern);
-            }
-        } catch (Exception e) {
-            markError();
-            return List.of(new ErrorElement(e));
+    protected void emitElements(Scope aScope, Pattern aPattern, MappingContext aContext, ElementSink elements) {
+        switch (aPattern.getType()) {
+            case PSPConstants.P_Universality:
+                mapUniversality(aScope, (Universality) aPattern, aContext, elements);
+                break;
+            case PSPConstants.P_Absence:
+                mapAbsence(aScope, (Absence) aPattern, aContext, elements);
+                break;
+            case PSPConstants.P_Existence:
+                mapExistence(aScope, (Existence) aPattern, aContext, elements);
+                break;
+            case PSPConstants.P_BoundedExistence:
+            case PSPConstants.P_TransientState:
+            case PSPConstants.P_SteadyState:
+                break;
+            case PSPConstants.P_MinimumDuration:
+                mapMinimumDuration(aScope, (MinimumDuration) aPattern, aContext, elements);
+                break;
+            case PSPConstants.P_MaximumDuration:
+                mapMaximumDuration(aScope, (MaximumDuration) aPattern, aContext, elements);
+                break;
+            case PSPConstants.P_Recurrence:
+                mapRecurrence(aScope, (Recurrence) aPattern, aContext, elements);
+                break;
+            case PSPConstants.P_Precedence:
+                mapPrecedence(aScope, (Precedence) aPattern, aContext, elements);
+                break;
+            case PSPConstants.P_PrecedenceChain1N:
+                mapPrecedenceChain1N(aScope, (PrecedenceChain1N) aPattern, aContext, elements);
+                break;
+            case PSPConstants.P_PrecedenceChainN1:
+                mapPrecedenceChainN1(aScope, (PrecedenceChainN1) aPattern, aContext, elements);
+                break;
+            case PSPConstants.P_Until:
+                mapUntil(aScope, (Until) aPattern, aContext, elements);
+                break;
+            case PSPConstants.P_Response:
+                mapResponse(aScope, (Response) aPattern, aContext, elements);
+                break;
+            case PSPConstants.P_ResponseChain1N:
+                mapResponseChain1N(aScope, (ResponseChain1N) aPattern, aContext, elements);
+                break;
+            case PSPConstants.P_ResponseChainN1:
+                mapResponseChainN1(aScope, (ResponseChainN1) aPattern, aContext, elements);
+                break;
+            case PSPConstants.P_ResponseInvariance:
+                mapResponseInvariance(aScope, (ResponseInvariance) aPattern, aContext, elements);
+                break;
         }
+    }
+
+    // R does not hold at Q, nor up to the lower time bound if there is one.
 
-        return Collections.emptyList();
+    private void notR(ElementSink elements, Scope aScope, TimeBound aPTimeBound) {
+        if (aPTimeBound == null) {
+            elements.add(languageDefinitions.getNot());
+            elements.add(aScope.getR());
+        } else {
+            elements.add(RoundBracketOpenElement.INSTANCE);
+            elements.add(languageDefinitions.getAlways());
+            elements.add(TimeBoundElement.of(umintime(aPTimeBound)));
+            elements.add(SpaceElement.INSTANCE);
+            elements.add(languageDefinitions.getNot());
+            elements.add(aScope.getR());
+            elements.add(RoundBracketCloseElement.INSTANCE);
+        }
     }
 
-    private List<Element> mapUniversality(Scope aScope, Universality aPattern) {
-        List<Element> elements = new ArrayList<>();
+    private void mapUniversality(Scope aScope, Universality aPattern, MappingContext aContext, ElementSink elements) {
 
         elements.add(new ProbabilityBoundElement(prop(aPattern.getProbabilityBound())));
         elements.add(defaultSquareBracketOpen);
@@ -171,101 +190,99 @@ public class PrismMapper extends PrismSupport {
         switch (aScope.getType()) {
             case PSPConstants.S_Globally:
                 elements.add(languageDefinitions.getAlways());
-                elements.add(new TimeBoundElement(time(aPattern.getPTimeBound())));
-                elements.add(new SpaceElement());
+                elements.add(TimeBoundElement.of(time(aPattern.getPTimeBound())));
+                elements.add(SpaceElement.INSTANCE);
                 elements.add(aPattern.getP());
                 break;
             case PSPConstants.S_BeforeR:
+                elements.add(RoundBracketOpenElement.INSTANCE);
                 elements.add(languageDefinitions.getEventually());
-                elements.add(new TimeBoundElement(lmintime(aPattern.getPTimeBound())));
-                elements.add(new SpaceElement());
+                elements.add(TimeBoundElement.of(lmintime(aPattern.getPTimeBound())));
+                elements.add(SpaceElement.INSTANCE);
                 elements.add(aScope.getR());
+                elements.add(RoundBracketCloseElement.INSTANCE);
                 elements.add(languageDefinitions.getImplication());
-                elements.add(new RoundBracketOpenElement());
+                elements.add(RoundBracketOpenElement.INSTANCE);
+                elements.add(RoundBracketOpenElement.INSTANCE);
                 elements.add(aPattern.getP());
                 elements.add(languageDefinitions.getUntil());
-                elements.add(new TimeBoundElement(time(aPattern.getPTimeBound())));
-                elements.add(new SpaceElement());
+                elements.add(TimeBoundElement.of(time(aPattern.getPTimeBound())));
+                elements.add(SpaceElement.INSTANCE);
                 elements.add(aScope.getR());
+                elements.add(RoundBracketCloseElement.INSTANCE);
                 elements.add(languageDefinitions.getOr());
                 elements.add(languageDefinitions.getAlways());
-                elements.add(new TimeBoundElement(time(aPattern.getPTimeBound())));
-                elements.add(new SpaceElement());
+                elements.add(TimeBoundElement.of(time(aPattern.getPTimeBound())));
+                elements.add(SpaceElement.INSTANCE);
                 elements.add(aPattern.getP());
-                elements.add(new RoundBracketCloseElement());
+                elements.add(RoundBracketCloseElement.INSTANCE);
                 break;
             case PSPConstants.S_AfterQ:
                 elements.add(languageDefinitions.getAlways());
-                elements.add(new RoundBracketOpenElement());
+                elements.add(RoundBracketOpenElement.INSTANCE);
                 elements.add(aScope.getQ());
                 elements.add(languageDefinitions.getImplication());
                 elements.add(languageDefinitions.getAlways());
-                elements.add(new TimeBoundElement(time(aPattern.getPTimeBound())));
-                elements.add(new SpaceElement());
+                elements.add(TimeBoundElement.of(time(aPattern.getPTimeBound())));
+                elements.add(SpaceElement.INSTANCE);
                 elements.add(aPattern.getP());
-                elements.add(new RoundBracketCloseElement());
+                elements.add(RoundBracketCloseElement.INSTANCE);
                 break;
             case PSPConstants.S_BetweenQandR:
                 elements.add(languageDefinitions.getAlways());
-                elements.add(new RoundBracketOpenElement());
-                elements.add(new RoundBracketOpenElement());
+                elements.add(RoundBracketOpenElement.INSTANCE);
+                elements.add(RoundBracketOpenElement.INSTANCE);
                 elements.add(aScope.getQ());
                 elements.add(languageDefinitions.getAnd());
-                elements.add(languageDefinitions.getAlways());
-                elements.add(new TimeBoundElement(umintime(aPattern.getPTimeBound())));
-                elements.add(new SpaceElement());
-                elements.add(languageDefinitions.getNot());
-                elements.add(aScope.getR());
-                elements.add(new RoundBracketCloseElement());
+                notR(elements, aScope, aPattern.getPTimeBound());
+                elements.add(RoundBracketCloseElement.INSTANCE);
                 elements.add(languageDefinitions.getAnd());
                 elements.add(languageDefinitions.getEventually());
-                elements.add(new TimeBoundElement(lmintime(aPattern.getPTimeBound())));
-                elements.add(new SpaceElement());
+                elements.add(TimeBoundElement.of(lmintime(aPattern.getPTimeBound())));
+                elements.add(SpaceElement.INSTANCE);
                 elements.add(aScope.getR());
-                elements.add(new RoundBracketCloseElement());
+                elements.add(RoundBracketCloseElement.INSTANCE);
                 elements.add(languageDefinitions.getImplication());
-                elements.add(new RoundBracketOpenElement());
+                elements.add(RoundBracketOpenElement.INSTANCE);
+                elements.add(RoundBracketOpenElement.INSTANCE);
                 elements.add(aPattern.getP());
                 elements.add(languageDefinitions.getUntil());
-                elements.add(new TimeBoundElement(time(aPattern.getPTimeBound())));
-                elements.add(new SpaceElement());
+                elements.add(TimeBoundElement.of(time(aPattern.getPTimeBound())));
+                elements.add(SpaceElement.INSTANCE);
                 elements.add(aScope.getR());
+                elements.add(RoundBracketCloseElement.INSTANCE);
                 elements.add(languageDefinitions.getOr());
                 elements.add(languageDefinitions.getAlways());
-                elements.add(new TimeBoundElement(time(aPattern.getPTimeBound())));
-                elements.add(new SpaceElement());
+                elements.add(TimeBoundElement.of(time(aPattern.getPTimeBound())));
+                elements.add(SpaceElement.INSTANCE);
                 elements.add(aPattern.getP());
-                elements.add(new RoundBracketCloseElement());
+                elements.add(RoundBracketCloseElement.INSTANCE);
                 break;
             case PSPConstants.S_AfterQuntilR:
                 elements.add(languageDefinitions.getAlways());
-                elements.add(new RoundBracketOpenElement());
-                elements.add(new RoundBracketOpenElement());
+                elements.add(RoundBracketOpenElement.INSTANCE);
+                elements.add(RoundBracketOpenElement.INSTANCE);
                 elements.add(aScope.getQ());
                 elements.add(languageDefinitions.getAnd());
-                elements.add(languageDefinitions.getAlways());
-                elements.add(new TimeBoundElement(umintime(aPattern.getPTimeBound())));
-                elements.add(new SpaceElement());
-                elements.add(languageDefinitions.getNot());
-                elements.add(aScope.getR());
-                elements.add(new RoundBracketCloseElement());
+                notR(elements, aScope, aPattern.getPTimeBound());
+                elements.add(RoundBracketCloseElement.INSTANCE);
                 elements.add(languageDefinitions.getImplication());
+                elements.add(RoundBracketOpenElement.INSTANCE);
                 elements.add(aPattern.getP());
                 elements.add(languageDefinitions.getWeakUntil());
-                elements.add(new TimeBoundElement(time(aPattern.getPTimeBound())));
-                elements.add(new SpaceElement());
+                elements.add(TimeBoundElement.of(time(aPattern.getPTimeBound())));
+                elements.add(SpaceElement.INSTANCE);
                 elements.add(aScope.getR());
-                elements.add(new RoundBracketCloseElement());
+                elements.add(RoundBracketCloseElement.INSTANCE);
+                elements.add(RoundBracketCloseElement.INSTANCE);
                 break;
         }
 
         elements.add(defaultSquareBracketClose);
 
-        return elements;
     }
 
-    private List<Element> mapAbsence(Scope aScope, Absence aPattern) {
-        List<Element> elements = new ArrayList<>();
+    private void mapAbsence(Scope aScope, Absence aPattern, MappingContext aContext, ElementSink elements) {
 
         elements.add(new ProbabilityBoundElement(prop(aPattern.getProbabilityBound())));
         elements.add(defaultSquareBracketOpen);
@@ -273,108 +290,106 @@ public class PrismMapper extends PrismSupport {
         switch (aScope.getType()) {
             case PSPConstants.S_Globally:
                 elements.add(languageDefinitions.getAlways());
-                elements.add(new TimeBoundElement(time(aPattern.getPTimeBound())));
-                elements.add(new SpaceElement());
+                elements.add(TimeBoundElement.of(time(aPattern.getPTimeBound())));
+                elements.add(SpaceElement.INSTANCE);
                 elements.add(languageDefinitions.getNot());
                 elements.add(aPattern.getP());
                 break;
             case PSPConstants.S_BeforeR:
+                elements.add(RoundBracketOpenElement.INSTANCE);
                 elements.add(languageDefinitions.getEventually());
-                elements.add(new TimeBoundElement(lmintime(aPattern.getPTimeBound())));
-                elements.add(new SpaceElement());
+                elements.add(TimeBoundElement.of(lmintime(aPattern.getPTimeBound())));
+                elements.add(SpaceElement.INSTANCE);
                 elements.add(aScope.getR());
+                elements.add(RoundBracketCloseElement.INSTANCE);
                 elements.add(languageDefinitions.getImplication());
-                elements.add(new RoundBracketOpenElement());
+                elements.add(RoundBracketOpenElement.INSTANCE);
+                elements.add(RoundBracketOpenElement.INSTANCE);
                 elements.add(languageDefinitions.getNot());
                 elements.add(aPattern.getP());
                 elements.add(languageDefinitions.getUntil());
-                elements.add(new TimeBoundElement(time(aPattern.getPTimeBound())));
-                elements.add(new SpaceElement());
+                elements.add(TimeBoundElement.of(time(aPattern.getPTimeBound())));
+                elements.add(SpaceElement.INSTANCE);
                 elements.add(aScope.getR());
+                elements.add(RoundBracketCloseElement.INSTANCE);
                 elements.add(languageDefinitions.getOr());
                 elements.add(languageDefinitions.getAlways());
-                elements.add(new TimeBoundElement(time(aPattern.getPTimeBound())));
-                elements.add(new SpaceElement());
+                elements.add(TimeBoundElement.of(time(aPattern.getPTimeBound())));
+                elements.add(SpaceElement.INSTANCE);
                 elements.add(languageDefinitions.getNot());
                 elements.add(aPattern.getP());
-                elements.add(new RoundBracketCloseElement());
+                elements.add(RoundBracketCloseElement.INSTANCE);
                 break;
             case PSPConstants.S_AfterQ:
                 elements.add(languageDefinitions.getAlways());
-                elements.add(new RoundBracketOpenElement());
+                elements.add(RoundBracketOpenElement.INSTANCE);
                 elements.add(aScope.getQ());
                 elements.add(languageDefinitions.getImplication());
                 elements.add(languageDefinitions.getAlways());
-                elements.add(new TimeBoundElement(time(aPattern.getPTimeBound())));
-                elements.add(new SpaceElement());
+                elements.add(TimeBoundElement.of(time(aPattern.getPTimeBound())));
+                elements.add(SpaceElement.INSTANCE);
                 elements.add(languageDefinitions.getNot());
                 elements.add(aPattern.getP());
-                elements.add(new RoundBracketCloseElement());
+                elements.add(RoundBracketCloseElement.INSTANCE);
                 break;
             case PSPConstants.S_BetweenQandR:
                 elements.add(languageDefinitions.getAlways());
-                elements.add(new RoundBracketOpenElement());
-                elements.add(new RoundBracketOpenElement());
+                elements.add(RoundBracketOpenElement.INSTANCE);
+                elements.add(RoundBracketOpenElement.INSTANCE);
                 elements.add(aScope.getQ());
                 elements.add(languageDefinitions.getAnd());
-                elements.add(languageDefinitions.getAlways());
-                elements.add(new TimeBoundElement(umintime(aPattern.getPTimeBound())));
-                elements.add(new SpaceElement());
-                elements.add(languageDefinitions.getNot());
-                elements.add(aScope.getR());
-                elements.add(new RoundBracketCloseElement());
+                notR(elements, aScope, aPattern.getPTimeBound());
+                elements.add(RoundBracketCloseElement.INSTANCE);
                 elements.add(languageDefinitions.getAnd());
                 elements.add(languageDefinitions.getEventually());
-                elements.add(new TimeBoundElement(lmintime(aPattern.getPTimeBound())));
-                elements.add(new SpaceElement());
+                elements.add(TimeBoundElement.of(lmintime(aPattern.getPTimeBound())));
+                elements.add(SpaceElement.INSTANCE);
                 elements.add(aScope.getR());
-                elements.add(new RoundBracketCloseElement());
+                elements.add(RoundBracketCloseElement.INSTANCE);
                 elements.add(languageDefinitions.getImplication());
-                elements.add(new RoundBracketOpenElement());
+                elements.add(RoundBracketOpenElement.INSTANCE);
+                elements.add(RoundBracketOpenElement.INSTANCE);
                 elements.add(languageDefinitions.getNot());
                 elements.add(aPattern.getP());
                 elements.add(languageDefinitions.getUntil());
-                elements.add(new TimeBoundElement(time(aPattern.getPTimeBound())));
-                elements.add(new SpaceElement());
+                elements.add(TimeBoundElement.of(time(aPattern.getPTimeBound())));
+                elements.add(SpaceElement.INSTANCE);
                 elements.add(aScope.getR());
+                elements.add(RoundBracketCloseElement.INSTANCE);
                 elements.add(languageDefinitions.getOr());
                 elements.add(languageDefinitions.getAlways());
-                elements.add(new TimeBoundElement(time(aPattern.getPTimeBound())));
-                elements.add(new SpaceElement());
+                elements.add(TimeBoundElement.of(time(aPattern.getPTimeBound())));
+                elements.add(SpaceElement.INSTANCE);
                 elements.add(languageDefinitions.getNot());
                 elements.add(aPattern.getP());
-                elements.add(new RoundBracketCloseElement());
+                elements.add(RoundBracketCloseElement.INSTANCE);
                 break;
             case PSPConstants.S_AfterQuntilR:
                 elements.add(languageDefinitions.getAlways());
-                elements.add(new RoundBracketOpenElement());
-                elements.add(new RoundBracketOpenElement());
+                elements.add(RoundBracketOpenElement.INSTANCE);
+                elements.add(RoundBracketOpenElement.INSTANCE);
                 elements.add(aScope.getQ());
                 elements.add(languageDefinitions.getAnd());
-                elements.add(languageDefinitions.getAlways());
-                elements.add(new TimeBoundElement(umintime(aPattern.getPTimeBound())));
-                elements.add(new SpaceElement());
-                elements.add(languageDefinitions.getNot());
-                elements.add(aScope.getR());
-                elements.add(new RoundBracketCloseElement());
+                notR(elements, aScope, aPattern.getPTimeBound());
+                elements.add(RoundBracketCloseElement.INSTANCE);
                 elements.add(languageDefinitions.getImplication());
+                elements.add(RoundBracketOpenElement.INSTANCE);
                 elements.add(languageDefinitions.getNot());
                 elements.add(aPattern.getP());
                 elements.add(languageDefinitions.getWeakUntil());
-                elements.add(new TimeBoundElement(time(aPattern.getPTimeBound())));
-                elements.add(new SpaceElement());
+                elements.add(TimeBoundElement.of(time(aPattern.getPTimeBound())));
+                elements.add(SpaceElement.INSTANCE);
                 elements.add(aScope.getR());
-                elements.add(new RoundBracketCloseElement());
+                elements.add(RoundBracketCloseElement.INSTANCE);
+                elements.add(RoundBracketCloseElement.INSTANCE);
                 break;
         }
 
         elements.add(defaultSquareBracketClose);
 
-        return elements;
     }
 
-    private List<Element> mapExistence(Scope aScope, Existence aPattern) {
-        List<Element> elements = new ArrayList<>();
+    private void mapExistence(Scope aScope, Existence aPattern, MappingContext aContext, ElementSink elements) {
 
         elements.add(new ProbabilityBoundElement(prop(aPattern.getProbabilityBound())));
         elements.add(defaultSquareBracketOpen);
@@ -382,108 +397,100 @@ public class PrismMapper extends PrismSupport {
         switch (aScope.getType()) {
             case PSPConstants.S_Globally:
                 elements.add(languageDefinitions.getEventually());
-                elements.add(new TimeBoundElement(time(aPattern.getPTimeBound())));
-                elements.add(new SpaceElement());
+                elements.add(TimeBoundElement.of(time(aPattern.getPTimeBound())));
+                elements.add(SpaceElement.INSTANCE);
                 elements.add(aPattern.getP());
                 break;
             case PSPConstants.S_BeforeR:
                 elements.add(languageDefinitions.getNot());
                 elements.add(aScope.getR());
                 elements.add(languageDefinitions.getWeakUntil());
-                elements.add(new TimeBoundElement(time(aPattern.getPTimeBound())));
-                elements.add(new SpaceElement());
-                elements.add(new RoundBracketOpenElement());
+                elements.add(TimeBoundElement.of(time(aPattern.getPTimeBound())));
+                elements.add(SpaceElement.INSTANCE);
+                elements.add(RoundBracketOpenElement.INSTANCE);
                 elements.add(aPattern.getP());
                 elements.add(languageDefinitions.getAnd());
                 elements.add(languageDefinitions.getNot());
                 elements.add(aScope.getR());
-                elements.add(new RoundBracketCloseElement());
+                elements.add(RoundBracketCloseElement.INSTANCE);
                 break;
             case PSPConstants.S_AfterQ:
+                elements.add(RoundBracketOpenElement.INSTANCE);
                 elements.add(languageDefinitions.getAlways());
                 elements.add(languageDefinitions.getNot());
                 elements.add(aScope.getQ());
+                elements.add(RoundBracketCloseElement.INSTANCE);
                 elements.add(languageDefinitions.getOr());
                 elements.add(languageDefinitions.getEventually());
-                elements.add(new RoundBracketOpenElement());
+                elements.add(RoundBracketOpenElement.INSTANCE);
                 elements.add(aScope.getQ());
                 elements.add(languageDefinitions.getAnd());
                 elements.add(languageDefinitions.getEventually());
-                elements.add(new TimeBoundElement(time(aPattern.getPTimeBound())));
-                elements.add(new SpaceElement());
+                elements.add(TimeBoundElement.of(time(aPattern.getPTimeBound())));
+                elements.add(SpaceElement.INSTANCE);
                 elements.add(aPattern.getP());
-                elements.add(new RoundBracketCloseElement());
+                elements.add(RoundBracketCloseElement.INSTANCE);
                 break;
             case PSPConstants.S_BetweenQandR:
                 elements.add(languageDefinitions.getAlways());
-                elements.add(new RoundBracketOpenElement());
-                elements.add(new RoundBracketOpenElement());
+                elements.add(RoundBracketOpenElement.INSTANCE);
+                elements.add(RoundBracketOpenElement.INSTANCE);
                 elements.add(aScope.getQ());
                 elements.add(languageDefinitions.getAnd());
-                elements.add(languageDefinitions.getAlways());
-                elements.add(new TimeBoundElement(umintime(aPattern.getPTimeBound())));
-                elements.add(new SpaceElement());
-                elements.add(languageDefinitions.getNot());
-                elements.add(aScope.getR());
+                notR(elements, aScope, aPattern.getPTimeBound());
                 elements.add(languageDefinitions.getAnd());
                 elements.add(languageDefinitions.getEventually());
-                elements.add(new TimeBoundElement(lmintime(aPattern.getPTimeBound())));
-                elements.add(new SpaceElement());
+                elements.add(TimeBoundElement.of(lmintime(aPattern.getPTimeBound())));
+                elements.add(SpaceElement.INSTANCE);
                 elements.add(aScope.getR());
-                elements.add(new RoundBracketCloseElement());
+                elements.add(RoundBracketCloseElement.INSTANCE);
                 elements.add(languageDefinitions.getImplication());
-                elements.add(new RoundBracketOpenElement());
+                elements.add(RoundBracketOpenElement.INSTANCE);
                 elements.add(languageDefinitions.getNot());
                 elements.add(aScope.getR());
                 elements.add(languageDefinitions.getWeakUntil());
-                elements.add(new TimeBoundElement(time(aPattern.getPTimeBound())));
-                elements.add(new SpaceElement());
-                elements.add(new RoundBracketOpenElement());
+                elements.add(TimeBoundElement.of(time(aPattern.getPTimeBound())));
+                elements.add(SpaceElement.INSTANCE);
+                elements.add(RoundBracketOpenElement.INSTANCE);
                 elements.add(aPattern.getP());
                 elements.add(languageDefinitions.getAnd());
                 elements.add(languageDefinitions.getNot());
                 elements.add(aScope.getR());
-                elements.add(new RoundBracketCloseElement());
-                elements.add(new RoundBracketCloseElement());
-                elements.add(new RoundBracketCloseElement());
+                elements.add(RoundBracketCloseElement.INSTANCE);
+                elements.add(RoundBracketCloseElement.INSTANCE);
+                elements.add(RoundBracketCloseElement.INSTANCE);
                 break;
             case PSPConstants.S_AfterQuntilR:
                 elements.add(languageDefinitions.getAlways());
-                elements.add(new RoundBracketOpenElement());
-                elements.add(new RoundBracketOpenElement());
+                elements.add(RoundBracketOpenElement.INSTANCE);
+                elements.add(RoundBracketOpenElement.INSTANCE);
                 elements.add(aScope.getQ());
                 elements.add(languageDefinitions.getAnd());
-                elements.add(languageDefinitions.getAlways());
-                elements.add(new TimeBoundElement(umintime(aPattern.getPTimeBound())));
-                elements.add(new SpaceElement());
-                elements.add(languageDefinitions.getNot());
-                elements.add(aScope.getR());
-                elements.add(new RoundBracketCloseElement());
+                notR(elements, aScope, aPattern.getPTimeBound());
+                elements.add(RoundBracketCloseElement.INSTANCE);
                 elements.add(languageDefinitions.getImplication());
-                elements.add(new RoundBracketOpenElement());
+                elements.add(RoundBracketOpenElement.INSTANCE);
                 elements.add(languageDefinitions.getNot());
                 elements.add(aScope.getR());
                 elements.add(languageDefinitions.getUntil());
-                elements.add(new TimeBoundElement(time(aPattern.getPTimeBound())));
-                elements.add(new SpaceElement());
-                elements.add(new RoundBracketOpenElement());
+                elements.add(TimeBoundElement.of(time(aPattern.getPTimeBound())));
+                elements.add(SpaceElement.INSTANCE);
+                elements.add(RoundBracketOpenElement.INSTANCE);
                 elements.add(aPattern.getP());
                 elements.add(languageDefinitions.getAnd());
                 elements.add(languageDefinitions.getNot());
                 elements.add(aScope.getR());
-                elements.add(new RoundBracketCloseElement());
-                elements.add(new RoundBracketCloseElement());
-                elements.add(new RoundBracketCloseElement());
+                elements.add(RoundBracketCloseElement.INSTANCE);
+                elements.add(RoundBracketCloseElement.INSTANCE);
+                elements.add(RoundBracketCloseElement.INSTANCE);
                 break;
         }
 
         elements.add(defaultSquareBracketClose);
 
-        return elements;
     }
 
-    private List<Element> mapMinimumDuration(Scope aScope, MinimumDuration aPattern) {
-        List<Element> elements = new ArrayList<>();
+    private void mapMinimumDuration(Scope aScope, MinimumDuration aPattern, MappingContext aContext, ElementSink elements) {
 
         elements.add(new ProbabilityBoundElement(prop(aPattern.getProbabilityBound())));
         elements.add(defaultSquareBracketOpen);
@@ -491,78 +498,80 @@ public class PrismMapper extends PrismSupport {
         switch (aScope.getType()) {
             case PSPConstants.S_Globally:
                 elements.add(languageDefinitions.getAlways());
-                elements.add(new RoundBracketOpenElement());
+                elements.add(RoundBracketOpenElement.INSTANCE);
                 elements.add(aPattern.getP());
                 elements.add(languageDefinitions.getOr());
-                elements.add(new RoundBracketOpenElement());
+                elements.add(RoundBracketOpenElement.INSTANCE);
                 elements.add(languageDefinitions.getNot());
                 elements.add(aPattern.getP());
                 elements.add(languageDefinitions.getWeakUntil());
-                elements.add(new TimeBoundElement(utb(aPattern.getPTimeBound())));
-                elements.add(new SpaceElement());
+                elements.add(TimeBoundElement.of(utb(aPattern.getPTimeBound(), aContext)));
+                elements.add(SpaceElement.INSTANCE);
                 elements.add(aPattern.getP());
-                elements.add(new RoundBracketCloseElement());
-                elements.add(new RoundBracketCloseElement());
+                elements.add(RoundBracketCloseElement.INSTANCE);
+                elements.add(RoundBracketCloseElement.INSTANCE);
                 break;
             case PSPConstants.S_BeforeR:
+                elements.add(RoundBracketOpenElement.INSTANCE);
                 elements.add(languageDefinitions.getEventually());
                 elements.add(aScope.getR());
+                elements.add(RoundBracketCloseElement.INSTANCE);
                 elements.add(languageDefinitions.getImplication());
-                elements.add(new RoundBracketOpenElement());
-                elements.add(new RoundBracketOpenElement());
+                elements.add(RoundBracketOpenElement.INSTANCE);
+                elements.add(RoundBracketOpenElement.INSTANCE);
                 elements.add(aPattern.getP());
                 elements.add(languageDefinitions.getOr());
-                elements.add(new RoundBracketOpenElement());
+                elements.add(RoundBracketOpenElement.INSTANCE);
                 elements.add(languageDefinitions.getNot());
                 elements.add(aPattern.getP());
                 elements.add(languageDefinitions.getUntil());
-                elements.add(new SpaceElement());
-                elements.add(new RoundBracketOpenElement());
+                elements.add(SpaceElement.INSTANCE);
+                elements.add(RoundBracketOpenElement.INSTANCE);
                 elements.add(languageDefinitions.getAlways());
-                elements.add(new TimeBoundElement(utb(aPattern.getPTimeBound())));
-                elements.add(new SpaceElement());
-                elements.add(new RoundBracketOpenElement());
+                elements.add(TimeBoundElement.of(utb(aPattern.getPTimeBound(), aContext)));
+                elements.add(SpaceElement.INSTANCE);
+                elements.add(RoundBracketOpenElement.INSTANCE);
                 elements.add(aPattern.getP());
                 elements.add(languageDefinitions.getAnd());
                 elements.add(languageDefinitions.getNot());
                 elements.add(aScope.getR());
-                elements.add(new RoundBracketCloseElement());
+                elements.add(RoundBracketCloseElement.INSTANCE);
                 elements.add(languageDefinitions.getOr());
                 elements.add(aScope.getR());
-                elements.add(new RoundBracketCloseElement());
-                elements.add(new RoundBracketCloseElement());
-                elements.add(new RoundBracketCloseElement());
+                elements.add(RoundBracketCloseElement.INSTANCE);
+                elements.add(RoundBracketCloseElement.INSTANCE);
+                elements.add(RoundBracketCloseElement.INSTANCE);
                 elements.add(languageDefinitions.getUntil());
-                elements.add(new SpaceElement());
+                elements.add(SpaceElement.INSTANCE);
                 elements.add(aScope.getR());
-                elements.add(new RoundBracketCloseElement());
+                elements.add(RoundBracketCloseElement.INSTANCE);
                 break;
             case PSPConstants.S_AfterQ:
                 elements.add(languageDefinitions.getAlways());
-                elements.add(new RoundBracketOpenElement());
+                elements.add(RoundBracketOpenElement.INSTANCE);
                 elements.add(aScope.getQ());
                 elements.add(languageDefinitions.getImplication());
                 elements.add(languageDefinitions.getAlways());
-                elements.add(new RoundBracketOpenElement());
+                elements.add(RoundBracketOpenElement.INSTANCE);
                 elements.add(aPattern.getP());
                 elements.add(languageDefinitions.getOr());
-                elements.add(new RoundBracketOpenElement());
+                elements.add(RoundBracketOpenElement.INSTANCE);
                 elements.add(languageDefinitions.getNot());
                 elements.add(aPattern.getP());
                 elements.add(languageDefinitions.getWeakUntil());
-                elements.add(new SpaceElement());
+                elements.add(SpaceElement.INSTANCE);
                 elements.add(languageDefinitions.getAlways());
-                elements.add(new TimeBoundElement(utb(aPattern.getPTimeBound())));
-                elements.add(new SpaceElement());
+                elements.add(TimeBoundElement.of(utb(aPattern.getPTimeBound(), aContext)));
+                elements.add(SpaceElement.INSTANCE);
                 elements.add(aPattern.getP());
-                elements.add(new RoundBracketCloseElement());
-                elements.add(new RoundBracketCloseElement());
-                elements.add(new RoundBracketCloseElement());
+                elements.add(RoundBracketCloseElement.INSTANCE);
+                elements.add(RoundBracketCloseElement.INSTANCE);
+                elements.add(RoundBracketCloseElement.INSTANCE);
                 break;
             case PSPConstants.S_BetweenQandR:
                 elements.add(languageDefinitions.getAlways());
-                elements.add(new RoundBracketOpenElement());
-                elements.add(new RoundBracketOpenElement());
+                elements.add(RoundBracketOpenElement.INSTANCE);
+                elements.add(RoundBracketOpenElement.INSTANCE);
                 elements.add(aScope.getQ());
                 elements.add(languageDefinitions.getAnd());
                 elements.add(languageDefinitions.getNot());
@@ -570,87 +579,85 @@ public class PrismMapper extends PrismSupport {
                 elements.add(languageDefinitions.getAnd());
                 elements.add(languageDefinitions.getEventually());
                 elements.add(aScope.getR());
-                elements.add(new RoundBracketCloseElement());
+                elements.add(RoundBracketCloseElement.INSTANCE);
                 elements.add(languageDefinitions.getImplication());
-                elements.add(new RoundBracketOpenElement());
-                elements.add(new RoundBracketOpenElement());
+                elements.add(RoundBracketOpenElement.INSTANCE);
+                elements.add(RoundBracketOpenElement.INSTANCE);
                 elements.add(aPattern.getP());
                 elements.add(languageDefinitions.getOr());
-                elements.add(new RoundBracketOpenElement());
+                elements.add(RoundBracketOpenElement.INSTANCE);
                 elements.add(languageDefinitions.getNot());
                 elements.add(aPattern.getP());
                 elements.add(languageDefinitions.getUntil());
-                elements.add(new SpaceElement());
-                elements.add(new RoundBracketOpenElement());
+                elements.add(SpaceElement.INSTANCE);
+                elements.add(RoundBracketOpenElement.INSTANCE);
                 elements.add(languageDefinitions.getAlways());
-                elements.add(new TimeBoundElement(utb(aPattern.getPTimeBound())));
-                elements.add(new SpaceElement());
-                elements.add(new RoundBracketOpenElement());
+                elements.add(TimeBoundElement.of(utb(aPattern.getPTimeBound(), aContext)));
+                elements.add(SpaceElement.INSTANCE);
+                elements.add(RoundBracketOpenElement.INSTANCE);
                 elements.add(aPattern.getP());
                 elements.add(languageDefinitions.getAnd());
                 elements.add(languageDefinitions.getNot());
                 elements.add(aScope.getR());
-                elements.add(new RoundBracketCloseElement());
+                elements.add(RoundBracketCloseElement.INSTANCE);
                 elements.add(languageDefinitions.getOr());
                 elements.add(aScope.getR());
-                elements.add(new RoundBracketCloseElement());
-                elements.add(new RoundBracketCloseElement());
-                elements.add(new RoundBracketCloseElement());
+                elements.add(RoundBracketCloseElement.INSTANCE);
+                elements.add(RoundBracketCloseElement.INSTANCE);
+                elements.add(RoundBracketCloseElement.INSTANCE);
                 elements.add(languageDefinitions.getUntil());
-                elements.add(new SpaceElement());
+                elements.add(SpaceElement.INSTANCE);
                 elements.add(aScope.getR());
-                elements.add(new RoundBracketCloseElement());
-                elements.add(new RoundBracketCloseElement());
+                elements.add(RoundBracketCloseElement.INSTANCE);
+                elements.add(RoundBracketCloseElement.INSTANCE);
                 break;
             case PSPConstants.S_AfterQuntilR:
                 elements.add(languageDefinitions.getAlways());
-                elements.add(new RoundBracketOpenElement());
-                elements.add(new RoundBracketOpenElement());
+                elements.add(RoundBracketOpenElement.INSTANCE);
+                elements.add(RoundBracketOpenElement.INSTANCE);
                 elements.add(aScope.getQ());
                 elements.add(languageDefinitions.getAnd());
                 elements.add(languageDefinitions.getNot());
                 elements.add(aScope.getR());
-                elements.add(new RoundBracketCloseElement());
+                elements.add(RoundBracketCloseElement.INSTANCE);
                 elements.add(languageDefinitions.getImplication());
-                elements.add(new RoundBracketOpenElement());
-                elements.add(new RoundBracketOpenElement());
+                elements.add(RoundBracketOpenElement.INSTANCE);
+                elements.add(RoundBracketOpenElement.INSTANCE);
                 elements.add(aPattern.getP());
                 elements.add(languageDefinitions.getOr());
-                elements.add(new RoundBracketOpenElement());
+                elements.add(RoundBracketOpenElement.INSTANCE);
                 elements.add(languageDefinitions.getNot());
                 elements.add(aPattern.getP());
                 elements.add(languageDefinitions.getWeakUntil());
-                elements.add(new SpaceElement());
-                elements.add(new RoundBracketOpenElement());
+                elements.add(SpaceElement.INSTANCE);
+                elements.add(RoundBracketOpenElement.INSTANCE);
                 elements.add(languageDefinitions.getAlways());
-                elements.add(new TimeBoundElement(utb(aPattern.getPTimeBound())));
-                elements.add(new SpaceElement());
-                elements.add(new RoundBracketOpenElement());
+                elements.add(TimeBoundElement.of(utb(aPattern.getPTimeBound(), aContext)));
+                elements.add(SpaceElement.INSTANCE);
+                elements.add(RoundBracketOpenElement.INSTANCE);
                 elements.add(aPattern.getP());
                 elements.add(languageDefinitions.getAnd());
                 elements.add(languageDefinitions.getNot());
                 elements.add(aScope.getR());
-                elements.add(new RoundBracketCloseElement());
+                elements.add(RoundBracketCloseElement.INSTANCE);
                 elements.add(languageDefinitions.getOr());
                 elements.add(aScope.getR());
-                elements.add(new RoundBracketCloseElement());
-                elements.add(new RoundBracketCloseElement());
-                elements.add(new RoundBracketCloseElement());
+                elements.add(RoundBracketCloseElement.INSTANCE);
+                elements.add(RoundBracketCloseElement.INSTANCE);
+                elements.add(RoundBracketCloseElement.INSTANCE);
                 elements.add(languageDefinitions.getWeakUntil());
-                elements.add(new SpaceElement());
+                elements.add(SpaceElement.INSTANCE);
                 elements.add(aScope.getR());
-                elements.add(new RoundBracketCloseElement());
-                elements.add(new RoundBracketCloseElement());
+                elements.add(RoundBracketCloseElement.INSTANCE);
+                elements.add(RoundBracketCloseElement.INSTANCE);
                 break;
         }
 
         elements.add(defaultSquareBracketClose);
 
-        return elements;
     }
 
-    private List<Element> mapMaximumDuration(Scope aScope, MaximumDuration aPattern) {
-        List<Element> elements = new ArrayList<>();
+    private void mapMaximumDuration(Scope aScope, MaximumDuration aPattern, MappingContext aContext, ElementSink elements) {
 
         elements.add(new ProbabilityBoundElement(prop(aPattern.getProbabilityBound())));
         elements.add(defaultSquareBracketOpen);
@@ -658,92 +665,96 @@ public class PrismMapper extends PrismSupport {
         switch (aScope.getType()) {
             case PSPConstants.S_Globally:
                 elements.add(languageDefinitions.getAlways());
-                elements.add(new RoundBracketOpenElement());
+                elements.add(RoundBracketOpenElement.INSTANCE);
                 elements.add(aPattern.getP());
                 elements.add(languageDefinitions.getOr());
-                elements.add(new RoundBracketOpenElement());
+                elements.add(RoundBracketOpenElement.INSTANCE);
                 elements.add(languageDefinitions.getNot());
                 elements.add(aPattern.getP());
                 elements.add(languageDefinitions.getWeakUntil());
-                elements.add(new SpaceElement());
-                elements.add(new RoundBracketOpenElement());
+                elements.add(SpaceElement.INSTANCE);
+                elements.add(RoundBracketOpenElement.INSTANCE);
                 elements.add(aPattern.getP());
                 elements.add(languageDefinitions.getAnd());
                 elements.add(languageDefinitions.getEventually());
-                elements.add(new TimeBoundElement(utb(aPattern.getPTimeBound())));
-                elements.add(new SpaceElement());
+                elements.add(TimeBoundElement.of(utb(aPattern.getPTimeBound(), aContext)));
+                elements.add(SpaceElement.INSTANCE);
                 elements.add(languageDefinitions.getNot());
                 elements.add(aPattern.getP());
-                elements.add(new RoundBracketCloseElement());
-                elements.add(new RoundBracketCloseElement());
-                elements.add(new RoundBracketCloseElement());
+                elements.add(RoundBracketCloseElement.INSTANCE);
+                elements.add(RoundBracketCloseElement.INSTANCE);
+                elements.add(RoundBracketCloseElement.INSTANCE);
                 break;
             case PSPConstants.S_BeforeR:
+                elements.add(RoundBracketOpenElement.INSTANCE);
                 elements.add(languageDefinitions.getEventually());
                 elements.add(aScope.getR());
+                elements.add(RoundBracketCloseElement.INSTANCE);
                 elements.add(languageDefinitions.getImplication());
-                elements.add(new RoundBracketOpenElement());
-                elements.add(new RoundBracketOpenElement());
+                elements.add(RoundBracketOpenElement.INSTANCE);
+                elements.add(RoundBracketOpenElement.INSTANCE);
                 elements.add(aPattern.getP());
                 elements.add(languageDefinitions.getOr());
-                elements.add(new RoundBracketOpenElement());
+                elements.add(RoundBracketOpenElement.INSTANCE);
                 elements.add(languageDefinitions.getNot());
                 elements.add(aPattern.getP());
                 elements.add(languageDefinitions.getUntil());
-                elements.add(new SpaceElement());
-                elements.add(new RoundBracketOpenElement());
+                elements.add(SpaceElement.INSTANCE);
+                elements.add(RoundBracketOpenElement.INSTANCE);
+                elements.add(RoundBracketOpenElement.INSTANCE);
                 elements.add(aPattern.getP());
                 elements.add(languageDefinitions.getAnd());
                 elements.add(languageDefinitions.getEventually());
-                elements.add(new TimeBoundElement(utb(aPattern.getPTimeBound())));
-                elements.add(new SpaceElement());
-                elements.add(new RoundBracketOpenElement());
+                elements.add(TimeBoundElement.of(utb(aPattern.getPTimeBound(), aContext)));
+                elements.add(SpaceElement.INSTANCE);
+                elements.add(RoundBracketOpenElement.INSTANCE);
                 elements.add(languageDefinitions.getNot());
                 elements.add(aPattern.getP());
                 elements.add(languageDefinitions.getAnd());
                 elements.add(aScope.getR());
-                elements.add(new RoundBracketCloseElement());
+                elements.add(RoundBracketCloseElement.INSTANCE);
+                elements.add(RoundBracketCloseElement.INSTANCE);
                 elements.add(languageDefinitions.getOr());
                 elements.add(aScope.getR());
-                elements.add(new RoundBracketCloseElement());
-                elements.add(new RoundBracketCloseElement());
-                elements.add(new RoundBracketCloseElement());
+                elements.add(RoundBracketCloseElement.INSTANCE);
+                elements.add(RoundBracketCloseElement.INSTANCE);
+                elements.add(RoundBracketCloseElement.INSTANCE);
                 elements.add(languageDefinitions.getUntil());
-                elements.add(new SpaceElement());
+                elements.add(SpaceElement.INSTANCE);
                 elements.add(aScope.getR());
-                elements.add(new RoundBracketCloseElement());
+                elements.add(RoundBracketCloseElement.INSTANCE);
                 break;
             case PSPConstants.S_AfterQ:
                 elements.add(languageDefinitions.getAlways());
-                elements.add(new RoundBracketOpenElement());
+                elements.add(RoundBracketOpenElement.INSTANCE);
                 elements.add(aScope.getQ());
                 elements.add(languageDefinitions.getImplication());
                 elements.add(languageDefinitions.getAlways());
-                elements.add(new RoundBracketOpenElement());
+                elements.add(RoundBracketOpenElement.INSTANCE);
                 elements.add(aPattern.getP());
                 elements.add(languageDefinitions.getOr());
-                elements.add(new RoundBracketOpenElement());
+                elements.add(RoundBracketOpenElement.INSTANCE);
                 elements.add(languageDefinitions.getNot());
                 elements.add(aPattern.getP());
                 elements.add(languageDefinitions.getWeakUntil());
-                elements.add(new SpaceElement());
-                elements.add(new RoundBracketOpenElement());
+                elements.add(SpaceElement.INSTANCE);
+                elements.add(RoundBracketOpenElement.INSTANCE);
                 elements.add(aPattern.getP());
                 elements.add(languageDefinitions.getAnd());
                 elements.add(languageDefinitions.getEventually());
-                elements.add(new TimeBoundElement(utb(aPattern.getPTimeBound())));
-                elements.add(new SpaceElement());
+                elements.add(TimeBoundElement.of(utb(aPattern.getPTimeBound(), aContext)));
+                elements.add(SpaceElement.INSTANCE);
                 elements.add(languageDefinitions.getNot());
                 elements.add(aPattern.getP());
-                elements.add(new RoundBracketCloseElement());
-                elements.add(new RoundBracketCloseElement());
-                elements.add(new RoundBracketCloseElement());
-                elements.add(new RoundBracketCloseElement());
+                elements.add(RoundBracketCloseElement.INSTANCE);
+                elements.add(RoundBracketCloseElement.INSTANCE);
+                elements.add(RoundBracketCloseElement.INSTANCE);
+                elements.add(RoundBracketCloseElement.INSTANCE);
                 break;
             case PSPConstants.S_BetweenQandR:
                 elements.add(languageDefinitions.getAlways());
-                elements.add(new RoundBracketOpenElement());
-                elements.add(new RoundBracketOpenElement());
+                elements.add(RoundBracketOpenElement.INSTANCE);
+                elements.add(RoundBracketOpenElement.INSTANCE);
                 elements.add(aScope.getQ());
                 elements.add(languageDefinitions.getAnd());
                 elements.add(languageDefinitions.getNot());
@@ -751,91 +762,93 @@ public class PrismMapper extends PrismSupport {
                 elements.add(languageDefinitions.getAnd());
                 elements.add(languageDefinitions.getEventually());
                 elements.add(aScope.getR());
-                elements.add(new RoundBracketCloseElement());
+                elements.add(RoundBracketCloseElement.INSTANCE);
                 elements.add(languageDefinitions.getImplication());
-                elements.add(new RoundBracketOpenElement());
-                elements.add(new RoundBracketOpenElement());
+                elements.add(RoundBracketOpenElement.INSTANCE);
+                elements.add(RoundBracketOpenElement.INSTANCE);
                 elements.add(aPattern.getP());
                 elements.add(languageDefinitions.getOr());
-                elements.add(new RoundBracketOpenElement());
+                elements.add(RoundBracketOpenElement.INSTANCE);
                 elements.add(languageDefinitions.getNot());
                 elements.add(aPattern.getP());
                 elements.add(languageDefinitions.getUntil());
-                elements.add(new SpaceElement());
-                elements.add(new RoundBracketOpenElement());
+                elements.add(SpaceElement.INSTANCE);
+                elements.add(RoundBracketOpenElement.INSTANCE);
+                elements.add(RoundBracketOpenElement.INSTANCE);
                 elements.add(aPattern.getP());
                 elements.add(languageDefinitions.getAnd());
                 elements.add(languageDefinitions.getEventually());
-                elements.add(new TimeBoundElement(utb(aPattern.getPTimeBound())));
-                elements.add(new SpaceElement());
-                elements.add(new RoundBracketOpenElement());
+                elements.add(TimeBoundElement.of(utb(aPattern.getPTimeBound(), aContext)));
+                elements.add(SpaceElement.INSTANCE);
+                elements.add(RoundBracketOpenElement.INSTANCE);
                 elements.add(languageDefinitions.getNot());
                 elements.add(aPattern.getP());
                 elements.add(languageDefinitions.getAnd());
                 elements.add(aScope.getR());
-                elements.add(new RoundBracketCloseElement());
+                elements.add(RoundBracketCloseElement.INSTANCE);
+                elements.add(RoundBracketCloseElement.INSTANCE);
                 elements.add(languageDefinitions.getOr());
                 elements.add(aScope.getR());
-                elements.add(new RoundBracketCloseElement());
-                elements.add(new RoundBracketCloseElement());
-                elements.add(new RoundBracketCloseElement());
+                elements.add(RoundBracketCloseElement.INSTANCE);
+                elements.add(RoundBracketCloseElement.INSTANCE);
+                elements.add(RoundBracketCloseElement.INSTANCE);
                 elements.add(languageDefinitions.getUntil());
-                elements.add(new SpaceElement());
+                elements.add(SpaceElement.INSTANCE);
                 elements.add(aScope.getR());
-                elements.add(new RoundBracketCloseElement());
-                elements.add(new RoundBracketCloseElement());
+                elements.add(RoundBracketCloseElement.INSTANCE);
+                elements.add(RoundBracketCloseElement.INSTANCE);
                 break;
             case PSPConstants.S_AfterQuntilR:
                 elements.add(languageDefinitions.getAlways());
-                elements.add(new RoundBracketOpenElement());
-                elements.add(new RoundBracketOpenElement());
+                elements.add(RoundBracketOpenElement.INSTANCE);
+                elements.add(RoundBracketOpenElement.INSTANCE);
                 elements.add(aScope.getQ());
                 elements.add(languageDefinitions.getAnd());
                 elements.add(languageDefinitions.getNot());
                 elements.add(aScope.getR());
-                elements.add(new RoundBracketCloseElement());
+                elements.add(RoundBracketCloseElement.INSTANCE);
                 elements.add(languageDefinitions.getImplication());
-                elements.add(new RoundBracketOpenElement());
-                elements.add(new RoundBracketOpenElement());
+                elements.add(RoundBracketOpenElement.INSTANCE);
+                elements.add(RoundBracketOpenElement.INSTANCE);
                 elements.add(aPattern.getP());
                 elements.add(languageDefinitions.getOr());
-                elements.add(new RoundBracketOpenElement());
+                elements.add(RoundBracketOpenElement.INSTANCE);
                 elements.add(languageDefinitions.getNot());
                 elements.add(aPattern.getP());
                 elements.add(languageDefinitions.getWeakUntil());
-                elements.add(new SpaceElement());
-                elements.add(new RoundBracketOpenElement());
+                elements.add(SpaceElement.INSTANCE);
+                elements.add(RoundBracketOpenElement.INSTANCE);
+                elements.add(RoundBracketOpenElement.INSTANCE);
                 elements.add(aPattern.getP());
                 elements.add(languageDefinitions.getAnd());
                 elements.add(languageDefinitions.getEventually());
-                elements.add(new TimeBoundElement(utb(aPattern.getPTimeBound())));
-                elements.add(new SpaceElement());
-                elements.add(new RoundBracketOpenElement());
+                elements.add(TimeBoundElement.of(utb(aPattern.getPTimeBound(), aContext)));
+                elements.add(SpaceElement.INSTANCE);
+                elements.add(RoundBracketOpenElement.INSTANCE);
                 elements.add(languageDefinitions.getNot());
                 elements.add(aPattern.getP());
                 elements.add(languageDefinitions.getAnd());
                 elements.add(aScope.getR());
-                elements.add(new RoundBracketCloseElement());
+                elements.add(RoundBracketCloseElement.INSTANCE);
+                elements.add(RoundBracketCloseElement.INSTANCE);
                 elements.add(languageDefinitions.getOr());
                 elements.add(aScope.getR());
-                elements.add(new RoundBracketCloseElement());
-                elements.add(new RoundBracketCloseElement());
-                elements.add(new RoundBracketCloseElement());
+                elements.add(RoundBracketCloseElement.INSTANCE);
+                elements.add(RoundBracketCloseElement.INSTANCE);
+                elements.add(RoundBracketCloseElement.INSTANCE);
                 elements.add(languageDefinitions.getWeakUntil());
-                elements.add(new SpaceElement());
+                elements.add(SpaceElement.INSTANCE);
                 elements.add(aScope.getR());
-                elements.add(new RoundBracketCloseElement());
-                elements.add(new RoundBracketCloseElement());
+                elements.add(RoundBracketCloseElement.INSTANCE);
+                elements.add(RoundBracketCloseElement.INSTANCE);
                 break;
         }
 
         elements.add(defaultSquareBracketClose);
 
-        return elements;
     }
 
-    private List<Element> mapRecurrence(Scope aScope, Recurrence aPattern) {
-        List<Element> elements = new ArrayList<>();
+    private void mapRecurrence(Scope aScope, Recurrence aPattern, MappingContext aContext, ElementSink elements) {
 
         elements.add(new ProbabilityBoundElement(prop(aPattern.getProbabilityBound())));
         elements.add(defaultSquareBracketOpen);
@@ -843,51 +856,53 @@ public class PrismMapper extends PrismSupport {
         switch (aScope.getType()) {
             case PSPConstants.S_Globally:
                 elements.add(languageDefinitions.getAlways());
-                elements.add(new RoundBracketOpenElement());
+                elements.add(RoundBracketOpenElement.INSTANCE);
                 elements.add(languageDefinitions.getEventually());
-                elements.add(new TimeBoundElement(utb(aPattern.getPTimeBound())));
-                elements.add(new SpaceElement());
+                elements.add(TimeBoundElement.of(utb(aPattern.getPTimeBound(), aContext)));
+                elements.add(SpaceElement.INSTANCE);
                 elements.add(aPattern.getP());
-                elements.add(new RoundBracketCloseElement());
+                elements.add(RoundBracketCloseElement.INSTANCE);
                 break;
             case PSPConstants.S_BeforeR:
+                elements.add(RoundBracketOpenElement.INSTANCE);
                 elements.add(languageDefinitions.getEventually());
                 elements.add(aScope.getR());
+                elements.add(RoundBracketCloseElement.INSTANCE);
                 elements.add(languageDefinitions.getImplication());
-                elements.add(new RoundBracketOpenElement());
-                elements.add(new RoundBracketOpenElement());
+                elements.add(RoundBracketOpenElement.INSTANCE);
+                elements.add(RoundBracketOpenElement.INSTANCE);
                 elements.add(languageDefinitions.getEventually());
-                elements.add(new TimeBoundElement(utb(aPattern.getPTimeBound())));
-                elements.add(new SpaceElement());
-                elements.add(new RoundBracketOpenElement());
+                elements.add(TimeBoundElement.of(utb(aPattern.getPTimeBound(), aContext)));
+                elements.add(SpaceElement.INSTANCE);
+                elements.add(RoundBracketOpenElement.INSTANCE);
                 elements.add(aPattern.getP());
                 elements.add(languageDefinitions.getOr());
                 elements.add(aScope.getR());
-                elements.add(new RoundBracketCloseElement());
-                elements.add(new RoundBracketCloseElement());
+                elements.add(RoundBracketCloseElement.INSTANCE);
+                elements.add(RoundBracketCloseElement.INSTANCE);
                 elements.add(languageDefinitions.getUntil());
-                elements.add(new SpaceElement());
+                elements.add(SpaceElement.INSTANCE);
                 elements.add(aScope.getR());
-                elements.add(new RoundBracketCloseElement());
+                elements.add(RoundBracketCloseElement.INSTANCE);
                 break;
             case PSPConstants.S_AfterQ:
                 elements.add(languageDefinitions.getAlways());
-                elements.add(new RoundBracketOpenElement());
+                elements.add(RoundBracketOpenElement.INSTANCE);
                 elements.add(aScope.getQ());
                 elements.add(languageDefinitions.getImplication());
                 elements.add(languageDefinitions.getAlways());
-                elements.add(new RoundBracketOpenElement());
+                elements.add(RoundBracketOpenElement.INSTANCE);
                 elements.add(languageDefinitions.getEventually());
-                elements.add(new TimeBoundElement(utb(aPattern.getPTimeBound())));
-                elements.add(new SpaceElement());
+                elements.add(TimeBoundElement.of(utb(aPattern.getPTimeBound(), aContext)));
+                elements.add(SpaceElement.INSTANCE);
                 elements.add(aPattern.getP());
-                elements.add(new RoundBracketCloseElement());
-                elements.add(new RoundBracketCloseElement());
+                elements.add(RoundBracketCloseElement.INSTANCE);
+                elements.add(RoundBracketCloseElement.INSTANCE);
                 break;
             case PSPConstants.S_BetweenQandR:
                 elements.add(languageDefinitions.getAlways());
-                elements.add(new RoundBracketOpenElement());
-                elements.add(new RoundBracketOpenElement());
+                elements.add(RoundBracketOpenElement.INSTANCE);
+                elements.add(RoundBracketOpenElement.INSTANCE);
                 elements.add(aScope.getQ());
                 elements.add(languageDefinitions.getAnd());
                 elements.add(languageDefinitions.getNot());
@@ -895,59 +910,57 @@ public class PrismMapper extends PrismSupport {
                 elements.add(languageDefinitions.getAnd());
                 elements.add(languageDefinitions.getEventually());
                 elements.add(aScope.getR());
-                elements.add(new RoundBracketCloseElement());
+                elements.add(RoundBracketCloseElement.INSTANCE);
                 elements.add(languageDefinitions.getImplication());
-                elements.add(new RoundBracketOpenElement());
-                elements.add(new RoundBracketOpenElement());
+                elements.add(RoundBracketOpenElement.INSTANCE);
+                elements.add(RoundBracketOpenElement.INSTANCE);
                 elements.add(languageDefinitions.getEventually());
-                elements.add(new TimeBoundElement(utb(aPattern.getPTimeBound())));
-                elements.add(new SpaceElement());
-                elements.add(new RoundBracketOpenElement());
+                elements.add(TimeBoundElement.of(utb(aPattern.getPTimeBound(), aContext)));
+                elements.add(SpaceElement.INSTANCE);
+                elements.add(RoundBracketOpenElement.INSTANCE);
                 elements.add(aPattern.getP());
                 elements.add(languageDefinitions.getOr());
                 elements.add(aScope.getR());
-                elements.add(new RoundBracketCloseElement());
-                elements.add(new RoundBracketCloseElement());
+                elements.add(RoundBracketCloseElement.INSTANCE);
+                elements.add(RoundBracketCloseElement.INSTANCE);
                 elements.add(languageDefinitions.getUntil());
                 elements.add(aScope.getR());
-                elements.add(new RoundBracketCloseElement());
-                elements.add(new RoundBracketCloseElement());
+                elements.add(RoundBracketCloseElement.INSTANCE);
+                elements.add(RoundBracketCloseElement.INSTANCE);
                 break;
             case PSPConstants.S_AfterQuntilR:
                 elements.add(languageDefinitions.getAlways());
-                elements.add(new RoundBracketOpenElement());
-                elements.add(new RoundBracketOpenElement());
+                elements.add(RoundBracketOpenElement.INSTANCE);
+                elements.add(RoundBracketOpenElement.INSTANCE);
                 elements.add(aScope.getQ());
                 elements.add(languageDefinitions.getAnd());
                 elements.add(languageDefinitions.getNot());
                 elements.add(aScope.getR());
-                elements.add(new RoundBracketCloseElement());
+                elements.add(RoundBracketCloseElement.INSTANCE);
                 elements.add(languageDefinitions.getImplication());
-                elements.add(new RoundBracketOpenElement());
-                elements.add(new RoundBracketOpenElement());
+                elements.add(RoundBracketOpenElement.INSTANCE);
+                elements.add(RoundBracketOpenElement.INSTANCE);
                 elements.add(languageDefinitions.getEventually());
-                elements.add(new TimeBoundElement(utb(aPattern.getPTimeBound())));
-                elements.add(new SpaceElement());
-                elements.add(new RoundBracketOpenElement());
+                elements.add(TimeBoundElement.of(utb(aPattern.getPTimeBound(), aContext)));
+                elements.add(SpaceElement.INSTANCE);
+                elements.add(RoundBracketOpenElement.INSTANCE);
                 elements.add(aPattern.getP());
                 elements.add(languageDefinitions.getOr());
                 elements.add(aScope.getR());
-                elements.add(new RoundBracketCloseElement());
-                elements.add(new RoundBracketCloseElement());
+                elements.add(RoundBracketCloseElement.INSTANCE);
+                elements.add(RoundBracketCloseElement.INSTANCE);
                 elements.add(languageDefinitions.getWeakUntil());
                 elements.add(aScope.getR());
-                elements.add(new RoundBracketCloseElement());
-                elements.add(new RoundBracketCloseElement());
+                elements.add(RoundBracketCloseElement.INSTANCE);
+                elements.add(RoundBracketCloseElement.INSTANCE);
                 break;
         }
 
         elements.add(defaultSquareBracketClose);
 
-        return elements;
     }
 
-    private List<Element> mapPrecedence(Scope aScope, Precedence aPattern) {
-        List<Element> elements = new ArrayList<>();
+    private void mapPrecedence(Scope aScope, Precedence aPattern, MappingContext aContext, ElementSink elements) {
 
         elements.add(new ProbabilityBoundElement(prop(aPattern.getProbabilityBound())));
         elements.add(defaultSquareBracketOpen);
@@ -955,67 +968,71 @@ public class PrismMapper extends PrismSupport {
         switch (aScope.getType()) {
             case PSPConstants.S_Globally:
                 elements.add(languageDefinitions.getAlways());
-                elements.add(new RoundBracketOpenElement());
+                elements.add(RoundBracketOpenElement.INSTANCE);
                 elements.add(languageDefinitions.getEventually());
-                elements.add(new TimeBoundElement(trigger((Interval) aPattern.getPTimeBound())));
-                elements.add(new SpaceElement());
+                elements.add(TimeBoundElement.of(trigger((Interval) aPattern.getPTimeBound(), aContext)));
+                elements.add(SpaceElement.INSTANCE);
                 elements.add(aPattern.getP());
                 elements.add(languageDefinitions.getImplication());
                 elements.add(languageDefinitions.getEventually());
-                elements.add(new TimeBoundElement(gap((Interval) aPattern.getPTimeBound())));
-                elements.add(new SpaceElement());
+                elements.add(TimeBoundElement.of(gap((Interval) aPattern.getPTimeBound(), aContext)));
+                elements.add(SpaceElement.INSTANCE);
                 elements.add(aPattern.getS());
-                elements.add(new RoundBracketCloseElement());
+                elements.add(RoundBracketCloseElement.INSTANCE);
                 break;
             case PSPConstants.S_BeforeR:
+                elements.add(RoundBracketOpenElement.INSTANCE);
                 elements.add(languageDefinitions.getEventually());
                 elements.add(aScope.getR());
+                elements.add(RoundBracketCloseElement.INSTANCE);
                 elements.add(languageDefinitions.getImplication());
-                elements.add(new RoundBracketOpenElement());
+                elements.add(RoundBracketOpenElement.INSTANCE);
+                elements.add(RoundBracketOpenElement.INSTANCE);
                 elements.add(languageDefinitions.getEventually());
-                elements.add(new TimeBoundElement(trigger((Interval) aPattern.getPTimeBound())));
-                elements.add(new SpaceElement());
+                elements.add(TimeBoundElement.of(trigger((Interval) aPattern.getPTimeBound(), aContext)));
+                elements.add(SpaceElement.INSTANCE);
                 elements.add(aPattern.getP());
                 elements.add(languageDefinitions.getImplication());
-                elements.add(new RoundBracketOpenElement());
+                elements.add(RoundBracketOpenElement.INSTANCE);
                 elements.add(languageDefinitions.getEventually());
-                elements.add(new TimeBoundElement(gap((Interval) aPattern.getPTimeBound())));
-                elements.add(new SpaceElement());
+                elements.add(TimeBoundElement.of(gap((Interval) aPattern.getPTimeBound(), aContext)));
+                elements.add(SpaceElement.INSTANCE);
                 elements.add(aPattern.getS());
                 elements.add(languageDefinitions.getOr());
                 elements.add(languageDefinitions.getEventually());
-                elements.add(new TimeBoundElement(elapsed((Interval) aPattern.getPTimeBound())));
-                elements.add(new SpaceElement());
+                elements.add(TimeBoundElement.of(elapsed((Interval) aPattern.getPTimeBound())));
+                elements.add(SpaceElement.INSTANCE);
                 elements.add(aScope.getR());
-                elements.add(new RoundBracketCloseElement());
-                elements.add(new RoundBracketCloseElement());
+                elements.add(RoundBracketCloseElement.INSTANCE);
+                elements.add(RoundBracketCloseElement.INSTANCE);
                 elements.add(languageDefinitions.getUntil());
-                elements.add(new SpaceElement());
+                elements.add(SpaceElement.INSTANCE);
                 elements.add(aScope.getR());
+                elements.add(RoundBracketCloseElement.INSTANCE);
                 break;
             case PSPConstants.S_AfterQ:
                 elements.add(languageDefinitions.getAlways());
-                elements.add(new RoundBracketOpenElement());
+                elements.add(RoundBracketOpenElement.INSTANCE);
                 elements.add(aScope.getQ());
                 elements.add(languageDefinitions.getImplication());
                 elements.add(languageDefinitions.getAlways());
-                elements.add(new RoundBracketOpenElement());
+                elements.add(RoundBracketOpenElement.INSTANCE);
                 elements.add(languageDefinitions.getEventually());
-                elements.add(new TimeBoundElement(trigger((Interval) aPattern.getPTimeBound())));
-                elements.add(new SpaceElement());
+                elements.add(TimeBoundElement.of(trigger((Interval) aPattern.getPTimeBound(), aContext)));
+                elements.add(SpaceElement.INSTANCE);
                 elements.add(aPattern.getP());
                 elements.add(languageDefinitions.getImplication());
                 elements.add(languageDefinitions.getEventually());
-                elements.add(new TimeBoundElement(gap((Interval) aPattern.getPTimeBound())));
-                elements.add(new SpaceElement());
+                elements.add(TimeBoundElement.of(gap((Interval) aPattern.getPTimeBound(), aContext)));
+                elements.add(SpaceElement.INSTANCE);
                 elements.add(aPattern.getS());
-                elements.add(new RoundBracketCloseElement());
-                elements.add(new RoundBracketCloseElement());
+                elements.add(RoundBracketCloseElement.INSTANCE);
+                elements.add(RoundBracketCloseElement.INSTANCE);
                 break;
             case PSPConstants.S_BetweenQandR:
                 elements.add(languageDefinitions.getAlways());
-                elements.add(new RoundBracketOpenElement());
-                elements.add(new RoundBracketOpenElement());
+                elements.add(RoundBracketOpenElement.INSTANCE);
+                elements.add(RoundBracketOpenElement.INSTANCE);
                 elements.add(aScope.getQ());
                 elements.add(languageDefinitions.getAnd());
                 elements.add(languageDefinitions.getNot());
@@ -1023,119 +1040,121 @@ public class PrismMapper extends PrismSupport {
                 elements.add(languageDefinitions.getAnd());
                 elements.add(languageDefinitions.getEventually());
                 elements.add(aScope.getR());
-                elements.add(new RoundBracketCloseElement());
+                elements.add(RoundBracketCloseElement.INSTANCE);
                 elements.add(languageDefinitions.getImplication());
-                elements.add(new RoundBracketOpenElement());
+                elements.add(RoundBracketOpenElement.INSTANCE);
+                elements.add(RoundBracketOpenElement.INSTANCE);
                 elements.add(languageDefinitions.getEventually());
-                elements.add(new TimeBoundElement(trigger((Interval) aPattern.getPTimeBound())));
-                elements.add(new SpaceElement());
+                elements.add(TimeBoundElement.of(trigger((Interval) aPattern.getPTimeBound(), aContext)));
+                elements.add(SpaceElement.INSTANCE);
                 elements.add(aPattern.getP());
                 elements.add(languageDefinitions.getImplication());
-                elements.add(new RoundBracketOpenElement());
+                elements.add(RoundBracketOpenElement.INSTANCE);
                 elements.add(languageDefinitions.getEventually());
-                elements.add(new TimeBoundElement(gap((Interval) aPattern.getPTimeBound())));
-                elements.add(new SpaceElement());
+                elements.add(TimeBoundElement.of(gap((Interval) aPattern.getPTimeBound(), aContext)));
+                elements.add(SpaceElement.INSTANCE);
                 elements.add(aPattern.getS());
                 elements.add(languageDefinitions.getOr());
                 elements.add(languageDefinitions.getEventually());
-                elements.add(new TimeBoundElement(elapsed((Interval) aPattern.getPTimeBound())));
-                elements.add(new SpaceElement());
+                elements.add(TimeBoundElement.of(elapsed((Interval) aPattern.getPTimeBound())));
+                elements.add(SpaceElement.INSTANCE);
                 elements.add(aScope.getR());
-                elements.add(new RoundBracketCloseElement());
-                elements.add(new RoundBracketCloseElement());
+                elements.add(RoundBracketCloseElement.INSTANCE);
+                elements.add(RoundBracketCloseElement.INSTANCE);
                 elements.add(languageDefinitions.getUntil());
-                elements.add(new SpaceElement());
+                elements.add(SpaceElement.INSTANCE);
                 elements.add(aScope.getR());
-                elements.add(new RoundBracketCloseElement());
+                elements.add(RoundBracketCloseElement.INSTANCE);
+                elements.add(RoundBracketCloseElement.INSTANCE);
                 break;
             case PSPConstants.S_AfterQuntilR:
                 elements.add(languageDefinitions.getAlways());
-                elements.add(new RoundBracketOpenElement());
-                elements.add(new RoundBracketOpenElement());
+                elements.add(RoundBracketOpenElement.INSTANCE);
+                elements.add(RoundBracketOpenElement.INSTANCE);
                 elements.add(aScope.getQ());
                 elements.add(languageDefinitions.getAnd());
                 elements.add(languageDefinitions.getNot());
                 elements.add(aScope.getR());
-                elements.add(new RoundBracketCloseElement());
+                elements.add(RoundBracketCloseElement.INSTANCE);
                 elements.add(languageDefinitions.getImplication());
-                elements.add(new RoundBracketOpenElement());
+                elements.add(RoundBracketOpenElement.INSTANCE);
+                elements.add(RoundBracketOpenElement.INSTANCE);
                 elements.add(languageDefinitions.getEventually());
-                elements.add(new TimeBoundElement(trigger((Interval) aPattern.getPTimeBound())));
-                elements.add(new SpaceElement());
+                elements.add(TimeBoundElement.of(trigger((Interval) aPattern.getPTimeBound(), aContext)));
+                elements.add(SpaceElement.INSTANCE);
                 elements.add(aPattern.getP());
                 elements.add(languageDefinitions.getImplication());
-                elements.add(new RoundBracketOpenElement());
+                elements.add(RoundBracketOpenElement.INSTANCE);
                 elements.add(languageDefinitions.getEventually());
-                elements.add(new TimeBoundElement(gap((Interval) aPattern.getPTimeBound())));
-                elements.add(new SpaceElement());
+                elements.add(TimeBoundElement.of(gap((Interval) aPattern.getPTimeBound(), aContext)));
+                elements.add(SpaceElement.INSTANCE);
                 elements.add(aPattern.getS());
                 elements.add(languageDefinitions.getOr());
                 elements.add(languageDefinitions.getEventually());
-                elements.add(new TimeBoundElement(elapsed((Interval) aPattern.getPTimeBound())));
-                elements.add(new SpaceElement());
+                elements.add(TimeBoundElement.of(elapsed((Interval) aPattern.getPTimeBound())));
+                elements.add(SpaceElement.INSTANCE);
                 elements.add(aScope.getR());
-                elements.add(new RoundBracketCloseElement());
-                elements.add(new RoundBracketCloseElement());
+                elements.add(RoundBracketCloseElement.INSTANCE);
+                elements.add(RoundBracketCloseElement.INSTANCE);
                 elements.add(languageDefinitions.getWeakUntil());
-                elements.add(new SpaceElement());
+                elements.add(SpaceElement.INSTANCE);
                 elements.add(aScope.getR());
-                elements.add(new RoundBracketCloseElement());
+                elements.add(RoundBracketCloseElement.INSTANCE);
+                elements.add(RoundBracketCloseElement.INSTANCE);
                 break;
         }
 
         elements.add(defaultSquareBracketClose);
 
-        return elements;
     }
 
     // Tis addressed from 0 to n-1.
 
-    private void PC1N_Ch(List<Element> elements, ChainEvents Tis, int i) {
+    private void PC1N_Ch(ElementSink elements, ChainEvents Tis, int i, MappingContext aContext) {
         if (i < Tis.size()) {
             ChainEvent Ti = Tis.getTi(i);
 
             EventConstraint lZi = Ti.getConstraint();
-            String lcntZi = lZi != null ? cnt(lZi.getEvent()) : "true";
+            Element lcntZi = lZi != null ? cnt(lZi.getEvent()) : new MiscElement("true");
 
-            if (lcntZi.equals("true")) {
+            if (lZi == null) {
                 // no Zi
                 elements.add(languageDefinitions.getAnd());
                 elements.add(languageDefinitions.getNext());
-                elements.add(new RoundBracketOpenElement());
+                elements.add(RoundBracketOpenElement.INSTANCE);
                 elements.add(languageDefinitions.getEventually());
-                elements.add(new TimeBoundElement(utb(Ti.getTimeBound())));
-                elements.add(new SpaceElement());
-                elements.add(new RoundBracketOpenElement());
+                elements.add(TimeBoundElement.of(utb(Ti.getTimeBound(), aContext)));
+                elements.add(SpaceElement.INSTANCE);
+                elements.add(RoundBracketOpenElement.INSTANCE);
                 elements.add(Ti.getEvent());
-                PC1N_Ch(elements, Tis, i + 1);
-                elements.add(new RoundBracketCloseElement());
-                elements.add(new RoundBracketCloseElement());
+                PC1N_Ch(elements, Tis, i + 1, aContext);
+                elements.add(RoundBracketCloseElement.INSTANCE);
+                elements.add(RoundBracketCloseElement.INSTANCE);
             } else {
                 // with Zi
                 elements.add(languageDefinitions.getAnd());
-                elements.add(new MiscElement(lcntZi));
+                elements.add(lcntZi);
                 elements.add(languageDefinitions.getAnd());
                 elements.add(languageDefinitions.getNext());
-                elements.add(new RoundBracketOpenElement());
-                elements.add(new MiscElement(lcntZi));
+                elements.add(RoundBracketOpenElement.INSTANCE);
+                elements.add(lcntZi);
                 elements.add(languageDefinitions.getUntil());
-                elements.add(new TimeBoundElement(utb(Ti.getTimeBound())));
-                elements.add(new SpaceElement());
-                elements.add(new RoundBracketOpenElement());
+                elements.add(TimeBoundElement.of(utb(Ti.getTimeBound(), aContext)));
+                elements.add(SpaceElement.INSTANCE);
+                elements.add(RoundBracketOpenElement.INSTANCE);
                 elements.add(Ti.getEvent());
-                PC1N_Ch(elements, Tis, i + 1);
-                elements.add(new RoundBracketCloseElement());
-                elements.add(new RoundBracketCloseElement());
+                PC1N_Ch(elements, Tis, i + 1, aContext);
+                elements.add(RoundBracketCloseElement.INSTANCE);
+                elements.add(RoundBracketCloseElement.INSTANCE);
             }
         }
     }
 
-    private List<Element> mapPrecedenceChain1N(Scope aScope, PrecedenceChain1N aPattern) {
-        List<Element> elements = new ArrayList<>();
+    private void mapPrecedenceChain1N(Scope aScope, PrecedenceChain1N aPattern, MappingContext aContext, ElementSink elements) {
 
         EventConstraint lZS = aPattern.getSConstraint();
-        String lcntZS = lZS != null ? cnt(lZS.getEvent()) : "true";
-        boolean lHasConstraint = !lcntZS.equals("true");
+        Element lcntZS = lZS != null ? cnt(lZS.getEvent()) : new MiscElement("true");
+        boolean lHasConstraint = lZS != null;
         ChainEvents Tis = aPattern.getTis();
 
         elements.add(new ProbabilityBoundElement(prop(aPattern.getProbabilityBound())));
@@ -1144,91 +1163,99 @@ public class PrismMapper extends PrismSupport {
         switch (aScope.getType()) {
             case PSPConstants.S_Globally:
                 elements.add(languageDefinitions.getAlways());
-                elements.add(new RoundBracketOpenElement());
+                elements.add(RoundBracketOpenElement.INSTANCE);
+                elements.add(RoundBracketOpenElement.INSTANCE);
                 if (lHasConstraint) {
                     // has ZS
-                    elements.add(new MiscElement(lcntZS));
+                    elements.add(lcntZS);
                     elements.add(languageDefinitions.getUntil());
                 } else {
                     // no ZS
                     elements.add(languageDefinitions.getEventually());
                 }
-                elements.add(new TimeBoundElement(trigger((Interval) aPattern.getSTimeBound())));
-                elements.add(new RoundBracketOpenElement());
+                elements.add(TimeBoundElement.of(trigger((Interval) aPattern.getSTimeBound(), aContext)));
+                elements.add(RoundBracketOpenElement.INSTANCE);
                 elements.add(aPattern.getS());
-                PC1N_Ch(elements, Tis, 0);
-                elements.add(new RoundBracketCloseElement());
+                PC1N_Ch(elements, Tis, 0, aContext);
+                elements.add(RoundBracketCloseElement.INSTANCE);
+                elements.add(RoundBracketCloseElement.INSTANCE);
                 elements.add(languageDefinitions.getImplication());
                 elements.add(languageDefinitions.getEventually());
-                elements.add(new TimeBoundElement(maxgap((Interval) aPattern.getSTimeBound())));
-                elements.add(new SpaceElement());
+                elements.add(TimeBoundElement.of(maxgap((Interval) aPattern.getSTimeBound(), aContext)));
+                elements.add(SpaceElement.INSTANCE);
                 elements.add(aPattern.getP());
-                elements.add(new RoundBracketCloseElement());
+                elements.add(RoundBracketCloseElement.INSTANCE);
                 break;
             case PSPConstants.S_BeforeR:
+                elements.add(RoundBracketOpenElement.INSTANCE);
                 elements.add(languageDefinitions.getEventually());
                 elements.add(aScope.getR());
+                elements.add(RoundBracketCloseElement.INSTANCE);
                 elements.add(languageDefinitions.getImplication());
-                elements.add(new RoundBracketOpenElement());
+                elements.add(RoundBracketOpenElement.INSTANCE);
+                elements.add(RoundBracketOpenElement.INSTANCE);
+                elements.add(RoundBracketOpenElement.INSTANCE);
                 if (lHasConstraint) {
                     // has ZS
-                    elements.add(new MiscElement(lcntZS));
+                    elements.add(lcntZS);
                     elements.add(languageDefinitions.getUntil());
                 } else {
                     // no ZS
                     elements.add(languageDefinitions.getEventually());
                 }
-                elements.add(new TimeBoundElement(trigger((Interval) aPattern.getSTimeBound())));
-                elements.add(new RoundBracketOpenElement());
+                elements.add(TimeBoundElement.of(trigger((Interval) aPattern.getSTimeBound(), aContext)));
+                elements.add(RoundBracketOpenElement.INSTANCE);
                 elements.add(aPattern.getS());
-                PC1N_Ch(elements, Tis, 0);
-                elements.add(new RoundBracketCloseElement());
+                PC1N_Ch(elements, Tis, 0, aContext);
+                elements.add(RoundBracketCloseElement.INSTANCE);
+                elements.add(RoundBracketCloseElement.INSTANCE);
                 elements.add(languageDefinitions.getImplication());
-                elements.add(new RoundBracketOpenElement());
+                elements.add(RoundBracketOpenElement.INSTANCE);
                 elements.add(languageDefinitions.getEventually());
-                elements.add(new TimeBoundElement(maxgap((Interval) aPattern.getSTimeBound())));
-                elements.add(new SpaceElement());
+                elements.add(TimeBoundElement.of(maxgap((Interval) aPattern.getSTimeBound(), aContext)));
+                elements.add(SpaceElement.INSTANCE);
                 elements.add(aPattern.getP());
                 elements.add(languageDefinitions.getOr());
                 elements.add(languageDefinitions.getEventually());
-                elements.add(new TimeBoundElement(gapNP(Tis.size(), Tis, (Interval) aPattern.getSTimeBound())));
-                elements.add(new SpaceElement());
+                elements.add(TimeBoundElement.of(gapNP(Tis.size(), Tis, (Interval) aPattern.getSTimeBound())));
+                elements.add(SpaceElement.INSTANCE);
                 elements.add(aScope.getR());
-                elements.add(new RoundBracketCloseElement());
+                elements.add(RoundBracketCloseElement.INSTANCE);
+                elements.add(RoundBracketCloseElement.INSTANCE);
                 elements.add(languageDefinitions.getUntil());
-                elements.add(new SpaceElement());
+                elements.add(SpaceElement.INSTANCE);
                 elements.add(aScope.getR());
-                elements.add(new RoundBracketCloseElement());
+                elements.add(RoundBracketCloseElement.INSTANCE);
                 break;
             case PSPConstants.S_AfterQ:
                 elements.add(languageDefinitions.getAlways());
-                elements.add(new RoundBracketOpenElement());
+                elements.add(RoundBracketOpenElement.INSTANCE);
                 elements.add(aScope.getQ());
                 elements.add(languageDefinitions.getImplication());
                 elements.add(languageDefinitions.getAlways());
-                elements.add(new RoundBracketOpenElement());
+                elements.add(RoundBracketOpenElement.INSTANCE);
                 elements.add(aPattern.getP());
                 elements.add(languageDefinitions.getImplication());
-                elements.add(new RoundBracketOpenElement());
+                elements.add(RoundBracketOpenElement.INSTANCE);
                 if (lHasConstraint) {
-                    elements.add(new MiscElement(lcntZS));
+                    elements.add(lcntZS);
                     elements.add(languageDefinitions.getUntil());
                 } else {
                     elements.add(languageDefinitions.getEventually());
                 }
-                elements.add(new TimeBoundElement(trigger((Interval) aPattern.getSTimeBound())));
-                elements.add(new RoundBracketOpenElement());
+                elements.add(TimeBoundElement.of(trigger((Interval) aPattern.getSTimeBound(), aContext)));
+                elements.add(RoundBracketOpenElement.INSTANCE);
                 elements.add(aPattern.getS());
-                PC1N_Ch(elements, Tis, 0);
-                elements.add(new RoundBracketCloseElement());
-                elements.add(new RoundBracketCloseElement());
-                elements.add(new RoundBracketCloseElement());
-                elements.add(new RoundBracketCloseElement());
+                PC1N_Ch(elements, Tis, 0, aContext);
+                elements.add(RoundBracketCloseElement.INSTANCE);
+                elements.add(RoundBracketCloseElement.INSTANCE);
+                elements.add(RoundBracketCloseElement.INSTANCE);
+                elements.add(RoundBracketCloseElement.INSTANCE);
                 break;
             case PSPConstants.S_BetweenQandR:
                 elements.add(languageDefinitions.getAlways());
-                elements.add(new RoundBracketOpenElement());
-                elements.add(new RoundBracketOpenElement());
+                elements.add(RoundBracketOpenElement.INSTANCE);
+                elements.add(RoundBracketOpenElement.INSTANCE);
                 elements.add(aScope.getQ());
                 elements.add(languageDefinitions.getAnd());
                 elements.add(languageDefinitions.getNot());
@@ -1236,147 +1263,149 @@ public class PrismMapper extends PrismSupport {
                 elements.add(languageDefinitions.getAnd());
                 elements.add(languageDefinitions.getEventually());
                 elements.add(aScope.getR());
-                elements.add(new RoundBracketCloseElement());
+                elements.add(RoundBracketCloseElement.INSTANCE);
                 elements.add(languageDefinitions.getImplication());
-                elements.add(new RoundBracketOpenElement());
-                elements.add(new RoundBracketOpenElement());
+                elements.add(RoundBracketOpenElement.INSTANCE);
+                elements.add(RoundBracketOpenElement.INSTANCE);
+                elements.add(RoundBracketOpenElement.INSTANCE);
                 if (lHasConstraint) {
-                    elements.add(new MiscElement(lcntZS));
+                    elements.add(lcntZS);
                     elements.add(languageDefinitions.getUntil());
                 } else {
                     elements.add(languageDefinitions.getEventually());
                 }
-                elements.add(new TimeBoundElement(trigger((Interval) aPattern.getSTimeBound())));
-                elements.add(new RoundBracketOpenElement());
+                elements.add(TimeBoundElement.of(trigger((Interval) aPattern.getSTimeBound(), aContext)));
+                elements.add(RoundBracketOpenElement.INSTANCE);
                 elements.add(aPattern.getS());
-                PC1N_Ch(elements, Tis, 0);
-                elements.add(new RoundBracketCloseElement());
-                elements.add(new RoundBracketCloseElement());
+                PC1N_Ch(elements, Tis, 0, aContext);
+                elements.add(RoundBracketCloseElement.INSTANCE);
+                elements.add(RoundBracketCloseElement.INSTANCE);
                 elements.add(languageDefinitions.getImplication());
-                elements.add(new RoundBracketOpenElement());
+                elements.add(RoundBracketOpenElement.INSTANCE);
                 elements.add(languageDefinitions.getEventually());
-                elements.add(new TimeBoundElement(maxgap((Interval) aPattern.getSTimeBound())));
-                elements.add(new SpaceElement());
+                elements.add(TimeBoundElement.of(maxgap((Interval) aPattern.getSTimeBound(), aContext)));
+                elements.add(SpaceElement.INSTANCE);
                 elements.add(aPattern.getP());
                 elements.add(languageDefinitions.getOr());
                 elements.add(languageDefinitions.getEventually());
-                elements.add(new TimeBoundElement(gapNP(Tis.size(), Tis, (Interval) aPattern.getSTimeBound())));
-                elements.add(new SpaceElement());
+                elements.add(TimeBoundElement.of(gapNP(Tis.size(), Tis, (Interval) aPattern.getSTimeBound())));
+                elements.add(SpaceElement.INSTANCE);
                 elements.add(aScope.getR());
-                elements.add(new RoundBracketCloseElement());
-                elements.add(new RoundBracketCloseElement());
+                elements.add(RoundBracketCloseElement.INSTANCE);
+                elements.add(RoundBracketCloseElement.INSTANCE);
                 elements.add(languageDefinitions.getUntil());
-                elements.add(new SpaceElement());
+                elements.add(SpaceElement.INSTANCE);
                 elements.add(aScope.getR());
-                elements.add(new RoundBracketCloseElement());
+                elements.add(RoundBracketCloseElement.INSTANCE);
+                elements.add(RoundBracketCloseElement.INSTANCE);
                 break;
             case PSPConstants.S_AfterQuntilR:
                 elements.add(languageDefinitions.getAlways());
-                elements.add(new RoundBracketOpenElement());
-                elements.add(new RoundBracketOpenElement());
+                elements.add(RoundBracketOpenElement.INSTANCE);
+                elements.add(RoundBracketOpenElement.INSTANCE);
                 elements.add(aScope.getQ());
                 elements.add(languageDefinitions.getAnd());
                 elements.add(languageDefinitions.getNot());
                 elements.add(aScope.getR());
-                elements.add(new RoundBracketCloseElement());
+                elements.add(RoundBracketCloseElement.INSTANCE);
                 elements.add(languageDefinitions.getImplication());
-                elements.add(new RoundBracketOpenElement());
-                elements.add(new RoundBracketOpenElement());
+                elements.add(RoundBracketOpenElement.INSTANCE);
+                elements.add(RoundBracketOpenElement.INSTANCE);
+                elements.add(RoundBracketOpenElement.INSTANCE);
                 if (lHasConstraint) {
-                    elements.add(new MiscElement(lcntZS));
+                    elements.add(lcntZS);
                     elements.add(languageDefinitions.getUntil());
                 } else {
                     elements.add(languageDefinitions.getEventually());
                 }
-                elements.add(new TimeBoundElement(trigger((Interval) aPattern.getSTimeBound())));
-                elements.add(new RoundBracketOpenElement());
+                elements.add(TimeBoundElement.of(trigger((Interval) aPattern.getSTimeBound(), aContext)));
+                elements.add(RoundBracketOpenElement.INSTANCE);
                 elements.add(aPattern.getS());
-                PC1N_Ch(elements, Tis, 0);
-                elements.add(new RoundBracketCloseElement());
-                elements.add(new RoundBracketCloseElement());
+                PC1N_Ch(elements, Tis, 0, aContext);
+                elements.add(RoundBracketCloseElement.INSTANCE);
+                elements.add(RoundBracketCloseElement.INSTANCE);
                 elements.add(languageDefinitions.getImplication());
-                elements.add(new RoundBracketOpenElement());
+                elements.add(RoundBracketOpenElement.INSTANCE);
                 elements.add(languageDefinitions.getEventually());
-                elements.add(new TimeBoundElement(maxgap((Interval) aPattern.getSTimeBound())));
-                elements.add(new SpaceElement());
+                elements.add(TimeBoundElement.of(maxgap((Interval) aPattern.getSTimeBound(), aContext)));
+                elements.add(SpaceElement.INSTANCE);
                 elements.add(aPattern.getP());
                 elements.add(languageDefinitions.getOr());
                 elements.add(languageDefinitions.getEventually());
-                elements.add(new TimeBoundElement(gapNP(Tis.size(), Tis, (Interval) aPattern.getSTimeBound())));
-                elements.add(new SpaceElement());
+                elements.add(TimeBoundElement.of(gapNP(Tis.size(), Tis, (Interval) aPattern.getSTimeBound())));
+                elements.add(SpaceElement.INSTANCE);
                 elements.add(aScope.getR());
-                elements.add(new RoundBracketCloseElement());
-                elements.add(new RoundBracketCloseElement());
+                elements.add(RoundBracketCloseElement.INSTANCE);
+                elements.add(RoundBracketCloseElement.INSTANCE);
                 elements.add(languageDefinitions.getWeakUntil());
-                elements.add(new SpaceElement());
+                elements.add(SpaceElement.INSTANCE);
                 elements.add(aScope.getR());
-                elements.add(new RoundBracketCloseElement());
+                elements.add(RoundBracketCloseElement.INSTANCE);
+                elements.add(RoundBracketCloseElement.INSTANCE);
                 break;
         }
 
         elements.add(defaultSquareBracketClose);
 
-        return elements;
     }
 
     // Tis addressed from 0 to n-1.
 
-    private void PCN1_Ch(List<Element> elements, PrecedenceChainN1 aPattern, int i) {
+    private void PCN1_Ch(ElementSink elements, PrecedenceChainN1 aPattern, int i, MappingContext aContext) {
         ChainEvents Tis = aPattern.getTis();
 
         if (i < Tis.size()) {
             ChainEvent Ti = Tis.getTi(i);
 
             EventConstraint lZi = Ti.getConstraint();
-            String lcntZi = lZi != null ? cnt(lZi.getEvent()) : "true";
+            Element lcntZi = lZi != null ? cnt(lZi.getEvent()) : new MiscElement("true");
 
-            if (lcntZi.equals("true")) {
+            if (lZi == null) {
                 // no Zi
                 elements.add(languageDefinitions.getAnd());
                 elements.add(languageDefinitions.getNext());
-                elements.add(new RoundBracketOpenElement());
+                elements.add(RoundBracketOpenElement.INSTANCE);
                 elements.add(languageDefinitions.getEventually());
-                elements.add(new TimeBoundElement(gapPN(i + 1, Tis, (Interval) aPattern.getPTimeBound())));
-                elements.add(new SpaceElement());
-                elements.add(new RoundBracketOpenElement());
+                elements.add(TimeBoundElement.of(gapPN(i + 1, Tis, (Interval) aPattern.getPTimeBound(), aContext)));
+                elements.add(SpaceElement.INSTANCE);
+                elements.add(RoundBracketOpenElement.INSTANCE);
                 elements.add(Ti.getEvent());
-                PCN1_Ch(elements, aPattern, i + 1);
-                elements.add(new RoundBracketCloseElement());
-                elements.add(new RoundBracketCloseElement());
+                PCN1_Ch(elements, aPattern, i + 1, aContext);
+                elements.add(RoundBracketCloseElement.INSTANCE);
+                elements.add(RoundBracketCloseElement.INSTANCE);
             } else {
                 // with Zi
                 elements.add(languageDefinitions.getAnd());
                 elements.add(languageDefinitions.getNot());
                 elements.add(aPattern.getP());
                 elements.add(languageDefinitions.getAnd());
-                elements.add(new MiscElement(lcntZi));
+                elements.add(lcntZi);
                 elements.add(languageDefinitions.getAnd());
                 elements.add(languageDefinitions.getNext());
-                elements.add(new RoundBracketOpenElement());
-                elements.add(new RoundBracketOpenElement());
+                elements.add(RoundBracketOpenElement.INSTANCE);
+                elements.add(RoundBracketOpenElement.INSTANCE);
                 elements.add(languageDefinitions.getNot());
                 elements.add(aPattern.getP());
                 elements.add(languageDefinitions.getAnd());
-                elements.add(new MiscElement(lcntZi));
-                elements.add(new RoundBracketCloseElement());
+                elements.add(lcntZi);
+                elements.add(RoundBracketCloseElement.INSTANCE);
                 elements.add(languageDefinitions.getUntil());
-                elements.add(new TimeBoundElement(gapPN(i + 1, Tis, (Interval) aPattern.getPTimeBound())));
-                elements.add(new SpaceElement());
-                elements.add(new RoundBracketOpenElement());
+                elements.add(TimeBoundElement.of(gapPN(i + 1, Tis, (Interval) aPattern.getPTimeBound(), aContext)));
+                elements.add(SpaceElement.INSTANCE);
+                elements.add(RoundBracketOpenElement.INSTANCE);
                 elements.add(Ti.getEvent());
-                PCN1_Ch(elements, aPattern, i + 1);
-                elements.add(new RoundBracketCloseElement());
-                elements.add(new RoundBracketCloseElement());
+                PCN1_Ch(elements, aPattern, i + 1, aContext);
+                elements.add(RoundBracketCloseElement.INSTANCE);
+                elements.add(RoundBracketCloseElement.INSTANCE);
             }
         }
     }
 
-    private List<Element> mapPrecedenceChainN1(Scope aScope, PrecedenceChainN1 aPattern) {
-        List<Element> elements = new ArrayList<>();
+    private void mapPrecedenceChainN1(Scope aScope, PrecedenceChainN1 aPattern, MappingContext aContext, ElementSink elements) {
 
         EventConstraint lZP = aPattern.getPConstraint();
-        String lcntZP = lZP != null ? cnt(lZP.getEvent()) : "true";
-        boolean lHasConstraint = !lcntZP.equals("true");
+        Element lcntZP = lZP != null ? cnt(lZP.getEvent()) : new MiscElement("true");
+        boolean lHasConstraint = lZP != null;
         ChainEvents Tis = aPattern.getTis();
 
         elements.add(new ProbabilityBoundElement(prop(aPattern.getProbabilityBound())));
@@ -1385,133 +1414,137 @@ public class PrismMapper extends PrismSupport {
         switch (aScope.getType()) {
             case PSPConstants.S_Globally:
                 elements.add(languageDefinitions.getAlways());
-                elements.add(new RoundBracketOpenElement());
+                elements.add(RoundBracketOpenElement.INSTANCE);
                 elements.add(languageDefinitions.getEventually());
-                elements.add(new TimeBoundElement(trigger((Interval) aPattern.getPTimeBound())));
-                elements.add(new SpaceElement());
+                elements.add(TimeBoundElement.of(trigger((Interval) aPattern.getPTimeBound(), aContext)));
+                elements.add(SpaceElement.INSTANCE);
                 elements.add(aPattern.getP());
                 elements.add(languageDefinitions.getImplication());
-                elements.add(new RoundBracketOpenElement());
+                elements.add(RoundBracketOpenElement.INSTANCE);
                 if (lHasConstraint) {
                     // has ZS
-                    elements.add(new RoundBracketOpenElement());
+                    elements.add(RoundBracketOpenElement.INSTANCE);
                     elements.add(languageDefinitions.getNot());
                     elements.add(aPattern.getP());
                     elements.add(languageDefinitions.getAnd());
-                    elements.add(new MiscElement(lcntZP));
-                    elements.add(new RoundBracketCloseElement());
+                    elements.add(lcntZP);
+                    elements.add(RoundBracketCloseElement.INSTANCE);
                     elements.add(languageDefinitions.getUntil());
                 } else {
                     // no ZS
                     elements.add(languageDefinitions.getEventually());
                 }
-                elements.add(new TimeBoundElement(gapPN(0, Tis, (Interval) aPattern.getPTimeBound())));
-                elements.add(new SpaceElement());
-                elements.add(new RoundBracketOpenElement());
+                elements.add(TimeBoundElement.of(gapPN(0, Tis, (Interval) aPattern.getPTimeBound(), aContext)));
+                elements.add(SpaceElement.INSTANCE);
+                elements.add(RoundBracketOpenElement.INSTANCE);
                 elements.add(aPattern.getS());
-                PCN1_Ch(elements, aPattern, 0);
-                elements.add(new RoundBracketCloseElement());
-                elements.add(new RoundBracketCloseElement());
-                elements.add(new RoundBracketCloseElement());
+                PCN1_Ch(elements, aPattern, 0, aContext);
+                elements.add(RoundBracketCloseElement.INSTANCE);
+                elements.add(RoundBracketCloseElement.INSTANCE);
+                elements.add(RoundBracketCloseElement.INSTANCE);
                 break;
             case PSPConstants.S_BeforeR:
+                elements.add(RoundBracketOpenElement.INSTANCE);
                 elements.add(languageDefinitions.getEventually());
                 elements.add(aScope.getR());
+                elements.add(RoundBracketCloseElement.INSTANCE);
                 elements.add(languageDefinitions.getImplication());
-                elements.add(new RoundBracketOpenElement());
-                elements.add(new RoundBracketOpenElement());
+                elements.add(RoundBracketOpenElement.INSTANCE);
+                elements.add(RoundBracketOpenElement.INSTANCE);
                 if (lHasConstraint) {
                     // has ZS
-                    elements.add(new RoundBracketOpenElement());
+                    elements.add(RoundBracketOpenElement.INSTANCE);
                     elements.add(languageDefinitions.getEventually());
-                    elements.add(new TimeBoundElement(trigger((Interval) aPattern.getPTimeBound())));
-                    elements.add(new SpaceElement());
+                    elements.add(TimeBoundElement.of(trigger((Interval) aPattern.getPTimeBound(), aContext)));
+                    elements.add(SpaceElement.INSTANCE);
                     elements.add(aPattern.getP());
                     elements.add(languageDefinitions.getImplication());
-                    elements.add(new RoundBracketOpenElement());
-                    elements.add(new RoundBracketOpenElement());
+                    elements.add(RoundBracketOpenElement.INSTANCE);
+                    elements.add(RoundBracketOpenElement.INSTANCE);
                     elements.add(languageDefinitions.getNot());
                     elements.add(aPattern.getP());
                     elements.add(languageDefinitions.getAnd());
-                    elements.add(new MiscElement(lcntZP));
-                    elements.add(new RoundBracketCloseElement());
+                    elements.add(lcntZP);
+                    elements.add(RoundBracketCloseElement.INSTANCE);
                     elements.add(languageDefinitions.getUntil());
-                    elements.add(new TimeBoundElement(gapPN(0, Tis, (Interval) aPattern.getPTimeBound())));
-                    elements.add(new SpaceElement());
-                    elements.add(new RoundBracketOpenElement());
+                    elements.add(TimeBoundElement.of(gapPN(0, Tis, (Interval) aPattern.getPTimeBound(), aContext)));
+                    elements.add(SpaceElement.INSTANCE);
+                    elements.add(RoundBracketOpenElement.INSTANCE);
                     elements.add(aPattern.getS());
-                    PCN1_Ch(elements, aPattern, 0);
-                    elements.add(new RoundBracketCloseElement());
-                    elements.add(new RoundBracketCloseElement());
-                    elements.add(new RoundBracketCloseElement());
+                    PCN1_Ch(elements, aPattern, 0, aContext);
+                    elements.add(RoundBracketCloseElement.INSTANCE);
+                    elements.add(RoundBracketCloseElement.INSTANCE);
+                    elements.add(RoundBracketCloseElement.INSTANCE);
                 } else {
                     // no ZS
+                    elements.add(RoundBracketOpenElement.INSTANCE);
                     elements.add(languageDefinitions.getEventually());
-                    elements.add(new TimeBoundElement(trigger((Interval) aPattern.getPTimeBound())));
-                    elements.add(new SpaceElement());
+                    elements.add(TimeBoundElement.of(trigger((Interval) aPattern.getPTimeBound(), aContext)));
+                    elements.add(SpaceElement.INSTANCE);
                     elements.add(aPattern.getP());
                     elements.add(languageDefinitions.getImplication());
-                    elements.add(new RoundBracketOpenElement());
+                    elements.add(RoundBracketOpenElement.INSTANCE);
                     elements.add(languageDefinitions.getEventually());
-                    elements.add(new TimeBoundElement(gapPN(0, Tis, (Interval) aPattern.getPTimeBound())));
-                    elements.add(new SpaceElement());
-                    elements.add(new RoundBracketOpenElement());
+                    elements.add(TimeBoundElement.of(gapPN(0, Tis, (Interval) aPattern.getPTimeBound(), aContext)));
+                    elements.add(SpaceElement.INSTANCE);
+                    elements.add(RoundBracketOpenElement.INSTANCE);
                     elements.add(aPattern.getS());
-                    PCN1_Ch(elements, aPattern, 0);
-                    elements.add(new RoundBracketCloseElement());
-                    elements.add(new RoundBracketCloseElement());
+                    PCN1_Ch(elements, aPattern, 0, aContext);
+                    elements.add(RoundBracketCloseElement.INSTANCE);
+                    elements.add(RoundBracketCloseElement.INSTANCE);
+                    elements.add(RoundBracketCloseElement.INSTANCE);
                 }
                 elements.add(languageDefinitions.getOr());
                 elements.add(languageDefinitions.getEventually());
-                elements.add(new TimeBoundElement(elapsed((Interval) aPattern.getPTimeBound())));
-                elements.add(new SpaceElement());
+                elements.add(TimeBoundElement.of(elapsed((Interval) aPattern.getPTimeBound())));
+                elements.add(SpaceElement.INSTANCE);
                 elements.add(aScope.getR());
-                elements.add(new RoundBracketCloseElement());
+                elements.add(RoundBracketCloseElement.INSTANCE);
                 elements.add(languageDefinitions.getUntil());
-                elements.add(new SpaceElement());
+                elements.add(SpaceElement.INSTANCE);
                 elements.add(aScope.getR());
-                elements.add(new RoundBracketCloseElement());
+                elements.add(RoundBracketCloseElement.INSTANCE);
                 break;
             case PSPConstants.S_AfterQ:
                 elements.add(languageDefinitions.getAlways());
-                elements.add(new RoundBracketOpenElement());
+                elements.add(RoundBracketOpenElement.INSTANCE);
                 elements.add(aScope.getQ());
                 elements.add(languageDefinitions.getImplication());
                 elements.add(languageDefinitions.getAlways());
-                elements.add(new RoundBracketOpenElement());
+                elements.add(RoundBracketOpenElement.INSTANCE);
                 elements.add(languageDefinitions.getEventually());
-                elements.add(new TimeBoundElement(trigger((Interval) aPattern.getPTimeBound())));
-                elements.add(new SpaceElement());
+                elements.add(TimeBoundElement.of(trigger((Interval) aPattern.getPTimeBound(), aContext)));
+                elements.add(SpaceElement.INSTANCE);
                 elements.add(aPattern.getP());
                 elements.add(languageDefinitions.getImplication());
-                elements.add(new RoundBracketOpenElement());
+                elements.add(RoundBracketOpenElement.INSTANCE);
                 if (lHasConstraint) {
                     // has ZS
-                    elements.add(new RoundBracketOpenElement());
+                    elements.add(RoundBracketOpenElement.INSTANCE);
                     elements.add(languageDefinitions.getNot());
                     elements.add(aPattern.getP());
                     elements.add(languageDefinitions.getAnd());
-                    elements.add(new MiscElement(lcntZP));
-                    elements.add(new RoundBracketCloseElement());
+                    elements.add(lcntZP);
+                    elements.add(RoundBracketCloseElement.INSTANCE);
                     elements.add(languageDefinitions.getUntil());
                 } else {
                     // no ZS
                     elements.add(languageDefinitions.getEventually());
                 }
-                elements.add(new TimeBoundElement(gapPN(0, Tis, (Interval) aPattern.getPTimeBound())));
-                elements.add(new SpaceElement());
-                elements.add(new RoundBracketOpenElement());
+                elements.add(TimeBoundElement.of(gapPN(0, Tis, (Interval) aPattern.getPTimeBound(), aContext)));
+                elements.add(SpaceElement.INSTANCE);
+                elements.add(RoundBracketOpenElement.INSTANCE);
                 elements.add(aPattern.getS());
-                PCN1_Ch(elements, aPattern, 0);
-                elements.add(new RoundBracketCloseElement());
-                elements.add(new RoundBracketCloseElement());
-                elements.add(new RoundBracketCloseElement());
-                elements.add(new RoundBracketCloseElement());
+                PCN1_Ch(elements, aPattern, 0, aContext);
+                elements.add(RoundBracketCloseElement.INSTANCE);
+                elements.add(RoundBracketCloseElement.INSTANCE);
+                elements.add(RoundBracketCloseElement.INSTANCE);
+                elements.add(RoundBracketCloseElement.INSTANCE);
                 break;
             case PSPConstants.S_BetweenQandR:
                 elements.add(languageDefinitions.getAlways());
-                elements.add(new RoundBracketOpenElement());
-                elements.add(new RoundBracketOpenElement());
+                elements.add(RoundBracketOpenElement.INSTANCE);
+                elements.add(RoundBracketOpenElement.INSTANCE);
                 elements.add(aScope.getQ());
                 elements.add(languageDefinitions.getAnd());
                 elements.add(languageDefinitions.getNot());
@@ -1519,120 +1552,124 @@ public class PrismMapper extends PrismSupport {
                 elements.add(languageDefinitions.getAnd());
                 elements.add(languageDefinitions.getEventually());
                 elements.add(aScope.getR());
-                elements.add(new RoundBracketCloseElement());
+                elements.add(RoundBracketCloseElement.INSTANCE);
                 elements.add(languageDefinitions.getImplication());
-                elements.add(new RoundBracketOpenElement());
-                elements.add(new RoundBracketOpenElement());
+                elements.add(RoundBracketOpenElement.INSTANCE);
+                elements.add(RoundBracketOpenElement.INSTANCE);
+                elements.add(RoundBracketOpenElement.INSTANCE);
                 elements.add(languageDefinitions.getEventually());
-                elements.add(new TimeBoundElement(trigger((Interval) aPattern.getPTimeBound())));
-                elements.add(new SpaceElement());
+                elements.add(TimeBoundElement.of(trigger((Interval) aPattern.getPTimeBound(), aContext)));
+                elements.add(SpaceElement.INSTANCE);
                 elements.add(aPattern.getP());
                 elements.add(languageDefinitions.getImplication());
-                elements.add(new RoundBracketOpenElement());
+                elements.add(RoundBracketOpenElement.INSTANCE);
                 if (lHasConstraint) {
                     // has ZS
-                    elements.add(new RoundBracketOpenElement());
+                    elements.add(RoundBracketOpenElement.INSTANCE);
                     elements.add(languageDefinitions.getNot());
                     elements.add(aPattern.getP());
                     elements.add(languageDefinitions.getAnd());
-                    elements.add(new MiscElement(lcntZP));
-                    elements.add(new RoundBracketCloseElement());
+                    elements.add(lcntZP);
+                    elements.add(RoundBracketCloseElement.INSTANCE);
                     elements.add(languageDefinitions.getUntil());
                 } else {
                     // no ZS
                     elements.add(languageDefinitions.getEventually());
                 }
-                elements.add(new TimeBoundElement(gapPN(0, Tis, (Interval) aPattern.getPTimeBound())));
-                elements.add(new SpaceElement());
-                elements.add(new RoundBracketOpenElement());
+                elements.add(TimeBoundElement.of(gapPN(0, Tis, (Interval) aPattern.getPTimeBound(), aContext)));
+                elements.add(SpaceElement.INSTANCE);
+                elements.add(RoundBracketOpenElement.INSTANCE);
                 elements.add(aPattern.getS());
-                PCN1_Ch(elements, aPattern, 0);
-                elements.add(new RoundBracketCloseElement());
-                elements.add(new RoundBracketCloseElement());
-                elements.add(new RoundBracketCloseElement());
+                PCN1_Ch(elements, aPattern, 0, aContext);
+                elements.add(RoundBracketCloseElement.INSTANCE);
+                elements.add(RoundBracketCloseElement.INSTANCE);
+                elements.add(RoundBracketCloseElement.INSTANCE);
                 elements.add(languageDefinitions.getOr());
                 elements.add(languageDefinitions.getEventually());
-                elements.add(new TimeBoundElement(elapsed((Interval) aPattern.getPTimeBound())));
-                elements.add(new SpaceElement());
+                elements.add(TimeBoundElement.of(elapsed((Interval) aPattern.getPTimeBound())));
+                elements.add(SpaceElement.INSTANCE);
                 elements.add(aScope.getR());
-                elements.add(new RoundBracketCloseElement());
+                elements.add(RoundBracketCloseElement.INSTANCE);
                 elements.add(languageDefinitions.getUntil());
-                elements.add(new SpaceElement());
+                elements.add(SpaceElement.INSTANCE);
                 elements.add(aScope.getR());
-                elements.add(new RoundBracketCloseElement());
+                elements.add(RoundBracketCloseElement.INSTANCE);
+                elements.add(RoundBracketCloseElement.INSTANCE);
                 break;
             case PSPConstants.S_AfterQuntilR:
                 elements.add(languageDefinitions.getAlways());
-                elements.add(new RoundBracketOpenElement());
-                elements.add(new RoundBracketOpenElement());
+                elements.add(RoundBracketOpenElement.INSTANCE);
+                elements.add(RoundBracketOpenElement.INSTANCE);
                 elements.add(aScope.getQ());
                 elements.add(languageDefinitions.getAnd());
                 elements.add(languageDefinitions.getNot());
                 elements.add(aScope.getR());
-                elements.add(new RoundBracketCloseElement());
+                elements.add(RoundBracketCloseElement.INSTANCE);
                 elements.add(languageDefinitions.getImplication());
-                elements.add(new RoundBracketOpenElement());
+                elements.add(RoundBracketOpenElement.INSTANCE);
+                elements.add(RoundBracketOpenElement.INSTANCE);
                 if (lHasConstraint) {
                     // has ZS
+                    elements.add(RoundBracketOpenElement.INSTANCE);
                     elements.add(languageDefinitions.getEventually());
-                    elements.add(new TimeBoundElement(trigger((Interval) aPattern.getPTimeBound())));
-                    elements.add(new SpaceElement());
+                    elements.add(TimeBoundElement.of(trigger((Interval) aPattern.getPTimeBound(), aContext)));
+                    elements.add(SpaceElement.INSTANCE);
                     elements.add(aPattern.getP());
                     elements.add(languageDefinitions.getImplication());
-                    elements.add(new RoundBracketOpenElement());
-                    elements.add(new RoundBracketOpenElement());
+                    elements.add(RoundBracketOpenElement.INSTANCE);
+                    elements.add(RoundBracketOpenElement.INSTANCE);
                     elements.add(languageDefinitions.getNot());
                     elements.add(aPattern.getP());
                     elements.add(languageDefinitions.getAnd());
-                    elements.add(new MiscElement(lcntZP));
-                    elements.add(new RoundBracketCloseElement());
+                    elements.add(lcntZP);
+                    elements.add(RoundBracketCloseElement.INSTANCE);
                     elements.add(languageDefinitions.getUntil());
-                    elements.add(new TimeBoundElement(gapPN(0, Tis, (Interval) aPattern.getPTimeBound())));
-                    elements.add(new SpaceElement());
-                    elements.add(new RoundBracketOpenElement());
+                    elements.add(TimeBoundElement.of(gapPN(0, Tis, (Interval) aPattern.getPTimeBound(), aContext)));
+                    elements.add(SpaceElement.INSTANCE);
+                    elements.add(RoundBracketOpenElement.INSTANCE);
                     elements.add(aPattern.getS());
-                    PCN1_Ch(elements, aPattern, 0);
-                    elements.add(new RoundBracketCloseElement());
-                    elements.add(new RoundBracketCloseElement());
+                    PCN1_Ch(elements, aPattern, 0, aContext);
+                    elements.add(RoundBracketCloseElement.INSTANCE);
+                    elements.add(RoundBracketCloseElement.INSTANCE);
+                    elements.add(RoundBracketCloseElement.INSTANCE);
                 } else {
                     // no ZS
-                    elements.add(new RoundBracketOpenElement());
+                    elements.add(RoundBracketOpenElement.INSTANCE);
                     elements.add(languageDefinitions.getEventually());
-                    elements.add(new TimeBoundElement(trigger((Interval) aPattern.getPTimeBound())));
-                    elements.add(new SpaceElement());
+                    elements.add(TimeBoundElement.of(trigger((Interval) aPattern.getPTimeBound(), aContext)));
+                    elements.add(SpaceElement.INSTANCE);
                     elements.add(aPattern.getP());
                     elements.add(languageDefinitions.getImplication());
-                    elements.add(new RoundBracketOpenElement());
+                    elements.add(RoundBracketOpenElement.INSTANCE);
                     elements.add(languageDefinitions.getEventually());
-                    elements.add(new TimeBoundElement(gapPN(0, Tis, (Interval) aPattern.getPTimeBound())));
-                    elements.add(new SpaceElement());
-                    elements.add(new RoundBracketOpenElement());
+                    elements.add(TimeBoundElement.of(gapPN(0, Tis, (Interval) aPattern.getPTimeBound(), aContext)));
+                    elements.add(SpaceElement.INSTANCE);
+                    elements.add(RoundBracketOpenElement.INSTANCE);
                     elements.add(aPattern.getS());
-                    PCN1_Ch(elements, aPattern, 0);
-                    elements.add(new RoundBracketCloseElement());
-                    elements.add(new RoundBracketCloseElement());
-                    elements.add(new RoundBracketCloseElement());
+                    PCN1_Ch(elements, aPattern, 0, aContext);
+                    elements.add(RoundBracketCloseElement.INSTANCE);
+                    elements.add(RoundBracketCloseElement.INSTANCE);
+                    elements.add(RoundBracketCloseElement.INSTANCE);
                 }
                 elements.add(languageDefinitions.getOr());
                 elements.add(languageDefinitions.getEventually());
-                elements.add(new TimeBoundElement(elapsed((Interval) aPattern.getPTimeBound())));
-                elements.add(new SpaceElement());
+                elements.add(TimeBoundElement.of(elapsed((Interval) aPattern.getPTimeBound())));
+                elements.add(SpaceElement.INSTANCE);
                 elements.add(aScope.getR());
-                elements.add(new RoundBracketCloseElement());
+                elements.add(RoundBracketCloseElement.INSTANCE);
                 elements.add(languageDefinitions.getWeakUntil());
-                elements.add(new SpaceElement());
+                elements.add(SpaceElement.INSTANCE);
                 elements.add(aScope.getR());
-                elements.add(new RoundBracketCloseElement());
+                elements.add(RoundBracketCloseElement.INSTANCE);
+                elements.add(RoundBracketCloseElement.INSTANCE);
                 break;
         }
 
         elements.add(defaultSquareBracketClose);
 
-        return elements;
     }
 
-    private List<Element> mapUntil(Scope aScope, Until aPattern) {
-        List<Element> elements = new ArrayList<>();
+    private void mapUntil(Scope aScope, Until aPattern, MappingContext aContext, ElementSink elements) {
 
         elements.add(new ProbabilityBoundElement(prop(aPattern.getProbabilityBound())));
         elements.add(defaultSquareBracketOpen);
@@ -1641,119 +1678,117 @@ public class PrismMapper extends PrismSupport {
             case PSPConstants.S_Globally:
                 elements.add(aPattern.getP());
                 elements.add(languageDefinitions.getUntil());
-                elements.add(new TimeBoundElement(time(aPattern.getPTimeBound())));
-                elements.add(new SpaceElement());
+                elements.add(TimeBoundElement.of(time(aPattern.getPTimeBound())));
+                elements.add(SpaceElement.INSTANCE);
                 elements.add(aPattern.getS());
                 break;
             case PSPConstants.S_BeforeR:
+                elements.add(RoundBracketOpenElement.INSTANCE);
                 elements.add(languageDefinitions.getEventually());
-                elements.add(new TimeBoundElement(lmintime(aPattern.getPTimeBound())));
+                elements.add(TimeBoundElement.of(lmintime(aPattern.getPTimeBound())));
                 elements.add(aScope.getR());
+                elements.add(RoundBracketCloseElement.INSTANCE);
                 elements.add(languageDefinitions.getImplication());
-                elements.add(new RoundBracketOpenElement());
-                elements.add(new RoundBracketOpenElement());
+                elements.add(RoundBracketOpenElement.INSTANCE);
+                elements.add(RoundBracketOpenElement.INSTANCE);
                 elements.add(aPattern.getP());
                 elements.add(languageDefinitions.getAnd());
                 elements.add(languageDefinitions.getNot());
                 elements.add(aScope.getR());
-                elements.add(new RoundBracketCloseElement());
+                elements.add(RoundBracketCloseElement.INSTANCE);
                 elements.add(languageDefinitions.getUntil());
-                elements.add(new TimeBoundElement(time(aPattern.getPTimeBound())));
-                elements.add(new SpaceElement());
-                elements.add(new RoundBracketOpenElement());
+                elements.add(TimeBoundElement.of(time(aPattern.getPTimeBound())));
+                elements.add(SpaceElement.INSTANCE);
+                elements.add(RoundBracketOpenElement.INSTANCE);
                 elements.add(aPattern.getS());
-                elements.add(languageDefinitions.getOr());
+                elements.add(languageDefinitions.getAnd());
+                elements.add(languageDefinitions.getNot());
                 elements.add(aScope.getR());
-                elements.add(new RoundBracketCloseElement());
-                elements.add(new RoundBracketCloseElement());
+                elements.add(RoundBracketCloseElement.INSTANCE);
+                elements.add(RoundBracketCloseElement.INSTANCE);
                 break;
             case PSPConstants.S_AfterQ:
                 elements.add(languageDefinitions.getAlways());
-                elements.add(new RoundBracketOpenElement());
+                elements.add(RoundBracketOpenElement.INSTANCE);
                 elements.add(aScope.getQ());
                 elements.add(languageDefinitions.getImplication());
-                elements.add(new RoundBracketOpenElement());
+                elements.add(RoundBracketOpenElement.INSTANCE);
                 elements.add(aPattern.getP());
                 elements.add(languageDefinitions.getUntil());
-                elements.add(new TimeBoundElement(time(aPattern.getPTimeBound())));
-                elements.add(new SpaceElement());
+                elements.add(TimeBoundElement.of(time(aPattern.getPTimeBound())));
+                elements.add(SpaceElement.INSTANCE);
                 elements.add(aPattern.getS());
-                elements.add(new RoundBracketCloseElement());
-                elements.add(new RoundBracketCloseElement());
+                elements.add(RoundBracketCloseElement.INSTANCE);
+                elements.add(RoundBracketCloseElement.INSTANCE);
                 break;
             case PSPConstants.S_BetweenQandR:
                 elements.add(languageDefinitions.getAlways());
-                elements.add(new RoundBracketOpenElement());
-                elements.add(new RoundBracketOpenElement());
+                elements.add(RoundBracketOpenElement.INSTANCE);
+                elements.add(RoundBracketOpenElement.INSTANCE);
                 elements.add(aScope.getQ());
                 elements.add(languageDefinitions.getAnd());
                 elements.add(languageDefinitions.getNot());
                 elements.add(aScope.getR());
                 elements.add(languageDefinitions.getAnd());
                 elements.add(languageDefinitions.getEventually());
-                elements.add(new TimeBoundElement(lmintime(aPattern.getPTimeBound())));
-                elements.add(new SpaceElement());
+                elements.add(TimeBoundElement.of(lmintime(aPattern.getPTimeBound())));
+                elements.add(SpaceElement.INSTANCE);
                 elements.add(aScope.getR());
-                elements.add(new RoundBracketCloseElement());
+                elements.add(RoundBracketCloseElement.INSTANCE);
                 elements.add(languageDefinitions.getImplication());
-                elements.add(new RoundBracketOpenElement());
-                elements.add(new RoundBracketOpenElement());
+                elements.add(RoundBracketOpenElement.INSTANCE);
+                elements.add(RoundBracketOpenElement.INSTANCE);
                 elements.add(aPattern.getP());
                 elements.add(languageDefinitions.getAnd());
                 elements.add(languageDefinitions.getNot());
                 elements.add(aScope.getR());
-                elements.add(new RoundBracketCloseElement());
+                elements.add(RoundBracketCloseElement.INSTANCE);
                 elements.add(languageDefinitions.getUntil());
-                elements.add(new TimeBoundElement(time(aPattern.getPTimeBound())));
-                elements.add(new SpaceElement());
-                elements.add(new RoundBracketOpenElement());
+                elements.add(TimeBoundElement.of(time(aPattern.getPTimeBound())));
+                elements.add(SpaceElement.INSTANCE);
+                elements.add(RoundBracketOpenElement.INSTANCE);
                 elements.add(aPattern.getS());
-                elements.add(languageDefinitions.getOr());
+                elements.add(languageDefinitions.getAnd());
+                elements.add(languageDefinitions.getNot());
                 elements.add(aScope.getR());
-                elements.add(new RoundBracketCloseElement());
-                elements.add(new RoundBracketCloseElement());
-                elements.add(new RoundBracketCloseElement());
+                elements.add(RoundBracketCloseElement.INSTANCE);
+                elements.add(RoundBracketCloseElement.INSTANCE);
+                elements.add(RoundBracketCloseElement.INSTANCE);
                 break;
             case PSPConstants.S_AfterQuntilR:
                 elements.add(languageDefinitions.getAlways());
-                elements.add(new RoundBracketOpenElement());
-                elements.add(new RoundBracketOpenElement());
+                elements.add(RoundBracketOpenElement.INSTANCE);
+                elements.add(RoundBracketOpenElement.INSTANCE);
                 elements.add(aScope.getQ());
                 elements.add(languageDefinitions.getAnd());
-                elements.add(languageDefinitions.getAlways());
-                elements.add(new TimeBoundElement(umintime(aPattern.getPTimeBound())));
-                elements.add(new SpaceElement());
-                elements.add(languageDefinitions.getNot());
-                elements.add(aScope.getR());
-                elements.add(new RoundBracketCloseElement());
+                notR(elements, aScope, aPattern.getPTimeBound());
+                elements.add(RoundBracketCloseElement.INSTANCE);
                 elements.add(languageDefinitions.getImplication());
-                elements.add(new RoundBracketOpenElement());
-                elements.add(new RoundBracketOpenElement());
+                elements.add(RoundBracketOpenElement.INSTANCE);
+                elements.add(RoundBracketOpenElement.INSTANCE);
                 elements.add(aPattern.getP());
                 elements.add(languageDefinitions.getUntil());
-                elements.add(new TimeBoundElement(time(aPattern.getPTimeBound())));
-                elements.add(new SpaceElement());
+                elements.add(TimeBoundElement.of(time(aPattern.getPTimeBound())));
+                elements.add(SpaceElement.INSTANCE);
                 elements.add(aPattern.getS());
-                elements.add(new RoundBracketCloseElement());
+                elements.add(RoundBracketCloseElement.INSTANCE);
                 elements.add(languageDefinitions.getWeakUntil());
-                elements.add(new SpaceElement());
+                elements.add(SpaceElement.INSTANCE);
                 elements.add(aScope.getR());
-                elements.add(new RoundBracketCloseElement());
-                elements.add(new RoundBracketCloseElement());
+                elements.add(RoundBracketCloseElement.INSTANCE);
+                elements.add(RoundBracketCloseElement.INSTANCE);
                 break;
         }
 
         elements.add(defaultSquareBracketClose);
 
-        return elements;
     }
 
-    private List<Element> mapResponse(Scope aScope, Response aPattern) {
-        List<Element> elements = new ArrayList<>();
+    private void mapResponse(Scope aScope, Response aPattern, MappingContext aContext, ElementSink elements) {
 
         EventConstraint lZS = aPattern.getSConstraint();
-        String lcntZS = lZS != null ? cnt(lZS.getEvent()) : "true";
-        boolean lHasConstraint = !lcntZS.equals("true");
+        Element lcntZS = lZS != null ? cnt(lZS.getEvent()) : new MiscElement("true");
+        boolean lHasConstraint = lZS != null;
 
         elements.add(new ProbabilityBoundElement(prop(aPattern.getProbabilityBound())));
         elements.add(defaultSquareBracketOpen);
@@ -1761,231 +1796,230 @@ public class PrismMapper extends PrismSupport {
         switch (aScope.getType()) {
             case PSPConstants.S_Globally:
                 elements.add(languageDefinitions.getAlways());
-                elements.add(new RoundBracketOpenElement());
+                elements.add(RoundBracketOpenElement.INSTANCE);
                 elements.add(aPattern.getP());
                 elements.add(languageDefinitions.getImplication());
+                elements.add(RoundBracketOpenElement.INSTANCE);
                 if (lHasConstraint) {
-                    elements.add(new MiscElement(lcntZS));
+                    elements.add(lcntZS);
                     elements.add(languageDefinitions.getUntil());
                 } else {
                     elements.add(languageDefinitions.getEventually());
                 }
-                elements.add(new TimeBoundElement(time(aPattern.getSTimeBound())));
-                elements.add(new SpaceElement());
+                elements.add(TimeBoundElement.of(time(aPattern.getSTimeBound())));
+                elements.add(SpaceElement.INSTANCE);
                 elements.add(aPattern.getS());
-                elements.add(new RoundBracketCloseElement());
+                elements.add(RoundBracketCloseElement.INSTANCE);
+                elements.add(RoundBracketCloseElement.INSTANCE);
                 break;
             case PSPConstants.S_BeforeR:
+                elements.add(RoundBracketOpenElement.INSTANCE);
                 elements.add(languageDefinitions.getEventually());
-                elements.add(new TimeBoundElement(lmintime(aPattern.getSTimeBound())));
-                elements.add(new SpaceElement());
+                elements.add(TimeBoundElement.of(lmintime(aPattern.getSTimeBound())));
+                elements.add(SpaceElement.INSTANCE);
                 elements.add(aScope.getR());
+                elements.add(RoundBracketCloseElement.INSTANCE);
                 elements.add(languageDefinitions.getImplication());
-                elements.add(new RoundBracketOpenElement());
+                elements.add(RoundBracketOpenElement.INSTANCE);
+                elements.add(RoundBracketOpenElement.INSTANCE);
                 elements.add(aPattern.getP());
                 elements.add(languageDefinitions.getImplication());
-                elements.add(new RoundBracketOpenElement());
+                elements.add(RoundBracketOpenElement.INSTANCE);
                 if (lHasConstraint) {
-                    elements.add(new RoundBracketOpenElement());
+                    elements.add(RoundBracketOpenElement.INSTANCE);
                     elements.add(languageDefinitions.getNot());
                     elements.add(aScope.getR());
                     elements.add(languageDefinitions.getAnd());
-                    elements.add(new MiscElement(lcntZS));
-                    elements.add(new RoundBracketCloseElement());
+                    elements.add(lcntZS);
+                    elements.add(RoundBracketCloseElement.INSTANCE);
                 } else {
                     elements.add(languageDefinitions.getNot());
                     elements.add(aScope.getR());
                 }
                 elements.add(languageDefinitions.getUntil());
-                elements.add(new TimeBoundElement(time(aPattern.getSTimeBound())));
-                elements.add(new SpaceElement());
-                elements.add(new RoundBracketOpenElement());
+                elements.add(TimeBoundElement.of(time(aPattern.getSTimeBound())));
+                elements.add(SpaceElement.INSTANCE);
+                elements.add(RoundBracketOpenElement.INSTANCE);
                 elements.add(aPattern.getS());
                 elements.add(languageDefinitions.getAnd());
                 elements.add(languageDefinitions.getNot());
                 elements.add(aScope.getR());
-                elements.add(new RoundBracketCloseElement());
-                elements.add(new RoundBracketCloseElement());
-                elements.add(new RoundBracketCloseElement());
+                elements.add(RoundBracketCloseElement.INSTANCE);
+                elements.add(RoundBracketCloseElement.INSTANCE);
+                elements.add(RoundBracketCloseElement.INSTANCE);
                 elements.add(languageDefinitions.getUntil());
-                elements.add(new SpaceElement());
+                elements.add(SpaceElement.INSTANCE);
                 elements.add(aScope.getR());
+                elements.add(RoundBracketCloseElement.INSTANCE);
                 break;
             case PSPConstants.S_AfterQ:
                 elements.add(languageDefinitions.getAlways());
-                elements.add(new RoundBracketOpenElement());
+                elements.add(RoundBracketOpenElement.INSTANCE);
                 elements.add(aScope.getQ());
                 elements.add(languageDefinitions.getImplication());
                 elements.add(languageDefinitions.getAlways());
-                elements.add(new RoundBracketOpenElement());
+                elements.add(RoundBracketOpenElement.INSTANCE);
                 elements.add(aPattern.getP());
                 elements.add(languageDefinitions.getImplication());
+                elements.add(RoundBracketOpenElement.INSTANCE);
                 if (lHasConstraint) {
-                    elements.add(new MiscElement(lcntZS));
+                    elements.add(lcntZS);
                     elements.add(languageDefinitions.getUntil());
                 } else {
                     elements.add(languageDefinitions.getEventually());
                 }
-                elements.add(new TimeBoundElement(time(aPattern.getSTimeBound())));
-                elements.add(new SpaceElement());
+                elements.add(TimeBoundElement.of(time(aPattern.getSTimeBound())));
+                elements.add(SpaceElement.INSTANCE);
                 elements.add(aPattern.getS());
-                elements.add(new RoundBracketCloseElement());
-                elements.add(new RoundBracketCloseElement());
+                elements.add(RoundBracketCloseElement.INSTANCE);
+                elements.add(RoundBracketCloseElement.INSTANCE);
+                elements.add(RoundBracketCloseElement.INSTANCE);
                 break;
             case PSPConstants.S_BetweenQandR:
                 elements.add(languageDefinitions.getAlways());
-                elements.add(new RoundBracketOpenElement());
-                elements.add(new RoundBracketOpenElement());
+                elements.add(RoundBracketOpenElement.INSTANCE);
+                elements.add(RoundBracketOpenElement.INSTANCE);
                 elements.add(aScope.getQ());
                 elements.add(languageDefinitions.getAnd());
-                elements.add(languageDefinitions.getAlways());
-                elements.add(new TimeBoundElement(umintime(aPattern.getSTimeBound())));
-                elements.add(new SpaceElement());
-                elements.add(languageDefinitions.getNot());
-                elements.add(aScope.getR());
+                notR(elements, aScope, aPattern.getSTimeBound());
                 elements.add(languageDefinitions.getAnd());
                 elements.add(languageDefinitions.getEventually());
-                elements.add(new TimeBoundElement(lmintime(aPattern.getSTimeBound())));
-                elements.add(new SpaceElement());
+                elements.add(TimeBoundElement.of(lmintime(aPattern.getSTimeBound())));
+                elements.add(SpaceElement.INSTANCE);
                 elements.add(aScope.getR());
-                elements.add(new RoundBracketCloseElement());
+                elements.add(RoundBracketCloseElement.INSTANCE);
                 elements.add(languageDefinitions.getImplication());
-                elements.add(new RoundBracketOpenElement());
+                elements.add(RoundBracketOpenElement.INSTANCE);
+                elements.add(RoundBracketOpenElement.INSTANCE);
                 elements.add(aPattern.getP());
                 elements.add(languageDefinitions.getImplication());
-                elements.add(new RoundBracketOpenElement());
+                elements.add(RoundBracketOpenElement.INSTANCE);
                 if (lHasConstraint) {
-                    elements.add(new RoundBracketOpenElement());
+                    elements.add(RoundBracketOpenElement.INSTANCE);
                     elements.add(languageDefinitions.getNot());
                     elements.add(aScope.getR());
                     elements.add(languageDefinitions.getAnd());
-                    elements.add(new MiscElement(lcntZS));
-                    elements.add(new RoundBracketCloseElement());
+                    elements.add(lcntZS);
+                    elements.add(RoundBracketCloseElement.INSTANCE);
                 } else {
                     elements.add(languageDefinitions.getNot());
                     elements.add(aScope.getR());
-                    elements.add(languageDefinitions.getAnd());
-                    //TODO: sb.deleteCharAt(sb.length() - 1);
                 }
                 elements.add(languageDefinitions.getUntil());
-                elements.add(new TimeBoundElement(time(aPattern.getSTimeBound())));
-                elements.add(new SpaceElement());
-                elements.add(new RoundBracketOpenElement());
+                elements.add(TimeBoundElement.of(time(aPattern.getSTimeBound())));
+                elements.add(SpaceElement.INSTANCE);
+                elements.add(RoundBracketOpenElement.INSTANCE);
                 elements.add(aPattern.getS());
                 elements.add(languageDefinitions.getAnd());
                 elements.add(languageDefinitions.getNot());
                 elements.add(aScope.getR());
-                elements.add(new RoundBracketCloseElement());
-                elements.add(new RoundBracketCloseElement());
-                elements.add(new RoundBracketCloseElement());
+                elements.add(RoundBracketCloseElement.INSTANCE);
+                elements.add(RoundBracketCloseElement.INSTANCE);
+                elements.add(RoundBracketCloseElement.INSTANCE);
                 elements.add(languageDefinitions.getUntil());
-                elements.add(new SpaceElement());
+                elements.add(SpaceElement.INSTANCE);
                 elements.add(aScope.getR());
-                elements.add(new RoundBracketCloseElement());
+                elements.add(RoundBracketCloseElement.INSTANCE);
+                elements.add(RoundBracketCloseElement.INSTANCE);
                 break;
             case PSPConstants.S_AfterQuntilR:
                 elements.add(languageDefinitions.getAlways());
-                elements.add(new RoundBracketOpenElement());
-                elements.add(new RoundBracketOpenElement());
+                elements.add(RoundBracketOpenElement.INSTANCE);
+                elements.add(RoundBracketOpenElement.INSTANCE);
                 elements.add(aScope.getQ());
                 elements.add(languageDefinitions.getAnd());
-                elements.add(languageDefinitions.getAlways());
-                elements.add(new TimeBoundElement(umintime(aPattern.getSTimeBound())));
-                elements.add(new SpaceElement());
-                elements.add(languageDefinitions.getNot());
-                elements.add(aScope.getR());
-                elements.add(new RoundBracketCloseElement());
+                notR(elements, aScope, aPattern.getSTimeBound());
+                elements.add(RoundBracketCloseElement.INSTANCE);
                 elements.add(languageDefinitions.getImplication());
-                elements.add(new RoundBracketOpenElement());
-                elements.add(new RoundBracketOpenElement());
+                elements.add(RoundBracketOpenElement.INSTANCE);
+                elements.add(RoundBracketOpenElement.INSTANCE);
                 elements.add(aPattern.getP());
                 elements.add(languageDefinitions.getImplication());
-                elements.add(new RoundBracketOpenElement());
+                elements.add(RoundBracketOpenElement.INSTANCE);
                 if (lHasConstraint) {
-                    elements.add(new RoundBracketOpenElement());
+                    elements.add(RoundBracketOpenElement.INSTANCE);
                     elements.add(languageDefinitions.getNot());
                     elements.add(aScope.getR());
                     elements.add(languageDefinitions.getAnd());
-                    elements.add(new MiscElement(lcntZS));
-                    elements.add(new RoundBracketCloseElement());
+                    elements.add(lcntZS);
+                    elements.add(RoundBracketCloseElement.INSTANCE);
                 } else {
                     elements.add(languageDefinitions.getNot());
                     elements.add(aScope.getR());
                 }
                 elements.add(languageDefinitions.getUntil());
-                elements.add(new TimeBoundElement(time(aPattern.getSTimeBound())));
-                elements.add(new SpaceElement());
-                elements.add(new RoundBracketOpenElement());
+                elements.add(TimeBoundElement.of(time(aPattern.getSTimeBound())));
+                elements.add(SpaceElement.INSTANCE);
+                elements.add(RoundBracketOpenElement.INSTANCE);
                 elements.add(aPattern.getS());
                 elements.add(languageDefinitions.getAnd());
                 elements.add(languageDefinitions.getNot());
                 elements.add(aScope.getR());
-                elements.add(new RoundBracketCloseElement());
-                elements.add(new RoundBracketCloseElement());
-                elements.add(new RoundBracketCloseElement());
+                elements.add(RoundBracketCloseElement.INSTANCE);
+                elements.add(RoundBracketCloseElement.INSTANCE);
+                elements.add(RoundBracketCloseElement.INSTANCE);
                 elements.add(languageDefinitions.getWeakUntil());
-                elements.add(new SpaceElement());
+                elements.add(SpaceElement.INSTANCE);
                 elements.add(aScope.getR());
-                elements.add(new RoundBracketCloseElement());
-                elements.add(new RoundBracketCloseElement());
+                elements.add(RoundBracketCloseElement.INSTANCE);
+                elements.add(RoundBracketCloseElement.INSTANCE);
                 break;
         }
 
         elements.add(defaultSquareBracketClose);
 
-        return elements;
     }
 
     // Tis addressed from 0 to n-1.
 
-    private void RC1N_Ch(List<Element> elements, ChainEvents Tis, int i) {
+    private void RC1N_Ch(ElementSink elements, ChainEvents Tis, int i, MappingContext aContext) {
         if (i < Tis.size()) {
             ChainEvent Ti = Tis.getTi(i);
 
             EventConstraint lZi = Ti.getConstraint();
-            String lcntZi = lZi != null ? cnt(lZi.getEvent()) : "true";
-            boolean lHasConstraint = !lcntZi.equals("true");
+            Element lcntZi = lZi != null ? cnt(lZi.getEvent()) : new MiscElement("true");
+            boolean lHasConstraint = lZi != null;
 
             if (lHasConstraint) {
                 // with Zi
                 elements.add(languageDefinitions.getAnd());
-                elements.add(new MiscElement(lcntZi));
+                elements.add(lcntZi);
                 elements.add(languageDefinitions.getAnd());
                 elements.add(languageDefinitions.getNext());
-                elements.add(new RoundBracketOpenElement());
-                elements.add(new MiscElement(lcntZi));
+                elements.add(RoundBracketOpenElement.INSTANCE);
+                elements.add(lcntZi);
                 elements.add(languageDefinitions.getUntil());
-                elements.add(new TimeBoundElement(utb(Ti.getTimeBound())));
-                elements.add(new SpaceElement());
-                elements.add(new RoundBracketOpenElement());
+                elements.add(TimeBoundElement.of(utb(Ti.getTimeBound(), aContext)));
+                elements.add(SpaceElement.INSTANCE);
+                elements.add(RoundBracketOpenElement.INSTANCE);
                 elements.add(Ti.getEvent());
-                RC1N_Ch(elements, Tis, i + 1);
-                elements.add(new RoundBracketCloseElement());
-                elements.add(new RoundBracketCloseElement());
+                RC1N_Ch(elements, Tis, i + 1, aContext);
+                elements.add(RoundBracketCloseElement.INSTANCE);
+                elements.add(RoundBracketCloseElement.INSTANCE);
             } else {
                 // no Zi
                 elements.add(languageDefinitions.getAnd());
                 elements.add(languageDefinitions.getNext());
-                elements.add(new RoundBracketOpenElement());
+                elements.add(RoundBracketOpenElement.INSTANCE);
                 elements.add(languageDefinitions.getEventually());
-                elements.add(new TimeBoundElement(utb(Ti.getTimeBound())));
-                elements.add(new SpaceElement());
-                elements.add(new RoundBracketOpenElement());
+                elements.add(TimeBoundElement.of(utb(Ti.getTimeBound(), aContext)));
+                elements.add(SpaceElement.INSTANCE);
+                elements.add(RoundBracketOpenElement.INSTANCE);
                 elements.add(Ti.getEvent());
-                RC1N_Ch(elements, Tis, i + 1);
-                elements.add(new RoundBracketCloseElement());
-                elements.add(new RoundBracketCloseElement());
+                RC1N_Ch(elements, Tis, i + 1, aContext);
+                elements.add(RoundBracketCloseElement.INSTANCE);
+                elements.add(RoundBracketCloseElement.INSTANCE);
             }
         }
     }
 
-    private void RC1N_ChR(List<Element> elements, ChainEvents Tis, EventImpl R, int i) {
+    private void RC1N_ChR(ElementSink elements, ChainEvents Tis, EventImpl R, int i, MappingContext aContext) {
         if (i < Tis.size()) {
             ChainEvent Ti = Tis.getTi(i);
 
             EventConstraint lZi = Ti.getConstraint();
-            String lcntZi = lZi != null ? cnt(lZi.getEvent()) : "true";
-            boolean lHasConstraint = !lcntZi.equals("true");
+            Element lcntZi = lZi != null ? cnt(lZi.getEvent()) : new MiscElement("true");
+            boolean lHasConstraint = lZi != null;
 
             if (lHasConstraint) {
                 // with Zi
@@ -1993,19 +2027,24 @@ public class PrismMapper extends PrismSupport {
                 elements.add(languageDefinitions.getNot());
                 elements.add(R);
                 elements.add(languageDefinitions.getAnd());
-                elements.add(new MiscElement(lcntZi));
+                elements.add(lcntZi);
                 elements.add(languageDefinitions.getAnd());
                 elements.add(languageDefinitions.getNext());
-                elements.add(new RoundBracketOpenElement());
-                elements.add(new MiscElement(lcntZi));
+                elements.add(RoundBracketOpenElement.INSTANCE);
+                elements.add(RoundBracketOpenElement.INSTANCE);
+                elements.add(languageDefinitions.getNot());
+                elements.add(R);
+                elements.add(languageDefinitions.getAnd());
+                elements.add(lcntZi);
+                elements.add(RoundBracketCloseElement.INSTANCE);
                 elements.add(languageDefinitions.getUntil());
-                elements.add(new TimeBoundElement(utb(Ti.getTimeBound())));
-                elements.add(new SpaceElement());
-                elements.add(new RoundBracketOpenElement());
+                elements.add(TimeBoundElement.of(utb(Ti.getTimeBound(), aContext)));
+                elements.add(SpaceElement.INSTANCE);
+                elements.add(RoundBracketOpenElement.INSTANCE);
                 elements.add(Ti.getEvent());
-                RC1N_ChR(elements, Tis, R, i + 1);
-                elements.add(new RoundBracketCloseElement());
-                elements.add(new RoundBracketCloseElement());
+                RC1N_ChR(elements, Tis, R, i + 1, aContext);
+                elements.add(RoundBracketCloseElement.INSTANCE);
+                elements.add(RoundBracketCloseElement.INSTANCE);
             } else {
                 // no Zi
                 elements.add(languageDefinitions.getAnd());
@@ -2013,25 +2052,26 @@ public class PrismMapper extends PrismSupport {
                 elements.add(R);
                 elements.add(languageDefinitions.getAnd());
                 elements.add(languageDefinitions.getNext());
-                elements.add(new RoundBracketOpenElement());
-                elements.add(languageDefinitions.getEventually());
-                elements.add(new TimeBoundElement(utb(Ti.getTimeBound())));
-                elements.add(new SpaceElement());
-                elements.add(new RoundBracketOpenElement());
+                elements.add(RoundBracketOpenElement.INSTANCE);
+                elements.add(languageDefinitions.getNot());
+                elements.add(R);
+                elements.add(languageDefinitions.getUntil());
+                elements.add(TimeBoundElement.of(utb(Ti.getTimeBound(), aContext)));
+                elements.add(SpaceElement.INSTANCE);
+                elements.add(RoundBracketOpenElement.INSTANCE);
                 elements.add(Ti.getEvent());
-                RC1N_ChR(elements, Tis, R, i + 1);
-                elements.add(new RoundBracketCloseElement());
-                elements.add(new RoundBracketCloseElement());
+                RC1N_ChR(elements, Tis, R, i + 1, aContext);
+                elements.add(RoundBracketCloseElement.INSTANCE);
+                elements.add(RoundBracketCloseElement.INSTANCE);
             }
         }
     }
 
-    private List<Element> mapResponseChain1N(Scope aScope, ResponseChain1N aPattern) {
-        List<Element> elements = new ArrayList<>();
+    private void mapResponseChain1N(Scope aScope, ResponseChain1N aPattern, MappingContext aContext, ElementSink elements) {
 
         EventConstraint lZS = aPattern.getSConstraint();
-        String lcntZS = lZS != null ? cnt(lZS.getEvent()) : "true";
-        boolean lHasConstraint = !lcntZS.equals("true");
+        Element lcntZS = lZS != null ? cnt(lZS.getEvent()) : new MiscElement("true");
+        boolean lHasConstraint = lZS != null;
 
         elements.add(new ProbabilityBoundElement(prop(aPattern.getProbabilityBound())));
         elements.add(defaultSquareBracketOpen);
@@ -2039,284 +2079,326 @@ public class PrismMapper extends PrismSupport {
         switch (aScope.getType()) {
             case PSPConstants.S_Globally:
                 elements.add(languageDefinitions.getAlways());
-                elements.add(new RoundBracketOpenElement());
+                elements.add(RoundBracketOpenElement.INSTANCE);
                 elements.add(aPattern.getP());
                 elements.add(languageDefinitions.getImplication());
-                elements.add(new RoundBracketOpenElement());
+                elements.add(RoundBracketOpenElement.INSTANCE);
                 if (lHasConstraint) {
-                    elements.add(new MiscElement(lcntZS));
+                    elements.add(lcntZS);
                     elements.add(languageDefinitions.getUntil());
                 } else {
                     elements.add(languageDefinitions.getEventually());
                 }
-                elements.add(new TimeBoundElement(umintime(aPattern.getSTimeBound())));
-                elements.add(new SpaceElement());
-                elements.add(new RoundBracketOpenElement());
+                elements.add(TimeBoundElement.of(umintime(aPattern.getSTimeBound())));
+                elements.add(SpaceElement.INSTANCE);
+                elements.add(RoundBracketOpenElement.INSTANCE);
                 elements.add(aPattern.getS());
-                RC1N_Ch(elements, aPattern.getTis(), 0);
-                elements.add(new RoundBracketCloseElement());
-                elements.add(new RoundBracketCloseElement());
-                elements.add(new RoundBracketCloseElement());
+                RC1N_Ch(elements, aPattern.getTis(), 0, aContext);
+                elements.add(RoundBracketCloseElement.INSTANCE);
+                elements.add(RoundBracketCloseElement.INSTANCE);
+                elements.add(RoundBracketCloseElement.INSTANCE);
                 break;
             case PSPConstants.S_BeforeR:
+                elements.add(RoundBracketOpenElement.INSTANCE);
                 elements.add(languageDefinitions.getEventually());
                 elements.add(aScope.getR());
+                elements.add(RoundBracketCloseElement.INSTANCE);
                 elements.add(languageDefinitions.getImplication());
-                elements.add(new RoundBracketOpenElement());
+                elements.add(RoundBracketOpenElement.INSTANCE);
+                elements.add(RoundBracketOpenElement.INSTANCE);
                 elements.add(aPattern.getP());
                 elements.add(languageDefinitions.getImplication());
-                elements.add(new RoundBracketOpenElement());
+                elements.add(RoundBracketOpenElement.INSTANCE);
                 if (lHasConstraint) {
-                    elements.add(new RoundBracketOpenElement());
+                    elements.add(RoundBracketOpenElement.INSTANCE);
                     elements.add(languageDefinitions.getNot());
                     elements.add(aScope.getR());
                     elements.add(languageDefinitions.getAnd());
-                    elements.add(new MiscElement(lcntZS));
-                    elements.add(new RoundBracketCloseElement());
+                    elements.add(lcntZS);
+                    elements.add(RoundBracketCloseElement.INSTANCE);
                 } else {
                     elements.add(languageDefinitions.getNot());
                     elements.add(aScope.getR());
                 }
                 elements.add(languageDefinitions.getUntil());
-                elements.add(new TimeBoundElement(umintime(aPattern.getSTimeBound())));
-                elements.add(new SpaceElement());
-                elements.add(new RoundBracketOpenElement());
+                elements.add(TimeBoundElement.of(umintime(aPattern.getSTimeBound())));
+                elements.add(SpaceElement.INSTANCE);
+                elements.add(RoundBracketOpenElement.INSTANCE);
                 elements.add(aPattern.getS());
-                RC1N_ChR(elements, aPattern.getTis(), aScope.getR(), 0);
-                elements.add(new RoundBracketCloseElement());
-                elements.add(new RoundBracketCloseElement());
-                elements.add(new RoundBracketCloseElement());
+                RC1N_ChR(elements, aPattern.getTis(), aScope.getR(), 0, aContext);
+                elements.add(RoundBracketCloseElement.INSTANCE);
+                elements.add(RoundBracketCloseElement.INSTANCE);
+                elements.add(RoundBracketCloseElement.INSTANCE);
                 elements.add(languageDefinitions.getUntil());
-                elements.add(new SpaceElement());
+                elements.add(SpaceElement.INSTANCE);
                 elements.add(aScope.getR());
+                elements.add(RoundBracketCloseElement.INSTANCE);
                 break;
             case PSPConstants.S_AfterQ:
                 elements.add(languageDefinitions.getAlways());
-                elements.add(new RoundBracketOpenElement());
+                elements.add(RoundBracketOpenElement.INSTANCE);
                 elements.add(aScope.getQ());
                 elements.add(languageDefinitions.getImplication());
                 elements.add(languageDefinitions.getAlways());
-                elements.add(new RoundBracketOpenElement());
+                elements.add(RoundBracketOpenElement.INSTANCE);
                 elements.add(aPattern.getP());
                 elements.add(languageDefinitions.getImplication());
-                elements.add(new RoundBracketOpenElement());
+                elements.add(RoundBracketOpenElement.INSTANCE);
                 if (lHasConstraint) {
-                    elements.add(new MiscElement(lcntZS));
+                    elements.add(lcntZS);
                     elements.add(languageDefinitions.getUntil());
                 } else {
                     elements.add(languageDefinitions.getEventually());
                 }
-                elements.add(new TimeBoundElement(umintime(aPattern.getSTimeBound())));
-                elements.add(new SpaceElement());
-                elements.add(new RoundBracketOpenElement());
+                elements.add(TimeBoundElement.of(umintime(aPattern.getSTimeBound())));
+                elements.add(SpaceElement.INSTANCE);
+                elements.add(RoundBracketOpenElement.INSTANCE);
                 elements.add(aPattern.getS());
-                RC1N_Ch(elements, aPattern.getTis(), 0);
-                elements.add(new RoundBracketCloseElement());
-                elements.add(new RoundBracketCloseElement());
-                elements.add(new RoundBracketCloseElement());
-                elements.add(new RoundBracketCloseElement());
+                RC1N_Ch(elements, aPattern.getTis(), 0, aContext);
+                elements.add(RoundBracketCloseElement.INSTANCE);
+                elements.add(RoundBracketCloseElement.INSTANCE);
+                elements.add(RoundBracketCloseElement.INSTANCE);
+                elements.add(RoundBracketCloseElement.INSTANCE);
                 break;
             case PSPConstants.S_BetweenQandR:
                 elements.add(languageDefinitions.getAlways());
-                elements.add(new RoundBracketOpenElement());
-                elements.add(new RoundBracketOpenElement());
+                elements.add(RoundBracketOpenElement.INSTANCE);
+                elements.add(RoundBracketOpenElement.INSTANCE);
                 elements.add(aScope.getQ());
                 elements.add(languageDefinitions.getAnd());
                 elements.add(languageDefinitions.getEventually());
                 elements.add(aScope.getR());
-                elements.add(new RoundBracketCloseElement());
+                elements.add(RoundBracketCloseElement.INSTANCE);
                 elements.add(languageDefinitions.getImplication());
-                elements.add(new RoundBracketOpenElement());
+                elements.add(RoundBracketOpenElement.INSTANCE);
+                elements.add(RoundBracketOpenElement.INSTANCE);
                 elements.add(aPattern.getP());
                 elements.add(languageDefinitions.getImplication());
-                elements.add(new RoundBracketOpenElement());
+                elements.add(RoundBracketOpenElement.INSTANCE);
                 if (lHasConstraint) {
-                    elements.add(new RoundBracketOpenElement());
+                    elements.add(RoundBracketOpenElement.INSTANCE);
                     elements.add(languageDefinitions.getNot());
                     elements.add(aScope.getR());
                     elements.add(languageDefinitions.getAnd());
-                    elements.add(new MiscElement(lcntZS));
-                    elements.add(new RoundBracketCloseElement());
+                    elements.add(lcntZS);
+                    elements.add(RoundBracketCloseElement.INSTANCE);
                 } else {
                     elements.add(languageDefinitions.getNot());
                     elements.add(aScope.getR());
                 }
                 elements.add(languageDefinitions.getUntil());
-                elements.add(new TimeBoundElement(umintime(aPattern.getSTimeBound())));
-                elements.add(new SpaceElement());
-                elements.add(new RoundBracketOpenElement());
+                elements.add(TimeBoundElement.of(umintime(aPattern.getSTimeBound())));
+                elements.add(SpaceElement.INSTANCE);
+                elements.add(RoundBracketOpenElement.INSTANCE);
                 elements.add(aPattern.getS());
-                RC1N_ChR(elements, aPattern.getTis(), aScope.getR(), 0);
-                elements.add(new RoundBracketCloseElement());
-                elements.add(new RoundBracketCloseElement());
-                elements.add(new RoundBracketCloseElement());
+                RC1N_ChR(elements, aPattern.getTis(), aScope.getR(), 0, aContext);
+                elements.add(RoundBracketCloseElement.INSTANCE);
+                elements.add(RoundBracketCloseElement.INSTANCE);
+                elements.add(RoundBracketCloseElement.INSTANCE);
                 elements.add(languageDefinitions.getUntil());
-                elements.add(new SpaceElement());
+                elements.add(SpaceElement.INSTANCE);
                 elements.add(aScope.getR());
-                elements.add(new RoundBracketCloseElement());
+                elements.add(RoundBracketCloseElement.INSTANCE);
+                elements.add(RoundBracketCloseElement.INSTANCE);
                 break;
             case PSPConstants.S_AfterQuntilR:
                 elements.add(languageDefinitions.getAlways());
-                elements.add(new RoundBracketOpenElement());
+                elements.add(RoundBracketOpenElement.INSTANCE);
                 elements.add(aScope.getQ());
                 elements.add(languageDefinitions.getImplication());
-                elements.add(new RoundBracketOpenElement());
+                elements.add(RoundBracketOpenElement.INSTANCE);
+                elements.add(RoundBracketOpenElement.INSTANCE);
                 elements.add(aPattern.getP());
                 elements.add(languageDefinitions.getImplication());
-                elements.add(new RoundBracketOpenElement());
+                elements.add(RoundBracketOpenElement.INSTANCE);
                 if (lHasConstraint) {
-                    elements.add(new RoundBracketOpenElement());
+                    elements.add(RoundBracketOpenElement.INSTANCE);
                     elements.add(languageDefinitions.getNot());
                     elements.add(aScope.getR());
                     elements.add(languageDefinitions.getAnd());
-                    elements.add(new MiscElement(lcntZS));
-                    elements.add(new RoundBracketCloseElement());
+                    elements.add(lcntZS);
+                    elements.add(RoundBracketCloseElement.INSTANCE);
                 } else {
                     elements.add(languageDefinitions.getNot());
                     elements.add(aScope.getR());
                 }
                 elements.add(languageDefinitions.getUntil());
-                elements.add(new TimeBoundElement(umintime(aPattern.getSTimeBound())));
-                elements.add(new SpaceElement());
-                elements.add(new RoundBracketOpenElement());
+                elements.add(TimeBoundElement.of(umintime(aPattern.getSTimeBound())));
+                elements.add(SpaceElement.INSTANCE);
+                elements.add(RoundBracketOpenElement.INSTANCE);
                 elements.add(aPattern.getS());
-                RC1N_ChR(elements, aPattern.getTis(), aScope.getR(), 0);
-                elements.add(new RoundBracketCloseElement());
-                elements.add(new RoundBracketCloseElement());
-                elements.add(new RoundBracketCloseElement());
+                RC1N_ChR(elements, aPattern.getTis(), aScope.getR(), 0, aContext);
+                elements.add(RoundBracketCloseElement.INSTANCE);
+                elements.add(RoundBracketCloseElement.INSTANCE);
+                elements.add(RoundBracketCloseElement.INSTANCE);
                 elements.add(languageDefinitions.getWeakUntil());
-                elements.add(new SpaceElement());
+                elements.add(SpaceElement.INSTANCE);
                 elements.add(aScope.getR());
-                elements.add(new RoundBracketCloseElement());
+                elements.add(RoundBracketCloseElement.INSTANCE);
+                elements.add(RoundBracketCloseElement.INSTANCE);
                 break;
         }
 
         elements.add(defaultSquareBracketClose);
 
-        return elements;
     }
 
     // Tis addressed from 0 to n-1.
 
-    private void RCN1_Ch(List<Element> elements, ResponseChainN1 aPattern, int i) {
+    private void RCN1_Ch(ElementSink elements, ResponseChainN1 aPattern, int i, boolean aWithP,
+        MappingContext aContext) {
         ChainEvents Tis = aPattern.getTis();
 
         if (i < Tis.size()) {
             ChainEvent Ti = Tis.getTi(i);
 
             EventConstraint lZi = Ti.getConstraint();
-            String lcntZi = lZi != null ? cnt(lZi.getEvent()) : "true";
+            Element lcntZi = lZi != null ? cnt(lZi.getEvent()) : new MiscElement("true");
 
-            if (lcntZi.equals("true")) {
+            if (lZi == null) {
                 // no Zi
                 elements.add(languageDefinitions.getAnd());
                 elements.add(languageDefinitions.getNext());
-                elements.add(new RoundBracketOpenElement());
+                elements.add(RoundBracketOpenElement.INSTANCE);
                 elements.add(languageDefinitions.getEventually());
-                elements.add(new TimeBoundElement(utb(Ti.getTimeBound())));
-                elements.add(new SpaceElement());
-                elements.add(new RoundBracketOpenElement());
+                elements.add(TimeBoundElement.of(utb(Ti.getTimeBound(), aContext)));
+                elements.add(SpaceElement.INSTANCE);
+                elements.add(RoundBracketOpenElement.INSTANCE);
                 elements.add(Ti.getEvent());
-                RCN1_Ch(elements, aPattern, i + 1);
-                elements.add(new RoundBracketCloseElement());
-                elements.add(new RoundBracketCloseElement());
+                RCN1_Ch(elements, aPattern, i + 1, aWithP, aContext);
+                elements.add(RoundBracketCloseElement.INSTANCE);
+                elements.add(RoundBracketCloseElement.INSTANCE);
             } else {
                 // with Zi
                 elements.add(languageDefinitions.getAnd());
                 elements.add(languageDefinitions.getNext());
-                elements.add(new RoundBracketOpenElement());
-                elements.add(new MiscElement(lcntZi));
+                elements.add(RoundBracketOpenElement.INSTANCE);
+                elements.add(lcntZi);
                 elements.add(languageDefinitions.getUntil());
-                elements.add(new TimeBoundElement(utb(Ti.getTimeBound())));
-                elements.add(new SpaceElement());
-                elements.add(new RoundBracketOpenElement());
+                elements.add(TimeBoundElement.of(utb(Ti.getTimeBound(), aContext)));
+                elements.add(SpaceElement.INSTANCE);
+                elements.add(RoundBracketOpenElement.INSTANCE);
                 elements.add(Ti.getEvent());
-                RCN1_Ch(elements, aPattern, i + 1);
-                elements.add(new RoundBracketCloseElement());
-                elements.add(new RoundBracketCloseElement());
+                RCN1_Ch(elements, aPattern, i + 1, aWithP, aContext);
+                elements.add(RoundBracketCloseElement.INSTANCE);
+                elements.add(RoundBracketCloseElement.INSTANCE);
             }
-        } else {
+        } else if (aWithP) {
             EventConstraint lZP = aPattern.getPConstraint();
-            String lcntZP = lZP != null ? cnt(lZP.getEvent()) : "true";
+            Element lcntZP = lZP != null ? cnt(lZP.getEvent()) : new MiscElement("true");
 
-            elements.add(languageDefinitions.getImplication());
-            if (lcntZP.equals("true")) {
+            elements.add(languageDefinitions.getAnd());
+            elements.add(RoundBracketOpenElement.INSTANCE);
+            if (lZP == null) {
                 // no Zi
                 elements.add(languageDefinitions.getEventually());
             } else {
                 // with Zi
-                elements.add(new MiscElement(lcntZP));
+                elements.add(lcntZP);
                 elements.add(languageDefinitions.getUntil());
             }
-            elements.add(new TimeBoundElement(utb(aPattern.getPTimeBound())));
-            elements.add(new SpaceElement());
+            elements.add(TimeBoundElement.of(utb(aPattern.getPTimeBound(), aContext)));
+            elements.add(SpaceElement.INSTANCE);
             elements.add(aPattern.getP());
+            elements.add(RoundBracketCloseElement.INSTANCE);
         }
     }
 
-    private void RCN1_ChR(List<Element> elements, ResponseChainN1 aPattern, EventImpl R, int i) {
+    private void RCN1_ChR(ElementSink elements, ResponseChainN1 aPattern, EventImpl R, int i, boolean aWithP,
+        MappingContext aContext) {
         ChainEvents Tis = aPattern.getTis();
 
         if (i < Tis.size()) {
             ChainEvent Ti = Tis.getTi(i);
 
             EventConstraint lZi = Ti.getConstraint();
-            String lcntZi = lZi != null ? cnt(lZi.getEvent()) : "true";
+            Element lcntZi = lZi != null ? cnt(lZi.getEvent()) : new MiscElement("true");
 
-            if (lcntZi.equals("true")) {
+            if (lZi == null) {
                 // no Zi
                 elements.add(languageDefinitions.getAnd());
                 elements.add(languageDefinitions.getNext());
-                elements.add(new RoundBracketOpenElement());
+                elements.add(RoundBracketOpenElement.INSTANCE);
                 elements.add(languageDefinitions.getNot());
                 elements.add(R);
                 elements.add(languageDefinitions.getUntil());
-                elements.add(new TimeBoundElement(utb(Ti.getTimeBound())));
-                elements.add(new SpaceElement());
-                elements.add(new RoundBracketOpenElement());
+                elements.add(TimeBoundElement.of(utb(Ti.getTimeBound(), aContext)));
+                elements.add(SpaceElement.INSTANCE);
+                elements.add(RoundBracketOpenElement.INSTANCE);
                 elements.add(Ti.getEvent());
-                RCN1_ChR(elements, aPattern, R, i + 1);
-                elements.add(new RoundBracketCloseElement());
-                elements.add(new RoundBracketCloseElement());
+                RCN1_ChR(elements, aPattern, R, i + 1, aWithP, aContext);
+                elements.add(RoundBracketCloseElement.INSTANCE);
+                elements.add(RoundBracketCloseElement.INSTANCE);
             } else {
                 // with Zi
                 elements.add(languageDefinitions.getAnd());
                 elements.add(languageDefinitions.getNext());
-                elements.add(new RoundBracketOpenElement());
+                elements.add(RoundBracketOpenElement.INSTANCE);
+                elements.add(RoundBracketOpenElement.INSTANCE);
                 elements.add(languageDefinitions.getNot());
                 elements.add(R);
                 elements.add(languageDefinitions.getAnd());
-                elements.add(new MiscElement(lcntZi));
+                elements.add(lcntZi);
+                elements.add(RoundBracketCloseElement.INSTANCE);
                 elements.add(languageDefinitions.getUntil());
-                elements.add(new TimeBoundElement(utb(Ti.getTimeBound())));
-                elements.add(new SpaceElement());
-                elements.add(new RoundBracketOpenElement());
+                elements.add(TimeBoundElement.of(utb(Ti.getTimeBound(), aContext)));
+                elements.add(SpaceElement.INSTANCE);
+                elements.add(RoundBracketOpenElement.INSTANCE);
                 elements.add(Ti.getEvent());
-                RCN1_ChR(elements, aPattern, R, i + 1);
-                elements.add(new RoundBracketCloseElement());
-                elements.add(new RoundBracketCloseElement());
+                RCN1_ChR(elements, aPattern, R, i + 1, aWithP, aContext);
+                elements.add(RoundBracketCloseElement.INSTANCE);
+                elements.add(RoundBracketCloseElement.INSTANCE);
             }
-        } else {
+        } else if (aWithP) {
             EventConstraint lZP = aPattern.getPConstraint();
-            String lcntZP = lZP != null ? cnt(lZP.getEvent()) : "true";
+            Element lcntZP = lZP != null ? cnt(lZP.getEvent()) : new MiscElement("true");
 
-            elements.add(languageDefinitions.getImplication());
-            if (lcntZP.equals("true")) {
+            elements.add(languageDefinitions.getAnd());
+            elements.add(RoundBracketOpenElement.INSTANCE);
+            if (lZP == null) {
                 // no Zi
-                elements.add(languageDefinitions.getEventually());
+                elements.add(languageDefinitions.getNot());
+                elements.add(R);
             } else {
                 // with Zi
-                elements.add(new MiscElement(lcntZP));
-                elements.add(languageDefinitions.getUntil());
+                elements.add(RoundBracketOpenElement.INSTANCE);
+                elements.add(languageDefinitions.getNot());
+                elements.add(R);
+                elements.add(languageDefinitions.getAnd());
+                elements.add(lcntZP);
+                elements.add(RoundBracketCloseElement.INSTANCE);
             }
-            elements.add(new TimeBoundElement(utb(aPattern.getPTimeBound())));
-            elements.add(new SpaceElement());
+            elements.add(languageDefinitions.getUntil());
+            elements.add(TimeBoundElement.of(utb(aPattern.getPTimeBound(), aContext)));
+            elements.add(SpaceElement.INSTANCE);
             elements.add(aPattern.getP());
+            elements.add(RoundBracketCloseElement.INSTANCE);
         }
     }
 
-    private List<Element> mapResponseChainN1(Scope aScope, ResponseChainN1 aPattern) {
-        List<Element> elements = new ArrayList<>();
+    // S followed by the chain, before R if there is one, is followed by P after the chain.
+
+    private void RCN1(ElementSink elements, ResponseChainN1 aPattern, EventImpl R, MappingContext aContext) {
+        elements.add(RoundBracketOpenElement.INSTANCE);
+        elements.add(aPattern.getS());
+        if (R == null) {
+            RCN1_Ch(elements, aPattern, 0, false, aContext);
+        } else {
+            RCN1_ChR(elements, aPattern, R, 0, false, aContext);
+        }
+        elements.add(RoundBracketCloseElement.INSTANCE);
+        elements.add(languageDefinitions.getImplication());
+        elements.add(RoundBracketOpenElement.INSTANCE);
+        elements.add(aPattern.getS());
+        if (R == null) {
+            RCN1_Ch(elements, aPattern, 0, true, aContext);
+        } else {
+            RCN1_ChR(elements, aPattern, R, 0, true, aContext);
+        }
+        elements.add(RoundBracketCloseElement.INSTANCE);
+    }
+
+    private void mapResponseChainN1(Scope aScope, ResponseChainN1 aPattern, MappingContext aContext, ElementSink elements) {
 
         elements.add(new ProbabilityBoundElement(prop(aPattern.getProbabilityBound())));
         elements.add(defaultSquareBracketOpen);
@@ -2324,41 +2406,40 @@ public class PrismMapper extends PrismSupport {
         switch (aScope.getType()) {
             case PSPConstants.S_Globally:
                 elements.add(languageDefinitions.getAlways());
-                elements.add(new RoundBracketOpenElement());
-                elements.add(aPattern.getS());
-                RCN1_Ch(elements, aPattern, 0);
-                elements.add(new RoundBracketCloseElement());
+                elements.add(RoundBracketOpenElement.INSTANCE);
+                RCN1(elements, aPattern, null, aContext);
+                elements.add(RoundBracketCloseElement.INSTANCE);
                 break;
             case PSPConstants.S_BeforeR:
+                elements.add(RoundBracketOpenElement.INSTANCE);
                 elements.add(languageDefinitions.getEventually());
                 elements.add(aScope.getR());
+                elements.add(RoundBracketCloseElement.INSTANCE);
                 elements.add(languageDefinitions.getImplication());
-                elements.add(new RoundBracketOpenElement());
-                elements.add(new RoundBracketOpenElement());
-                elements.add(aPattern.getS());
-                RCN1_ChR(elements, aPattern, aScope.getR(), 0);
-                elements.add(new RoundBracketCloseElement());
+                elements.add(RoundBracketOpenElement.INSTANCE);
+                elements.add(RoundBracketOpenElement.INSTANCE);
+                RCN1(elements, aPattern, aScope.getR(), aContext);
+                elements.add(RoundBracketCloseElement.INSTANCE);
                 elements.add(languageDefinitions.getUntil());
-                elements.add(new SpaceElement());
+                elements.add(SpaceElement.INSTANCE);
                 elements.add(aScope.getR());
-                elements.add(new RoundBracketCloseElement());
+                elements.add(RoundBracketCloseElement.INSTANCE);
                 break;
             case PSPConstants.S_AfterQ:
                 elements.add(languageDefinitions.getAlways());
-                elements.add(new RoundBracketOpenElement());
+                elements.add(RoundBracketOpenElement.INSTANCE);
                 elements.add(aScope.getQ());
                 elements.add(languageDefinitions.getImplication());
                 elements.add(languageDefinitions.getAlways());
-                elements.add(new RoundBracketOpenElement());
-                elements.add(aPattern.getS());
-                RCN1_Ch(elements, aPattern, 0);
-                elements.add(new RoundBracketCloseElement());
-                elements.add(new RoundBracketCloseElement());
+                elements.add(RoundBracketOpenElement.INSTANCE);
+                RCN1(elements, aPattern, null, aContext);
+                elements.add(RoundBracketCloseElement.INSTANCE);
+                elements.add(RoundBracketCloseElement.INSTANCE);
                 break;
             case PSPConstants.S_BetweenQandR:
                 elements.add(languageDefinitions.getAlways());
-                elements.add(new RoundBracketOpenElement());
-                elements.add(new RoundBracketOpenElement());
+                elements.add(RoundBracketOpenElement.INSTANCE);
+                elements.add(RoundBracketOpenElement.INSTANCE);
                 elements.add(aScope.getQ());
                 elements.add(languageDefinitions.getAnd());
                 elements.add(languageDefinitions.getNot());
@@ -2366,49 +2447,45 @@ public class PrismMapper extends PrismSupport {
                 elements.add(languageDefinitions.getAnd());
                 elements.add(languageDefinitions.getEventually());
                 elements.add(aScope.getR());
-                elements.add(new RoundBracketCloseElement());
+                elements.add(RoundBracketCloseElement.INSTANCE);
                 elements.add(languageDefinitions.getImplication());
-                elements.add(new RoundBracketOpenElement());
-                elements.add(new RoundBracketOpenElement());
-                elements.add(aPattern.getS());
-                RCN1_ChR(elements, aPattern, aScope.getR(), 0);
-                elements.add(new RoundBracketCloseElement());
+                elements.add(RoundBracketOpenElement.INSTANCE);
+                elements.add(RoundBracketOpenElement.INSTANCE);
+                RCN1(elements, aPattern, aScope.getR(), aContext);
+                elements.add(RoundBracketCloseElement.INSTANCE);
                 elements.add(languageDefinitions.getUntil());
-                elements.add(new SpaceElement());
+                elements.add(SpaceElement.INSTANCE);
                 elements.add(aScope.getR());
-                elements.add(new RoundBracketCloseElement());
-                elements.add(new RoundBracketCloseElement());
+                elements.add(RoundBracketCloseElement.INSTANCE);
+                elements.add(RoundBracketCloseElement.INSTANCE);
                 break;
             case PSPConstants.S_AfterQuntilR:
                 elements.add(languageDefinitions.getAlways());
-                elements.add(new RoundBracketOpenElement());
-                elements.add(new RoundBracketOpenElement());
+                elements.add(RoundBracketOpenElement.INSTANCE);
+                elements.add(RoundBracketOpenElement.INSTANCE);
                 elements.add(aScope.getQ());
                 elements.add(languageDefinitions.getAnd());
                 elements.add(languageDefinitions.getNot());
                 elements.add(aScope.getR());
-                elements.add(new RoundBracketCloseElement());
+                elements.add(RoundBracketCloseElement.INSTANCE);
                 elements.add(languageDefinitions.getImplication());
-                elements.add(new RoundBracketOpenElement());
-                elements.add(new RoundBracketOpenElement());
-                elements.add(aPattern.getS());
-                RCN1_ChR(elements, aPattern, aScope.getR(), 0);
-                elements.add(new RoundBracketCloseElement());
+                elements.add(RoundBracketOpenElement.INSTANCE);
+                elements.add(RoundBracketOpenElement.INSTANCE);
+                RCN1(elements, aPattern, aScope.getR(), aContext);
+                elements.add(RoundBracketCloseElement.INSTANCE);
                 elements.add(languageDefinitions.getWeakUntil());
-                elements.add(new SpaceElement());
+                elements.add(SpaceElement.INSTANCE);
                 elements.add(aScope.getR());
-                elements.add(new RoundBracketCloseElement());
-                elements.add(new RoundBracketCloseElement());
+                elements.add(RoundBracketCloseElement.INSTANCE);
+                elements.add(RoundBracketCloseElement.INSTANCE);
                 break;
         }
 
         elements.add(defaultSquareBracketClose);
 
-        return elements;
     }
 
-    private List<Element> mapResponseInvariance(Scope aScope, ResponseInvariance aPattern) {
-        List<Element> elements = new ArrayList<>();
+    private void mapResponseInvariance(Scope aScope, ResponseInvariance aPattern, MappingContext aContext, ElementSink elements) {
 
         elements.add(new ProbabilityBoundElement(prop(aPattern.getProbabilityBound())));
         elements.add(defaultSquareBracketOpen);
@@ -2416,151 +2493,127 @@ public class PrismMapper extends PrismSupport {
         switch (aScope.getType()) {
             case PSPConstants.S_Globally:
                 elements.add(languageDefinitions.getAlways());
-                elements.add(new RoundBracketOpenElement());
+                elements.add(RoundBracketOpenElement.INSTANCE);
                 elements.add(aPattern.getP());
                 elements.add(languageDefinitions.getImplication());
                 elements.add(languageDefinitions.getAlways());
-                elements.add(new TimeBoundElement(time(aPattern.getSTimeBound())));
-                elements.add(new SpaceElement());
+                elements.add(TimeBoundElement.of(time(aPattern.getSTimeBound())));
+                elements.add(SpaceElement.INSTANCE);
                 elements.add(aPattern.getS());
-                elements.add(new RoundBracketCloseElement());
+                elements.add(RoundBracketCloseElement.INSTANCE);
                 break;
             case PSPConstants.S_BeforeR:
+                elements.add(RoundBracketOpenElement.INSTANCE);
                 elements.add(languageDefinitions.getEventually());
-                elements.add(new TimeBoundElement(lmintime(aPattern.getSTimeBound())));
+                elements.add(TimeBoundElement.of(lmintime(aPattern.getSTimeBound())));
                 elements.add(aScope.getR());
+                elements.add(RoundBracketCloseElement.INSTANCE);
                 elements.add(languageDefinitions.getImplication());
-                elements.add(new RoundBracketOpenElement());
-                elements.add(new RoundBracketOpenElement());
+                elements.add(RoundBracketOpenElement.INSTANCE);
+                elements.add(RoundBracketOpenElement.INSTANCE);
                 elements.add(aPattern.getP());
                 elements.add(languageDefinitions.getImplication());
-                elements.add(new RoundBracketOpenElement());
+                elements.add(RoundBracketOpenElement.INSTANCE);
                 elements.add(languageDefinitions.getAlways());
-                elements.add(new TimeBoundElement(time(aPattern.getSTimeBound())));
-                elements.add(new SpaceElement());
-                elements.add(new RoundBracketOpenElement());
+                elements.add(TimeBoundElement.of(time(aPattern.getSTimeBound())));
+                elements.add(SpaceElement.INSTANCE);
+                elements.add(RoundBracketOpenElement.INSTANCE);
                 elements.add(aPattern.getS());
                 elements.add(languageDefinitions.getAnd());
                 elements.add(languageDefinitions.getNot());
                 elements.add(aScope.getR());
-                elements.add(new RoundBracketCloseElement());
-                elements.add(new RoundBracketCloseElement());
-                elements.add(new RoundBracketCloseElement());
+                elements.add(RoundBracketCloseElement.INSTANCE);
+                elements.add(RoundBracketCloseElement.INSTANCE);
+                elements.add(RoundBracketCloseElement.INSTANCE);
                 elements.add(languageDefinitions.getUntil());
-                elements.add(new SpaceElement());
+                elements.add(SpaceElement.INSTANCE);
                 elements.add(aScope.getR());
-                elements.add(new RoundBracketCloseElement());
+                elements.add(RoundBracketCloseElement.INSTANCE);
                 break;
             case PSPConstants.S_AfterQ:
                 elements.add(languageDefinitions.getAlways());
-                elements.add(new RoundBracketOpenElement());
+                elements.add(RoundBracketOpenElement.INSTANCE);
                 elements.add(aScope.getQ());
                 elements.add(languageDefinitions.getImplication());
                 elements.add(languageDefinitions.getAlways());
-                elements.add(new RoundBracketOpenElement());
+                elements.add(RoundBracketOpenElement.INSTANCE);
                 elements.add(aPattern.getP());
                 elements.add(languageDefinitions.getImplication());
                 elements.add(languageDefinitions.getAlways());
-                elements.add(new TimeBoundElement(time(aPattern.getSTimeBound())));
-                elements.add(new SpaceElement());
+                elements.add(TimeBoundElement.of(time(aPattern.getSTimeBound())));
+                elements.add(SpaceElement.INSTANCE);
                 elements.add(aPattern.getS());
-                elements.add(new RoundBracketCloseElement());
-                elements.add(new RoundBracketCloseElement());
+                elements.add(RoundBracketCloseElement.INSTANCE);
+                elements.add(RoundBracketCloseElement.INSTANCE);
                 break;
             case PSPConstants.S_BetweenQandR:
                 elements.add(languageDefinitions.getAlways());
-                elements.add(new RoundBracketOpenElement());
-                elements.add(new RoundBracketOpenElement());
+                elements.add(RoundBracketOpenElement.INSTANCE);
+                elements.add(RoundBracketOpenElement.INSTANCE);
                 elements.add(aScope.getQ());
                 elements.add(languageDefinitions.getAnd());
-                elements.add(languageDefinitions.getAlways());
-                elements.add(new TimeBoundElement(umintime(aPattern.getSTimeBound())));
-                elements.add(new SpaceElement());
-                elements.add(languageDefinitions.getNot());
-                elements.add(aScope.getR());
+                notR(elements, aScope, aPattern.getSTimeBound());
                 elements.add(languageDefinitions.getAnd());
                 elements.add(languageDefinitions.getEventually());
-                elements.add(new TimeBoundElement(lmintime(aPattern.getSTimeBound())));
-                elements.add(new SpaceElement());
+                elements.add(TimeBoundElement.of(lmintime(aPattern.getSTimeBound())));
+                elements.add(SpaceElement.INSTANCE);
                 elements.add(aScope.getR());
-                elements.add(new RoundBracketCloseElement());
+                elements.add(RoundBracketCloseElement.INSTANCE);
                 elements.add(languageDefinitions.getImplication());
-                elements.add(new RoundBracketOpenElement());
+                elements.add(RoundBracketOpenElement.INSTANCE);
+                elements.add(RoundBracketOpenElement.INSTANCE);
                 elements.add(aPattern.getP());
                 elements.add(languageDefinitions.getImplication());
-                elements.add(new RoundBracketOpenElement());
+                elements.add(RoundBracketOpenElement.INSTANCE);
                 elements.add(languageDefinitions.getAlways());
-                elements.add(new TimeBoundElement(time(aPattern.getSTimeBound())));
-                elements.add(new SpaceElement());
-                elements.add(new RoundBracketOpenElement());
+                elements.add(TimeBoundElement.of(time(aPattern.getSTimeBound())));
+                elements.add(SpaceElement.INSTANCE);
+                elements.add(RoundBracketOpenElement.INSTANCE);
                 elements.add(aPattern.getS());
                 elements.add(languageDefinitions.getAnd());
                 elements.add(languageDefinitions.getNot());
                 elements.add(aScope.getR());
-                elements.add(new RoundBracketCloseElement());
-                elements.add(new RoundBracketCloseElement());
-                elements.add(new RoundBracketCloseElement());
+                elements.add(RoundBracketCloseElement.INSTANCE);
+                elements.add(RoundBracketCloseElement.INSTANCE);
+                elements.add(RoundBracketCloseElement.INSTANCE);
                 elements.add(languageDefinitions.getUntil());
-                elements.add(new SpaceElement());
+                elements.add(SpaceElement.INSTANCE);
                 elements.add(aScope.getR());
-                elements.add(new RoundBracketCloseElement());
+                elements.add(RoundBracketCloseElement.INSTANCE);
+                elements.add(RoundBracketCloseElement.INSTANCE);
                 break;
             case PSPConstants.S_AfterQuntilR:
                 elements.add(languageDefinitions.getAlways());
-                elements.add(new RoundBracketOpenElement());
-                elements.add(new RoundBracketOpenElement());
+                elements.add(RoundBracketOpenElement.INSTANCE);
+                elements.add(RoundBracketOpenElement.INSTANCE);
                 elements.add(aScope.getQ());
                 elements.add(languageDefinitions.getAnd());
-                elements.add(languageDefinitions.getAlways());
-                elements.add(new TimeBoundElement(umintime(aPattern.getSTimeBound())));
-                elements.add(new SpaceElement());
-                elements.add(languageDefinitions.getNot());
-                elements.add(aScope.getR());
-                elements.add(new RoundBracketCloseElement());
+                notR(elements, aScope, aPattern.getSTimeBound());
+                elements.add(RoundBracketCloseElement.INSTANCE);
                 elements.add(languageDefinitions.getImplication());
-                elements.add(new RoundBracketOpenElement());
-                elements.add(new RoundBracketOpenElement());
+                elements.add(RoundBracketOpenElement.INSTANCE);
+                elements.add(RoundBracketOpenElement.INSTANCE);
                 elements.add(aPattern.getP());
                 elements.add(languageDefinitions.getImplication());
                 elements.add(languageDefinitions.getAlways());
-                elements.add(new TimeBoundElement(time(aPattern.getSTimeBound())));
-                elements.add(new SpaceElement());
-                elements.add(new RoundBracketOpenElement());
+                elements.add(TimeBoundElement.of(time(aPattern.getSTimeBound())));
+                elements.add(SpaceElement.INSTANCE);
+                elements.add(RoundBracketOpenElement.INSTANCE);
                 elements.add(aPattern.getS());
                 elements.add(languageDefinitions.getAnd());
                 elements.add(languageDefinitions.getNot());
                 elements.add(aScope.getR());
-                elements.add(new RoundBracketCloseElement());
-                elements.add(new RoundBracketCloseElement());
-                elements.add(new RoundBracketCloseElement());
+                elements.add(RoundBracketCloseElement.INSTANCE);
+                elements.add(RoundBracketCloseElement.INSTANCE);
                 elements.add(languageDefinitions.getWeakUntil());
-                elements.add(new SpaceElement());
+                elements.add(SpaceElement.INSTANCE);
                 elements.add(aScope.getR());
-                elements.add(new RoundBracketCloseElement());
-                elements.add(new RoundBracketCloseElement());
+                elements.add(RoundBracketCloseElement.INSTANCE);
+                elements.add(RoundBracketCloseElement.INSTANCE);
                 break;
         }
 
         elements.add(defaultSquareBracketClose);
 
-        return elements;
-    }
-
-    private static final class SquareBracketsOpenElement implements Structure {
-
-        @Override
-        public String getContent() {
-            return "[ ";
-        }
-
-    }
-
-    private static final class SquareBracketsCloseElement implements Structure {
-
-        @Override
-        public String getContent() {
-            return " ]";
-        }
-
     }
 }
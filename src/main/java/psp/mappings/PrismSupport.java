@@ -44,17 +44,28 @@ import psp.constraints.ProbabilityBound;
 import psp.constraints.TimeBound;
 import psp.constraints.UpperTimeBound;
 import psp.engine.PSPConstants;
+import psp.mappings.elements.Element;
+import psp.mappings.elements.Event;
+import psp.mappings.elements.MiscElement;
+import psp.mappings.elements.NegatedEventElement;
+import psp.mappings.formula.Atom;
+import psp.mappings.formula.BinaryFormula;
+import psp.mappings.formula.Formula;
+import psp.mappings.formula.FormulaReader;
+import psp.mappings.formula.Group;
+import psp.mappings.formula.Operator;
+import psp.mappings.formula.UnaryFormula;
 import psp.sel.EventImpl;
 import psp.sel.patterns.order.ChainEvent;
 import psp.sel.patterns.order.ChainEvents;
 
 public abstract class PrismSupport extends GenericMapper {
 
-    public String cnt(EventImpl aZP) {
+    public Element cnt(EventImpl aZP) {
         if (aZP != null)
-            return languageDefinitions.getNot().getContent() + aZP.getAsEvent();
+            return new NegatedEventElement(languageDefinitions.getNot(), aZP);
         else
-            return "true";
+            return new MiscElement("true");
     }
 
     public String time(TimeBound aPTimeBound) {
@@ -121,14 +132,14 @@ public abstract class PrismSupport extends GenericMapper {
         return sb.toString();
     }
 
-    public String utb(TimeBound aPTimeBound) {
+    public String utb(TimeBound aPTimeBound, MappingContext aContext) {
         StringBuilder sb = new StringBuilder();
 
         if (aPTimeBound != null) {
             String lTUP = tU(aPTimeBound);
 
             if (lTUP == null)
-                markError(); // inf makes no sense
+                aContext.markError(); // inf makes no sense
 
             sb.append("<=");
             sb.append(lTUP);
@@ -137,14 +148,14 @@ public abstract class PrismSupport extends GenericMapper {
         return sb.toString();
     }
 
-    public String trigger(Interval aPTimeBound) {
+    public String trigger(Interval aPTimeBound, MappingContext aContext) {
         String Result = "";
 
         if (aPTimeBound != null) {
             long lUP = aPTimeBound.getUpperLimit();
 
             if (lUP == Long.MAX_VALUE) {
-                markError(); // inf? makes no sense
+                aContext.markError(); // inf? makes no sense
             }
             Result = String.format("=%d", lUP);
         }
@@ -152,7 +163,7 @@ public abstract class PrismSupport extends GenericMapper {
         return Result;
     }
 
-    public String gap(Interval aPTimeBound) {
+    public String gap(Interval aPTimeBound, MappingContext aContext) {
         String Result = "";
 
         if (aPTimeBound != null) {
@@ -165,7 +176,7 @@ public abstract class PrismSupport extends GenericMapper {
                 long lDelta = lUP - lLP;
 
                 if (lDelta < 0)
-                    markError(); // negative gap
+                    aContext.markError(); // negative gap
 
                 Result = String.format("<=%d", lDelta);
             }
@@ -189,7 +200,7 @@ public abstract class PrismSupport extends GenericMapper {
         return Result;
     }
 
-    public String maxgap(Interval aPTimeBound) {
+    public String maxgap(Interval aPTimeBound, MappingContext aContext) {
         String Result = "";
 
         if (aPTimeBound != null) {
@@ -197,13 +208,13 @@ public abstract class PrismSupport extends GenericMapper {
             long lLP = ((Interval) aPTimeBound).getLowerLimit();
 
             if (lUP == Long.MAX_VALUE) {
-                markError();
+                aContext.markError();
                 Result = String.format("<=%d", lUP); // inf - x = inf
             } else {
                 long lDelta = lUP - lLP;
 
                 if (lDelta < 0)
-                    markError(); // negative gap?
+                    aContext.markError(); // negative gap?
 
                 Result = String.format("<=%d", lDelta);
             }
@@ -277,7 +288,7 @@ public abstract class PrismSupport extends GenericMapper {
         return Result; // "" if some time component is missing
     }
 
-    public String gapPN(int n, ChainEvents Tis, Interval aPTimeBound) {
+    public String gapPN(int n, ChainEvents Tis, Interval aPTimeBound, MappingContext aContext) {
         String Result = "";
 
         long lTUTis = sumTis(Tis, n);
@@ -286,16 +297,16 @@ public abstract class PrismSupport extends GenericMapper {
             long lTUP = aPTimeBound.getUpperLimit() - aPTimeBound.getLowerLimit();
 
             if (lTUP < 0)
-                markError();
+                aContext.markError();
 
             if (lTUP != 0) {
                 if (lTUTis == Long.MAX_VALUE)
-                    markError();
+                    aContext.markError();
                 else {
                     lTUP -= lTUTis; // could lead to overflow
 
                     if (lTUP < 0)
-                        markError();
+                        aContext.markError();
                 }
             }
 
@@ -413,6 +424,55 @@ public abstract class PrismSupport extends GenericMapper {
         return sb.toString();
     }
 
+    @Override
+    protected FormulaReader.Grammar getGrammar() {
+        return FormulaReader.Grammar.PRISM;
+    }
+
+    /**
+     * Prism {@code formula} declarations are expanded within state formulas, so only groups without temporal or
+     * probabilistic operators can be defined.
+     */
+    @Override
+    protected boolean isDefinable(Group aGroup) {
+        return isStateFormula(aGroup);
+    }
+
+    private static boolean isStateFormula(Formula aFormula) {
+        if (aFormula instanceof Atom) {
+            final Element element = ((Atom) aFormula).getElement();
+            return element instanceof Event || element.getClass() == MiscElement.class
+                && ("true".equals(((MiscElement) element).getContent())
+                    || "false".equals(((MiscElement) element).getContent()));
+        }
+        if (aFormula instanceof UnaryFormula) {
+            final UnaryFormula unary = (UnaryFormula) aFormula;
+            return unary.getOperator() == Operator.NOT && isStateFormula(unary.getOperand());
+        }
+        if (aFormula instanceof BinaryFormula) {
+            final BinaryFormula binary = (BinaryFormula) aFormula;
+            switch (binary.getOperator()) {
+                case AND:
+                case OR:
+                case IMPLIES:
+                    return isStateFormula(binary.getLeft()) && isStateFormula(binary.getRight());
+                default:
+                    return false;
+            }
+        }
+        if (aFormula instanceof Group) {
+            final Group group = (Group) aFormula;
+            return group.getBracket() == Group.Bracket.ROUND && group.isClosed()
+                && isStateFormula(group.getOperand());
+        }
+        return false;
+    }
+
+    @Override
+    protected String renderDefinition(String aName, String aBody) {
+        return "formula " + aName + " = " + aBody + ";";
+    }
+
     public String getNotSupportedMessage() {
         return "Mapping not supported for Prism Property Specification.";
     }
@@ -38,11 +38,10 @@
 
 package psp.mappings;
 
-import java.util.ArrayList;
-import java.util.List;
-
 import psp.mappings.elements.Element;
+import psp.mappings.elements.ElementSink;
 import psp.mappings.elements.MiscElement;
+import psp.sel.RenderingContext;
 import psp.sel.patterns.Pattern;
 import psp.sel.scopes.Scope;
 
@@ -64,18 +63,29 @@ public class SELMapper extends GenericMapper {
     }
 
     @Override
-    public  List<Element> mapToElements(Scope aScope, Pattern aPattern) {
-        //StringBuilder sb = new StringBuilder();
-        List<Element> elements = new ArrayList();
-        
+    protected void emitElements(Scope aScope, Pattern aPattern, MappingContext aContext, ElementSink elements) {
         if (aScope != null && aPattern != null) {
-            elements.add(new MiscElement(aScope.getSpecificationAsSEL()));
+            elements.add(new Element() {
+                public String getContent() {
+                    return aScope.getSpecificationAsSEL();
+                }
+
+                public String getContent(RenderingContext aContext) {
+                    return aScope.getSpecificationAsSEL(aContext);
+                }
+            });
             elements.add(new MiscElement(", "));
-            elements.add(new MiscElement(aPattern.getSpecificationAsSEL()));
+            elements.add(new Element() {
+                public String getContent() {
+                    return aPattern.getSpecificationAsSEL();
+                }
+
+                public String getContent(RenderingContext aContext) {
+                    return aPattern.getSpecificationAsSEL(aContext);
+                }
+            });
             elements.add(new MiscElement("."));
         }
-
-        return elements;
     }
 
     public String getNotSupportedMessage() {
@@ -0,0 +1,106 @@
+package psp.mappings;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.LongAdder;
+
+import psp.sel.RenderingContext;
+import psp.sel.patterns.Pattern;
+import psp.sel.scopes.Scope;
+
+/**
+ * Maps scopes and patterns by filling in precompiled templates. The first mapping of a {@link MappingShape}
+ * compiles the elements of the mapper into a {@link MappingTemplate}; later mappings of the same shape only
+ * render the template with their own events, without running the mapper. The results are the same as those of
+ * {@link GenericMapper#map(Scope, Pattern, List)}, which remains the reference.
+ * <p>
+ * Mappers with formatters are always run, as formatters rewrite the whole mapping, events included. So are
+ * shapes whose mapping fails. Like the {@link MappingCache}, the engine keeps a bounded number of templates,
+ * compares mappers by identity and is safe for concurrent use.
+ */
+public final class TemplateMappingEngine {
+    private record Key(GenericMapper mapper, MappingShape shape) {
+    }
+
+    private final int maximumSize;
+    private final Map<Key, MappingTemplate> templates;
+    private final LongAdder compilations = new LongAdder();
+    private final LongAdder fallbacks = new LongAdder();
+
+    /**
+     * @param maximumSize the maximum number of compiled templates
+     */
+    public TemplateMappingEngine(final int maximumSize) {
+        this.maximumSize = maximumSize;
+        this.templates = new LinkedHashMap<>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(final Map.Entry<Key, MappingTemplate> eldest) {
+                return size() > TemplateMappingEngine.this.maximumSize;
+            }
+        };
+    }
+
+    public MappingResult map(final GenericMapper mapper, final Scope scope, final Pattern pattern,
+        final RenderingContext rendering) {
+        return map(mapper, scope, pattern, List.of(rendering)).get(0);
+    }
+
+    public List<MappingResult> map(final GenericMapper mapper, final Scope scope, final Pattern pattern,
+        final List<RenderingContext> renderings) {
+        final MappingShape shape = mapper.hasFormatters() ? null : MappingShape.of(scope, pattern);
+        final MappingTemplate template = shape == null ? MappingTemplate.UNCOMPILABLE : template(mapper, scope,
+            pattern, shape);
+        if (template == MappingTemplate.UNCOMPILABLE) {
+            fallbacks.increment();
+            return mapper.map(scope, pattern, renderings);
+        }
+
+        final List<MappingResult> results = new ArrayList<>(renderings.size());
+        for (final RenderingContext rendering : renderings) {
+            results.add(new MappingResult(template.render(shape.getEvents(), rendering),
+                template.hasMappingErrorOccurred()));
+        }
+        return results;
+    }
+
+    private MappingTemplate template(final GenericMapper mapper, final Scope scope, final Pattern pattern,
+        final MappingShape shape) {
+        final Key key = new Key(mapper, shape);
+        MappingTemplate template;
+        synchronized (templates) {
+            template = templates.get(key);
+        }
+        if (template == null) {
+            compilations.increment();
+            final MappingContext context = new MappingContext();
+            template = MappingTemplate.compile(mapper.mapToProcessedElements(scope, pattern, context),
+                shape.getEvents(), context.hasMappingErrorOccurred());
+            synchronized (templates) {
+                templates.put(key, template);
+            }
+        }
+        return template;
+    }
+
+    public int size() {
+        synchronized (templates) {
+            return templates.size();
+        }
+    }
+
+    /**
+     * @return the number of templates compiled, including those of shapes that cannot be compiled
+     */
+    public long getCompilationCount() {
+        return compilations.sum();
+    }
+
+    /**
+     * @return the number of mappings the mapper had to produce itself
+     */
+    public long getFallbackCount() {
+        return fallbacks.sum();
+    }
+}
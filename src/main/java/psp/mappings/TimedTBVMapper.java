@@ -1,5 +1,7 @@
 package psp.mappings;
 
+import java.util.List;
+
 import psp.mappings.elements.AlwaysElement;
 import psp.mappings.elements.AndElement;
 import psp.mappings.elements.EventuallyElement;
@@ -26,13 +28,16 @@ public class TimedTBVMapper extends MTLMapper {
     private static final LanguageDefinitions TBV_LANGUAGE_DEFINITION = new LanguageDefinitions(defaultInf,
         defaultAlways, defaultEventually, defaultNext, defaultImplication, defaultNot, defaultAnd, defaultOr,
         defaultUntil, defaultWeakUntil);
+    private static final MTLMapper FAMILY_MAPPER = new MTLMapper();
 
     public TimedTBVMapper() {
-        super();
-        this.setLanguageDefinitions(TBV_LANGUAGE_DEFINITION);
-        this.setTimeLanguageDefinitions(new TimeLanguageDefinitions("[", "]", "[", "]"));
-        this.register(new WeakUntilSubstituter(TBV_LANGUAGE_DEFINITION));
-        this.register(new MultipleWhiteSpaceReplacer());
+        super(TBV_LANGUAGE_DEFINITION, new TimeLanguageDefinitions("[", "]", "[", "]"),
+            List.of(new WeakUntilSubstituter(TBV_LANGUAGE_DEFINITION)), List.of(new MultipleWhiteSpaceReplacer()));
+    }
+
+    @Override
+    protected GenericMapper getFamilyMapper() {
+        return FAMILY_MAPPER;
     }
 
     public String toString() {
@@ -1,5 +1,7 @@
 package psp.mappings;
 
+import java.util.List;
+
 import psp.mappings.elements.AlwaysElement;
 import psp.mappings.elements.AndElement;
 import psp.mappings.elements.EventuallyElement;
@@ -26,12 +28,16 @@ public class UntimedTBVMapper extends LTLMapper {
     private static final LanguageDefinitions TBV_LANGUAGE_DEFINITION = new LanguageDefinitions(defaultInf,
         defaultAlways, defaultEventually, defaultNext, defaultImplication, defaultNot, defaultAnd, defaultOr,
         defaultUntil, defaultWeakUntil);
+    private static final LTLMapper FAMILY_MAPPER = new LTLMapper();
 
     public UntimedTBVMapper() {
-        super();
-        this.setLanguageDefinitions(TBV_LANGUAGE_DEFINITION);
-        this.register(new WeakUntilSubstituter(TBV_LANGUAGE_DEFINITION));
-        this.register(new MultipleWhiteSpaceReplacer());
+        super(TBV_LANGUAGE_DEFINITION, List.of(new WeakUntilSubstituter(TBV_LANGUAGE_DEFINITION)),
+            List.of(new MultipleWhiteSpaceReplacer()));
+    }
+
+    @Override
+    protected GenericMapper getFamilyMapper() {
+        return FAMILY_MAPPER;
     }
 
     public String toString() {
@@ -1,5 +1,14 @@
 package psp.mappings.elements;
 
+import psp.sel.RenderingContext;
+
 public interface Element {
     String getContent();
+
+    /**
+     * Renders the element for the given context. Only elements referring to events depend on the context.
+     */
+    default String getContent(RenderingContext aContext) {
+        return getContent();
+    }
 }
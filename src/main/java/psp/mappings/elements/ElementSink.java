@@ -0,0 +1,10 @@
+package psp.mappings.elements;
+
+/**
+ * Receives the elements of a mapping in the order a mapper emits them. A sink either collects the elements,
+ * e.g. {@code list::add}, or renders each element as soon as it arrives.
+ */
+@FunctionalInterface
+public interface ElementSink {
+    void add(Element element);
+}
@@ -0,0 +1,36 @@
+package psp.mappings.elements;
+
+import java.util.Objects;
+
+import psp.sel.RenderingContext;
+
+/**
+ * The negation of a constraint event, e.g. {@code ¬(z)}, rendered as a single element.
+ */
+public class NegatedEventElement implements Element {
+    private final NotElement not;
+    private final Event event;
+
+    public NegatedEventElement(NotElement not, Event event) {
+        super();
+        this.not = Objects.requireNonNull(not);
+        this.event = Objects.requireNonNull(event);
+    }
+
+    public NotElement getNot() {
+        return not;
+    }
+
+    public Event getEvent() {
+        return event;
+    }
+
+    public String getContent() {
+        return not.getContent() + event.getContent();
+    }
+
+    @Override
+    public String getContent(RenderingContext aContext) {
+        return not.getContent(aContext) + event.getContent(aContext);
+    }
+}
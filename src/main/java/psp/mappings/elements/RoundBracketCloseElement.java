@@ -1,6 +1,13 @@
 package psp.mappings.elements;
 
-public class RoundBracketCloseElement implements Structure {
+/**
+ * The closing round bracket. Elements are immutable, hence all mappings share a single instance.
+ */
+public final class RoundBracketCloseElement implements Structure {
+    public static final RoundBracketCloseElement INSTANCE = new RoundBracketCloseElement();
+
+    private RoundBracketCloseElement() {
+    }
 
     @Override
     public String getContent() {
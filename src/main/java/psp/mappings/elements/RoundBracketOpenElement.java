@@ -1,6 +1,13 @@
 package psp.mappings.elements;
 
-public class RoundBracketOpenElement implements Structure {
+/**
+ * The opening round bracket. Elements are immutable, hence all mappings share a single instance.
+ */
+public final class RoundBracketOpenElement implements Structure {
+    public static final RoundBracketOpenElement INSTANCE = new RoundBracketOpenElement();
+
+    private RoundBracketOpenElement() {
+    }
 
     @Override
     public String getContent() {
@@ -1,6 +1,13 @@
 package psp.mappings.elements;
 
-public class SpaceElement implements Structure {
+/**
+ * The space. Elements are immutable, hence all mappings share a single instance.
+ */
+public final class SpaceElement implements Structure {
+    public static final SpaceElement INSTANCE = new SpaceElement();
+
+    private SpaceElement() {
+    }
 
     @Override
     public String getContent() {
@@ -0,0 +1,18 @@
+package psp.mappings.elements;
+
+/**
+ * The closing square bracket enclosing a probabilistic path formula. Elements are immutable, hence all mappings
+ * share a single instance.
+ */
+public final class SquareBracketCloseElement implements Structure {
+    public static final SquareBracketCloseElement INSTANCE = new SquareBracketCloseElement();
+
+    private SquareBracketCloseElement() {
+    }
+
+    @Override
+    public String getContent() {
+        return " ]";
+    }
+
+}
@@ -0,0 +1,18 @@
+package psp.mappings.elements;
+
+/**
+ * The opening square bracket enclosing a probabilistic path formula, e.g. {@code P>=0.9 [ F p ]}.
+ * Elements are immutable, hence all mappings share a single instance.
+ */
+public final class SquareBracketOpenElement implements Structure {
+    public static final SquareBracketOpenElement INSTANCE = new SquareBracketOpenElement();
+
+    private SquareBracketOpenElement() {
+    }
+
+    @Override
+    public String getContent() {
+        return "[ ";
+    }
+
+}
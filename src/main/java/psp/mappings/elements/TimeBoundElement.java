@@ -1,14 +1,41 @@
 package psp.mappings.elements;
 
+import java.util.Map;
 import java.util.Objects;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * A rendered time bound, e.g. {@code [2,7]}. Time bound elements are immutable and obtained through
+ * {@link #of(String)}, which shares one instance per rendered interval.
+ */
+public final class TimeBoundElement implements TemporalOperators {
+    /**
+     * Number of distinct time bounds that are shared. Time bounds are user input, the cache must not grow
+     * without limit; once it is full, further time bounds are simply not shared.
+     */
+    private static final int MAXIMUM_CACHED_TIME_BOUNDS = 4096;
+
+    private static final Map<String, TimeBoundElement> cache = new ConcurrentHashMap<>();
 
-public class TimeBoundElement implements TemporalOperators {
     private final String definition;
 
-    public TimeBoundElement(String definition) {
+    private TimeBoundElement(String definition) {
         super();
-        Objects.nonNull(definition);
-        this.definition = definition;
+        this.definition = Objects.requireNonNull(definition);
+    }
+
+    public static TimeBoundElement of(String definition) {
+        TimeBoundElement element = cache.get(definition);
+        if (element == null) {
+            element = new TimeBoundElement(definition);
+            if (cache.size() < MAXIMUM_CACHED_TIME_BOUNDS) {
+                TimeBoundElement shared = cache.putIfAbsent(definition, element);
+                if (shared != null) {
+                    element = shared;
+                }
+            }
+        }
+        return element;
     }
 
     public String getContent() {
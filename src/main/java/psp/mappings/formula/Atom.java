@@ -0,0 +1,37 @@
+package psp.mappings.formula;
+
+import psp.mappings.elements.Element;
+
+/**
+ * A leaf of a formula: an event, or any other element that is not an operator or a bracket, e.g. an error.
+ */
+public final class Atom extends Formula {
+    private final Element element;
+
+    Atom(final Element element) {
+        super(elementHash(element), 1);
+        this.element = element;
+    }
+
+    public Element getElement() {
+        return element;
+    }
+
+    @Override
+    public <R> R accept(final FormulaVisitor<R> visitor) {
+        return visitor.visitAtom(this);
+    }
+
+    @Override
+    public boolean equals(final Object obj) {
+        if (this == obj) {
+            return true;
+        }
+        return obj instanceof Atom && sameElement(element, ((Atom) obj).element);
+    }
+
+    @Override
+    public String toString() {
+        return element.getContent();
+    }
+}
@@ -0,0 +1,73 @@
+package psp.mappings.formula;
+
+import java.util.Objects;
+
+import psp.mappings.elements.Element;
+
+/**
+ * A binary operator applied to its operands, e.g. {@code p U[0,5] q}. As for {@link UnaryFormula}, the operator
+ * may carry a time bound and be followed by a space.
+ */
+public final class BinaryFormula extends Formula {
+    private final Operator operator;
+    private final Formula left;
+    private final Element bound;
+    private final boolean spaced;
+    private final Formula right;
+
+    BinaryFormula(final Operator operator, final Formula left, final Element bound, final boolean spaced,
+        final Formula right) {
+        super(Objects.hash(operator, left, elementHash(bound), spaced, right), 1 + left.size() + right.size());
+        this.operator = operator;
+        this.left = left;
+        this.bound = bound;
+        this.spaced = spaced;
+        this.right = right;
+    }
+
+    public Operator getOperator() {
+        return operator;
+    }
+
+    public Formula getLeft() {
+        return left;
+    }
+
+    /**
+     * @return the time bound of the operator, or null if it is unbounded
+     */
+    public Element getBound() {
+        return bound;
+    }
+
+    public boolean isSpaced() {
+        return spaced;
+    }
+
+    public Formula getRight() {
+        return right;
+    }
+
+    @Override
+    public <R> R accept(final FormulaVisitor<R> visitor) {
+        return visitor.visitBinary(this);
+    }
+
+    @Override
+    public boolean equals(final Object obj) {
+        if (this == obj) {
+            return true;
+        }
+        if (!(obj instanceof BinaryFormula)) {
+            return false;
+        }
+        final BinaryFormula other = (BinaryFormula) obj;
+        return hashCode() == other.hashCode() && operator == other.operator && spaced == other.spaced
+            && sameElement(bound, other.bound) && left.equals(other.left) && right.equals(other.right);
+    }
+
+    @Override
+    public String toString() {
+        return operator + (bound == null ? "" : bound.getContent()) + "(" + left + ", " + right + ")";
+    }
+}
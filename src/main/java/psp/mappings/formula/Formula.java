@@ -0,0 +1,59 @@
+package psp.mappings.formula;
+
+import java.util.Objects;
+
+import psp.mappings.elements.Element;
+import psp.sel.RenderingContext;
+
+/**
+ * An immutable node of the typed syntax tree of a mapping. Formulas are compared structurally; a
+ * {@link FormulaFactory} shares one instance per distinct subformula, so that repeated subformulas, e.g. the
+ * scope events in most mappings, are represented once. Since nodes are hash-consed, their hash code is computed
+ * once, on construction.
+ */
+public abstract class Formula {
+    private final int hash;
+    private final int size;
+
+    Formula(final int hash, final int size) {
+        this.hash = hash;
+        this.size = size;
+    }
+
+    public abstract <R> R accept(FormulaVisitor<R> visitor);
+
+    /**
+     * The number of nodes of the formula, counting a shared subformula once per occurrence, i.e. the size of the
+     * formula once it is printed.
+     */
+    public int size() {
+        return size;
+    }
+
+    @Override
+    public final int hashCode() {
+        return hash;
+    }
+
+    /**
+     * Elements of the mappers carry no notion of equality. Two elements are considered equal if they are of the
+     * same class and render alike in every context.
+     */
+    static boolean sameElement(final Element a, final Element b) {
+        if (a == b) {
+            return true;
+        }
+        if (a == null || b == null || a.getClass() != b.getClass()) {
+            return false;
+        }
+        return Objects.equals(a.getContent(RenderingContext.NAME), b.getContent(RenderingContext.NAME))
+            && Objects.equals(a.getContent(RenderingContext.SPECIFICATION), b.getContent(RenderingContext.SPECIFICATION));
+    }
+
+    static int elementHash(final Element element) {
+        if (element == null) {
+            return 0;
+        }
+        return 31 * element.getClass().hashCode() + Objects.hashCode(element.getContent(RenderingContext.NAME));
+    }
+}
@@ -0,0 +1,90 @@
+package psp.mappings.formula;
+
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import psp.mappings.elements.Element;
+
+/**
+ * Creates formulas, sharing one instance per distinct formula (hash-consing). Since subformulas are shared as
+ * well, structurally equal formulas obtained from the same factory are identical, which makes comparing them and
+ * using them as keys cheap.
+ * <p>
+ * A factory is meant for a single mapping, or a batch of mappings, and is not thread-safe. It keeps all formulas
+ * it has created.
+ */
+public class FormulaFactory {
+    private final Map<Formula, Formula> formulas = new HashMap<>();
+
+    public Atom atom(final Element element) {
+        if (element == null) {
+            throw new IllegalArgumentException("An atom requires an element");
+        }
+        return intern(new Atom(element));
+    }
+
+    public UnaryFormula unary(final Operator operator, final Element bound, final boolean spaced,
+        final Formula operand) {
+        if (!operator.isUnary()) {
+            throw new IllegalArgumentException(operator + " is not a unary operator");
+        }
+        if (operator == Operator.PROBABILITY && bound == null) {
+            throw new IllegalArgumentException("The probabilistic operator requires a probability bound");
+        }
+        return intern(new UnaryFormula(operator, bound, spaced, operand));
+    }
+
+    /**
+     * @return the operator applied to its operand, without a bound and without a space in between
+     */
+    public UnaryFormula unary(final Operator operator, final Formula operand) {
+        return unary(operator, null, false, operand);
+    }
+
+    public BinaryFormula binary(final Operator operator, final Formula left, final Element bound,
+        final boolean spaced, final Formula right) {
+        if (operator.isUnary()) {
+            throw new IllegalArgumentException(operator + " is not a binary operator");
+        }
+        return intern(new BinaryFormula(operator, left, bound, spaced, right));
+    }
+
+    /**
+     * @return the operator applied to its operands, without a bound and without a space after the operator
+     */
+    public BinaryFormula binary(final Operator operator, final Formula left, final Formula right) {
+        return binary(operator, left, null, false, right);
+    }
+
+    public Group group(final Group.Bracket bracket, final Formula operand, final boolean closed) {
+        return intern(new Group(bracket, operand, closed));
+    }
+
+    public Group group(final Formula operand) {
+        return group(Group.Bracket.ROUND, operand, true);
+    }
+
+    /**
+     * @return the single part itself, or the sequence of all parts
+     */
+    public Formula sequence(final List<Formula> parts) {
+        if (parts.size() == 1) {
+            return parts.get(0);
+        }
+        return intern(new Sequence(parts));
+    }
+
+    /**
+     * @return the number of distinct formulas created so far
+     */
+    public int size() {
+        return formulas.size();
+    }
+
+    @SuppressWarnings("unchecked")
+    private <F extends Formula> F intern(final F formula) {
+        final Formula shared = formulas.putIfAbsent(formula, formula);
+        return shared == null ? formula : (F) shared;
+    }
+}
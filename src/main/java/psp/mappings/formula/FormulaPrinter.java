@@ -0,0 +1,126 @@
+package psp.mappings.formula;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import psp.mappings.LanguageDefinitions;
+import psp.mappings.elements.Element;
+import psp.mappings.elements.ElementSink;
+import psp.mappings.elements.RoundBracketCloseElement;
+import psp.mappings.elements.RoundBracketOpenElement;
+import psp.mappings.elements.SpaceElement;
+import psp.mappings.elements.SquareBracketCloseElement;
+import psp.mappings.elements.SquareBracketOpenElement;
+import psp.sel.RenderingContext;
+
+/**
+ * Prints formulas in the syntax of a target logic, given by the operators of its {@link LanguageDefinitions}.
+ * Printing a formula read from the elements of a mapping yields the mapping again. Printers are immutable and
+ * can be shared.
+ */
+public class FormulaPrinter {
+    private final LanguageDefinitions definitions;
+
+    public FormulaPrinter(final LanguageDefinitions definitions) {
+        this.definitions = definitions;
+    }
+
+    public List<Element> toElements(final Formula formula) {
+        final List<Element> elements = new ArrayList<>(formula.size() * 2);
+        print(formula, elements::add);
+        return elements;
+    }
+
+    public String toString(final Formula formula, final RenderingContext rendering) {
+        final StringBuilder sb = new StringBuilder();
+        print(formula, element -> sb.append(element.getContent(rendering)));
+        return sb.toString();
+    }
+
+    /**
+     * Emits the elements of the formula into the sink, in order.
+     */
+    public void print(final Formula formula, final ElementSink sink) {
+        formula.accept(new Emitter(sink));
+    }
+
+    private Element operator(final Operator operator) {
+        switch (operator) {
+            case NOT:
+                return definitions.getNot();
+            case ALWAYS:
+                return definitions.getAlways();
+            case EVENTUALLY:
+                return definitions.getEventually();
+            case NEXT:
+                return definitions.getNext();
+            case IMPLIES:
+                return definitions.getImplication();
+            case OR:
+                return definitions.getOr();
+            case AND:
+                return definitions.getAnd();
+            case UNTIL:
+                return definitions.getUntil();
+            case WEAK_UNTIL:
+                return definitions.getWeakUntil();
+            default:
+                throw new IllegalArgumentException(operator + " has no operator element");
+        }
+    }
+
+    private final class Emitter implements FormulaVisitor<Void> {
+        private final ElementSink sink;
+
+        Emitter(final ElementSink sink) {
+            this.sink = sink;
+        }
+
+        public Void visitAtom(final Atom atom) {
+            sink.add(atom.getElement());
+            return null;
+        }
+
+        public Void visitUnary(final UnaryFormula formula) {
+            // the probability bound is the operator itself
+            if (formula.getOperator() != Operator.PROBABILITY) {
+                sink.add(operator(formula.getOperator()));
+            }
+            operatorSuffix(formula.getBound(), formula.isSpaced());
+            return formula.getOperand().accept(this);
+        }
+
+        public Void visitBinary(final BinaryFormula formula) {
+            formula.getLeft().accept(this);
+            sink.add(operator(formula.getOperator()));
+            operatorSuffix(formula.getBound(), formula.isSpaced());
+            return formula.getRight().accept(this);
+        }
+
+        public Void visitGroup(final Group group) {
+            final boolean round = group.getBracket() == Group.Bracket.ROUND;
+            sink.add(round ? RoundBracketOpenElement.INSTANCE : SquareBracketOpenElement.INSTANCE);
+            group.getOperand().accept(this);
+            if (group.isClosed()) {
+                sink.add(round ? RoundBracketCloseElement.INSTANCE : SquareBracketCloseElement.INSTANCE);
+            }
+            return null;
+        }
+
+        public Void visitSequence(final Sequence sequence) {
+            for (final Formula part : sequence.getParts()) {
+                part.accept(this);
+            }
+            return null;
+        }
+
+        private void operatorSuffix(final Element bound, final boolean spaced) {
+            if (bound != null) {
+                sink.add(bound);
+            }
+            if (spaced) {
+                sink.add(SpaceElement.INSTANCE);
+            }
+        }
+    }
+}
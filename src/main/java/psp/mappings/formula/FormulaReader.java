@@ -0,0 +1,259 @@
+package psp.mappings.formula;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Deque;
+import java.util.List;
+
+import psp.mappings.elements.AlwaysElement;
+import psp.mappings.elements.AndElement;
+import psp.mappings.elements.Element;
+import psp.mappings.elements.EventuallyElement;
+import psp.mappings.elements.ImplicationElement;
+import psp.mappings.elements.NegatedEventElement;
+import psp.mappings.elements.NextElement;
+import psp.mappings.elements.NotElement;
+import psp.mappings.elements.OrElement;
+import psp.mappings.elements.ProbabilityBoundElement;
+import psp.mappings.elements.RoundBracketCloseElement;
+import psp.mappings.elements.RoundBracketOpenElement;
+import psp.mappings.elements.SpaceElement;
+import psp.mappings.elements.SquareBracketCloseElement;
+import psp.mappings.elements.SquareBracketOpenElement;
+import psp.mappings.elements.TimeBoundElement;
+import psp.mappings.elements.UntilElement;
+import psp.mappings.elements.WeakUntilElement;
+
+/**
+ * Recovers the formula from the elements of a mapping. The reader follows the grammar
+ *
+ * <pre>
+ * expression := term (binary [time bound] [space] term)*
+ * term       := primary+
+ * primary    := unary [time bound] [space] operand | ( expression ) | [ expression ] | atom
+ * </pre>
+ *
+ * where binary operators bind, and the operands of unary operators extend, as the {@link Grammar} of the target
+ * logic reads them. The reader accepts any sequence of elements: a closing bracket that closes no group is read
+ * as an atom and a group that is never closed is kept unclosed. Thus, printing the formula always reproduces the
+ * elements, up to a negated event that is read as the negation of the event. Like
+ * {@code GenericMapper#mapToString}, the reader stops at the first {@code null} element.
+ */
+public final class FormulaReader {
+    /**
+     * How a target logic binds the operators of its formulas.
+     */
+    public enum Grammar {
+        /**
+         * Unary operators only take the primary after them, binary operators bind by
+         * {@link Operator#getPrecedence()}: until and weak until tighter than conjunction, disjunction and
+         * implication.
+         */
+        LTL,
+        /**
+         * As in the property language of Prism, temporal operators bind looser than boolean ones: until and weak
+         * until join the boolean expressions around them and a unary temporal operator takes the whole boolean
+         * expression after it. Negation and the probabilistic operator only take the primary after them.
+         */
+        PRISM;
+
+        int precedence(final Operator operator) {
+            if (this == PRISM && (operator == Operator.UNTIL || operator == Operator.WEAK_UNTIL)) {
+                return 0;
+            }
+            return operator.getPrecedence();
+        }
+
+        /**
+         * @return the lowest precedence of the binary operators within the operand of the unary operator, or
+         *         {@code null} if the operand is a primary
+         */
+        Integer operandPrecedence(final Operator operator) {
+            if (this == PRISM && operator != Operator.NOT && operator != Operator.PROBABILITY) {
+                return Operator.IMPLIES.getPrecedence();
+            }
+            return null;
+        }
+    }
+
+    private final List<Element> elements;
+    private final Grammar grammar;
+    private final FormulaFactory factory;
+    private final Deque<Group.Bracket> openGroups = new ArrayDeque<>();
+    private int position;
+
+    private FormulaReader(final List<Element> elements, final Grammar grammar, final FormulaFactory factory) {
+        int end = 0;
+        while (end < elements.size() && elements.get(end) != null) {
+            end++;
+        }
+        this.elements = elements.subList(0, end);
+        this.grammar = grammar;
+        this.factory = factory;
+    }
+
+    /**
+     * Reads the elements by the {@link Grammar#LTL} grammar.
+     */
+    public static Formula read(final List<Element> elements, final FormulaFactory factory) {
+        return read(elements, Grammar.LTL, factory);
+    }
+
+    public static Formula read(final List<Element> elements, final Grammar grammar, final FormulaFactory factory) {
+        return new FormulaReader(elements, grammar, factory).readExpression(Integer.MIN_VALUE);
+    }
+
+    /**
+     * Reads an expression of binary operators of at least the given precedence.
+     */
+    private Formula readExpression(final int minimumPrecedence) {
+        final Deque<Formula> operands = new ArrayDeque<>();
+        final Deque<PendingOperation> operations = new ArrayDeque<>();
+        operands.push(readTerm());
+        Operator operator;
+        while ((operator = binaryOperator(peek())) != null && grammar.precedence(operator) >= minimumPrecedence) {
+            position++;
+            final PendingOperation operation = new PendingOperation(operator, readBound(), readSpace());
+            while (!operations.isEmpty() && bindsFirst(operations.peek().operator, operator)) {
+                reduce(operands, operations.pop());
+            }
+            operations.push(operation);
+            operands.push(readTerm());
+        }
+        while (!operations.isEmpty()) {
+            reduce(operands, operations.pop());
+        }
+        return operands.pop();
+    }
+
+    private boolean bindsFirst(final Operator pending, final Operator next) {
+        return grammar.precedence(pending) > grammar.precedence(next)
+            || grammar.precedence(pending) == grammar.precedence(next) && !next.isRightAssociative();
+    }
+
+    private void reduce(final Deque<Formula> operands, final PendingOperation operation) {
+        final Formula right = operands.pop();
+        final Formula left = operands.pop();
+        operands.push(factory.binary(operation.operator, left, operation.bound, operation.spaced, right));
+    }
+
+    private Formula readTerm() {
+        final List<Formula> parts = new ArrayList<>(1);
+        while (position < elements.size() && !closesGroup(peek())) {
+            // an operator without a left operand is kept as an atom
+            if (!parts.isEmpty() && binaryOperator(peek()) != null) {
+                break;
+            }
+            parts.add(readPrimary());
+        }
+        return factory.sequence(parts);
+    }
+
+    private Formula readPrimary() {
+        final Element element = elements.get(position++);
+        if (element instanceof NegatedEventElement) {
+            return factory.unary(Operator.NOT, null, false, factory.atom(((NegatedEventElement) element).getEvent()));
+        }
+        if (element instanceof ProbabilityBoundElement) {
+            return factory.unary(Operator.PROBABILITY, element, readSpace(), readOperand(Operator.PROBABILITY));
+        }
+        final Operator operator = unaryOperator(element);
+        if (operator != null) {
+            final Element bound = readBound();
+            return factory.unary(operator, bound, readSpace(), readOperand(operator));
+        }
+        if (element == RoundBracketOpenElement.INSTANCE) {
+            return readGroup(Group.Bracket.ROUND, RoundBracketCloseElement.INSTANCE);
+        }
+        if (element == SquareBracketOpenElement.INSTANCE) {
+            return readGroup(Group.Bracket.SQUARE, SquareBracketCloseElement.INSTANCE);
+        }
+        return factory.atom(element);
+    }
+
+    private Formula readOperand(final Operator operator) {
+        if (position == elements.size() || closesGroup(peek())) {
+            return factory.sequence(List.of());
+        }
+        final Integer precedence = grammar.operandPrecedence(operator);
+        return precedence == null ? readPrimary() : readExpression(precedence);
+    }
+
+    private Formula readGroup(final Group.Bracket bracket, final Element closing) {
+        openGroups.push(bracket);
+        final Formula operand = readExpression(Integer.MIN_VALUE);
+        openGroups.pop();
+        final boolean closed = peek() == closing;
+        if (closed) {
+            position++;
+        }
+        return factory.group(bracket, operand, closed);
+    }
+
+    private boolean closesGroup(final Element element) {
+        if (element == RoundBracketCloseElement.INSTANCE) {
+            return openGroups.contains(Group.Bracket.ROUND);
+        }
+        if (element == SquareBracketCloseElement.INSTANCE) {
+            return openGroups.contains(Group.Bracket.SQUARE);
+        }
+        return false;
+    }
+
+    private Element readBound() {
+        if (peek() instanceof TimeBoundElement) {
+            return elements.get(position++);
+        }
+        return null;
+    }
+
+    private boolean readSpace() {
+        if (peek() == SpaceElement.INSTANCE) {
+            position++;
+            return true;
+        }
+        return false;
+    }
+
+    private Element peek() {
+        return position < elements.size() ? elements.get(position) : null;
+    }
+
+    private static Operator unaryOperator(final Element element) {
+        if (element instanceof NotElement) {
+            return Operator.NOT;
+        }
+        if (element instanceof AlwaysElement) {
+            return Operator.ALWAYS;
+        }
+        if (element instanceof EventuallyElement) {
+            return Operator.EVENTUALLY;
+        }
+        if (element instanceof NextElement) {
+            return Operator.NEXT;
+        }
+        return null;
+    }
+
+    private static Operator binaryOperator(final Element element) {
+        if (element instanceof AndElement) {
+            return Operator.AND;
+        }
+        if (element instanceof OrElement) {
+            return Operator.OR;
+        }
+        if (element instanceof ImplicationElement) {
+            return Operator.IMPLIES;
+        }
+        if (element instanceof UntilElement) {
+            return Operator.UNTIL;
+        }
+        if (element instanceof WeakUntilElement) {
+            return Operator.WEAK_UNTIL;
+        }
+        return null;
+    }
+
+    private record PendingOperation(Operator operator, Element bound, boolean spaced) {
+    }
+}
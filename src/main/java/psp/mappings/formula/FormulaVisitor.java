@@ -0,0 +1,16 @@
+package psp.mappings.formula;
+
+/**
+ * Visits the nodes of a {@link Formula}. Visitors decide themselves whether and in which order to descend.
+ */
+public interface FormulaVisitor<R> {
+    R visitAtom(Atom atom);
+
+    R visitUnary(UnaryFormula formula);
+
+    R visitBinary(BinaryFormula formula);
+
+    R visitGroup(Group group);
+
+    R visitSequence(Sequence sequence);
+}
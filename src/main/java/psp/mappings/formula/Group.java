@@ -0,0 +1,59 @@
+package psp.mappings.formula;
+
+import java.util.Objects;
+
+/**
+ * A bracketed formula. The mappings bracket explicitly and the brackets are kept as they are, so that printing a
+ * formula reproduces its mapping. A few mappings are unbalanced: a group that is never closed is kept as such.
+ */
+public final class Group extends Formula {
+    public enum Bracket {
+        ROUND, SQUARE
+    }
+
+    private final Bracket bracket;
+    private final Formula operand;
+    private final boolean closed;
+
+    Group(final Bracket bracket, final Formula operand, final boolean closed) {
+        super(Objects.hash(bracket, operand, closed), 1 + operand.size());
+        this.bracket = bracket;
+        this.operand = operand;
+        this.closed = closed;
+    }
+
+    public Bracket getBracket() {
+        return bracket;
+    }
+
+    public Formula getOperand() {
+        return operand;
+    }
+
+    public boolean isClosed() {
+        return closed;
+    }
+
+    @Override
+    public <R> R accept(final FormulaVisitor<R> visitor) {
+        return visitor.visitGroup(this);
+    }
+
+    @Override
+    public boolean equals(final Object obj) {
+        if (this == obj) {
+            return true;
+        }
+        if (!(obj instanceof Group)) {
+            return false;
+        }
+        final Group other = (Group) obj;
+        return hashCode() == other.hashCode() && bracket == other.bracket && closed == other.closed
+            && operand.equals(other.operand);
+    }
+
+    @Override
+    public String toString() {
+        return (bracket == Bracket.ROUND ? "(" : "[") + operand + (closed ? (bracket == Bracket.ROUND ? ")" : "]") : "");
+    }
+}
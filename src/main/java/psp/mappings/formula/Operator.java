@@ -0,0 +1,42 @@
+package psp.mappings.formula;
+
+/**
+ * The operators of a {@link Formula}, independent of the syntax of any target logic. Binary operators bind
+ * tighter the higher their precedence; implication is the only right associative one. This is the precedence of
+ * LTL, other target logics may bind differently, see {@link FormulaReader.Grammar}.
+ */
+public enum Operator {
+    NOT(true, 0),
+    ALWAYS(true, 0),
+    EVENTUALLY(true, 0),
+    NEXT(true, 0),
+    /**
+     * The probabilistic operator of Prism, e.g. {@code P>=0.9}. Its bound is the rendered probability bound.
+     */
+    PROBABILITY(true, 0),
+    IMPLIES(false, 1),
+    OR(false, 2),
+    AND(false, 3),
+    UNTIL(false, 4),
+    WEAK_UNTIL(false, 4);
+
+    private final boolean unary;
+    private final int precedence;
+
+    Operator(final boolean unary, final int precedence) {
+        this.unary = unary;
+        this.precedence = precedence;
+    }
+
+    public boolean isUnary() {
+        return unary;
+    }
+
+    public int getPrecedence() {
+        return precedence;
+    }
+
+    public boolean isRightAssociative() {
+        return this == IMPLIES;
+    }
+}
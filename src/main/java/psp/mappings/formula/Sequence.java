@@ -0,0 +1,42 @@
+package psp.mappings.formula;
+
+import java.util.List;
+
+/**
+ * Formulas that follow each other without an operator in between. The empty sequence is the formula of an empty,
+ * i.e. unsupported, mapping.
+ */
+public final class Sequence extends Formula {
+    private final List<Formula> parts;
+
+    Sequence(final List<Formula> parts) {
+        super(parts.hashCode(), 1 + parts.stream().mapToInt(Formula::size).sum());
+        this.parts = List.copyOf(parts);
+    }
+
+    public List<Formula> getParts() {
+        return parts;
+    }
+
+    @Override
+    public <R> R accept(final FormulaVisitor<R> visitor) {
+        return visitor.visitSequence(this);
+    }
+
+    @Override
+    public boolean equals(final Object obj) {
+        if (this == obj) {
+            return true;
+        }
+        if (!(obj instanceof Sequence)) {
+            return false;
+        }
+        final Sequence other = (Sequence) obj;
+        return hashCode() == other.hashCode() && parts.equals(other.parts);
+    }
+
+    @Override
+    public String toString() {
+        return parts.toString();
+    }
+}
@@ -0,0 +1,271 @@
+package psp.mappings.formula;
+
+import java.util.ArrayList;
+import java.util.EnumMap;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+
+import psp.mappings.elements.Event;
+import psp.mappings.elements.MiscElement;
+
+/**
+ * Rewrites a formula into an equivalent, smaller one. The rewriting folds the constants {@code true} and
+ * {@code false}, which the mappers emit for missing constraint events, removes idempotent and absorbed operands,
+ * e.g. {@code a ∧ a} and {@code a ∧ (a ∨ b)}, and removes redundant brackets.
+ * <p>
+ * The target logics do not agree on the precedence of their operators, Prism for instance lets a temporal
+ * operator extend as far to the right as possible. Brackets are therefore only removed where no target logic can
+ * read the formula differently: around the whole formula, around brackets, around events, which render with
+ * brackets of their own, around other atoms that are operands, and around conjunctions and disjunctions of atoms
+ * that are operands of the same operator. Bounded temporal operators are only folded where the bound cannot
+ * matter.
+ * <p>
+ * A simplifier keeps the result of every formula it has simplified, so that shared subformulas are simplified
+ * once. Like the {@link FormulaFactory} it creates formulas with, it is meant for a single mapping and is not
+ * thread-safe.
+ */
+public final class Simplifier {
+    private static final MiscElement TRUE_ELEMENT = new MiscElement("true");
+    private static final MiscElement FALSE_ELEMENT = new MiscElement("false");
+
+    /**
+     * Where a formula is printed, which determines the brackets around it that may be removed.
+     */
+    private enum Position {
+        /**
+         * The whole formula or the content of a closed group.
+         */
+        ENCLOSED,
+        /**
+         * An operand of a binary operator or of a unary operator followed by a space.
+         */
+        OPERAND,
+        /**
+         * An operand of a unary operator that directly precedes it, a part of a sequence or the content of an
+         * unclosed group.
+         */
+        ADJACENT
+    }
+
+    private final FormulaFactory factory;
+    private final Atom trueAtom;
+    private final Atom falseAtom;
+    private final Map<Position, Map<Formula, Formula>> simplified = new EnumMap<>(Position.class);
+
+    public Simplifier(final FormulaFactory factory) {
+        this.factory = factory;
+        this.trueAtom = factory.atom(TRUE_ELEMENT);
+        this.falseAtom = factory.atom(FALSE_ELEMENT);
+        for (final Position position : Position.values()) {
+            simplified.put(position, new IdentityHashMap<>());
+        }
+    }
+
+    public Formula simplify(final Formula formula) {
+        return simplify(formula, Position.ENCLOSED);
+    }
+
+    private Formula simplify(final Formula formula, final Position position) {
+        final Map<Formula, Formula> results = simplified.get(position);
+        Formula result = results.get(formula);
+        if (result == null) {
+            result = rewrite(formula, position);
+            results.put(formula, result);
+        }
+        return result;
+    }
+
+    private Formula rewrite(final Formula formula, final Position position) {
+        if (formula instanceof UnaryFormula) {
+            return place(rewriteUnary((UnaryFormula) formula), position);
+        }
+        if (formula instanceof BinaryFormula) {
+            return place(rewriteBinary((BinaryFormula) formula), position);
+        }
+        if (formula instanceof Group) {
+            final Group group = (Group) formula;
+            if (!group.isClosed()) {
+                return factory.group(group.getBracket(), simplify(group.getOperand(), Position.ADJACENT), false);
+            }
+            return place(factory.group(group.getBracket(), simplify(group.getOperand(), Position.ENCLOSED), true),
+                position);
+        }
+        if (formula instanceof Sequence) {
+            final List<Formula> parts = new ArrayList<>();
+            for (final Formula part : ((Sequence) formula).getParts()) {
+                parts.add(simplify(part, Position.ADJACENT));
+            }
+            return factory.sequence(parts);
+        }
+        return formula;
+    }
+
+    private Formula rewriteUnary(final UnaryFormula formula) {
+        final Operator operator = formula.getOperator();
+        final Formula operand = simplify(formula.getOperand(),
+            formula.isSpaced() ? Position.OPERAND : Position.ADJACENT);
+        final boolean unbounded = formula.getBound() == null;
+        switch (operator) {
+            case NOT:
+                if (isTrue(operand)) {
+                    return falseAtom;
+                }
+                if (isFalse(operand)) {
+                    return trueAtom;
+                }
+                break;
+            case ALWAYS:
+            case EVENTUALLY:
+                // a bounded always holds vacuously, a bounded eventually needs the bound to be reached
+                if (isTrue(operand) && (unbounded || operator == Operator.ALWAYS)) {
+                    return trueAtom;
+                }
+                if (isFalse(operand) && unbounded) {
+                    return falseAtom;
+                }
+                final Formula inner = strip(operand);
+                if (unbounded && inner instanceof UnaryFormula && ((UnaryFormula) inner).getOperator() == operator
+                    && ((UnaryFormula) inner).getBound() == null) {
+                    return inner;
+                }
+                break;
+            default:
+                break;
+        }
+        return factory.unary(operator, formula.getBound(), formula.isSpaced(), operand);
+    }
+
+    private Formula rewriteBinary(final BinaryFormula formula) {
+        final Operator operator = formula.getOperator();
+        final Formula left = simplify(formula.getLeft(), Position.OPERAND);
+        final Formula right = simplify(formula.getRight(), Position.OPERAND);
+        switch (operator) {
+            case AND:
+                if (isTrue(left) || isFalse(right) || same(left, right) || absorbs(right, Operator.OR, left)) {
+                    return right;
+                }
+                if (isTrue(right) || isFalse(left) || absorbs(left, Operator.OR, right)) {
+                    return left;
+                }
+                break;
+            case OR:
+                if (isFalse(left) || isTrue(right) || same(left, right) || absorbs(right, Operator.AND, left)) {
+                    return right;
+                }
+                if (isFalse(right) || isTrue(left) || absorbs(left, Operator.AND, right)) {
+                    return left;
+                }
+                break;
+            case IMPLIES:
+                if (isTrue(left)) {
+                    return right;
+                }
+                if (isFalse(left) || isTrue(right) || same(left, right)) {
+                    return trueAtom;
+                }
+                break;
+            case UNTIL:
+            case WEAK_UNTIL:
+                if (formula.getBound() != null) {
+                    break;
+                }
+                if (isTrue(right) || isFalse(left) || same(left, right)) {
+                    return right;
+                }
+                if (isFalse(right) && operator == Operator.UNTIL) {
+                    return falseAtom;
+                }
+                break;
+            default:
+                break;
+        }
+        return factory.binary(operator, flatten(operator, left), formula.getBound(), formula.isSpaced(),
+            flatten(operator, right));
+    }
+
+    /**
+     * Removes the brackets around the formula, if they are redundant at its position.
+     */
+    private Formula place(final Formula formula, final Position position) {
+        if (!(formula instanceof Group)) {
+            return formula;
+        }
+        final Group group = (Group) formula;
+        if (group.getBracket() != Group.Bracket.ROUND || !group.isClosed()) {
+            return formula;
+        }
+        final Formula operand = group.getOperand();
+        if (position == Position.ENCLOSED || operand instanceof Group && ((Group) operand).isClosed()) {
+            return operand;
+        }
+        if (operand instanceof Atom && (position == Position.OPERAND
+            || ((Atom) operand).getElement() instanceof Event)) {
+            return operand;
+        }
+        return formula;
+    }
+
+    /**
+     * Removes the brackets around a conjunction or disjunction that is an operand of the same operator, if the
+     * conjunction or disjunction only joins atoms and bracketed formulas.
+     */
+    private static Formula flatten(final Operator operator, final Formula operand) {
+        if ((operator == Operator.AND || operator == Operator.OR) && operand instanceof Group) {
+            final Group group = (Group) operand;
+            if (group.getBracket() == Group.Bracket.ROUND && group.isClosed()
+                && group.getOperand() instanceof BinaryFormula && isChain(operator, group.getOperand())) {
+                return group.getOperand();
+            }
+        }
+        return operand;
+    }
+
+    private static boolean isChain(final Operator operator, final Formula formula) {
+        if (formula instanceof Atom || formula instanceof Group && ((Group) formula).isClosed()) {
+            return true;
+        }
+        if (formula instanceof BinaryFormula) {
+            final BinaryFormula binary = (BinaryFormula) formula;
+            return binary.getOperator() == operator && binary.getBound() == null && isChain(operator, binary.getLeft())
+                && isChain(operator, binary.getRight());
+        }
+        return false;
+    }
+
+    /**
+     * @return true if {@code formula} absorbs {@code other}, which is a {@code junction} with {@code formula}
+     *         as one of its operands
+     */
+    private static boolean absorbs(final Formula formula, final Operator junction, final Formula other) {
+        final Formula inner = strip(other);
+        if (!(inner instanceof BinaryFormula) || ((BinaryFormula) inner).getOperator() != junction) {
+            return false;
+        }
+        final BinaryFormula binary = (BinaryFormula) inner;
+        return same(formula, binary.getLeft()) || same(formula, binary.getRight());
+    }
+
+    private static boolean same(final Formula a, final Formula b) {
+        return strip(a).equals(strip(b));
+    }
+
+    private boolean isTrue(final Formula formula) {
+        return trueAtom.equals(strip(formula));
+    }
+
+    private boolean isFalse(final Formula formula) {
+        return falseAtom.equals(strip(formula));
+    }
+
+    /**
+     * @return the formula without the closed round brackets around it
+     */
+    private static Formula strip(Formula formula) {
+        while (formula instanceof Group && ((Group) formula).isClosed()
+            && ((Group) formula).getBracket() == Group.Bracket.ROUND) {
+            formula = ((Group) formula).getOperand();
+        }
+        return formula;
+    }
+}
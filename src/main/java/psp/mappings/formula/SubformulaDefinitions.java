@@ -0,0 +1,194 @@
+package psp.mappings.formula;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.Predicate;
+
+import psp.mappings.elements.Element;
+import psp.mappings.elements.MiscElement;
+import psp.sel.RenderingContext;
+
+/**
+ * A formula whose repeated subformulas have been factored out into named definitions. Only closed round groups
+ * are factored out: their brackets delimit them in every target logic, so replacing the content of one by a
+ * reference cannot change how the rest of the formula is read.
+ * <p>
+ * A group is defined if printing it once, in its definition, saves printing it again. References are counted as
+ * they are printed, i.e. a group that only repeats within a defined group is printed once, within the definition,
+ * and is not defined itself. Definitions are ordered such that a definition only refers to earlier ones.
+ */
+public final class SubformulaDefinitions {
+    /**
+     * The prefix of the names of the definitions. References are rendered with brackets, as events are, so if an
+     * atom of the formula contains the prefix in any rendering, it is extended by {@link #PREFIX_EXTENSION} until
+     * none does.
+     */
+    public static final String NAME_PREFIX = "sub";
+
+    static final String PREFIX_EXTENSION = "_";
+
+    /**
+     * Groups smaller than this, in nodes, are not worth a definition.
+     */
+    static final int MINIMUM_SIZE = 4;
+
+    public record Definition(String name, Formula body) {
+    }
+
+    private final List<Definition> definitions;
+    private final Formula formula;
+
+    private SubformulaDefinitions(final List<Definition> definitions, final Formula formula) {
+        this.definitions = Collections.unmodifiableList(definitions);
+        this.formula = formula;
+    }
+
+    /**
+     * @return the definitions, each only referring to definitions before it
+     */
+    public List<Definition> getDefinitions() {
+        return definitions;
+    }
+
+    /**
+     * @return the formula, referring to the definitions
+     */
+    public Formula getFormula() {
+        return formula;
+    }
+
+    /**
+     * Factors the repeated groups of the formula, that the target logic is able to define, out into definitions.
+     *
+     * @param factory the factory the formula has been created with
+     */
+    public static SubformulaDefinitions extract(final Formula formula, final FormulaFactory factory,
+        final Predicate<Group> definable) {
+        // parents come before their children
+        final List<Formula> order = new ArrayList<>();
+        postOrder(formula, Collections.newSetFromMap(new IdentityHashMap<>()), order);
+        Collections.reverse(order);
+
+        final Map<Formula, Integer> references = new IdentityHashMap<>();
+        final Map<Formula, Boolean> defined = new IdentityHashMap<>();
+        references.put(formula, 1);
+        for (final Formula node : order) {
+            final int count = references.get(node);
+            final boolean define = node != formula && count > 1 && isCandidate(node) && definable.test((Group) node);
+            defined.put(node, define);
+            for (final Formula child : children(node)) {
+                references.merge(child, define ? 1 : count, Integer::sum);
+            }
+        }
+
+        // children come before their parents, so do the definitions a definition refers to
+        Collections.reverse(order);
+        final String prefix = prefix(order);
+        final List<Definition> definitions = new ArrayList<>();
+        final Map<Formula, Formula> rewritten = new IdentityHashMap<>();
+        for (final Formula node : order) {
+            final Formula rebuilt = rebuild(node, rewritten, factory);
+            if (defined.get(node)) {
+                final String name = prefix + (definitions.size() + 1);
+                definitions.add(new Definition(name, ((Group) rebuilt).getOperand()));
+                // keeps the brackets, a reference may directly follow an operator, as in G(sub1)
+                rewritten.put(node, factory.group(factory.atom(new MiscElement(name))));
+            } else {
+                rewritten.put(node, rebuilt);
+            }
+        }
+        return new SubformulaDefinitions(definitions, rewritten.get(formula));
+    }
+
+    /**
+     * @return the shortest extension of the name prefix that no atom of the nodes contains
+     */
+    private static String prefix(final List<Formula> nodes) {
+        final List<String> contents = new ArrayList<>();
+        for (final Formula node : nodes) {
+            if (node instanceof Atom) {
+                final Element element = ((Atom) node).getElement();
+                contents.add(element.getContent());
+                for (final RenderingContext context : List.of(RenderingContext.NAME, RenderingContext.SPECIFICATION,
+                    RenderingContext.NAME_AND_SPECIFICATION)) {
+                    contents.add(element.getContent(context));
+                }
+            }
+        }
+        String prefix = NAME_PREFIX;
+        while (containsAny(contents, prefix)) {
+            prefix += PREFIX_EXTENSION;
+        }
+        return prefix;
+    }
+
+    private static boolean containsAny(final List<String> contents, final String prefix) {
+        for (final String content : contents) {
+            if (content != null && content.contains(prefix)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private static boolean isCandidate(final Formula formula) {
+        return formula instanceof Group && ((Group) formula).isClosed()
+            && ((Group) formula).getBracket() == Group.Bracket.ROUND && formula.size() >= MINIMUM_SIZE;
+    }
+
+    private static void postOrder(final Formula formula, final Set<Formula> visited,
+        final List<Formula> order) {
+        if (visited.add(formula)) {
+            for (final Formula child : children(formula)) {
+                postOrder(child, visited, order);
+            }
+            order.add(formula);
+        }
+    }
+
+    private static List<Formula> children(final Formula formula) {
+        if (formula instanceof UnaryFormula) {
+            return List.of(((UnaryFormula) formula).getOperand());
+        }
+        if (formula instanceof BinaryFormula) {
+            return List.of(((BinaryFormula) formula).getLeft(), ((BinaryFormula) formula).getRight());
+        }
+        if (formula instanceof Group) {
+            return List.of(((Group) formula).getOperand());
+        }
+        if (formula instanceof Sequence) {
+            return ((Sequence) formula).getParts();
+        }
+        return List.of();
+    }
+
+    private static Formula rebuild(final Formula formula, final Map<Formula, Formula> rewritten,
+        final FormulaFactory factory) {
+        if (formula instanceof UnaryFormula) {
+            final UnaryFormula unary = (UnaryFormula) formula;
+            return factory.unary(unary.getOperator(), unary.getBound(), unary.isSpaced(),
+                rewritten.get(unary.getOperand()));
+        }
+        if (formula instanceof BinaryFormula) {
+            final BinaryFormula binary = (BinaryFormula) formula;
+            return factory.binary(binary.getOperator(), rewritten.get(binary.getLeft()), binary.getBound(),
+                binary.isSpaced(), rewritten.get(binary.getRight()));
+        }
+        if (formula instanceof Group) {
+            final Group group = (Group) formula;
+            return factory.group(group.getBracket(), rewritten.get(group.getOperand()), group.isClosed());
+        }
+        if (formula instanceof Sequence) {
+            final List<Formula> parts = new ArrayList<>();
+            for (final Formula part : ((Sequence) formula).getParts()) {
+                parts.add(rewritten.get(part));
+            }
+            return factory.sequence(parts);
+        }
+        return formula;
+    }
+}
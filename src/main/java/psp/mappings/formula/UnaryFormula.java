@@ -0,0 +1,67 @@
+package psp.mappings.formula;
+
+import java.util.Objects;
+
+import psp.mappings.elements.Element;
+
+/**
+ * A unary operator applied to its operand, e.g. {@code G[2,7] p}. The operator may carry a bound, a time bound
+ * for the temporal operators and the probability bound for {@link Operator#PROBABILITY}. Whether a space separates
+ * the operator from its operand is part of the formula, so that printing it reproduces the mapping exactly.
+ */
+public final class UnaryFormula extends Formula {
+    private final Operator operator;
+    private final Element bound;
+    private final boolean spaced;
+    private final Formula operand;
+
+    UnaryFormula(final Operator operator, final Element bound, final boolean spaced, final Formula operand) {
+        super(Objects.hash(operator, elementHash(bound), spaced, operand), 1 + operand.size());
+        this.operator = operator;
+        this.bound = bound;
+        this.spaced = spaced;
+        this.operand = operand;
+    }
+
+    public Operator getOperator() {
+        return operator;
+    }
+
+    /**
+     * @return the bound of the operator, or null if it is unbounded
+     */
+    public Element getBound() {
+        return bound;
+    }
+
+    public boolean isSpaced() {
+        return spaced;
+    }
+
+    public Formula getOperand() {
+        return operand;
+    }
+
+    @Override
+    public <R> R accept(final FormulaVisitor<R> visitor) {
+        return visitor.visitUnary(this);
+    }
+
+    @Override
+    public boolean equals(final Object obj) {
+        if (this == obj) {
+            return true;
+        }
+        if (!(obj instanceof UnaryFormula)) {
+            return false;
+        }
+        final UnaryFormula other = (UnaryFormula) obj;
+        return hashCode() == other.hashCode() && operator == other.operator && spaced == other.spaced
+            && sameElement(bound, other.bound) && operand.equals(other.operand);
+    }
+
+    @Override
+    public String toString() {
+        return operator + (bound == null ? "" : bound.getContent()) + "(" + operand + ")";
+    }
+}
@@ -0,0 +1,56 @@
+package psp.mappings.postprocessing;
+
+import java.util.List;
+
+import psp.mappings.LanguageDefinitions;
+import psp.mappings.elements.Element;
+import psp.mappings.formula.Formula;
+import psp.mappings.formula.FormulaFactory;
+import psp.mappings.formula.FormulaPrinter;
+import psp.mappings.formula.FormulaReader;
+import psp.mappings.formula.Simplifier;
+
+/**
+ * Post processor that replaces a mapping by an equivalent, smaller formula, see {@link Simplifier}. It reads the
+ * elements into a formula by the grammar of the target logic, simplifies it and prints it in the syntax of the
+ * given language definitions, hence it has to run after any post processor that introduces elements of its own.
+ * {@code GenericMapper#map} with the simplify option simplifies alike, on the formula it goes on to rewrite.
+ */
+public class FormulaSimplifier implements MappingPostprocessor {
+    private final FormulaPrinter printer;
+    private final FormulaReader.Grammar grammar;
+
+    /**
+     * Simplifies mappings read by the {@link FormulaReader.Grammar#LTL} grammar.
+     */
+    public FormulaSimplifier(final LanguageDefinitions languageDefinitions) {
+        this(languageDefinitions, FormulaReader.Grammar.LTL);
+    }
+
+    public FormulaSimplifier(final LanguageDefinitions languageDefinitions, final FormulaReader.Grammar grammar) {
+        super();
+        this.printer = new FormulaPrinter(languageDefinitions);
+        this.grammar = grammar;
+    }
+
+    @Override
+    public List<Element> process(final List<Element> elements) {
+        return simplify(elements).elements();
+    }
+
+    /**
+     * Simplifies the mapping and reports the size of the formula, in nodes, before and after.
+     */
+    public Simplification simplify(final List<Element> elements) {
+        final FormulaFactory factory = new FormulaFactory();
+        final Formula formula = FormulaReader.read(elements, grammar, factory);
+        final Formula simplified = new Simplifier(factory).simplify(formula);
+        return new Simplification(printer.toElements(simplified), formula.size(), simplified.size());
+    }
+
+    /**
+     * The simplified elements of a mapping, along with the size of the formula before and after simplification.
+     */
+    public record Simplification(List<Element> elements, int originalSize, int simplifiedSize) {
+    }
+}
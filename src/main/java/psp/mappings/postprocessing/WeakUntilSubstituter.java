@@ -1,8 +1,9 @@
 package psp.mappings.postprocessing;
 
+import java.util.ArrayDeque;
 import java.util.ArrayList;
+import java.util.Deque;
 import java.util.List;
-import java.util.Optional;
 
 import psp.mappings.LanguageDefinitions;
 import psp.mappings.elements.BooleanOperators;
@@ -19,6 +20,11 @@ import psp.mappings.elements.WeakUntilElement;
 
 /**
  * Experimental (!) post processor that simplifies the weak until operator.
+ * <p>
+ * {@code B W A} is replaced by {@code (B U A) or always B}. The elements are read once into a tree of round
+ * bracket blocks, and each block is rewritten in a single pass once its nested blocks have been rewritten, so
+ * weak untils are substituted from the deepest to the outermost, left to right, in time linear in the size of
+ * the result.
  * 
  * @author Sebastian Frank
  *
@@ -33,215 +39,254 @@ public class WeakUntilSubstituter implements MappingPostprocessor {
 
     @Override
     public List<Element> process(List<Element> elements) {
-        final List<Element> processedElements = new ArrayList<>(elements);
-        int weakestUntilIndex = findWeakestUntilAtDeepestPosition(processedElements);
-        while (weakestUntilIndex >= 0) {
-            // find relevant blocks
-            final List<Element> beforeWeakUntil = findElementBlockBefore(processedElements, weakestUntilIndex);
-            final List<Element> weakUntil = findElementUntilBlock(processedElements, weakestUntilIndex);
-            final int indexAfterUntilElements = weakestUntilIndex + weakUntil.size();
-            final List<Element> afterWeakUntil = findElementBlockAfter(processedElements, indexAfterUntilElements);
-
-            // remove old weak until formula
-            final int indexAtStartOfBeforeWeakUntil = weakestUntilIndex - beforeWeakUntil.size();
-            final int numberOfAllElements = beforeWeakUntil.size() + weakUntil.size() + afterWeakUntil.size();
-            removeNumberOfElementsFromPosition(processedElements, indexAtStartOfBeforeWeakUntil, numberOfAllElements);
-
-            // set transformed until formula
-            final List<Element> replacedElements = constructReplacedWeakUntil(beforeWeakUntil, weakUntil,
-                afterWeakUntil);
-            processedElements.addAll(indexAtStartOfBeforeWeakUntil, replacedElements);
-
-            // prepare for next iteration
-            weakestUntilIndex = findWeakestUntilAtDeepestPosition(processedElements);
+        if (elements.stream().noneMatch(element -> element instanceof WeakUntilElement)) {
+            return new ArrayList<>(elements);
         }
+        final List<Element> processedElements = new ArrayList<>(elements.size() * 2);
+        flatten(substituteBlocks(elements), processedElements);
         return processedElements;
     }
 
-    private List<Element> constructReplacedWeakUntil(List<Element> beforeElements, List<Element> untilElements,
-        List<Element> afterElements) {
-        replaceWeakUntilWithUntil(untilElements);
-        Optional<Element> timebound = getTimeBound(untilElements);
-
-        List<Element> elements = new ArrayList<>();
-        elements.add(new RoundBracketOpenElement());
-        elements.addAll(beforeElements);
-        elements.addAll(untilElements);
-        elements.addAll(afterElements);
-        elements.add(new RoundBracketCloseElement());
-        elements.add(tbvLangaugeDefinitions.getOr());
-        elements.add(tbvLangaugeDefinitions.getAlways());
-        if (!timebound.isEmpty()) {
-            elements.add(timebound.get());
+    /**
+     * Reads the elements into blocks, substituting the weak untils of each block as soon as it is closed. Some
+     * mappings are not balanced; a closing bracket without an opening one, and an opening bracket that is never
+     * closed, are kept as they are. Weak untils that are enclosed by fewer brackets than unmatched closing brackets
+     * precede them are kept as well.
+     */
+    private List<Element> substituteBlocks(final List<Element> elements) {
+        final Deque<List<Element>> enclosingBlocks = new ArrayDeque<>();
+        List<Element> block = new ArrayList<>();
+        int unmatchedClosingBrackets = 0;
+        for (final Element element : elements) {
+            if (element instanceof RoundBracketOpenElement) {
+                enclosingBlocks.push(block);
+                block = new ArrayList<>();
+            } else if ((element instanceof RoundBracketCloseElement) && !enclosingBlocks.isEmpty()) {
+                final Block closedBlock = new Block(substitute(block, true));
+                block = enclosingBlocks.pop();
+                block.add(closedBlock);
+            } else if (element instanceof RoundBracketCloseElement) {
+                unmatchedClosingBrackets++;
+                block.add(element);
+            } else if ((element instanceof WeakUntilElement) && enclosingBlocks.size() < unmatchedClosingBrackets) {
+                block.add(new KeptElement(element));
+            } else {
+                block.add(element);
+            }
         }
-        elements.add(new SpaceElement());
-        elements.addAll(beforeElements);
-        return elements;
+        while (!enclosingBlocks.isEmpty()) {
+            final List<Element> unclosedBlock = substitute(block, false);
+            block = enclosingBlocks.pop();
+            block.add(RoundBracketOpenElement.INSTANCE);
+            block.addAll(unclosedBlock);
+        }
+        return substitute(block, false);
     }
 
-    private Optional<Element> getTimeBound(List<Element> elements) {
-        return elements.stream().filter(element -> element instanceof TimeBoundElement).findFirst();
+    /**
+     * Substitutes the weak untils of a single block, whose nested blocks contain no weak until anymore. Only the
+     * elements of a closed block may end the until or the after block of a weak until, in any other case the
+     * formula is incomplete.
+     */
+    private List<Element> substitute(final List<Element> elements, final boolean closed) {
+        final List<Element> substitutedElements = new ArrayList<>(elements.size());
+        int index = 0;
+        while (index < elements.size()) {
+            final Element element = elements.get(index);
+            if (!(element instanceof WeakUntilElement)) {
+                substitutedElements.add(element);
+                index++;
+                continue;
+            }
+            // the block before has already been copied, the until and after blocks follow
+            final List<Element> beforeWeakUntil = removeElementBlockBefore(substitutedElements);
+            final int indexAfterUntilElements = findEndOfUntilBlock(elements, index, closed);
+            final int indexAfterAfterElements = findEndOfElementBlockAfter(elements, indexAfterUntilElements,
+                closed);
+
+            addReplacedWeakUntil(substitutedElements, beforeWeakUntil,
+                elements.subList(index, indexAfterUntilElements),
+                elements.subList(indexAfterUntilElements, indexAfterAfterElements));
+            index = indexAfterAfterElements;
+        }
+        return substitutedElements;
     }
 
-    private void replaceWeakUntilWithUntil(List<Element> elements) {
-        elements.replaceAll(element -> {
+    private void addReplacedWeakUntil(List<Element> elements, List<Element> beforeElements,
+        List<Element> untilElements, List<Element> afterElements) {
+        Element timebound = null;
+        final List<Element> untilFormula = new ArrayList<>(
+            beforeElements.size() + untilElements.size() + afterElements.size());
+        untilFormula.addAll(beforeElements);
+        for (final Element element : untilElements) {
             if (element instanceof WeakUntilElement) {
-                return tbvLangaugeDefinitions.getUntil();
+                untilFormula.add(tbvLangaugeDefinitions.getUntil());
             } else {
-                return element;
+                if (timebound == null && element instanceof TimeBoundElement) {
+                    timebound = element;
+                }
+                untilFormula.add(element);
             }
-        });
-    }
+        }
+        untilFormula.addAll(afterElements);
 
-    private void removeNumberOfElementsFromPosition(final List<Element> elements, final int atIndex,
-        final int numberOfElementsToRemove) {
-        for (int i = 0; i < numberOfElementsToRemove; i++) {
-            elements.remove(atIndex);
+        elements.add(new Block(untilFormula));
+        elements.add(tbvLangaugeDefinitions.getOr());
+        elements.add(tbvLangaugeDefinitions.getAlways());
+        if (timebound != null) {
+            elements.add(timebound);
         }
+        elements.add(SpaceElement.INSTANCE);
+        elements.addAll(beforeElements);
     }
 
-    private List<Element> findElementBlockBefore(final List<Element> allElements, final int index) {
-        List<Element> beforeElements = new ArrayList<>();
-        Element previousElement = allElements.get(index - 1);
+    private List<Element> removeElementBlockBefore(final List<Element> elements) {
+        final int size = elements.size();
+        if (size == 0) {
+            throw new IllegalStateException(String.format(
+                "Found unexpected element %s while trying to replace weak until.", RoundBracketOpenElement.class));
+        }
+        final Element previousElement = elements.get(size - 1);
+        final List<Element> beforeElements;
         if (previousElement instanceof Event) {
-            beforeElements = findElementBlockBeforeForSimpleEvent(allElements, index);
-        } else if (previousElement instanceof RoundBracketCloseElement) {
-            beforeElements = findElementBlockBeforeForRoundBrackets(allElements, index);
+            beforeElements = findElementBlockBeforeForSimpleEvent(elements);
+        } else if (previousElement instanceof Block) {
+            beforeElements = List.of(previousElement);
         } else {
             throw new IllegalStateException(String
                 .format("Found unexpected element %s while trying to replace weak until.", previousElement.getClass()));
         }
-        return new ArrayList<Element>(beforeElements);
-    }
-
-    private List<Element> findElementBlockBeforeForRoundBrackets(final List<Element> allElements, final int index) {
-        int depth = 1;
-        int currentIndex = index - 2;
-        while (depth > 0) {
-            final Element currentPreElement = allElements.get(currentIndex);
-            if (currentPreElement instanceof RoundBracketCloseElement) {
-                depth++;
-            } else if (currentPreElement instanceof RoundBracketOpenElement) {
-                depth--;
-            }
-            currentIndex--;
-        }
-        return allElements.subList(currentIndex + 1, index);
+        elements.subList(size - beforeElements.size(), size).clear();
+        return beforeElements;
     }
 
-    private List<Element> findElementBlockBeforeForSimpleEvent(final List<Element> allElements, final int index) {
-        List<Element> beforeElements = new ArrayList<>();
-        Element previousElement = allElements.get(index - 1);
-        beforeElements.add(0, previousElement);
-        if (index >= 2) {
-            Element prePreviousElement = allElements.get(index - 2);
+    private List<Element> findElementBlockBeforeForSimpleEvent(final List<Element> elements) {
+        final int size = elements.size();
+        final Element previousElement = elements.get(size - 1);
+        if (size >= 2) {
+            Element prePreviousElement = elements.get(size - 2);
             if (prePreviousElement instanceof NotElement) {
-                beforeElements.add(0, prePreviousElement);
+                return List.of(prePreviousElement, previousElement);
             } else if ((prePreviousElement instanceof SpaceElement) || (prePreviousElement instanceof TimeBoundElement)
                 || (prePreviousElement instanceof UnaryOperator)) {
                 throw new UnsupportedOperationException(
                     "the experimental implementation does not support complex before-elements");
             }
         }
-        return beforeElements;
+        return List.of(previousElement);
     }
 
-    private List<Element> findElementUntilBlock(final List<Element> allElements, final int index) {
+    private int findEndOfUntilBlock(final List<Element> elements, final int index, final boolean closed) {
         int currentIndex = index;
         currentIndex++;
-        currentIndex = increaseIndexForElementType(allElements, currentIndex, TimeBoundElement.class);
-        currentIndex = increaseIndexForWhiteSpaces(allElements, currentIndex);
-        List<Element> untilElements = allElements.subList(index, currentIndex);
-        return new ArrayList<Element>(untilElements);
+        currentIndex = increaseIndexForElementType(elements, currentIndex, closed, TimeBoundElement.class);
+        currentIndex = increaseIndexForWhiteSpaces(elements, currentIndex, closed);
+        return currentIndex;
     }
 
-    private int increaseIndexForElementType(final List<Element> allElements, int currentIndex, final Class<?> type,
-        final Class<?> type2) {
-        Element currentElement = allElements.get(currentIndex);
-        if (type.isInstance(currentElement) && type2.isInstance(currentElement)) {
+    private int findEndOfElementBlockAfter(final List<Element> elements, final int index,
+        final boolean closed) {
+        int currentIndex = index;
+        currentIndex = increaseIndexForElementType(elements, currentIndex, closed, UnaryOperator.class,
+            TemporalOperators.class);
+        currentIndex = increaseIndexForElementType(elements, currentIndex, closed, TimeBoundElement.class);
+        currentIndex = increaseIndexForWhiteSpaces(elements, currentIndex, closed);
+        currentIndex = increaseIndexForElementType(elements, currentIndex, closed, UnaryOperator.class,
+            BooleanOperators.class);
+        currentIndex = increaseIndexForWhiteSpaces(elements, currentIndex, closed);
+
+        final Element currentElement = elementAt(elements, currentIndex, closed);
+        if ((currentElement instanceof Event) || (currentElement instanceof Block)) {
             currentIndex++;
+        } else if (currentElement instanceof RoundBracketOpenElement) {
+            throw new IndexOutOfBoundsException("Found an unclosed round bracket while trying to replace weak until.");
+        }
+
+        if (index == currentIndex) {
+            throw new IllegalStateException("Something went wrong when trying to substitute weak-until-operator.");
         }
         return currentIndex;
     }
 
-    private int increaseIndexForElementType(final List<Element> allElements, int currentIndex, final Class<?> type) {
-        if (type.isInstance(allElements.get(currentIndex))) {
+    private int increaseIndexForElementType(final List<Element> elements, int currentIndex, final boolean closed,
+        final Class<?> type, final Class<?> type2) {
+        Element currentElement = elementAt(elements, currentIndex, closed);
+        if (type.isInstance(currentElement) && type2.isInstance(currentElement)) {
             currentIndex++;
         }
         return currentIndex;
     }
 
-    private int increaseIndexForWhiteSpaces(final List<Element> allElements, int currentIndex) {
-        Element nextElement = allElements.get(currentIndex);
-        while (nextElement instanceof SpaceElement) {
+    private int increaseIndexForElementType(final List<Element> elements, int currentIndex, final boolean closed,
+        final Class<?> type) {
+        if (type.isInstance(elementAt(elements, currentIndex, closed))) {
             currentIndex++;
-            nextElement = allElements.get(currentIndex);
         }
         return currentIndex;
     }
 
-    private List<Element> findElementBlockAfter(final List<Element> allElements, final int index) {
-        int currentIndex = index;
-        currentIndex = increaseIndexForElementType(allElements, currentIndex, UnaryOperator.class,
-            TemporalOperators.class);
-        currentIndex = increaseIndexForElementType(allElements, currentIndex, TimeBoundElement.class);
-        currentIndex = increaseIndexForWhiteSpaces(allElements, currentIndex);
-        currentIndex = increaseIndexForElementType(allElements, currentIndex, UnaryOperator.class,
-            BooleanOperators.class);
-        currentIndex = increaseIndexForWhiteSpaces(allElements, currentIndex);
-
-        Element currentElement = allElements.get(currentIndex);
-        if (currentElement instanceof Event) {
+    private int increaseIndexForWhiteSpaces(final List<Element> elements, int currentIndex, final boolean closed) {
+        while (elementAt(elements, currentIndex, closed) instanceof SpaceElement) {
             currentIndex++;
-        } else if (currentElement instanceof RoundBracketOpenElement) {
-            currentIndex = findElementBlockAfterForRoundBrackets(allElements, currentIndex + 1);
-        }
-
-        if (index == currentIndex) {
-            throw new IllegalStateException("Something went wrong when trying to substitute weak-until-operator.");
         }
-        List<Element> afterElements = allElements.subList(index, currentIndex);
+        return currentIndex;
+    }
 
-        return new ArrayList<Element>(afterElements);
+    /**
+     * @return the element at the index, or null at the end of a closed block
+     * @throws IndexOutOfBoundsException at the end of any other block
+     */
+    private Element elementAt(final List<Element> elements, final int index, final boolean closed) {
+        return (closed && index == elements.size()) ? null : elements.get(index);
     }
 
-    private int findElementBlockAfterForRoundBrackets(final List<Element> allElements, int currentIndex) {
-        int depth = 1;
-        while (depth > 0) {
-            final Element currentPreElement = allElements.get(currentIndex);
-            if (currentPreElement instanceof RoundBracketOpenElement) {
-                depth++;
-            } else if (currentPreElement instanceof RoundBracketCloseElement) {
-                depth--;
+    private void flatten(final List<Element> elements, final List<Element> flattenedElements) {
+        for (final Element element : elements) {
+            if (element instanceof Block) {
+                flattenedElements.add(RoundBracketOpenElement.INSTANCE);
+                flatten(((Block) element).elements, flattenedElements);
+                flattenedElements.add(RoundBracketCloseElement.INSTANCE);
+            } else if (element instanceof KeptElement) {
+                flattenedElements.add(((KeptElement) element).element);
+            } else {
+                flattenedElements.add(element);
             }
-            currentIndex++;
         }
-        return currentIndex;
     }
 
-    private int findWeakestUntilAtDeepestPosition(final List<Element> elements) {
-        int deepestIndex = -1;
-        int deepestIndexDepth = -1;
-        int depth = 0;
-        for (int index = 0; index < elements.size(); index++) {
-            final Element currentElement = elements.get(index);
-            if (currentElement instanceof RoundBracketOpenElement) {
-                depth++;
-            } else if (currentElement instanceof RoundBracketCloseElement) {
-                depth--;
-            } else if (currentElement instanceof WeakUntilElement) {
-                if (deepestIndexDepth < depth) {
-                    deepestIndex = index;
-                    deepestIndexDepth = depth;
-                }
-            }
+    /**
+     * The elements between a pair of round brackets. Blocks never leave the substituter; a block that precedes
+     * a weak until is shared by the until formula and the always formula, as it is never changed again.
+     */
+    private static final class Block implements Element {
+        private final List<Element> elements;
+
+        Block(final List<Element> elements) {
+            this.elements = elements;
+        }
+
+        @Override
+        public String getContent() {
+            final StringBuilder sb = new StringBuilder("(");
+            elements.forEach(element -> sb.append(element.getContent()));
+            return sb.append(')').toString();
         }
-        return deepestIndex;
     }
 
-    private void print(List<Element> elements) {
-        elements.forEach(x -> System.out.print(x.getContent()));
-        System.out.println();
+    /**
+     * An element that must not be substituted.
+     */
+    private static final class KeptElement implements Element {
+        private final Element element;
+
+        KeptElement(final Element element) {
+            this.element = element;
+        }
+
+        @Override
+        public String getContent() {
+            return element.getContent();
+        }
     }
 
 }
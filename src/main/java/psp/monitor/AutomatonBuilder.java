@@ -0,0 +1,404 @@
+package psp.monitor;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.Deque;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+import psp.mappings.elements.Element;
+import psp.mappings.elements.MiscElement;
+import psp.mappings.formula.Atom;
+import psp.mappings.formula.BinaryFormula;
+import psp.mappings.formula.Formula;
+import psp.mappings.formula.Group;
+import psp.mappings.formula.Operator;
+import psp.mappings.formula.UnaryFormula;
+import psp.monitor.Obligation.Kind;
+import psp.sel.EventImpl;
+
+/**
+ * Compiles a formula into the deterministic automaton monitoring it. The formula is brought into negation normal
+ * form and then progressed: reading an event turns the obligation on the trace into the obligation on the rest of
+ * the trace. Every state of the automaton is such an obligation, kept as a disjunction of conjunctions of
+ * temporal obligations and reduced by absorption, so that equivalent obligations usually end up in the same state
+ * and there are only finitely many. The automaton is built completely, once, so that monitoring never progresses
+ * a formula.
+ * <p>
+ * A builder compiles a single formula and is not safe for concurrent use.
+ */
+final class AutomatonBuilder {
+    private static final int[][] TRUE = new int[][] {new int[0]};
+    private static final int[][] FALSE = new int[0][];
+    private static final Comparator<int[]> CLAUSE_ORDER = Arrays::compare;
+
+    private record Key(Kind kind, int event, int left, int right) {
+    }
+
+    private final int maximumStates;
+    private final Map<String, Integer> events = new LinkedHashMap<>();
+    private final Map<Key, Obligation> interned = new HashMap<>();
+    private final List<Obligation> obligations = new ArrayList<>();
+    private final Map<Long, int[][]> progressions = new HashMap<>();
+
+    AutomatonBuilder(final int maximumStates) {
+        this.maximumStates = maximumStates;
+    }
+
+    MonitorAutomaton build(final Formula formula) {
+        final int[][] initial = clauses(normalForm(formula, false));
+        final int letters = events.size() + 1;
+
+        final Map<State, Integer> stateIndices = new HashMap<>();
+        final List<int[][]> states = new ArrayList<>();
+        final Deque<Integer> unexplored = new ArrayDeque<>();
+        stateIndices.put(new State(initial), 0);
+        states.add(initial);
+        unexplored.add(0);
+        int[] transitions = new int[16 * letters];
+        while (!unexplored.isEmpty()) {
+            final int state = unexplored.poll();
+            for (int letter = 0; letter < letters; letter++) {
+                final int[][] next = progress(states.get(state), letter);
+                Integer nextState = stateIndices.get(new State(next));
+                if (nextState == null) {
+                    if (states.size() == maximumStates) {
+                        throw new IllegalArgumentException(
+                            String.format("The monitor would need more than %d states.", maximumStates));
+                    }
+                    nextState = states.size();
+                    stateIndices.put(new State(next), nextState);
+                    states.add(next);
+                    unexplored.add(nextState);
+                }
+                if ((state + 1) * letters > transitions.length) {
+                    transitions = Arrays.copyOf(transitions, transitions.length * 2);
+                }
+                transitions[state * letters + letter] = nextState;
+            }
+        }
+
+        final boolean[] accepting = new boolean[states.size()];
+        for (int state = 0; state < accepting.length; state++) {
+            accepting[state] = holdsAtEnd(states.get(state));
+        }
+        return new MonitorAutomaton(events, Arrays.copyOf(transitions, states.size() * letters), accepting);
+    }
+
+    /**
+     * Brings the formula, or its negation, into negation normal form.
+     *
+     * @throws IllegalArgumentException if the formula is not a well formed, untimed formula
+     */
+    private Obligation normalForm(final Formula formula, final boolean negated) {
+        if (formula instanceof Group) {
+            return normalForm(((Group) formula).getOperand(), negated);
+        } else if (formula instanceof Atom) {
+            return atom(((Atom) formula).getElement(), negated);
+        } else if (formula instanceof UnaryFormula) {
+            final UnaryFormula unary = (UnaryFormula) formula;
+            if (unary.getBound() != null) {
+                throw new IllegalArgumentException("Bounded operators cannot be monitored: " + formula);
+            }
+            if (unary.getOperator() == Operator.NOT) {
+                return normalForm(unary.getOperand(), !negated);
+            }
+            final Obligation operand = normalForm(unary.getOperand(), negated);
+            switch (unary.getOperator()) {
+                case ALWAYS:
+                    return obligation(negated ? Kind.EVENTUALLY : Kind.ALWAYS, operand, null);
+                case EVENTUALLY:
+                    return obligation(negated ? Kind.ALWAYS : Kind.EVENTUALLY, operand, null);
+                case NEXT:
+                    return obligation(negated ? Kind.WEAK_NEXT : Kind.NEXT, operand, null);
+                default:
+                    throw new IllegalArgumentException("Operator cannot be monitored: " + unary.getOperator());
+            }
+        } else if (formula instanceof BinaryFormula) {
+            final BinaryFormula binary = (BinaryFormula) formula;
+            if (binary.getBound() != null) {
+                throw new IllegalArgumentException("Bounded operators cannot be monitored: " + formula);
+            }
+            switch (binary.getOperator()) {
+                case AND:
+                    return junction(negated ? Kind.OR : Kind.AND, normalForm(binary.getLeft(), negated),
+                        normalForm(binary.getRight(), negated));
+                case OR:
+                    return junction(negated ? Kind.AND : Kind.OR, normalForm(binary.getLeft(), negated),
+                        normalForm(binary.getRight(), negated));
+                case IMPLIES:
+                    return junction(negated ? Kind.AND : Kind.OR, normalForm(binary.getLeft(), !negated),
+                        normalForm(binary.getRight(), negated));
+                case UNTIL:
+                case WEAK_UNTIL:
+                    return until(binary, negated);
+                default:
+                    throw new IllegalArgumentException("Operator cannot be monitored: " + binary.getOperator());
+            }
+        }
+        throw new IllegalArgumentException("Formula is not well formed: " + formula);
+    }
+
+    /**
+     * {@code a U b} is negated to {@code !b W (!a & !b)}, {@code a W b} to {@code !b U (!a & !b)}.
+     */
+    private Obligation until(final BinaryFormula formula, final boolean negated) {
+        final boolean weak = formula.getOperator() == Operator.WEAK_UNTIL;
+        if (!negated) {
+            return obligation(weak ? Kind.WEAK_UNTIL : Kind.UNTIL, normalForm(formula.getLeft(), false),
+                normalForm(formula.getRight(), false));
+        }
+        final Obligation notRight = normalForm(formula.getRight(), true);
+        return obligation(weak ? Kind.UNTIL : Kind.WEAK_UNTIL, notRight,
+            junction(Kind.AND, normalForm(formula.getLeft(), true), notRight));
+    }
+
+    private Obligation atom(final Element element, final boolean negated) {
+        if (element instanceof EventImpl) {
+            final int event = events.computeIfAbsent(((EventImpl) element).getName(), name -> events.size());
+            return intern(negated ? Kind.NOT_EVENT : Kind.EVENT, event, null, null);
+        }
+        if ((element instanceof MiscElement) && element.getContent().equals("true")) {
+            return constant(!negated);
+        }
+        if ((element instanceof MiscElement) && element.getContent().equals("false")) {
+            return constant(negated);
+        }
+        throw new IllegalArgumentException("Formula is not well formed, found " + element.getContent());
+    }
+
+    private Obligation constant(final boolean value) {
+        return intern(value ? Kind.TRUE : Kind.FALSE, -1, null, null);
+    }
+
+    private Obligation junction(final Kind kind, final Obligation left, final Obligation right) {
+        final Kind neutral = kind == Kind.AND ? Kind.TRUE : Kind.FALSE;
+        if (left.getKind() == neutral) {
+            return right;
+        } else if (right.getKind() == neutral || left == right) {
+            return left;
+        }
+        return obligation(kind, left, right);
+    }
+
+    private Obligation obligation(final Kind kind, final Obligation left, final Obligation right) {
+        return intern(kind, -1, left, right);
+    }
+
+    private Obligation intern(final Kind kind, final int event, final Obligation left, final Obligation right) {
+        final Key key = new Key(kind, event, left == null ? -1 : left.getId(), right == null ? -1 : right.getId());
+        Obligation obligation = interned.get(key);
+        if (obligation == null) {
+            obligation = new Obligation(obligations.size(), kind, event, left, right);
+            interned.put(key, obligation);
+            obligations.add(obligation);
+        }
+        return obligation;
+    }
+
+    /**
+     * @return the obligation as a disjunction of conjunctions of obligations that are not boolean combinations
+     */
+    private int[][] clauses(final Obligation obligation) {
+        switch (obligation.getKind()) {
+            case TRUE:
+                return TRUE;
+            case FALSE:
+                return FALSE;
+            case AND:
+                return and(clauses(obligation.getLeft()), clauses(obligation.getRight()));
+            case OR:
+                return or(clauses(obligation.getLeft()), clauses(obligation.getRight()));
+            default:
+                return new int[][] {new int[] {obligation.getId()}};
+        }
+    }
+
+    private int[][] progress(final int[][] state, final int letter) {
+        int[][] next = FALSE;
+        for (final int[] clause : state) {
+            int[][] conjunction = TRUE;
+            for (final int obligation : clause) {
+                conjunction = and(conjunction, progress(obligations.get(obligation), letter));
+                if (conjunction.length == 0) {
+                    break;
+                }
+            }
+            next = or(next, conjunction);
+        }
+        return next;
+    }
+
+    private int[][] progress(final Obligation obligation, final int letter) {
+        final long key = ((long) obligation.getId() << 32) | letter;
+        int[][] progressed = progressions.get(key);
+        if (progressed == null) {
+            progressed = progressOnce(obligation, letter);
+            progressions.put(key, progressed);
+        }
+        return progressed;
+    }
+
+    private int[][] progressOnce(final Obligation obligation, final int letter) {
+        final int[][] self = new int[][] {new int[] {obligation.getId()}};
+        switch (obligation.getKind()) {
+            case TRUE:
+            case NONEMPTY:
+                return TRUE;
+            case FALSE:
+            case EMPTY:
+                return FALSE;
+            case EVENT:
+                return obligation.getEvent() == letter ? TRUE : FALSE;
+            case NOT_EVENT:
+                return obligation.getEvent() == letter ? FALSE : TRUE;
+            case AND:
+                return and(progress(obligation.getLeft(), letter), progress(obligation.getRight(), letter));
+            case OR:
+                return or(progress(obligation.getLeft(), letter), progress(obligation.getRight(), letter));
+            case NEXT:
+                return and(clauses(obligation.getLeft()), clauses(intern(Kind.NONEMPTY, -1, null, null)));
+            case WEAK_NEXT:
+                return or(clauses(obligation.getLeft()), clauses(intern(Kind.EMPTY, -1, null, null)));
+            case ALWAYS:
+                return and(progress(obligation.getLeft(), letter), self);
+            case EVENTUALLY:
+                return or(progress(obligation.getLeft(), letter), self);
+            case UNTIL:
+            case WEAK_UNTIL:
+                return or(progress(obligation.getRight(), letter), and(progress(obligation.getLeft(), letter), self));
+            default:
+                throw new IllegalStateException("Found unexpected obligation " + obligation.getKind());
+        }
+    }
+
+    private boolean holdsAtEnd(final int[][] state) {
+        for (final int[] clause : state) {
+            boolean holds = true;
+            for (final int obligation : clause) {
+                holds &= obligations.get(obligation).holdsAtEnd();
+            }
+            if (holds) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private static int[][] and(final int[][] left, final int[][] right) {
+        if (left.length == 0 || right.length == 0) {
+            return FALSE;
+        } else if (left == TRUE) {
+            return right;
+        } else if (right == TRUE) {
+            return left;
+        }
+        final int[][] clauses = new int[left.length * right.length][];
+        int i = 0;
+        for (final int[] leftClause : left) {
+            for (final int[] rightClause : right) {
+                clauses[i++] = union(leftClause, rightClause);
+            }
+        }
+        return reduce(clauses);
+    }
+
+    private static int[][] or(final int[][] left, final int[][] right) {
+        if (left.length == 0) {
+            return right;
+        } else if (right.length == 0) {
+            return left;
+        }
+        final int[][] clauses = Arrays.copyOf(left, left.length + right.length);
+        System.arraycopy(right, 0, clauses, left.length, right.length);
+        return reduce(clauses);
+    }
+
+    /**
+     * Merges two sorted clauses.
+     */
+    private static int[] union(final int[] left, final int[] right) {
+        final int[] merged = new int[left.length + right.length];
+        int i = 0;
+        int j = 0;
+        int k = 0;
+        while (i < left.length || j < right.length) {
+            if (j == right.length || (i < left.length && left[i] < right[j])) {
+                merged[k++] = left[i++];
+            } else if (i == left.length || right[j] < left[i]) {
+                merged[k++] = right[j++];
+            } else {
+                merged[k++] = left[i++];
+                j++;
+            }
+        }
+        return k == merged.length ? merged : Arrays.copyOf(merged, k);
+    }
+
+    /**
+     * Sorts the clauses and drops every clause that contains another one, as it is absorbed by it.
+     */
+    private static int[][] reduce(final int[][] clauses) {
+        Arrays.sort(clauses, Comparator.<int[]>comparingInt(clause -> clause.length).thenComparing(CLAUSE_ORDER));
+        final List<int[]> reduced = new ArrayList<>(clauses.length);
+        for (final int[] clause : clauses) {
+            if (clause.length == 0) {
+                return TRUE;
+            }
+            boolean absorbed = false;
+            for (final int[] kept : reduced) {
+                if (contains(clause, kept)) {
+                    absorbed = true;
+                    break;
+                }
+            }
+            if (!absorbed) {
+                reduced.add(clause);
+            }
+        }
+        return reduced.toArray(new int[0][]);
+    }
+
+    /**
+     * @return whether the sorted clause contains every obligation of the other sorted clause
+     */
+    private static boolean contains(final int[] clause, final int[] other) {
+        int i = 0;
+        for (final int obligation : other) {
+            while (i < clause.length && clause[i] < obligation) {
+                i++;
+            }
+            if (i == clause.length || clause[i] != obligation) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * A state of the automaton, compared by its clauses.
+     */
+    private static final class State {
+        private final int[][] clauses;
+        private final int hash;
+
+        State(final int[][] clauses) {
+            this.clauses = clauses;
+            this.hash = Arrays.deepHashCode(clauses);
+        }
+
+        @Override
+        public boolean equals(final Object obj) {
+            return obj instanceof State && Arrays.deepEquals(clauses, ((State) obj).clauses);
+        }
+
+        @Override
+        public int hashCode() {
+            return hash;
+        }
+    }
+}
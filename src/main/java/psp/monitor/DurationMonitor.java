@@ -0,0 +1,41 @@
+package psp.monitor;
+
+/**
+ * Once p holds, it holds for at least, or for less than, a duration: p holds from an occurrence of p that follows
+ * another event, or starts the trace, up to the next event that is not p. A minimum duration is violated by an
+ * event that ends p too early, a maximum duration by the time reaching the end of the duration while p holds.
+ */
+final class DurationMonitor extends TimedMonitor {
+    private final String p;
+    private final boolean minimum;
+    private final long duration;
+    private boolean holding;
+    private long since;
+
+    DurationMonitor(final TimedMonitorEngine engine, final String p, final boolean minimum, final long duration) {
+        super(engine);
+        this.p = p;
+        this.minimum = minimum;
+        this.duration = duration;
+    }
+
+    @Override
+    void read(final String event, final long time) {
+        if (event.equals(p)) {
+            if (!holding) {
+                holding = true;
+                since = time;
+                if (!minimum) {
+                    setDeadline(after(since, duration));
+                }
+            }
+        } else if (holding) {
+            holding = false;
+            if (minimum && time - since < duration) {
+                violate();
+            } else if (!minimum) {
+                cancelDeadline();
+            }
+        }
+    }
+}
@@ -0,0 +1,50 @@
+package psp.monitor;
+
+import psp.sel.EventImpl;
+
+/**
+ * Monitors a single trace, one event at a time. Each event is a single transition of the
+ * {@link MonitorAutomaton}. A monitor is not safe for concurrent use.
+ */
+public final class Monitor {
+    private final MonitorAutomaton automaton;
+    private int state;
+
+    Monitor(final MonitorAutomaton automaton) {
+        this.automaton = automaton;
+        this.state = automaton.initialState();
+    }
+
+    public void step(final EventImpl event) {
+        state = automaton.next(state, event);
+    }
+
+    /**
+     * @return the verdict on the events read so far, as if the trace ended now
+     */
+    public Verdict getVerdict() {
+        return automaton.isAccepting(state) ? Verdict.TRUE : Verdict.FALSE;
+    }
+
+    /**
+     * @return the verdict on every trace that starts with the events read so far, {@link Verdict#INCONCLUSIVE} if
+     *         it depends on the events to come
+     */
+    public Verdict getFinalVerdict() {
+        return automaton.finalVerdict(state);
+    }
+
+    /**
+     * @return whether the verdict no longer depends on the events to come, so that they need not be read
+     */
+    public boolean isFinal() {
+        return automaton.finalVerdict(state) != Verdict.INCONCLUSIVE;
+    }
+
+    /**
+     * Starts over with an empty trace.
+     */
+    public void reset() {
+        state = automaton.initialState();
+    }
+}
@@ -0,0 +1,163 @@
+package psp.monitor;
+
+import java.util.Arrays;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.BiConsumer;
+
+import psp.sel.EventImpl;
+
+/**
+ * The deterministic automaton monitoring a property. Its letters are the events of the property, identified by
+ * their name like {@link EventImpl#equals}, and one more letter for any other event. Every position of a trace is
+ * the occurrence of a single event. An automaton is immutable and can be shared by any number of
+ * {@link Monitor}s and threads.
+ * <p>
+ * A state is final if the verdict no longer depends on how the trace goes on: if all states reachable from it,
+ * itself included, are accepting, or if none is. The final verdicts are found once, backwards from the accepting
+ * and from the rejecting states.
+ */
+public final class MonitorAutomaton {
+    private final Map<String, Integer> events;
+    private final int otherEvent;
+    private final int[] transitions;
+    private final boolean[] accepting;
+    private final Verdict[] finalVerdicts;
+
+    MonitorAutomaton(final Map<String, Integer> events, final int[] transitions, final boolean[] accepting) {
+        this.events = Map.copyOf(events);
+        this.otherEvent = events.size();
+        this.transitions = transitions;
+        this.accepting = accepting;
+        this.finalVerdicts = finalVerdicts();
+    }
+
+    /**
+     * @return a monitor in the initial state of the automaton
+     */
+    public Monitor newMonitor() {
+        return new Monitor(this);
+    }
+
+    /**
+     * @param listener receives the binding of each slice and its verdict, see {@link ParametricMonitor}
+     * @return a monitor that slices the trace by the parameters of the events, like {@code A(a)}
+     * @throws IllegalArgumentException if an event of the property is used with different parameters
+     */
+    public ParametricMonitor newParametricMonitor(final BiConsumer<Map<String, Object>, Verdict> listener) {
+        return newParametricMonitor(listener, ParametricMonitor.DEFAULT_MAXIMUM_VALUES);
+    }
+
+    /**
+     * @param maximumValues the most live parameter values, beyond which the value seen least recently is retired
+     * @return a monitor that slices the trace by the parameters of the events, see {@link ParametricMonitor}
+     * @throws IllegalArgumentException if an event of the property is used with different parameters or the
+     *         maximum is not positive
+     */
+    public ParametricMonitor newParametricMonitor(final BiConsumer<Map<String, Object>, Verdict> listener,
+        final int maximumValues) {
+        return new ParametricMonitor(this, listener, maximumValues);
+    }
+
+    /**
+     * Checks a complete trace.
+     */
+    public Verdict check(final Iterable<EventImpl> trace) {
+        final Monitor monitor = newMonitor();
+        for (final EventImpl event : trace) {
+            monitor.step(event);
+        }
+        return monitor.getVerdict();
+    }
+
+    public int getStateCount() {
+        return accepting.length;
+    }
+
+    int initialState() {
+        return 0;
+    }
+
+    int next(final int state, final EventImpl event) {
+        return next(state, letter(event.getName()));
+    }
+
+    int next(final int state, final int letter) {
+        return transitions[state * (otherEvent + 1) + letter];
+    }
+
+    /**
+     * @return the letter of the event with the name, that of any other event if the property has no such event
+     */
+    int letter(final String name) {
+        final Integer letter = events.get(name);
+        return letter == null ? otherEvent : letter;
+    }
+
+    Set<String> getEventNames() {
+        return events.keySet();
+    }
+
+    boolean isAccepting(final int state) {
+        return accepting[state];
+    }
+
+    /**
+     * @return the verdict of the state if it is final, {@link Verdict#INCONCLUSIVE} otherwise
+     */
+    Verdict finalVerdict(final int state) {
+        return finalVerdicts[state];
+    }
+
+    private Verdict[] finalVerdicts() {
+        final int states = accepting.length;
+        final int letters = otherEvent + 1;
+        // the predecessors of every state, by the order of their state
+        final int[] starts = new int[states + 1];
+        for (final int target : transitions) {
+            starts[target + 1]++;
+        }
+        for (int state = 0; state < states; state++) {
+            starts[state + 1] += starts[state];
+        }
+        final int[] predecessors = new int[transitions.length];
+        final int[] filled = Arrays.copyOf(starts, states);
+        for (int transition = 0; transition < transitions.length; transition++) {
+            predecessors[filled[transitions[transition]]++] = transition / letters;
+        }
+
+        final boolean[] mayAccept = reaching(true, starts, predecessors);
+        final boolean[] mayReject = reaching(false, starts, predecessors);
+        final Verdict[] verdicts = new Verdict[states];
+        for (int state = 0; state < states; state++) {
+            verdicts[state] = !mayReject[state] ? Verdict.TRUE : !mayAccept[state] ? Verdict.FALSE
+                : Verdict.INCONCLUSIVE;
+        }
+        return verdicts;
+    }
+
+    /**
+     * @return the states from which an accepting, or a rejecting, state is reachable
+     */
+    private boolean[] reaching(final boolean accepted, final int[] starts, final int[] predecessors) {
+        final boolean[] reaching = new boolean[accepting.length];
+        final int[] pending = new int[accepting.length];
+        int size = 0;
+        for (int state = 0; state < accepting.length; state++) {
+            if (accepting[state] == accepted) {
+                reaching[state] = true;
+                pending[size++] = state;
+            }
+        }
+        while (size > 0) {
+            final int state = pending[--size];
+            for (int i = starts[state]; i < starts[state + 1]; i++) {
+                if (!reaching[predecessors[i]]) {
+                    reaching[predecessors[i]] = true;
+                    pending[size++] = predecessors[i];
+                }
+            }
+        }
+        return reaching;
+    }
+}
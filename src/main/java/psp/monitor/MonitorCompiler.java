@@ -0,0 +1,54 @@
+package psp.monitor;
+
+import psp.mappings.LTLMapper;
+import psp.mappings.MappingContext;
+import psp.mappings.formula.Formula;
+import psp.mappings.formula.FormulaFactory;
+import psp.sel.patterns.Pattern;
+import psp.sel.scopes.Scope;
+
+/**
+ * Compiles properties into {@link MonitorAutomaton}s. A property is compiled from the formula the
+ * {@link LTLMapper} maps it to, read from the elements of the mapping rather than from its text, so the monitor
+ * checks exactly what the mapping states. Traces are finite: at the end of a trace, always and weak until hold,
+ * while eventually, until and next do not.
+ * <p>
+ * The compiler keeps no state and can be shared by any number of threads.
+ */
+public final class MonitorCompiler {
+    /**
+     * Number of states an automaton may have by default.
+     */
+    public static final int DEFAULT_MAXIMUM_STATES = 1 << 16;
+
+    private static final LTLMapper MAPPER = new LTLMapper();
+
+    private final int maximumStates;
+
+    public MonitorCompiler() {
+        this(DEFAULT_MAXIMUM_STATES);
+    }
+
+    /**
+     * @param maximumStates the maximum number of states of an automaton
+     */
+    public MonitorCompiler(final int maximumStates) {
+        this.maximumStates = maximumStates;
+    }
+
+    /**
+     * @throws IllegalArgumentException if LTL does not support the property, its mapping is not well formed, or
+     *         its automaton would have too many states
+     */
+    public MonitorAutomaton compile(final Scope scope, final Pattern pattern) {
+        if (!MAPPER.isScopeSupported(scope) || !MAPPER.isPatternSupported(pattern)) {
+            throw new IllegalArgumentException(MAPPER.getNotSupportedMessage());
+        }
+        final MappingContext context = new MappingContext();
+        final Formula formula = MAPPER.mapToFormula(scope, pattern, context, new FormulaFactory());
+        if (context.hasMappingErrorOccurred()) {
+            throw new IllegalArgumentException("The property cannot be mapped to LTL.");
+        }
+        return new AutomatonBuilder(maximumStates).build(formula);
+    }
+}
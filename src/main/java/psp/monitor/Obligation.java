@@ -0,0 +1,80 @@
+package psp.monitor;
+
+/**
+ * A formula in negation normal form, as monitored: negations only apply to events, and the dual of every
+ * operator is available, so that negating a formula never leaves negation normal form. Obligations are interned
+ * by the {@link AutomatonBuilder}, hence two obligations are equal if and only if they are the same object.
+ * <p>
+ * On finite traces next comes in two flavours: the strong next requires a next position, the weak next holds at
+ * the end of the trace. {@link Kind#NONEMPTY} and {@link Kind#EMPTY} are what remains of them once their position
+ * has been read: the trace must go on, or must end, respectively.
+ */
+final class Obligation {
+    enum Kind {
+        TRUE, FALSE, EVENT, NOT_EVENT, AND, OR, NEXT, WEAK_NEXT, ALWAYS, EVENTUALLY, UNTIL, WEAK_UNTIL, NONEMPTY,
+        EMPTY
+    }
+
+    private final int id;
+    private final Kind kind;
+    private final int event;
+    private final Obligation left;
+    private final Obligation right;
+
+    Obligation(final int id, final Kind kind, final int event, final Obligation left, final Obligation right) {
+        this.id = id;
+        this.kind = kind;
+        this.event = event;
+        this.left = left;
+        this.right = right;
+    }
+
+    int getId() {
+        return id;
+    }
+
+    Kind getKind() {
+        return kind;
+    }
+
+    /**
+     * @return the index of the event of an {@link Kind#EVENT} or {@link Kind#NOT_EVENT}, -1 otherwise
+     */
+    int getEvent() {
+        return event;
+    }
+
+    /**
+     * @return the operand of a unary operator, or the left operand of a binary one
+     */
+    Obligation getLeft() {
+        return left;
+    }
+
+    Obligation getRight() {
+        return right;
+    }
+
+    /**
+     * Whether the obligation holds at the end of the trace, where no event occurs anymore. Only obligations
+     * that are not boolean combinations can be asked.
+     */
+    boolean holdsAtEnd() {
+        switch (kind) {
+            case NOT_EVENT:
+            case WEAK_NEXT:
+            case ALWAYS:
+            case WEAK_UNTIL:
+            case EMPTY:
+                return true;
+            case EVENT:
+            case NEXT:
+            case EVENTUALLY:
+            case UNTIL:
+            case NONEMPTY:
+                return false;
+            default:
+                throw new IllegalStateException(String.format("Found unexpected obligation %s at the end.", kind));
+        }
+    }
+}
@@ -0,0 +1,51 @@
+package psp.monitor;
+
+/**
+ * Universality: p holds at every position within {@code [lower, upper]} of the first event. Existence: p holds at
+ * some position within {@code [lower, upper]} of the first event, which is too late one time unit after the upper
+ * limit.
+ */
+final class OccurrenceMonitor extends TimedMonitor {
+    private final String p;
+    private final boolean universal;
+    private final long lower;
+    private final long upper;
+    private boolean started;
+    private long origin;
+    private boolean occurred;
+
+    OccurrenceMonitor(final TimedMonitorEngine engine, final String p, final boolean universal, final long lower,
+        final long upper) {
+        super(engine);
+        this.p = p;
+        this.universal = universal;
+        this.lower = lower;
+        this.upper = upper;
+    }
+
+    @Override
+    void read(final String event, final long time) {
+        if (!started) {
+            started = true;
+            origin = time;
+            if (!universal) {
+                setDeadline(after(after(origin, upper), 1));
+            }
+        }
+        final long elapsed = time - origin;
+        if (elapsed < lower || elapsed > upper || (!universal && occurred)) {
+            return;
+        }
+        if (universal && !event.equals(p)) {
+            violate();
+        } else if (!universal && event.equals(p)) {
+            occurred = true;
+            cancelDeadline();
+        }
+    }
+
+    @Override
+    boolean holdsAtEnd() {
+        return universal || occurred;
+    }
+}
@@ -0,0 +1,450 @@
+package psp.monitor;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeSet;
+import java.util.function.BiConsumer;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/**
+ * Monitors a trace of parameterized events, one slice of the trace per binding of the parameters. The events of
+ * the property name their parameters, like {@code A(a)}, {@code pEvent(p)} or {@code use(f, g)}; the events of the
+ * trace carry their values, like {@code step("A", 42)}. The slice of a binding holds the events whose values agree
+ * with it, and is checked on its own, as if it were the whole trace.
+ * <p>
+ * Slices are created as the bindings show up: an event creates the slice of its own binding and the slices of its
+ * joins with the compatible bindings seen so far, each from the slice of the largest binding it extends, as in
+ * the parametric trace slicing of Chen and Roşu. The slices of a set of bound parameters are indexed by their
+ * values, and by the values of the parameters the events bind, so that finding the slices of an event costs the
+ * same few hash lookups however many bindings there are, plus one step per slice that reads the event. An event
+ * without parameters is read by every slice, so it costs one step per slice: properties that name such events are
+ * best monitored with few live values. A slice is a single state of the {@link MonitorAutomaton}.
+ * <p>
+ * Parameter values are compared with {@link Object#equals} and held until they are {@link #retire retired}, which
+ * ends the slices of every binding with the value: a value that shows up again afterwards is a new one. Values are
+ * also retired automatically: once more than the maximum number of values are live, the value seen least recently
+ * is retired, so that values nobody retires do not pile up. Slices are reported once to the listener, when their
+ * verdict becomes final or when they end.
+ * <p>
+ * A parametric monitor is not safe for concurrent use.
+ */
+public final class ParametricMonitor {
+    private static final Pattern PARAMETERIZED = Pattern.compile("\\s*([^(),\\s]+)\\s*\\(([^()]*)\\)\\s*");
+
+    /**
+     * The most parameters a property may have.
+     */
+    private static final int MAXIMUM_PARAMETERS = 16;
+
+    /**
+     * The most live values of a monitor, by default.
+     */
+    public static final int DEFAULT_MAXIMUM_VALUES = 1 << 20;
+
+    /**
+     * An event of the property.
+     */
+    private static final class Symbol {
+        final int letter;
+        final int[] parameters;
+        final int mask;
+
+        Symbol(final int letter, final int[] parameters) {
+            this.letter = letter;
+            this.parameters = parameters;
+            int mask = 0;
+            for (final int parameter : parameters) {
+                mask |= 1 << parameter;
+            }
+            this.mask = mask;
+        }
+    }
+
+    private static final class Slice {
+        /**
+         * The values of the binding by parameter, null where unbound.
+         */
+        final Object[] binding;
+        final int mask;
+        /**
+         * The number of the event that created the slice.
+         */
+        final long created;
+        int state;
+        boolean reported;
+
+        Slice(final Object[] binding, final int mask, final long created, final int state) {
+            this.binding = binding;
+            this.mask = mask;
+            this.created = created;
+            this.state = state;
+        }
+    }
+
+    /**
+     * The values of two or more parameters.
+     */
+    private static final class Key {
+        private final Object[] values;
+
+        Key(final Object[] values) {
+            this.values = values;
+        }
+
+        @Override
+        public boolean equals(final Object other) {
+            return other instanceof Key && Arrays.equals(values, ((Key) other).values);
+        }
+
+        @Override
+        public int hashCode() {
+            return Arrays.hashCode(values);
+        }
+    }
+
+    /**
+     * The slices of a set of bound parameters by their values on some of them.
+     */
+    private static final class Index {
+        final int projection;
+        final Map<Object, List<Slice>> slices = new HashMap<>();
+
+        Index(final int projection) {
+            this.projection = projection;
+        }
+    }
+
+    private final MonitorAutomaton automaton;
+    private final BiConsumer<Map<String, Object>, Verdict> listener;
+    private final List<String> parameters;
+    private final Map<String, Symbol> symbols = new HashMap<>();
+    /**
+     * The sets of parameters a binding may bind, largest first.
+     */
+    private final int[] masks;
+    /**
+     * The slices by set of bound parameters, then by their values, {@code null} for sets no binding binds.
+     */
+    private final List<Map<Object, Slice>> slices;
+    private final Index[][] indices;
+    private final int maximumValues;
+    /**
+     * The live values, seen least recently first.
+     */
+    private final Map<Object, Boolean> values = new LinkedHashMap<>(16, 0.75f, true);
+    private long events;
+    private int size;
+
+    /**
+     * @param listener receives the binding of each slice, from parameter to value, and its verdict when the verdict
+     *        is final or the slice ends
+     * @param maximumValues the most live values, beyond which the value seen least recently is retired
+     * @throws IllegalArgumentException if an event of the property is used with different parameters, the
+     *         property has too many parameters or the maximum is not positive
+     */
+    ParametricMonitor(final MonitorAutomaton automaton, final BiConsumer<Map<String, Object>, Verdict> listener,
+        final int maximumValues) {
+        if (maximumValues < 1) {
+            throw new IllegalArgumentException("Maximum number of values must be positive: " + maximumValues);
+        }
+        this.automaton = automaton;
+        this.listener = listener;
+        this.maximumValues = maximumValues;
+        final Map<String, List<String>> events = new HashMap<>();
+        final TreeSet<String> names = new TreeSet<>();
+        for (final String event : automaton.getEventNames()) {
+            final Matcher matcher = PARAMETERIZED.matcher(event);
+            final List<String> variables = new ArrayList<>();
+            String name = event;
+            if (matcher.matches()) {
+                name = matcher.group(1);
+                for (final String variable : matcher.group(2).split(",")) {
+                    if (!variable.isBlank()) {
+                        variables.add(variable.trim());
+                    }
+                }
+                if (variables.size() != new TreeSet<>(variables).size()) {
+                    throw new IllegalArgumentException("Event binds a parameter twice: " + event);
+                }
+            }
+            final List<String> previous = events.putIfAbsent(name, variables);
+            if (previous != null) {
+                throw new IllegalArgumentException("Event " + name + " is used with different parameters.");
+            }
+            names.addAll(variables);
+        }
+        if (names.size() > MAXIMUM_PARAMETERS) {
+            throw new IllegalArgumentException("Property has more than " + MAXIMUM_PARAMETERS + " parameters.");
+        }
+        parameters = List.copyOf(names);
+        for (final String event : automaton.getEventNames()) {
+            final Matcher matcher = PARAMETERIZED.matcher(event);
+            final String name = matcher.matches() ? matcher.group(1) : event;
+            symbols.put(name, new Symbol(automaton.letter(event),
+                events.get(name).stream().mapToInt(parameters::indexOf).toArray()));
+        }
+
+        // the bindings are joins of the bindings of events
+        final TreeSet<Integer> closure = new TreeSet<>(List.of(0));
+        for (final Symbol symbol : symbols.values()) {
+            for (final int mask : List.copyOf(closure)) {
+                closure.add(mask | symbol.mask);
+            }
+        }
+        masks = closure.stream().sorted((a, b) -> Integer.bitCount(b) - Integer.bitCount(a))
+            .mapToInt(Integer::intValue).toArray();
+        slices = new ArrayList<>(Collections.nCopies(1 << parameters.size(), null));
+        indices = new Index[1 << parameters.size()][];
+        for (final int mask : masks) {
+            slices.set(mask, new HashMap<>());
+            // indexed by the parameters of events they share, and by each parameter to retire values
+            final TreeSet<Integer> projections = new TreeSet<>();
+            for (final Symbol symbol : symbols.values()) {
+                projections.add(mask & symbol.mask);
+            }
+            for (int parameter = 0; parameter < parameters.size(); parameter++) {
+                projections.add(mask & 1 << parameter);
+            }
+            projections.remove(0);
+            projections.remove(mask);
+            indices[mask] = projections.stream().map(Index::new).toArray(Index[]::new);
+        }
+        add(new Slice(new Object[parameters.size()], 0, -1, automaton.initialState()));
+    }
+
+    /**
+     * @return the parameters of the property, in the order of their names
+     */
+    public List<String> getParameters() {
+        return parameters;
+    }
+
+    /**
+     * @return the number of slices, including that of the empty binding
+     */
+    public int getSliceCount() {
+        return size;
+    }
+
+    /**
+     * @return the number of live values, which have been seen and not retired
+     */
+    public int getValueCount() {
+        return values.size();
+    }
+
+    /**
+     * Reads an event of the trace. Events the property does not name belong to no slice and are ignored. If the
+     * values of the event exceed the maximum number of live values, the values seen least recently are retired.
+     *
+     * @param name the name of the event without its parameters, {@code A} for {@code A(a)}
+     * @param values the values of the parameters of the event, in their order
+     * @throws IllegalArgumentException if the event has a different number of parameters, or a null value
+     */
+    public void step(final String name, final Object... values) {
+        final Symbol symbol = symbols.get(name);
+        if (symbol == null) {
+            return;
+        }
+        if (values.length != symbol.parameters.length) {
+            throw new IllegalArgumentException(String.format("Event %s has %d parameters, found %d values.", name,
+                symbol.parameters.length, values.length));
+        }
+        final Object[] binding = new Object[parameters.size()];
+        for (int i = 0; i < values.length; i++) {
+            if (values[i] == null) {
+                throw new IllegalArgumentException("Event " + name + " has a null value.");
+            }
+            binding[symbol.parameters[i]] = values[i];
+        }
+        for (final Object value : values) {
+            this.values.put(value, Boolean.TRUE);
+        }
+        final int mask = symbol.mask;
+        events++;
+
+        if (slices.get(mask).get(key(binding, mask)) == null) {
+            create(binding, mask);
+        }
+        for (final int other : masks) {
+            // bindings that neither extend the event nor are extended by it join with it
+            if ((other & ~mask) != 0 && (mask & ~other) != 0) {
+                for (final Slice slice : compatible(other, mask & other, binding)) {
+                    final Object[] join = binding.clone();
+                    for (int parameter = 0; parameter < join.length; parameter++) {
+                        if (join[parameter] == null) {
+                            join[parameter] = slice.binding[parameter];
+                        }
+                    }
+                    if (slices.get(mask | other).get(key(join, mask | other)) == null) {
+                        create(join, mask | other);
+                    }
+                }
+            }
+        }
+
+        for (final int other : masks) {
+            if ((mask & ~other) == 0) {
+                for (final Slice slice : compatible(other, mask, binding)) {
+                    slice.state = automaton.next(slice.state, symbol.letter);
+                    if (!slice.reported && automaton.finalVerdict(slice.state) != Verdict.INCONCLUSIVE) {
+                        slice.reported = true;
+                        listener.accept(toMap(slice.binding), automaton.finalVerdict(slice.state));
+                    }
+                }
+            }
+        }
+
+        while (this.values.size() > maximumValues) {
+            retire(this.values.keySet().iterator().next());
+        }
+    }
+
+    /**
+     * Ends the slices of every binding with the value, which are reported with their verdict if they were not yet.
+     */
+    public void retire(final Object value) {
+        values.remove(value);
+        for (final int mask : masks) {
+            for (int parameter = 0; parameter < parameters.size(); parameter++) {
+                if ((mask & 1 << parameter) != 0) {
+                    final Object[] binding = new Object[parameters.size()];
+                    binding[parameter] = value;
+                    for (final Slice slice : List.copyOf(compatible(mask, 1 << parameter, binding))) {
+                        remove(slice);
+                    }
+                }
+            }
+        }
+    }
+
+    /**
+     * @param binding the values of some of the parameters
+     * @return the verdict on the slice of the binding, as if the trace ended now
+     * @throws IllegalArgumentException if the property has no such parameter
+     */
+    public Verdict getVerdict(final Map<String, ?> binding) {
+        final Object[] values = new Object[parameters.size()];
+        int mask = 0;
+        for (final Map.Entry<String, ?> entry : binding.entrySet()) {
+            final int parameter = parameters.indexOf(entry.getKey());
+            if (parameter < 0) {
+                throw new IllegalArgumentException("Property has no parameter " + entry.getKey() + ".");
+            }
+            values[parameter] = entry.getValue();
+            mask |= 1 << parameter;
+        }
+        return automaton.isAccepting(largest(values, mask, Long.MAX_VALUE).state) ? Verdict.TRUE : Verdict.FALSE;
+    }
+
+    /**
+     * Creates the slice of a binding from the slice of the largest binding it extends, among those created before
+     * the current event.
+     */
+    private void create(final Object[] binding, final int mask) {
+        add(new Slice(binding, mask, events, largest(binding, mask, events).state));
+    }
+
+    /**
+     * @return the slice of the largest binding that the binding extends, among those created before the event
+     */
+    private Slice largest(final Object[] binding, final int mask, final long event) {
+        for (final int other : masks) {
+            if ((other & ~mask) == 0) {
+                final Slice slice = slices.get(other).get(key(binding, other));
+                if (slice != null && slice.created < event) {
+                    return slice;
+                }
+            }
+        }
+        // the slice of the empty binding is always there
+        throw new IllegalStateException("Found no slice of the empty binding.");
+    }
+
+    /**
+     * @return the slices of the bound parameters whose values on the projection are those of the binding
+     */
+    private Collection<Slice> compatible(final int mask, final int projection, final Object[] binding) {
+        if (projection == 0) {
+            return slices.get(mask).values();
+        }
+        if (projection == mask) {
+            final Slice slice = slices.get(mask).get(key(binding, mask));
+            return slice == null ? List.of() : List.of(slice);
+        }
+        final List<Slice> compatible = index(mask, projection).slices.get(key(binding, projection));
+        return compatible == null ? List.of() : compatible;
+    }
+
+    private Index index(final int mask, final int projection) {
+        for (final Index index : indices[mask]) {
+            if (index.projection == projection) {
+                return index;
+            }
+        }
+        throw new IllegalStateException(String.format("Found no index of %x by %x.", mask, projection));
+    }
+
+    private void add(final Slice slice) {
+        slices.get(slice.mask).put(key(slice.binding, slice.mask), slice);
+        for (final Index index : indices[slice.mask]) {
+            index.slices.computeIfAbsent(key(slice.binding, index.projection), key -> new ArrayList<>(1))
+                .add(slice);
+        }
+        size++;
+    }
+
+    private void remove(final Slice slice) {
+        // a binding with the value twice is found twice
+        if (!slices.get(slice.mask).remove(key(slice.binding, slice.mask), slice)) {
+            return;
+        }
+        for (final Index index : indices[slice.mask]) {
+            final Object key = key(slice.binding, index.projection);
+            final List<Slice> indexed = index.slices.get(key);
+            indexed.remove(slice);
+            if (indexed.isEmpty()) {
+                index.slices.remove(key);
+            }
+        }
+        size--;
+        if (!slice.reported) {
+            slice.reported = true;
+            listener.accept(toMap(slice.binding), automaton.isAccepting(slice.state) ? Verdict.TRUE : Verdict.FALSE);
+        }
+    }
+
+    /**
+     * @return the value itself for a single parameter, so that most properties key their slices by plain values
+     */
+    private static Object key(final Object[] binding, final int mask) {
+        if (Integer.bitCount(mask) == 1) {
+            return binding[Integer.numberOfTrailingZeros(mask)];
+        }
+        final Object[] values = new Object[Integer.bitCount(mask)];
+        int i = 0;
+        for (int parameter = 0; parameter < binding.length; parameter++) {
+            if ((mask & 1 << parameter) != 0) {
+                values[i++] = binding[parameter];
+            }
+        }
+        return new Key(values);
+    }
+
+    private Map<String, Object> toMap(final Object[] binding) {
+        final Map<String, Object> map = new LinkedHashMap<>();
+        for (int parameter = 0; parameter < binding.length; parameter++) {
+            if (binding[parameter] != null) {
+                map.put(parameters.get(parameter), binding[parameter]);
+            }
+        }
+        return map;
+    }
+}
@@ -0,0 +1,222 @@
+package psp.monitor;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+import psp.mappings.GenericMapper;
+import psp.mappings.MappingContext;
+import psp.mappings.TimedTBVMapper;
+import psp.mappings.elements.Element;
+import psp.mappings.elements.MiscElement;
+import psp.mappings.formula.Atom;
+import psp.mappings.formula.BinaryFormula;
+import psp.mappings.formula.Formula;
+import psp.mappings.formula.FormulaFactory;
+import psp.mappings.formula.Group;
+import psp.mappings.formula.UnaryFormula;
+import psp.sel.EventImpl;
+import psp.sel.patterns.Pattern;
+import psp.sel.scopes.Scope;
+
+/**
+ * Compiles properties into {@link PastTimeProperty}s from the formulas of a TBV mapper, read in past time as TBV
+ * reads them: {@code always} holds if its operand held at every position so far, {@code once} if it held at some
+ * position, {@code pre} if it held at the previous position, and {@code a since b} if b held at some position and
+ * a at every position after it. Time bounds limit how long ago those positions are.
+ * <p>
+ * Subformulas that occur more than once are compiled once. A time bound must start at 0 or be unbounded, so that a
+ * single time remembers all a subformula needs of the past; other time bounds cannot be monitored in constant
+ * memory and are rejected.
+ * <p>
+ * The compiler keeps no state and can be shared by any number of threads.
+ */
+public final class PastTimeCompiler {
+    private final GenericMapper mapper;
+
+    public PastTimeCompiler() {
+        this(new TimedTBVMapper());
+    }
+
+    /**
+     * @param mapper the TBV mapper, timed or untimed, whose formulas are compiled
+     */
+    public PastTimeCompiler(final GenericMapper mapper) {
+        this.mapper = mapper;
+    }
+
+    /**
+     * @throws IllegalArgumentException if the mapper does not support the property, its mapping is not well formed
+     *         or it has time bounds that cannot be monitored in constant memory
+     */
+    public PastTimeProperty compile(final Scope scope, final Pattern pattern) {
+        if (!mapper.isScopeSupported(scope) || !mapper.isPatternSupported(pattern)) {
+            throw new IllegalArgumentException(mapper.getNotSupportedMessage());
+        }
+        final MappingContext context = new MappingContext();
+        final Formula formula = mapper.mapToFormula(scope, pattern, context, new FormulaFactory());
+        if (context.hasMappingErrorOccurred()) {
+            throw new IllegalArgumentException("The property cannot be mapped to " + mapper + ".");
+        }
+        return new Program(mapper.getLanguageDefinitions().getInf()).compile(formula);
+    }
+
+    /**
+     * The subformulas of a formula, in the order they are evaluated.
+     */
+    private static final class Program {
+        private record Key(int kind, int left, int right, long lower, long upper) {
+        }
+
+        private final String inf;
+        private final Map<String, Integer> events = new LinkedHashMap<>();
+        private final Map<Key, Integer> formulas = new HashMap<>();
+        private final List<Key> program = new ArrayList<>();
+
+        Program(final String inf) {
+            this.inf = inf;
+        }
+
+        PastTimeProperty compile(final Formula formula) {
+            add(formula);
+            // the formula comes last, after all its subformulas
+            final int size = program.size();
+            final int[] kinds = new int[size];
+            final int[] lefts = new int[size];
+            final int[] rights = new int[size];
+            final long[] lowers = new long[size];
+            final long[] uppers = new long[size];
+            for (int i = 0; i < size; i++) {
+                final Key key = program.get(i);
+                kinds[i] = key.kind();
+                lefts[i] = key.left();
+                rights[i] = key.right();
+                lowers[i] = key.lower();
+                uppers[i] = key.upper();
+            }
+            return new PastTimeProperty(events, kinds, lefts, rights, lowers, uppers);
+        }
+
+        /**
+         * @return the index of the formula, after those of its subformulas
+         * @throws IllegalArgumentException if the formula is not a well formed past-time formula
+         */
+        private int add(final Formula formula) {
+            if (formula instanceof Group) {
+                return add(((Group) formula).getOperand());
+            } else if (formula instanceof Atom) {
+                return atom(((Atom) formula).getElement());
+            } else if (formula instanceof UnaryFormula) {
+                final UnaryFormula unary = (UnaryFormula) formula;
+                final int operand = add(unary.getOperand());
+                switch (unary.getOperator()) {
+                    case NOT:
+                        return intern(PastTimeProperty.NOT, operand, -1, null);
+                    case NEXT:
+                        if (unary.getBound() != null) {
+                            throw new IllegalArgumentException("Bounded pre cannot be monitored: " + formula);
+                        }
+                        return intern(PastTimeProperty.PREVIOUS, operand, -1, null);
+                    case ALWAYS:
+                        return intern(PastTimeProperty.HISTORICALLY, operand, -1, unary.getBound());
+                    case EVENTUALLY:
+                        return intern(PastTimeProperty.ONCE, operand, -1, unary.getBound());
+                    default:
+                        throw new IllegalArgumentException("Operator cannot be monitored: " + unary.getOperator());
+                }
+            } else if (formula instanceof BinaryFormula) {
+                final BinaryFormula binary = (BinaryFormula) formula;
+                final int left = add(binary.getLeft());
+                final int right = add(binary.getRight());
+                switch (binary.getOperator()) {
+                    case AND:
+                        return intern(PastTimeProperty.AND, left, right, null);
+                    case OR:
+                        return intern(PastTimeProperty.OR, left, right, null);
+                    case IMPLIES:
+                        return intern(PastTimeProperty.IMPLIES, left, right, null);
+                    case UNTIL:
+                        return intern(PastTimeProperty.SINCE, left, right, binary.getBound());
+                    case WEAK_UNTIL:
+                        // a weak since b is a since b, or always a
+                        if (binary.getBound() != null) {
+                            throw new IllegalArgumentException("Bounded weak since cannot be monitored: " + formula);
+                        }
+                        return intern(PastTimeProperty.OR, intern(PastTimeProperty.SINCE, left, right, null),
+                            intern(PastTimeProperty.HISTORICALLY, left, -1, null), null);
+                    default:
+                        throw new IllegalArgumentException("Operator cannot be monitored: " + binary.getOperator());
+                }
+            }
+            throw new IllegalArgumentException("Formula is not well formed: " + formula);
+        }
+
+        private int atom(final Element element) {
+            if (element instanceof EventImpl) {
+                final int event = events.computeIfAbsent(((EventImpl) element).getName(), name -> events.size());
+                return intern(PastTimeProperty.EVENT, event, -1, null);
+            }
+            if ((element instanceof MiscElement) && element.getContent().equals("true")) {
+                return intern(PastTimeProperty.TRUE, -1, -1, null);
+            }
+            if ((element instanceof MiscElement) && element.getContent().equals("false")) {
+                return intern(PastTimeProperty.FALSE, -1, -1, null);
+            }
+            throw new IllegalArgumentException("Formula is not well formed, found " + element.getContent());
+        }
+
+        private int intern(final int kind, final int left, final int right, final Element bound) {
+            long lower = 0;
+            long upper = Long.MAX_VALUE;
+            // operators without time bound may still carry an empty one
+            if (bound != null && !bound.getContent().isBlank()) {
+                final long[] limits = limits(bound.getContent().trim());
+                lower = limits[0];
+                upper = limits[1];
+                if (lower > 0 && upper != Long.MAX_VALUE) {
+                    throw new IllegalArgumentException(
+                        "Time bound cannot be monitored in constant memory: " + bound.getContent());
+                }
+            }
+            final Key key = new Key(kind, left, right, lower, upper);
+            Integer formula = formulas.get(key);
+            if (formula == null) {
+                formula = program.size();
+                formulas.put(key, formula);
+                program.add(key);
+            }
+            return formula;
+        }
+
+        /**
+         * Time bounds are rendered as {@code [lower,upper]}, where a round bracket excludes its limit and either
+         * limit may be the infinity of the language.
+         */
+        private long[] limits(final String bound) {
+            final String[] limits = bound.length() < 2 ? new String[0]
+                : bound.substring(1, bound.length() - 1).split(",", -1);
+            if (limits.length != 2) {
+                throw new IllegalArgumentException("Formula is not well formed, found time bound " + bound);
+            }
+            try {
+                long lower = limit(limits[0].trim());
+                long upper = limit(limits[1].trim());
+                if (bound.startsWith("(") && lower != Long.MAX_VALUE) {
+                    lower++;
+                }
+                if (bound.endsWith(")") && upper != Long.MAX_VALUE) {
+                    upper--;
+                }
+                return new long[] {lower, upper};
+            } catch (NumberFormatException e) {
+                throw new IllegalArgumentException("Formula is not well formed, found time bound " + bound, e);
+            }
+        }
+
+        private long limit(final String limit) {
+            return limit.equals(inf) ? Long.MAX_VALUE : Long.parseLong(limit);
+        }
+    }
+}
@@ -0,0 +1,66 @@
+package psp.monitor;
+
+import java.util.Arrays;
+
+import psp.sel.EventImpl;
+
+/**
+ * Monitors a single trace against a {@link PastTimeProperty}, in a state vector of fixed size allocated once:
+ * reading an event allocates nothing. A trace without events violates nothing. A monitor is not safe for
+ * concurrent use.
+ */
+public final class PastTimeMonitor {
+    private final PastTimeProperty property;
+    private final boolean[] values;
+    private final long[] counters;
+    private boolean started;
+    private boolean holds;
+    private long time;
+
+    PastTimeMonitor(final PastTimeProperty property) {
+        this.property = property;
+        this.values = new boolean[property.getStateSize()];
+        this.counters = new long[property.getStateSize()];
+        reset();
+    }
+
+    /**
+     * Reads an event of a property without time bounds, at the time of the previous event.
+     */
+    public void step(final EventImpl event) {
+        step(event, time);
+    }
+
+    /**
+     * @throws IllegalArgumentException if the time is negative or before the time of the previous event
+     */
+    public void step(final EventImpl event, final long time) {
+        if (time < this.time) {
+            throw new IllegalArgumentException(
+                String.format("Time %d is before the time %d of the previous event.", time, this.time));
+        }
+        holds = property.evaluate(property.letter(event), time, !started, values, counters);
+        started = true;
+        this.time = time;
+    }
+
+    /**
+     * @return whether the property holds at the last event read
+     */
+    public Verdict getVerdict() {
+        return holds ? Verdict.TRUE : Verdict.FALSE;
+    }
+
+    /**
+     * Starts over with an empty trace.
+     */
+    public void reset() {
+        Arrays.fill(values, false);
+        for (int formula = 0; formula < counters.length; formula++) {
+            counters[formula] = property.initialCounter(formula);
+        }
+        started = false;
+        holds = true;
+        time = 0;
+    }
+}
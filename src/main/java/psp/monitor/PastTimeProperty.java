@@ -0,0 +1,172 @@
+package psp.monitor;
+
+import java.util.Map;
+
+import psp.sel.EventImpl;
+
+/**
+ * A past-time formula compiled into a program over a fixed state vector: one truth value and one counter per
+ * subformula, subformulas before the formulas they occur in. Reading an event evaluates every subformula once, at
+ * the new position, from the values of its operands at that position and its own counter, which summarizes the
+ * positions before: whether the operand held at the previous position for {@code pre}, and a time for
+ * {@code once}, {@code always} and {@code since}. The time is the latest or the earliest position at which the
+ * operand held, or failed, or at which the right operand of since held with the left one holding ever since.
+ * <p>
+ * Events are identified by their name like {@link EventImpl#equals}. A property is immutable and can be shared by
+ * any number of {@link PastTimeMonitor}s and threads.
+ */
+public final class PastTimeProperty {
+    static final int TRUE = 0;
+    static final int FALSE = 1;
+    static final int EVENT = 2;
+    static final int NOT = 3;
+    static final int AND = 4;
+    static final int OR = 5;
+    static final int IMPLIES = 6;
+    static final int PREVIOUS = 7;
+    static final int ONCE = 8;
+    static final int HISTORICALLY = 9;
+    static final int SINCE = 10;
+
+    /**
+     * The counter of a subformula that has no time yet.
+     */
+    static final long NEVER = Long.MIN_VALUE;
+
+    private final Map<String, Integer> events;
+    private final int[] kinds;
+    private final int[] lefts;
+    private final int[] rights;
+    private final long[] lowers;
+    private final long[] uppers;
+
+    /**
+     * @param lefts the operand of unary formulas, the left operand of binary ones, the event of events
+     * @param lowers the lower limit of the time bound of temporal formulas, 0 if unbounded
+     * @param uppers the upper limit of the time bound of temporal formulas, {@link Long#MAX_VALUE} if unbounded;
+     *        a temporal formula has a lower limit of 0 or no upper limit
+     */
+    PastTimeProperty(final Map<String, Integer> events, final int[] kinds, final int[] lefts, final int[] rights,
+        final long[] lowers, final long[] uppers) {
+        this.events = Map.copyOf(events);
+        this.kinds = kinds;
+        this.lefts = lefts;
+        this.rights = rights;
+        this.lowers = lowers;
+        this.uppers = uppers;
+    }
+
+    public PastTimeMonitor newMonitor() {
+        return new PastTimeMonitor(this);
+    }
+
+    /**
+     * @return the number of subformulas, each of which takes a truth value and a counter in every monitor
+     */
+    public int getStateSize() {
+        return kinds.length;
+    }
+
+    int letter(final EventImpl event) {
+        final Integer letter = events.get(event.getName());
+        return letter == null ? -1 : letter;
+    }
+
+    long initialCounter(final int formula) {
+        return kinds[formula] == PREVIOUS ? 0 : NEVER;
+    }
+
+    /**
+     * Evaluates every subformula at a new position.
+     *
+     * @param first whether the position is the first of the trace
+     * @return the value of the formula at the position
+     */
+    boolean evaluate(final int letter, final long time, final boolean first, final boolean[] values,
+        final long[] counters) {
+        for (int formula = 0; formula < kinds.length; formula++) {
+            final int left = lefts[formula];
+            final boolean value;
+            switch (kinds[formula]) {
+                case TRUE:
+                    value = true;
+                    break;
+                case FALSE:
+                    value = false;
+                    break;
+                case EVENT:
+                    value = left == letter;
+                    break;
+                case NOT:
+                    value = !values[left];
+                    break;
+                case AND:
+                    value = values[left] && values[rights[formula]];
+                    break;
+                case OR:
+                    value = values[left] || values[rights[formula]];
+                    break;
+                case IMPLIES:
+                    value = !values[left] || values[rights[formula]];
+                    break;
+                case PREVIOUS:
+                    value = !first && counters[formula] != 0;
+                    counters[formula] = values[left] ? 1 : 0;
+                    break;
+                case ONCE:
+                    value = once(formula, values[left], time, counters);
+                    break;
+                case HISTORICALLY:
+                    value = historically(formula, values[left], time, counters);
+                    break;
+                case SINCE:
+                    value = since(formula, values[left], values[rights[formula]], time, counters);
+                    break;
+                default:
+                    throw new IllegalStateException(String.format("Found unexpected formula %d.",
+                        kinds[formula]));
+            }
+            values[formula] = value;
+        }
+        return values[kinds.length - 1];
+    }
+
+    /**
+     * The latest time the operand held, or the earliest one if there is a lower limit.
+     */
+    private boolean once(final int formula, final boolean operand, final long time, final long[] counters) {
+        if (operand && (lowers[formula] == 0 || counters[formula] == NEVER)) {
+            counters[formula] = time;
+        }
+        return counters[formula] != NEVER && within(formula, time - counters[formula]);
+    }
+
+    /**
+     * The latest time the operand failed, or the earliest one if there is a lower limit.
+     */
+    private boolean historically(final int formula, final boolean operand, final long time,
+        final long[] counters) {
+        if (!operand && (lowers[formula] == 0 || counters[formula] == NEVER)) {
+            counters[formula] = time;
+        }
+        return counters[formula] == NEVER || !within(formula, time - counters[formula]);
+    }
+
+    /**
+     * The latest time the right operand held with the left one holding ever since, or the earliest one if there is
+     * a lower limit.
+     */
+    private boolean since(final int formula, final boolean left, final boolean right, final long time,
+        final long[] counters) {
+        if (!left) {
+            counters[formula] = right ? time : NEVER;
+        } else if (right && (lowers[formula] == 0 || counters[formula] == NEVER)) {
+            counters[formula] = time;
+        }
+        return counters[formula] != NEVER && within(formula, time - counters[formula]);
+    }
+
+    private boolean within(final int formula, final long elapsed) {
+        return elapsed >= lowers[formula] && elapsed <= uppers[formula];
+    }
+}
@@ -0,0 +1,47 @@
+package psp.monitor;
+
+/**
+ * Every occurrence of p at time t is preceded by an occurrence of s at a time in
+ * {@code [t - upper, t - lower]}, at the same position or before it. Occurrences of s that are more than
+ * {@code upper} before an occurrence of p cannot precede any later occurrence of p either, so only the occurrences
+ * of s within the upper limit are kept; without an upper limit, the first occurrence of s is enough.
+ */
+final class PrecedenceMonitor extends TimedMonitor {
+    private final String p;
+    private final String s;
+    private final long lower;
+    private final long upper;
+    private final TimeQueue occurrences = new TimeQueue();
+
+    PrecedenceMonitor(final TimedMonitorEngine engine, final String p, final String s, final long lower,
+        final long upper) {
+        super(engine);
+        this.p = p;
+        this.s = s;
+        this.lower = lower;
+        this.upper = upper;
+    }
+
+    @Override
+    void read(final String event, final long time) {
+        if (event.equals(s) || event.equals(p)) {
+            while (!occurrences.isEmpty() && time - occurrences.first() > upper) {
+                occurrences.removeFirst();
+            }
+        }
+        if (event.equals(s) && (occurrences.isEmpty()
+            || (upper != Long.MAX_VALUE && occurrences.last() != time))) {
+            occurrences.add(time);
+        }
+        if (event.equals(p)) {
+            if (occurrences.isEmpty() || time - occurrences.first() < lower) {
+                violate();
+            }
+        }
+    }
+
+    @Override
+    void discard() {
+        occurrences.clear();
+    }
+}
@@ -0,0 +1,34 @@
+package psp.monitor;
+
+/**
+ * From every position, p holds within {@code period}: the first event that is not p after p, or at the start of
+ * the trace, needs an occurrence of p at most {@code period} after it.
+ */
+final class RecurrenceMonitor extends TimedMonitor {
+    private final String p;
+    private final long period;
+    private boolean pending;
+
+    RecurrenceMonitor(final TimedMonitorEngine engine, final String p, final long period) {
+        super(engine);
+        this.p = p;
+        this.period = period;
+    }
+
+    @Override
+    void read(final String event, final long time) {
+        if (event.equals(p)) {
+            pending = false;
+            cancelDeadline();
+        } else if (!pending) {
+            pending = true;
+            // too late one time unit after the period
+            setDeadline(after(after(time, period), 1));
+        }
+    }
+
+    @Override
+    boolean holdsAtEnd() {
+        return !pending;
+    }
+}
@@ -0,0 +1,68 @@
+package psp.monitor;
+
+/**
+ * Every occurrence of p at time t is answered by an occurrence of s at a time in {@code [t + lower, t + upper]},
+ * at the same position or after it. The pending occurrences of p fall due in the order they occurred, and an
+ * occurrence of s answers the ones that occurred at least {@code lower} before it, hence they are kept in a queue
+ * and only the first one has a deadline.
+ */
+final class ResponseMonitor extends TimedMonitor {
+    private final String p;
+    private final String s;
+    private final long lower;
+    private final long upper;
+    private final TimeQueue pending = new TimeQueue();
+
+    ResponseMonitor(final TimedMonitorEngine engine, final String p, final String s, final long lower,
+        final long upper) {
+        super(engine);
+        this.p = p;
+        this.s = s;
+        this.lower = lower;
+        this.upper = upper;
+    }
+
+    @Override
+    void read(final String event, final long time) {
+        boolean firstChanged = false;
+        if (event.equals(p)) {
+            firstChanged = pending.isEmpty();
+            pending.add(time);
+        }
+        if (event.equals(s)) {
+            while (!pending.isEmpty() && time - pending.first() >= lower) {
+                pending.removeFirst();
+                firstChanged = true;
+            }
+        }
+        if (firstChanged) {
+            schedule();
+        }
+    }
+
+    private void schedule() {
+        if (pending.isEmpty()) {
+            cancelDeadline();
+        } else {
+            // too late one time unit after the upper limit
+            setDeadline(after(after(pending.first(), upper), 1));
+        }
+    }
+
+    @Override
+    boolean holdsAtEnd() {
+        return pending.isEmpty();
+    }
+
+    @Override
+    void discard() {
+        pending.clear();
+    }
+
+    /**
+     * @return the number of pending occurrences of p
+     */
+    int getPendingCount() {
+        return pending.size();
+    }
+}
@@ -0,0 +1,59 @@
+package psp.monitor;
+
+/**
+ * The times of pending obligations in the order they were added, in a ring buffer that grows when needed.
+ */
+final class TimeQueue {
+    private long[] times = new long[4];
+    private int first;
+    private int size;
+
+    boolean isEmpty() {
+        return size == 0;
+    }
+
+    int size() {
+        return size;
+    }
+
+    void add(final long time) {
+        if (size == times.length) {
+            final long[] grown = new long[times.length * 2];
+            final int tail = times.length - first;
+            System.arraycopy(times, first, grown, 0, tail);
+            System.arraycopy(times, 0, grown, tail, first);
+            times = grown;
+            first = 0;
+        }
+        times[(first + size) & (times.length - 1)] = time;
+        size++;
+    }
+
+    long first() {
+        if (size == 0) {
+            throw new IllegalStateException("No time is pending.");
+        }
+        return times[first];
+    }
+
+    long last() {
+        if (size == 0) {
+            throw new IllegalStateException("No time is pending.");
+        }
+        return times[(first + size - 1) & (times.length - 1)];
+    }
+
+    void removeFirst() {
+        first();
+        first = (first + 1) & (times.length - 1);
+        size--;
+    }
+
+    void clear() {
+        first = 0;
+        size = 0;
+        if (times.length > 4) {
+            times = new long[4];
+        }
+    }
+}
@@ -0,0 +1,105 @@
+package psp.monitor;
+
+import psp.sel.EventImpl;
+
+/**
+ * Monitors a single trace of timestamped events against a property with time bounds. Events are identified by
+ * their name like {@link EventImpl#equals}, and times are given in the time unit of the property. Reading an event
+ * first advances the time of the {@link TimedMonitorEngine} of the monitor, which expires the deadlines that have
+ * passed; then the event updates the obligations of the monitor.
+ * <p>
+ * A monitor keeps at most one deadline in the timing wheel of its engine: that of its most urgent obligation.
+ * The other obligations of a monitor fall due in the order they were made, so they only need their times.
+ */
+public abstract class TimedMonitor {
+    private static final int NO_DEADLINE = -1;
+
+    private final TimedMonitorEngine engine;
+    private int deadline = NO_DEADLINE;
+    private boolean violated;
+
+    TimedMonitor(final TimedMonitorEngine engine) {
+        this.engine = engine;
+    }
+
+    /**
+     * @throws IllegalArgumentException if the time is before the time of the engine
+     */
+    public final void step(final EventImpl event, final long time) {
+        engine.advanceTo(time);
+        if (!violated) {
+            read(event.getName(), time);
+        }
+    }
+
+    /**
+     * @return the verdict on the events read so far, as if the trace ended at the time of the engine
+     */
+    public final Verdict getVerdict() {
+        return violated || !holdsAtEnd() ? Verdict.FALSE : Verdict.TRUE;
+    }
+
+    /**
+     * @return whether the property is violated whatever the trace goes on with, for instance because a deadline
+     *         has passed
+     */
+    public final boolean isViolated() {
+        return violated;
+    }
+
+    abstract void read(String event, long time);
+
+    /**
+     * @return whether the pending obligations hold if the trace ends now
+     */
+    boolean holdsAtEnd() {
+        return true;
+    }
+
+    /**
+     * Drops the pending obligations once the property is violated.
+     */
+    void discard() {
+    }
+
+    final void violate() {
+        violated = true;
+        cancelDeadline();
+        discard();
+    }
+
+    /**
+     * Replaces the deadline of the monitor: the property is violated at that time, unless the deadline is
+     * cancelled or replaced before. {@link Long#MAX_VALUE} stands for no deadline.
+     */
+    final void setDeadline(final long time) {
+        cancelDeadline();
+        if (time == Long.MAX_VALUE) {
+            return;
+        }
+        if (time <= engine.getTime()) {
+            violate();
+        } else {
+            deadline = engine.schedule(time, this);
+        }
+    }
+
+    final void cancelDeadline() {
+        if (deadline != NO_DEADLINE) {
+            engine.cancel(deadline);
+            deadline = NO_DEADLINE;
+        }
+    }
+
+    final void expired() {
+        deadline = NO_DEADLINE;
+        violate();
+    }
+
+    /**
+     * @return the time the given time units after the time, or {@link Long#MAX_VALUE} if it is not representable
+     */
+    static long after(final long time, final long units) {
+        return units >= Long.MAX_VALUE - time ? Long.MAX_VALUE : time + units;
+    }
+}
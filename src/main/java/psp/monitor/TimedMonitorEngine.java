@@ -0,0 +1,140 @@
+package psp.monitor;
+
+import psp.constraints.Interval;
+import psp.constraints.LowerTimeBound;
+import psp.constraints.TimeBound;
+import psp.constraints.UpperTimeBound;
+import psp.engine.PSPConstants;
+import psp.sel.patterns.Occurrence;
+import psp.sel.patterns.Order;
+import psp.sel.patterns.Pattern;
+import psp.sel.patterns.occurrence.MaximumDuration;
+import psp.sel.patterns.occurrence.MinimumDuration;
+import psp.sel.patterns.occurrence.Recurrence;
+import psp.sel.patterns.order.Precedence;
+import psp.sel.patterns.order.Response;
+import psp.sel.scopes.Scope;
+
+/**
+ * Monitors properties with time bounds on timestamped events. All monitors of an engine share its time and its
+ * timing wheel, in which their deadlines are kept; the time only moves forward, so the events of all its monitors
+ * must be read in the order of their times. Scheduling, cancelling and expiring a deadline take constant time,
+ * whatever the number of pending deadlines.
+ * <p>
+ * The monitors follow the structured English of the patterns, over the globally scope only: response, precedence,
+ * universality, existence, minimum duration, maximum duration and recurrence. Properties of any other scope are
+ * rejected. Time bounds of universality and existence are measured from the first event a monitor reads. Traces
+ * are finite: at the end of a trace, a response or a recurrence that is still pending, and an existence that has
+ * not occurred, do not hold.
+ * <p>
+ * An engine is not safe for concurrent use.
+ */
+public final class TimedMonitorEngine {
+    private final TimingWheel<TimedMonitor> wheel = new TimingWheel<>((monitor, deadline) -> monitor.expired());
+
+    /**
+     * @param scope the globally scope, the only one timed monitors support
+     * @throws IllegalArgumentException if the scope is not globally, or the pattern cannot be monitored
+     */
+    public TimedMonitor newMonitor(final Scope scope, final Pattern pattern) {
+        if (scope.getType() != PSPConstants.S_Globally) {
+            throw new IllegalArgumentException("Timed monitors only support the globally scope, not " + scope + ".");
+        }
+        switch (pattern.getType()) {
+            case PSPConstants.P_Response: {
+                final Response response = (Response) pattern;
+                if (response.getSConstraint() != null) {
+                    throw new IllegalArgumentException("Constrained responses cannot be monitored in time.");
+                }
+                return new ResponseMonitor(this, untimed(response), response.getS().getName(),
+                    lowerLimit(response.getSTimeBound()), upperLimit(response.getSTimeBound()));
+            }
+            case PSPConstants.P_Precedence: {
+                final Precedence precedence = (Precedence) pattern;
+                return new PrecedenceMonitor(this, untimed(precedence), precedence.getS().getName(),
+                    lowerLimit(precedence.getPTimeBound()), upperLimit(precedence.getPTimeBound()));
+            }
+            case PSPConstants.P_Universality:
+            case PSPConstants.P_Existence: {
+                final Occurrence occurrence = (Occurrence) pattern;
+                return new OccurrenceMonitor(this, untimed(occurrence),
+                    pattern.getType() == PSPConstants.P_Universality, lowerLimit(occurrence.getPTimeBound()),
+                    upperLimit(occurrence.getPTimeBound()));
+            }
+            case PSPConstants.P_MinimumDuration:
+                return new DurationMonitor(this, untimed((Occurrence) pattern), true,
+                    ((MinimumDuration) pattern).getUpperLimit());
+            case PSPConstants.P_MaximumDuration:
+                return new DurationMonitor(this, untimed((Occurrence) pattern), false,
+                    ((MaximumDuration) pattern).getUpperLimit());
+            case PSPConstants.P_Recurrence:
+                return new RecurrenceMonitor(this, untimed((Occurrence) pattern),
+                    ((Recurrence) pattern).getUpperLimit());
+            default:
+                throw new IllegalArgumentException("Pattern cannot be monitored in time: " + pattern);
+        }
+    }
+
+    /**
+     * Moves the time forward, which expires the deadlines that have passed.
+     *
+     * @throws IllegalArgumentException if the time is negative or before the time of the engine
+     */
+    public void advanceTo(final long time) {
+        wheel.advanceTo(time);
+    }
+
+    public long getTime() {
+        return wheel.getTime();
+    }
+
+    /**
+     * @return the number of deadlines in the timing wheel, at most one per monitor
+     */
+    public int getDeadlineCount() {
+        return wheel.size();
+    }
+
+    int schedule(final long deadline, final TimedMonitor monitor) {
+        return wheel.schedule(deadline, monitor);
+    }
+
+    void cancel(final int deadline) {
+        wheel.cancel(deadline);
+    }
+
+    private static String untimed(final Occurrence occurrence) {
+        if (occurrence.getProbabilityBound() != null) {
+            throw new IllegalArgumentException("Probabilistic patterns cannot be monitored.");
+        }
+        return occurrence.getP().getName();
+    }
+
+    private static String untimed(final Order order) {
+        if (order.getProbabilityBound() != null) {
+            throw new IllegalArgumentException("Probabilistic patterns cannot be monitored.");
+        }
+        return order.getP().getName();
+    }
+
+    private static long lowerLimit(final TimeBound bound) {
+        if (bound instanceof LowerTimeBound) {
+            return ((LowerTimeBound) bound).getLowerLimit();
+        } else if (bound instanceof Interval) {
+            return ((Interval) bound).getLowerLimit();
+        }
+        return 0;
+    }
+
+    /**
+     * @return the upper limit of the bound, {@link Long#MAX_VALUE} if there is none
+     */
+    private static long upperLimit(final TimeBound bound) {
+        if (bound instanceof UpperTimeBound) {
+            return ((UpperTimeBound) bound).getUpperLimit();
+        } else if (bound instanceof Interval) {
+            return ((Interval) bound).getUpperLimit();
+        }
+        return Long.MAX_VALUE;
+    }
+}
@@ -0,0 +1,198 @@
+package psp.monitor;
+
+import java.util.Arrays;
+import java.util.function.ObjLongConsumer;
+
+/**
+ * A hierarchical timing wheel of deadlines, each owned by an object that is told when its deadline expires.
+ * Scheduling and cancelling a deadline take constant time, and so does the expiry of a deadline, which moves down
+ * at most once per level before it expires. Advancing the time skips empty slots, so the cost of advancing does
+ * not depend on how far the time moves.
+ * <p>
+ * Times are non negative. A level has 64 slots, one per 6 bits of the time: a deadline sits on the level of the
+ * highest 6 bits in which it differs from the current time, in the slot of those bits. Hence the lowest level
+ * that is not empty holds the next deadlines, in its lowest slot that is not empty, and advancing to that slot
+ * either expires its deadlines or moves them to lower levels.
+ * <p>
+ * Deadlines are kept in arrays and identified by their index, which is reused once the deadline has expired or
+ * has been cancelled, so that millions of pending deadlines take a few dozen bytes each. A wheel is not safe for
+ * concurrent use.
+ */
+final class TimingWheel<T> {
+    private static final int SLOT_BITS = 6;
+    private static final int SLOTS = 1 << SLOT_BITS;
+    private static final int LEVELS = (Long.SIZE + SLOT_BITS - 1) / SLOT_BITS;
+    private static final int NONE = -1;
+
+    private final ObjLongConsumer<T> expiry;
+    private final long[] occupied = new long[LEVELS];
+    private final int[] heads = new int[LEVELS * SLOTS];
+    private long[] deadlines = new long[16];
+    private int[] next = new int[16];
+    private int[] previous = new int[16];
+    private int[] slots = new int[16];
+    private Object[] owners = new Object[16];
+    private int allocated;
+    private int free = NONE;
+    private int size;
+    private long time;
+
+    /**
+     * @param expiry told about the owner and the deadline of every deadline that expires
+     */
+    TimingWheel(final ObjLongConsumer<T> expiry) {
+        this.expiry = expiry;
+        Arrays.fill(heads, NONE);
+    }
+
+    long getTime() {
+        return time;
+    }
+
+    /**
+     * @return the number of pending deadlines
+     */
+    int size() {
+        return size;
+    }
+
+    /**
+     * @return the identifier of the deadline, valid until it expires or is cancelled
+     * @throws IllegalArgumentException if the deadline is not after the current time
+     */
+    int schedule(final long deadline, final T owner) {
+        if (deadline <= time) {
+            throw new IllegalArgumentException(
+                String.format("Deadline %d is not after the current time %d.", deadline, time));
+        }
+        final int timer = allocate();
+        deadlines[timer] = deadline;
+        owners[timer] = owner;
+        insert(timer);
+        size++;
+        return timer;
+    }
+
+    void cancel(final int timer) {
+        unlink(timer);
+        release(timer);
+    }
+
+    /**
+     * Expires every deadline up to the time, in the order of their deadlines. Owners may schedule and cancel
+     * deadlines when they are told about an expiry, during which the current time is the expired deadline.
+     *
+     * @throws IllegalArgumentException if the time is before the current time
+     */
+    void advanceTo(final long target) {
+        if (target < time) {
+            throw new IllegalArgumentException(
+                String.format("Time %d is before the current time %d.", target, time));
+        }
+        int level;
+        while ((level = lowestOccupiedLevel()) != NONE) {
+            final int slot = Long.numberOfTrailingZeros(occupied[level]);
+            final long start = prefix(time, level) | ((long) slot << (level * SLOT_BITS));
+            if (start > target) {
+                break;
+            }
+            time = start;
+            final int index = level * SLOTS + slot;
+            while (heads[index] != NONE) {
+                final int timer = heads[index];
+                unlink(timer);
+                if (deadlines[timer] == time) {
+                    expire(timer);
+                } else {
+                    insert(timer);
+                }
+            }
+        }
+        time = target;
+    }
+
+    @SuppressWarnings("unchecked")
+    private void expire(final int timer) {
+        final T owner = (T) owners[timer];
+        final long deadline = deadlines[timer];
+        release(timer);
+        expiry.accept(owner, deadline);
+    }
+
+    private int lowestOccupiedLevel() {
+        for (int level = 0; level < LEVELS; level++) {
+            if (occupied[level] != 0) {
+                return level;
+            }
+        }
+        return NONE;
+    }
+
+    /**
+     * @return the bits of the time above the level
+     */
+    private static long prefix(final long time, final int level) {
+        final int bits = (level + 1) * SLOT_BITS;
+        return bits >= Long.SIZE ? 0 : time & -(1L << bits);
+    }
+
+    private void insert(final int timer) {
+        final long deadline = deadlines[timer];
+        final int level = (Long.SIZE - 1 - Long.numberOfLeadingZeros(deadline ^ time)) / SLOT_BITS;
+        final int slot = (int) (deadline >>> (level * SLOT_BITS)) & (SLOTS - 1);
+        final int index = level * SLOTS + slot;
+        final int head = heads[index];
+        next[timer] = head;
+        previous[timer] = NONE;
+        if (head != NONE) {
+            previous[head] = timer;
+        }
+        heads[index] = timer;
+        slots[timer] = index;
+        occupied[level] |= 1L << slot;
+    }
+
+    private void unlink(final int timer) {
+        final int index = slots[timer];
+        if (index == NONE) {
+            throw new IllegalArgumentException(String.format("Deadline %d is not pending.", timer));
+        }
+        if (previous[timer] != NONE) {
+            next[previous[timer]] = next[timer];
+        } else {
+            heads[index] = next[timer];
+            if (next[timer] == NONE) {
+                occupied[index / SLOTS] &= ~(1L << (index % SLOTS));
+            }
+        }
+        if (next[timer] != NONE) {
+            previous[next[timer]] = previous[timer];
+        }
+        slots[timer] = NONE;
+    }
+
+    private int allocate() {
+        if (free != NONE) {
+            final int timer = free;
+            free = next[timer];
+            return timer;
+        }
+        if (allocated == deadlines.length) {
+            final int capacity = allocated * 2;
+            deadlines = Arrays.copyOf(deadlines, capacity);
+            next = Arrays.copyOf(next, capacity);
+            previous = Arrays.copyOf(previous, capacity);
+            slots = Arrays.copyOf(slots, capacity);
+            owners = Arrays.copyOf(owners, capacity);
+        }
+        return allocated++;
+    }
+
+    private void release(final int timer) {
+        owners[timer] = null;
+        slots[timer] = NONE;
+        next[timer] = free;
+        free = timer;
+        size--;
+    }
+}
@@ -0,0 +1,43 @@
+package psp.monitor;
+
+/**
+ * The result of checking a property on a trace with a {@link TraceChecker}.
+ */
+public final class TraceCheck {
+    private final Verdict verdict;
+    private final boolean finalVerdict;
+    private final long eventCount;
+
+    TraceCheck(final Verdict verdict, final boolean finalVerdict, final long eventCount) {
+        this.verdict = verdict;
+        this.finalVerdict = finalVerdict;
+        this.eventCount = eventCount;
+    }
+
+    /**
+     * @return the verdict on the trace, true or false
+     */
+    public Verdict getVerdict() {
+        return verdict;
+    }
+
+    /**
+     * @return whether the verdict was final before the end of the trace, so that the events after those read did
+     *         not matter
+     */
+    public boolean isFinal() {
+        return finalVerdict;
+    }
+
+    /**
+     * @return the number of events read until the verdict was final, or of the whole trace if it never was
+     */
+    public long getEventCount() {
+        return eventCount;
+    }
+
+    @Override
+    public String toString() {
+        return verdict + (finalVerdict ? " after " : " at the end of ") + eventCount + " events";
+    }
+}
@@ -0,0 +1,86 @@
+package psp.monitor;
+
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+
+import psp.sel.EventImpl;
+import psp.sel.Property;
+import psp.sel.patterns.Pattern;
+import psp.sel.scopes.Scope;
+
+/**
+ * Checks recorded traces against properties and stops reading a trace as soon as the verdicts are final: once
+ * every way the trace may go on leads to the same verdict, the rest of the trace is not read. An absence is final
+ * at the first occurrence of its event, an existence too, while a response in the globally scope is never final
+ * and the whole trace is read.
+ * <p>
+ * A checker keeps no state and can be shared by any number of threads.
+ */
+public final class TraceChecker {
+    private final MonitorCompiler compiler;
+
+    public TraceChecker() {
+        this(new MonitorCompiler());
+    }
+
+    public TraceChecker(final MonitorCompiler compiler) {
+        this.compiler = compiler;
+    }
+
+    /**
+     * @throws IllegalArgumentException if the property cannot be monitored, see {@link MonitorCompiler#compile}
+     */
+    public TraceCheck check(final Scope scope, final Pattern pattern, final Iterator<? extends EventImpl> trace) {
+        return read(List.of(compiler.compile(scope, pattern).newMonitor()), trace).get(0);
+    }
+
+    /**
+     * Checks all properties on the same trace, which is read until all of their verdicts are final.
+     *
+     * @return the checks of the properties, in their order
+     * @throws IllegalArgumentException if a property cannot be monitored, see {@link MonitorCompiler#compile}
+     */
+    public List<TraceCheck> check(final List<Property> properties, final Iterator<? extends EventImpl> trace) {
+        final List<Monitor> monitors = new ArrayList<>(properties.size());
+        for (final Property property : properties) {
+            monitors.add(compiler.compile(property.getScope(), property.getPattern()).newMonitor());
+        }
+        return read(monitors, trace);
+    }
+
+    private static List<TraceCheck> read(final List<Monitor> monitors, final Iterator<? extends EventImpl> trace) {
+        final TraceCheck[] checks = new TraceCheck[monitors.size()];
+        // the indices of the monitors whose verdict is not final yet
+        final int[] pending = new int[monitors.size()];
+        int size = 0;
+        for (int i = 0; i < pending.length; i++) {
+            pending[size++] = i;
+        }
+        long events = 0;
+        while (true) {
+            int kept = 0;
+            for (int i = 0; i < size; i++) {
+                final Monitor monitor = monitors.get(pending[i]);
+                if (monitor.isFinal()) {
+                    checks[pending[i]] = new TraceCheck(monitor.getFinalVerdict(), true, events);
+                } else {
+                    pending[kept++] = pending[i];
+                }
+            }
+            size = kept;
+            if (size == 0 || !trace.hasNext()) {
+                break;
+            }
+            final EventImpl event = trace.next();
+            events++;
+            for (int i = 0; i < size; i++) {
+                monitors.get(pending[i]).step(event);
+            }
+        }
+        for (int i = 0; i < size; i++) {
+            checks[pending[i]] = new TraceCheck(monitors.get(pending[i]).getVerdict(), false, events);
+        }
+        return List.of(checks);
+    }
+}
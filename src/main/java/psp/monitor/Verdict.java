@@ -0,0 +1,9 @@
+package psp.monitor;
+
+/**
+ * The verdict of a monitor on the trace it has read. As if the trace ended there, it is true or false; as final
+ * verdict it is true or false only once every way the trace may go on agrees, and inconclusive until then.
+ */
+public enum Verdict {
+    TRUE, FALSE, INCONCLUSIVE
+}
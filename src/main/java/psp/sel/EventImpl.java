@@ -38,6 +38,8 @@
 
 package psp.sel;
 
+import java.util.Objects;
+
 import psp.mappings.elements.Event;
 
 public class EventImpl implements Comparable<EventImpl>, Event {
@@ -51,9 +53,6 @@ public class EventImpl implements Comparable<EventImpl>, Event {
     public static final int E_Spec = 2;
     public static final int E_NameAndSpec = E_Name | E_Spec;
 
-    // can be set globally
-    public static int EventStringMethod = E_Name;
-
     private static long fEventCounter = 1;
 
     public static void reset() {
@@ -113,13 +112,37 @@ public class EventImpl implements Comparable<EventImpl>, Event {
         return false;
     }
 
-    private String getEventString() {
+    /**
+     * Compares two events by value, i.e. by name and specification. Unlike {@link #equals(Object)}, which
+     * identifies an event by its name only, this distinguishes events whose specification was changed and is
+     * used by the value semantics of scopes, patterns and constraints. Either event may be {@code null}.
+     */
+    public static boolean equalValues(EventImpl aEvent, EventImpl aOtherEvent) {
+        if (aEvent == aOtherEvent) {
+            return true;
+        }
+        if (aEvent == null || aOtherEvent == null) {
+            return false;
+        }
+
+        return aEvent.fName.equals(aOtherEvent.fName)
+            && Objects.equals(aEvent.fSpecification, aOtherEvent.fSpecification);
+    }
+
+    /**
+     * Returns a hash code consistent with {@link #equalValues(EventImpl, EventImpl)}.
+     */
+    public static int valueHashCode(EventImpl aEvent) {
+        return aEvent == null ? 0 : 31 * aEvent.fName.hashCode() + Objects.hashCode(aEvent.fSpecification);
+    }
+
+    private String getEventString(RenderingContext aContext) {
         StringBuilder sb = new StringBuilder();
 
         if (isDefault()) {
             sb.append(fName);
         } else {
-            switch (EventStringMethod) {
+            switch (aContext.getEventStringMethod()) {
                 case E_Name:
                     sb.append(fName);
                     break;
@@ -138,31 +161,44 @@ public class EventImpl implements Comparable<EventImpl>, Event {
     }
 
     public String getAsEvent() {
+        return getAsEvent(RenderingContext.NAME);
+    }
+
+    public String getAsEvent(RenderingContext aContext) {
         StringBuilder sb = new StringBuilder();
 
         sb.append("(");
-        sb.append(getEventString());
+        sb.append(getEventString(aContext));
         sb.append(")");
 
         return sb.toString();
     }
 
     public String getAsSELEvent() {
+        return getAsSELEvent(RenderingContext.NAME);
+    }
+
+    public String getAsSELEvent(RenderingContext aContext) {
         StringBuilder sb = new StringBuilder();
 
         sb.append("{");
-        sb.append(getEventString());
+        sb.append(getEventString(aContext));
         sb.append("}");
 
         return sb.toString();
     }
 
     public String toString() {
-        return getEventString();
+        return getEventString(RenderingContext.NAME);
     }
 
     @Override
     public String getContent() {
         return getAsEvent();
     }
+
+    @Override
+    public String getContent(RenderingContext aContext) {
+        return getAsEvent(aContext);
+    }
 }
@@ -0,0 +1,33 @@
+package psp.sel;
+
+/**
+ * Determines how events are rendered in formulas and in the structured English grammar: by their name,
+ * by their specification, or by both. Rendering contexts are immutable and passed along with every
+ * rendering call, hence concurrent callers can render the same scope and pattern differently.
+ */
+public final class RenderingContext {
+    public static final RenderingContext NAME = new RenderingContext(EventImpl.E_Name);
+    public static final RenderingContext SPECIFICATION = new RenderingContext(EventImpl.E_Spec);
+    public static final RenderingContext NAME_AND_SPECIFICATION = new RenderingContext(EventImpl.E_NameAndSpec);
+
+    private final int fEventStringMethod;
+
+    private RenderingContext(int aEventStringMethod) {
+        fEventStringMethod = aEventStringMethod;
+    }
+
+    public static RenderingContext of(int aEventStringMethod) {
+        switch (aEventStringMethod) {
+            case EventImpl.E_Name:
+                return NAME;
+            case EventImpl.E_Spec:
+                return SPECIFICATION;
+            default:
+                return NAME_AND_SPECIFICATION;
+        }
+    }
+
+    public int getEventStringMethod() {
+        return fEventStringMethod;
+    }
+}
@@ -39,6 +39,7 @@
 package psp.sel.patterns;
 
 import java.util.ArrayList;
+import java.util.Objects;
 import psp.constraints.ProbabilityBound;
 import psp.constraints.TimeBound;
 import psp.engine.PSPConstants;
@@ -100,4 +101,20 @@ public abstract class Occurrence extends Pattern
         
         return Result;
     }
+
+    public boolean equals( Object aOther )
+    {
+        if ( !super.equals( aOther ) )
+            return false;
+
+        Occurrence lOther = (Occurrence)aOther;
+
+        return EventImpl.equalValues( fP, lOther.fP ) && Objects.equals( fPTimeBound, lOther.fPTimeBound )
+            && Objects.equals( fProbBound, lOther.fProbBound );
+    }
+
+    public int hashCode()
+    {
+        return Objects.hash( super.hashCode(), EventImpl.valueHashCode( fP ), fPTimeBound, fProbBound );
+    }
 }
@@ -39,6 +39,7 @@
 package psp.sel.patterns;
 
 import java.util.ArrayList;
+import java.util.Objects;
 import psp.constraints.ProbabilityBound;
 import psp.engine.PSPConstants;
 import psp.sel.EventImpl;
@@ -115,4 +116,21 @@ public abstract class Order extends Pattern
         
         return Result;
     }
+
+    public boolean equals( Object aOther )
+    {
+        if ( !super.equals( aOther ) )
+            return false;
+
+        Order lOther = (Order)aOther;
+
+        return EventImpl.equalValues( fP, lOther.fP ) && EventImpl.equalValues( fS, lOther.fS )
+            && Objects.equals( fTis, lOther.fTis ) && Objects.equals( fProbBound, lOther.fProbBound );
+    }
+
+    public int hashCode()
+    {
+        return Objects.hash( super.hashCode(), EventImpl.valueHashCode( fP ), EventImpl.valueHashCode( fS ),
+            fTis, fProbBound );
+    }
 }
@@ -40,6 +40,7 @@ package psp.sel.patterns;
 
 import java.util.ArrayList;
 import psp.sel.EventImpl;
+import psp.sel.RenderingContext;
 
 public abstract class Pattern
 {
@@ -49,7 +50,12 @@ public abstract class Pattern
 
     public abstract ArrayList<EventImpl> getEvents();
 
-    public abstract String getSpecificationAsSEL();
+    public String getSpecificationAsSEL()
+    {
+        return getSpecificationAsSEL( RenderingContext.NAME );
+    }
+
+    public abstract String getSpecificationAsSEL( RenderingContext aContext );
 
 //    public abstract ArrayList<Event> getEvents();
 
@@ -80,4 +86,19 @@ public abstract class Pattern
     {
         return fNames[getType()];
     }
+
+    public boolean equals( Object aOther )
+    {
+        if ( this == aOther )
+            return true;
+        if ( aOther == null || getClass() != aOther.getClass() )
+            return false;
+
+        return true;
+    }
+
+    public int hashCode()
+    {
+        return getType();
+    }
 }
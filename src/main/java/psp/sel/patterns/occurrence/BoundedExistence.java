@@ -38,10 +38,12 @@
 
 package psp.sel.patterns.occurrence;
 
+import java.util.Objects;
 import psp.constraints.ProbabilityBound;
 import psp.constraints.TimeBound;
 import psp.engine.PSPConstants;
 import psp.sel.EventImpl;
+import psp.sel.RenderingContext;
 import psp.sel.patterns.Occurrence;
 
 public class BoundedExistence extends Occurrence
@@ -75,11 +77,11 @@ public class BoundedExistence extends Occurrence
         return PSPConstants.P_BoundedExistence;
     }
 
-    public String getSpecificationAsSEL() 
+    public String getSpecificationAsSEL( RenderingContext aContext ) 
     {
         StringBuilder sb = new StringBuilder();
         
-        sb.append( getP().getAsSELEvent() );
+        sb.append( getP().getAsSELEvent( aContext ) );
         sb.append( " [holds]" );
         sb.append( " at most " );
         sb.append( fFrequency );
@@ -88,15 +90,30 @@ public class BoundedExistence extends Occurrence
         if ( getPTimeBound() != null )
         {
             sb.append( " " );
-            sb.append( getPTimeBound().getSpecificationAsSEL() );
+            sb.append( getPTimeBound().getSpecificationAsSEL( aContext ) );
         }
         
         if ( getProbabilityBound() != null )
         {
             sb.append( " " );
-            sb.append( getProbabilityBound().getSpecificationAsSEL() );
+            sb.append( getProbabilityBound().getSpecificationAsSEL( aContext ) );
         }
         
         return sb.toString();
     }
+
+    public boolean equals( Object aOther )
+    {
+        if ( !super.equals( aOther ) )
+            return false;
+
+        BoundedExistence lOther = (BoundedExistence)aOther;
+
+        return fFrequency == lOther.fFrequency;
+    }
+
+    public int hashCode()
+    {
+        return Objects.hash( super.hashCode(), fFrequency );
+    }
 }
@@ -42,6 +42,7 @@ import psp.constraints.ProbabilityBound;
 import psp.constraints.TimeBound;
 import psp.engine.PSPConstants;
 import psp.sel.EventImpl;
+import psp.sel.RenderingContext;
 import psp.sel.patterns.Occurrence;
 
 public class Existence extends Occurrence
@@ -61,24 +62,24 @@ public class Existence extends Occurrence
         return PSPConstants.P_Existence;
     }
 
-    public String getSpecificationAsSEL() 
+    public String getSpecificationAsSEL( RenderingContext aContext ) 
     {
         StringBuilder sb = new StringBuilder();
         
-        sb.append( getP().getAsSELEvent() );
+        sb.append( getP().getAsSELEvent( aContext ) );
         sb.append( " [holds]" );
         sb.append( " eventually" );
         
         if ( getPTimeBound() != null )
         {
             sb.append( " " );
-            sb.append( getPTimeBound().getSpecificationAsSEL() );
+            sb.append( getPTimeBound().getSpecificationAsSEL( aContext ) );
         }
         
         if ( getProbabilityBound() != null )
         {
             sb.append( " " );
-            sb.append( getProbabilityBound().getSpecificationAsSEL() );
+            sb.append( getProbabilityBound().getSpecificationAsSEL( aContext ) );
         }
         
         return sb.toString();
@@ -38,11 +38,13 @@
 
 package psp.sel.patterns.occurrence;
 
+import java.util.Objects;
 import psp.constraints.ProbabilityBound;
 import psp.constraints.TimeBound;
 import psp.constraints.UpperTimeBound;
 import psp.engine.PSPConstants;
 import psp.sel.EventImpl;
+import psp.sel.RenderingContext;
 import psp.sel.patterns.Occurrence;
 
 public class MinimumDuration extends Occurrence
@@ -98,12 +100,12 @@ public class MinimumDuration extends Occurrence
         return PSPConstants.P_MinimumDuration;
     }
 
-    public String getSpecificationAsSEL() 
+    public String getSpecificationAsSEL( RenderingContext aContext ) 
     {
         StringBuilder sb = new StringBuilder();
         
         sb.append( "once " );
-        sb.append( getP().getAsSELEvent() );
+        sb.append( getP().getAsSELEvent( aContext ) );
         sb.append( " [becomes satisfied]" );
         sb.append( " it remains so" );
 
@@ -118,9 +120,24 @@ public class MinimumDuration extends Occurrence
         if ( getProbabilityBound() != null )
         {
             sb.append( " " );
-            sb.append( getProbabilityBound().getSpecificationAsSEL() );
+            sb.append( getProbabilityBound().getSpecificationAsSEL( aContext ) );
         }
         
         return sb.toString();
     }
+
+    public boolean equals( Object aOther )
+    {
+        if ( !super.equals( aOther ) )
+            return false;
+
+        MinimumDuration lOther = (MinimumDuration)aOther;
+
+        return fUpperLimit == lOther.fUpperLimit && Objects.equals( fTimeUnit, lOther.fTimeUnit );
+    }
+
+    public int hashCode()
+    {
+        return Objects.hash( super.hashCode(), fUpperLimit, fTimeUnit );
+    }
 }
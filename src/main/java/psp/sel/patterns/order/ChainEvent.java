@@ -39,9 +39,11 @@
 package psp.sel.patterns.order;
 
 import java.util.ArrayList;
+import java.util.Objects;
 import psp.constraints.EventConstraint;
 import psp.constraints.TimeBound;
 import psp.sel.EventImpl;
+import psp.sel.RenderingContext;
 
 public class ChainEvent 
 {
@@ -116,24 +118,42 @@ public class ChainEvent
         setTimeBound( aTimeBound );
     }
 
-    public String getSpecificationAsSEL() 
+    public String getSpecificationAsSEL( RenderingContext aContext ) 
     {
         StringBuilder sb = new StringBuilder();
         
-        sb.append( fEvent.getAsSELEvent() );
+        sb.append( fEvent.getAsSELEvent( aContext ) );
 
         if ( fTimeBound != null )
         {
             sb.append( " " );
-            sb.append( fTimeBound.getSpecificationAsSEL() );
+            sb.append( fTimeBound.getSpecificationAsSEL( aContext ) );
         }
 
         if ( fConstraint != null )
         {
             sb.append( " " );
-            sb.append( fConstraint.getSpecificationAsSEL() );
+            sb.append( fConstraint.getSpecificationAsSEL( aContext ) );
         }
         
         return sb.toString();
     }    
+
+    public boolean equals( Object aOther )
+    {
+        if ( this == aOther )
+            return true;
+        if ( aOther == null || getClass() != aOther.getClass() )
+            return false;
+
+        ChainEvent lOther = (ChainEvent)aOther;
+
+        return EventImpl.equalValues( fEvent, lOther.fEvent ) && Objects.equals( fConstraint, lOther.fConstraint )
+            && Objects.equals( fTimeBound, lOther.fTimeBound );
+    }
+
+    public int hashCode()
+    {
+        return Objects.hash( EventImpl.valueHashCode( fEvent ), fConstraint, fTimeBound );
+    }
 }
@@ -40,7 +40,9 @@ package psp.sel.patterns.order;
 
 import java.util.ArrayList;
 import java.util.Iterator;
+import java.util.Objects;
 import psp.sel.EventImpl;
+import psp.sel.RenderingContext;
 
 public class ChainEvents implements Iterable<ChainEvent>
 {
@@ -93,16 +95,33 @@ public class ChainEvents implements Iterable<ChainEvent>
         return Result;   
     }
     
-    public String getSpecificationAsSEL( String aConnector ) 
+    public String getSpecificationAsSEL( String aConnector, RenderingContext aContext ) 
     {
         StringBuilder sb = new StringBuilder();
     
         for ( ChainEvent ce : fTis )
         {
             sb.append( aConnector );
-            sb.append( ce.getSpecificationAsSEL() );
+            sb.append( ce.getSpecificationAsSEL( aContext ) );
         }
         
         return sb.toString();
     }    
+
+    public boolean equals( Object aOther )
+    {
+        if ( this == aOther )
+            return true;
+        if ( aOther == null || getClass() != aOther.getClass() )
+            return false;
+
+        ChainEvents lOther = (ChainEvents)aOther;
+
+        return Objects.equals( fTis, lOther.fTis );
+    }
+
+    public int hashCode()
+    {
+        return fTis.hashCode();
+    }
 }
@@ -39,11 +39,13 @@
 package psp.sel.patterns.order;
 
 import java.util.ArrayList;
+import java.util.Objects;
 import psp.constraints.EventConstraint;
 import psp.constraints.ProbabilityBound;
 import psp.constraints.TimeBound;
 import psp.engine.PSPConstants;
 import psp.sel.EventImpl;
+import psp.sel.RenderingContext;
 import psp.sel.patterns.Order;
 
 public class PrecedenceChain1N extends Order
@@ -109,44 +111,60 @@ public class PrecedenceChain1N extends Order
         return Result;
     }
 
-    public String getSpecificationAsSEL() 
+    public String getSpecificationAsSEL( RenderingContext aContext ) 
     {
         StringBuilder sb = new StringBuilder();
         
         sb.append( "if " );
-        sb.append( getS().getAsSELEvent() );
+        sb.append( getS().getAsSELEvent( aContext ) );
         sb.append( " [has occurred]" );
-        sb.append( getTis().getSpecificationAsSEL( " and afterwards " ) );
+        sb.append( getTis().getSpecificationAsSEL( " and afterwards ", aContext ) );
         if ( getTis().size() > 1 )
             sb.append( " [hold]" );
         else
             sb.append( " [holds]" );
         sb.append( " then it must be the case that " );
-        sb.append( getP().getAsSELEvent() );
+        sb.append( getP().getAsSELEvent( aContext ) );
         sb.append( " [has occurred]" );
 
         if ( fTimeBoundS != null )
         {
             sb.append( " " );
-            sb.append( fTimeBoundS.getSpecificationAsSEL() );
+            sb.append( fTimeBoundS.getSpecificationAsSEL( aContext ) );
         }
 
         sb.append( " before " );
-        sb.append( getS().getAsSELEvent() );
+        sb.append( getS().getAsSELEvent( aContext ) );
         sb.append( " [holds]" );
 
         if ( fSConstraint != null )
         {
             sb.append( " " );
-            sb.append( fSConstraint.getSpecificationAsSEL() );
+            sb.append( fSConstraint.getSpecificationAsSEL( aContext ) );
         }
 
         if ( getProbabilityBound() != null )
         {
             sb.append( " " );
-            sb.append( getProbabilityBound().getSpecificationAsSEL() );
+            sb.append( getProbabilityBound().getSpecificationAsSEL( aContext ) );
         }
         
         return sb.toString();
     }    
+
+    public boolean equals( Object aOther )
+    {
+        if ( !super.equals( aOther ) )
+            return false;
+
+        PrecedenceChain1N lOther = (PrecedenceChain1N)aOther;
+
+        return Objects.equals( fTimeBoundS, lOther.fTimeBoundS )
+            && Objects.equals( fSConstraint, lOther.fSConstraint );
+    }
+
+    public int hashCode()
+    {
+        return Objects.hash( super.hashCode(), fTimeBoundS, fSConstraint );
+    }
 }
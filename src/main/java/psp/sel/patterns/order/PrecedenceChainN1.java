@@ -39,11 +39,13 @@
 package psp.sel.patterns.order;
 
 import java.util.ArrayList;
+import java.util.Objects;
 import psp.constraints.EventConstraint;
 import psp.constraints.ProbabilityBound;
 import psp.constraints.TimeBound;
 import psp.engine.PSPConstants;
 import psp.sel.EventImpl;
+import psp.sel.RenderingContext;
 import psp.sel.patterns.Order;
 
 public class PrecedenceChainN1 extends Order
@@ -109,41 +111,57 @@ public class PrecedenceChainN1 extends Order
         return Result;
     }
 
-    public String getSpecificationAsSEL() 
+    public String getSpecificationAsSEL( RenderingContext aContext ) 
     {
         StringBuilder sb = new StringBuilder();
         
         sb.append( "if " );
-        sb.append( getP().getAsSELEvent() );
+        sb.append( getP().getAsSELEvent( aContext ) );
         sb.append( " [holds]" );
         
         sb.append( " then it must have been the case that " );
-        sb.append( getS().getAsSELEvent() );
-        sb.append( getTis().getSpecificationAsSEL( " and afterwards " ) );
+        sb.append( getS().getAsSELEvent( aContext ) );
+        sb.append( getTis().getSpecificationAsSEL( " and afterwards ", aContext ) );
         sb.append( " [have occurred]" );
 
         if ( fTimeBoundP != null )
         {
             sb.append( " " );
-            sb.append( fTimeBoundP.getSpecificationAsSEL() );
+            sb.append( fTimeBoundP.getSpecificationAsSEL( aContext ) );
         }
 
         if ( fPConstraint != null )
         {
             sb.append( " " );
-            sb.append( fPConstraint.getSpecificationAsSEL() );
+            sb.append( fPConstraint.getSpecificationAsSEL( aContext ) );
         }
 
         sb.append( " before " );
-        sb.append( getP().getAsSELEvent() );
+        sb.append( getP().getAsSELEvent( aContext ) );
         sb.append( " [holds]" );
 
         if ( getProbabilityBound() != null )
         {
             sb.append( " " );
-            sb.append( getProbabilityBound().getSpecificationAsSEL() );
+            sb.append( getProbabilityBound().getSpecificationAsSEL( aContext ) );
         }
         
         return sb.toString();
     }    
+
+    public boolean equals( Object aOther )
+    {
+        if ( !super.equals( aOther ) )
+            return false;
+
+        PrecedenceChainN1 lOther = (PrecedenceChainN1)aOther;
+
+        return Objects.equals( fTimeBoundP, lOther.fTimeBoundP )
+            && Objects.equals( fPConstraint, lOther.fPConstraint );
+    }
+
+    public int hashCode()
+    {
+        return Objects.hash( super.hashCode(), fTimeBoundP, fPConstraint );
+    }
 }
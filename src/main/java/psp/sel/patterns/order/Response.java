@@ -39,11 +39,13 @@
 package psp.sel.patterns.order;
 
 import java.util.ArrayList;
+import java.util.Objects;
 import psp.constraints.EventConstraint;
 import psp.constraints.ProbabilityBound;
 import psp.constraints.TimeBound;
 import psp.engine.PSPConstants;
 import psp.sel.EventImpl;
+import psp.sel.RenderingContext;
 import psp.sel.patterns.Order;
 
 public class Response extends Order
@@ -106,36 +108,52 @@ public class Response extends Order
         return Result;
     }
 
-    public String getSpecificationAsSEL() 
+    public String getSpecificationAsSEL( RenderingContext aContext ) 
     {
         StringBuilder sb = new StringBuilder();
         
         sb.append( "if " );
-        sb.append( getP().getAsSELEvent() );
+        sb.append( getP().getAsSELEvent( aContext ) );
         sb.append( " [has occurred]" );
 
         sb.append( " then in response " );
-        sb.append( getS().getAsSELEvent() );
+        sb.append( getS().getAsSELEvent( aContext ) );
         sb.append( " [eventually holds]" );
 
         if ( fSTimeBound != null )
         {
             sb.append( " " );
-            sb.append( fSTimeBound.getSpecificationAsSEL() );
+            sb.append( fSTimeBound.getSpecificationAsSEL( aContext ) );
         }
 
         if ( fSConstraint != null )
         {
             sb.append( " " );
-            sb.append( fSConstraint.getSpecificationAsSEL() );
+            sb.append( fSConstraint.getSpecificationAsSEL( aContext ) );
         }
 
         if ( getProbabilityBound() != null )
         {
             sb.append( " " );
-            sb.append( getProbabilityBound().getSpecificationAsSEL() );
+            sb.append( getProbabilityBound().getSpecificationAsSEL( aContext ) );
         }
         
         return sb.toString();
     }    
+
+    public boolean equals( Object aOther )
+    {
+        if ( !super.equals( aOther ) )
+            return false;
+
+        Response lOther = (Response)aOther;
+
+        return Objects.equals( fSTimeBound, lOther.fSTimeBound )
+            && Objects.equals( fSConstraint, lOther.fSConstraint );
+    }
+
+    public int hashCode()
+    {
+        return Objects.hash( super.hashCode(), fSTimeBound, fSConstraint );
+    }
 }
@@ -39,11 +39,13 @@
 package psp.sel.patterns.order;
 
 import java.util.ArrayList;
+import java.util.Objects;
 import psp.constraints.EventConstraint;
 import psp.constraints.ProbabilityBound;
 import psp.constraints.TimeBound;
 import psp.engine.PSPConstants;
 import psp.sel.EventImpl;
+import psp.sel.RenderingContext;
 import psp.sel.patterns.Order;
 
 public class ResponseChain1N extends Order
@@ -109,31 +111,31 @@ public class ResponseChain1N extends Order
         return Result;
     }
 
-    public String getSpecificationAsSEL() 
+    public String getSpecificationAsSEL( RenderingContext aContext ) 
     {
         StringBuilder sb = new StringBuilder();
         
         sb.append( "if " );
-        sb.append( getP().getAsSELEvent() );
+        sb.append( getP().getAsSELEvent( aContext ) );
         sb.append( " [has occurred]" );
         
         sb.append( " then in response " );
-        sb.append( getS().getAsSELEvent() );
+        sb.append( getS().getAsSELEvent( aContext ) );
         sb.append( " [eventually holds]" );
 
         if ( fTimeBoundS != null )
         {
             sb.append( " " );
-            sb.append( fTimeBoundS.getSpecificationAsSEL() );
+            sb.append( fTimeBoundS.getSpecificationAsSEL( aContext ) );
         }
 
         if ( fSConstraint != null )
         {
             sb.append( " " );
-            sb.append( fSConstraint.getSpecificationAsSEL() );
+            sb.append( fSConstraint.getSpecificationAsSEL( aContext ) );
         }
 
-        sb.append( getTis().getSpecificationAsSEL( " followed by " ) );
+        sb.append( getTis().getSpecificationAsSEL( " followed by ", aContext ) );
         if ( getTis().size() > 1 )
             sb.append( " [eventually hold]" );
         else
@@ -142,9 +144,25 @@ public class ResponseChain1N extends Order
         if ( getProbabilityBound() != null )
         {
             sb.append( " " );
-            sb.append( getProbabilityBound().getSpecificationAsSEL() );
+            sb.append( getProbabilityBound().getSpecificationAsSEL( aContext ) );
         }
         
         return sb.toString();
     }    
+
+    public boolean equals( Object aOther )
+    {
+        if ( !super.equals( aOther ) )
+            return false;
+
+        ResponseChain1N lOther = (ResponseChain1N)aOther;
+
+        return Objects.equals( fTimeBoundS, lOther.fTimeBoundS )
+            && Objects.equals( fSConstraint, lOther.fSConstraint );
+    }
+
+    public int hashCode()
+    {
+        return Objects.hash( super.hashCode(), fTimeBoundS, fSConstraint );
+    }
 }
@@ -39,11 +39,13 @@
 package psp.sel.patterns.order;
 
 import java.util.ArrayList;
+import java.util.Objects;
 import psp.constraints.EventConstraint;
 import psp.constraints.ProbabilityBound;
 import psp.constraints.TimeBound;
 import psp.engine.PSPConstants;
 import psp.sel.EventImpl;
+import psp.sel.RenderingContext;
 import psp.sel.patterns.Order;
 
 public class ResponseChainN1 extends Order
@@ -109,37 +111,53 @@ public class ResponseChainN1 extends Order
         return Result;
     }
 
-    public String getSpecificationAsSEL() 
+    public String getSpecificationAsSEL( RenderingContext aContext ) 
     {
         StringBuilder sb = new StringBuilder();
         
         sb.append( "if " );
-        sb.append( getS().getAsSELEvent() );
-        sb.append( getTis().getSpecificationAsSEL( " followed by " ) );
+        sb.append( getS().getAsSELEvent( aContext ) );
+        sb.append( getTis().getSpecificationAsSEL( " followed by ", aContext ) );
         sb.append( " [have occurred]" );
 
         sb.append( " then in response " );
-        sb.append( getP().getAsSELEvent() );
+        sb.append( getP().getAsSELEvent( aContext ) );
         sb.append( " [eventually holds]" );
 
         if ( fTimeBoundP != null )
         {
             sb.append( " " );
-            sb.append( fTimeBoundP.getSpecificationAsSEL() );
+            sb.append( fTimeBoundP.getSpecificationAsSEL( aContext ) );
         }
 
         if ( fPConstraint != null )
         {
             sb.append( " " );
-            sb.append( fPConstraint.getSpecificationAsSEL() );
+            sb.append( fPConstraint.getSpecificationAsSEL( aContext ) );
         }
 
         if ( getProbabilityBound() != null )
         {
             sb.append( " " );
-            sb.append( getProbabilityBound().getSpecificationAsSEL() );
+            sb.append( getProbabilityBound().getSpecificationAsSEL( aContext ) );
         }
         
         return sb.toString();
     }    
+
+    public boolean equals( Object aOther )
+    {
+        if ( !super.equals( aOther ) )
+            return false;
+
+        ResponseChainN1 lOther = (ResponseChainN1)aOther;
+
+        return Objects.equals( fTimeBoundP, lOther.fTimeBoundP )
+            && Objects.equals( fPConstraint, lOther.fPConstraint );
+    }
+
+    public int hashCode()
+    {
+        return Objects.hash( super.hashCode(), fTimeBoundP, fPConstraint );
+    }
 }
@@ -38,10 +38,12 @@
 
 package psp.sel.patterns.order;
 
+import java.util.Objects;
 import psp.constraints.ProbabilityBound;
 import psp.constraints.TimeBound;
 import psp.engine.PSPConstants;
 import psp.sel.EventImpl;
+import psp.sel.RenderingContext;
 import psp.sel.patterns.Order;
 
 public class ResponseInvariance extends Order
@@ -75,31 +77,46 @@ public class ResponseInvariance extends Order
         return PSPConstants.P_ResponseInvariance;
     }
 
-    public String getSpecificationAsSEL() 
+    public String getSpecificationAsSEL( RenderingContext aContext ) 
     {
         StringBuilder sb = new StringBuilder();
         
         sb.append( "if " );
-        sb.append( getP().getAsSELEvent() );
+        sb.append( getP().getAsSELEvent( aContext ) );
         sb.append( " [has occurred]" );
 
         sb.append( " then in response " );
-        sb.append( getS().getAsSELEvent() );
+        sb.append( getS().getAsSELEvent( aContext ) );
         sb.append( " [holds]" );
         sb.append( " continually" );
 
         if ( fSTimeBound != null )
         {
             sb.append( " " );
-            sb.append( fSTimeBound.getSpecificationAsSEL() );
+            sb.append( fSTimeBound.getSpecificationAsSEL( aContext ) );
         }
 
         if ( getProbabilityBound() != null )
         {
             sb.append( " " );
-            sb.append( getProbabilityBound().getSpecificationAsSEL() );
+            sb.append( getProbabilityBound().getSpecificationAsSEL( aContext ) );
         }
         
         return sb.toString();
     }    
+
+    public boolean equals( Object aOther )
+    {
+        if ( !super.equals( aOther ) )
+            return false;
+
+        ResponseInvariance lOther = (ResponseInvariance)aOther;
+
+        return Objects.equals( fSTimeBound, lOther.fSTimeBound );
+    }
+
+    public int hashCode()
+    {
+        return Objects.hash( super.hashCode(), fSTimeBound );
+    }
 }
@@ -38,10 +38,12 @@
 
 package psp.sel.patterns.order;
 
+import java.util.Objects;
 import psp.constraints.ProbabilityBound;
 import psp.constraints.TimeBound;
 import psp.engine.PSPConstants;
 import psp.sel.EventImpl;
+import psp.sel.RenderingContext;
 import psp.sel.patterns.Order;
 
 public class Until extends Order
@@ -75,29 +77,44 @@ public class Until extends Order
         return PSPConstants.P_Until;
     }
 
-    public String getSpecificationAsSEL() 
+    public String getSpecificationAsSEL( RenderingContext aContext ) 
     {
         StringBuilder sb = new StringBuilder();
         
-        sb.append( getP().getAsSELEvent() );
+        sb.append( getP().getAsSELEvent( aContext ) );
         sb.append( " [holds]" );
 
         sb.append( " without interruption until " );
-        sb.append( getS().getAsSELEvent() );
+        sb.append( getS().getAsSELEvent( aContext ) );
         sb.append( " [holds]" );
 
         if ( fPTimeBound != null )
         {
             sb.append( " " );
-            sb.append( fPTimeBound.getSpecificationAsSEL() );
+            sb.append( fPTimeBound.getSpecificationAsSEL( aContext ) );
         }
 
         if ( getProbabilityBound() != null )
         {
             sb.append( " " );
-            sb.append( getProbabilityBound().getSpecificationAsSEL() );
+            sb.append( getProbabilityBound().getSpecificationAsSEL( aContext ) );
         }
         
         return sb.toString();
     }    
+
+    public boolean equals( Object aOther )
+    {
+        if ( !super.equals( aOther ) )
+            return false;
+
+        Until lOther = (Until)aOther;
+
+        return Objects.equals( fPTimeBound, lOther.fPTimeBound );
+    }
+
+    public int hashCode()
+    {
+        return Objects.hash( super.hashCode(), fPTimeBound );
+    }
 }
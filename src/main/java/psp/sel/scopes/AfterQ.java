@@ -39,6 +39,7 @@
 package psp.sel.scopes;
 
 import psp.sel.EventImpl;
+import psp.sel.RenderingContext;
 import psp.engine.PSPConstants;
 
 public class AfterQ extends Scope
@@ -53,12 +54,12 @@ public class AfterQ extends Scope
         super( aQ, null );
     }
 
-    public String getSpecificationAsSEL() 
+    public String getSpecificationAsSEL( RenderingContext aContext ) 
     {
         StringBuilder sb = new StringBuilder();
         
         sb.append( "After " );
-        sb.append( getQ().getAsSELEvent() );
+        sb.append( getQ().getAsSELEvent( aContext ) );
         
         return sb.toString();
     }
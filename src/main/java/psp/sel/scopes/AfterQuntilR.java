@@ -40,6 +40,7 @@ package psp.sel.scopes;
 
 import psp.engine.PSPConstants;
 import psp.sel.EventImpl;
+import psp.sel.RenderingContext;
 
 public class AfterQuntilR extends Scope
 {
@@ -53,14 +54,14 @@ public class AfterQuntilR extends Scope
         super( aQ, aR );
     }
 
-    public String getSpecificationAsSEL() 
+    public String getSpecificationAsSEL( RenderingContext aContext ) 
     {
         StringBuilder sb = new StringBuilder();
         
         sb.append( "After " );
-        sb.append( getQ().getAsSELEvent() );
+        sb.append( getQ().getAsSELEvent( aContext ) );
         sb.append( " until " );
-        sb.append( getR().getAsSELEvent() );
+        sb.append( getR().getAsSELEvent( aContext ) );
         
         return sb.toString();
     }
@@ -40,6 +40,7 @@ package psp.sel.scopes;
 
 import psp.engine.PSPConstants;
 import psp.sel.EventImpl;
+import psp.sel.RenderingContext;
 
 public class BeforeR extends Scope
 {
@@ -53,12 +54,12 @@ public class BeforeR extends Scope
         super( null, aR );
     }
 
-    public String getSpecificationAsSEL() 
+    public String getSpecificationAsSEL( RenderingContext aContext ) 
     {
         StringBuilder sb = new StringBuilder();
         
         sb.append( "Before " );
-        sb.append( getR().getAsSELEvent() );
+        sb.append( getR().getAsSELEvent( aContext ) );
         
         return sb.toString();
     }
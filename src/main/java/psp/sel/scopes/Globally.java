@@ -39,6 +39,7 @@
 package psp.sel.scopes;
 
 import psp.engine.PSPConstants;
+import psp.sel.RenderingContext;
 
 public class Globally extends Scope
 {
@@ -47,7 +48,7 @@ public class Globally extends Scope
         super( null, null );
     }
     
-    public String getSpecificationAsSEL() 
+    public String getSpecificationAsSEL( RenderingContext aContext ) 
     {
         return "Globally";
     }
@@ -38,7 +38,9 @@
 
 package psp.sel.scopes;
 
+import java.util.Objects;
 import psp.sel.EventImpl;
+import psp.sel.RenderingContext;
 
 public abstract class Scope 
 {
@@ -71,7 +73,12 @@ public abstract class Scope
         setR( aR );
     }
     
-    public abstract String getSpecificationAsSEL();
+    public String getSpecificationAsSEL()
+    {
+        return getSpecificationAsSEL( RenderingContext.NAME );
+    }
+
+    public abstract String getSpecificationAsSEL( RenderingContext aContext );
 
     private static String fNames[] = {
                                         "",
@@ -88,4 +95,21 @@ public abstract class Scope
     }
     
     public abstract int getType();
+
+    public boolean equals( Object aOther )
+    {
+        if ( this == aOther )
+            return true;
+        if ( aOther == null || getClass() != aOther.getClass() )
+            return false;
+
+        Scope lOther = (Scope)aOther;
+
+        return EventImpl.equalValues( fQ, lOther.fQ ) && EventImpl.equalValues( fR, lOther.fR );
+    }
+
+    public int hashCode()
+    {
+        return Objects.hash( getType(), EventImpl.valueHashCode( fQ ), EventImpl.valueHashCode( fR ) );
+    }
 }
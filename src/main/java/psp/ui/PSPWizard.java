@@ -46,6 +46,7 @@ import psp.engine.EventStorage;
 import psp.engine.PSPController;
 import psp.mappings.LTLMapper;
 import psp.mappings.MTLMapper;
+import psp.mappings.MappingResult;
 import psp.mappings.PatternMapper;
 import psp.mappings.PrismMapper;
 import psp.mappings.QuantitativePrismMapper;
@@ -53,6 +54,7 @@ import psp.mappings.SELMapper;
 import psp.mappings.TimedTBVMapper;
 import psp.mappings.UntimedTBVMapper;
 import psp.sel.EventImpl;
+import psp.sel.RenderingContext;
 import psp.sel.patterns.Pattern;
 import psp.sel.scopes.Scope;
 import psp.ui.dialogs.EditEventDialog;
@@ -124,7 +126,7 @@ public class PSPWizard extends javax.swing.JFrame implements PSPController {
         fSEs.setEnabled(true);
         fESpec.setSelected(false);
         fEName.setSelected(true);
-        EventImpl.EventStringMethod = EventImpl.E_Name;
+        fEventRendering = RenderingContext.NAME;
     }
 
     // event controller facet
@@ -147,6 +149,9 @@ public class PSPWizard extends javax.swing.JFrame implements PSPController {
 
     // event selection validation facet
 
+    // how events are rendered in the SEL and the mapping
+    private RenderingContext fEventRendering = RenderingContext.NAME;
+
     // Scope events
 
     private Scope fSelectedScope;
@@ -190,9 +195,9 @@ public class PSPWizard extends javax.swing.JFrame implements PSPController {
         StringBuilder sb = new StringBuilder();
 
         if (fSelectedScope != null && fSelectedPattern != null) {
-            sb.append(fSelectedScope.getSpecificationAsSEL());
+            sb.append(fSelectedScope.getSpecificationAsSEL(fEventRendering));
             sb.append(", ");
-            sb.append(fSelectedPattern.getSpecificationAsSEL());
+            sb.append(fSelectedPattern.getSpecificationAsSEL(fEventRendering));
             sb.append('.');
 
             fSELP.setText(sb.toString());
@@ -200,14 +205,14 @@ public class PSPWizard extends javax.swing.JFrame implements PSPController {
             PatternMapper lMapper = (PatternMapper) fMappings.getSelectedItem();
 
             if (lMapper != null) {
-                String lMapping = lMapper.getMapping(fSelectedScope, fSelectedPattern);
+                MappingResult lMapping = lMapper.map(fSelectedScope, fSelectedPattern, fEventRendering);
 
-                if (!lMapping.isEmpty()) {
-                    if (lMapper.hasMappingErrorOccurred())
+                if (lMapping.isSupported()) {
+                    if (lMapping.hasMappingErrorOccurred())
                         fMapping.setForeground(Color.red);
                     else
                         fMapping.setForeground(Color.black);
-                    fMapping.setText(lMapping);
+                    fMapping.setText(lMapping.getMapping());
                 } else {
                     fMapping.setForeground(Color.red);
                     fMapping.setText(lMapper.getNotSupportedMessage());
@@ -503,12 +508,12 @@ public class PSPWizard extends javax.swing.JFrame implements PSPController {
 
         if (!fEName.isSelected()) {
             fESpec.setSelected(true);
-            EventImpl.EventStringMethod = EventImpl.E_Spec;
+            fEventRendering = RenderingContext.SPECIFICATION;
         } else {
             if (fESpec.isSelected())
-                EventImpl.EventStringMethod = EventImpl.E_NameAndSpec;
+                fEventRendering = RenderingContext.NAME_AND_SPECIFICATION;
             else
-                EventImpl.EventStringMethod = EventImpl.E_Name;
+                fEventRendering = RenderingContext.NAME;
         }
         updateSELandMapping();
         repaint();
@@ -519,12 +524,12 @@ public class PSPWizard extends javax.swing.JFrame implements PSPController {
 
         if (!fESpec.isSelected()) {
             fEName.setSelected(true);
-            EventImpl.EventStringMethod = EventImpl.E_Name;
+            fEventRendering = RenderingContext.NAME;
         } else {
             if (fEName.isSelected())
-                EventImpl.EventStringMethod = EventImpl.E_NameAndSpec;
+                fEventRendering = RenderingContext.NAME_AND_SPECIFICATION;
             else
-                EventImpl.EventStringMethod = EventImpl.E_Spec;
+                fEventRendering = RenderingContext.SPECIFICATION;
         }
         updateSELandMapping();
         repaint();
@@ -0,0 +1,75 @@
+package psp.mappings;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import java.util.List;
+import java.util.Map;
+
+import org.junit.jupiter.api.Test;
+
+import psp.constraints.Interval;
+import psp.sel.EventImpl;
+import psp.sel.PatternFixtures;
+import psp.sel.RenderingContext;
+import psp.sel.patterns.Pattern;
+import psp.sel.patterns.order.Response;
+import psp.sel.scopes.Globally;
+import psp.sel.scopes.Scope;
+
+/**
+ * Compares the engine with the mappers, the reference, for every scope and pattern, mapping to all mappers at
+ * once.
+ */
+public class DialectMappingEngineTest {
+    private static final List<RenderingContext> RENDERINGS = List.of(RenderingContext.NAME,
+        RenderingContext.SPECIFICATION, RenderingContext.NAME_AND_SPECIFICATION);
+
+    private final List<GenericMapper> mappers = List.of(new SELMapper(), new LTLMapper(), new MTLMapper(),
+        new PrismMapper(), new QuantitativePrismMapper(), new TimedTBVMapper(), new UntimedTBVMapper());
+
+    @Test
+    public void membersOfAFamilyRenderTheMappingsOfTheMappers() {
+        final DialectMappingEngine engine = new DialectMappingEngine();
+        for (final boolean constrained : List.of(false, true)) {
+            for (final Scope scope : PatternFixtures.scopes()) {
+                for (final Pattern pattern : PatternFixtures.patterns("", constrained, false)) {
+                    assertMapsLikeTheMappers(engine, scope, pattern);
+                }
+                for (final Pattern pattern : PatternFixtures.patterns("", constrained, true)) {
+                    assertMapsLikeTheMappers(engine, scope, pattern);
+                }
+            }
+        }
+    }
+
+    private void assertMapsLikeTheMappers(final DialectMappingEngine engine, final Scope scope,
+        final Pattern pattern) {
+        final Map<GenericMapper, List<MappingResult>> actual = engine.map(mappers, scope, pattern, RENDERINGS);
+        assertEquals(mappers, List.copyOf(actual.keySet()));
+        for (final GenericMapper mapper : mappers) {
+            final List<MappingResult> expected = mapper.map(scope, pattern, RENDERINGS);
+            for (int i = 0; i < RENDERINGS.size(); i++) {
+                final String message = mapper + " " + scope + " " + pattern;
+                assertEquals(expected.get(i).getMapping(), actual.get(mapper).get(i).getMapping(), message);
+                assertEquals(expected.get(i).hasMappingErrorOccurred(),
+                    actual.get(mapper).get(i).hasMappingErrorOccurred(), message);
+            }
+        }
+    }
+
+    @Test
+    public void aFamilyIsMappedOnce() {
+        final DialectMappingEngine engine = new DialectMappingEngine();
+        final Pattern pattern = new Response(new EventImpl("p"), new EventImpl("s"),
+            new Interval(new EventImpl("s"), 2, 7, "s"), null, null);
+
+        engine.map(List.of(new LTLMapper(), new UntimedTBVMapper()), new Globally(), pattern, RENDERINGS);
+        assertEquals(1, engine.getFamilyMappingCount());
+        engine.map(List.of(new MTLMapper(), new TimedTBVMapper(), new TimedTBVMapper()), new Globally(), pattern,
+            RENDERINGS);
+        assertEquals(2, engine.getFamilyMappingCount());
+        engine.map(mappers, new Globally(), pattern, RENDERINGS);
+        // SEL, LTL, MTL, Prism and quantitative Prism
+        assertEquals(7, engine.getFamilyMappingCount());
+    }
+}
@@ -0,0 +1,101 @@
+package psp.mappings;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.io.IOException;
+import java.io.StringWriter;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+
+import psp.constraints.GreaterThanEqualProbability;
+import psp.constraints.Interval;
+import psp.mappings.formula.FormulaFactory;
+import psp.mappings.formula.Group;
+import psp.mappings.formula.Operator;
+import psp.sel.EventImpl;
+import psp.sel.RenderingContext;
+import psp.sel.patterns.Pattern;
+import psp.sel.patterns.occurrence.SteadyState;
+import psp.sel.patterns.occurrence.Universality;
+import psp.sel.patterns.order.Response;
+import psp.sel.scopes.AfterQ;
+import psp.sel.scopes.BetweenQandR;
+import psp.sel.scopes.Globally;
+import psp.sel.scopes.Scope;
+
+public class GenericMapperTest {
+    private final EventImpl p = new EventImpl("p", "pSpec");
+    private final EventImpl s = new EventImpl("s", "sSpec");
+    private final EventImpl q = new EventImpl("q", "qSpec");
+    private final EventImpl r = new EventImpl("r", "rSpec");
+
+    private final List<GenericMapper> mappers = List.of(new SELMapper(), new LTLMapper(), new MTLMapper(),
+        new PrismMapper(), new QuantitativePrismMapper(), new TimedTBVMapper(), new UntimedTBVMapper());
+    private final List<Scope> scopes = List.of(new Globally(), new AfterQ(q), new BetweenQandR(q, r));
+    private final List<Pattern> patterns = List.of(new Universality(p, null, null),
+        new Response(p, s, new Interval(s, 2, 7, "s"), null, new GreaterThanEqualProbability(0.9)));
+
+    @Test
+    public void appendedMappingsEqualTheRenderedElements() throws IOException {
+        for (final GenericMapper mapper : mappers) {
+            for (final Scope scope : scopes) {
+                for (final Pattern pattern : patterns) {
+                    for (final RenderingContext rendering : List.of(RenderingContext.NAME,
+                        RenderingContext.SPECIFICATION)) {
+                        final String expected = mapper.map(scope, pattern, List.of(rendering, rendering)).get(0)
+                            .getMapping();
+
+                        final StringBuilder sb = new StringBuilder("prefix ");
+                        mapper.appendMapping(scope, pattern, rendering, sb);
+                        assertEquals("prefix " + expected, sb.toString(), mapper + " " + scope + " " + pattern);
+
+                        final StringWriter writer = new StringWriter();
+                        mapper.appendMapping(scope, pattern, rendering, writer);
+                        assertEquals(expected, writer.toString());
+                        assertEquals(expected, mapper.map(scope, pattern, rendering).getMapping());
+                    }
+                }
+            }
+        }
+    }
+
+    @Test
+    public void failedMappingsReplaceWhatHasBeenAppended() throws IOException {
+        // fails after the scope's elements have been emitted
+        final Universality broken = new Universality(p, null, null) {
+            @Override
+            public EventImpl getP() {
+                throw new IllegalStateException("broken pattern");
+            }
+        };
+        final LTLMapper mapper = new LTLMapper();
+
+        final StringBuilder sb = new StringBuilder("prefix ");
+        assertTrue(mapper.appendMapping(new AfterQ(q), broken, RenderingContext.NAME, sb));
+        assertEquals("prefix broken pattern", sb.toString());
+        assertEquals("broken pattern", mapper.map(new AfterQ(q), broken,
+            List.of(RenderingContext.NAME, RenderingContext.NAME)).get(0).getMapping());
+    }
+
+    @Test
+    public void unsupportedCombinationsAppendNothing() throws IOException {
+        final StringBuilder sb = new StringBuilder();
+        assertFalse(new LTLMapper().appendMapping(new Globally(), new SteadyState(p, null), RenderingContext.NAME, sb));
+        assertEquals("", sb.toString());
+    }
+
+    @Test
+    public void prismOnlyDefinesStateFormulas() {
+        final PrismMapper mapper = new PrismMapper();
+        final FormulaFactory factory = new FormulaFactory();
+        final Group state = factory.group(factory.binary(Operator.AND, factory.atom(p),
+            factory.unary(Operator.NOT, factory.atom(s))));
+        assertTrue(mapper.isDefinable(state));
+        assertFalse(mapper.isDefinable(factory.group(factory.unary(Operator.EVENTUALLY, state))));
+        assertFalse(mapper.isDefinable(factory.group(factory.binary(Operator.UNTIL, state, factory.atom(q)))));
+        assertEquals("formula sub1 = (p) & !(s);", mapper.renderDefinition("sub1", "(p) & !(s)"));
+    }
+}
@@ -0,0 +1,66 @@
+package psp.mappings;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import org.junit.jupiter.api.Test;
+
+import psp.sel.EventImpl;
+import psp.sel.PatternFixtures;
+import psp.sel.patterns.Pattern;
+import psp.sel.patterns.occurrence.Existence;
+import psp.sel.patterns.occurrence.Universality;
+import psp.sel.patterns.order.Precedence;
+import psp.sel.patterns.order.Response;
+import psp.sel.patterns.order.ResponseChain1N;
+import psp.sel.patterns.order.ResponseChainN1;
+import psp.sel.patterns.order.Until;
+import psp.sel.scopes.AfterQ;
+import psp.sel.scopes.AfterQuntilR;
+import psp.sel.scopes.BeforeR;
+import psp.sel.scopes.BetweenQandR;
+import psp.sel.scopes.Globally;
+import psp.sel.scopes.Scope;
+
+public class LTLMapperTest {
+    private final EventImpl p = new EventImpl("p");
+    private final EventImpl s = new EventImpl("s");
+    private final EventImpl q = new EventImpl("q");
+    private final EventImpl r = new EventImpl("r");
+    private final LTLMapper mapper = new LTLMapper();
+
+    private String map(final Scope scope, final Pattern pattern) {
+        return mapper.map(scope, pattern).getMapping();
+    }
+
+    @Test
+    public void theScopeDoesNotCloseBeforeR() {
+        assertEquals("(◇ (r)) → (((p) → ((¬(r) U ((s) ∧ ¬(r))))) U (r))",
+            map(new BeforeR(r), new Response(p, s, null, null, null)));
+        // r does not release the obligation
+        assertEquals("(◇(r)) → (((p) ∧ ¬(r)) U ((s) ∧ ¬(r)))", map(new BeforeR(r), new Until(p, s, null, null)));
+        assertEquals("(◇(r)) → (((p) → (¬(r) U ((s) ∧ ¬(r) ∧ (○(¬(r) U ((t0))))))) U (r))",
+            map(new BeforeR(r), new ResponseChain1N(p, s, PatternFixtures.chain("", 1, false, false), null, null,
+                null)));
+    }
+
+    @Test
+    public void theScopeOpensAtQ() {
+        assertEquals("(☐¬(q)) ∨ (◇((q) ∧ ◇ (p)))", map(new AfterQ(q), new Existence(p, null, null)));
+        // only the first q opens the scope
+        assertEquals("(☐¬(q)) ∨ (¬(q) U ((q) ∧ (¬(p) W(s))))", map(new AfterQ(q), new Precedence(p, s, null, null)));
+        assertEquals("☐((((q) ∧  ¬(r)) ∧ (◇ (r))) → ((p) U (r)))",
+            map(new BetweenQandR(q, r), new Universality(p, null, null)));
+        // the scope need not be closed
+        assertEquals("☐(((q) ∧ ¬(r)) → ((p) W (r)))", map(new AfterQuntilR(q, r), new Universality(p, null, null)));
+    }
+
+    @Test
+    public void theResponseFollowsTheWholeChain() {
+        assertEquals("☐(((s) ∧ (○(◇ ((t0))))) → ((s) ∧ (○(◇ ((t0) ∧ (◇ (p)))))))",
+            map(new Globally(), new ResponseChainN1(p, s, PatternFixtures.chain("", 1, false, false), null, null,
+                null)));
+        assertEquals("☐(((s) ∧ (○(¬(c0) U ((t0))))) → ((s) ∧ (○(¬(c0) U ((t0) ∧ (◇ (p)))))))",
+            map(new Globally(), new ResponseChainN1(p, s, PatternFixtures.chain("", 1, true, false), null, null,
+                null)));
+    }
+}
@@ -0,0 +1,102 @@
+package psp.mappings;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+import org.junit.jupiter.api.Test;
+
+import psp.constraints.Interval;
+import psp.constraints.LowerTimeBound;
+import psp.constraints.UpperTimeBound;
+import psp.sel.EventImpl;
+import psp.sel.PatternFixtures;
+import psp.sel.RenderingContext;
+import psp.sel.patterns.occurrence.Universality;
+import psp.sel.patterns.order.Precedence;
+import psp.sel.patterns.order.Response;
+import psp.sel.patterns.order.ResponseChainN1;
+import psp.sel.patterns.order.Until;
+import psp.sel.scopes.AfterQuntilR;
+import psp.sel.scopes.BeforeR;
+import psp.sel.scopes.BetweenQandR;
+import psp.sel.scopes.Globally;
+
+public class MTLMapperTest {
+    private final EventImpl p = new EventImpl("p");
+    private final EventImpl s = new EventImpl("s");
+    private final EventImpl z = new EventImpl("z", "zSpec");
+    private final EventImpl q = new EventImpl("q");
+    private final EventImpl r = new EventImpl("r");
+
+    @Test
+    public void mappingErrorIsReportedWithTheResult() {
+        final MTLMapper mapper = new MTLMapper();
+
+        final MappingResult invalid = mapper.map(new Globally(), new Precedence(p, s, new Interval(s, 7, 2, "s"), null));
+        final MappingResult valid = mapper.map(new Globally(), new Precedence(p, s, new Interval(s, 2, 7, "s"), null));
+
+        assertTrue(invalid.hasMappingErrorOccurred());
+        assertEquals("☐((◇[2,2] (p)) → (◇[0,-5) (s)))", invalid.getMapping());
+        assertFalse(valid.hasMappingErrorOccurred());
+        assertEquals("☐((◇[7,7] (p)) → (◇[0,5) (s)))", valid.getMapping());
+    }
+
+    @Test
+    public void sharedMapperCanBeUsedConcurrently() throws Exception {
+        final MTLMapper mapper = new MTLMapper();
+        final ExecutorService executor = Executors.newFixedThreadPool(4);
+        try {
+            final List<Future<MappingResult>> results = IntStream.range(0, 1000)
+                .mapToObj(i -> executor.submit(() -> mapper.map(new Globally(),
+                    new Precedence(p, s, i % 2 == 0 ? new Interval(s, 7, 2, "s") : new Interval(s, 2, 7, "s"), null))))
+                .collect(Collectors.toList());
+            for (int i = 0; i < results.size(); i++) {
+                assertEquals(i % 2 == 0, results.get(i).get().hasMappingErrorOccurred());
+            }
+        } finally {
+            executor.shutdown();
+        }
+    }
+
+    @Test
+    public void oneMappingIsRenderedForEachContext() {
+        final EventImpl specifiedP = new EventImpl("p", "pSpec");
+        final EventImpl specifiedS = new EventImpl("s", "sSpec");
+        final List<MappingResult> results = new MTLMapper().map(new Globally(),
+            new Response(specifiedP, specifiedS, new Interval(specifiedS, 2, 7, "s"), z, null),
+            List.of(RenderingContext.NAME, RenderingContext.SPECIFICATION, RenderingContext.NAME_AND_SPECIFICATION));
+
+        assertEquals("☐((p) → (¬(z) U[2,7] (s)))", results.get(0).getMapping());
+        assertEquals("☐((pSpec) → (¬(zSpec) U[2,7] (sSpec)))", results.get(1).getMapping());
+        assertEquals("☐((p::pSpec) → (¬(z::zSpec) U[2,7] (s::sSpec)))", results.get(2).getMapping());
+    }
+
+    @Test
+    public void theScopesFollowThePatterns() {
+        final MTLMapper mapper = new MTLMapper();
+
+        // r does not release the obligation before it
+        assertEquals("(◇(r)) → (((p) ∧ ¬(r)) U ((s) ∧ ¬(r)))",
+            mapper.map(new BeforeR(r), new Until(p, s, null, null)).getMapping());
+        assertEquals("☐(((q) ∧ ¬(r) ∧ (◇ (r))) → (((p) U (r)) ∨ (☐ (p))))",
+            mapper.map(new BetweenQandR(q, r), new Universality(p, null, null)).getMapping());
+        // r does not hold at q, nor up to the lower time bound
+        assertEquals("☐(((q) ∧ (☐[0,0] ¬(r))) → (((p) → (¬(r) U[0,11] ((s) ∧ ¬(r)))) W (r)))",
+            mapper.map(new AfterQuntilR(q, r), new Response(p, s, new UpperTimeBound(s, 11, "s"), null, null))
+                .getMapping());
+        assertEquals("☐(((q) ∧ (☐[0,3] ¬(r))) → (((p) → (¬(r) U[3,∞) ((s) ∧ ¬(r)))) W (r)))",
+            mapper.map(new AfterQuntilR(q, r), new Response(p, s, new LowerTimeBound(s, 3, "s"), null, null))
+                .getMapping());
+        assertEquals("☐(((s) ∧ (○(◇ ((t0))))) → ((s) ∧ (○(◇ ((t0) ∧ (◇ (p)))))))",
+            mapper.map(new Globally(),
+                new ResponseChainN1(p, s, PatternFixtures.chain("", 1, false, false), null, null, null)).getMapping());
+    }
+}
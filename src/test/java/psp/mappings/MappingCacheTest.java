@@ -0,0 +1,108 @@
+package psp.mappings;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+
+import java.util.List;
+import java.util.Map;
+
+import org.junit.jupiter.api.Test;
+
+import psp.constraints.Interval;
+import psp.constraints.LowerTimeBound;
+import psp.constraints.UpperTimeBound;
+import psp.sel.EventImpl;
+import psp.sel.RenderingContext;
+import psp.sel.patterns.order.Response;
+import psp.sel.scopes.BeforeR;
+import psp.sel.scopes.Globally;
+
+public class MappingCacheTest {
+    private final EventImpl p = new EventImpl("p", "pSpec");
+    private final EventImpl s = new EventImpl("s", "sSpec");
+
+    @Test
+    public void equalScopesAndPatternsCompareByValue() {
+        assertEquals(new BeforeR(new EventImpl("r", "rSpec")), new BeforeR(new EventImpl("r", "rSpec")));
+        assertNotEquals(new BeforeR(new EventImpl("r", "rSpec")), new BeforeR(new EventImpl("r", "other")));
+        assertEquals(new Response(p, s, new Interval(s, 2, 7, "s"), null, null),
+            new Response(new EventImpl("p", "pSpec"), new EventImpl("s", "sSpec"), new Interval(s, 2, 7, "s"), null, null));
+        assertEquals(new Response(p, s, new Interval(s, 2, 7, "s"), null, null).hashCode(),
+            new Response(p, s, new Interval(s, 2, 7, "s"), null, null).hashCode());
+        assertNotEquals(new Response(p, s, new Interval(s, 2, 7, "s"), null, null),
+            new Response(p, s, new UpperTimeBound(s, 7, "s"), null, null));
+    }
+
+    @Test
+    public void equalRequestsAreServedFromTheCache() {
+        final MappingCache cache = new MappingCache(10);
+        final MTLMapper mapper = new MTLMapper();
+
+        final MappingResult first = cache.map(mapper, new Globally(), new Response(p, s, new Interval(s, 2, 7, "s"), null, null));
+        final MappingResult second = cache.map(mapper, new Globally(), new Response(p, s, new Interval(s, 2, 7, "s"), null, null));
+        final List<MappingResult> rendered = cache.map(mapper, new Globally(),
+            new Response(p, s, new Interval(s, 2, 7, "s"), null, null), List.of(RenderingContext.SPECIFICATION));
+
+        assertSame(first, second);
+        assertEquals(mapper.map(new Globally(), new Response(p, s, new Interval(s, 2, 7, "s"), null, null)).getMapping(),
+            first.getMapping());
+        assertNotEquals(first.getMapping(), rendered.get(0).getMapping());
+        assertEquals(1, cache.getHitCount());
+        assertEquals(2, cache.getMissCount());
+    }
+
+    @Test
+    public void missesOfTheSameShapeShareATemplate() {
+        final MappingCache cache = new MappingCache(10);
+        final LTLMapper mapper = new LTLMapper();
+        final EventImpl q = new EventImpl("q", "qSpec");
+        final EventImpl r = new EventImpl("r", "rSpec");
+
+        final MappingResult first = cache.map(mapper, new BeforeR(r), new Response(p, s, null, null, null));
+        final MappingResult second = cache.map(mapper, new BeforeR(p), new Response(q, r, null, null, null));
+
+        assertEquals(mapper.map(new BeforeR(r), new Response(p, s, null, null, null)).getMapping(),
+            first.getMapping());
+        assertEquals(mapper.map(new BeforeR(p), new Response(q, r, null, null, null)).getMapping(),
+            second.getMapping());
+        assertEquals(2, cache.getMissCount());
+        assertEquals(1, cache.getTemplateCompilationCount());
+    }
+
+    @Test
+    public void leastRecentlyUsedMappingIsEvicted() {
+        final MappingCache cache = new MappingCache(2);
+        final LTLMapper mapper = new LTLMapper();
+
+        cache.map(mapper, new Globally(), new Response(p, s, null, null, null));
+        cache.map(mapper, new BeforeR(p), new Response(p, s, null, null, null));
+        cache.map(mapper, new Globally(), new Response(p, s, null, null, null));
+        cache.map(mapper, new BeforeR(s), new Response(p, s, null, null, null));
+        cache.map(mapper, new Globally(), new Response(p, s, null, null, null));
+        cache.map(mapper, new BeforeR(p), new Response(p, s, null, null, null));
+
+        assertEquals(2, cache.size());
+        assertEquals(2, cache.getEvictionCount());
+        assertEquals(2, cache.getHitCount());
+        assertEquals(4, cache.getMissCount());
+    }
+
+    @Test
+    public void mappersOfAFamilyAreMappedTogether() {
+        final MappingCache cache = new MappingCache(10);
+        final MTLMapper mtl = new MTLMapper();
+        final TimedTBVMapper tbv = new TimedTBVMapper();
+        final Response pattern = new Response(p, s, new LowerTimeBound(s, 2, "s"), null, null);
+
+        final Map<PatternMapper, List<MappingResult>> results = cache.mapToAll(List.of(tbv, mtl), new Globally(),
+            pattern, List.of(RenderingContext.NAME));
+
+        assertEquals(List.of(tbv, mtl), List.copyOf(results.keySet()));
+        assertEquals(tbv.getMapping(new Globally(), pattern), results.get(tbv).get(0).getMapping());
+        assertEquals(mtl.getMapping(new Globally(), pattern), results.get(mtl).get(0).getMapping());
+        assertSame(results.get(mtl).get(0), cache.map(mtl, new Globally(), pattern));
+        assertEquals(1, cache.getHitCount());
+        assertEquals(2, cache.getMissCount());
+    }
+}
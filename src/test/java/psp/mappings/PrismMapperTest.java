@@ -0,0 +1,67 @@
+package psp.mappings;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import org.junit.jupiter.api.Test;
+
+import psp.constraints.LowerTimeBound;
+import psp.sel.EventImpl;
+import psp.sel.PatternFixtures;
+import psp.sel.patterns.Pattern;
+import psp.sel.patterns.occurrence.Existence;
+import psp.sel.patterns.occurrence.Universality;
+import psp.sel.patterns.order.Response;
+import psp.sel.patterns.order.ResponseChain1N;
+import psp.sel.patterns.order.ResponseChainN1;
+import psp.sel.patterns.order.Until;
+import psp.sel.scopes.AfterQ;
+import psp.sel.scopes.AfterQuntilR;
+import psp.sel.scopes.BeforeR;
+import psp.sel.scopes.BetweenQandR;
+import psp.sel.scopes.Globally;
+import psp.sel.scopes.Scope;
+
+public class PrismMapperTest {
+    private final EventImpl p = new EventImpl("p");
+    private final EventImpl s = new EventImpl("s");
+    private final EventImpl q = new EventImpl("q");
+    private final EventImpl r = new EventImpl("r");
+    private final PrismMapper mapper = new PrismMapper();
+
+    private String map(final Scope scope, final Pattern pattern) {
+        return mapper.map(scope, pattern).getMapping();
+    }
+
+    @Test
+    public void theScopeDoesNotCloseBeforeR() {
+        // a temporal operator reaches over an implication, so F r is bracketed
+        assertEquals("[ (F (r)) => (((p) => (!(r) U ((s) & !(r)))) U (r)) ]",
+            map(new BeforeR(r), new Response(p, s, null, null, null)));
+        assertEquals("[ (F(r)) => (((p) & !(r)) U ((s) & !(r))) ]", map(new BeforeR(r), new Until(p, s, null, null)));
+        assertEquals("[ (F(r)) => (((p) => (!(r) U ((s) & !(r) & X(!(r) U ((t0)))))) U (r)) ]",
+            map(new BeforeR(r), new ResponseChain1N(p, s, PatternFixtures.chain("", 1, false, false), null, null,
+                null)));
+    }
+
+    @Test
+    public void theScopeOpensAtQ() {
+        assertEquals("[ (G!(q)) | F((q) & F (p)) ]", map(new AfterQ(q), new Existence(p, null, null)));
+        assertEquals("[ G(((q) & !(r)) & F (r)) => (((p) U (r)) | G (p)) ]",
+            map(new BetweenQandR(q, r), new Universality(p, null, null)));
+        assertEquals("[ G(((q) & !(r)) => ((p) W (r))) ]",
+            map(new AfterQuntilR(q, r), new Universality(p, null, null)));
+        // r does not hold up to the lower time bound
+        assertEquals("[ G(((q) & (G<=3 !(r))) => (((p) => (!(r) U>=3 ((s) & !(r)))) W (r))) ]",
+            map(new AfterQuntilR(q, r), new Response(p, s, new LowerTimeBound(s, 3, "s"), null, null)));
+    }
+
+    @Test
+    public void theResponseFollowsTheWholeChain() {
+        assertEquals("[ G(((s) & X(F ((t0)))) => ((s) & X(F ((t0) & (F (p)))))) ]",
+            map(new Globally(), new ResponseChainN1(p, s, PatternFixtures.chain("", 1, false, false), null, null,
+                null)));
+        assertEquals("[ G(((s) & X(!(c0) U ((t0)))) => ((s) & X(!(c0) U ((t0) & (F (p)))))) ]",
+            map(new Globally(), new ResponseChainN1(p, s, PatternFixtures.chain("", 1, true, false), null, null,
+                null)));
+    }
+}
@@ -0,0 +1,85 @@
+package psp.mappings;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+
+import psp.constraints.Interval;
+import psp.sel.EventImpl;
+import psp.sel.PatternFixtures;
+import psp.sel.RenderingContext;
+import psp.sel.patterns.Pattern;
+import psp.sel.patterns.occurrence.Universality;
+import psp.sel.patterns.order.Response;
+import psp.sel.scopes.Globally;
+import psp.sel.scopes.Scope;
+
+/**
+ * Compares the engine with the mappers, the reference, for every scope and pattern. Each combination is mapped
+ * twice, with different events, so that the second mapping is rendered from the template of the first.
+ */
+public class TemplateMappingEngineTest {
+    private static final List<RenderingContext> RENDERINGS = List.of(RenderingContext.NAME,
+        RenderingContext.SPECIFICATION, RenderingContext.NAME_AND_SPECIFICATION);
+
+    private final List<GenericMapper> mappers = List.of(new SELMapper(), new LTLMapper(), new MTLMapper(),
+        new PrismMapper(), new QuantitativePrismMapper(), new TimedTBVMapper(), new UntimedTBVMapper());
+
+    @Test
+    public void templatesRenderTheMappingsOfTheMappers() {
+        final TemplateMappingEngine engine = new TemplateMappingEngine(1000);
+        for (final String suffix : List.of("", "_2")) {
+            for (final boolean constrained : List.of(false, true)) {
+                for (final GenericMapper mapper : mappers) {
+                    for (final Scope scope : PatternFixtures.scopes(suffix)) {
+                        for (final Pattern pattern : PatternFixtures.patterns(suffix, constrained, false)) {
+                            final List<MappingResult> expected = mapper.map(scope, pattern, RENDERINGS);
+                            final List<MappingResult> actual = engine.map(mapper, scope, pattern, RENDERINGS);
+                            for (int i = 0; i < RENDERINGS.size(); i++) {
+                                final String message = mapper + " " + scope + " " + pattern;
+                                assertEquals(expected.get(i).getMapping(), actual.get(i).getMapping(), message);
+                                assertEquals(expected.get(i).hasMappingErrorOccurred(),
+                                    actual.get(i).hasMappingErrorOccurred(), message);
+                            }
+                        }
+                    }
+                }
+            }
+        }
+    }
+
+    @Test
+    public void shapesOnlyDifferingInEventsShareATemplate() {
+        final TemplateMappingEngine engine = new TemplateMappingEngine(10);
+        final LTLMapper mapper = new LTLMapper();
+        final Scope scope = new Globally();
+
+        engine.map(mapper, scope, new Response(new EventImpl("p"), new EventImpl("s"), null, null, null),
+            RenderingContext.NAME);
+        final MappingResult result = engine.map(mapper, scope,
+            new Response(new EventImpl("a"), new EventImpl("b"), null, null, null), RenderingContext.NAME);
+        assertEquals(mapper.getMapping(scope, new Response(new EventImpl("a"), new EventImpl("b"), null, null, null)),
+            result.getMapping());
+        assertEquals(1, engine.getCompilationCount());
+
+        // a different bound or the same event twice make a different shape
+        engine.map(mapper, scope, new Response(new EventImpl("a"), new EventImpl("a"), null, null, null),
+            RenderingContext.NAME);
+        engine.map(new MTLMapper(), scope, new Response(new EventImpl("a"), new EventImpl("b"),
+            new Interval(new EventImpl("b"), 1, 2, "s"), null, null), RenderingContext.NAME);
+        assertEquals(3, engine.getCompilationCount());
+        assertEquals(3, engine.size());
+    }
+
+    @Test
+    public void formattedMappingsAreLeftToTheMapper() {
+        final TemplateMappingEngine engine = new TemplateMappingEngine(10);
+        final Pattern pattern = new Universality(new EventImpl("p", "x  y"), null, null);
+        assertEquals(new TimedTBVMapper().getMapping(new Globally(), pattern),
+            engine.map(new TimedTBVMapper(), new Globally(), pattern, RenderingContext.NAME).getMapping());
+        assertEquals(1, engine.getFallbackCount());
+        assertEquals(0, engine.getCompilationCount());
+    }
+}
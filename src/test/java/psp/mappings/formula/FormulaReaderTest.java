@@ -0,0 +1,163 @@
+package psp.mappings.formula;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+
+import psp.constraints.GreaterThanEqualProbability;
+import psp.constraints.Interval;
+import psp.mappings.GenericMapper;
+import psp.mappings.LTLMapper;
+import psp.mappings.LanguageDefinitions;
+import psp.mappings.MTLMapper;
+import psp.mappings.MappingContext;
+import psp.mappings.PrismMapper;
+import psp.mappings.QuantitativePrismMapper;
+import psp.mappings.TimedTBVMapper;
+import psp.mappings.UntimedTBVMapper;
+import psp.mappings.elements.Element;
+import psp.mappings.elements.RoundBracketCloseElement;
+import psp.mappings.elements.RoundBracketOpenElement;
+import psp.mappings.postprocessing.MultipleWhiteSpaceReplacer;
+import psp.sel.EventImpl;
+import psp.sel.PatternFixtures;
+import psp.sel.RenderingContext;
+import psp.sel.patterns.Pattern;
+import psp.sel.patterns.occurrence.Universality;
+import psp.sel.patterns.order.ChainEvent;
+import psp.sel.patterns.order.ChainEvents;
+import psp.sel.patterns.order.Response;
+import psp.sel.patterns.order.ResponseChain1N;
+import psp.sel.patterns.order.ResponseInvariance;
+import psp.sel.scopes.AfterQ;
+import psp.sel.scopes.AfterQuntilR;
+import psp.sel.scopes.BetweenQandR;
+import psp.sel.scopes.Globally;
+import psp.sel.scopes.Scope;
+
+public class FormulaReaderTest {
+    private final EventImpl p = new EventImpl("p", "pSpec");
+    private final EventImpl s = new EventImpl("s", "sSpec");
+    private final EventImpl q = new EventImpl("q", "qSpec");
+    private final EventImpl r = new EventImpl("r", "rSpec");
+    private final EventImpl z = new EventImpl("z", "zSpec");
+
+    private final LanguageDefinitions ltl = new LTLMapper().getLanguageDefinitions();
+
+    @Test
+    public void printedFormulasEqualTheMappings() {
+        final ArrayList<ChainEvent> chain = new ArrayList<>();
+        chain.add(new ChainEvent(new EventImpl("t1", "t1Spec"), z, new Interval(s, 1, 3, "s")));
+        chain.add(new ChainEvent(new EventImpl("t2", "t2Spec"), null, null));
+        final List<GenericMapper> mappers = List.of(new LTLMapper(), new MTLMapper(), new PrismMapper(),
+            new QuantitativePrismMapper(), new TimedTBVMapper(), new UntimedTBVMapper());
+        final List<Scope> scopes = List.of(new Globally(), new AfterQ(q), new BetweenQandR(q, r),
+            new AfterQuntilR(q, r));
+        final List<Pattern> patterns = List.of(new Universality(p, null, null),
+            new Response(p, s, new Interval(s, 2, 7, "s"), null, new GreaterThanEqualProbability(0.9)),
+            new ResponseInvariance(p, s, new Interval(s, 2, 7, "s"), null),
+            new ResponseChain1N(p, s, new ChainEvents(chain), new Interval(s, 0, 5, "s"), null, null));
+        // the TBV mappers format their mappings
+        final MultipleWhiteSpaceReplacer formatter = new MultipleWhiteSpaceReplacer();
+
+        for (final GenericMapper mapper : mappers) {
+            for (final Scope scope : scopes) {
+                for (final Pattern pattern : patterns) {
+                    final Formula formula = mapper.mapToFormula(scope, pattern, new MappingContext(),
+                        new FormulaFactory());
+                    for (final RenderingContext rendering : List.of(RenderingContext.NAME,
+                        RenderingContext.SPECIFICATION)) {
+                        assertEquals(formatter.format(mapper.map(scope, pattern, rendering).getMapping()),
+                            formatter.format(mapper.getFormulaPrinter().toString(formula, rendering)),
+                            mapper + " " + scope + " " + pattern);
+                    }
+                }
+            }
+        }
+    }
+
+    @Test
+    public void everyMappingReadsBackAsItWasEmitted() {
+        final List<GenericMapper> mappers = List.of(new LTLMapper(), new MTLMapper(), new PrismMapper(),
+            new QuantitativePrismMapper(), new TimedTBVMapper(), new UntimedTBVMapper());
+        final MultipleWhiteSpaceReplacer formatter = new MultipleWhiteSpaceReplacer();
+
+        for (final GenericMapper mapper : mappers) {
+            for (final Scope scope : PatternFixtures.scopes()) {
+                for (final boolean constrained : List.of(false, true)) {
+                    for (final Pattern pattern : PatternFixtures.patterns("", constrained, false)) {
+                        final Formula formula = mapper.mapToFormula(scope, pattern, new MappingContext(),
+                            new FormulaFactory());
+                        assertEquals(formatter.format(mapper.map(scope, pattern, RenderingContext.NAME).getMapping()),
+                            formatter.format(mapper.getFormulaPrinter().toString(formula, RenderingContext.NAME)),
+                            mapper + " " + scope + " " + pattern);
+                    }
+                }
+            }
+        }
+    }
+
+    @Test
+    public void equalSubformulasAreShared() {
+        final FormulaFactory factory = new FormulaFactory();
+        final Formula conjunction = factory.binary(Operator.AND, factory.atom(new EventImpl("p", "pSpec")),
+            factory.atom(new EventImpl("p", "pSpec")));
+        assertSame(((BinaryFormula) conjunction).getLeft(), ((BinaryFormula) conjunction).getRight());
+        assertEquals(3, conjunction.size());
+        assertEquals(2, factory.size());
+
+        final LTLMapper mapper = new LTLMapper();
+        final Pattern response = new Response(p, s, null, null, null);
+        final Formula formula = mapper.mapToFormula(new BetweenQandR(q, r), response, new MappingContext(), factory);
+        final int distinct = factory.size();
+        assertTrue(distinct < formula.size());
+        assertSame(formula,
+            mapper.mapToFormula(new BetweenQandR(q, r), response, new MappingContext(), factory));
+        assertEquals(distinct, factory.size());
+    }
+
+    @Test
+    public void binaryOperatorsBindByPrecedence() {
+        final FormulaFactory factory = new FormulaFactory();
+        final Formula disjunction = FormulaReader.read(List.of(p, ltl.getAnd(), q, ltl.getOr(), r), factory);
+        assertSame(factory.binary(Operator.OR,
+            factory.binary(Operator.AND, factory.atom(p), factory.atom(q)), factory.atom(r)), disjunction);
+
+        final Formula implication = FormulaReader.read(
+            List.of(p, ltl.getImplication(), q, ltl.getImplication(), r), factory);
+        assertSame(factory.binary(Operator.IMPLIES, factory.atom(p),
+            factory.binary(Operator.IMPLIES, factory.atom(q), factory.atom(r))), implication);
+    }
+
+    @Test
+    public void prismTemporalOperatorsBindLoosest() {
+        final LanguageDefinitions prism = new PrismMapper().getLanguageDefinitions();
+        final FormulaFactory factory = new FormulaFactory();
+        final List<Element> elements = List.of(prism.getEventually(), p, prism.getAnd(), q, prism.getUntil(), r);
+
+        assertSame(factory.binary(Operator.UNTIL,
+            factory.unary(Operator.EVENTUALLY, null, false,
+                factory.binary(Operator.AND, factory.atom(p), factory.atom(q))),
+            factory.atom(r)), FormulaReader.read(elements, FormulaReader.Grammar.PRISM, factory));
+        assertSame(factory.binary(Operator.AND,
+            factory.unary(Operator.EVENTUALLY, null, false, factory.atom(p)),
+            factory.binary(Operator.UNTIL, factory.atom(q), factory.atom(r))),
+            FormulaReader.read(elements, FormulaReader.Grammar.LTL, factory));
+    }
+
+    @Test
+    public void unbalancedBracketsAreKept() {
+        final List<Element> elements = List.of(p, RoundBracketCloseElement.INSTANCE, ltl.getAnd(),
+            RoundBracketOpenElement.INSTANCE, q);
+        final Formula formula = FormulaReader.read(elements, new FormulaFactory());
+        final Group group = (Group) ((BinaryFormula) formula).getRight();
+        assertFalse(group.isClosed());
+        assertEquals("(p)) ∧ ((q)", new FormulaPrinter(ltl).toString(formula, RenderingContext.NAME));
+    }
+}
@@ -0,0 +1,115 @@
+package psp.mappings.formula;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+
+import psp.constraints.EventConstraint;
+import psp.mappings.LTLMapper;
+import psp.mappings.MappingContext;
+import psp.mappings.MappingOptions;
+import psp.mappings.MappingResult;
+import psp.mappings.PrismMapper;
+import psp.mappings.elements.MiscElement;
+import psp.mappings.elements.TimeBoundElement;
+import psp.mappings.postprocessing.FormulaSimplifier;
+import psp.mappings.postprocessing.FormulaSimplifier.Simplification;
+import psp.sel.EventImpl;
+import psp.sel.RenderingContext;
+import psp.sel.patterns.order.ChainEvent;
+import psp.sel.patterns.order.ChainEvents;
+import psp.sel.patterns.order.ResponseChain1N;
+import psp.sel.scopes.Globally;
+
+public class SimplifierTest {
+    private final FormulaFactory factory = new FormulaFactory();
+    private final FormulaPrinter printer = new FormulaPrinter(new LTLMapper().getLanguageDefinitions());
+
+    private final Formula p = factory.atom(new EventImpl("p", "pSpec"));
+    private final Formula q = factory.atom(new EventImpl("q", "qSpec"));
+    private final Formula r = factory.atom(new EventImpl("r", "rSpec"));
+    private final Formula yes = factory.atom(new MiscElement("true"));
+    private final Formula no = factory.atom(new MiscElement("false"));
+
+    private String simplified(final Formula formula) {
+        return printer.toString(new Simplifier(factory).simplify(formula), RenderingContext.NAME);
+    }
+
+    @Test
+    public void constantsAreFolded() {
+        assertEquals("(p)", simplified(factory.binary(Operator.AND, yes, p)));
+        assertEquals("true", simplified(factory.binary(Operator.OR, p, factory.group(yes))));
+        assertEquals("(q)", simplified(factory.binary(Operator.IMPLIES, factory.group(yes), q)));
+        assertEquals("false", simplified(factory.binary(Operator.AND, p, factory.unary(Operator.NOT, yes))));
+        assertEquals("true", simplified(factory.unary(Operator.ALWAYS, null, true, factory.group(yes))));
+        assertEquals("true", simplified(factory.binary(Operator.UNTIL, p, null, true, yes)));
+    }
+
+    @Test
+    public void boundedEventuallyIsKept() {
+        final TimeBoundElement bound = TimeBoundElement.of("[2,7]");
+        assertEquals("◇[2,7] true", simplified(factory.unary(Operator.EVENTUALLY, bound, true, yes)));
+        assertEquals("true", simplified(factory.unary(Operator.ALWAYS, bound, true, yes)));
+        assertEquals("(p) U[2,7] true", simplified(factory.binary(Operator.UNTIL, p, bound, true, yes)));
+    }
+
+    @Test
+    public void idempotentAndAbsorbedOperandsAreRemoved() {
+        assertEquals("(p)", simplified(factory.binary(Operator.AND, p, factory.group(p))));
+        assertEquals("(p)", simplified(factory.binary(Operator.AND, p,
+            factory.group(factory.binary(Operator.OR, q, p)))));
+        assertEquals("(q)", simplified(factory.binary(Operator.OR,
+            factory.group(factory.binary(Operator.AND, q, p)), q)));
+        assertEquals("☐(p)", simplified(factory.unary(Operator.ALWAYS, factory.group(
+            factory.unary(Operator.ALWAYS, p)))));
+        assertEquals("(p)", simplified(factory.binary(Operator.WEAK_UNTIL, p, null, true,
+            factory.group(factory.binary(Operator.OR, p, no)))));
+    }
+
+    @Test
+    public void onlyRedundantBracketsAreRemoved() {
+        final Formula conjunction = factory.binary(Operator.AND, p, q);
+        assertEquals("(p) ∧ (q)", simplified(factory.group(factory.group(conjunction))));
+        assertEquals("¬(p)", simplified(factory.unary(Operator.NOT, factory.group(p))));
+        assertEquals("(p) ∧ (q) ∧ (p)",
+            simplified(factory.binary(Operator.AND, factory.group(conjunction), factory.group(p))));
+        // temporal operators do not bind alike in all target logics
+        final Formula eventually = factory.group(factory.unary(Operator.EVENTUALLY, null, true, p));
+        assertEquals("(◇ (p)) ∨ (q)", simplified(factory.binary(Operator.OR, eventually, q)));
+        assertEquals("(r) ∨ ((p) ∧ (q))", simplified(factory.binary(Operator.OR, r, factory.group(conjunction))));
+    }
+
+    @Test
+    public void simplifiedMappingsReportTheirSize() {
+        final ArrayList<ChainEvent> chain = new ArrayList<>();
+        chain.add(new ChainEvent(new EventImpl("t", "tSpec"), null, null));
+        final ResponseChain1N pattern = new ResponseChain1N(new EventImpl("p", "pSpec"), new EventImpl("s", "sSpec"),
+            new ChainEvents(chain), null, new EventConstraint(new EventImpl("z", "zSpec")), null);
+        final PrismMapper mapper = new PrismMapper();
+
+        final MappingResult original = mapper.map(new Globally(), pattern);
+        assertFalse(original.isSimplified());
+        assertEquals("[ G((p) => (!(z) U ((s) & X(F ((t)))))) ]", original.getMapping());
+
+        final List<MappingResult> simplified = mapper.map(new Globally(), pattern,
+            List.of(RenderingContext.NAME, RenderingContext.SPECIFICATION), new MappingOptions(true, false));
+        assertTrue(simplified.get(0).isSimplified());
+        assertEquals("[ G((p) => (!(z) U ((s) & X(F (t))))) ]", simplified.get(0).getMapping());
+        assertEquals("[ G((pSpec) => (!(zSpec) U ((sSpec) & X(F (tSpec))))) ]", simplified.get(1).getMapping());
+        assertEquals(18, simplified.get(0).getOriginalSize());
+        assertEquals(17, simplified.get(0).getSimplifiedSize());
+
+        // the postprocessor simplifies alike
+        final Simplification simplification = new FormulaSimplifier(mapper.getLanguageDefinitions(),
+            FormulaReader.Grammar.PRISM).simplify(mapper.mapToElements(new Globally(), pattern, new MappingContext()));
+        assertEquals(simplified.get(0).getMapping(),
+            mapper.mapToString(simplification.elements(), RenderingContext.NAME));
+        assertEquals(18, simplification.originalSize());
+        assertEquals(17, simplification.simplifiedSize());
+    }
+}
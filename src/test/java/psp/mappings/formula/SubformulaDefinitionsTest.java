@@ -0,0 +1,112 @@
+package psp.mappings.formula;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+
+import psp.mappings.LTLMapper;
+import psp.mappings.MappingOptions;
+import psp.mappings.TimedTBVMapper;
+import psp.sel.EventImpl;
+import psp.sel.RenderingContext;
+import psp.sel.patterns.order.ChainEvent;
+import psp.sel.patterns.order.ChainEvents;
+import psp.sel.patterns.order.PrecedenceChain1N;
+import psp.sel.scopes.AfterQuntilR;
+
+public class SubformulaDefinitionsTest {
+    private final FormulaFactory factory = new FormulaFactory();
+    private final FormulaPrinter printer = new FormulaPrinter(new LTLMapper().getLanguageDefinitions());
+
+    private final Formula p = factory.atom(new EventImpl("p", "pSpec"));
+    private final Formula q = factory.atom(new EventImpl("q", "qSpec"));
+    private final Formula r = factory.atom(new EventImpl("r", "rSpec"));
+
+    private String print(final Formula formula) {
+        return printer.toString(formula, RenderingContext.NAME);
+    }
+
+    @Test
+    public void repeatedGroupsAreDefinedOnce() {
+        final Formula shared = factory.group(factory.binary(Operator.AND, p, factory.unary(Operator.NOT, q)));
+        final Formula formula = factory.binary(Operator.UNTIL, shared, null, true,
+            factory.group(factory.binary(Operator.OR, shared, r)));
+        // the factory shares the group, it is printed twice
+        final SubformulaDefinitions extracted = SubformulaDefinitions.extract(formula, factory, group -> true);
+
+        assertEquals(1, extracted.getDefinitions().size());
+        assertEquals("sub1", extracted.getDefinitions().get(0).name());
+        assertEquals("(p) ∧ ¬(q)", print(extracted.getDefinitions().get(0).body()));
+        assertEquals("(sub1) U ((sub1) ∨ (r))", print(extracted.getFormula()));
+    }
+
+    @Test
+    public void namesDoNotCollideWithEvents() {
+        final Formula sub1 = factory.atom(new EventImpl("sub1", "sub_1 > 0"));
+        final Formula shared = factory.group(factory.binary(Operator.AND, sub1, factory.unary(Operator.NOT, q)));
+        final Formula formula = factory.binary(Operator.OR, shared, shared);
+        final SubformulaDefinitions extracted = SubformulaDefinitions.extract(formula, factory, group -> true);
+
+        // the specification rules out "sub_" as well
+        assertEquals("sub__1", extracted.getDefinitions().get(0).name());
+        assertEquals("(sub__1) ∨ (sub__1)", print(extracted.getFormula()));
+    }
+
+    @Test
+    public void groupsRepeatedWithinADefinitionAreNotDefined() {
+        final Formula inner = factory.group(factory.binary(Operator.AND, p, factory.unary(Operator.NOT, q)));
+        final Formula outer = factory.group(factory.binary(Operator.OR, inner, r));
+        final Formula formula = factory.binary(Operator.AND, outer, factory.unary(Operator.ALWAYS, outer));
+        final SubformulaDefinitions extracted = SubformulaDefinitions.extract(formula, factory, group -> true);
+
+        assertEquals(1, extracted.getDefinitions().size());
+        assertEquals("((p) ∧ ¬(q)) ∨ (r)", print(extracted.getDefinitions().get(0).body()));
+        assertEquals("(sub1) ∧ ☐(sub1)", print(extracted.getFormula()));
+    }
+
+    @Test
+    public void definitionsOnlyReferToEarlierOnes() {
+        final Formula inner = factory.group(factory.binary(Operator.AND, p, factory.unary(Operator.NOT, q)));
+        final Formula outer = factory.group(factory.binary(Operator.OR, inner, r));
+        final Formula formula = factory.binary(Operator.AND, factory.group(factory.binary(Operator.AND, inner, outer)),
+            factory.unary(Operator.ALWAYS, outer));
+        final SubformulaDefinitions extracted = SubformulaDefinitions.extract(formula, factory, group -> true);
+
+        assertEquals(2, extracted.getDefinitions().size());
+        assertEquals("(p) ∧ ¬(q)", print(extracted.getDefinitions().get(0).body()));
+        assertEquals("(sub1) ∨ (r)", print(extracted.getDefinitions().get(1).body()));
+        assertEquals("((sub1) ∧ (sub2)) ∧ ☐(sub2)", print(extracted.getFormula()));
+    }
+
+    @Test
+    public void smallOrRejectedGroupsAreKept() {
+        final Formula small = factory.group(factory.unary(Operator.NOT, p));
+        final Formula large = factory.group(factory.binary(Operator.AND, p, factory.unary(Operator.NOT, q)));
+        final Formula formula = factory.binary(Operator.AND, factory.binary(Operator.AND, small, small),
+            factory.binary(Operator.AND, large, large));
+        final SubformulaDefinitions extracted = SubformulaDefinitions.extract(formula, factory, group -> false);
+
+        assertTrue(extracted.getDefinitions().isEmpty());
+        assertEquals(print(formula), print(extracted.getFormula()));
+    }
+
+    @Test
+    public void mappingsRenderDefinitionsBeforeTheFormula() {
+        final ArrayList<ChainEvent> chain = new ArrayList<>();
+        chain.add(new ChainEvent(new EventImpl("t", "tSpec"), null, null));
+        final PrecedenceChain1N pattern = new PrecedenceChain1N(new EventImpl("p", "pSpec"),
+            new EventImpl("s", "sSpec"), new ChainEvents(chain), null, null, null);
+        final AfterQuntilR scope = new AfterQuntilR(new EventImpl("q", "qSpec"), new EventImpl("r", "rSpec"));
+
+        final String mapping = new TimedTBVMapper().map(scope, pattern, List.of(RenderingContext.NAME),
+            new MappingOptions(false, true)).get(0).getMapping();
+        final String[] lines = mapping.split("\n");
+        assertEquals(2, lines.length);
+        assertTrue(lines[0].startsWith("sub1 := "));
+        assertEquals("always(((q) and not (r)) -> (((sub1) since (r)) or always (sub1)))", lines[1]);
+    }
+}
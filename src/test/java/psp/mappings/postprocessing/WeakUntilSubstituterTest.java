@@ -24,6 +24,7 @@ import psp.mappings.elements.RoundBracketOpenElement;
 import psp.mappings.elements.SpaceElement;
 import psp.mappings.elements.TimeBoundElement;
 import psp.mappings.elements.UntilElement;
+import psp.mappings.elements.WeakUntilElement;
 import psp.sel.EventImpl;
 
 public class WeakUntilSubstituterTest {
@@ -50,7 +51,7 @@ public class WeakUntilSubstituterTest {
 
         elementToProcess.add(eventA);
         elementToProcess.add(languageDefinitions.getWeakUntil());
-        elementToProcess.add(new SpaceElement());
+        elementToProcess.add(SpaceElement.INSTANCE);
         elementToProcess.add(eventB);
 
         execute();
@@ -71,12 +72,12 @@ public class WeakUntilSubstituterTest {
     public void simpleTimedTest() {
         Event eventA = new EventImpl("A");
         Event eventB = new EventImpl("B");
-        TimeBoundElement timeBound = new TimeBoundElement("[0,3]");
+        TimeBoundElement timeBound = TimeBoundElement.of("[0,3]");
 
         elementToProcess.add(eventA);
         elementToProcess.add(languageDefinitions.getWeakUntil());
         elementToProcess.add(timeBound);
-        elementToProcess.add(new SpaceElement());
+        elementToProcess.add(SpaceElement.INSTANCE);
         elementToProcess.add(eventB);
 
         execute();
@@ -99,13 +100,13 @@ public class WeakUntilSubstituterTest {
     public void negatedBeforeTest() {
         Event eventA = new EventImpl("A");
         Event eventB = new EventImpl("B");
-        TimeBoundElement timeBound = new TimeBoundElement("[0,3]");
+        TimeBoundElement timeBound = TimeBoundElement.of("[0,3]");
 
         elementToProcess.add(languageDefinitions.getNot());
         elementToProcess.add(eventA);
         elementToProcess.add(languageDefinitions.getWeakUntil());
         elementToProcess.add(timeBound);
-        elementToProcess.add(new SpaceElement());
+        elementToProcess.add(SpaceElement.INSTANCE);
         elementToProcess.add(eventB);
 
         execute();
@@ -130,15 +131,15 @@ public class WeakUntilSubstituterTest {
     public void eventuallyBeforeTest() {
         Event eventA = new EventImpl("A");
         Event eventB = new EventImpl("B");
-        TimeBoundElement timeBound = new TimeBoundElement("[0,3]");
-        TimeBoundElement timeBound2 = new TimeBoundElement("[0,3]");
+        TimeBoundElement timeBound = TimeBoundElement.of("[0,3]");
+        TimeBoundElement timeBound2 = TimeBoundElement.of("[0,3]");
 
         elementToProcess.add(languageDefinitions.getEventually());
         elementToProcess.add(timeBound2);
         elementToProcess.add(eventA);
         elementToProcess.add(languageDefinitions.getWeakUntil());
         elementToProcess.add(timeBound);
-        elementToProcess.add(new SpaceElement());
+        elementToProcess.add(SpaceElement.INSTANCE);
         elementToProcess.add(eventB);
 
         // format currently not supported
@@ -153,16 +154,16 @@ public class WeakUntilSubstituterTest {
         Event eventA = new EventImpl("A");
         Event eventB = new EventImpl("B");
         Event eventC = new EventImpl("C");
-        TimeBoundElement timeBound = new TimeBoundElement("[0,3]");
+        TimeBoundElement timeBound = TimeBoundElement.of("[0,3]");
 
-        elementToProcess.add(new RoundBracketOpenElement());
+        elementToProcess.add(RoundBracketOpenElement.INSTANCE);
         elementToProcess.add(eventA);
         elementToProcess.add(languageDefinitions.getAnd());
         elementToProcess.add(eventC);
-        elementToProcess.add(new RoundBracketCloseElement());
+        elementToProcess.add(RoundBracketCloseElement.INSTANCE);
         elementToProcess.add(languageDefinitions.getWeakUntil());
         elementToProcess.add(timeBound);
-        elementToProcess.add(new SpaceElement());
+        elementToProcess.add(SpaceElement.INSTANCE);
         elementToProcess.add(eventB);
 
         execute();
@@ -193,12 +194,12 @@ public class WeakUntilSubstituterTest {
     public void negatedAfterTest() {
         Event eventA = new EventImpl("A");
         Event eventB = new EventImpl("B");
-        TimeBoundElement timeBound = new TimeBoundElement("[0,3]");
+        TimeBoundElement timeBound = TimeBoundElement.of("[0,3]");
 
         elementToProcess.add(eventA);
         elementToProcess.add(languageDefinitions.getWeakUntil());
         elementToProcess.add(timeBound);
-        elementToProcess.add(new SpaceElement());
+        elementToProcess.add(SpaceElement.INSTANCE);
         elementToProcess.add(languageDefinitions.getNot());
         elementToProcess.add(eventB);
 
@@ -223,16 +224,16 @@ public class WeakUntilSubstituterTest {
     public void evemtuallyAfterTest() {
         Event eventA = new EventImpl("A");
         Event eventB = new EventImpl("B");
-        TimeBoundElement timeBound = new TimeBoundElement("[0,3]");
-        TimeBoundElement timeBound2 = new TimeBoundElement("[0,5]");
+        TimeBoundElement timeBound = TimeBoundElement.of("[0,3]");
+        TimeBoundElement timeBound2 = TimeBoundElement.of("[0,5]");
 
         elementToProcess.add(eventA);
         elementToProcess.add(languageDefinitions.getWeakUntil());
         elementToProcess.add(timeBound);
-        elementToProcess.add(new SpaceElement());
+        elementToProcess.add(SpaceElement.INSTANCE);
         elementToProcess.add(languageDefinitions.getEventually());
         elementToProcess.add(timeBound2);
-        elementToProcess.add(new SpaceElement());
+        elementToProcess.add(SpaceElement.INSTANCE);
         elementToProcess.add(eventB);
 
         execute();
@@ -258,17 +259,17 @@ public class WeakUntilSubstituterTest {
         Event eventA = new EventImpl("A");
         Event eventB = new EventImpl("B");
         Event eventC = new EventImpl("C");
-        TimeBoundElement timeBound = new TimeBoundElement("[0,3]");
+        TimeBoundElement timeBound = TimeBoundElement.of("[0,3]");
 
         elementToProcess.add(eventA);
         elementToProcess.add(languageDefinitions.getWeakUntil());
         elementToProcess.add(timeBound);
-        elementToProcess.add(new SpaceElement());
-        elementToProcess.add(new RoundBracketOpenElement());
+        elementToProcess.add(SpaceElement.INSTANCE);
+        elementToProcess.add(RoundBracketOpenElement.INSTANCE);
         elementToProcess.add(eventB);
         elementToProcess.add(languageDefinitions.getAnd());
         elementToProcess.add(eventC);
-        elementToProcess.add(new RoundBracketCloseElement());
+        elementToProcess.add(RoundBracketCloseElement.INSTANCE);
 
         execute();
 
@@ -290,6 +291,90 @@ public class WeakUntilSubstituterTest {
         check(eventA);
     }
 
+    @Test
+    public void nestedTest() {
+        Event eventA = new EventImpl("A");
+        Event eventB = new EventImpl("B");
+        Event eventC = new EventImpl("C");
+
+        elementToProcess.add(eventA);
+        elementToProcess.add(languageDefinitions.getWeakUntil());
+        elementToProcess.add(SpaceElement.INSTANCE);
+        elementToProcess.add(RoundBracketOpenElement.INSTANCE);
+        elementToProcess.add(eventB);
+        elementToProcess.add(languageDefinitions.getWeakUntil());
+        elementToProcess.add(SpaceElement.INSTANCE);
+        elementToProcess.add(eventC);
+        elementToProcess.add(RoundBracketCloseElement.INSTANCE);
+
+        execute();
+
+        assertEquals(17, processedElements.size());
+
+        check(RoundBracketOpenElement.class);
+        check(eventA);
+        check(UntilElement.class);
+        check(RoundBracketOpenElement.class);
+        check(RoundBracketOpenElement.class);
+        check(eventB);
+        check(UntilElement.class);
+        check(eventC);
+        check(RoundBracketCloseElement.class);
+        check(OrElement.class);
+        check(AlwaysElement.class);
+        check(eventB);
+        check(RoundBracketCloseElement.class);
+        check(RoundBracketCloseElement.class);
+        check(OrElement.class);
+        check(AlwaysElement.class);
+        check(eventA);
+    }
+
+    @Test
+    public void unbalancedBracketTest() {
+        Event eventA = new EventImpl("A");
+        Event eventB = new EventImpl("B");
+
+        elementToProcess.add(eventA);
+        elementToProcess.add(languageDefinitions.getWeakUntil());
+        elementToProcess.add(SpaceElement.INSTANCE);
+        elementToProcess.add(eventB);
+        elementToProcess.add(RoundBracketCloseElement.INSTANCE);
+        elementToProcess.add(eventA);
+        elementToProcess.add(languageDefinitions.getWeakUntil());
+        elementToProcess.add(SpaceElement.INSTANCE);
+        elementToProcess.add(eventB);
+
+        execute();
+
+        // the weak until after the unmatched bracket is kept
+        assertEquals(12, processedElements.size());
+
+        check(RoundBracketOpenElement.class);
+        check(eventA);
+        check(UntilElement.class);
+        check(eventB);
+        check(RoundBracketCloseElement.class);
+        check(OrElement.class);
+        check(AlwaysElement.class);
+        check(eventA);
+        check(RoundBracketCloseElement.class);
+        check(eventA);
+        check(WeakUntilElement.class);
+        check(eventB);
+    }
+
+    @Test
+    public void incompleteFormulaTest() {
+        elementToProcess.add(new EventImpl("A"));
+        elementToProcess.add(languageDefinitions.getWeakUntil());
+        elementToProcess.add(SpaceElement.INSTANCE);
+
+        Assertions.assertThrows(IndexOutOfBoundsException.class, () -> {
+            execute();
+        });
+    }
+
     private void execute() {
         processedElements = resolver.process(elementToProcess);
         processedElements.removeIf(element -> element instanceof SpaceElement);
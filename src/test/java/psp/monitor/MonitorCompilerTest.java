@@ -0,0 +1,182 @@
+package psp.monitor;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static psp.monitor.Verdict.FALSE;
+import static psp.monitor.Verdict.TRUE;
+
+import java.util.List;
+import java.util.Random;
+
+import org.junit.jupiter.api.Test;
+
+import psp.sel.EventImpl;
+import psp.sel.PatternFixtures;
+import psp.sel.patterns.Pattern;
+import psp.sel.patterns.occurrence.Absence;
+import psp.sel.patterns.occurrence.BoundedExistence;
+import psp.sel.patterns.occurrence.Existence;
+import psp.sel.patterns.occurrence.Recurrence;
+import psp.sel.patterns.occurrence.Universality;
+import psp.sel.patterns.order.ChainEvents;
+import psp.sel.patterns.order.Precedence;
+import psp.sel.patterns.order.PrecedenceChain1N;
+import psp.sel.patterns.order.PrecedenceChainN1;
+import psp.sel.patterns.order.Response;
+import psp.sel.patterns.order.ResponseChain1N;
+import psp.sel.patterns.order.ResponseChainN1;
+import psp.sel.patterns.order.ResponseInvariance;
+import psp.sel.patterns.order.Until;
+import psp.sel.scopes.AfterQ;
+import psp.sel.scopes.AfterQuntilR;
+import psp.sel.scopes.BeforeR;
+import psp.sel.scopes.BetweenQandR;
+import psp.sel.scopes.Globally;
+import psp.sel.scopes.Scope;
+
+/**
+ * Compares the monitors with the semantics of the patterns in {@link PatternSemantics}, on given traces with their
+ * expected verdicts and on random traces.
+ */
+public class MonitorCompilerTest {
+    private final EventImpl p = new EventImpl("p", "pSpec");
+    private final EventImpl s = new EventImpl("s", "sSpec");
+    private final EventImpl q = new EventImpl("q", "qSpec");
+    private final EventImpl r = new EventImpl("r", "rSpec");
+    private final MonitorCompiler compiler = new MonitorCompiler();
+
+    @Test
+    public void responsesArePending() {
+        final MonitorAutomaton automaton = compiler.compile(new Globally(), new Response(p, s, null, null, null));
+        final Monitor monitor = automaton.newMonitor();
+
+        assertEquals(Verdict.TRUE, monitor.getVerdict());
+        monitor.step(new EventImpl("p", "other specification"));
+        assertEquals(Verdict.FALSE, monitor.getVerdict());
+        monitor.step(new EventImpl("unknown"));
+        assertEquals(Verdict.FALSE, monitor.getVerdict());
+        monitor.step(s);
+        assertEquals(Verdict.TRUE, monitor.getVerdict());
+        monitor.reset();
+        monitor.step(p);
+        assertEquals(Verdict.FALSE, monitor.getVerdict());
+    }
+
+    @Test
+    public void scopesDelimitTheProperty() {
+        final MonitorAutomaton automaton = compiler.compile(new AfterQuntilR(q, r), new Absence(p, null, null));
+        assertEquals(Verdict.TRUE, automaton.check(PatternFixtures.events(List.of("p", "q", "s", "r", "p"))));
+        assertEquals(Verdict.FALSE, automaton.check(PatternFixtures.events(List.of("q", "p", "r"))));
+        // the scope need not be closed
+        assertEquals(Verdict.TRUE, automaton.check(PatternFixtures.events(List.of("q", "s"))));
+        assertEquals(Verdict.FALSE, automaton.check(PatternFixtures.events(List.of("q", "s", "p"))));
+    }
+
+    @Test
+    public void everyMappingCompiles() {
+        for (final boolean constrained : List.of(false, true)) {
+            for (final Scope scope : PatternFixtures.scopes()) {
+                for (final Pattern pattern : PatternFixtures.untimedPatterns(constrained)) {
+                    assertTrue(compiler.compile(scope, pattern).getStateCount() > 0, scope + " " + pattern);
+                }
+            }
+        }
+    }
+
+    @Test
+    public void monitorsFollowThePatternsOnGivenTraces() {
+        final ChainEvents chain = PatternFixtures.chain("", 2, false, false);
+        final Pattern universality = new Universality(p, null, null);
+        final Pattern absence = new Absence(p, null, null);
+        final Pattern existence = new Existence(p, null, null);
+        final Pattern precedence = new Precedence(p, s, null, null);
+        final Pattern response = new Response(p, s, null, null, null);
+        final Pattern until = new Until(p, s, null, null);
+        final Pattern invariance = new ResponseInvariance(p, s, null, null);
+        final Pattern precedenceChain1N = new PrecedenceChain1N(p, s, chain, null, null, null);
+        final Pattern precedenceChainN1 = new PrecedenceChainN1(p, s, chain, null, null, null);
+        final Pattern responseChain1N = new ResponseChain1N(p, s, chain, null, null, null);
+        final Pattern responseChainN1 = new ResponseChainN1(p, s, chain, null, null, null);
+
+        final Scope globally = new Globally();
+        assertVerdicts(globally, universality, "", TRUE, "p p", TRUE, "p x", FALSE);
+        assertVerdicts(globally, absence, "x s", TRUE, "x p", FALSE);
+        assertVerdicts(globally, existence, "x p", TRUE, "x s", FALSE);
+        assertVerdicts(globally, precedence, "s p", TRUE, "p s", FALSE, "x", TRUE);
+        assertVerdicts(globally, response, "p s", TRUE, "s p", FALSE, "p s p s", TRUE);
+        assertVerdicts(globally, until, "p p s", TRUE, "p x s", FALSE, "p p", FALSE);
+        // events are states, so s cannot hold where p does
+        assertVerdicts(globally, invariance, "s s", TRUE, "p s", FALSE);
+        assertVerdicts(globally, precedenceChain1N, "p s t0 t1", TRUE, "s t0 t1", FALSE, "s t0", TRUE);
+        assertVerdicts(globally, precedenceChainN1, "s t0 t1 p", TRUE, "s t1 t0 p", FALSE, "s t0", TRUE);
+        assertVerdicts(globally, responseChain1N, "p s t0 t1", TRUE, "p s t1 t0", FALSE);
+        assertVerdicts(globally, responseChainN1, "s t0 t1 p", TRUE, "s t0 t1", FALSE, "s t1 t0", TRUE);
+
+        final Scope beforeR = new BeforeR(r);
+        assertVerdicts(beforeR, absence, "x r p", TRUE, "p r", FALSE);
+        assertVerdicts(beforeR, existence, "p r", TRUE, "r p", FALSE, "x", TRUE);
+        assertVerdicts(beforeR, response, "x p r", FALSE, "p s r", TRUE, "p r s", FALSE, "p", TRUE);
+        assertVerdicts(beforeR, until, "p s r", TRUE, "p r s", FALSE, "r", FALSE);
+        assertVerdicts(beforeR, responseChain1N, "p s t0 t1 r", TRUE, "p s t0 r t1", FALSE);
+
+        final Scope afterQ = new AfterQ(q);
+        assertVerdicts(afterQ, absence, "p q s", TRUE, "q p", FALSE);
+        // only the first q opens the scope
+        assertVerdicts(afterQ, precedence, "q s p", TRUE, "s q p", FALSE, "s q r p q", FALSE, "p s", TRUE);
+        assertVerdicts(afterQ, precedenceChainN1, "q s t0 t1 p", TRUE, "s t0 t1 q p", FALSE, "x q p", FALSE);
+
+        final Scope betweenQandR = new BetweenQandR(q, r);
+        assertVerdicts(betweenQandR, universality, "", TRUE, "x p", TRUE, "q r", FALSE);
+        assertVerdicts(betweenQandR, absence, "q x r", TRUE, "q p r", FALSE, "q p", TRUE);
+        assertVerdicts(betweenQandR, response, "q p s r", TRUE, "q p r s", FALSE, "q p", TRUE);
+
+        final Scope afterQuntilR = new AfterQuntilR(q, r);
+        assertVerdicts(afterQuntilR, universality, "r p", TRUE, "q x r", FALSE);
+        assertVerdicts(afterQuntilR, absence, "q r p", TRUE, "q p", FALSE);
+        assertVerdicts(afterQuntilR, precedenceChainN1, "q s t0 t1 p r", TRUE, "q r p", TRUE, "q p", FALSE);
+        assertVerdicts(afterQuntilR, responseChainN1, "q s t0 t1 p", TRUE, "q s t0 r t1", TRUE, "q s t0 t1", FALSE);
+    }
+
+    @Test
+    public void monitorsFollowThePatternsOnRandomTraces() {
+        final Random random = new Random(42);
+        for (final Scope scope : PatternFixtures.scopes()) {
+            for (final Pattern pattern : PatternFixtures.untimedPatterns(false)) {
+                if (pattern instanceof Recurrence) {
+                    // not one of the patterns of PatternSemantics
+                    continue;
+                }
+                final MonitorAutomaton automaton = compiler.compile(scope, pattern);
+                for (int i = 0; i < 300; i++) {
+                    final List<String> trace = PatternFixtures.randomTrace(random, 9);
+                    assertEquals(PatternSemantics.holds(scope, pattern, trace) ? TRUE : FALSE,
+                        automaton.check(PatternFixtures.events(trace)), scope + " " + pattern + " " + trace);
+                }
+            }
+        }
+    }
+
+    @Test
+    public void timedPatternsAreNotSupported() {
+        assertThrows(IllegalArgumentException.class,
+            () -> compiler.compile(new Globally(), new BoundedExistence(p, 2, null, null)));
+        assertThrows(IllegalArgumentException.class,
+            () -> new MonitorCompiler(2).compile(new AfterQuntilR(q, r), new Response(p, s, null, null, null)));
+    }
+
+    /**
+     * Checks the expected verdicts, given as pairs of a trace of space separated events and a verdict, against
+     * both the monitor and the semantics of the pattern.
+     */
+    private void assertVerdicts(final Scope scope, final Pattern pattern, final Object... cases) {
+        final MonitorAutomaton automaton = compiler.compile(scope, pattern);
+        for (int i = 0; i < cases.length; i += 2) {
+            final List<String> trace = ((String) cases[i]).isEmpty() ? List.of()
+                : List.of(((String) cases[i]).split(" "));
+            final String message = scope + " " + pattern + " " + trace;
+            assertEquals(cases[i + 1], automaton.check(PatternFixtures.events(trace)), message);
+            assertEquals(cases[i + 1] == TRUE, PatternSemantics.holds(scope, pattern, trace), message);
+        }
+    }
+}
@@ -0,0 +1,201 @@
+package psp.monitor;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+
+import org.junit.jupiter.api.Test;
+
+import psp.sel.EventImpl;
+import psp.sel.patterns.occurrence.Absence;
+import psp.sel.patterns.occurrence.Existence;
+import psp.sel.patterns.order.Precedence;
+import psp.sel.patterns.order.Response;
+import psp.sel.scopes.AfterQ;
+import psp.sel.scopes.BetweenQandR;
+import psp.sel.scopes.Globally;
+
+public class ParametricMonitorTest {
+    private final EventImpl open = new EventImpl("open(f)");
+    private final EventImpl close = new EventImpl("close(f)");
+    private final EventImpl use = new EventImpl("use(f)");
+    private final MonitorCompiler compiler = new MonitorCompiler();
+    private final Map<Map<String, Object>, Verdict> reported = new LinkedHashMap<>();
+
+    private ParametricMonitor monitor(final MonitorAutomaton automaton) {
+        reported.clear();
+        return automaton.newParametricMonitor((binding, verdict) -> {
+            assertEquals(null, reported.put(binding, verdict), "reported twice " + binding);
+        });
+    }
+
+    @Test
+    public void everyBindingHasItsOwnSlice() {
+        final ParametricMonitor monitor = monitor(compiler.compile(new Globally(),
+            new Response(open, close, null, null, null)));
+        assertEquals(List.of("f"), monitor.getParameters());
+        monitor.step("open", 1);
+        monitor.step("open", 2);
+        monitor.step("close", 1);
+        monitor.step("other", 2);
+        assertEquals(Verdict.TRUE, monitor.getVerdict(Map.of("f", 1)));
+        assertEquals(Verdict.FALSE, monitor.getVerdict(Map.of("f", 2)));
+        assertEquals(Verdict.TRUE, monitor.getVerdict(Map.of("f", 3)));
+        assertEquals(3, monitor.getSliceCount());
+        assertThrows(IllegalArgumentException.class, () -> monitor.step("open"));
+        assertThrows(IllegalArgumentException.class, () -> monitor.getVerdict(Map.of("g", 1)));
+    }
+
+    @Test
+    public void finalVerdictsAreReportedOnce() {
+        final ParametricMonitor monitor = monitor(compiler.compile(new AfterQ(close),
+            new Absence(use, null, null)));
+        monitor.step("close", 1);
+        monitor.step("use", 2);
+        monitor.step("use", 1);
+        monitor.step("use", 1);
+        assertEquals(Map.of(Map.of("f", 1), Verdict.FALSE), reported);
+    }
+
+    @Test
+    public void retiredValuesEndTheirSlices() {
+        final ParametricMonitor monitor = monitor(compiler.compile(new Globally(),
+            new Response(open, close, null, null, null)));
+        for (int i = 0; i < 100_000; i++) {
+            monitor.step("open", i);
+        }
+        for (int i = 0; i < 100_000; i += 2) {
+            monitor.step("close", i);
+        }
+        assertEquals(100_001, monitor.getSliceCount());
+        for (int i = 0; i < 100_000; i++) {
+            monitor.retire(i);
+        }
+        assertEquals(1, monitor.getSliceCount());
+        assertEquals(0, monitor.getValueCount());
+        assertEquals(100_000, reported.size());
+        assertEquals(Verdict.TRUE, reported.get(Map.of("f", 0)));
+        assertEquals(Verdict.FALSE, reported.get(Map.of("f", 1)));
+
+        // a retired value that shows up again is a new one
+        monitor.step("close", 1);
+        assertEquals(Verdict.TRUE, monitor.getVerdict(Map.of("f", 1)));
+    }
+
+    @Test
+    public void valuesSeenLeastRecentlyAreRetiredBeyondTheMaximum() {
+        final MonitorAutomaton automaton = compiler.compile(new Globally(),
+            new Response(open, close, null, null, null));
+        reported.clear();
+        final ParametricMonitor monitor = automaton.newParametricMonitor((binding, verdict) -> {
+            assertEquals(null, reported.put(binding, verdict), "reported twice " + binding);
+        }, 2);
+        monitor.step("open", 1);
+        monitor.step("open", 2);
+        monitor.step("close", 1);
+        monitor.step("open", 3);
+        assertEquals(Map.of(Map.of("f", 2), Verdict.FALSE), reported);
+        assertEquals(2, monitor.getValueCount());
+        assertEquals(Verdict.TRUE, monitor.getVerdict(Map.of("f", 1)));
+
+        for (int i = 4; i < 100_000; i++) {
+            monitor.step("open", i);
+        }
+        assertEquals(3, monitor.getSliceCount());
+        assertEquals(99_997, reported.size());
+        assertThrows(IllegalArgumentException.class, () -> automaton.newParametricMonitor((binding, verdict) -> {
+        }, 0));
+    }
+
+    @Test
+    public void slicesHoldTheEventsThatAgreeWithTheirBinding() {
+        final EventImpl q = new EventImpl("qEvent");
+        final EventImpl a = new EventImpl("A(a)");
+        final EventImpl p = new EventImpl("pEvent(p)");
+        final EventImpl b = new EventImpl("B(a, p)");
+        final List<MonitorAutomaton> automata = List.of(
+            compiler.compile(new Globally(), new Response(p, a, null, null, null)),
+            compiler.compile(new BetweenQandR(q, a), new Absence(p, null, null)),
+            compiler.compile(new AfterQ(a), new Existence(b, null, null)),
+            compiler.compile(new Globally(), new Precedence(a, b, null, null)));
+        final Random random = new Random(42);
+        for (final MonitorAutomaton automaton : automata) {
+            for (int i = 0; i < 200; i++) {
+                final ParametricMonitor monitor = monitor(automaton);
+                // the events of the trace, with the values of their parameters
+                final List<EventImpl> events = new ArrayList<>();
+                final List<Map<String, Object>> bindings = new ArrayList<>();
+                for (int j = random.nextInt(12); j > 0; j--) {
+                    final Map<String, Object> binding = new HashMap<>();
+                    final Object first = random.nextInt(2);
+                    final Object second = random.nextInt(2);
+                    switch (random.nextInt(5)) {
+                        case 0:
+                            events.add(q);
+                            monitor.step("qEvent");
+                            break;
+                        case 1:
+                            events.add(a);
+                            binding.put("a", first);
+                            monitor.step("A", first);
+                            break;
+                        case 2:
+                            events.add(p);
+                            binding.put("p", first);
+                            monitor.step("pEvent", first);
+                            break;
+                        case 3:
+                            events.add(b);
+                            binding.put("a", first);
+                            binding.put("p", second);
+                            monitor.step("B", first, second);
+                            break;
+                        default:
+                            events.add(new EventImpl("x"));
+                            monitor.step("x");
+                    }
+                    bindings.add(binding);
+                }
+
+                for (final Map<String, Object> binding : bindings(monitor)) {
+                    final Monitor slice = automaton.newMonitor();
+                    for (int j = 0; j < events.size(); j++) {
+                        // events the property does not name belong to no slice
+                        if (automaton.getEventNames().contains(events.get(j).getName())
+                            && binding.entrySet().containsAll(bindings.get(j).entrySet())) {
+                            slice.step(events.get(j));
+                        }
+                    }
+                    assertEquals(slice.getVerdict(), monitor.getVerdict(binding), events + " " + bindings + " "
+                        + binding);
+                }
+            }
+        }
+    }
+
+    /**
+     * @return every binding of the parameters of the monitor to 0, 1 or 2, including partial ones
+     */
+    private static List<Map<String, Object>> bindings(final ParametricMonitor monitor) {
+        List<Map<String, Object>> bindings = List.of(Map.of());
+        for (final String parameter : monitor.getParameters()) {
+            final List<Map<String, Object>> extended = new ArrayList<>();
+            for (final Map<String, Object> binding : bindings) {
+                extended.add(binding);
+                for (int value = 0; value < 3; value++) {
+                    final Map<String, Object> bound = new HashMap<>(binding);
+                    bound.put(parameter, value);
+                    extended.add(bound);
+                }
+            }
+            bindings = extended;
+        }
+        return bindings;
+    }
+}
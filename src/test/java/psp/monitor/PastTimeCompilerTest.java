@@ -0,0 +1,264 @@
+package psp.monitor;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static psp.monitor.Verdict.FALSE;
+import static psp.monitor.Verdict.TRUE;
+
+import java.lang.management.ManagementFactory;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+import org.junit.jupiter.api.Test;
+
+import psp.constraints.Interval;
+import psp.constraints.LowerTimeBound;
+import psp.constraints.TimeBound;
+import psp.constraints.UpperTimeBound;
+import psp.mappings.UntimedTBVMapper;
+import psp.sel.EventImpl;
+import psp.sel.PatternFixtures;
+import psp.sel.patterns.Occurrence;
+import psp.sel.patterns.Pattern;
+import psp.sel.patterns.occurrence.Absence;
+import psp.sel.patterns.occurrence.Existence;
+import psp.sel.patterns.occurrence.MaximumDuration;
+import psp.sel.patterns.occurrence.MinimumDuration;
+import psp.sel.patterns.occurrence.Recurrence;
+import psp.sel.patterns.occurrence.Universality;
+import psp.sel.patterns.order.Precedence;
+import psp.sel.patterns.order.Response;
+import psp.sel.scopes.AfterQ;
+import psp.sel.scopes.AfterQuntilR;
+import psp.sel.scopes.BeforeR;
+import psp.sel.scopes.BetweenQandR;
+import psp.sel.scopes.Globally;
+import psp.sel.scopes.Scope;
+
+/**
+ * Compares the past-time monitors with the semantics of the patterns: the untimed ones with
+ * {@link PatternSemantics} on the reversed trace, the time bounded ones with their past-time reading, on given and
+ * on random timestamped traces.
+ */
+public class PastTimeCompilerTest {
+    private final EventImpl p = new EventImpl("p");
+    private final EventImpl s = new EventImpl("s");
+    private final EventImpl q = new EventImpl("q");
+    private final EventImpl r = new EventImpl("r");
+
+    private List<Pattern> timedPatterns() {
+        final List<Pattern> patterns = new ArrayList<>(List.of(new MinimumDuration(p, 3, null, null),
+            new MaximumDuration(p, 3, null, null), new Recurrence(p, 2, null, null)));
+        for (final TimeBound bound : List.of(new UpperTimeBound(s, 3, null), new LowerTimeBound(s, 2, null))) {
+            patterns.add(new Response(p, s, bound, null, null));
+            patterns.add(new Universality(p, bound, null));
+            patterns.add(new Existence(p, bound, null));
+        }
+        return patterns;
+    }
+
+    @Test
+    public void responsesLookBack() {
+        final PastTimeProperty property = new PastTimeCompiler(new UntimedTBVMapper()).compile(new Globally(),
+            new Response(p, s, null, null, null));
+        final PastTimeMonitor monitor = property.newMonitor();
+
+        assertEquals(Verdict.TRUE, monitor.getVerdict());
+        monitor.step(s);
+        monitor.step(p);
+        assertEquals(Verdict.TRUE, monitor.getVerdict());
+        monitor.reset();
+        monitor.step(p);
+        assertEquals(Verdict.FALSE, monitor.getVerdict());
+        monitor.step(s);
+        assertEquals(Verdict.FALSE, monitor.getVerdict());
+    }
+
+    @Test
+    public void timeBoundsLimitHowLongAgo() {
+        final PastTimeMonitor monitor = new PastTimeCompiler().compile(new Globally(),
+            new Response(p, s, new UpperTimeBound(s, 5, null), null, null)).newMonitor();
+        monitor.step(s, 10);
+        monitor.step(p, 15);
+        assertEquals(Verdict.TRUE, monitor.getVerdict());
+        monitor.step(p, 16);
+        assertEquals(Verdict.FALSE, monitor.getVerdict());
+        assertThrows(IllegalArgumentException.class, () -> monitor.step(s, 15));
+    }
+
+    @Test
+    public void boundsThatNeedMoreThanATimeAreRejected() {
+        assertThrows(IllegalArgumentException.class, () -> new PastTimeCompiler().compile(new Globally(),
+            new Response(p, s, new Interval(s, 2, 5, null), null, null)));
+    }
+
+    @Test
+    public void readingEventsAllocatesNothing() {
+        final PastTimeMonitor monitor = new PastTimeCompiler().compile(new AfterQuntilR(q, r),
+            new Response(p, s, new UpperTimeBound(s, 3, null), null, null)).newMonitor();
+        final EventImpl[] trace = {q, p, new EventImpl("x"), s, r, p};
+        final com.sun.management.ThreadMXBean threads =
+            (com.sun.management.ThreadMXBean) ManagementFactory.getThreadMXBean();
+        for (int i = 0; i < 100_000; i++) {
+            monitor.step(trace[i % trace.length], i);
+        }
+        final long before = threads.getCurrentThreadAllocatedBytes();
+        for (int i = 100_000; i < 200_000; i++) {
+            monitor.step(trace[i % trace.length], i);
+        }
+        assertTrue(threads.getCurrentThreadAllocatedBytes() - before < 1024);
+    }
+
+    @Test
+    public void everyMappingCompiles() {
+        for (final Scope scope : PatternFixtures.scopes()) {
+            for (final Pattern pattern : PatternFixtures.untimedPatterns(false)) {
+                assertTrue(new PastTimeCompiler(new UntimedTBVMapper()).compile(scope, pattern).getStateSize() > 0);
+                assertTrue(new PastTimeCompiler().compile(scope, pattern).getStateSize() > 0);
+            }
+            for (final Pattern pattern : timedPatterns()) {
+                assertTrue(new PastTimeCompiler().compile(scope, pattern).getStateSize() > 0);
+            }
+        }
+        // durations need time
+        assertThrows(IllegalArgumentException.class, () -> new PastTimeCompiler(new UntimedTBVMapper())
+            .compile(new Globally(), new MinimumDuration(p, 3, null, null)));
+    }
+
+    @Test
+    public void untimedMonitorsFollowThePatternsReadBackwards() {
+        // the untimed mapping is the LTL one in past time, which reads the trace from its last event back
+        final PastTimeCompiler compiler = new PastTimeCompiler(new UntimedTBVMapper());
+        assertVerdicts(compiler, new Globally(), new Response(p, s, null, null, null), "s p", TRUE, "p s", FALSE);
+        assertVerdicts(compiler, new Globally(), new Precedence(p, s, null, null), "p s", TRUE, "s p", FALSE);
+        // before the last r read backwards, that is after it
+        assertVerdicts(compiler, new BeforeR(r), new Absence(p, null, null), "p r x", TRUE, "r p", FALSE, "p",
+            TRUE);
+        assertVerdicts(compiler, new BeforeR(r), new Response(p, s, null, null, null), "r s p", TRUE, "r p s",
+            FALSE);
+        assertVerdicts(compiler, new AfterQ(q), new Existence(p, null, null), "p q", TRUE, "q p", FALSE);
+        assertVerdicts(compiler, new BetweenQandR(q, r), new Absence(p, null, null), "r x q p", TRUE, "r p q",
+            FALSE, "p q", TRUE);
+
+        final Random random = new Random(42);
+        for (final Scope scope : PatternFixtures.scopes()) {
+            for (final Pattern pattern : PatternFixtures.untimedPatterns(false)) {
+                if (pattern instanceof Recurrence) {
+                    // not one of the patterns of PatternSemantics
+                    continue;
+                }
+                final PastTimeProperty property = compiler.compile(scope, pattern);
+                for (int i = 0; i < 200; i++) {
+                    final PastTimeMonitor monitor = property.newMonitor();
+                    final List<String> backwards = new ArrayList<>();
+                    for (final String event : PatternFixtures.randomTrace(random, 10)) {
+                        backwards.add(0, event);
+                        monitor.step(new EventImpl(event));
+                        assertEquals(PatternSemantics.holds(scope, pattern, backwards) ? TRUE : FALSE,
+                            monitor.getVerdict(), scope + " " + pattern + " " + backwards);
+                    }
+                }
+            }
+        }
+    }
+
+    @Test
+    public void timedMonitorsFollowThePatterns() {
+        final PastTimeCompiler compiler = new PastTimeCompiler();
+        // the timed mapping reads precedences forwards
+        assertVerdicts(compiler, new Globally(), new Precedence(p, s, null, null), "s p", TRUE, "p s", FALSE);
+        assertVerdicts(compiler, new Globally(), new Response(p, s, null, null, null), "s p", TRUE, "p s", FALSE);
+        assertVerdicts(compiler, new Globally(), new Absence(p, null, null), "s q", TRUE, "s p", FALSE);
+
+        final Random random = new Random(42);
+        for (final Pattern pattern : timedPatterns()) {
+            if (pattern instanceof MinimumDuration || pattern instanceof MaximumDuration) {
+                // how long p lasts is not a matter of events
+                continue;
+            }
+            final PastTimeMonitor monitor = compiler.compile(new Globally(), pattern).newMonitor();
+            for (int i = 0; i < 200; i++) {
+                monitor.reset();
+                final List<String> events = new ArrayList<>();
+                final List<Long> times = new ArrayList<>();
+                long time = 0;
+                for (final String event : PatternFixtures.randomTrace(random, 10)) {
+                    events.add(event);
+                    times.add(time);
+                    monitor.step(new EventImpl(event), time);
+                    assertEquals(holds(pattern, events, times) ? TRUE : FALSE, monitor.getVerdict(),
+                        pattern + " " + events + " " + times);
+                    time += random.nextInt(3);
+                }
+            }
+        }
+    }
+
+    private static void assertVerdicts(final PastTimeCompiler compiler, final Scope scope, final Pattern pattern,
+        final Object... cases) {
+        final PastTimeProperty property = compiler.compile(scope, pattern);
+        for (int i = 0; i < cases.length; i += 2) {
+            final PastTimeMonitor monitor = property.newMonitor();
+            for (final String event : ((String) cases[i]).split(" ")) {
+                monitor.step(new EventImpl(event));
+            }
+            assertEquals(cases[i + 1], monitor.getVerdict(), scope + " " + pattern + " " + cases[i]);
+        }
+    }
+
+    /**
+     * The time bounded patterns in the globally scope at the last event of a trace, read in past time: a response
+     * has its s within the bound before each p, a universality holds at every event and an existence at some event
+     * within the bound before now, and a recurrence has a p at most its period before every event.
+     */
+    private static boolean holds(final Pattern pattern, final List<String> events, final List<Long> times) {
+        final int last = events.size() - 1;
+        if (pattern instanceof Recurrence) {
+            final long period = ((Recurrence) pattern).getUpperLimit();
+            for (int i = 0; i <= last; i++) {
+                if (!occurs(events, times, "p", i, 0, period)) {
+                    return false;
+                }
+            }
+            return true;
+        }
+        final TimeBound bound = pattern instanceof Response ? ((Response) pattern).getSTimeBound()
+            : ((Occurrence) pattern).getPTimeBound();
+        final long lower = bound instanceof LowerTimeBound ? ((LowerTimeBound) bound).getLowerLimit() : 0;
+        final long upper = bound instanceof UpperTimeBound ? ((UpperTimeBound) bound).getUpperLimit()
+            : Long.MAX_VALUE;
+        if (pattern instanceof Response) {
+            for (int i = 0; i <= last; i++) {
+                if (events.get(i).equals("p") && !occurs(events, times, "s", i, lower, upper)) {
+                    return false;
+                }
+            }
+            return true;
+        } else if (pattern instanceof Universality) {
+            for (int i = 0; i <= last; i++) {
+                final long elapsed = times.get(last) - times.get(i);
+                if (elapsed >= lower && elapsed <= upper && !events.get(i).equals("p")) {
+                    return false;
+                }
+            }
+            return true;
+        }
+        return occurs(events, times, "p", last, lower, upper);
+    }
+
+    /**
+     * @return whether the event occurs at or before the position, between the bounds before its time
+     */
+    private static boolean occurs(final List<String> events, final List<Long> times, final String event,
+        final int position, final long lower, final long upper) {
+        for (int i = 0; i <= position; i++) {
+            final long elapsed = times.get(position) - times.get(i);
+            if (elapsed >= lower && elapsed <= upper && events.get(i).equals(event)) {
+                return true;
+            }
+        }
+        return false;
+    }
+}
@@ -0,0 +1,121 @@
+package psp.monitor;
+
+import java.util.List;
+
+import psp.engine.PSPConstants;
+import psp.sel.patterns.Pattern;
+import psp.sel.scopes.Scope;
+
+/**
+ * The finite trace semantics of the untimed, unconstrained patterns over the events p, s, q, r, t0 and t1,
+ * written down from their English descriptions rather than from any mapping. A scope cuts the trace into the
+ * segments the pattern has to hold on: before the first r, from the first q on, from each q to the next r that
+ * follows it, or from each q up to the next r or the end of the trace. A segment starts with its q and ends before
+ * its r. As in the mappings, events are states: what holds from a position on includes that position.
+ */
+final class PatternSemantics {
+    private PatternSemantics() {
+    }
+
+    static boolean holds(final Scope scope, final Pattern pattern, final List<String> trace) {
+        final int length = trace.size();
+        switch (scope.getType()) {
+            case PSPConstants.S_Globally:
+                return holds(pattern, trace.subList(0, length));
+            case PSPConstants.S_BeforeR: {
+                final int r = trace.indexOf("r");
+                return r < 0 || holds(pattern, trace.subList(0, r));
+            }
+            case PSPConstants.S_AfterQ: {
+                final int q = trace.indexOf("q");
+                return q < 0 || holds(pattern, trace.subList(q, length));
+            }
+            case PSPConstants.S_BetweenQandR:
+            case PSPConstants.S_AfterQuntilR:
+                for (int q = 0; q < length; q++) {
+                    if (!trace.get(q).equals("q")) {
+                        continue;
+                    }
+                    int r = q;
+                    while (r < length && !trace.get(r).equals("r")) {
+                        r++;
+                    }
+                    // between q and r needs the r, after q until r does not
+                    if ((r < length || scope.getType() == PSPConstants.S_AfterQuntilR)
+                        && !holds(pattern, trace.subList(q, r))) {
+                        return false;
+                    }
+                }
+                return true;
+            default:
+                throw new IllegalArgumentException(scope.toString());
+        }
+    }
+
+    private static boolean holds(final Pattern pattern, final List<String> segment) {
+        final int p = segment.indexOf("p");
+        final int s = segment.indexOf("s");
+        switch (pattern.getType()) {
+            case PSPConstants.P_Universality:
+                return segment.stream().allMatch("p"::equals);
+            case PSPConstants.P_Absence:
+                return p < 0;
+            case PSPConstants.P_Existence:
+                return p >= 0;
+            case PSPConstants.P_Precedence:
+                // p does not occur before s
+                return p < 0 || (s >= 0 && s < p);
+            case PSPConstants.P_Until:
+                // p holds at every position before the first s, which occurs
+                return s >= 0 && segment.subList(0, s).stream().allMatch("p"::equals);
+            case PSPConstants.P_Response:
+                // every p is followed by an s
+                return p < 0 || segment.lastIndexOf("s") > segment.lastIndexOf("p");
+            case PSPConstants.P_ResponseInvariance:
+                // s holds continually from the first p on
+                return p < 0 || segment.subList(p, segment.size()).stream().allMatch("s"::equals);
+            case PSPConstants.P_PrecedenceChain1N:
+                // if s, t0 and t1 occur in this order, p occurs before the first s
+                return end(segment, 0, "s", "t0", "t1") < 0 || (p >= 0 && p < s);
+            case PSPConstants.P_PrecedenceChainN1:
+                // if p occurs, s, t0 and t1 occur in this order before it
+                return p < 0 || end(segment.subList(0, p), 0, "s", "t0", "t1") >= 0;
+            case PSPConstants.P_ResponseChain1N:
+                // every p is followed by s, t0 and t1 in this order
+                for (int i = 0; i < segment.size(); i++) {
+                    if (segment.get(i).equals("p") && end(segment, i, "s", "t0", "t1") < 0) {
+                        return false;
+                    }
+                }
+                return true;
+            case PSPConstants.P_ResponseChainN1:
+                // every s followed by t0 and t1 in this order is followed by p after them
+                for (int i = 0; i < segment.size(); i++) {
+                    final int t1 = segment.get(i).equals("s") ? end(segment, i + 1, "t0", "t1") : -1;
+                    if (t1 >= 0 && end(segment, t1 + 1, "p") < 0) {
+                        return false;
+                    }
+                }
+                return true;
+            default:
+                throw new IllegalArgumentException(pattern.toString());
+        }
+    }
+
+    /**
+     * @return the position of the last of the events when they occur in this order from the position on, at
+     *         their earliest, or -1
+     */
+    private static int end(final List<String> segment, final int from, final String... events) {
+        int position = from - 1;
+        for (final String event : events) {
+            do {
+                position++;
+            } while (position < segment.size() && !segment.get(position).equals(event));
+            if (position == segment.size()) {
+                return -1;
+            }
+        }
+        return position;
+    }
+}
@@ -0,0 +1,238 @@
+package psp.monitor;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+import org.junit.jupiter.api.Test;
+
+import psp.constraints.Interval;
+import psp.constraints.LowerTimeBound;
+import psp.constraints.TimeBound;
+import psp.constraints.UpperTimeBound;
+import psp.sel.EventImpl;
+import psp.sel.patterns.Pattern;
+import psp.sel.patterns.occurrence.Absence;
+import psp.sel.patterns.occurrence.Existence;
+import psp.sel.patterns.occurrence.MaximumDuration;
+import psp.sel.patterns.occurrence.MinimumDuration;
+import psp.sel.patterns.occurrence.Recurrence;
+import psp.sel.patterns.occurrence.Universality;
+import psp.sel.patterns.order.Precedence;
+import psp.sel.patterns.order.Response;
+import psp.sel.scopes.AfterQ;
+import psp.sel.scopes.Globally;
+
+/**
+ * Compares the timed monitors with the meaning of the patterns, evaluated directly on random timestamped traces.
+ */
+public class TimedMonitorEngineTest {
+    private static final List<String> ALPHABET = List.of("p", "s", "x");
+
+    private final EventImpl p = new EventImpl("p");
+    private final EventImpl s = new EventImpl("s");
+    private final TimedMonitorEngine engine = new TimedMonitorEngine();
+
+    @Test
+    public void responsesFailWhenTheirDeadlinePasses() {
+        final TimedMonitor monitor = engine.newMonitor(new Globally(),
+            new Response(p, s, new Interval(s, 2, 5, null), null, null));
+
+        monitor.step(p, 10);
+        // too early
+        monitor.step(s, 11);
+        monitor.step(p, 12);
+        assertEquals(1, engine.getDeadlineCount());
+        // in time for the first p only
+        monitor.step(s, 13);
+        assertEquals(Verdict.FALSE, monitor.getVerdict());
+        assertFalse(monitor.isViolated());
+        engine.advanceTo(17);
+        assertFalse(monitor.isViolated());
+        engine.advanceTo(18);
+        assertTrue(monitor.isViolated());
+        assertEquals(0, engine.getDeadlineCount());
+
+        monitor.step(s, 18);
+        assertEquals(Verdict.FALSE, monitor.getVerdict());
+    }
+
+    @Test
+    public void monitorsShareTheTimeOfTheirEngine() {
+        final TimedMonitor response = engine.newMonitor(new Globally(),
+            new Response(p, s, new UpperTimeBound(s, 5, null), null, null));
+        final TimedMonitor maximum = engine.newMonitor(new Globally(), new MaximumDuration(p, 3, null, null));
+
+        response.step(p, 0);
+        maximum.step(p, 1);
+        response.step(s, 5);
+        assertEquals(Verdict.TRUE, response.getVerdict());
+        assertTrue(maximum.isViolated());
+        assertThrows(IllegalArgumentException.class, () -> maximum.step(p, 4));
+    }
+
+    @Test
+    public void manyPendingResponses() {
+        final int count = 100_000;
+        final List<TimedMonitor> monitors = new ArrayList<>(count);
+        for (int i = 0; i < count; i++) {
+            final TimedMonitor monitor = engine.newMonitor(new Globally(),
+                new Response(p, s, new UpperTimeBound(s, 1000 + i % 1000, null), null, null));
+            monitor.step(p, i / 100);
+            monitors.add(monitor);
+        }
+        assertEquals(count, engine.getDeadlineCount());
+        for (int i = 0; i < count; i += 2) {
+            monitors.get(i).step(s, 1000);
+        }
+        engine.advanceTo(3000);
+        assertEquals(0, engine.getDeadlineCount());
+        for (int i = 0; i < count; i++) {
+            assertEquals(i % 2 == 1, monitors.get(i).isViolated());
+        }
+    }
+
+    @Test
+    public void unsupportedPropertiesAreRejected() {
+        assertThrows(IllegalArgumentException.class, () -> engine.newMonitor(new Globally(),
+            new Absence(p, null, null)));
+        final IllegalArgumentException scope = assertThrows(IllegalArgumentException.class,
+            () -> engine.newMonitor(new AfterQ(new EventImpl("q")), new Existence(p, null, null)));
+        assertTrue(scope.getMessage().contains("After Q"), scope.getMessage());
+        assertThrows(IllegalArgumentException.class, () -> engine.newMonitor(new Globally(),
+            new Response(p, s, null, new EventImpl("z"), null)));
+    }
+
+    @Test
+    public void monitorsFollowTheMeaningOfThePatterns() {
+        final Random random = new Random(42);
+        final List<TimeBound> bounds = List.of(new UpperTimeBound(s, 3, null), new LowerTimeBound(s, 2, null),
+            new Interval(s, 1, 4, null), new UpperTimeBound(s, 0, null));
+        for (int i = 0; i < 3000; i++) {
+            final List<String> events = new ArrayList<>();
+            final List<Long> times = new ArrayList<>();
+            long time = random.nextInt(3);
+            for (int j = 1 + random.nextInt(12); j > 0; j--) {
+                events.add(ALPHABET.get(random.nextInt(ALPHABET.size())));
+                times.add(time);
+                time += random.nextInt(3);
+            }
+            final TimeBound bound = bounds.get(random.nextInt(bounds.size()));
+            final long lower = bound instanceof LowerTimeBound ? 2 : bound instanceof Interval ? 1 : 0;
+            final long upper = bound instanceof LowerTimeBound ? Long.MAX_VALUE
+                : bound instanceof Interval ? 4 : ((UpperTimeBound) bound).getUpperLimit();
+            final int duration = random.nextInt(4);
+
+            check(new Response(p, s, bound, null, null), response(events, times, lower, upper), events, times);
+            check(new Precedence(p, s, bound, null), precedence(events, times, lower, upper), events, times);
+            check(new Universality(p, bound, null), universality(events, times, lower, upper), events, times);
+            check(new Existence(p, bound, null), existence(events, times, lower, upper), events, times);
+            check(new MinimumDuration(p, duration, null, null), duration(events, times, duration, true), events,
+                times);
+            check(new MaximumDuration(p, duration, null, null), duration(events, times, duration, false), events,
+                times);
+            check(new Recurrence(p, duration, null, null), recurrence(events, times, duration), events, times);
+        }
+    }
+
+    private static void check(final Pattern pattern, final boolean expected, final List<String> events,
+        final List<Long> times) {
+        final TimedMonitor monitor = new TimedMonitorEngine().newMonitor(new Globally(), pattern);
+        for (int i = 0; i < events.size(); i++) {
+            monitor.step(new EventImpl(events.get(i)), times.get(i));
+        }
+        assertEquals(expected ? Verdict.TRUE : Verdict.FALSE, monitor.getVerdict(),
+            pattern.getSpecificationAsSEL() + " " + events + " " + times);
+    }
+
+    private static boolean within(final long elapsed, final long lower, final long upper) {
+        return elapsed >= lower && elapsed <= upper;
+    }
+
+    private static boolean response(final List<String> events, final List<Long> times, final long lower,
+        final long upper) {
+        for (int i = 0; i < events.size(); i++) {
+            boolean answered = !events.get(i).equals("p");
+            for (int j = i; j < events.size() && !answered; j++) {
+                answered = events.get(j).equals("s") && within(times.get(j) - times.get(i), lower, upper);
+            }
+            if (!answered) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private static boolean precedence(final List<String> events, final List<Long> times, final long lower,
+        final long upper) {
+        for (int i = 0; i < events.size(); i++) {
+            boolean preceded = !events.get(i).equals("p");
+            for (int j = 0; j <= i && !preceded; j++) {
+                preceded = events.get(j).equals("s") && within(times.get(i) - times.get(j), lower, upper);
+            }
+            if (!preceded) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private static boolean universality(final List<String> events, final List<Long> times, final long lower,
+        final long upper) {
+        for (int i = 0; i < events.size(); i++) {
+            if (within(times.get(i) - times.get(0), lower, upper) && !events.get(i).equals("p")) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private static boolean existence(final List<String> events, final List<Long> times, final long lower,
+        final long upper) {
+        for (int i = 0; i < events.size(); i++) {
+            if (within(times.get(i) - times.get(0), lower, upper) && events.get(i).equals("p")) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private static boolean duration(final List<String> events, final List<Long> times, final long duration,
+        final boolean minimum) {
+        for (int i = 0; i < events.size(); i++) {
+            if (!events.get(i).equals("p") || (i > 0 && events.get(i - 1).equals("p"))) {
+                continue;
+            }
+            int end = i;
+            while (end < events.size() && events.get(end).equals("p")) {
+                end++;
+            }
+            if (minimum && end < events.size() && times.get(end) - times.get(i) < duration) {
+                return false;
+            }
+            final long until = end < events.size() ? times.get(end) : times.get(times.size() - 1);
+            if (!minimum && until - times.get(i) >= duration) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private static boolean recurrence(final List<String> events, final List<Long> times, final long period) {
+        for (int i = 0; i < events.size(); i++) {
+            boolean recurs = false;
+            for (int j = i; j < events.size() && !recurs; j++) {
+                recurs = events.get(j).equals("p") && times.get(j) - times.get(i) <= period;
+            }
+            if (!recurs) {
+                return false;
+            }
+        }
+        return true;
+    }
+}
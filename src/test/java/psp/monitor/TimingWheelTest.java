@@ -0,0 +1,106 @@
+package psp.monitor;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+
+import org.junit.jupiter.api.Test;
+
+public class TimingWheelTest {
+    private final List<long[]> expired = new ArrayList<>();
+    private final TimingWheel<Long> wheel = new TimingWheel<>((owner, deadline) -> {
+        assertEquals(deadline, wheel().getTime());
+        expired.add(new long[] {owner, deadline});
+    });
+
+    private TimingWheel<Long> wheel() {
+        return wheel;
+    }
+
+    @Test
+    public void deadlinesExpireInOrderWhenTheirTimeComes() {
+        wheel.schedule(70, 1L);
+        wheel.schedule(5, 2L);
+        wheel.schedule(1L << 40, 3L);
+        final int cancelled = wheel.schedule(64, 4L);
+        wheel.schedule(64, 5L);
+        wheel.cancel(cancelled);
+        assertEquals(4, wheel.size());
+
+        wheel.advanceTo(4);
+        assertTrue(expired.isEmpty());
+        wheel.advanceTo(100);
+        assertEquals(List.of(2L, 5L, 1L), owners());
+        wheel.advanceTo(Long.MAX_VALUE);
+        assertEquals(List.of(2L, 5L, 1L, 3L), owners());
+        assertEquals(0, wheel.size());
+    }
+
+    @Test
+    public void timeOnlyMovesForward() {
+        wheel.advanceTo(10);
+        assertThrows(IllegalArgumentException.class, () -> wheel.advanceTo(9));
+        assertThrows(IllegalArgumentException.class, () -> wheel.schedule(10, 1L));
+    }
+
+    @Test
+    public void wheelAgreesWithSortedDeadlines() {
+        final Random random = new Random(7);
+        final Map<Long, Integer> pending = new HashMap<>();
+        final Map<Long, Long> deadlines = new HashMap<>();
+        long owner = 0;
+        for (int round = 0; round < 2000; round++) {
+            for (int i = random.nextInt(20); i > 0; i--) {
+                final long delay = 1 + (random.nextBoolean() ? random.nextInt(200)
+                    : random.nextLong() >>> (1 + random.nextInt(40)));
+                final long deadline = TimedMonitor.after(wheel.getTime(), delay);
+                if (deadline != Long.MAX_VALUE) {
+                    pending.put(owner, wheel.schedule(deadline, owner));
+                    deadlines.put(owner, deadline);
+                    owner++;
+                }
+            }
+            if (!pending.isEmpty() && random.nextInt(3) == 0) {
+                final Long cancelled = new ArrayList<>(pending.keySet()).get(random.nextInt(pending.size()));
+                wheel.cancel(pending.remove(cancelled));
+                deadlines.remove(cancelled);
+            }
+            final long target = TimedMonitor.after(wheel.getTime(), random.nextBoolean() ? random.nextInt(100)
+                : random.nextLong() >>> (12 + random.nextInt(40)));
+
+            expired.clear();
+            wheel.advanceTo(target);
+            final List<Long> expected = new ArrayList<>();
+            deadlines.forEach((o, deadline) -> {
+                if (deadline <= target) {
+                    expected.add(o);
+                }
+            });
+            expected.sort((a, b) -> Long.compare(deadlines.get(a), deadlines.get(b)));
+            assertEquals(expected.size(), expired.size());
+            for (int i = 0; i < expired.size(); i++) {
+                assertEquals(deadlines.get(expected.get(i)), expired.get(i)[1]);
+                assertEquals(deadlines.get(expired.get(i)[0]), expired.get(i)[1]);
+            }
+            for (final long[] expiry : expired) {
+                pending.remove(expiry[0]);
+                deadlines.remove(expiry[0]);
+            }
+            assertEquals(pending.size(), wheel.size());
+        }
+    }
+
+    private List<Long> owners() {
+        final List<Long> owners = new ArrayList<>();
+        for (final long[] expiry : expired) {
+            owners.add(expiry[0]);
+        }
+        return owners;
+    }
+}
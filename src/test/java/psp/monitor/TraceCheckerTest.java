@@ -0,0 +1,197 @@
+package psp.monitor;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.Iterator;
+import java.util.List;
+import java.util.Random;
+
+import org.junit.jupiter.api.Test;
+
+import psp.sel.EventImpl;
+import psp.sel.PatternFixtures;
+import psp.sel.Property;
+import psp.sel.patterns.Pattern;
+import psp.sel.patterns.occurrence.Absence;
+import psp.sel.patterns.occurrence.Existence;
+import psp.sel.patterns.occurrence.Universality;
+import psp.sel.patterns.order.Precedence;
+import psp.sel.patterns.order.Response;
+import psp.sel.patterns.order.ResponseInvariance;
+import psp.sel.patterns.order.Until;
+import psp.sel.scopes.AfterQ;
+import psp.sel.scopes.AfterQuntilR;
+import psp.sel.scopes.BeforeR;
+import psp.sel.scopes.BetweenQandR;
+import psp.sel.scopes.Globally;
+import psp.sel.scopes.Scope;
+
+public class TraceCheckerTest {
+    /**
+     * The events the patterns of the continuations tell apart, x standing for any other.
+     */
+    private static final List<String> CONTINUATIONS = List.of("p", "s", "q", "r", "x");
+
+    private final EventImpl p = new EventImpl("p");
+    private final EventImpl s = new EventImpl("s");
+    private final EventImpl q = new EventImpl("q");
+    private final EventImpl r = new EventImpl("r");
+    private final TraceChecker checker = new TraceChecker();
+
+    /**
+     * A long trace of other events with the given events at its start, that counts the events read.
+     */
+    private static final class Trace implements Iterator<EventImpl> {
+        private final List<EventImpl> start;
+        private int read;
+
+        Trace(final EventImpl... start) {
+            this.start = List.of(start);
+        }
+
+        @Override
+        public boolean hasNext() {
+            return read < 1000;
+        }
+
+        @Override
+        public EventImpl next() {
+            return read < start.size() ? start.get(read++) : new EventImpl("x" + read++);
+        }
+    }
+
+    @Test
+    public void absenceIsFinalAtTheFirstOccurrence() {
+        final Trace trace = new Trace(s, s, p, s);
+        final TraceCheck check = checker.check(new Globally(), new Absence(p, null, null), trace);
+        assertEquals(Verdict.FALSE, check.getVerdict());
+        assertTrue(check.isFinal());
+        assertEquals(3, check.getEventCount());
+        assertEquals(3, trace.read);
+    }
+
+    @Test
+    public void existenceIsFinalAtTheFirstOccurrence() {
+        final Trace trace = new Trace(s, p);
+        final TraceCheck check = checker.check(new Globally(), new Existence(p, null, null), trace);
+        assertEquals(Verdict.TRUE, check.getVerdict());
+        assertEquals(2, trace.read);
+    }
+
+    @Test
+    public void responsesAreReadToTheEnd() {
+        final Trace trace = new Trace(p, s, p);
+        final TraceCheck check = checker.check(new Globally(), new Response(p, s, null, null, null), trace);
+        assertEquals(Verdict.FALSE, check.getVerdict());
+        assertFalse(check.isFinal());
+        assertEquals(1000, check.getEventCount());
+
+        // unless the scope is over
+        final Trace closed = new Trace(p, s, r, p);
+        final TraceCheck before = checker.check(new BeforeR(r), new Response(p, s, null, null, null), closed);
+        assertEquals(Verdict.TRUE, before.getVerdict());
+        assertTrue(before.isFinal());
+        assertEquals(3, closed.read);
+    }
+
+    @Test
+    public void scopedOrderPatternsStopWhereTheirVerdictIsKnown() {
+        final Pattern precedence = new Precedence(p, s, null, null);
+        final Pattern response = new Response(p, s, null, null, null);
+        final Pattern until = new Until(p, s, null, null);
+        final Scope beforeR = new BeforeR(r);
+        // without an r the property holds, whatever came before
+        assertCheck(beforeR, precedence, Verdict.TRUE, 2, q, s, p, r);
+        assertCheck(beforeR, precedence, Verdict.FALSE, 4, q, p, s, r);
+        assertCheck(beforeR, until, Verdict.TRUE, 2, p, s, r);
+        assertCheck(beforeR, until, Verdict.FALSE, 2, p, r, s);
+        assertCheck(new AfterQ(q), precedence, Verdict.FALSE, 3, s, q, p, s);
+        assertCheck(new AfterQ(q), precedence, Verdict.TRUE, 2, q, s, p);
+        assertCheck(new BetweenQandR(q, r), response, Verdict.FALSE, 3, q, p, r, s);
+        assertCheck(new BetweenQandR(q, r), precedence, Verdict.FALSE, 4, q, p, s, r);
+        assertCheck(new AfterQuntilR(q, r), precedence, Verdict.FALSE, 2, q, p, s, r);
+        assertCheck(new Globally(), until, Verdict.TRUE, 3, p, p, s, q);
+        assertCheck(new Globally(), until, Verdict.FALSE, 2, p, q, s);
+
+        // a later q opens the scope again
+        final TraceCheck open = checker.check(new BetweenQandR(q, r), response, new Trace(q, p, s, r));
+        assertEquals(Verdict.TRUE, open.getVerdict());
+        assertFalse(open.isFinal());
+        assertEquals(1000, open.getEventCount());
+    }
+
+    private void assertCheck(final Scope scope, final Pattern pattern, final Verdict verdict, final int events,
+        final EventImpl... start) {
+        final Trace trace = new Trace(start);
+        final TraceCheck check = checker.check(scope, pattern, trace);
+        final String message = scope + " " + pattern + " " + List.of(start);
+        assertEquals(verdict, check.getVerdict(), message);
+        assertTrue(check.isFinal(), message);
+        assertEquals(events, check.getEventCount(), message);
+        assertEquals(events, trace.read, message);
+    }
+
+    @Test
+    public void propertiesAreReadUntilAllAreFinal() {
+        final Property absence = new Property("absence");
+        absence.setPattern(new Absence(p, null, null));
+        final Property existence = new Property("existence");
+        existence.setPattern(new Existence(s, null, null));
+
+        final Trace trace = new Trace(q, s, q, p, q);
+        final List<TraceCheck> checks = checker.check(List.of(absence, existence), trace);
+        assertEquals(Verdict.FALSE, checks.get(0).getVerdict());
+        assertEquals(4, checks.get(0).getEventCount());
+        assertEquals(Verdict.TRUE, checks.get(1).getVerdict());
+        assertEquals(2, checks.get(1).getEventCount());
+        assertEquals(4, trace.read);
+    }
+
+    @Test
+    public void finalVerdictsAreTheVerdictsOfEveryContinuation() {
+        // every verdict of these properties is reached within four more events
+        final Random random = new Random(42);
+        final MonitorCompiler compiler = new MonitorCompiler();
+        final List<Pattern> patterns = List.of(new Absence(p, null, null), new Existence(p, null, null),
+            new Universality(p, null, null), new Precedence(p, s, null, null), new Response(p, s, null, null, null),
+            new Until(p, s, null, null), new ResponseInvariance(p, s, null, null));
+        for (final Scope scope : PatternFixtures.scopes()) {
+            for (final Pattern pattern : patterns) {
+                final MonitorAutomaton automaton = compiler.compile(scope, pattern);
+                for (int i = 0; i < 50; i++) {
+                    final List<String> prefix = PatternFixtures.randomTrace(random, 6);
+                    final Monitor monitor = automaton.newMonitor();
+                    PatternFixtures.events(prefix).forEach(monitor::step);
+                    final Verdict finalVerdict = monitor.getFinalVerdict();
+
+                    final boolean[] verdicts = new boolean[2];
+                    continuations(scope, pattern, prefix, 4, verdicts);
+                    final boolean holds = verdicts[0];
+                    final boolean fails = verdicts[1];
+                    final String message = scope + " " + pattern + " " + prefix;
+                    assertTrue(finalVerdict != Verdict.TRUE || !fails, message);
+                    assertTrue(finalVerdict != Verdict.FALSE || !holds, message);
+                    assertTrue(finalVerdict != Verdict.INCONCLUSIVE || (holds && fails), message);
+                }
+            }
+        }
+    }
+
+    /**
+     * Records whether the trace holds, and fails, with any continuation up to the length, following
+     * {@link PatternSemantics}.
+     */
+    private static void continuations(final Scope scope, final Pattern pattern, final List<String> trace,
+        final int length, final boolean[] verdicts) {
+        verdicts[PatternSemantics.holds(scope, pattern, trace) ? 0 : 1] = true;
+        if (length > 0) {
+            for (final String event : CONTINUATIONS) {
+                trace.add(event);
+                continuations(scope, pattern, trace, length - 1, verdicts);
+                trace.remove(trace.size() - 1);
+            }
+        }
+    }
+}
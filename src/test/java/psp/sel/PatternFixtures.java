@@ -0,0 +1,144 @@
+package psp.sel;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+import psp.constraints.EventConstraint;
+import psp.constraints.GreaterThanEqualProbability;
+import psp.constraints.Interval;
+import psp.constraints.LowerTimeBound;
+import psp.constraints.TimeBound;
+import psp.constraints.UpperTimeBound;
+import psp.sel.patterns.Pattern;
+import psp.sel.patterns.occurrence.Absence;
+import psp.sel.patterns.occurrence.BoundedExistence;
+import psp.sel.patterns.occurrence.Existence;
+import psp.sel.patterns.occurrence.MaximumDuration;
+import psp.sel.patterns.occurrence.MinimumDuration;
+import psp.sel.patterns.occurrence.Recurrence;
+import psp.sel.patterns.occurrence.SteadyState;
+import psp.sel.patterns.occurrence.TransientState;
+import psp.sel.patterns.occurrence.Universality;
+import psp.sel.patterns.order.ChainEvent;
+import psp.sel.patterns.order.ChainEvents;
+import psp.sel.patterns.order.Precedence;
+import psp.sel.patterns.order.PrecedenceChain1N;
+import psp.sel.patterns.order.PrecedenceChainN1;
+import psp.sel.patterns.order.Response;
+import psp.sel.patterns.order.ResponseChain1N;
+import psp.sel.patterns.order.ResponseChainN1;
+import psp.sel.patterns.order.ResponseInvariance;
+import psp.sel.patterns.order.Until;
+import psp.sel.scopes.AfterQ;
+import psp.sel.scopes.AfterQuntilR;
+import psp.sel.scopes.BeforeR;
+import psp.sel.scopes.BetweenQandR;
+import psp.sel.scopes.Globally;
+import psp.sel.scopes.Scope;
+
+/**
+ * The scopes and patterns the mapping and monitor tests iterate over, all built from the events p, s, q, r, the
+ * constraint z and the chain events t0, t1, ... with their constraints c0, c1, .... A suffix is appended to every
+ * name and specification, so that the same shapes can be built with different events.
+ */
+public final class PatternFixtures {
+    /**
+     * The events of random traces: those the untimed patterns name and x, which none does.
+     */
+    public static final List<String> ALPHABET = List.of("p", "s", "q", "r", "z", "t0", "t1", "c0", "c1", "x");
+
+    private PatternFixtures() {
+    }
+
+    public static EventImpl event(final String name, final String suffix) {
+        return new EventImpl(name + suffix, name + " spec" + suffix);
+    }
+
+    public static List<Scope> scopes() {
+        return scopes("");
+    }
+
+    public static List<Scope> scopes(final String suffix) {
+        final EventImpl q = event("q", suffix);
+        final EventImpl r = event("r", suffix);
+        return List.of(new Globally(), new BeforeR(r), new AfterQ(q), new BetweenQandR(q, r), new AfterQuntilR(q, r));
+    }
+
+    /**
+     * @return every pattern, with time bounds, probabilities and constraints if constrained
+     * @param lowerBounds whether constrained patterns are bounded from below only, with an infinite upper limit
+     */
+    public static List<Pattern> patterns(final String suffix, final boolean constrained, final boolean lowerBounds) {
+        final EventImpl p = event("p", suffix);
+        final EventImpl s = event("s", suffix);
+        final EventImpl z = constrained ? event("z", suffix) : null;
+        final GreaterThanEqualProbability pb = constrained ? new GreaterThanEqualProbability(0.9) : null;
+        final TimeBound pTb = !constrained ? null
+            : lowerBounds ? new LowerTimeBound(p, 2, "s") : new Interval(p, 2, 7, "s");
+        final TimeBound sTb = !constrained ? null
+            : lowerBounds ? new LowerTimeBound(s, 3, "s") : new Interval(s, 3, 11, "s");
+        final EventConstraint ec = constrained ? new EventConstraint(z) : null;
+        return List.of(new Universality(p, pTb, pb), new Absence(p, pTb, pb), new Existence(p, pTb, pb),
+            new BoundedExistence(p, 3, pTb, pb), new TransientState(p, 4, "s", pb), new SteadyState(p, pb),
+            new MinimumDuration(p, 4, "s", pb), new MaximumDuration(p, 4, "s", pb), new Recurrence(p, 4, "s", pb),
+            new Precedence(p, s, sTb, pb), new Until(p, s, sTb, pb), new Response(p, s, sTb, z, pb),
+            new ResponseInvariance(p, s, sTb, pb),
+            new PrecedenceChain1N(p, s, chain(suffix, 3, constrained, constrained), sTb, ec, pb),
+            new PrecedenceChainN1(p, s, chain(suffix, 3, constrained, constrained), sTb, ec, pb),
+            new ResponseChain1N(p, s, chain(suffix, 3, constrained, constrained), sTb, ec, pb),
+            new ResponseChainN1(p, s, chain(suffix, 3, constrained, constrained), sTb, ec, pb));
+    }
+
+    /**
+     * @return the patterns without time bounds nor probabilities that monitors support, with the chain t0, t1 and
+     *         with event constraints if constrained
+     */
+    public static List<Pattern> untimedPatterns(final boolean constrained) {
+        final EventImpl p = event("p", "");
+        final EventImpl s = event("s", "");
+        final EventImpl z = constrained ? event("z", "") : null;
+        final EventConstraint ec = constrained ? new EventConstraint(z) : null;
+        return List.of(new Universality(p, null, null), new Absence(p, null, null), new Existence(p, null, null),
+            new Recurrence(p, 4, "s", null), new Precedence(p, s, null, null),
+            new Until(p, s, null, null), new Response(p, s, null, z, null), new ResponseInvariance(p, s, null, null),
+            new PrecedenceChain1N(p, s, chain("", 2, constrained, false), null, ec, null),
+            new PrecedenceChainN1(p, s, chain("", 2, constrained, false), null, ec, null),
+            new ResponseChain1N(p, s, chain("", 2, constrained, false), null, ec, null),
+            new ResponseChainN1(p, s, chain("", 2, constrained, false), null, ec, null));
+    }
+
+    /**
+     * @param constrained whether each ti is constrained by ci
+     * @param bounded whether each ti is bounded by i + 5 seconds
+     */
+    public static ChainEvents chain(final String suffix, final int length, final boolean constrained,
+        final boolean bounded) {
+        final ArrayList<ChainEvent> chain = new ArrayList<>();
+        for (int i = 0; i < length; i++) {
+            final EventImpl t = event("t" + i, suffix);
+            chain.add(new ChainEvent(t, constrained ? new EventImpl("c" + i + suffix) : null,
+                bounded ? new UpperTimeBound(t, i + 5, "s") : null));
+        }
+        return new ChainEvents(chain);
+    }
+
+    /**
+     * @return up to the maximum length events drawn from the {@link #ALPHABET}
+     */
+    public static List<String> randomTrace(final Random random, final int maximumLength) {
+        final List<String> trace = new ArrayList<>();
+        for (int i = random.nextInt(maximumLength + 1); i > 0; i--) {
+            trace.add(ALPHABET.get(random.nextInt(ALPHABET.size())));
+        }
+        return trace;
+    }
+
+    public static List<EventImpl> events(final List<String> names) {
+        final List<EventImpl> events = new ArrayList<>();
+        for (final String name : names) {
+            events.add(new EventImpl(name));
+        }
+        return events;
+    }
+}